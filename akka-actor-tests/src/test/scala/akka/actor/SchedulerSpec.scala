@@ -25,6 +25,12 @@ object SchedulerSpec {
     akka.scheduler.ticks-per-wheel = 32
     akka.actor.serialize-messages = off
   """).withFallback(AkkaSpec.testConf)
+
+  val testConfHierarchical = ConfigFactory.parseString("""
+    akka.scheduler.implementation = akka.actor.HierarchicalTimingWheelScheduler
+    akka.scheduler.ticks-per-wheel = 32
+    akka.actor.serialize-messages = off
+  """).withFallback(AkkaSpec.testConf)
 }
 
 trait SchedulerSpec extends BeforeAndAfterEach with DefaultTimeout with ImplicitSender { this: AkkaSpec ⇒
@@ -304,13 +310,25 @@ trait SchedulerSpec extends BeforeAndAfterEach with DefaultTimeout with Implicit
   }
 }
 
-class LightArrayRevolverSchedulerSpec extends AkkaSpec(SchedulerSpec.testConfRevolver) with SchedulerSpec {
+/**
+ * Tests for the tick based scheduler implementations, which are run against
+ * a scheduler with a simulated clock driven by the test.
+ */
+abstract class TickSchedulerSpec(config: Config) extends AkkaSpec(config) with SchedulerSpec {
 
   def collectCancellable(c: Cancellable): Cancellable = c
 
-  def tickDuration = system.scheduler.asInstanceOf[LightArrayRevolverScheduler].TickDuration
+  def implementationName: String
+
+  def tickDuration: FiniteDuration
 
-  "A LightArrayRevolverScheduler" must {
+  /**
+   * Create an instance of the scheduler under test which delegates its
+   * `clock`, `waitNanos`, `startTick` and `getShutdownTimeout` to `hooks`.
+   */
+  def newScheduler(config: Config, hooks: Hooks): Scheduler with Closeable
+
+  s"A $implementationName" must {
 
     "reject tasks scheduled too far into the future" taggedAs TimingTest in {
       val maxDelay = tickDuration * Int.MaxValue
@@ -542,34 +560,34 @@ class LightArrayRevolverSchedulerSpec extends AkkaSpec(SchedulerSpec.testConfRev
     def reportFailure(t: Throwable) { t.printStackTrace() }
   }
 
-  def withScheduler(start: Long = 0L, _startTick: Int = 0, config: Config = ConfigFactory.empty)(thunk: (Scheduler with Closeable, Driver) ⇒ Unit): Unit = {
-    import akka.actor.{ LightArrayRevolverScheduler ⇒ LARS }
-    val lbq = new AtomicReference[LinkedBlockingQueue[Long]](new LinkedBlockingQueue[Long])
-    val prb = TestProbe()
-    val tf = system.asInstanceOf[ActorSystemImpl].threadFactory
-    val sched =
-      new { @volatile var time = start } with LARS(config.withFallback(system.settings.config), log, tf) {
-        override protected def clock(): Long = {
-          // println(s"clock=$time")
-          time
-        }
+  class Hooks(start: Long, val startTick: Int, lbq: AtomicReference[LinkedBlockingQueue[Long]], prb: TestProbe) {
+    @volatile var time = start
 
-        override protected def getShutdownTimeout: FiniteDuration = (10 seconds).dilated
-
-        override protected def waitNanos(ns: Long): Unit = {
-          // println(s"waiting $ns")
-          prb.ref ! ns
-          try time += (lbq.get match {
-            case q: LinkedBlockingQueue[Long] ⇒ q.take()
-            case _                            ⇒ 0L
-          })
-          catch {
-            case _: InterruptedException ⇒ Thread.currentThread.interrupt()
-          }
-        }
+    def clock(): Long = {
+      // println(s"clock=$time")
+      time
+    }
 
-        override protected def startTick: Int = _startTick
+    def getShutdownTimeout: FiniteDuration = (10 seconds).dilated
+
+    def waitNanos(ns: Long): Unit = {
+      // println(s"waiting $ns")
+      prb.ref ! ns
+      try time += (lbq.get match {
+        case q: LinkedBlockingQueue[Long] ⇒ q.take()
+        case _                            ⇒ 0L
+      })
+      catch {
+        case _: InterruptedException ⇒ Thread.currentThread.interrupt()
       }
+    }
+  }
+
+  def withScheduler(start: Long = 0L, _startTick: Int = 0, config: Config = ConfigFactory.empty)(thunk: (Scheduler with Closeable, Driver) ⇒ Unit): Unit = {
+    val lbq = new AtomicReference[LinkedBlockingQueue[Long]](new LinkedBlockingQueue[Long])
+    val prb = TestProbe()
+    val schedulerConfig = config.withFallback(system.settings.config)
+    val sched = newScheduler(schedulerConfig, new Hooks(start, _startTick, lbq, prb))
     val driver = new Driver {
       def wakeUp(d: FiniteDuration) = lbq.get match {
         case q: LinkedBlockingQueue[Long] ⇒ q.offer(d.toNanos)
@@ -577,7 +595,7 @@ class LightArrayRevolverSchedulerSpec extends AkkaSpec(SchedulerSpec.testConfRev
       }
       def expectWait(): FiniteDuration = probe.expectMsgType[Long].nanos
       def probe = prb
-      def step = sched.TickDuration
+      val step = schedulerConfig.getDuration("akka.scheduler.tick-duration", TimeUnit.NANOSECONDS).nanos
       def close() = lbq.getAndSet(null) match {
         case q: LinkedBlockingQueue[Long] ⇒ q.offer(0L)
         case _                            ⇒
@@ -598,3 +616,96 @@ class LightArrayRevolverSchedulerSpec extends AkkaSpec(SchedulerSpec.testConfRev
   }
 
 }
+
+class LightArrayRevolverSchedulerSpec extends TickSchedulerSpec(SchedulerSpec.testConfRevolver) {
+
+  def implementationName = "LightArrayRevolverScheduler"
+
+  def tickDuration = system.scheduler.asInstanceOf[LightArrayRevolverScheduler].TickDuration
+
+  def newScheduler(config: Config, hooks: Hooks): Scheduler with Closeable = {
+    val tf = system.asInstanceOf[ActorSystemImpl].threadFactory
+    new { val h = hooks } with LightArrayRevolverScheduler(config, log, tf) {
+      override protected def clock(): Long = h.clock()
+      override protected def getShutdownTimeout: FiniteDuration = h.getShutdownTimeout
+      override protected def waitNanos(ns: Long): Unit = h.waitNanos(ns)
+      override protected def startTick: Int = h.startTick
+    }
+  }
+}
+
+class HierarchicalTimingWheelSchedulerSpec extends TickSchedulerSpec(SchedulerSpec.testConfHierarchical) {
+
+  def implementationName = "HierarchicalTimingWheelScheduler"
+
+  def tickDuration = system.scheduler.asInstanceOf[HierarchicalTimingWheelScheduler].TickDuration
+
+  def newScheduler(config: Config, hooks: Hooks): Scheduler with Closeable = {
+    val tf = system.asInstanceOf[ActorSystemImpl].threadFactory
+    new { val h = hooks } with HierarchicalTimingWheelScheduler(config, log, tf) {
+      override protected def clock(): Long = h.clock()
+      override protected def getShutdownTimeout: FiniteDuration = h.getShutdownTimeout
+      override protected def waitNanos(ns: Long): Unit = h.waitNanos(ns)
+      override protected def startTick: Int = h.startTick
+    }
+  }
+
+  "A HierarchicalTimingWheelScheduler" must {
+
+    "execute jobs spanning several wheels at their tick" taggedAs TimingTest in {
+      withScheduler(config = ConfigFactory.parseString("akka.scheduler.ticks-per-wheel=4")) { (sched, driver) ⇒
+        implicit def ec = localEC
+        import driver._
+        // with 4 ticks per wheel these are placed into the first three wheels
+        val delays = List(1, 3, 6, 17, 23, 42)
+        delays foreach (i ⇒ sched.scheduleOnce(step * i - step / 2, testActor, i))
+        wakeUp(step)
+        expectWait(step)
+        (2 to 44) foreach { t ⇒
+          wakeUp(step)
+          // jobs are picked up from the queue one tick after being scheduled
+          if (delays.contains(t - 1)) expectMsg(t - 1)
+          expectWait(step)
+        }
+        expectNoMsg(Duration.Zero)
+      }
+    }
+
+    "execute jobs with the same deadline in the order they were scheduled" taggedAs TimingTest in {
+      withScheduler(config = ConfigFactory.parseString("akka.scheduler.ticks-per-wheel=4")) { (sched, driver) ⇒
+        implicit def ec = localEC
+        import driver._
+        // 17 ticks are in the third wheel, so the jobs are moved down twice
+        val cancellables = (1 to 20) map (i ⇒ sched.scheduleOnce(step * 17 - step / 2, testActor, i))
+        wakeUp(step)
+        expectWait(step)
+        // unlinking the first, a middle and the last job from their bucket must keep it intact
+        List(1, 10, 20) foreach (i ⇒ cancellables(i - 1).cancel() should ===(true))
+        (21 to 25) foreach (i ⇒ sched.scheduleOnce(step * 16 - step / 2, testActor, i))
+        (1 to 18) foreach { _ ⇒
+          wakeUp(step)
+          expectWait(step)
+        }
+        ((2 to 25) filterNot (_ == 10) filterNot (_ == 20)) foreach (i ⇒ expectMsg(i))
+        expectNoMsg(Duration.Zero)
+      }
+    }
+
+    "release cancelled jobs before they are due" taggedAs TimingTest in {
+      withScheduler() { (sched, driver) ⇒
+        implicit def ec = localEC
+        import driver._
+        val refs = (1 to 100) map { i ⇒
+          val c = sched.scheduleOnce(step * 10000 * i, testActor, i)
+          wakeUp(step)
+          expectWait(step)
+          c.cancel() should ===(true)
+          new java.lang.ref.WeakReference(c)
+        }
+        wakeUp(step)
+        expectWait(step)
+        awaitCond({ System.gc(); refs.forall(_.get eq null) }, 3.seconds)
+      }
+    }
+  }
+}
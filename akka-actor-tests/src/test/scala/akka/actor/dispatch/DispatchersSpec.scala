@@ -24,6 +24,9 @@ object DispatchersSpec {
       thread-pool-dispatcher {
         executor = thread-pool-executor
       }
+      affinity-dispatcher {
+        executor = affinity-pool-executor
+      }
       my-pinned-dispatcher {
         executor = thread-pool-executor
         type = PinnedDispatcher
@@ -178,6 +181,24 @@ class DispatchersSpec extends AkkaSpec(DispatchersSpec.config) with ImplicitSend
       }
     }
 
+    "include system name and dispatcher id in thread names for affinity-pool-executor" in {
+      system.actorOf(Props[ThreadNameEcho].withDispatcher("myapp.affinity-dispatcher")) ! "what's the name?"
+      val Expected = "(DispatchersSpec-myapp.affinity-dispatcher-[1-9][0-9]*)".r
+      expectMsgPF() {
+        case Expected(x) ⇒
+      }
+    }
+
+    "run an actor on the same thread with affinity-pool-executor" in {
+      val echo = system.actorOf(Props[ThreadNameEcho].withDispatcher("myapp.affinity-dispatcher"))
+      echo ! "what's the name?"
+      val name = expectMsgType[String]
+      for (_ ← 1 to 20) {
+        echo ! "what's the name?"
+        expectMsg(name)
+      }
+    }
+
     "include system name and dispatcher id in thread names for default-dispatcher" in {
       system.actorOf(Props[ThreadNameEcho]) ! "what's the name?"
       val Expected = "(DispatchersSpec-akka.actor.default-dispatcher-[1-9][0-9]*)".r
@@ -0,0 +1,174 @@
+/**
+ * Copyright (C) 2016-2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+package akka.dispatch.affinity
+
+import java.util.concurrent.{ CountDownLatch, RejectedExecutionException, TimeUnit }
+import java.util.concurrent.atomic.AtomicInteger
+
+import akka.dispatch.MonitorableThreadFactory
+import com.typesafe.config.ConfigFactory
+import org.scalatest.{ Matchers, WordSpec }
+
+import scala.collection.immutable
+
+class AffinityPoolSpec extends WordSpec with Matchers {
+
+  private val threadFactory = MonitorableThreadFactory("AffinityPoolSpec", daemonic = true, contextClassLoader = None)
+
+  private def selector(threshold: Int): QueueSelector =
+    new FairDistributionHashCache(ConfigFactory.parseString(s"fair-work-distribution.threshold = $threshold")).create()
+
+  private def pool(parallelism: Int, taskQueueSize: Int = -1, threshold: Int = 128): AffinityPool =
+    new AffinityPool("test", parallelism, taskQueueSize, threadFactory, idleCpuLevel = 1, selector(threshold),
+      new ThrowOnOverflowRejectionHandler).start()
+
+  private def shutdown(p: AffinityPool): Unit = {
+    p.shutdown()
+    p.awaitTermination(3, TimeUnit.SECONDS) should ===(true)
+  }
+
+  final class ThreadRecorder(latch: CountDownLatch) extends Runnable {
+    @volatile var threads = Set.empty[Thread]
+    override def run(): Unit = {
+      threads += Thread.currentThread
+      latch.countDown()
+    }
+  }
+
+  "FairDistributionHashCache" must {
+
+    "assign the first runnables to the queues in a round robin fashion" in {
+      val s = selector(threshold = 128)
+      val runnables = Vector.fill(8)(new Runnable { def run(): Unit = () })
+      runnables.map(s.getQueue(_, 4)) should ===(Vector(0, 1, 2, 3, 0, 1, 2, 3))
+    }
+
+    "always select the same queue for the same runnable" in {
+      val s = selector(threshold = 4)
+      // the last ones are distributed by hash code
+      val runnables = Vector.fill(16)(new Runnable { def run(): Unit = () })
+      val first = runnables.map(s.getQueue(_, 4))
+      runnables.map(s.getQueue(_, 4)) should ===(first)
+      first.foreach { q ⇒
+        q should be >= 0
+        q should be < 4
+      }
+    }
+
+    "reject invalid thresholds" in {
+      intercept[IllegalArgumentException] {
+        selector(threshold = 2049)
+      }
+    }
+  }
+
+  "An AffinityPool" must {
+
+    "run a task on the same thread every time" in {
+      val p = pool(parallelism = 4)
+      try {
+        val latch = new CountDownLatch(100)
+        val task = new ThreadRecorder(latch)
+        for (_ ← 1 to 100) p.execute(task)
+        latch.await(3, TimeUnit.SECONDS) should ===(true)
+        task.threads.size should ===(1)
+      } finally shutdown(p)
+    }
+
+    "run tasks on different threads" in {
+      val p = pool(parallelism = 4)
+      try {
+        val latch = new CountDownLatch(4)
+        val tasks = immutable.IndexedSeq.fill(4)(new ThreadRecorder(latch))
+        tasks.foreach(p.execute)
+        latch.await(3, TimeUnit.SECONDS) should ===(true)
+        tasks.flatMap(_.threads).toSet.size should ===(4)
+      } finally shutdown(p)
+    }
+
+    "accept any number of tasks when the task queue is unbounded" in {
+      val p = pool(parallelism = 1)
+      val blocker = new CountDownLatch(1)
+      try {
+        p.execute(new Runnable { def run(): Unit = blocker.await() })
+        val latch = new CountDownLatch(10000)
+        for (_ ← 1 to 10000) p.execute(new Runnable { def run(): Unit = latch.countDown() })
+        blocker.countDown()
+        latch.await(3, TimeUnit.SECONDS) should ===(true)
+      } finally {
+        blocker.countDown()
+        shutdown(p)
+      }
+    }
+
+    "reject tasks when the bounded task queue is full" in {
+      val p = pool(parallelism = 1, taskQueueSize = 2)
+      val blocker = new CountDownLatch(1)
+      val started = new CountDownLatch(1)
+      try {
+        p.execute(new Runnable {
+          def run(): Unit = {
+            started.countDown()
+            blocker.await()
+          }
+        })
+        started.await(3, TimeUnit.SECONDS) should ===(true)
+        p.execute(new Runnable { def run(): Unit = () })
+        p.execute(new Runnable { def run(): Unit = () })
+        intercept[RejectedExecutionException] {
+          p.execute(new Runnable { def run(): Unit = () })
+        }
+      } finally {
+        blocker.countDown()
+        shutdown(p)
+      }
+    }
+
+    "run the queued tasks when shut down and reject new tasks" in {
+      val p = pool(parallelism = 2)
+      val blocker = new CountDownLatch(1)
+      val counter = new AtomicInteger
+      p.execute(new Runnable { def run(): Unit = blocker.await() })
+      for (_ ← 1 to 10) p.execute(new Runnable { def run(): Unit = counter.incrementAndGet() })
+
+      p.shutdown()
+      p.isShutdown should ===(true)
+      intercept[RejectedExecutionException] {
+        p.execute(new Runnable { def run(): Unit = () })
+      }
+
+      blocker.countDown()
+      p.awaitTermination(3, TimeUnit.SECONDS) should ===(true)
+      p.isTerminated should ===(true)
+      counter.get should ===(10)
+    }
+
+    "return the queued tasks when shut down immediately" in {
+      val p = pool(parallelism = 1)
+      val blocker = new CountDownLatch(1)
+      val started = new CountDownLatch(1)
+      p.execute(new Runnable {
+        def run(): Unit = {
+          started.countDown()
+          try blocker.await() catch { case _: InterruptedException ⇒ }
+        }
+      })
+      started.await(3, TimeUnit.SECONDS) should ===(true)
+      for (_ ← 1 to 5) p.execute(new Runnable { def run(): Unit = () })
+
+      p.shutdownNow().size should ===(5)
+      p.awaitTermination(3, TimeUnit.SECONDS) should ===(true)
+    }
+
+    "replace a worker that was stopped by an exception" in {
+      val p = pool(parallelism = 1)
+      try {
+        p.execute(new Runnable { def run(): Unit = throw new RuntimeException("Simulated failure") })
+        val latch = new CountDownLatch(1)
+        p.execute(new Runnable { def run(): Unit = latch.countDown() })
+        latch.await(3, TimeUnit.SECONDS) should ===(true)
+      } finally shutdown(p)
+    }
+  }
+}
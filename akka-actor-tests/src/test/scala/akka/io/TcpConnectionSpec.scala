@@ -275,6 +275,74 @@ class TcpConnectionSpec extends AkkaSpec("""
       }
     }
 
+    "write a CompoundWrite of heap and direct data larger than the direct buffer in order" in
+      new EstablishedConnectionTest() {
+        run {
+          val bufferSize = Tcp(system).Settings.DirectBufferSize
+          val heapData = ByteString(Array.tabulate[Byte](bufferSize * 2 + 17)(_.toByte))
+          val direct = ByteBuffer.allocateDirect(1000)
+          for (i ← 0 until 1000) direct.put((i % 7).toByte)
+          direct.flip()
+          val directData = ByteString.fromByteBufferUnsafe(direct)
+          val smallData = ByteString("small") ++ ByteString("parts")
+          val writer = TestProbe()
+          writer.send(connectionActor,
+            Write(heapData, Ack(1)) +: Write(directData) +: Write(smallData, Ack(3)) +: Write(directData, Ack(4)))
+
+          val expected = heapData ++ directData ++ smallData ++ directData
+          val buffer = ByteBuffer.allocate(expected.length)
+          pullFromServerSide(remaining = expected.length, into = buffer)
+          buffer.flip()
+          ByteString(buffer) should ===(expected)
+          writer.expectMsg(Ack(1))
+          writer.expectMsg(Ack(3))
+          writer.expectMsg(Ack(4))
+        }
+      }
+
+    "lend pooled buffers to a handler registered with pooledReads and take them back" in
+      new EstablishedConnectionTest(pooledReads = true) {
+        run {
+          serverSideChannel.write(ByteBuffer.wrap("testdata".getBytes("ASCII")))
+          selector.send(connectionActor, ChannelReadable)
+          val buffer = connectionHandler.expectMsgType[ReceivedBuffer].buffer
+          buffer.isDirect should ===(true)
+          ByteString(buffer).utf8String should ===("testdata")
+
+          // the returned buffer is read into again
+          connectionHandler.send(connectionActor, ReturnBuffer(buffer))
+          serverSideChannel.write(ByteBuffer.wrap("more".getBytes("ASCII")))
+          selector.send(connectionActor, ChannelReadable)
+          val next = connectionHandler.expectMsgType[ReceivedBuffer].buffer
+          next should be theSameInstanceAs buffer
+          ByteString(next).utf8String should ===("more")
+        }
+      }
+
+    "stop reading while the maximum number of buffers is lent out" in
+      new EstablishedConnectionTest(pooledReads = true) {
+        run {
+          val lent = (1 to Tcp(system).Settings.MaxLentReadBuffers).map { i ⇒
+            serverSideChannel.write(ByteBuffer.wrap(s"data$i".getBytes("ASCII")))
+            selector.send(connectionActor, ChannelReadable)
+            interestCallReceiver.expectMsg(OP_READ)
+            connectionHandler.expectMsgType[ReceivedBuffer].buffer
+          }
+
+          // no more buffers to lend, so OP_READ is not enabled again
+          serverSideChannel.write(ByteBuffer.wrap("more".getBytes("ASCII")))
+          selector.send(connectionActor, ChannelReadable)
+          connectionHandler.expectNoMsg(100.millis)
+          interestCallReceiver.expectNoMsg(100.millis)
+
+          // returning a buffer resumes reading
+          connectionHandler.send(connectionActor, ReturnBuffer(lent.head))
+          interestCallReceiver.expectMsg(OP_READ)
+          selector.send(connectionActor, ChannelReadable)
+          ByteString(connectionHandler.expectMsgType[ReceivedBuffer].buffer).utf8String should ===("more")
+        }
+      }
+
     /*
      * Disabled on Windows: http://support.microsoft.com/kb/214397
      *
@@ -945,7 +1013,8 @@ class TcpConnectionSpec extends AkkaSpec("""
   abstract class EstablishedConnectionTest(
     keepOpenOnPeerClosed: Boolean = false,
     useResumeWriting:     Boolean = true,
-    pullMode:             Boolean = false)
+    pullMode:             Boolean = false,
+    pooledReads:          Boolean = false)
     extends UnacceptedConnectionTest(pullMode) {
 
     // lazy init since potential exceptions should not be triggered in the constructor but during execution of `run`
@@ -978,7 +1047,7 @@ class TcpConnectionSpec extends AkkaSpec("""
         selector.send(connectionActor, ChannelConnectable)
         userHandler.expectMsg(Connected(serverAddress, clientSideChannel.socket.getLocalSocketAddress.asInstanceOf[InetSocketAddress]))
 
-        userHandler.send(connectionActor, Register(connectionHandler.ref, keepOpenOnPeerClosed, useResumeWriting))
+        userHandler.send(connectionActor, Register(connectionHandler.ref, keepOpenOnPeerClosed, useResumeWriting, pooledReads))
         ignoreWindowsWorkaroundForTicket15766()
         if (!pullMode) interestCallReceiver.expectMsg(OP_READ)
 
@@ -10,7 +10,7 @@ import java.lang.Float.floatToRawIntBits
 import java.nio.{ ByteBuffer, ByteOrder }
 import java.nio.ByteOrder.{ BIG_ENDIAN, LITTLE_ENDIAN }
 
-import akka.util.ByteString.{ ByteString1, ByteString1C, ByteStrings }
+import akka.util.ByteString.{ ByteString1, ByteString1C, ByteStrings, DirectByteString }
 import org.apache.commons.codec.binary.Hex.encodeHex
 import org.scalacheck.Arbitrary.arbitrary
 import org.scalacheck.{ Arbitrary, Gen }
@@ -28,7 +28,16 @@ class ByteStringSpec extends WordSpec with Matchers with Checkers {
     b ← Gen.containerOfN[Array, Byte](n, arbitrary[Byte])
     from ← Gen.choose(0, b.length)
     until ← Gen.choose(from, b.length)
-  } yield ByteString(b).slice(from, until)
+    direct ← arbitrary[Boolean]
+  } yield (if (direct) directByteString(b) else ByteString(b)).slice(from, until)
+
+  def directByteString(bytes: Array[Byte]): ByteString = {
+    val buffer = ByteBuffer.allocateDirect(bytes.length)
+    buffer.put(bytes).flip()
+    ByteString.fromByteBufferUnsafe(buffer)
+  }
+
+  def directByteString(s: String): ByteString = directByteString(s.getBytes("UTF-8"))
 
   implicit val arbitraryByteString: Arbitrary[ByteString] = Arbitrary {
     Gen.sized { s ⇒
@@ -383,6 +392,68 @@ class ByteStringSpec extends WordSpec with Matchers with Checkers {
       ByteString1.fromString("abcdefg").drop(2).take(1) should ===(ByteString("c"))
     }
   }
+  "DirectByteString" must {
+    "drop" in {
+      directByteString("").drop(1) should ===(ByteString(""))
+      directByteString("a").drop(-1) should ===(ByteString("a"))
+      directByteString("a").drop(1) should ===(ByteString(""))
+      directByteString("abc").drop(0) should ===(ByteString("abc"))
+      directByteString("abc").drop(1) should ===(ByteString("bc"))
+      directByteString("abc").drop(3) should ===(ByteString(""))
+      directByteString("abc").drop(4) should ===(ByteString(""))
+      directByteString("0123456789").drop(5).take(4).drop(1).take(2) should ===(ByteString("67"))
+    }
+    "dropRight" in {
+      directByteString("a").dropRight(-1) should ===(ByteString("a"))
+      directByteString("a").dropRight(1) should ===(ByteString(""))
+      directByteString("abc").dropRight(1) should ===(ByteString("ab"))
+      directByteString("abc").dropRight(4) should ===(ByteString(""))
+      directByteString("0123456789").dropRight(5).take(4).drop(1).take(2) should ===(ByteString("12"))
+    }
+    "slice" in {
+      directByteString("abcdef").slice(-1, 10) should ===(ByteString("abcdef"))
+      directByteString("abcdef").slice(1, 4) should ===(ByteString("bcd"))
+      directByteString("abcdef").slice(4, 1) should ===(ByteString(""))
+      directByteString("abcdef").slice(2, 3).slice(0, 1) should ===(ByteString("c"))
+    }
+    "share the wrapped buffer when slicing and iterating" in {
+      val buffer = ByteBuffer.allocateDirect(6)
+      buffer.put("abcdef".getBytes("UTF-8")).flip()
+      val bs = ByteString.fromByteBufferUnsafe(buffer)
+      bs shouldBe a[DirectByteString]
+      val slice = bs.drop(1).take(4)
+      slice shouldBe a[DirectByteString]
+      slice.asByteBuffer.isDirect should ===(true)
+      slice.iterator.drop(1).toByteString shouldBe a[DirectByteString]
+      // only for the sake of the test, mutating a wrapped buffer is not allowed
+      buffer.put(2, 'C'.toByte)
+      slice.utf8String should ===("bCde")
+    }
+    "copy the bytes when compacting or concatenating" in {
+      val bs = directByteString("abc")
+      bs.isCompact should ===(false)
+      bs.compact shouldBe a[ByteString1C]
+      bs.compact should ===(ByteString("abc"))
+      (bs ++ ByteString("def")) should ===(ByteString("abcdef"))
+      (ByteString("def") ++ bs) should ===(ByteString("defabc"))
+      (ByteString("de") ++ ByteString("f") ++ bs) should ===(ByteString("defabc"))
+      (bs ++ bs).iterator.toByteString should ===(ByteString("abcabc"))
+    }
+    "wrap the array of heap buffers" in {
+      val array = "abcdef".getBytes("UTF-8")
+      val buffer = ByteBuffer.wrap(array, 1, 4)
+      val bs = ByteString.fromByteBufferUnsafe(buffer)
+      bs shouldBe a[ByteString1]
+      bs should ===(ByteString("bcde"))
+      buffer.position() should ===(1)
+    }
+    "deserialize as a heap ByteString" in {
+      val bs = directByteString("teststring").drop(4)
+      val deserialized = deserialize(serialize(bs))
+      deserialized should ===(ByteString("string"))
+      deserialized shouldBe a[ByteString1C]
+    }
+  }
   "ByteStrings" must {
     "drop" in {
       ByteStrings(ByteString1.fromString(""), ByteString1.fromString("")).drop(Int.MinValue) should ===(ByteString(""))
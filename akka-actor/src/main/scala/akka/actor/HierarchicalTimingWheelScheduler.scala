@@ -0,0 +1,447 @@
+/**
+ * Copyright (C) 2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+
+package akka.actor
+
+import java.io.Closeable
+import java.util.concurrent.ThreadFactory
+import java.util.concurrent.atomic.{ AtomicLong, AtomicReference }
+import scala.annotation.tailrec
+import scala.collection.immutable
+import scala.concurrent.{ Await, ExecutionContext, Future, Promise }
+import scala.concurrent.duration._
+import scala.util.control.NonFatal
+import com.typesafe.config.Config
+import akka.event.LoggingAdapter
+import akka.util.Helpers
+import akka.util.Unsafe.{ instance ⇒ unsafe }
+import akka.dispatch.AbstractNodeQueue
+
+/**
+ * This scheduler implementation is based on a hierarchy of timing wheels, as
+ * described by Varghese and Lauck. The lowest wheel has `ticks-per-wheel`
+ * buckets of one tick each, every wheel above it has as many buckets, each
+ * spanning one full revolution of the wheel below. A task is put into the
+ * lowest wheel whose range covers its deadline and is moved down one or more
+ * wheels when the wheel below starts the revolution containing its deadline.
+ * This way a task is touched at most once per wheel, no matter how far into
+ * the future it is scheduled, whereas the [[LightArrayRevolverScheduler]]
+ * revisits it once per revolution.
+ *
+ * The buckets are doubly linked lists of TaskHolders which are only accessed
+ * by the timer thread. Tasks are appended to their bucket, so that tasks
+ * scheduled with the same delay run in the order they were scheduled. Cancelling a task immediately releases the task and
+ * hands its TaskHolder to the timer thread, which unlinks it from its bucket
+ * in constant time before the next tick, so that cancelled tasks are not
+ * retained until their bucket is reached.
+ *
+ * Like the LightArrayRevolverScheduler this scheduler rounds up the delay of
+ * tasks to a full multiple of the TickDuration.
+ */
+class HierarchicalTimingWheelScheduler(
+  config:        Config,
+  log:           LoggingAdapter,
+  threadFactory: ThreadFactory)
+  extends Scheduler with Closeable {
+
+  import Helpers.Requiring
+  import Helpers.ConfigOps
+
+  val WheelSize =
+    config.getInt("akka.scheduler.ticks-per-wheel")
+      .requiring(ticks ⇒ (ticks & (ticks - 1)) == 0, "ticks-per-wheel must be a power of 2")
+      .requiring(_ > 1, "ticks-per-wheel must be at least 2 for the HierarchicalTimingWheelScheduler")
+  val TickDuration =
+    config.getMillisDuration("akka.scheduler.tick-duration")
+      .requiring(_ >= 10.millis || !Helpers.isWindows, "minimum supported akka.scheduler.tick-duration on Windows is 10ms")
+      .requiring(_ >= 1.millis, "minimum supported akka.scheduler.tick-duration is 1ms")
+  val ShutdownTimeout = config.getMillisDuration("akka.scheduler.shutdown-timeout")
+
+  private val wheelBits = Integer.numberOfTrailingZeros(WheelSize)
+
+  /**
+   * Number of wheels, enough to hold any task up to the maximum delay
+   * of `Int.MaxValue` ticks.
+   */
+  val Levels: Int = (32 + wheelBits - 1) / wheelBits
+
+  import HierarchicalTimingWheelScheduler._
+
+  private def roundUp(d: FiniteDuration): FiniteDuration = {
+    val dn = d.toNanos
+    val r = ((dn - 1) / tickNanos + 1) * tickNanos
+    if (r != dn && r > 0 && dn > 0) r.nanos else d
+  }
+
+  /**
+   * Clock implementation is replaceable (for testing); the implementation must
+   * return a monotonically increasing series of Long nanoseconds.
+   */
+  protected def clock(): Long = System.nanoTime
+
+  /**
+   * Replaceable for testing.
+   */
+  protected def startTick: Int = 0
+
+  /**
+   * Overridable for tests
+   */
+  protected def getShutdownTimeout: FiniteDuration = ShutdownTimeout
+
+  /**
+   * Overridable for tests
+   */
+  protected def waitNanos(nanos: Long): Unit = {
+    // see http://www.javamex.com/tutorials/threads/sleep_issues.shtml
+    val sleepMs = if (Helpers.isWindows) (nanos + 4999999) / 10000000 * 10 else (nanos + 999999) / 1000000
+    try Thread.sleep(sleepMs) catch {
+      case _: InterruptedException ⇒ Thread.currentThread.interrupt() // we got woken up
+    }
+  }
+
+  override def schedule(
+    initialDelay: FiniteDuration,
+    delay:        FiniteDuration,
+    runnable:     Runnable)(implicit executor: ExecutionContext): Cancellable = {
+    checkMaxDelay(roundUp(delay).toNanos)
+    val preparedEC = executor.prepare()
+    try new AtomicReference[Cancellable](InitialRepeatMarker) with Cancellable { self ⇒
+      compareAndSet(InitialRepeatMarker, schedule(
+        preparedEC,
+        new AtomicLong(clock() + initialDelay.toNanos) with Runnable {
+          override def run(): Unit = {
+            try {
+              runnable.run()
+              val driftNanos = clock() - getAndAdd(delay.toNanos)
+              if (self.get != null)
+                swap(schedule(preparedEC, this, Duration.fromNanos(Math.max(delay.toNanos - driftNanos, 1))))
+            } catch {
+              case _: SchedulerException ⇒ // ignore failure to enqueue or terminated target actor
+            }
+          }
+        }, roundUp(initialDelay)))
+
+      @tailrec private def swap(c: Cancellable): Unit = {
+        get match {
+          case null ⇒ if (c != null) c.cancel()
+          case old  ⇒ if (!compareAndSet(old, c)) swap(c)
+        }
+      }
+
+      @tailrec final def cancel(): Boolean = {
+        get match {
+          case null ⇒ false
+          case c ⇒
+            if (c.cancel()) compareAndSet(c, null)
+            else compareAndSet(c, null) || cancel()
+        }
+      }
+
+      override def isCancelled: Boolean = get == null
+    } catch {
+      case SchedulerException(msg) ⇒ throw new IllegalStateException(msg)
+    }
+  }
+
+  override def scheduleOnce(delay: FiniteDuration, runnable: Runnable)(implicit executor: ExecutionContext): Cancellable =
+    try schedule(executor.prepare(), runnable, roundUp(delay))
+    catch {
+      case SchedulerException(msg) ⇒ throw new IllegalStateException(msg)
+    }
+
+  override def close(): Unit = Await.result(stop(), getShutdownTimeout) foreach {
+    task ⇒
+      try task.run() catch {
+        case e: InterruptedException ⇒ throw e
+        case _: SchedulerException   ⇒ // ignore terminated actors
+        case NonFatal(e)             ⇒ log.error(e, "exception while executing timer task")
+      }
+  }
+
+  override val maxFrequency: Double = 1.second / TickDuration
+
+  /*
+   * BELOW IS THE ACTUAL TIMER IMPLEMENTATION
+   */
+
+  private val start = clock()
+  private val tickNanos = TickDuration.toNanos
+  private val wheelMask = WheelSize - 1
+  private val queue = new TaskQueue
+  private val cancelled = new TaskQueue
+
+  private def schedule(ec: ExecutionContext, r: Runnable, delay: FiniteDuration): TimerTask =
+    if (delay <= Duration.Zero) {
+      if (stopped.get != null) throw new SchedulerException("cannot enqueue after timer shutdown")
+      ec.execute(r)
+      NotCancellable
+    } else if (stopped.get != null) {
+      throw new SchedulerException("cannot enqueue after timer shutdown")
+    } else {
+      val delayNanos = delay.toNanos
+      checkMaxDelay(delayNanos)
+
+      val ticks = delayNanos / tickNanos
+      val task = new TaskHolder(r, ticks, ec, cancelled)
+      queue.add(task)
+      if (stopped.get != null && task.cancel())
+        throw new SchedulerException("cannot enqueue after timer shutdown")
+      task
+    }
+
+  private def checkMaxDelay(delayNanos: Long): Unit =
+    if (delayNanos / tickNanos > Int.MaxValue)
+      // 1 second margin in the error message due to rounding
+      throw new IllegalArgumentException(s"Task scheduled with [${delayNanos.nanos.toSeconds}] seconds delay, " +
+        s"which is too far in future, maximum delay is [${(tickNanos * Int.MaxValue).nanos.toSeconds - 1}] seconds")
+
+  private val stopped = new AtomicReference[Promise[immutable.Seq[TimerTask]]]
+  private def stop(): Future[immutable.Seq[TimerTask]] = {
+    val p = Promise[immutable.Seq[TimerTask]]()
+    if (stopped.compareAndSet(null, p)) {
+      // Interrupting the timer thread to make it shut down faster is not good since
+      // it could be in the middle of executing the scheduled tasks, which might not
+      // respond well to being interrupted.
+      // Instead we just wait one more tick for it to finish.
+      p.future
+    } else Future.successful(Nil)
+  }
+
+  @volatile private var timerThread: Thread = threadFactory.newThread(new Runnable {
+
+    var tick: Long = startTick
+    // the buckets of all wheels, the wheel for level n starts at n * WheelSize
+    val buckets = new Array[TaskHolder](Levels * WheelSize)
+    // the last task of each bucket, tasks are appended so that those with the same deadline run in FIFO order
+    val tails = new Array[TaskHolder](Levels * WheelSize)
+
+    private def clearAll(): immutable.Seq[TimerTask] = {
+      @tailrec def collect(q: TaskQueue, acc: Vector[TimerTask]): Vector[TimerTask] = {
+        q.poll() match {
+          case null ⇒ acc
+          case x    ⇒ collect(q, acc :+ x)
+        }
+      }
+      @tailrec def collectBucket(task: TaskHolder, acc: Vector[TimerTask]): Vector[TimerTask] =
+        if (task eq null) acc else collectBucket(task.nextInBucket, acc :+ task)
+      while (cancelled.poll() ne null) ()
+      ((0 until buckets.length) flatMap (i ⇒ collectBucket(buckets(i), Vector.empty))) ++ collect(queue, Vector.empty)
+    }
+
+    private def insert(task: TaskHolder): Unit = {
+      val delta = task.deadline - tick
+      val level =
+        if (delta < WheelSize) 0
+        else math.min((63 - java.lang.Long.numberOfLeadingZeros(delta)) / wheelBits, Levels - 1)
+      val slot = level * WheelSize + ((task.deadline >>> (level * wheelBits)) & wheelMask).toInt
+      val tail = tails(slot)
+      task.slot = slot
+      task.prevInBucket = tail
+      task.nextInBucket = null
+      if (tail eq null) buckets(slot) = task else tail.nextInBucket = task
+      tails(slot) = task
+    }
+
+    private def unlink(task: TaskHolder): Unit = {
+      val prev = task.prevInBucket
+      val next = task.nextInBucket
+      if (prev eq null) buckets(task.slot) = next else prev.nextInBucket = next
+      if (next eq null) tails(task.slot) = prev else next.prevInBucket = prev
+      task.slot = -1
+      task.prevInBucket = null
+      task.nextInBucket = null
+    }
+
+    /*
+     * Detaches the whole bucket and applies `f` to each task in it. `f` may
+     * insert the task again, possibly into the very same bucket.
+     */
+    private def drainBucket(slot: Int)(f: TaskHolder ⇒ Unit): Unit = {
+      var task = buckets(slot)
+      buckets(slot) = null
+      tails(slot) = null
+      while (task ne null) {
+        val next = task.nextInBucket
+        task.slot = -1
+        task.prevInBucket = null
+        task.nextInBucket = null
+        f(task)
+        task = next
+      }
+    }
+
+    @tailrec
+    private def removeCancelled(): Unit = cancelled.poll() match {
+      case null ⇒ ()
+      case task ⇒
+        if (task.slot >= 0) unlink(task)
+        removeCancelled()
+    }
+
+    @tailrec
+    private def checkQueue(time: Long): Unit = queue.poll() match {
+      case null ⇒ ()
+      case task ⇒
+        if (!task.isCancelled) {
+          if (task.deadline == 0) task.executeTask()
+          else {
+            val futureTick = (
+              time - start + // calculate the nanos since timer start
+              (task.deadline * tickNanos) + // adding the desired delay
+              tickNanos - 1 // rounding up
+            ) / tickNanos // and converting to slot number
+            task.deadline = math.max(futureTick, tick)
+            insert(task)
+          }
+        }
+        checkQueue(time)
+    }
+
+    /*
+     * Moves the tasks of all higher wheels which start their next revolution
+     * with this tick down into the lower wheels, highest wheel first so that
+     * tasks can move down more than one wheel.
+     */
+    private def cascade(): Unit =
+      if ((tick & wheelMask) == 0) {
+        var level = Levels - 1
+        while (level > 0) {
+          val shift = level * wheelBits
+          if ((tick & ((1L << shift) - 1)) == 0)
+            drainBucket(level * WheelSize + ((tick >>> shift) & wheelMask).toInt) { task ⇒
+              if (!task.isCancelled) insert(task)
+            }
+          level -= 1
+        }
+      }
+
+    override final def run =
+      try nextTick()
+      catch {
+        case t: Throwable ⇒
+          log.error(t, "exception on timing wheel timer thread")
+          stopped.get match {
+            case null ⇒
+              val thread = threadFactory.newThread(this)
+              log.info("starting new timing wheel timer thread")
+              try thread.start()
+              catch {
+                case e: Throwable ⇒
+                  log.error(e, "timing wheel scheduler cannot start new thread, ship’s going down!")
+                  stopped.set(Promise successful Nil)
+                  clearAll()
+              }
+              timerThread = thread
+            case p ⇒
+              assert(stopped.compareAndSet(p, Promise successful Nil), "Stop signal violated in timing wheel scheduler")
+              p success clearAll()
+          }
+          throw t
+      }
+
+    @tailrec final def nextTick(): Unit = {
+      val time = clock()
+      val sleepTime = start + (tick * tickNanos) - time
+
+      if (sleepTime > 0) {
+        // check the queues before taking a nap
+        removeCancelled()
+        checkQueue(time)
+        waitNanos(sleepTime)
+      } else {
+        cascade()
+        drainBucket((tick & wheelMask).toInt) { task ⇒
+          if (task.deadline <= tick) task.executeTask()
+          else if (!task.isCancelled) insert(task)
+        }
+        tick += 1
+      }
+      stopped.get match {
+        case null ⇒ nextTick()
+        case p ⇒
+          assert(stopped.compareAndSet(p, Promise successful Nil), "Stop signal violated in timing wheel scheduler")
+          p success clearAll()
+      }
+    }
+  })
+
+  timerThread.start()
+}
+
+object HierarchicalTimingWheelScheduler {
+  private[this] val taskOffset = unsafe.objectFieldOffset(classOf[TaskHolder].getDeclaredField("task"))
+
+  private class TaskQueue extends AbstractNodeQueue[TaskHolder]
+
+  /**
+   * INTERNAL API
+   */
+  protected[actor] trait TimerTask extends Runnable with Cancellable
+
+  /**
+   * INTERNAL API
+   *
+   * The `deadline` holds the delay in ticks until the timer thread picks the
+   * task up and converts it into the absolute tick at which it is due. The
+   * remaining fields are only accessed by the timer thread.
+   */
+  protected[actor] class TaskHolder(
+    @volatile var task: Runnable,
+    var deadline:       Long,
+    executionContext:   ExecutionContext,
+    cancelled:          AbstractNodeQueue[TaskHolder])
+    extends TimerTask {
+
+    private[akka] var slot: Int = -1
+    private[akka] var prevInBucket: TaskHolder = null
+    private[akka] var nextInBucket: TaskHolder = null
+
+    @tailrec
+    private final def extractTask(replaceWith: Runnable): Runnable =
+      task match {
+        case t @ (ExecutedTask | CancelledTask) ⇒ t
+        case x                                  ⇒ if (unsafe.compareAndSwapObject(this, taskOffset, x, replaceWith)) x else extractTask(replaceWith)
+      }
+
+    private[akka] final def executeTask(): Boolean = extractTask(ExecutedTask) match {
+      case ExecutedTask | CancelledTask ⇒ false
+      case other ⇒
+        try {
+          executionContext execute other
+          true
+        } catch {
+          case _: InterruptedException ⇒ { Thread.currentThread.interrupt(); false }
+          case NonFatal(e)             ⇒ { executionContext.reportFailure(e); false }
+        }
+    }
+
+    // This should only be called in execDirectly
+    override def run(): Unit = extractTask(ExecutedTask).run()
+
+    override def cancel(): Boolean = extractTask(CancelledTask) match {
+      case ExecutedTask | CancelledTask ⇒ false
+      case _ ⇒
+        // let the timer thread unlink this holder from its bucket
+        cancelled.add(this)
+        true
+    }
+
+    override def isCancelled: Boolean = task eq CancelledTask
+  }
+
+  private[this] val CancelledTask = new Runnable { def run = () }
+  private[this] val ExecutedTask = new Runnable { def run = () }
+
+  private val NotCancellable: TimerTask = new TimerTask {
+    def cancel(): Boolean = false
+    def isCancelled: Boolean = false
+    def run(): Unit = ()
+  }
+
+  private val InitialRepeatMarker: Cancellable = new Cancellable {
+    def cancel(): Boolean = false
+    def isCancelled: Boolean = false
+  }
+}
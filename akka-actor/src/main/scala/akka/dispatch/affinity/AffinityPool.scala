@@ -0,0 +1,474 @@
+/**
+ * Copyright (C) 2016-2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+
+package akka.dispatch.affinity
+
+import java.lang.Integer.reverseBytes
+import java.util.Collections
+import java.util.concurrent._
+import java.util.concurrent.TimeUnit.MICROSECONDS
+import java.util.concurrent.atomic.AtomicReference
+import java.util.concurrent.locks.{ LockSupport, ReentrantLock }
+
+import akka.annotation.{ ApiMayChange, InternalApi }
+import akka.dispatch._
+import akka.event.Logging
+import akka.util.Helpers.Requiring
+import com.typesafe.config.Config
+
+import scala.annotation.{ switch, tailrec }
+import scala.collection.immutable
+
+/**
+ * INTERNAL API
+ */
+@InternalApi
+private[affinity] object AffinityPool {
+  type PoolState = Int
+  // PoolState: waiting to be initialized
+  final val Uninitialized = 0
+  // PoolState: currently in the process of initializing
+  final val Initializing = 1
+  // PoolState: accepts new tasks and processes tasks that are enqueued
+  final val Running = 2
+  // PoolState: does not accept new tasks, processes tasks that are in the queue
+  final val ShuttingDown = 3
+  // PoolState: does not accept new tasks, does not process tasks in queue
+  final val ShutDown = 4
+  // PoolState: all threads have been stopped, does not process tasks and does not accept new ones
+  final val Terminated = 5
+
+  type IdleState = Int
+  // IdleState: Initial state
+  final val Initial = 0
+  // IdleState: Spinning
+  final val Spinning = 1
+  // IdleState: Yielding
+  final val Yielding = 2
+  // IdleState: Parking
+  final val Parking = 3
+
+  /**
+   * Idle strategy of a worker, escalating from spinning to yielding to parking the longer
+   * the worker has been without work. The thresholds are derived from the `idle-cpu-level`.
+   */
+  final class IdleStrategy(idleCpuLevel: Int) {
+
+    private[this] val maxSpins = 1100 * idleCpuLevel - 1000
+    private[this] val maxYields = 5 * idleCpuLevel
+    private[this] val minParkPeriodNs = 1L
+    private[this] val maxParkPeriodNs = MICROSECONDS.toNanos(250 - ((80 * (idleCpuLevel - 1)) / 3))
+
+    private[this] var state: IdleState = Initial
+    private[this] var turns = 0L
+    private[this] var parkPeriodNs = 0L
+    // the worker polls its queue at least once after this has been set and before it is parked,
+    // so a producer that doesn't see it set doesn't have to wake up the worker
+    @volatile private[this] var parking = false
+
+    def isParking: Boolean = parking
+
+    def idle(): Unit = {
+      (state: @switch) match {
+        case Initial ⇒
+          state = Spinning
+          turns = 0
+        case Spinning ⇒
+          turns += 1
+          if (turns > maxSpins) {
+            state = Yielding
+            turns = 0
+          }
+        case Yielding ⇒
+          turns += 1
+          if (turns > maxYields) {
+            state = Parking
+            parkPeriodNs = minParkPeriodNs
+            parking = true
+          } else Thread.`yield`()
+        case Parking ⇒
+          // an interrupt has no meaning for the worker, and would make it spin in parkNanos
+          Thread.interrupted()
+          LockSupport.parkNanos(parkPeriodNs)
+          parkPeriodNs = Math.min(parkPeriodNs << 1, maxParkPeriodNs)
+      }
+    }
+
+    def reset(): Unit = {
+      if (state == Parking) parking = false
+      state = Initial
+      turns = 0
+    }
+  }
+
+  /**
+   * The task queue of one worker, bounded if the `task-queue-size` is greater than 0.
+   */
+  sealed trait AffinityTaskQueue {
+    def index: Int
+    /** Returns false if the task was not enqueued, because a bounded queue is full. */
+    def enqueue(r: Runnable): Boolean
+    def dequeue(): Runnable
+  }
+
+  final class BoundedAffinityTaskQueue(val index: Int, capacity: Int)
+    extends AbstractBoundedNodeQueue[Runnable](capacity) with AffinityTaskQueue {
+    override def enqueue(r: Runnable): Boolean = add(r)
+    override def dequeue(): Runnable = poll()
+  }
+
+  final class UnboundedAffinityTaskQueue(val index: Int) extends AbstractNodeQueue[Runnable] with AffinityTaskQueue {
+    override def enqueue(r: Runnable): Boolean = {
+      add(r)
+      true
+    }
+    override def dequeue(): Runnable = poll()
+  }
+}
+
+/**
+ * INTERNAL API
+ *
+ * An [[ExecutorService]] with a fixed number of threads, where each thread has its own task queue.
+ * The [[QueueSelector]] decides in which queue a task is enqueued. For the default selector
+ * that means that an actor's [[Mailbox]] is always run on the same thread, which avoids the
+ * cache misses that work stealing causes when actors are moved between cores.
+ */
+@InternalApi
+@ApiMayChange
+private[akka] class AffinityPool(
+  id:                String,
+  parallelism:       Int,
+  affinityGroupSize: Int,
+  threadFactory:     ThreadFactory,
+  idleCpuLevel:      Int,
+  queueSelector:     QueueSelector,
+  rejectionHandler:  RejectionHandler)
+  extends AbstractExecutorService {
+
+  if (parallelism <= 0)
+    throw new IllegalArgumentException("Size of pool cannot be less or equal to 0")
+
+  import AffinityPool._
+
+  // Held while starting/shutting down workers/pool in order to make
+  // the operations linear and enforce atomicity
+  private[this] val bookKeepingLock = new ReentrantLock()
+
+  // condition used for awaiting termination
+  private[this] val terminationCondition = bookKeepingLock.newCondition()
+
+  @volatile private[this] var poolState: PoolState = Uninitialized
+
+  // an actor's mailbox is in its queue at most once, so an unbounded queue only grows with the number of actors
+  private[this] val workQueues: Array[AffinityTaskQueue] = Array.tabulate(parallelism) { i ⇒
+    if (affinityGroupSize > 0) new BoundedAffinityTaskQueue(i, affinityGroupSize)
+    else new UnboundedAffinityTaskQueue(i)
+  }
+  // only modified while holding the bookKeepingLock, a stale worker in execute only delays the wake up
+  private[this] val workers = new Array[AffinityPoolWorker](parallelism)
+  private[this] var stoppedWorkers = 0
+
+  private def locked[T](body: ⇒ T): T = {
+    bookKeepingLock.lock()
+    try body finally bookKeepingLock.unlock()
+  }
+
+  def start(): this.type = locked {
+    if (poolState == Uninitialized) {
+      poolState = Initializing
+      workQueues.foreach(addWorker)
+      poolState = Running
+    }
+    this
+  }
+
+  // WARNING: Only call while holding the bookKeepingLock
+  private def addWorker(q: AffinityTaskQueue): Unit = {
+    val worker = new AffinityPoolWorker(q, new IdleStrategy(idleCpuLevel))
+    workers(q.index) = worker
+    worker.start()
+  }
+
+  /**
+   * Each worker goes through this method when it terminates. If the worker was terminated by
+   * an exception from a task while the pool is still in use it is replaced by a new worker
+   * for the same queue, otherwise the pool is terminated when the last worker has stopped.
+   */
+  private def onWorkerExit(w: AffinityPoolWorker, abruptTermination: Boolean): Unit = locked {
+    if (abruptTermination && poolState < ShutDown)
+      addWorker(w.q)
+    else {
+      stoppedWorkers += 1
+      if (stoppedWorkers == parallelism) {
+        poolState = Terminated
+        terminationCondition.signalAll()
+      }
+    }
+  }
+
+  override def execute(command: Runnable): Unit = {
+    if (command eq null) throw new NullPointerException("Runnable was null")
+    val queue = workQueues(queueSelector.getQueue(command, parallelism))
+    if (poolState >= ShuttingDown || !queue.enqueue(command))
+      rejectionHandler.reject(command, this)
+    else {
+      val worker = workers(queue.index)
+      if ((worker ne null) && worker.idleStrategy.isParking) worker.wakeUp()
+    }
+  }
+
+  override def awaitTermination(timeout: Long, unit: TimeUnit): Boolean = {
+    // recurse until pool is terminated or time out reached
+    @tailrec
+    def awaitTermination(nanos: Long): Boolean = {
+      if (poolState == Terminated) true
+      else if (nanos <= 0) false
+      else awaitTermination(terminationCondition.awaitNanos(nanos))
+    }
+
+    // need to hold the lock to avoid monitor exception
+    locked(awaitTermination(unit.toNanos(timeout)))
+  }
+
+  override def shutdownNow(): java.util.List[Runnable] = locked {
+    if (poolState < ShutDown) poolState = ShutDown
+    workers.foreach(w ⇒ if (w ne null) w.interrupt())
+    val pending = new java.util.ArrayList[Runnable]
+    workQueues.foreach { q ⇒
+      var r = q.dequeue()
+      while (r ne null) {
+        pending.add(r)
+        r = q.dequeue()
+      }
+    }
+    Collections.unmodifiableList(pending)
+  }
+
+  override def shutdown(): Unit = locked {
+    if (poolState < ShuttingDown) poolState = ShuttingDown
+    // the workers stop when they have processed the tasks in their queues
+    workers.foreach(w ⇒ if (w ne null) w.wakeUp())
+  }
+
+  override def isShutdown: Boolean = poolState >= ShuttingDown
+
+  override def isTerminated: Boolean = poolState == Terminated
+
+  override def toString: String =
+    s"${Logging.simpleName(this)}(id = $id, parallelism = $parallelism, affinityGroupSize = $affinityGroupSize, " +
+      s"idleCpuLevel = $idleCpuLevel, queueSelector = $queueSelector, rejectionHandler = $rejectionHandler)"
+
+  private[this] final class AffinityPoolWorker(val q: AffinityTaskQueue, val idleStrategy: IdleStrategy)
+    extends Runnable {
+
+    private[this] val thread: Thread = threadFactory.newThread(this)
+
+    def start(): Unit = thread.start()
+
+    def interrupt(): Unit = thread.interrupt()
+
+    def wakeUp(): Unit = LockSupport.unpark(thread)
+
+    override def run(): Unit = {
+      // Returns true if it executed something, false otherwise
+      def executeNext(): Boolean = {
+        val c = q.dequeue()
+        if (c ne null) {
+          c.run()
+          idleStrategy.reset()
+          true
+        } else {
+          idleStrategy.idle()
+          false
+        }
+      }
+
+      // Keep running while the pool is Running, or ShuttingDown and there are tasks left in the queue
+      @tailrec def runLoop(): Unit =
+        (poolState: @switch) match {
+          case Uninitialized | Initializing | Running ⇒
+            executeNext()
+            runLoop()
+          case ShuttingDown ⇒
+            if (executeNext()) runLoop()
+          case _ ⇒ // ShutDown or Terminated
+        }
+
+      var abruptTermination = true
+      try {
+        runLoop()
+        abruptTermination = false // if we have reached here, our termination is not due to an exception
+      } finally {
+        onWorkerExit(this, abruptTermination)
+      }
+    }
+  }
+}
+
+/**
+ * INTERNAL API
+ */
+@InternalApi
+@ApiMayChange
+private[akka] final class AffinityPoolConfigurator(config: Config, prerequisites: DispatcherPrerequisites)
+  extends ExecutorServiceConfigurator(config, prerequisites) {
+
+  private val poolSize = ThreadPoolConfig.scaledPoolSize(
+    config.getInt("parallelism-min"),
+    config.getDouble("parallelism-factor"),
+    config.getInt("parallelism-max"))
+  private val taskQueueSize = config.getInt("task-queue-size")
+
+  private val idleCpuLevel = config.getInt("idle-cpu-level")
+    .requiring(level ⇒ 1 <= level && level <= 10, "idle-cpu-level must be between 1 and 10")
+
+  private val queueSelectorFactoryFQCN = config.getString("queue-selector")
+  private val queueSelectorFactory: QueueSelectorFactory =
+    prerequisites.dynamicAccess.createInstanceFor[QueueSelectorFactory](queueSelectorFactoryFQCN, immutable.Seq(classOf[Config] → config))
+      .recover({
+        case exception ⇒ throw new IllegalArgumentException(
+          s"Cannot instantiate QueueSelectorFactory(queueSelector = $queueSelectorFactoryFQCN), make sure it has an accessible constructor which accepts a Config parameter", exception)
+      }).get
+
+  private val rejectionHandlerFactoryFCQN = config.getString("rejection-handler")
+  private val rejectionHandlerFactory = prerequisites.dynamicAccess
+    .createInstanceFor[RejectionHandlerFactory](rejectionHandlerFactoryFCQN, Nil).recover({
+      case exception ⇒ throw new IllegalArgumentException(
+        s"Cannot instantiate RejectionHandlerFactory(rejection-handler = $rejectionHandlerFactoryFCQN), make sure it has an accessible empty constructor", exception)
+    }).get
+
+  override def createExecutorServiceFactory(id: String, threadFactory: ThreadFactory): ExecutorServiceFactory = {
+    val tf = threadFactory match {
+      case m: MonitorableThreadFactory ⇒
+        // add the dispatcher id to the thread names
+        m.withName(m.name + "-" + id)
+      case other ⇒ other
+    }
+
+    new ExecutorServiceFactory {
+      override def createExecutorService: ExecutorService =
+        new AffinityPool(id, poolSize, taskQueueSize, tf, idleCpuLevel, queueSelectorFactory.create(),
+          rejectionHandlerFactory.create()).start()
+    }
+  }
+}
+
+/**
+ * Creates the [[RejectionHandler]] of an [[AffinityPool]]. The class configured with
+ * `rejection-handler` must have a public constructor without parameters.
+ */
+@ApiMayChange
+trait RejectionHandlerFactory {
+  def create(): RejectionHandler
+}
+
+/**
+ * Invoked by the [[AffinityPool]] when a task can't be executed, because the bounded task queue
+ * it was assigned to is full or because the pool has been shut down.
+ */
+@ApiMayChange
+trait RejectionHandler {
+  def reject(command: Runnable, service: ExecutorService): Unit
+}
+
+/**
+ * The default [[RejectionHandlerFactory]], the created handler throws a
+ * `RejectedExecutionException`.
+ */
+@ApiMayChange
+final class ThrowOnOverflowRejectionHandler extends RejectionHandlerFactory with RejectionHandler {
+  override def reject(command: Runnable, service: ExecutorService): Unit =
+    throw new RejectedExecutionException(s"Task $command rejected from $service")
+  override def create(): RejectionHandler = this
+}
+
+/**
+ * Creates the [[QueueSelector]] of an [[AffinityPool]]. The class configured with
+ * `queue-selector` must have a public constructor with a `com.typesafe.config.Config`
+ * parameter, which is the `affinity-pool-executor` section of the dispatcher.
+ */
+@ApiMayChange
+trait QueueSelectorFactory {
+  def create(): QueueSelector
+}
+
+/**
+ * A `QueueSelector` is responsible for, given a `Runnable` and the number of available
+ * queues, return which of the queues that `Runnable` should be placed in. The same
+ * `Runnable` must always be placed in the same queue, otherwise the actor of a `Mailbox`
+ * would not be pinned to one thread.
+ */
+@ApiMayChange
+trait QueueSelector {
+  /**
+   * Must be deterministic—return the same value for the same input.
+   * @return given a `Runnable` a number between 0 .. `queues` (exclusive)
+   * @throws NullPointerException when `command` is `null`
+   */
+  def getQueue(command: Runnable, queues: Int): Int
+}
+
+/**
+ * INTERNAL API
+ */
+@InternalApi
+@ApiMayChange
+private[akka] final class FairDistributionHashCache(val config: Config) extends QueueSelectorFactory {
+  private final val MaxFairDistributionThreshold = 2048
+
+  private[this] final val fairDistributionThreshold = config.getInt("fair-work-distribution.threshold")
+    .requiring(thr ⇒ 0 <= thr && thr <= MaxFairDistributionThreshold, s"fair-work-distribution.threshold must be between 0 and $MaxFairDistributionThreshold")
+
+  override final def create(): QueueSelector = new AtomicReference[FairDistributionHashCache.Cache](FairDistributionHashCache.Cache.empty) with QueueSelector {
+    import FairDistributionHashCache.Cache
+
+    // In order to get a good distribution of the hash codes of the runnables over the queues
+    private[this] final def sbhash(i: Int) = reverseBytes(i * 0x9e3775cd) * 0x9e3775cd
+
+    private[this] final def hashQueue(hash: Int, queues: Int): Int = (sbhash(hash) & Int.MaxValue) % queues
+
+    override def toString: String = s"FairDistributionHashCache(fairDistributionThreshold = $fairDistributionThreshold)"
+
+    override final def getQueue(command: Runnable, queues: Int): Int = {
+      val runnableHash = command.hashCode()
+      if (fairDistributionThreshold == 0)
+        hashQueue(runnableHash, queues)
+      else {
+        /*
+         * The first `fairDistributionThreshold` runnables are assigned to the queues in
+         * a round robin fashion, which distributes a small number of actors evenly over the
+         * threads. When the threshold has been reached the remaining ones are distributed
+         * by hash, to keep the cache small.
+         */
+        @tailrec def cacheLookup(prev: Cache, hash: Int): Int = {
+          val existingIndex = prev.queues.getOrElse(hash, -1)
+          if (existingIndex >= 0) existingIndex
+          else if (prev.size >= fairDistributionThreshold) hashQueue(hash, queues)
+          else {
+            val index = prev.size % queues
+            if (compareAndSet(prev, Cache(prev.queues.updated(hash, index), prev.size + 1)))
+              index
+            else cacheLookup(get(), hash)
+          }
+        }
+        cacheLookup(get(), runnableHash)
+      }
+    }
+  }
+
+  override def toString: String = s"FairDistributionHashCache(fairDistributionThreshold = $fairDistributionThreshold)"
+}
+
+/**
+ * INTERNAL API
+ */
+@InternalApi
+private[akka] object FairDistributionHashCache {
+  final case class Cache(queues: immutable.IntMap[Int], size: Int)
+
+  object Cache {
+    val empty = Cache(immutable.IntMap.empty, 0)
+  }
+}
@@ -5,7 +5,7 @@
 package akka.io
 
 import java.util.{ Iterator ⇒ JIterator }
-import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.{ AtomicBoolean, AtomicInteger }
 import java.nio.channels.{ SelectableChannel, SelectionKey, CancelledKeyException }
 import java.nio.channels.SelectionKey._
 import java.nio.channels.spi.SelectorProvider
@@ -14,11 +14,11 @@ import scala.annotation.tailrec
 import scala.util.control.NonFatal
 import scala.concurrent.ExecutionContext
 import akka.event.LoggingAdapter
-import akka.dispatch.{ UnboundedMessageQueueSemantics, RequiresMessageQueue }
+import akka.dispatch.{ AbstractNodeQueue, UnboundedMessageQueueSemantics, RequiresMessageQueue }
 import akka.util.Helpers.Requiring
 import akka.util.SerializedSuspendableExecutionContext
 import akka.actor._
-import akka.routing.RandomPool
+import akka.routing.RoundRobinPool
 import akka.event.Logging
 import java.nio.channels.ClosedChannelException
 
@@ -81,7 +81,7 @@ private[io] object SelectionHandler {
     override def supervisorStrategy = connectionSupervisorStrategy
 
     val selectorPool = context.actorOf(
-      props = RandomPool(nrOfSelectors).props(Props(classOf[SelectionHandler], selectorSettings)).withDeploy(Deploy.local),
+      props = RoundRobinPool(nrOfSelectors).props(Props(classOf[SelectionHandler], selectorSettings)).withDeploy(Deploy.local),
       name = "selectors")
 
     final def workerForCommandHandler(pf: PartialFunction[HasFailureMessage, ChannelRegistry ⇒ Props]): Receive = {
@@ -107,12 +107,18 @@ private[io] object SelectionHandler {
   private class ChannelRegistryImpl(executionContext: ExecutionContext, log: LoggingAdapter) extends ChannelRegistry {
     private[this] val selector = SelectorProvider.provider.openSelector
     private[this] val wakeUp = new AtomicBoolean(false)
+    // registrations with interest changes that have not been applied to their keys yet
+    private[this] val pendingInterests = new AbstractNodeQueue[ChannelRegistrationImpl] {}
 
     final val OP_READ_AND_WRITE = OP_READ | OP_WRITE // compile-time constant
 
     private[this] val select = new Task {
       def tryRun(): Unit = {
-        if (selector.select() > 0) { // This assumes select return value == selectedKeys.size
+        applyPendingInterests()
+        val selected = selector.select()
+        // tasks and interest changes from now on need a new wakeup, the earlier ones are handled before the next select
+        wakeUp.set(false)
+        if (selected > 0) { // This assumes select return value == selectedKeys.size
           val keys = selector.selectedKeys
           val iterator = keys.iterator()
           while (iterator.hasNext) {
@@ -121,8 +127,9 @@ private[io] object SelectionHandler {
               try {
                 // Cache because the performance implications of calling this on different platforms are not clear
                 val readyOps = key.readyOps()
-                key.interestOps(key.interestOps & ~readyOps) // prevent immediate reselection by always clearing
-                val connection = key.attachment.asInstanceOf[ActorRef]
+                val registration = key.attachment.asInstanceOf[ChannelRegistrationImpl]
+                key.interestOps(registration.clearInterest(readyOps)) // prevent immediate reselection by always clearing
+                val connection = registration.channelActor
                 readyOps match {
                   case OP_READ                   ⇒ connection ! ChannelReadable
                   case OP_WRITE                  ⇒ connection ! ChannelWritable
@@ -140,7 +147,6 @@ private[io] object SelectionHandler {
           }
           keys.clear() // we need to remove the selected keys from the set, otherwise they remain selected
         }
-        wakeUp.set(false)
       }
 
       override def run(): Unit =
@@ -155,11 +161,9 @@ private[io] object SelectionHandler {
       execute {
         new Task {
           def tryRun(): Unit = try {
-            val key = channel.register(selector, initialOps, channelActor)
-            channelActor ! new ChannelRegistration {
-              def enableInterest(ops: Int): Unit = enableInterestOps(key, ops)
-              def disableInterest(ops: Int): Unit = disableInterestOps(key, ops)
-            }
+            val registration = new ChannelRegistrationImpl(channelActor, initialOps)
+            registration.key = channel.register(selector, initialOps, registration)
+            channelActor ! registration
           } catch {
             case _: ClosedChannelException ⇒
             // ignore, might happen if a connection is closed in the same moment as an interest is registered
@@ -184,32 +188,76 @@ private[io] object SelectionHandler {
 
     // always set the interest keys on the selector thread,
     // benchmarks show that not doing so results in lock contention
-    private def enableInterestOps(key: SelectionKey, ops: Int): Unit =
-      execute {
-        new Task {
-          def tryRun(): Unit = {
-            val currentOps = key.interestOps
-            val newOps = currentOps | ops
-            if (newOps != currentOps) key.interestOps(newOps)
-          }
-        }
-      }
-
-    private def disableInterestOps(key: SelectionKey, ops: Int): Unit =
-      execute {
-        new Task {
-          def tryRun(): Unit = {
-            val currentOps = key.interestOps
-            val newOps = currentOps & ~ops
-            if (newOps != currentOps) key.interestOps(newOps)
-          }
+    private def applyPendingInterests(): Unit = {
+      var registration = pendingInterests.poll()
+      while (registration ne null) {
+        try {
+          val key = registration.key
+          val newOps = registration.takeInterest()
+          if (key.isValid && newOps != key.interestOps) key.interestOps(newOps)
+        } catch {
+          case _: CancelledKeyException ⇒ // ok, the channel was closed in the meantime
         }
+        registration = pendingInterests.poll()
       }
+    }
 
     private def execute(task: Task): Unit = {
       executionContext.execute(task)
+      wakeUpSelector()
+    }
+
+    private def wakeUpSelector(): Unit =
       if (wakeUp.compareAndSet(false, true)) // if possible avoid syscall and trade off with LOCK CMPXCHG
         selector.wakeup()
+
+    /**
+     * The interest ops that the channel actor wants are kept in the AtomicInteger and only applied to the key
+     * by the selector thread, right before it selects again. All changes to the same channel in the meantime are
+     * coalesced into one update and the selector is woken up at most once for all of the channels.
+     */
+    private final class ChannelRegistrationImpl(val channelActor: ActorRef, initialOps: Int)
+      extends AtomicInteger(initialOps) with ChannelRegistration {
+
+      // only accessed by the selector thread
+      var key: SelectionKey = _
+
+      def enableInterest(ops: Int): Unit = updateInterest(ops, enable = true)
+
+      def disableInterest(ops: Int): Unit = updateInterest(ops, enable = false)
+
+      @tailrec private def updateInterest(ops: Int, enable: Boolean): Unit = {
+        val current = get
+        val newOps = if (enable) current | ops else current & ~ops
+        if (newOps != current) {
+          if (compareAndSet(current, newOps | Pending)) {
+            if ((current & Pending) == 0) {
+              pendingInterests.add(this)
+              wakeUpSelector()
+            }
+          } else updateInterest(ops, enable) // recur
+        }
+      }
+
+      /**
+       * Called by the selector thread when the ops are ready, the channel actor enables the interest
+       * again when it wants to be notified of the next readiness.
+       */
+      @tailrec def clearInterest(ops: Int): Int = {
+        val current = get
+        val newOps = current & ~ops
+        if (newOps == current || compareAndSet(current, newOps)) newOps & ~Pending
+        else clearInterest(ops) // recur
+      }
+
+      /**
+       * Called by the selector thread when applying the pending interest.
+       */
+      @tailrec def takeInterest(): Int = {
+        val current = get
+        if (compareAndSet(current, current & ~Pending)) current & ~Pending
+        else takeInterest() // recur
+      }
     }
 
     // FIXME: Add possibility to signal failure of task to someone
@@ -224,6 +272,9 @@ private[io] object SelectionHandler {
       }
     }
   }
+
+  // marks a registration with interest changes that are queued for the selector thread, not an interest op
+  private final val Pending = 1 << 31
 }
 
 private[io] class SelectionHandler(settings: SelectionHandlerSettings) extends Actor with ActorLogging
@@ -6,6 +6,7 @@ package akka.io
 
 import java.net.InetSocketAddress
 import java.net.Socket
+import java.nio.ByteBuffer
 import akka.io.Inet._
 import com.typesafe.config.Config
 import scala.concurrent.duration._
@@ -160,8 +161,15 @@ object Tcp extends ExtensionId[TcpExt] with ExtensionIdProvider {
    *                will refuse all further writes after issuing a [[CommandFailed]]
    *                notification until `ResumeWriting` is received. This can
    *                be used to implement NACK-based write backpressure.
+   *
+   * @param pooledReads If this is set to true then the connection delivers the
+   *                data it reads within [[ReceivedBuffer]] messages instead of
+   *                [[Received]], lending out the direct buffers of the buffer pool
+   *                of the TCP extension without copying them. The handler must hand
+   *                every buffer back with [[ReturnBuffer]].
    */
-  final case class Register(handler: ActorRef, keepOpenOnPeerClosed: Boolean = false, useResumeWriting: Boolean = true) extends Command
+  final case class Register(handler: ActorRef, keepOpenOnPeerClosed: Boolean = false, useResumeWriting: Boolean = true,
+                            pooledReads: Boolean = false) extends Command
 
   /**
    * In order to close down a listening socket, send this message to that socket’s
@@ -396,6 +404,15 @@ object Tcp extends ExtensionId[TcpExt] with ExtensionIdProvider {
    */
   case object ResumeReading extends Command
 
+  /**
+   * Hands a buffer that was delivered within a [[ReceivedBuffer]] back to the connection actor
+   * that sent it, which puts it back into the buffer pool. The buffer must not be used afterwards.
+   * Buffers that were not handed out by the connection are ignored. The connection keeps track of
+   * the buffers it lent out until they are returned or the connection actor stops; buffers that
+   * are still lent out at that point are not put back into the pool.
+   */
+  final case class ReturnBuffer(buffer: ByteBuffer) extends Command with DeadLetterSuppression
+
   /**
    * This message enables the accepting of the next connection if read throttling is enabled
    * for connection actors.
@@ -415,6 +432,17 @@ object Tcp extends ExtensionId[TcpExt] with ExtensionIdProvider {
    */
   final case class Received(data: ByteString) extends Event
 
+  /**
+   * Delivered instead of [[Received]] by the connections whose handler was registered
+   * with `pooledReads` enabled, see [[Register]]. The data are between position and limit
+   * of the `buffer`, which is a direct buffer of `akka.io.tcp.direct-buffer-size` that is
+   * owned by the handler until it sends it back to the connection actor with [[ReturnBuffer]].
+   * This avoids an allocation and a copy per read, e.g. when the data are only forwarded to
+   * another channel. The connection stops reading while `akka.io.tcp.max-lent-read-buffers`
+   * buffers are lent out and resumes once one of them has been returned.
+   */
+  final case class ReceivedBuffer(buffer: ByteBuffer) extends Event
+
   /**
    * The connection actor sends this message either to the sender of a [[Connect]]
    * command (for outbound) or to the handler for incoming connections designated
@@ -527,6 +555,7 @@ class TcpExt(system: ExtendedActorSystem) extends IO.Extension {
     val BatchAcceptLimit: Int = getInt("batch-accept-limit") requiring (_ > 0, "batch-accept-limit must be > 0")
     val DirectBufferSize: Int = getIntBytes("direct-buffer-size")
     val MaxDirectBufferPoolSize: Int = getInt("direct-buffer-pool-limit")
+    val MaxLentReadBuffers: Int = getInt("max-lent-read-buffers") requiring (_ > 0, "max-lent-read-buffers must be > 0")
     val RegisterTimeout: Duration = getString("register-timeout") match {
       case "infinite" ⇒ Duration.Undefined
       case x          ⇒ _config.getMillisDuration("register-timeout")
@@ -695,6 +724,14 @@ object TcpMessage {
    */
   def register(handler: ActorRef, keepOpenOnPeerClosed: Boolean, useResumeWriting: Boolean): Command =
     Register(handler, keepOpenOnPeerClosed, useResumeWriting)
+  /**
+   * The same as `register(handler, keepOpenOnPeerClosed, useResumeWriting)`, and
+   * if `pooledReads` is set to true then the connection delivers the data it reads
+   * within [[Tcp.ReceivedBuffer]] messages, which lend out pooled direct buffers
+   * that must be handed back with [[Tcp.ReturnBuffer]].
+   */
+  def register(handler: ActorRef, keepOpenOnPeerClosed: Boolean, useResumeWriting: Boolean, pooledReads: Boolean): Command =
+    Register(handler, keepOpenOnPeerClosed, useResumeWriting, pooledReads)
   /**
    * The same as `register(handler, false, false)`.
    */
@@ -796,6 +833,12 @@ object TcpMessage {
    */
   def resumeReading: Command = ResumeReading
 
+  /**
+   * Hands a buffer that was delivered within a [[Tcp.ReceivedBuffer]] back to the
+   * connection actor that sent it, see [[Tcp.ReturnBuffer]].
+   */
+  def returnBuffer(buffer: ByteBuffer): Command = ReturnBuffer(buffer)
+
   /**
    * This message enables the accepting of the next connection if pull reading is enabled
    * for connection actors.
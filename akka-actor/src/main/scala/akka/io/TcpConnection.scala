@@ -9,6 +9,7 @@ import java.nio.channels.SelectionKey._
 import java.io.{ FileInputStream, IOException }
 import java.nio.channels.{ FileChannel, SocketChannel }
 import java.nio.ByteBuffer
+import java.util.{ Collections, IdentityHashMap }
 import scala.annotation.tailrec
 import scala.collection.immutable
 import scala.util.control.NonFatal
@@ -37,6 +38,10 @@ private[io] abstract class TcpConnection(val tcp: TcpExt, val channel: SocketCha
   private[this] var writingSuspended = false
   private[this] var readingSuspended = pullMode
   private[this] var interestedInResume: Option[ActorRef] = None
+  // the pooled buffers that were handed to the handler and not returned yet, only used with pooled reads
+  private[this] var lentBuffers: java.util.Set[ByteBuffer] = _
+  // reading stopped because MaxLentReadBuffers buffers are lent out
+  private[this] var waitingForReturnedBuffer = false
   var closedMessage: CloseInformation = _ // for ConnectionClosed message in postStop
   private var watchedActor: ActorRef = context.system.deadLetters
 
@@ -55,7 +60,7 @@ private[io] abstract class TcpConnection(val tcp: TcpExt, val channel: SocketCha
 
   /** connection established, waiting for registration from user handler */
   def waitingForRegistration(registration: ChannelRegistration, commander: ActorRef): Receive = {
-    case Register(handler, keepOpenOnPeerClosed, useResumeWriting) ⇒
+    case Register(handler, keepOpenOnPeerClosed, useResumeWriting, pooledReads) ⇒
       // up to this point we've been watching the commander,
       // but since registration is now complete we only need to watch the handler from here on
       if (handler != commander) {
@@ -65,6 +70,8 @@ private[io] abstract class TcpConnection(val tcp: TcpExt, val channel: SocketCha
       if (TraceLogging) log.debug("[{}] registered as connection handler", handler)
 
       val info = ConnectionInfo(registration, handler, keepOpenOnPeerClosed, useResumeWriting)
+      if (pooledReads)
+        lentBuffers = Collections.newSetFromMap(new IdentityHashMap[ByteBuffer, java.lang.Boolean])
 
       // if we have resumed reading from pullMode while waiting for Register then register OP_READ interest
       if (pullMode && !readingSuspended) resumeReading(info)
@@ -95,12 +102,14 @@ private[io] abstract class TcpConnection(val tcp: TcpExt, val channel: SocketCha
       case SuspendReading    ⇒ suspendReading(info)
       case ResumeReading     ⇒ resumeReading(info)
       case ChannelReadable   ⇒ doRead(info, None)
+      case ReturnBuffer(buf) ⇒ returnBuffer(info, buf)
       case cmd: CloseCommand ⇒ handleClose(info, Some(sender()), cmd.event)
     }
 
   /** the peer sent EOF first, but we may still want to send */
   def peerSentEOF(info: ConnectionInfo): Receive =
     handleWriteMessages(info) orElse {
+      case ReturnBuffer(buf) ⇒ returnBuffer(info, buf)
       case cmd: CloseCommand ⇒ handleClose(info, Some(sender()), cmd.event)
     }
 
@@ -124,15 +133,18 @@ private[io] abstract class TcpConnection(val tcp: TcpExt, val channel: SocketCha
 
     case WriteFileFailed(e) ⇒ handleError(info.handler, e) // rethrow exception from dispatcher task
 
+    case ReturnBuffer(buf)  ⇒ returnBuffer(info, buf)
+
     case Abort              ⇒ handleClose(info, Some(sender()), Aborted)
   }
 
   /** connection is closed on our side and we're waiting from confirmation from the other side */
   def closing(info: ConnectionInfo, closeCommander: Option[ActorRef]): Receive = {
-    case SuspendReading  ⇒ suspendReading(info)
-    case ResumeReading   ⇒ resumeReading(info)
-    case ChannelReadable ⇒ doRead(info, closeCommander)
-    case Abort           ⇒ handleClose(info, Some(sender()), Aborted)
+    case SuspendReading    ⇒ suspendReading(info)
+    case ResumeReading     ⇒ resumeReading(info)
+    case ChannelReadable   ⇒ doRead(info, closeCommander)
+    case ReturnBuffer(buf) ⇒ returnBuffer(info, buf)
+    case Abort             ⇒ handleClose(info, Some(sender()), Aborted)
   }
 
   def handleWriteMessages(info: ConnectionInfo): Receive = {
@@ -221,9 +233,14 @@ private[io] abstract class TcpConnection(val tcp: TcpExt, val channel: SocketCha
   }
 
   def doRead(info: ConnectionInfo, closeCommander: Option[ActorRef]): Unit =
-    if (!readingSuspended) {
-      @tailrec def innerRead(buffer: ByteBuffer, remainingLimit: Int): ReadResult =
-        if (remainingLimit > 0) {
+    if (!readingSuspended && !waitingForReturnedBuffer) {
+      // with pooled reads a buffer that data were read into is lent to the handler and replaced by another one
+      var buffer: ByteBuffer = null
+
+      @tailrec def innerRead(remainingLimit: Int): ReadResult =
+        if ((lentBuffers ne null) && lentBuffers.size >= MaxLentReadBuffers) NoBufferToLend
+        else if (remainingLimit > 0) {
+          if (buffer eq null) buffer = bufferPool.acquire()
           // never read more than the configured limit
           buffer.clear()
           val maxBufferSpace = math.min(DirectBufferSize, remainingLimit)
@@ -232,10 +249,17 @@ private[io] abstract class TcpConnection(val tcp: TcpExt, val channel: SocketCha
           buffer.flip()
 
           if (TraceLogging) log.debug("Read [{}] bytes.", readBytes)
-          if (readBytes > 0) info.handler ! Received(ByteString(buffer))
+          if (readBytes > 0) {
+            if (lentBuffers eq null) info.handler ! Received(ByteString(buffer))
+            else {
+              lentBuffers.add(buffer)
+              info.handler ! ReceivedBuffer(buffer)
+              buffer = null
+            }
+          }
 
           readBytes match {
-            case `maxBufferSpace` ⇒ if (pullMode) MoreDataWaiting else innerRead(buffer, remainingLimit - maxBufferSpace)
+            case `maxBufferSpace` ⇒ if (pullMode) MoreDataWaiting else innerRead(remainingLimit - maxBufferSpace)
             case x if x >= 0      ⇒ AllRead
             case -1               ⇒ EndOfStream
             case _ ⇒
@@ -243,12 +267,15 @@ private[io] abstract class TcpConnection(val tcp: TcpExt, val channel: SocketCha
           }
         } else MoreDataWaiting
 
-      val buffer = bufferPool.acquire()
-      try innerRead(buffer, ReceivedMessageSizeLimit) match {
+      try innerRead(ReceivedMessageSizeLimit) match {
         case AllRead ⇒
           if (!pullMode) info.registration.enableInterest(OP_READ)
         case MoreDataWaiting ⇒
           if (!pullMode) self ! ChannelReadable
+        case NoBufferToLend ⇒
+          // OP_READ stays disabled until the handler returns a buffer
+          if (TraceLogging) log.debug("Suspending reading until a lent buffer is returned")
+          waitingForReturnedBuffer = true
         case EndOfStream if channel.socket.isOutputShutdown ⇒
           if (TraceLogging) log.debug("Read returned end-of-stream, our side already closed")
           doCloseConnection(info.handler, closeCommander, ConfirmedClosed)
@@ -257,9 +284,19 @@ private[io] abstract class TcpConnection(val tcp: TcpExt, val channel: SocketCha
           handleClose(info, closeCommander, PeerClosed)
       } catch {
         case e: IOException ⇒ handleError(info.handler, e)
-      } finally bufferPool.release(buffer)
+      } finally if (buffer ne null) bufferPool.release(buffer)
     }
 
+  def returnBuffer(info: ConnectionInfo, buffer: ByteBuffer): Unit =
+    if ((lentBuffers ne null) && lentBuffers.remove(buffer)) {
+      bufferPool.release(buffer)
+      if (waitingForReturnedBuffer) {
+        waitingForReturnedBuffer = false
+        // the read that was deferred, in pullMode the one requested by the last ResumeReading
+        if (!readingSuspended) info.registration.enableInterest(OP_READ)
+      }
+    } else if (TraceLogging) log.debug("Ignoring returned buffer that was not lent by this connection")
+
   def doWrite(info: ConnectionInfo): Unit = pendingWrite = pendingWrite.doWrite(info)
 
   def closeReason =
@@ -372,54 +409,128 @@ private[io] abstract class TcpConnection(val tcp: TcpExt, val channel: SocketCha
     create(write)
   }
 
-  def PendingBufferWrite(commander: ActorRef, data: ByteString, ack: Event, tail: WriteCommand): PendingBufferWrite = {
-    val buffer = bufferPool.acquire()
-    try {
-      val copied = data.copyToBuffer(buffer)
-      buffer.flip()
-      new PendingBufferWrite(commander, data.drop(copied), ack, buffer, tail)
-    } catch {
-      case NonFatal(e) ⇒
-        bufferPool.release(buffer)
-        throw e
-    }
-  }
+  def PendingBufferWrite(commander: ActorRef, data: ByteString, ack: Event, tail: WriteCommand): PendingBufferWrite =
+    new PendingBufferWrite(commander, data, ack, bufferPool.acquire(), tail)
 
+  /**
+   * Writes a `Write` and the `Write`s that directly follow it in a `CompoundWrite` with gathering writes.
+   * Each batch of segments is written with one `write(ByteBuffer[])` call: the segments of direct
+   * ByteStrings are written from their own buffers, while heap data are copied into the pooled
+   * direct buffer first (which the channel would otherwise do with temporary direct buffers of
+   * arbitrary size). The acks of the writes in a batch are sent once the whole batch was written.
+   */
   class PendingBufferWrite(
     val commander: ActorRef,
-    remainingData: ByteString,
-    ack:           Any,
+    data:          ByteString,
+    ack:           Event,
     buffer:        ByteBuffer,
     tail:          WriteCommand) extends PendingWrite {
 
+    // the write that is not (completely) in a batch yet, followed by the rest of the command
+    private[this] var remainingData = data
+    private[this] var remainingAck = ack
+    private[this] var remainingTail = tail
+    private[this] var hasRemainingWrite = true
+
+    // the current batch, the segments from batchStart until batchEnd still have bytes to write
+    private[this] val segments = new Array[ByteBuffer](MaxGatheredSegments)
+    private[this] var batchStart = 0
+    private[this] var batchEnd = 0
+    private[this] var batchAcks: List[Event] = Nil // in reverse order
+    // the last segment that was copied into the pooled buffer, consecutive heap data are appended to it
+    private[this] var stagedSegment: ByteBuffer = _
+
     def doWrite(info: ConnectionInfo): PendingWrite = {
-      @tailrec def writeToChannel(data: ByteString): PendingWrite = {
-        val writtenBytes = channel.write(buffer) // at first we try to drain the remaining bytes from the buffer
-        if (TraceLogging) log.debug("Wrote [{}] bytes to channel", writtenBytes)
-        if (buffer.hasRemaining) {
-          // we weren't able to write all bytes from the buffer, so we need to try again later
-          if (data eq remainingData) this
-          else new PendingBufferWrite(commander, data, ack, buffer, tail) // copy with updated remainingData
-
-        } else if (data.nonEmpty) {
-          buffer.clear()
-          val copied = data.copyToBuffer(buffer)
-          buffer.flip()
-          writeToChannel(data drop copied)
+      @tailrec def writeToChannel(): PendingWrite =
+        if (batchStart < batchEnd) {
+          val writtenBytes = channel.write(segments, batchStart, batchEnd - batchStart)
+          if (TraceLogging) log.debug("Wrote [{}] bytes to channel", writtenBytes)
+          while (batchStart < batchEnd && !segments(batchStart).hasRemaining) {
+            segments(batchStart) = null
+            batchStart += 1
+          }
+          // if we weren't able to write all bytes of the batch we need to try again later
+          if (batchStart < batchEnd) this
+          else writeToChannel()
 
         } else {
-          if (!ack.isInstanceOf[NoAck]) commander ! ack
-          release()
-          PendingWrite(commander, tail)
+          if (batchAcks.nonEmpty) {
+            batchAcks.reverse.foreach(commander ! _)
+            batchAcks = Nil
+          }
+          if (hasRemainingWrite) {
+            nextBatch()
+            writeToChannel()
+          } else {
+            release()
+            PendingWrite(commander, remainingTail)
+          }
         }
-      }
+
       try {
-        val next = writeToChannel(remainingData)
+        val next = writeToChannel()
         if (next ne EmptyPendingWrite) info.registration.enableInterest(OP_WRITE)
         next
       } catch { case e: IOException ⇒ handleError(info.handler, e); this }
     }
 
+    private def nextBatch(): Unit = {
+      buffer.clear()
+      batchStart = 0
+      batchEnd = 0
+      stagedSegment = null
+      var full = false
+      while (hasRemainingWrite && !full) {
+        val added = addSegments(remainingData)
+        if (added < remainingData.length) {
+          remainingData = remainingData.drop(added)
+          full = true
+        } else {
+          if (!remainingAck.isInstanceOf[NoAck]) batchAcks ::= remainingAck
+          remainingTail match {
+            case Write.empty ⇒ hasRemainingWrite = false
+            case Write(nextData, nextAck) ⇒
+              remainingData = nextData
+              remainingAck = nextAck
+              remainingTail = Write.empty
+            case CompoundWrite(Write(nextData, nextAck), nextTail) ⇒
+              remainingData = nextData
+              remainingAck = nextAck
+              remainingTail = nextTail
+            case _ ⇒ hasRemainingWrite = false // a WriteFile is next
+          }
+        }
+      }
+    }
+
+    /** Adds as much of the data to the batch as fits, returns the number of bytes added. */
+    private def addSegments(data: ByteString): Int = data match {
+      case direct: ByteString.DirectByteString ⇒
+        if (batchEnd == MaxGatheredSegments) 0
+        else {
+          segments(batchEnd) = direct.asByteBuffer
+          batchEnd += 1
+          stagedSegment = null
+          direct.length
+        }
+      case _ ⇒
+        if ((stagedSegment eq null) && batchEnd == MaxGatheredSegments) 0
+        else {
+          val start = buffer.position
+          val copied = data.copyToBuffer(buffer)
+          if (copied > 0) {
+            if (stagedSegment eq null) {
+              stagedSegment = buffer.duplicate()
+              stagedSegment.position(start)
+              segments(batchEnd) = stagedSegment
+              batchEnd += 1
+            }
+            stagedSegment.limit(buffer.position)
+          }
+          copied
+        }
+    }
+
     def release(): Unit = bufferPool.release(buffer)
   }
 
@@ -469,6 +580,7 @@ private[io] object TcpConnection {
   object EndOfStream extends ReadResult
   object AllRead extends ReadResult
   object MoreDataWaiting extends ReadResult
+  object NoBufferToLend extends ReadResult
 
   /**
    * Used to transport information to the postStop method to notify
@@ -503,4 +615,7 @@ private[io] object TcpConnection {
   }
 
   val doNothing: () ⇒ Unit = () ⇒ ()
+
+  // the most buffers passed to one gathering write, well below the IOV_MAX of common platforms
+  final val MaxGatheredSegments = 64
 }
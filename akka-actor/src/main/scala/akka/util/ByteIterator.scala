@@ -58,6 +58,7 @@ object ByteIterator {
               result
             }
           case that: MultiByteArrayIterator ⇒ this ++: that
+          case that: ByteBufferIterator     ⇒ this ++ ByteArrayIterator(that.toArray)
         }
       case _ ⇒ super.++(that)
     }
@@ -224,6 +225,8 @@ object ByteIterator {
               iterators = this.iterators ++ that.iterators
               that.clear()
               this
+            case that: ByteBufferIterator ⇒
+              this ++ ByteArrayIterator(that.toArray)
           }
         }
       case _ ⇒ super.++(that)
@@ -379,6 +382,143 @@ object ByteIterator {
       }
     }
   }
+
+  object ByteBufferIterator {
+    protected[akka] def apply(buffer: ByteBuffer): ByteBufferIterator =
+      new ByteBufferIterator(buffer.duplicate())
+  }
+
+  /**
+   * Iterates over the remaining bytes of a (typically direct) ByteBuffer without copying them,
+   * the position and limit of the passed buffer are not touched.
+   */
+  class ByteBufferIterator private (private var buffer: ByteBuffer) extends ByteIterator {
+    iterator ⇒
+
+    @inline final def len: Int = buffer.remaining
+
+    @inline final def hasNext: Boolean = buffer.hasRemaining
+
+    @inline final def head: Byte = buffer.get(buffer.position)
+
+    final def next(): Byte = {
+      if (!hasNext) Iterator.empty.next
+      else buffer.get()
+    }
+
+    def clear(): Unit = buffer.limit(buffer.position)
+
+    final override def length: Int = { val l = len; clear(); l }
+
+    final override def ++(that: TraversableOnce[Byte]): ByteIterator = that match {
+      case that: ByteIterator ⇒
+        if (that.isEmpty) this
+        else if (this.isEmpty) that
+        else ByteArrayIterator(toArray) ++ that
+      case _ ⇒ super.++(that)
+    }
+
+    final override def clone: ByteBufferIterator = new ByteBufferIterator(buffer.duplicate())
+
+    final override def take(n: Int): this.type = {
+      if (n < len) buffer.limit(buffer.position + math.max(n, 0))
+      this
+    }
+
+    final override def drop(n: Int): this.type = {
+      if (n > 0) buffer.position(buffer.position + math.min(n, len))
+      this
+    }
+
+    final override def takeWhile(p: Byte ⇒ Boolean): this.type = {
+      val prev = buffer.position
+      dropWhile(p)
+      buffer.limit(buffer.position)
+      buffer.position(prev)
+      this
+    }
+
+    final override def dropWhile(p: Byte ⇒ Boolean): this.type = {
+      var stop = false
+      while (!stop && hasNext) {
+        if (p(head)) buffer.position(buffer.position + 1) else stop = true
+      }
+      this
+    }
+
+    final override def copyToArray[B >: Byte](xs: Array[B], start: Int, len: Int): Unit = {
+      val n = 0 max ((xs.length - start) min this.len min len)
+      xs match {
+        case bytes: Array[Byte] ⇒ buffer.get(bytes, start, n)
+        case _ ⇒
+          var i = 0
+          while (i < n) { xs(start + i) = buffer.get(); i += 1 }
+      }
+    }
+
+    final override def toByteString: ByteString = {
+      val result = if (isEmpty) ByteString.empty else ByteString.DirectByteString(buffer)
+      clear()
+      result
+    }
+
+    def getBytes(xs: Array[Byte], offset: Int, n: Int): this.type = {
+      if (n <= this.len) {
+        buffer.get(xs, offset, n)
+        this
+      } else Iterator.empty.next
+    }
+
+    private def orderedBuffer(byteOrder: ByteOrder): ByteBuffer = buffer.slice().order(byteOrder)
+
+    def getShorts(xs: Array[Short], offset: Int, n: Int)(implicit byteOrder: ByteOrder): this.type =
+      { orderedBuffer(byteOrder).asShortBuffer.get(xs, offset, n); drop(2 * n) }
+
+    def getInts(xs: Array[Int], offset: Int, n: Int)(implicit byteOrder: ByteOrder): this.type =
+      { orderedBuffer(byteOrder).asIntBuffer.get(xs, offset, n); drop(4 * n) }
+
+    def getLongs(xs: Array[Long], offset: Int, n: Int)(implicit byteOrder: ByteOrder): this.type =
+      { orderedBuffer(byteOrder).asLongBuffer.get(xs, offset, n); drop(8 * n) }
+
+    def getFloats(xs: Array[Float], offset: Int, n: Int)(implicit byteOrder: ByteOrder): this.type =
+      { orderedBuffer(byteOrder).asFloatBuffer.get(xs, offset, n); drop(4 * n) }
+
+    def getDoubles(xs: Array[Double], offset: Int, n: Int)(implicit byteOrder: ByteOrder): this.type =
+      { orderedBuffer(byteOrder).asDoubleBuffer.get(xs, offset, n); drop(8 * n) }
+
+    def copyToBuffer(target: ByteBuffer): Int = {
+      val copyLength = math.min(target.remaining, len)
+      if (copyLength > 0) {
+        val source = buffer.slice()
+        source.limit(copyLength)
+        target.put(source)
+        drop(copyLength)
+      }
+      copyLength
+    }
+
+    def asInputStream: java.io.InputStream = new java.io.InputStream {
+      override def available: Int = iterator.len
+
+      def read: Int = if (hasNext) (next().toInt & 0xff) else -1
+
+      override def read(b: Array[Byte], off: Int, len: Int): Int = {
+        if ((off < 0) || (len < 0) || (off + len > b.length)) throw new IndexOutOfBoundsException
+        if (len == 0) 0
+        else if (!isEmpty) {
+          val nRead = math.min(available, len)
+          copyToArray(b, off, nRead)
+          nRead
+        } else -1
+      }
+
+      override def skip(n: Long): Long = {
+        val nSkip = math.min(iterator.len, n.toInt)
+        iterator.drop(nSkip)
+        nSkip
+      }
+    }
+  }
 }
 
 /**
@@ -90,6 +90,22 @@ object ByteString {
    */
   def fromByteBuffer(buffer: ByteBuffer): ByteString = apply(buffer)
 
+  /**
+   * Creates a new ByteString by wrapping the remaining bytes of a ByteBuffer without copying them.
+   * The buffer's array is shared if it has an accessible one, otherwise (e.g. for direct or
+   * memory-mapped buffers) a read-only view of the buffer is kept and slicing, iterating and
+   * `asByteBuffer` do not copy the bytes to the heap.
+   *
+   * The caller must guarantee that the contents of the buffer are never modified after this
+   * call, neither through the passed buffer nor any other view of the same memory, because
+   * the resulting ByteString may be shared across threads for an arbitrary amount of time.
+   * In particular pooled buffers that are reused must not be wrapped.
+   */
+  def fromByteBufferUnsafe(buffer: ByteBuffer): ByteString =
+    if (!buffer.hasRemaining) empty
+    else if (buffer.hasArray) ByteString1(buffer.array, buffer.arrayOffset + buffer.position, buffer.remaining)
+    else DirectByteString(buffer)
+
   val empty: ByteString = CompactByteString(Array.empty[Byte])
 
   def newBuilder: ByteStringBuilder = new ByteStringBuilder
@@ -316,6 +332,7 @@ object ByteString {
             new ByteString1(bytes, startIndex, length + b.length)
           else ByteStrings(this, b)
         case bs: ByteStrings ⇒ ByteStrings(this, bs)
+        case b: DirectByteString ⇒ ByteStrings(this, b.toByteString1)
       }
     }
 
@@ -422,9 +439,10 @@ object ByteString {
       if (that.isEmpty) this
       else if (this.isEmpty) that
       else that match {
-        case b: ByteString1C ⇒ ByteStrings(this, b.toByteString1)
-        case b: ByteString1  ⇒ ByteStrings(this, b)
-        case bs: ByteStrings ⇒ ByteStrings(this, bs)
+        case b: ByteString1C     ⇒ ByteStrings(this, b.toByteString1)
+        case b: ByteString1      ⇒ ByteStrings(this, b)
+        case bs: ByteStrings     ⇒ ByteStrings(this, bs)
+        case b: DirectByteString ⇒ ByteStrings(this, b.toByteString1)
       }
     }
 
@@ -572,6 +590,107 @@ object ByteString {
     protected def writeReplace(): AnyRef = new SerializationProxy(this)
   }
 
+  /** INTERNAL API: ByteString backed by a ByteBuffer without an accessible array */
+  private[akka] object DirectByteString {
+    def apply(buffer: ByteBuffer): DirectByteString = new DirectByteString(buffer.slice().asReadOnlyBuffer())
+  }
+
+  /**
+   * An unfragmented ByteString backed by a read-only view of a ByteBuffer that does not expose an
+   * array, typically a direct or memory-mapped one. Slicing, iterating and `asByteBuffer` share the
+   * buffer, concatenation and `compact` copy the bytes into a heap array.
+   */
+  final class DirectByteString private (private val buffer: ByteBuffer) extends ByteString with Serializable {
+    // the buffer is always a slice, i.e. position is 0 and limit is the length
+    val length: Int = buffer.limit
+
+    def apply(idx: Int): Byte =
+      if (0 <= idx && idx < length) buffer.get(idx)
+      else throw new IndexOutOfBoundsException(idx.toString)
+
+    // Avoid `iterator` in performance sensitive code, call ops directly on ByteString instead
+    override def iterator: ByteIterator.ByteBufferIterator = ByteIterator.ByteBufferIterator(buffer)
+
+    /** INTERNAL API */
+    private[akka] def toByteString1: ByteString1 = ByteString1(toArray)
+
+    // deserialized as a heap based ByteString, the buffer cannot be restored on the other side
+    private[akka] def byteStringCompanion = ByteString1C
+
+    private[akka] def writeToOutputStream(os: ObjectOutputStream): Unit = {
+      os.writeInt(length)
+      os.write(toArray)
+    }
+
+    def isCompact: Boolean = false
+
+    def compact: CompactByteString = ByteString1C(toArray)
+
+    def asByteBuffer: ByteBuffer = buffer.duplicate()
+
+    def asByteBuffers: scala.collection.immutable.Iterable[ByteBuffer] = List(asByteBuffer)
+
+    override def copyToBuffer(target: ByteBuffer): Int = {
+      val copyLength = Math.min(target.remaining, length)
+      if (copyLength > 0) target.put(slice0(0, copyLength))
+      copyLength
+    }
+
+    override def decodeString(charset: String): String =
+      decodeString(Charset.forName(charset))
+
+    override def decodeString(charset: Charset): String =
+      if (isEmpty) "" else charset.decode(buffer.duplicate()).toString
+
+    def ++(that: ByteString): ByteString =
+      if (that.isEmpty) this
+      else if (this.isEmpty) that
+      else toByteString1 ++ that
+
+    override def take(n: Int): ByteString =
+      if (n <= 0) ByteString.empty
+      else if (n >= length) this
+      else new DirectByteString(slice0(0, n))
+
+    override def dropRight(n: Int): ByteString =
+      if (n <= 0) this
+      else if (n >= length) ByteString.empty
+      else new DirectByteString(slice0(0, length - n))
+
+    override def drop(n: Int): ByteString =
+      if (n <= 0) this
+      else if (n >= length) ByteString.empty
+      else new DirectByteString(slice0(n, length))
+
+    override def slice(from: Int, until: Int): ByteString =
+      if (from <= 0 && until >= length) this
+      else if (from >= length || until <= 0 || from >= until) ByteString.empty
+      else new DirectByteString(slice0(Math.max(from, 0), Math.min(until, length)))
+
+    private def slice0(from: Int, until: Int): ByteBuffer = {
+      val view = buffer.duplicate()
+      view.limit(until)
+      view.position(from)
+      view.slice()
+    }
+
+    override def indexOf[B >: Byte](elem: B): Int = indexOf(elem, 0)
+    override def indexOf[B >: Byte](elem: B, from: Int): Int = {
+      if (from >= length) -1
+      else {
+        var found = -1
+        var i = math.max(from, 0)
+        while (i < length && found == -1) {
+          if (buffer.get(i) == elem) found = i
+          i += 1
+        }
+        found
+      }
+    }
+
+    protected def writeReplace(): AnyRef = new SerializationProxy(this)
+  }
+
   @SerialVersionUID(1L)
   private class SerializationProxy(@transient private var orig: ByteString) extends Serializable {
     private def writeObject(out: ObjectOutputStream) {
@@ -25,6 +25,9 @@ class ForkJoinActorBenchmark {
   @Param(Array("1", "4"))
   var threads = ""
 
+  @Param(Array("fork-join-executor", "affinity-pool-executor"))
+  var executor = ""
+
   implicit var system: ActorSystem = _
 
   @Setup(Level.Trial)
@@ -34,12 +37,17 @@ class ForkJoinActorBenchmark {
         |   log-dead-letters = off
         |   actor {
         |     default-dispatcher {
-        |       executor = "fork-join-executor"
+        |       executor = "$executor"
         |       fork-join-executor {
         |         parallelism-min = 1
         |         parallelism-factor = $threads
         |         parallelism-max = 64
         |       }
+        |       affinity-pool-executor {
+        |         parallelism-min = 1
+        |         parallelism-factor = $threads
+        |         parallelism-max = 64
+        |       }
         |       throughput = $tpt
         |     }
         |   }
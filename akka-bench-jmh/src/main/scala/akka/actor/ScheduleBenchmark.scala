@@ -7,6 +7,7 @@ import java.util.concurrent.TimeUnit
 import java.util.concurrent.atomic.AtomicInteger
 
 import akka.util.Timeout
+import com.typesafe.config.ConfigFactory
 import org.openjdk.jmh.annotations._
 
 import scala.concurrent.ExecutionContext.Implicits.global
@@ -40,8 +41,8 @@ import scala.concurrent.{ Await, Promise }
 @Warmup(iterations = 10, time = 1700, timeUnit = TimeUnit.MILLISECONDS)
 @Measurement(iterations = 20, time = 1700, timeUnit = TimeUnit.MILLISECONDS)
 class ScheduleBenchmark {
-  implicit val system: ActorSystem = ActorSystem()
-  val scheduler: Scheduler = system.scheduler
+  implicit var system: ActorSystem = _
+  var scheduler: Scheduler = _
   val interval: FiniteDuration = 25.millis
   val within: FiniteDuration = 2.seconds
   implicit val timeout: Timeout = Timeout(within)
@@ -52,9 +53,18 @@ class ScheduleBenchmark {
   @Param(Array("0.1", "0.35", "0.9"))
   var ratio = 0d
 
+  @Param(Array("akka.actor.LightArrayRevolverScheduler", "akka.actor.HierarchicalTimingWheelScheduler"))
+  var implementation = ""
+
   var winner: Int = _
   var promise: Promise[Any] = _
 
+  @Setup(Level.Trial)
+  def startSystem(): Unit = {
+    system = ActorSystem("ScheduleBenchmark", ConfigFactory.parseString(s"akka.scheduler.implementation = $implementation"))
+    scheduler = system.scheduler
+  }
+
   @Setup(Level.Iteration)
   def setup(): Unit = {
     winner = (to * ratio + 1).toInt
@@ -97,4 +107,29 @@ class ScheduleBenchmark {
     }
     Await.result(promise.future, within)
   }
+  final val timers = 1000000
+
+  /*
+   * Many long timers which are cancelled before they are due, like actor timeouts: they
+   * are scheduled beyond one revolution of the default wheel and all but one are cancelled.
+   * Completes when the remaining timer fires, which includes the work of the timer thread.
+   */
+  @Benchmark
+  @OperationsPerInvocation(1000000)
+  def millionTimers(): Unit = {
+    val cancellables = new Array[Cancellable](timers)
+    var i = 0
+    while (i < timers) {
+      cancellables(i) = scheduler.scheduleOnce(10.seconds + (i % 1000).millis)(())
+      i += 1
+    }
+    i = 0
+    while (i < timers) {
+      cancellables(i).cancel()
+      i += 1
+    }
+    val done = Promise[Unit]()
+    scheduler.scheduleOnce(interval)(done.success(()))
+    Await.result(done.future, within)
+  }
 }
@@ -22,6 +22,9 @@ import scala.concurrent.Await
 class TellOnlyBenchmark {
   import TellOnlyBenchmark._
 
+  @Param(Array("fork-join-executor", "affinity-pool-executor"))
+  var executor = ""
+
   implicit var system: ActorSystem = _
 
   @Setup(Level.Trial)
@@ -41,8 +44,11 @@ class TellOnlyBenchmark {
           |   }
           | }
           | dropping-dispatcher {
+          |   executor = "$executor"
           |   fork-join-executor.parallelism-min = 1
           |   fork-join-executor.parallelism-max = 1
+          |   affinity-pool-executor.parallelism-min = 1
+          |   affinity-pool-executor.parallelism-max = 1
           |   type = "akka.actor.TellOnlyBenchmark$$DroppingDispatcherConfigurator"
           |   mailbox-type = "akka.actor.TellOnlyBenchmark$$UnboundedDroppingMailbox"
           | }
@@ -0,0 +1,130 @@
+/**
+ * Copyright (C) 2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+package akka.io
+
+import java.net.InetSocketAddress
+import java.nio.ByteBuffer
+import java.nio.channels.SocketChannel
+import java.util.concurrent.TimeUnit
+
+import scala.concurrent.{ Await, Promise }
+import scala.concurrent.duration._
+
+import akka.actor._
+import akka.util.ByteString
+import com.typesafe.config.ConfigFactory
+import org.openjdk.jmh.annotations._
+
+object TcpSelectorBenchmark {
+  final val Connections = 100
+  final val MessageSize = 1024
+
+  case object Ack extends Tcp.Event
+
+  class EchoServer(bound: Promise[InetSocketAddress]) extends Actor {
+    IO(Tcp)(context.system) ! Tcp.Bind(self, new InetSocketAddress("127.0.0.1", 0), backlog = 1000)
+
+    def receive = {
+      case Tcp.Bound(address) ⇒ bound.success(address)
+      case _: Tcp.Connected ⇒
+        val connection = sender()
+        connection ! Tcp.Register(context.actorOf(Props(new EchoHandler(connection))))
+      case Tcp.CommandFailed(cmd) ⇒ bound.tryFailure(new RuntimeException(s"$cmd failed"))
+    }
+  }
+
+  // writes with acks, received data is buffered while a write is in progress
+  class EchoHandler(connection: ActorRef) extends Actor {
+    var writing = false
+    var buffer = ByteString.empty
+
+    def receive = {
+      case Tcp.Received(data) ⇒
+        if (writing) buffer ++= data
+        else {
+          writing = true
+          connection ! Tcp.Write(data, Ack)
+        }
+      case Ack ⇒
+        if (buffer.isEmpty) writing = false
+        else {
+          connection ! Tcp.Write(buffer, Ack)
+          buffer = ByteString.empty
+        }
+      case _: Tcp.ConnectionClosed ⇒ context.stop(self)
+    }
+  }
+}
+
+/**
+ * Connections per second and echo throughput of an akka.io TCP server, over one or several selectors.
+ * The clients are plain blocking socket channels.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Array(Mode.Throughput))
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 4)
+@Measurement(iterations = 5)
+class TcpSelectorBenchmark {
+  import TcpSelectorBenchmark._
+
+  @Param(Array("1", "4"))
+  var selectors = 0
+
+  var system: ActorSystem = _
+  var address: InetSocketAddress = _
+  var clients: Array[SocketChannel] = _
+
+  val message = ByteBuffer.allocate(MessageSize)
+  val received = ByteBuffer.allocate(MessageSize)
+
+  @Setup(Level.Trial)
+  def setup(): Unit = {
+    system = ActorSystem("TcpSelectorBenchmark", ConfigFactory.parseString(
+      s"akka.io.tcp.nr-of-selectors = $selectors"))
+    val bound = Promise[InetSocketAddress]()
+    system.actorOf(Props(new EchoServer(bound)))
+    address = Await.result(bound.future, 5.seconds)
+    clients = Array.fill(Connections)(SocketChannel.open(address))
+  }
+
+  @TearDown(Level.Trial)
+  def shutdown(): Unit = {
+    clients.foreach(_.close())
+    Await.result(system.terminate(), 5.seconds)
+  }
+
+  private def echo(client: SocketChannel): Unit = {
+    message.clear()
+    while (message.hasRemaining) client.write(message)
+    received.clear()
+    while (received.hasRemaining) client.read(received)
+  }
+
+  @Benchmark
+  def connect(): Unit = {
+    val client = SocketChannel.open(address)
+    try echo(client)
+    finally client.close()
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(Connections)
+  def echoOnAllConnections(): Unit = {
+    var i = 0
+    while (i < Connections) {
+      message.clear()
+      while (message.hasRemaining) clients(i).write(message)
+      i += 1
+    }
+    i = 0
+    while (i < Connections) {
+      received.clear()
+      while (received.hasRemaining) clients(i).read(received)
+      i += 1
+    }
+  }
+
+}
@@ -11,6 +11,7 @@ import akka.actor._
 import akka.persistence.journal.AsyncWriteTarget._
 import akka.persistence.journal.leveldb.{ SharedLeveldbJournal, SharedLeveldbStore }
 import akka.testkit.TestProbe
+import com.typesafe.config.ConfigFactory
 import org.apache.commons.io.FileUtils
 import org.openjdk.jmh.annotations._
 
@@ -28,6 +29,9 @@ import org.openjdk.jmh.annotations._
 [info] a.p.LevelDbBatchingBenchmark.writeBatch_10      avgt        20        0.117        0.001    ms/op
 [info] a.p.LevelDbBatchingBenchmark.writeBatch_100     avgt        20        0.050        0.000    ms/op
 [info] a.p.LevelDbBatchingBenchmark.writeBatch_200     avgt        20        0.041        0.001    ms/op
+
+  The groupCommit_* benchmarks send the same requests to a store with group commit enabled,
+  where the concurrent single writes of the benchmark threads share one LevelDB batch and fsync.
  */
 @Fork(1)
 @Threads(10)
@@ -38,6 +42,7 @@ class LevelDbBatchingBenchmark {
   var sys: ActorSystem = _
   var probe: TestProbe = _
   var store: ActorRef = _
+  var groupCommitStore: ActorRef = _
 
   val batch_1 = List.fill(1) { AtomicWrite(PersistentRepr("data", 12, "pa")) }
   val batch_10 = List.fill(10) { AtomicWrite(PersistentRepr("data", 12, "pa")) }
@@ -52,11 +57,18 @@ class LevelDbBatchingBenchmark {
 
     probe = TestProbe()(sys)
     store = sys.actorOf(Props[SharedLeveldbStore], "store")
+
+    val groupCommitConfig = ConfigFactory.parseString("""
+      store.dir = "target/group-commit-journal"
+      store.group-commit.enabled = on
+      """).withFallback(sys.settings.config.getConfig("akka.persistence.journal.leveldb-shared"))
+    groupCommitStore = sys.actorOf(Props(classOf[SharedLeveldbStore], groupCommitConfig), "group-commit-store")
   }
 
   @TearDown(Level.Trial)
   def tearDown(): Unit = {
     store ! PoisonPill
+    groupCommitStore ! PoisonPill
     Thread.sleep(500)
 
     sys.terminate()
@@ -95,6 +107,22 @@ class LevelDbBatchingBenchmark {
     probe.expectMsgType[Any]
   }
 
+  @Benchmark
+  @Measurement(timeUnit = TimeUnit.MICROSECONDS)
+  @OperationsPerInvocation(1)
+  def groupCommit_write_1(): Unit = {
+    probe.send(groupCommitStore, WriteMessages(batch_1))
+    probe.expectMsgType[Any]
+  }
+
+  @Benchmark
+  @Measurement(timeUnit = TimeUnit.MICROSECONDS)
+  @OperationsPerInvocation(10)
+  def groupCommit_writeBatch_10(): Unit = {
+    probe.send(groupCommitStore, WriteMessages(batch_10))
+    probe.expectMsgType[Any]
+  }
+
   // TOOLS
 
   private def deleteStorage(sys: ActorSystem) {
@@ -102,7 +130,7 @@ class LevelDbBatchingBenchmark {
       "akka.persistence.journal.leveldb.dir",
       "akka.persistence.journal.leveldb-shared.store.dir",
       "akka.persistence.snapshot-store.local.dir"
-    ).map(s ⇒ new File(sys.settings.config.getString(s)))
+    ).map(s ⇒ new File(sys.settings.config.getString(s))) :+ new File("target/group-commit-journal")
 
     storageLocations.foreach(FileUtils.deleteDirectory)
   }
@@ -0,0 +1,77 @@
+/**
+ * Copyright (C) 2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+package akka.remote
+
+import java.util.concurrent.TimeUnit
+
+import scala.concurrent.duration._
+
+import akka.actor.Address
+import org.openjdk.jmh.annotations._
+
+/**
+ * Heartbeat handling of the failure detectors of a node that monitors many addresses. The time per
+ * address should stay the same when the number of addresses grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Array(Mode.AverageTime))
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(2)
+@Warmup(iterations = 4)
+@Measurement(iterations = 5)
+class FailureDetectorRegistryBenchmark {
+
+  @Param(Array("10", "100", "1000"))
+  var numberOfAddresses = 0
+
+  // advanced by one heartbeat interval per round of heartbeats
+  var now = 0L
+  implicit val clock: FailureDetector.Clock = new FailureDetector.Clock {
+    override def apply(): Long = now
+  }
+
+  var addresses: Array[Address] = _
+  var registry: DefaultFailureDetectorRegistry[Address] = _
+
+  @Setup(Level.Trial)
+  def setup(): Unit = {
+    addresses = Array.tabulate(numberOfAddresses)(n ⇒ Address("akka.tcp", "Sys", s"host-$n", 2552))
+    registry = new DefaultFailureDetectorRegistry[Address](() ⇒
+      new PhiAccrualFailureDetector(
+        threshold = 8.0,
+        maxSampleSize = 1000,
+        minStdDeviation = 100.millis,
+        acceptableHeartbeatPause = 3.seconds,
+        firstHeartbeatEstimate = 1.second))
+    // fill the histories
+    for (_ ← 1 to 1000) heartbeatAll()
+  }
+
+  private def heartbeatAll(): Unit = {
+    now += 1000
+    addresses.foreach(registry.heartbeat)
+  }
+
+  // the addresses are visited round robin, with one heartbeat interval per round
+  var next = 0
+
+  private def nextAddress(): Address = {
+    val address = addresses(next)
+    next += 1
+    if (next == addresses.length) {
+      next = 0
+      now += 1000
+    }
+    address
+  }
+
+  @Benchmark
+  def heartbeat(): Unit =
+    registry.heartbeat(nextAddress())
+
+  @Benchmark
+  def isAvailable(): Boolean =
+    registry.isAvailable(nextAddress())
+
+}
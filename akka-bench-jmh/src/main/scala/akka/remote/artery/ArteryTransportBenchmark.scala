@@ -0,0 +1,155 @@
+/**
+ * Copyright (C) 2016-2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+package akka.remote.artery
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Semaphore
+import java.util.concurrent.TimeUnit
+
+import akka.actor._
+import com.typesafe.config.ConfigFactory
+import org.openjdk.jmh.annotations._
+
+import scala.concurrent.Await
+import scala.concurrent.duration._
+
+/**
+ * Compares the Aeron (UDP) and the TCP transports of Artery, running two
+ * ActorSystems in the same JVM.
+ *
+ * `throughput` sends messages in bursts, with a bounded number of
+ * unacknowledged bursts in flight to not overflow the outbound queues.
+ * `roundTrip` measures the latency of a request-reply message exchange.
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 4)
+@Measurement(iterations = 5)
+class ArteryTransportBenchmark {
+  import ArteryTransportBenchmark._
+
+  @Param(Array("aeron-udp", "tcp"))
+  var transport: String = _
+
+  @Param(Array("100", "10000"))
+  var payloadSize: Int = _
+
+  var systemA: ActorSystem = _
+  var systemB: ActorSystem = _
+
+  private var payload: Array[Byte] = _
+  private var remoteReceiver: ActorRef = _
+  private var remoteEcho: ActorRef = _
+  private var ackReceiver: ActorRef = _
+  private var pongReceiver: ActorRef = _
+  private val burstPermits = new Semaphore(MaxBurstsInFlight)
+  @volatile private var pongLatch: CountDownLatch = _
+
+  @Setup(Level.Trial)
+  def setup(): Unit = {
+    val config = ConfigFactory.parseString(
+      s"""
+      akka {
+        loglevel = WARNING
+        actor.provider = remote
+        actor.serialize-messages = off
+        remote.artery {
+          enabled = on
+          transport = $transport
+          canonical.hostname = localhost
+          canonical.port = 0
+        }
+      }
+      """)
+
+    systemA = ActorSystem("systemA", config)
+    systemB = ActorSystem("systemB", config)
+    payload = Array.fill[Byte](payloadSize)(1)
+
+    systemB.actorOf(Props[Receiver], "receiver")
+    systemB.actorOf(Props[Echo], "echo")
+    ackReceiver = systemA.actorOf(Props(new AckReceiver(burstPermits)), "ackReceiver")
+    pongReceiver = systemA.actorOf(Props(new PongReceiver(() ⇒ pongLatch)), "pongReceiver")
+
+    val rootB = RootActorPath(systemB.asInstanceOf[ExtendedActorSystem].provider.getDefaultAddress)
+    remoteReceiver = Await.result(systemA.actorSelection(rootB / "user" / "receiver").resolveOne(5.seconds), 5.seconds)
+    remoteEcho = Await.result(systemA.actorSelection(rootB / "user" / "echo").resolveOne(5.seconds), 5.seconds)
+  }
+
+  @TearDown(Level.Trial)
+  def tearDown(): Unit = {
+    Await.result(systemA.terminate(), 10.seconds)
+    Await.result(systemB.terminate(), 10.seconds)
+  }
+
+  @Benchmark
+  @BenchmarkMode(Array(Mode.Throughput))
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @OperationsPerInvocation(MessagesPerInvocation)
+  def throughput(): Unit = {
+    var burst = 0
+    while (burst < MessagesPerInvocation / BurstSize) {
+      if (!burstPermits.tryAcquire(10, TimeUnit.SECONDS))
+        throw new RuntimeException("Burst wasn't acknowledged in time")
+      var i = 0
+      while (i < BurstSize - 1) {
+        remoteReceiver.tell(payload, ActorRef.noSender)
+        i += 1
+      }
+      remoteReceiver.tell(EndOfBurst(payload), ackReceiver)
+      burst += 1
+    }
+    // wait for the outstanding bursts
+    if (!burstPermits.tryAcquire(MaxBurstsInFlight, 10, TimeUnit.SECONDS))
+      throw new RuntimeException("Burst wasn't acknowledged in time")
+    burstPermits.release(MaxBurstsInFlight)
+  }
+
+  @Benchmark
+  @BenchmarkMode(Array(Mode.AverageTime))
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  def roundTrip(): Unit = {
+    val latch = new CountDownLatch(1)
+    pongLatch = latch
+    remoteEcho.tell(payload, pongReceiver)
+    if (!latch.await(10, TimeUnit.SECONDS))
+      throw new RuntimeException("Reply didn't arrive in time")
+  }
+
+}
+
+object ArteryTransportBenchmark {
+  final val MessagesPerInvocation = 100000
+  // must be less than the outbound-message-queue-size divided by MaxBurstsInFlight
+  final val BurstSize = 500
+  final val MaxBurstsInFlight = 4
+
+  final case class EndOfBurst(payload: Array[Byte])
+  case object BurstAck
+
+  class Receiver extends Actor {
+    def receive = {
+      case _: Array[Byte] ⇒
+      case EndOfBurst(_)  ⇒ sender() ! BurstAck
+    }
+  }
+
+  class Echo extends Actor {
+    def receive = {
+      case msg ⇒ sender() ! msg
+    }
+  }
+
+  class AckReceiver(permits: Semaphore) extends Actor {
+    def receive = {
+      case BurstAck ⇒ permits.release()
+    }
+  }
+
+  class PongReceiver(latch: () ⇒ CountDownLatch) extends Actor {
+    def receive = {
+      case _ ⇒ latch().countDown()
+    }
+  }
+}
@@ -0,0 +1,59 @@
+/**
+ * Copyright (C) 2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+
+package akka.stream
+
+import java.util.concurrent.TimeUnit
+
+import akka.{ Done, NotUsed }
+import akka.actor.ActorSystem
+import akka.stream.scaladsl._
+import org.openjdk.jmh.annotations._
+
+import scala.concurrent._
+import scala.concurrent.duration._
+
+/*
+ * Small elements passing through a pipeline split into several actors by async boundaries,
+ * dominated by the cost of transferring the elements between the interpreter actors.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@BenchmarkMode(Array(Mode.Throughput))
+class AsyncBoundaryBenchmark {
+  import AsyncBoundaryBenchmark._
+
+  implicit val system = ActorSystem("AsyncBoundaryBenchmark")
+
+  @Param(Array("1", "4"))
+  var NumberOfBoundaries = 0
+
+  @Param(Array("16"))
+  var InputBufferSize = 0
+
+  var materializer: ActorMaterializer = _
+  var pipeline: RunnableGraph[Future[Done]] = _
+
+  @Setup
+  def setup(): Unit = {
+    materializer = ActorMaterializer(ActorMaterializerSettings(system).withInputBuffer(InputBufferSize, InputBufferSize))
+    val flow = (1 to NumberOfBoundaries).foldLeft(Flow[Int]) { (flow, _) ⇒ flow.map(_ + 1).async }
+    pipeline = Source.repeat(1).take(NumberOfElements).via(flow).toMat(Sink.ignore)(Keep.right)
+  }
+
+  @TearDown
+  def shutdown(): Unit = {
+    Await.result(system.terminate(), 5.seconds)
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NumberOfElements)
+  def boundaries(): Done =
+    Await.result(pipeline.run()(materializer), 1.minute)
+
+}
+
+object AsyncBoundaryBenchmark {
+  final val NumberOfElements = 100000
+}
@@ -0,0 +1,84 @@
+/**
+ * Copyright (C) 2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+
+package akka.stream
+
+import java.util.concurrent.TimeUnit
+
+import akka.{ Done, NotUsed }
+import akka.actor.ActorSystem
+import akka.pattern.after
+import akka.stream.scaladsl._
+import org.openjdk.jmh.annotations._
+
+import scala.concurrent._
+import scala.concurrent.duration._
+
+/*
+ * mapAsync, mapAsyncUnordered and mapAsyncPartitioned with skewed latency: most futures complete
+ * right away on the dispatcher, but every `SlowEvery`th one takes `SlowLatency` milliseconds.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@BenchmarkMode(Array(Mode.Throughput))
+class MapAsyncBenchmark {
+  import MapAsyncBenchmark._
+
+  implicit val system = ActorSystem("MapAsyncBenchmark")
+  implicit val materializer = ActorMaterializer()
+  import system.dispatcher
+
+  @Param(Array("16"))
+  var Parallelism = 0
+
+  @Param(Array("100"))
+  var SlowEvery = 0
+
+  @Param(Array("10"))
+  var SlowLatency = 0
+
+  @Param(Array("64"))
+  var NumberOfPartitions = 0
+
+  var source: Source[Int, NotUsed] = _
+  var slowLatency: FiniteDuration = _
+
+  @Setup
+  def setup(): Unit = {
+    source = Source(0 until NumberOfElements)
+    slowLatency = SlowLatency.millis
+  }
+
+  @TearDown
+  def shutdown(): Unit = {
+    Await.result(system.terminate(), 5.seconds)
+  }
+
+  private def call(n: Int): Future[Int] =
+    if (n % SlowEvery == 0) after(slowLatency, system.scheduler)(Future.successful(n))
+    else Future(n)
+
+  private def run(flow: Flow[Int, Int, NotUsed]): Done =
+    Await.result(source.via(flow).runWith(Sink.ignore), 1.minute)
+
+  @Benchmark
+  @OperationsPerInvocation(NumberOfElements)
+  def mapAsync(): Done =
+    run(Flow[Int].mapAsync(Parallelism)(call))
+
+  @Benchmark
+  @OperationsPerInvocation(NumberOfElements)
+  def mapAsyncUnordered(): Done =
+    run(Flow[Int].mapAsyncUnordered(Parallelism)(call))
+
+  @Benchmark
+  @OperationsPerInvocation(NumberOfElements)
+  def mapAsyncPartitioned(): Done =
+    run(Flow[Int].mapAsyncPartitioned(Parallelism)(_ % NumberOfPartitions)(call))
+
+}
+
+object MapAsyncBenchmark {
+  final val NumberOfElements = 10000
+}
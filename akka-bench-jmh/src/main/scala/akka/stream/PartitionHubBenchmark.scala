@@ -0,0 +1,93 @@
+/**
+ * Copyright (C) 2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+
+package akka.stream
+
+import java.util.concurrent.{ CountDownLatch, TimeUnit }
+import java.util.concurrent.atomic.AtomicBoolean
+
+import akka.{ Done, NotUsed }
+import akka.actor.ActorSystem
+import akka.stream.scaladsl._
+import org.openjdk.jmh.annotations._
+
+import scala.collection.immutable
+import scala.concurrent._
+import scala.concurrent.duration._
+
+/*
+ * Routes every element to one of a number of consumers, with PartitionHub and with the
+ * BroadcastHub based workaround where every consumer drops the elements of the others.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@BenchmarkMode(Array(Mode.Throughput))
+class PartitionHubBenchmark {
+  import PartitionHubBenchmark._
+
+  implicit val system = ActorSystem("PartitionHubBenchmark")
+  implicit val materializer = ActorMaterializer()
+  import system.dispatcher
+
+  @Param(Array("2", "8"))
+  var NumberOfConsumers = 0
+
+  @Param(Array("256"))
+  var BufferSize = 0
+
+  val elements: Source[Int, NotUsed] = Source(0 until NumberOfElements)
+
+  @TearDown
+  def shutdown(): Unit = {
+    Await.result(system.terminate(), 5.seconds)
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NumberOfElements)
+  def partition(): Unit = {
+    val hub = elements.runWith(PartitionHub.sink(
+      (size, elem) ⇒ elem % size, startAfterNrOfConsumers = NumberOfConsumers, bufferSize = BufferSize))
+    awaitAll(Vector.fill(NumberOfConsumers)(hub.runWith(Sink.ignore)))
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NumberOfElements)
+  def partitionFewestQueued(): Unit = {
+    val hub = elements.runWith(PartitionHub.statefulSink(
+      () ⇒ (info, elem) ⇒ info.consumerIds.minBy(id ⇒ info.queueSize(id)),
+      startAfterNrOfConsumers = NumberOfConsumers, bufferSize = BufferSize))
+    awaitAll(Vector.fill(NumberOfConsumers)(hub.runWith(Sink.ignore)))
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NumberOfElements)
+  def broadcastAndFilter(): Unit = {
+    // BroadcastHub does not wait for the consumers, so it emits markers until all of them have seen one
+    val registered = new CountDownLatch(NumberOfConsumers)
+    val started = new AtomicBoolean
+    val hub = Source.repeat(-1).takeWhile(_ ⇒ !started.get).concat(elements)
+      .runWith(BroadcastHub.sink(BufferSize))
+
+    val done = (0 until NumberOfConsumers).map { i ⇒
+      var seenMarker = false
+      hub.filter { elem ⇒
+        if (elem < 0) {
+          if (!seenMarker) { seenMarker = true; registered.countDown() }
+          false
+        } else elem % NumberOfConsumers == i
+      }.runWith(Sink.ignore)
+    }
+    registered.await()
+    started.set(true)
+    awaitAll(done)
+  }
+
+  private def awaitAll(done: immutable.Seq[Future[Done]]): Unit =
+    Await.result(Future.sequence(done), 30.seconds)
+
+}
+
+object PartitionHubBenchmark {
+  final val NumberOfElements = 100000
+}
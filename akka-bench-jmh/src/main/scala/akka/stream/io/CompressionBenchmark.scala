@@ -0,0 +1,70 @@
+/**
+ * Copyright (C) 2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+
+package akka.stream.io
+
+import java.util.concurrent.TimeUnit
+import java.util.zip.Deflater
+
+import akka.NotUsed
+import akka.actor.ActorSystem
+import akka.stream.ActorMaterializer
+import akka.stream.scaladsl._
+import akka.util.ByteString
+import org.openjdk.jmh.annotations._
+
+import scala.concurrent.Await
+import scala.concurrent.duration._
+
+/**
+ * Compresses and decompresses a payload in a freshly materialized stream per operation, like a
+ * short-lived compressed HTTP entity, with and without pooled zlib (de)compressors.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Array(Mode.AverageTime))
+class CompressionBenchmark {
+
+  implicit val system = ActorSystem("compression-benchmark")
+  implicit val materializer = ActorMaterializer()
+
+  // small: a typical JSON response, large: 1 MB in 8 kB chunks
+  @Param(Array("small", "large"))
+  var payload = ""
+
+  @Param(Array("false", "true"))
+  var pooled = false
+
+  var chunks: List[ByteString] = _
+  var gzipRoundTrip: Flow[ByteString, ByteString, NotUsed] = _
+  var deflateRoundTrip: Flow[ByteString, ByteString, NotUsed] = _
+
+  @Setup
+  def setup(): Unit = {
+    val json = ByteString("""{"id":12345,"name":"benchmark","tags":["a","b","c"],"active":true,"score":0.75}""")
+    chunks = payload match {
+      case "small" ⇒ List(json)
+      case "large" ⇒ List.fill(128)(ByteString(Array.tabulate[Byte](8192)(i ⇒ (i % 61).toByte)))
+    }
+
+    gzipRoundTrip = Compression.gzip(Deflater.DEFAULT_COMPRESSION, pooled)
+      .via(Compression.gunzip(Compression.MaxBytesPerChunkDefault, pooled))
+    deflateRoundTrip = Compression.deflate(Deflater.DEFAULT_COMPRESSION, None, pooled)
+      .via(Compression.inflate(Compression.MaxBytesPerChunkDefault, None, pooled))
+  }
+
+  @TearDown
+  def shutdown(): Unit = {
+    Await.result(system.terminate(), 5.seconds)
+  }
+
+  @Benchmark
+  def gzip(): Int =
+    Await.result(Source(chunks).via(gzipRoundTrip).runFold(0)(_ + _.size), 10.seconds)
+
+  @Benchmark
+  def deflate(): Int =
+    Await.result(Source(chunks).via(deflateRoundTrip).runFold(0)(_ + _.size), 10.seconds)
+
+}
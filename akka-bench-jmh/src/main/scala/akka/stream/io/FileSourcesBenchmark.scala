@@ -45,12 +45,14 @@ class FileSourcesBenchmark {
   var bufSize = 0
 
   var fileChannelSource: Source[ByteString, Future[IOResult]] = _
+  var mappedFileSource: Source[ByteString, Future[IOResult]] = _
   var fileInputStreamSource: Source[ByteString, Future[IOResult]] = _
   var ioSourceLinesIterator: Source[ByteString, NotUsed] = _
 
   @Setup
   def setup(): Unit = {
     fileChannelSource = FileIO.fromPath(file, bufSize)
+    mappedFileSource = FileIO.fromPathMapped(file, bufSize)
     fileInputStreamSource = StreamConverters.fromInputStream(() ⇒ Files.newInputStream(file), bufSize)
     ioSourceLinesIterator = Source.fromIterator(() ⇒ scala.io.Source.fromFile(file.toFile).getLines()).map(ByteString(_))
   }
@@ -79,6 +81,13 @@ class FileSourcesBenchmark {
     Await.result(h, 30.seconds)
   }
 
+  @Benchmark
+  def mappedFile(): Unit = {
+    val h = mappedFileSource.to(Sink.ignore).run()
+
+    Await.result(h, 30.seconds)
+  }
+
   @Benchmark
   def inputStream(): Unit = {
     val h = fileInputStreamSource.to(Sink.ignore).run()
@@ -0,0 +1,98 @@
+/**
+ * Copyright (C) 2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+
+package akka.stream.io
+
+import java.util.concurrent.TimeUnit
+import javax.net.ssl.{ SSLContext, SSLEngine }
+
+import akka.NotUsed
+import akka.actor.ActorSystem
+import akka.stream.TLSProtocol._
+import akka.stream._
+import akka.stream.impl.io.{ TlsGraphStage, TlsModule, TlsUtils }
+import akka.stream.scaladsl._
+import akka.util.ByteString
+import org.openjdk.jmh.annotations._
+
+import scala.concurrent.Await
+import scala.concurrent.duration._
+import scala.util.Success
+
+/*
+ * Compares the fusable TLS stage with the actor based TLS module, both ends of the
+ * connection run in the same stream so that no socket is involved.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@BenchmarkMode(Array(Mode.Throughput))
+class TlsBenchmark {
+  import TlsBenchmark._
+
+  implicit val system = ActorSystem("TlsBenchmark")
+  implicit val materializer = ActorMaterializer()
+
+  val sslContext: SSLContext = TlsSpec.initSslContext()
+
+  @Param(Array("stage", "actor"))
+  var implementation = ""
+
+  @Param(Array("16384"))
+  var chunkSize = 0
+
+  var roundTrip: Flow[SslTlsOutbound, SslTlsInbound, NotUsed] = _
+  var bulk: Source[SslTlsOutbound, NotUsed] = _
+
+  @Setup
+  def setup(): Unit = {
+    val echo = Flow[SslTlsInbound].collect { case SessionBytes(_, bytes) ⇒ SendBytes(bytes) }
+    roundTrip = tls(Client).atop(tls(Server).reversed).join(echo)
+    bulk = Source.repeat(SendBytes(ByteString(new Array[Byte](chunkSize)))).take(BulkChunks)
+  }
+
+  @TearDown
+  def shutdown(): Unit = {
+    Await.result(system.terminate(), 5.seconds)
+  }
+
+  private def tls(role: TLSRole): BidiFlow[SslTlsOutbound, ByteString, ByteString, SslTlsInbound, NotUsed] = {
+    val createSSLEngine: ActorSystem ⇒ SSLEngine = { _ ⇒
+      val engine = sslContext.createSSLEngine()
+      engine.setUseClientMode(role == Client)
+      TlsUtils.applySessionParameters(engine, CipherSuites)
+      engine
+    }
+    implementation match {
+      case "stage" ⇒ BidiFlow.fromGraph(new TlsGraphStage(createSSLEngine, (_, _) ⇒ Success(()), IgnoreComplete))
+      case "actor" ⇒ new BidiFlow(TlsModule(Attributes.none, createSSLEngine, (_, _) ⇒ Success(()), IgnoreComplete))
+    }
+  }
+
+  @Benchmark
+  def handshake(): Unit = {
+    val done = Source.single(SendBytes(Hello)).via(roundTrip).runWith(Sink.head)
+    Await.result(done, 10.seconds)
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BulkChunks)
+  def bulkTransfer(): Unit = {
+    val total = chunkSize.toLong * BulkChunks
+    val done = bulk.via(roundTrip)
+      .collect { case SessionBytes(_, bytes) ⇒ bytes.size.toLong }
+      .scan(0L)(_ + _)
+      .dropWhile(_ < total)
+      .runWith(Sink.head)
+    Await.result(done, 30.seconds)
+  }
+
+}
+
+object TlsBenchmark {
+  final val BulkChunks = 1000
+
+  val Hello = ByteString("hello")
+
+  val CipherSuites = NegotiateNewSession.withCipherSuites("TLS_ECDHE_RSA_WITH_AES_128_CBC_SHA")
+}
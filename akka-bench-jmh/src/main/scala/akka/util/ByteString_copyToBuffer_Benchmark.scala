@@ -27,6 +27,8 @@ class ByteString_copyToBuffer_Benchmark {
   val bss_large = ByteStrings(Vector.fill(4)(bs_large.asInstanceOf[ByteString1C].toByteString1), 4 * bs_large.length)
   val bss_pc_large = bss_large.compact
 
+  val dbs_large = ByteString.fromByteBufferUnsafe(ByteBuffer.allocateDirect(1024 * 4 * 4))
+
   val buf = ByteBuffer.allocate(1024 * 4 * 4)
 
   /*
@@ -89,4 +91,11 @@ class ByteString_copyToBuffer_Benchmark {
     buf.flip()
     bss_pc_large.copyToBuffer(buf)
   }
+
+  /** Backed by a direct buffer */
+  @Benchmark
+  def dbs_large_copyToBuffer(): Int = {
+    buf.flip()
+    dbs_large.copyToBuffer(buf)
+  }
 }
@@ -3,6 +3,7 @@
  */
 package akka.util
 
+import java.nio.ByteBuffer
 import java.nio.charset.Charset
 import java.util.concurrent.TimeUnit
 
@@ -19,6 +20,7 @@ class ByteString_decode_Benchmark {
 
   val bss_large = ByteStrings(Vector.fill(4)(bs_large.asInstanceOf[ByteString1C].toByteString1), 4 * bs_large.length)
   val bc_large = bss_large.compact // compacted
+  val dbs_large = ByteString.fromByteBufferUnsafe(ByteBuffer.allocateDirect(1024 * 4 * 4)) // direct buffer
 
   val utf8String = "utf-8"
   val utf8 = Charset.forName(utf8String)
@@ -60,5 +62,8 @@ class ByteString_decode_Benchmark {
   @Benchmark
   def bss_large_decodeString_charsetCharset_utf8: String =
     bss_large.decodeString(utf8)
+  @Benchmark
+  def dbs_large_decodeString_charsetCharset_utf8: String =
+    dbs_large.decodeString(utf8)
 
 }
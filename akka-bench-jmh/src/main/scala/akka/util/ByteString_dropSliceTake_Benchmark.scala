@@ -26,6 +26,9 @@ class ByteString_dropSliceTake_Benchmark {
   val bss_large = ByteStrings(Vector.fill(4)(bs_large.asInstanceOf[ByteString1C].toByteString1), 4 * bs_large.length)
   val bss_pc_large = bss_large.compact
 
+  // backed by a direct buffer, sliced without copying
+  val dbs_large = ByteString.fromByteBufferUnsafe(ByteBuffer.allocateDirect(1024 * 4 * 4))
+
   /*
    --------------------------------- BASELINE -------------------------------------------------------------------- 
    [info] Benchmark                                                         Mode  Cnt            Score         Error  Units
@@ -97,6 +100,9 @@ class ByteString_dropSliceTake_Benchmark {
   @Benchmark
   def bss_large_drop_100: ByteString =
     bss_large.drop(100)
+  @Benchmark
+  def dbs_large_drop_100: ByteString =
+    dbs_large.drop(100)
 
   @Benchmark
   def bs_large_drop_256: ByteString =
@@ -120,6 +126,9 @@ class ByteString_dropSliceTake_Benchmark {
   @Benchmark
   def bss_large_slice_129_129: ByteString =
     bss_large.slice(129, 129)
+  @Benchmark
+  def dbs_large_slice_129_129: ByteString =
+    dbs_large.slice(129, 129)
 
   /* these only move the indexes, don't drop any arrays "happy case" */
 
@@ -138,6 +147,9 @@ class ByteString_dropSliceTake_Benchmark {
   @Benchmark
   def bss_large_dropRight_100: ByteString =
     bss_large.dropRight(100)
+  @Benchmark
+  def dbs_large_dropRight_100: ByteString =
+    dbs_large.dropRight(100)
 
   @Benchmark
   def bs_large_dropRight_256: ByteString =
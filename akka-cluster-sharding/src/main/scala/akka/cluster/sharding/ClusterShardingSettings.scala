@@ -7,6 +7,7 @@ import scala.concurrent.duration._
 import scala.concurrent.duration.FiniteDuration
 import akka.actor.ActorSystem
 import akka.actor.NoSerializationVerificationNeeded
+import akka.util.Helpers.toRootLowerCase
 import com.typesafe.config.Config
 import akka.cluster.singleton.ClusterSingletonManagerSettings
 
@@ -45,12 +46,21 @@ object ClusterShardingSettings {
 
     val coordinatorSingletonSettings = ClusterSingletonManagerSettings(config.getConfig("coordinator-singleton"))
 
+    val passivateIdleEntityAfter = {
+      val key = "passivate-idle-entity-after"
+      toRootLowerCase(config.getString(key)) match {
+        case "off" ⇒ Duration.Zero
+        case _     ⇒ config.getDuration(key, MILLISECONDS).millis
+      }
+    }
+
     new ClusterShardingSettings(
       role = roleOption(config.getString("role")),
       rememberEntities = config.getBoolean("remember-entities"),
       journalPluginId = config.getString("journal-plugin-id"),
       snapshotPluginId = config.getString("snapshot-plugin-id"),
       stateStoreMode = config.getString("state-store-mode"),
+      passivateIdleEntityAfter = passivateIdleEntityAfter,
       tuningParameters,
       coordinatorSingletonSettings)
   }
@@ -144,6 +154,10 @@ object ClusterShardingSettings {
  *   be used for the internal persistence of ClusterSharding. If not defined the default
  *   snapshot plugin is used. Note that this is not related to persistence used by the entity
  *   actors.
+ * @param passivateIdleEntityAfter Passivate entities that have not received any message in this interval.
+ *   Note that only messages sent through sharding are counted, so direct messages
+ *   to the `ActorRef` of the actor or messages that it sends to itself are not counted as activity.
+ *   Use 0 to disable automatic passivation. It is always disabled if `rememberEntities` is enabled.
  * @param tuningParameters additional tuning parameters, see descriptions in reference.conf
  */
 final class ClusterShardingSettings(
@@ -152,13 +166,30 @@ final class ClusterShardingSettings(
   val journalPluginId:              String,
   val snapshotPluginId:             String,
   val stateStoreMode:               String,
+  val passivateIdleEntityAfter:     FiniteDuration,
   val tuningParameters:             ClusterShardingSettings.TuningParameters,
   val coordinatorSingletonSettings: ClusterSingletonManagerSettings) extends NoSerializationVerificationNeeded {
 
+  // included for binary compatibility
+  def this(
+    role:                         Option[String],
+    rememberEntities:             Boolean,
+    journalPluginId:              String,
+    snapshotPluginId:             String,
+    stateStoreMode:               String,
+    tuningParameters:             ClusterShardingSettings.TuningParameters,
+    coordinatorSingletonSettings: ClusterSingletonManagerSettings) =
+    this(role, rememberEntities, journalPluginId, snapshotPluginId, stateStoreMode, Duration.Zero,
+      tuningParameters, coordinatorSingletonSettings)
+
   require(
     stateStoreMode == "persistence" || stateStoreMode == "ddata",
     s"Unknown 'state-store-mode' [$stateStoreMode], valid values are 'persistence' or 'ddata'")
 
+  /** INTERNAL API */
+  private[akka] def shouldPassivateIdleEntities: Boolean =
+    passivateIdleEntityAfter > Duration.Zero && !rememberEntities
+
   def withRole(role: String): ClusterShardingSettings = copy(role = ClusterShardingSettings.roleOption(role))
 
   def withRole(role: Option[String]): ClusterShardingSettings = copy(role = role)
@@ -178,6 +209,9 @@ final class ClusterShardingSettings(
   def withStateStoreMode(stateStoreMode: String): ClusterShardingSettings =
     copy(stateStoreMode = stateStoreMode)
 
+  def withPassivateIdleAfter(duration: FiniteDuration): ClusterShardingSettings =
+    copy(passivateIdleEntityAfter = duration)
+
   /**
    * The `role` of the `ClusterSingletonManagerSettings` is not used. The `role` of the
    * coordinator singleton will be the same as the `role` of `ClusterShardingSettings`.
@@ -191,6 +225,7 @@ final class ClusterShardingSettings(
     journalPluginId:              String                                   = journalPluginId,
     snapshotPluginId:             String                                   = snapshotPluginId,
     stateStoreMode:               String                                   = stateStoreMode,
+    passivateIdleEntityAfter:     FiniteDuration                           = passivateIdleEntityAfter,
     tuningParameters:             ClusterShardingSettings.TuningParameters = tuningParameters,
     coordinatorSingletonSettings: ClusterSingletonManagerSettings          = coordinatorSingletonSettings): ClusterShardingSettings =
     new ClusterShardingSettings(
@@ -199,6 +234,7 @@ final class ClusterShardingSettings(
       journalPluginId,
       snapshotPluginId,
       stateStoreMode,
+      passivateIdleEntityAfter,
       tuningParameters,
       coordinatorSingletonSettings)
 }
@@ -44,6 +44,12 @@ private[akka] object Shard {
    */
   final case class RestartEntities(entity: Set[EntityId]) extends ShardCommand
 
+  /**
+   * Periodic tick to passivate entities that have not received any messages
+   * within `passivate-idle-entity-after`.
+   */
+  case object PassivateIdleTick extends ShardCommand
+
   /**
    * A case class which represents a state change for the Shard
    */
@@ -125,7 +131,7 @@ private[akka] class Shard(
 
   import ShardRegion.{ handOffStopperProps, EntityId, Msg, Passivate, ShardInitialized }
   import ShardCoordinator.Internal.{ HandOff, ShardStopped }
-  import Shard.{ State, RestartEntity, RestartEntities, EntityStopped, EntityStarted }
+  import Shard.{ State, RestartEntity, RestartEntities, EntityStopped, EntityStarted, PassivateIdleTick }
   import Shard.{ ShardQuery, GetCurrentShardState, CurrentShardState, GetShardStats, ShardStats }
   import akka.cluster.sharding.ShardCoordinator.Internal.CoordinatorMessage
   import akka.cluster.sharding.ShardRegion.ShardRegionCommand
@@ -139,6 +145,15 @@ private[akka] class Shard(
 
   var handOffStopper: Option[ActorRef] = None
 
+  // time of the last message delivered to each entity, only maintained when idle entities are passivated
+  var lastMessageTimestamp = Map.empty[EntityId, Long]
+
+  val passivateIdleTask = if (settings.shouldPassivateIdleEntities) {
+    val idleInterval = settings.passivateIdleEntityAfter / 2
+    import context.dispatcher
+    Some(context.system.scheduler.schedule(idleInterval, idleInterval, self, PassivateIdleTick))
+  } else None
+
   initialized()
 
   def initialized(): Unit = context.parent ! ShardInitialized(shardId)
@@ -148,6 +163,11 @@ private[akka] class Shard(
   def processChange[A](event: A)(handler: A ⇒ Unit): Unit =
     handler(event)
 
+  override def postStop(): Unit = {
+    passivateIdleTask.foreach(_.cancel())
+    super.postStop()
+  }
+
   def receive = receiveCommand
 
   def receiveCommand: Receive = {
@@ -162,6 +182,7 @@ private[akka] class Shard(
   def receiveShardCommand(msg: ShardCommand): Unit = msg match {
     case RestartEntity(id)    ⇒ getEntity(id)
     case RestartEntities(ids) ⇒ ids foreach getEntity
+    case PassivateIdleTick    ⇒ passivateIdleEntities()
   }
 
   def receiveShardRegionCommand(msg: ShardRegionCommand): Unit = msg match {
@@ -231,6 +252,17 @@ private[akka] class Shard(
     }
   }
 
+  def passivateIdleEntities(): Unit = {
+    val deadline = System.nanoTime() - settings.passivateIdleEntityAfter.toNanos
+    val refsToPassivate = lastMessageTimestamp.collect {
+      case (entityId, lastMessage) if lastMessage - deadline < 0 ⇒ refById(entityId)
+    }
+    if (refsToPassivate.nonEmpty) {
+      log.debug("Passivating [{}] idle entities", refsToPassivate.size)
+      refsToPassivate.foreach(passivate(_, handOffStopMessage))
+    }
+  }
+
   // EntityStopped handler
   def passivateCompleted(event: EntityStopped): Unit = {
     log.debug("Entity stopped [{}]", event.entityId)
@@ -241,6 +273,7 @@ private[akka] class Shard(
 
     state = state.copy(state.entities - event.entityId)
     messageBuffers = messageBuffers - event.entityId
+    lastMessageTimestamp -= event.entityId
   }
 
   // EntityStarted handler
@@ -282,6 +315,7 @@ private[akka] class Shard(
   }
 
   def deliverTo(id: EntityId, msg: Any, payload: Msg, snd: ActorRef): Unit = {
+    touchLastMessageTimestamp(id)
     val name = URLEncoder.encode(id, "utf-8")
     context.child(name) match {
       case Some(actor) ⇒ actor.tell(payload, snd)
@@ -289,6 +323,10 @@ private[akka] class Shard(
     }
   }
 
+  def touchLastMessageTimestamp(id: EntityId): Unit =
+    if (passivateIdleTask.isDefined)
+      lastMessageTimestamp = lastMessageTimestamp.updated(id, System.nanoTime())
+
   def getEntity(id: EntityId): ActorRef = {
     val name = URLEncoder.encode(id, "utf-8")
     context.child(name).getOrElse {
@@ -298,6 +336,7 @@ private[akka] class Shard(
       idByRef = idByRef.updated(a, id)
       refById = refById.updated(id, a)
       state = state.copy(state.entities + id)
+      touchLastMessageTimestamp(id)
       a
     }
   }
@@ -0,0 +1,92 @@
+/**
+ * Copyright (C) 2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+package akka.cluster.sharding
+
+import scala.concurrent.duration._
+
+import akka.actor.Actor
+import akka.actor.ActorRef
+import akka.actor.Props
+import akka.cluster.Cluster
+import akka.testkit.AkkaSpec
+import akka.testkit.TestProbe
+
+object InactiveEntityPassivationSpec {
+  val config = """
+    akka.loglevel = INFO
+    akka.actor.provider = "cluster"
+    akka.remote.netty.tcp.port = 0
+    akka.remote.artery.canonical.port = 0
+    akka.cluster.sharding.state-store-mode = ddata
+    """
+
+  case object Stop
+  final case class GotIt(id: String, msg: Any)
+
+  class Entity(probe: ActorRef) extends Actor {
+    def receive = {
+      case Stop ⇒
+        probe ! s"${self.path.name} passivated"
+        context.stop(self)
+      case msg ⇒
+        probe ! GotIt(self.path.name, msg)
+    }
+  }
+
+  val extractEntityId: ShardRegion.ExtractEntityId = {
+    case msg: Int ⇒ (msg.toString, msg)
+  }
+
+  val extractShardId: ShardRegion.ExtractShardId = {
+    case msg: Int ⇒ (msg % 10).toString
+  }
+}
+
+class InactiveEntityPassivationSpec extends AkkaSpec(InactiveEntityPassivationSpec.config) {
+  import InactiveEntityPassivationSpec._
+
+  "Passivation of inactive entities" must {
+
+    "be disabled by default" in {
+      val settings = ClusterShardingSettings(system)
+      settings.passivateIdleEntityAfter should ===(Duration.Zero)
+      settings.shouldPassivateIdleEntities should ===(false)
+    }
+
+    "passivate entities when they haven't seen messages for the configured duration" in {
+      Cluster(system).join(Cluster(system).selfAddress)
+      val probe = TestProbe()
+      val settings = ClusterShardingSettings(system).withPassivateIdleAfter(1.second)
+      val allocationStrategy = new ShardCoordinator.LeastShardAllocationStrategy(rebalanceThreshold = 10, maxSimultaneousRebalance = 3)
+      val region = ClusterSharding(system).start(
+        "myType", Props(classOf[Entity], probe.ref), settings, extractEntityId, extractShardId, allocationStrategy, Stop)
+
+      val start = System.nanoTime()
+      region ! 1
+      region ! 2
+      Set(probe.expectMsgType[GotIt].id, probe.expectMsgType[GotIt].id) should ===(Set("1", "2"))
+
+      // keep entity 2 active while entity 1 is idle
+      import system.dispatcher
+      val keepAlive = system.scheduler.schedule(200.millis, 200.millis, region, 2)
+      try {
+        probe.fishForMessage(5.seconds) {
+          case GotIt("2", _)  ⇒ false
+          case "1 passivated" ⇒ true
+        }
+        (System.nanoTime() - start).nanos should be >= 1.second
+      } finally keepAlive.cancel()
+
+      // entity 2 is passivated when it no longer receives messages
+      probe.fishForMessage(5.seconds) {
+        case GotIt("2", _)  ⇒ false
+        case "2 passivated" ⇒ true
+      }
+
+      // and started again on demand
+      region ! 1
+      probe.expectMsg(GotIt("1", 1))
+    }
+  }
+}
@@ -20,6 +20,7 @@ import akka.routing.RoutingLogic
 import akka.routing.Routee
 import akka.routing.ActorRefRoutee
 import akka.routing.Router
+import akka.routing.SeveralRoutees
 import akka.routing.RouterEnvelope
 import akka.routing.RoundRobinRoutingLogic
 import akka.routing.ConsistentHashingRoutingLogic
@@ -27,6 +28,8 @@ import akka.routing.BroadcastRoutingLogic
 import scala.collection.immutable.TreeMap
 import com.typesafe.config.Config
 import akka.dispatch.Dispatchers
+import akka.remote.RemoteActorRef
+import akka.remote.SerializedOnce
 
 object DistributedPubSubSettings {
   /**
@@ -714,7 +717,7 @@ class DistributedPubSubMediator(settings: DistributedPubSubSettings) extends Act
       ref ← valueHolder.ref
     } yield ref
     if (refs.isEmpty) sendToDeadLetters(msg)
-    else refs.foreach(_.forward(msg))
+    else forwardToAll(refs, msg)
   }
 
   def publishToEachGroup(path: String, msg: Any): Unit = {
@@ -730,11 +733,30 @@ class DistributedPubSubMediator(settings: DistributedPubSubSettings) extends Act
     if (groups.isEmpty) sendToDeadLetters(msg)
     else {
       val wrappedMsg = SendToOneSubscriber(msg)
-      groups foreach {
+      val refs = groups flatMap {
         group ⇒
-          val routees = group.map(_._2).toVector
-          if (routees.nonEmpty)
-            Router(routingLogic, routees).route(wrappedMsg, sender())
+          routingLogic.select(wrappedMsg, group.map(_._2).toVector) match {
+            case ActorRefRoutee(ref)     ⇒ ref :: Nil
+            case SeveralRoutees(routees) ⇒ routees.collect { case ActorRefRoutee(ref) ⇒ ref }
+            case _                       ⇒ Nil
+          }
+      }
+      forwardToAll(refs, wrappedMsg)
+    }
+  }
+
+  /**
+   * When the message is sent to more than one remote actor it is wrapped in a [[akka.remote.SerializedOnce]],
+   * so that the remote transport serializes it only once for all of them, instead of once per destination.
+   */
+  private def forwardToAll(refs: Iterable[ActorRef], msg: Any): Unit = {
+    def isRemote(ref: ActorRef): Boolean = ref.isInstanceOf[RemoteActorRef]
+    if (refs.count(isRemote) <= 1) refs.foreach(_.forward(msg))
+    else {
+      val serializedOnce = new SerializedOnce(msg.asInstanceOf[AnyRef])
+      refs.foreach { ref ⇒
+        if (isRemote(ref)) ref.forward(serializedOnce)
+        else ref.forward(msg)
       }
     }
   }
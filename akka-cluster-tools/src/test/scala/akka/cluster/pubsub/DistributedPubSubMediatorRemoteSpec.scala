@@ -0,0 +1,158 @@
+/**
+ * Copyright (C) 2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+package akka.cluster.pubsub
+
+import java.util.concurrent.atomic.AtomicInteger
+
+import scala.concurrent.duration._
+
+import akka.actor.{ ActorSystem, ExtendedActorSystem }
+import akka.cluster.Cluster
+import akka.cluster.MemberStatus
+import akka.serialization.{ SerializationExtension, SerializerWithStringManifest }
+import akka.testkit.{ AkkaSpec, TestProbe }
+import com.typesafe.config.{ Config, ConfigFactory }
+
+object DistributedPubSubMediatorRemoteSpec {
+  final case class Counted(s: String)
+
+  class CountingSerializer(val system: ExtendedActorSystem) extends SerializerWithStringManifest {
+    val toBinaryCount = new AtomicInteger
+    override def identifier: Int = 4713
+    override def manifest(o: AnyRef): String = "C"
+    override def toBinary(o: AnyRef): Array[Byte] = {
+      toBinaryCount.incrementAndGet()
+      o.asInstanceOf[Counted].s.getBytes("UTF-8")
+    }
+    override def fromBinary(bytes: Array[Byte], manifest: String): AnyRef = Counted(new String(bytes, "UTF-8"))
+  }
+
+  val commonConfig = ConfigFactory.parseString("""
+    akka.loglevel = INFO
+    akka.actor {
+      provider = "cluster"
+      # only count the serialization for the remote subscribers
+      serialize-messages = off
+      # protobuf serialization of SendToOneSubscriber, which serializes the payload with its own serializer
+      enable-additional-serialization-bindings = on
+      serializers.counting = "akka.cluster.pubsub.DistributedPubSubMediatorRemoteSpec$CountingSerializer"
+      serialization-bindings {
+        "akka.cluster.pubsub.DistributedPubSubMediatorRemoteSpec$Counted" = counting
+      }
+    }
+    akka.remote.log-remote-lifecycle-events = off
+    akka.cluster.pub-sub.gossip-interval = 100ms
+    """)
+}
+
+class DistributedPubSubMediatorRemoteSpec extends AbstractDistributedPubSubMediatorRemoteSpec(
+  ConfigFactory.parseString("""
+    akka.remote.netty.tcp {
+      hostname = "127.0.0.1"
+      port = 0
+    }
+    """).withFallback(DistributedPubSubMediatorRemoteSpec.commonConfig))
+
+class ArteryDistributedPubSubMediatorRemoteSpec extends AbstractDistributedPubSubMediatorRemoteSpec(
+  ConfigFactory.parseString("""
+    akka.remote.artery {
+      enabled = on
+      transport = tcp
+      canonical {
+        hostname = "127.0.0.1"
+        port = 0
+      }
+    }
+    """).withFallback(DistributedPubSubMediatorRemoteSpec.commonConfig))
+
+abstract class AbstractDistributedPubSubMediatorRemoteSpec(config: Config) extends AkkaSpec(config) {
+  import DistributedPubSubMediator._
+  import DistributedPubSubMediatorRemoteSpec._
+
+  val sys2 = ActorSystem(system.name, system.settings.config)
+  val sys3 = ActorSystem(system.name, system.settings.config)
+
+  val mediator = DistributedPubSub(system).mediator
+
+  def toBinaryCount: Int =
+    SerializationExtension(system).serializerFor(classOf[Counted]).asInstanceOf[CountingSerializer].toBinaryCount.get
+
+  def join(from: ActorSystem): Unit =
+    within(10.seconds) {
+      awaitAssert {
+        Cluster(from) join Cluster(system).selfAddress
+        Cluster(from).state.members.map(_.status) should ===(Set(MemberStatus.Up))
+      }
+    }
+
+  def subscribe(sys: ActorSystem, topic: String, group: Option[String]): TestProbe = {
+    val subscriber = TestProbe()(sys)
+    DistributedPubSub(sys).mediator.tell(Subscribe(topic, group, subscriber.ref), subscriber.ref)
+    subscriber.expectMsgType[SubscribeAck]
+    subscriber
+  }
+
+  def awaitCount(expected: Int): Unit =
+    within(10.seconds) {
+      awaitAssert {
+        val probe = TestProbe()
+        mediator.tell(Count, probe.ref)
+        probe.expectMsg(expected)
+      }
+    }
+
+  "A DistributedPubSubMediator with remote subscribers" must {
+
+    "form the cluster" in {
+      join(system)
+      join(sys2)
+      join(sys3)
+      within(10.seconds) {
+        awaitAssert {
+          Cluster(system).state.members.count(_.status == MemberStatus.Up) should ===(3)
+        }
+      }
+    }
+
+    "serialize a published message once for all remote subscribers" in {
+      val subscriber1 = subscribe(system, "topic1", None)
+      val subscriber2 = subscribe(sys2, "topic1", None)
+      val subscriber3 = subscribe(sys3, "topic1", None)
+      awaitCount(3)
+
+      val before = toBinaryCount
+      (1 to 10) foreach { n ⇒
+        mediator ! Publish("topic1", Counted(s"msg-$n"))
+      }
+      (1 to 10) foreach { n ⇒
+        subscriber1.expectMsg(Counted(s"msg-$n"))
+        subscriber2.expectMsg(Counted(s"msg-$n"))
+        subscriber3.expectMsg(Counted(s"msg-$n"))
+      }
+      toBinaryCount - before should ===(10)
+    }
+
+    "serialize a message published to each group once for all remote groups" in {
+      val subscriber2 = subscribe(sys2, "topic2", Some("group2"))
+      val subscriber3 = subscribe(sys3, "topic2", Some("group3"))
+      // topic1 of each node, and topic2 with a group on sys2 and sys3
+      awaitCount(3 + 4)
+
+      val before = toBinaryCount
+      (1 to 10) foreach { n ⇒
+        mediator ! Publish("topic2", Counted(s"msg-$n"), sendOneMessageToEachGroup = true)
+      }
+      (1 to 10) foreach { n ⇒
+        subscriber2.expectMsg(Counted(s"msg-$n"))
+        subscriber3.expectMsg(Counted(s"msg-$n"))
+      }
+      toBinaryCount - before should ===(10)
+    }
+  }
+
+  override def afterTermination(): Unit = {
+    shutdown(sys2)
+    shutdown(sys3)
+  }
+}
@@ -3454,6 +3454,3822 @@ public final class ClusterMessages {
     // @@protoc_insertion_point(class_scope:GossipStatus)
   }
 
+  public interface GossipDeltaEnvelopeOrBuilder
+      extends akka.protobuf.MessageOrBuilder {
+
+    // required .UniqueAddress from = 1;
+    /**
+     * <code>required .UniqueAddress from = 1;</code>
+     */
+    boolean hasFrom();
+    /**
+     * <code>required .UniqueAddress from = 1;</code>
+     */
+    akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress getFrom();
+    /**
+     * <code>required .UniqueAddress from = 1;</code>
+     */
+    akka.cluster.protobuf.msg.ClusterMessages.UniqueAddressOrBuilder getFromOrBuilder();
+
+    // required .UniqueAddress to = 2;
+    /**
+     * <code>required .UniqueAddress to = 2;</code>
+     */
+    boolean hasTo();
+    /**
+     * <code>required .UniqueAddress to = 2;</code>
+     */
+    akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress getTo();
+    /**
+     * <code>required .UniqueAddress to = 2;</code>
+     */
+    akka.cluster.protobuf.msg.ClusterMessages.UniqueAddressOrBuilder getToOrBuilder();
+
+    // required .GossipDelta delta = 3;
+    /**
+     * <code>required .GossipDelta delta = 3;</code>
+     */
+    boolean hasDelta();
+    /**
+     * <code>required .GossipDelta delta = 3;</code>
+     */
+    akka.cluster.protobuf.msg.ClusterMessages.GossipDelta getDelta();
+    /**
+     * <code>required .GossipDelta delta = 3;</code>
+     */
+    akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaOrBuilder getDeltaOrBuilder();
+  }
+  /**
+   * Protobuf type {@code GossipDeltaEnvelope}
+   *
+   * <pre>
+   **
+   * Gossip Delta Envelope
+   * </pre>
+   */
+  public static final class GossipDeltaEnvelope extends
+      akka.protobuf.GeneratedMessage
+      implements GossipDeltaEnvelopeOrBuilder {
+    // Use GossipDeltaEnvelope.newBuilder() to construct.
+    private GossipDeltaEnvelope(akka.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private GossipDeltaEnvelope(boolean noInit) { this.unknownFields = akka.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final GossipDeltaEnvelope defaultInstance;
+    public static GossipDeltaEnvelope getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public GossipDeltaEnvelope getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final akka.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final akka.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GossipDeltaEnvelope(
+        akka.protobuf.CodedInputStream input,
+        akka.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws akka.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      akka.protobuf.UnknownFieldSet.Builder unknownFields =
+          akka.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = from_.toBuilder();
+              }
+              from_ = input.readMessage(akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(from_);
+                from_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000001;
+              break;
+            }
+            case 18: {
+              akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) == 0x00000002)) {
+                subBuilder = to_.toBuilder();
+              }
+              to_ = input.readMessage(akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(to_);
+                to_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000002;
+              break;
+            }
+            case 26: {
+              akka.cluster.protobuf.msg.ClusterMessages.GossipDelta.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000004) == 0x00000004)) {
+                subBuilder = delta_.toBuilder();
+              }
+              delta_ = input.readMessage(akka.cluster.protobuf.msg.ClusterMessages.GossipDelta.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(delta_);
+                delta_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000004;
+              break;
+            }
+          }
+        }
+      } catch (akka.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new akka.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final akka.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return akka.cluster.protobuf.msg.ClusterMessages.internal_static_GossipDeltaEnvelope_descriptor;
+    }
+
+    protected akka.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return akka.cluster.protobuf.msg.ClusterMessages.internal_static_GossipDeltaEnvelope_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaEnvelope.class, akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaEnvelope.Builder.class);
+    }
+
+    public static akka.protobuf.Parser<GossipDeltaEnvelope> PARSER =
+        new akka.protobuf.AbstractParser<GossipDeltaEnvelope>() {
+      public GossipDeltaEnvelope parsePartialFrom(
+          akka.protobuf.CodedInputStream input,
+          akka.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws akka.protobuf.InvalidProtocolBufferException {
+        return new GossipDeltaEnvelope(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public akka.protobuf.Parser<GossipDeltaEnvelope> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required .UniqueAddress from = 1;
+    public static final int FROM_FIELD_NUMBER = 1;
+    private akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress from_;
+    /**
+     * <code>required .UniqueAddress from = 1;</code>
+     */
+    public boolean hasFrom() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required .UniqueAddress from = 1;</code>
+     */
+    public akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress getFrom() {
+      return from_;
+    }
+    /**
+     * <code>required .UniqueAddress from = 1;</code>
+     */
+    public akka.cluster.protobuf.msg.ClusterMessages.UniqueAddressOrBuilder getFromOrBuilder() {
+      return from_;
+    }
+
+    // required .UniqueAddress to = 2;
+    public static final int TO_FIELD_NUMBER = 2;
+    private akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress to_;
+    /**
+     * <code>required .UniqueAddress to = 2;</code>
+     */
+    public boolean hasTo() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required .UniqueAddress to = 2;</code>
+     */
+    public akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress getTo() {
+      return to_;
+    }
+    /**
+     * <code>required .UniqueAddress to = 2;</code>
+     */
+    public akka.cluster.protobuf.msg.ClusterMessages.UniqueAddressOrBuilder getToOrBuilder() {
+      return to_;
+    }
+
+    // required .GossipDelta delta = 3;
+    public static final int DELTA_FIELD_NUMBER = 3;
+    private akka.cluster.protobuf.msg.ClusterMessages.GossipDelta delta_;
+    /**
+     * <code>required .GossipDelta delta = 3;</code>
+     */
+    public boolean hasDelta() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required .GossipDelta delta = 3;</code>
+     */
+    public akka.cluster.protobuf.msg.ClusterMessages.GossipDelta getDelta() {
+      return delta_;
+    }
+    /**
+     * <code>required .GossipDelta delta = 3;</code>
+     */
+    public akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaOrBuilder getDeltaOrBuilder() {
+      return delta_;
+    }
+
+    private void initFields() {
+      from_ = akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.getDefaultInstance();
+      to_ = akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.getDefaultInstance();
+      delta_ = akka.cluster.protobuf.msg.ClusterMessages.GossipDelta.getDefaultInstance();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasFrom()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasTo()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasDelta()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getFrom().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getTo().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getDelta().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(akka.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(1, from_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeMessage(2, to_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeMessage(3, delta_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += akka.protobuf.CodedOutputStream
+          .computeMessageSize(1, from_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += akka.protobuf.CodedOutputStream
+          .computeMessageSize(2, to_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += akka.protobuf.CodedOutputStream
+          .computeMessageSize(3, delta_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaEnvelope parseFrom(
+        akka.protobuf.ByteString data)
+        throws akka.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaEnvelope parseFrom(
+        akka.protobuf.ByteString data,
+        akka.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws akka.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaEnvelope parseFrom(byte[] data)
+        throws akka.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaEnvelope parseFrom(
+        byte[] data,
+        akka.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws akka.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaEnvelope parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaEnvelope parseFrom(
+        java.io.InputStream input,
+        akka.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaEnvelope parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaEnvelope parseDelimitedFrom(
+        java.io.InputStream input,
+        akka.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaEnvelope parseFrom(
+        akka.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaEnvelope parseFrom(
+        akka.protobuf.CodedInputStream input,
+        akka.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaEnvelope prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        akka.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code GossipDeltaEnvelope}
+     *
+     * <pre>
+     **
+     * Gossip Delta Envelope
+     * </pre>
+     */
+    public static final class Builder extends
+        akka.protobuf.GeneratedMessage.Builder<Builder>
+       implements akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaEnvelopeOrBuilder {
+      public static final akka.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return akka.cluster.protobuf.msg.ClusterMessages.internal_static_GossipDeltaEnvelope_descriptor;
+      }
+
+      protected akka.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return akka.cluster.protobuf.msg.ClusterMessages.internal_static_GossipDeltaEnvelope_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaEnvelope.class, akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaEnvelope.Builder.class);
+      }
+
+      // Construct using akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaEnvelope.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          akka.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (akka.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getFromFieldBuilder();
+          getToFieldBuilder();
+          getDeltaFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (fromBuilder_ == null) {
+          from_ = akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.getDefaultInstance();
+        } else {
+          fromBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (toBuilder_ == null) {
+          to_ = akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.getDefaultInstance();
+        } else {
+          toBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (deltaBuilder_ == null) {
+          delta_ = akka.cluster.protobuf.msg.ClusterMessages.GossipDelta.getDefaultInstance();
+        } else {
+          deltaBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public akka.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return akka.cluster.protobuf.msg.ClusterMessages.internal_static_GossipDeltaEnvelope_descriptor;
+      }
+
+      public akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaEnvelope getDefaultInstanceForType() {
+        return akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaEnvelope.getDefaultInstance();
+      }
+
+      public akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaEnvelope build() {
+        akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaEnvelope result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaEnvelope buildPartial() {
+        akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaEnvelope result = new akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaEnvelope(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        if (fromBuilder_ == null) {
+          result.from_ = from_;
+        } else {
+          result.from_ = fromBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        if (toBuilder_ == null) {
+          result.to_ = to_;
+        } else {
+          result.to_ = toBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        if (deltaBuilder_ == null) {
+          result.delta_ = delta_;
+        } else {
+          result.delta_ = deltaBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(akka.protobuf.Message other) {
+        if (other instanceof akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaEnvelope) {
+          return mergeFrom((akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaEnvelope)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaEnvelope other) {
+        if (other == akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaEnvelope.getDefaultInstance()) return this;
+        if (other.hasFrom()) {
+          mergeFrom(other.getFrom());
+        }
+        if (other.hasTo()) {
+          mergeTo(other.getTo());
+        }
+        if (other.hasDelta()) {
+          mergeDelta(other.getDelta());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasFrom()) {
+          
+          return false;
+        }
+        if (!hasTo()) {
+          
+          return false;
+        }
+        if (!hasDelta()) {
+          
+          return false;
+        }
+        if (!getFrom().isInitialized()) {
+          
+          return false;
+        }
+        if (!getTo().isInitialized()) {
+          
+          return false;
+        }
+        if (!getDelta().isInitialized()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          akka.protobuf.CodedInputStream input,
+          akka.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaEnvelope parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (akka.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaEnvelope) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required .UniqueAddress from = 1;
+      private akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress from_ = akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.getDefaultInstance();
+      private akka.protobuf.SingleFieldBuilder<
+          akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress, akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.Builder, akka.cluster.protobuf.msg.ClusterMessages.UniqueAddressOrBuilder> fromBuilder_;
+      /**
+       * <code>required .UniqueAddress from = 1;</code>
+       */
+      public boolean hasFrom() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required .UniqueAddress from = 1;</code>
+       */
+      public akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress getFrom() {
+        if (fromBuilder_ == null) {
+          return from_;
+        } else {
+          return fromBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>required .UniqueAddress from = 1;</code>
+       */
+      public Builder setFrom(akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress value) {
+        if (fromBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          from_ = value;
+          onChanged();
+        } else {
+          fromBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .UniqueAddress from = 1;</code>
+       */
+      public Builder setFrom(
+          akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.Builder builderForValue) {
+        if (fromBuilder_ == null) {
+          from_ = builderForValue.build();
+          onChanged();
+        } else {
+          fromBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .UniqueAddress from = 1;</code>
+       */
+      public Builder mergeFrom(akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress value) {
+        if (fromBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              from_ != akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.getDefaultInstance()) {
+            from_ =
+              akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.newBuilder(from_).mergeFrom(value).buildPartial();
+          } else {
+            from_ = value;
+          }
+          onChanged();
+        } else {
+          fromBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .UniqueAddress from = 1;</code>
+       */
+      public Builder clearFrom() {
+        if (fromBuilder_ == null) {
+          from_ = akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.getDefaultInstance();
+          onChanged();
+        } else {
+          fromBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+      /**
+       * <code>required .UniqueAddress from = 1;</code>
+       */
+      public akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.Builder getFromBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getFromFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .UniqueAddress from = 1;</code>
+       */
+      public akka.cluster.protobuf.msg.ClusterMessages.UniqueAddressOrBuilder getFromOrBuilder() {
+        if (fromBuilder_ != null) {
+          return fromBuilder_.getMessageOrBuilder();
+        } else {
+          return from_;
+        }
+      }
+      /**
+       * <code>required .UniqueAddress from = 1;</code>
+       */
+      private akka.protobuf.SingleFieldBuilder<
+          akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress, akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.Builder, akka.cluster.protobuf.msg.ClusterMessages.UniqueAddressOrBuilder> 
+          getFromFieldBuilder() {
+        if (fromBuilder_ == null) {
+          fromBuilder_ = new akka.protobuf.SingleFieldBuilder<
+              akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress, akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.Builder, akka.cluster.protobuf.msg.ClusterMessages.UniqueAddressOrBuilder>(
+                  from_,
+                  getParentForChildren(),
+                  isClean());
+          from_ = null;
+        }
+        return fromBuilder_;
+      }
+
+      // required .UniqueAddress to = 2;
+      private akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress to_ = akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.getDefaultInstance();
+      private akka.protobuf.SingleFieldBuilder<
+          akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress, akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.Builder, akka.cluster.protobuf.msg.ClusterMessages.UniqueAddressOrBuilder> toBuilder_;
+      /**
+       * <code>required .UniqueAddress to = 2;</code>
+       */
+      public boolean hasTo() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required .UniqueAddress to = 2;</code>
+       */
+      public akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress getTo() {
+        if (toBuilder_ == null) {
+          return to_;
+        } else {
+          return toBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>required .UniqueAddress to = 2;</code>
+       */
+      public Builder setTo(akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress value) {
+        if (toBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          to_ = value;
+          onChanged();
+        } else {
+          toBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>required .UniqueAddress to = 2;</code>
+       */
+      public Builder setTo(
+          akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.Builder builderForValue) {
+        if (toBuilder_ == null) {
+          to_ = builderForValue.build();
+          onChanged();
+        } else {
+          toBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>required .UniqueAddress to = 2;</code>
+       */
+      public Builder mergeTo(akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress value) {
+        if (toBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002) &&
+              to_ != akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.getDefaultInstance()) {
+            to_ =
+              akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.newBuilder(to_).mergeFrom(value).buildPartial();
+          } else {
+            to_ = value;
+          }
+          onChanged();
+        } else {
+          toBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>required .UniqueAddress to = 2;</code>
+       */
+      public Builder clearTo() {
+        if (toBuilder_ == null) {
+          to_ = akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.getDefaultInstance();
+          onChanged();
+        } else {
+          toBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+      /**
+       * <code>required .UniqueAddress to = 2;</code>
+       */
+      public akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.Builder getToBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getToFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .UniqueAddress to = 2;</code>
+       */
+      public akka.cluster.protobuf.msg.ClusterMessages.UniqueAddressOrBuilder getToOrBuilder() {
+        if (toBuilder_ != null) {
+          return toBuilder_.getMessageOrBuilder();
+        } else {
+          return to_;
+        }
+      }
+      /**
+       * <code>required .UniqueAddress to = 2;</code>
+       */
+      private akka.protobuf.SingleFieldBuilder<
+          akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress, akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.Builder, akka.cluster.protobuf.msg.ClusterMessages.UniqueAddressOrBuilder> 
+          getToFieldBuilder() {
+        if (toBuilder_ == null) {
+          toBuilder_ = new akka.protobuf.SingleFieldBuilder<
+              akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress, akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.Builder, akka.cluster.protobuf.msg.ClusterMessages.UniqueAddressOrBuilder>(
+                  to_,
+                  getParentForChildren(),
+                  isClean());
+          to_ = null;
+        }
+        return toBuilder_;
+      }
+
+      // required .GossipDelta delta = 3;
+      private akka.cluster.protobuf.msg.ClusterMessages.GossipDelta delta_ = akka.cluster.protobuf.msg.ClusterMessages.GossipDelta.getDefaultInstance();
+      private akka.protobuf.SingleFieldBuilder<
+          akka.cluster.protobuf.msg.ClusterMessages.GossipDelta, akka.cluster.protobuf.msg.ClusterMessages.GossipDelta.Builder, akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaOrBuilder> deltaBuilder_;
+      /**
+       * <code>required .GossipDelta delta = 3;</code>
+       */
+      public boolean hasDelta() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required .GossipDelta delta = 3;</code>
+       */
+      public akka.cluster.protobuf.msg.ClusterMessages.GossipDelta getDelta() {
+        if (deltaBuilder_ == null) {
+          return delta_;
+        } else {
+          return deltaBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>required .GossipDelta delta = 3;</code>
+       */
+      public Builder setDelta(akka.cluster.protobuf.msg.ClusterMessages.GossipDelta value) {
+        if (deltaBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          delta_ = value;
+          onChanged();
+        } else {
+          deltaBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>required .GossipDelta delta = 3;</code>
+       */
+      public Builder setDelta(
+          akka.cluster.protobuf.msg.ClusterMessages.GossipDelta.Builder builderForValue) {
+        if (deltaBuilder_ == null) {
+          delta_ = builderForValue.build();
+          onChanged();
+        } else {
+          deltaBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>required .GossipDelta delta = 3;</code>
+       */
+      public Builder mergeDelta(akka.cluster.protobuf.msg.ClusterMessages.GossipDelta value) {
+        if (deltaBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004) &&
+              delta_ != akka.cluster.protobuf.msg.ClusterMessages.GossipDelta.getDefaultInstance()) {
+            delta_ =
+              akka.cluster.protobuf.msg.ClusterMessages.GossipDelta.newBuilder(delta_).mergeFrom(value).buildPartial();
+          } else {
+            delta_ = value;
+          }
+          onChanged();
+        } else {
+          deltaBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>required .GossipDelta delta = 3;</code>
+       */
+      public Builder clearDelta() {
+        if (deltaBuilder_ == null) {
+          delta_ = akka.cluster.protobuf.msg.ClusterMessages.GossipDelta.getDefaultInstance();
+          onChanged();
+        } else {
+          deltaBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+      /**
+       * <code>required .GossipDelta delta = 3;</code>
+       */
+      public akka.cluster.protobuf.msg.ClusterMessages.GossipDelta.Builder getDeltaBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getDeltaFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .GossipDelta delta = 3;</code>
+       */
+      public akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaOrBuilder getDeltaOrBuilder() {
+        if (deltaBuilder_ != null) {
+          return deltaBuilder_.getMessageOrBuilder();
+        } else {
+          return delta_;
+        }
+      }
+      /**
+       * <code>required .GossipDelta delta = 3;</code>
+       */
+      private akka.protobuf.SingleFieldBuilder<
+          akka.cluster.protobuf.msg.ClusterMessages.GossipDelta, akka.cluster.protobuf.msg.ClusterMessages.GossipDelta.Builder, akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaOrBuilder> 
+          getDeltaFieldBuilder() {
+        if (deltaBuilder_ == null) {
+          deltaBuilder_ = new akka.protobuf.SingleFieldBuilder<
+              akka.cluster.protobuf.msg.ClusterMessages.GossipDelta, akka.cluster.protobuf.msg.ClusterMessages.GossipDelta.Builder, akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaOrBuilder>(
+                  delta_,
+                  getParentForChildren(),
+                  isClean());
+          delta_ = null;
+        }
+        return deltaBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:GossipDeltaEnvelope)
+    }
+
+    static {
+      defaultInstance = new GossipDeltaEnvelope(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:GossipDeltaEnvelope)
+  }
+
+  public interface GossipDeltaOrBuilder
+      extends akka.protobuf.MessageOrBuilder {
+
+    // repeated .UniqueAddress allAddresses = 1;
+    /**
+     * <code>repeated .UniqueAddress allAddresses = 1;</code>
+     */
+    java.util.List<akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress> 
+        getAllAddressesList();
+    /**
+     * <code>repeated .UniqueAddress allAddresses = 1;</code>
+     */
+    akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress getAllAddresses(int index);
+    /**
+     * <code>repeated .UniqueAddress allAddresses = 1;</code>
+     */
+    int getAllAddressesCount();
+    /**
+     * <code>repeated .UniqueAddress allAddresses = 1;</code>
+     */
+    java.util.List<? extends akka.cluster.protobuf.msg.ClusterMessages.UniqueAddressOrBuilder> 
+        getAllAddressesOrBuilderList();
+    /**
+     * <code>repeated .UniqueAddress allAddresses = 1;</code>
+     */
+    akka.cluster.protobuf.msg.ClusterMessages.UniqueAddressOrBuilder getAllAddressesOrBuilder(
+        int index);
+
+    // repeated string allRoles = 2;
+    /**
+     * <code>repeated string allRoles = 2;</code>
+     */
+    java.util.List<java.lang.String>
+    getAllRolesList();
+    /**
+     * <code>repeated string allRoles = 2;</code>
+     */
+    int getAllRolesCount();
+    /**
+     * <code>repeated string allRoles = 2;</code>
+     */
+    java.lang.String getAllRoles(int index);
+    /**
+     * <code>repeated string allRoles = 2;</code>
+     */
+    akka.protobuf.ByteString
+        getAllRolesBytes(int index);
+
+    // repeated string allHashes = 3;
+    /**
+     * <code>repeated string allHashes = 3;</code>
+     */
+    java.util.List<java.lang.String>
+    getAllHashesList();
+    /**
+     * <code>repeated string allHashes = 3;</code>
+     */
+    int getAllHashesCount();
+    /**
+     * <code>repeated string allHashes = 3;</code>
+     */
+    java.lang.String getAllHashes(int index);
+    /**
+     * <code>repeated string allHashes = 3;</code>
+     */
+    akka.protobuf.ByteString
+        getAllHashesBytes(int index);
+
+    // required .VectorClock baseVersion = 4;
+    /**
+     * <code>required .VectorClock baseVersion = 4;</code>
+     */
+    boolean hasBaseVersion();
+    /**
+     * <code>required .VectorClock baseVersion = 4;</code>
+     */
+    akka.cluster.protobuf.msg.ClusterMessages.VectorClock getBaseVersion();
+    /**
+     * <code>required .VectorClock baseVersion = 4;</code>
+     */
+    akka.cluster.protobuf.msg.ClusterMessages.VectorClockOrBuilder getBaseVersionOrBuilder();
+
+    // required .VectorClock version = 5;
+    /**
+     * <code>required .VectorClock version = 5;</code>
+     */
+    boolean hasVersion();
+    /**
+     * <code>required .VectorClock version = 5;</code>
+     */
+    akka.cluster.protobuf.msg.ClusterMessages.VectorClock getVersion();
+    /**
+     * <code>required .VectorClock version = 5;</code>
+     */
+    akka.cluster.protobuf.msg.ClusterMessages.VectorClockOrBuilder getVersionOrBuilder();
+
+    // repeated .Member changedMembers = 6;
+    /**
+     * <code>repeated .Member changedMembers = 6;</code>
+     */
+    java.util.List<akka.cluster.protobuf.msg.ClusterMessages.Member> 
+        getChangedMembersList();
+    /**
+     * <code>repeated .Member changedMembers = 6;</code>
+     */
+    akka.cluster.protobuf.msg.ClusterMessages.Member getChangedMembers(int index);
+    /**
+     * <code>repeated .Member changedMembers = 6;</code>
+     */
+    int getChangedMembersCount();
+    /**
+     * <code>repeated .Member changedMembers = 6;</code>
+     */
+    java.util.List<? extends akka.cluster.protobuf.msg.ClusterMessages.MemberOrBuilder> 
+        getChangedMembersOrBuilderList();
+    /**
+     * <code>repeated .Member changedMembers = 6;</code>
+     */
+    akka.cluster.protobuf.msg.ClusterMessages.MemberOrBuilder getChangedMembersOrBuilder(
+        int index);
+
+    // repeated int32 removedMembers = 7;
+    /**
+     * <code>repeated int32 removedMembers = 7;</code>
+     *
+     * <pre>
+     * These are address indexes 
+     * </pre>
+     */
+    java.util.List<java.lang.Integer> getRemovedMembersList();
+    /**
+     * <code>repeated int32 removedMembers = 7;</code>
+     *
+     * <pre>
+     * These are address indexes 
+     * </pre>
+     */
+    int getRemovedMembersCount();
+    /**
+     * <code>repeated int32 removedMembers = 7;</code>
+     *
+     * <pre>
+     * These are address indexes 
+     * </pre>
+     */
+    int getRemovedMembers(int index);
+
+    // repeated .ObserverReachability changedReachability = 8;
+    /**
+     * <code>repeated .ObserverReachability changedReachability = 8;</code>
+     */
+    java.util.List<akka.cluster.protobuf.msg.ClusterMessages.ObserverReachability> 
+        getChangedReachabilityList();
+    /**
+     * <code>repeated .ObserverReachability changedReachability = 8;</code>
+     */
+    akka.cluster.protobuf.msg.ClusterMessages.ObserverReachability getChangedReachability(int index);
+    /**
+     * <code>repeated .ObserverReachability changedReachability = 8;</code>
+     */
+    int getChangedReachabilityCount();
+    /**
+     * <code>repeated .ObserverReachability changedReachability = 8;</code>
+     */
+    java.util.List<? extends akka.cluster.protobuf.msg.ClusterMessages.ObserverReachabilityOrBuilder> 
+        getChangedReachabilityOrBuilderList();
+    /**
+     * <code>repeated .ObserverReachability changedReachability = 8;</code>
+     */
+    akka.cluster.protobuf.msg.ClusterMessages.ObserverReachabilityOrBuilder getChangedReachabilityOrBuilder(
+        int index);
+
+    // repeated int32 removedObservers = 9;
+    /**
+     * <code>repeated int32 removedObservers = 9;</code>
+     *
+     * <pre>
+     * These are address indexes 
+     * </pre>
+     */
+    java.util.List<java.lang.Integer> getRemovedObserversList();
+    /**
+     * <code>repeated int32 removedObservers = 9;</code>
+     *
+     * <pre>
+     * These are address indexes 
+     * </pre>
+     */
+    int getRemovedObserversCount();
+    /**
+     * <code>repeated int32 removedObservers = 9;</code>
+     *
+     * <pre>
+     * These are address indexes 
+     * </pre>
+     */
+    int getRemovedObservers(int index);
+
+    // repeated fixed64 seen = 10 [packed = true];
+    /**
+     * <code>repeated fixed64 seen = 10 [packed = true];</code>
+     *
+     * <pre>
+     * Bit mask of the positions of the nodes that have seen the gossip in the sorted members 
+     * </pre>
+     */
+    java.util.List<java.lang.Long> getSeenList();
+    /**
+     * <code>repeated fixed64 seen = 10 [packed = true];</code>
+     *
+     * <pre>
+     * Bit mask of the positions of the nodes that have seen the gossip in the sorted members 
+     * </pre>
+     */
+    int getSeenCount();
+    /**
+     * <code>repeated fixed64 seen = 10 [packed = true];</code>
+     *
+     * <pre>
+     * Bit mask of the positions of the nodes that have seen the gossip in the sorted members 
+     * </pre>
+     */
+    long getSeen(int index);
+  }
+  /**
+   * Protobuf type {@code GossipDelta}
+   *
+   * <pre>
+   **
+   * Gossip Delta, the changes since the version that the receiver is known to have
+   * </pre>
+   */
+  public static final class GossipDelta extends
+      akka.protobuf.GeneratedMessage
+      implements GossipDeltaOrBuilder {
+    // Use GossipDelta.newBuilder() to construct.
+    private GossipDelta(akka.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private GossipDelta(boolean noInit) { this.unknownFields = akka.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final GossipDelta defaultInstance;
+    public static GossipDelta getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public GossipDelta getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final akka.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final akka.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GossipDelta(
+        akka.protobuf.CodedInputStream input,
+        akka.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws akka.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      akka.protobuf.UnknownFieldSet.Builder unknownFields =
+          akka.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                allAddresses_ = new java.util.ArrayList<akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              allAddresses_.add(input.readMessage(akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.PARSER, extensionRegistry));
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                allRoles_ = new akka.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              allRoles_.add(input.readBytes());
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                allHashes_ = new akka.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              allHashes_.add(input.readBytes());
+              break;
+            }
+            case 34: {
+              akka.cluster.protobuf.msg.ClusterMessages.VectorClock.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = baseVersion_.toBuilder();
+              }
+              baseVersion_ = input.readMessage(akka.cluster.protobuf.msg.ClusterMessages.VectorClock.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(baseVersion_);
+                baseVersion_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000001;
+              break;
+            }
+            case 42: {
+              akka.cluster.protobuf.msg.ClusterMessages.VectorClock.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) == 0x00000002)) {
+                subBuilder = version_.toBuilder();
+              }
+              version_ = input.readMessage(akka.cluster.protobuf.msg.ClusterMessages.VectorClock.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(version_);
+                version_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000002;
+              break;
+            }
+            case 50: {
+              if (!((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+                changedMembers_ = new java.util.ArrayList<akka.cluster.protobuf.msg.ClusterMessages.Member>();
+                mutable_bitField0_ |= 0x00000020;
+              }
+              changedMembers_.add(input.readMessage(akka.cluster.protobuf.msg.ClusterMessages.Member.PARSER, extensionRegistry));
+              break;
+            }
+            case 56: {
+              if (!((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
+                removedMembers_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000040;
+              }
+              removedMembers_.add(input.readInt32());
+              break;
+            }
+            case 58: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000040) == 0x00000040) && input.getBytesUntilLimit() > 0) {
+                removedMembers_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000040;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                removedMembers_.add(input.readInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 66: {
+              if (!((mutable_bitField0_ & 0x00000080) == 0x00000080)) {
+                changedReachability_ = new java.util.ArrayList<akka.cluster.protobuf.msg.ClusterMessages.ObserverReachability>();
+                mutable_bitField0_ |= 0x00000080;
+              }
+              changedReachability_.add(input.readMessage(akka.cluster.protobuf.msg.ClusterMessages.ObserverReachability.PARSER, extensionRegistry));
+              break;
+            }
+            case 72: {
+              if (!((mutable_bitField0_ & 0x00000100) == 0x00000100)) {
+                removedObservers_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000100;
+              }
+              removedObservers_.add(input.readInt32());
+              break;
+            }
+            case 74: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000100) == 0x00000100) && input.getBytesUntilLimit() > 0) {
+                removedObservers_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000100;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                removedObservers_.add(input.readInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 81: {
+              if (!((mutable_bitField0_ & 0x00000200) == 0x00000200)) {
+                seen_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000200;
+              }
+              seen_.add(input.readFixed64());
+              break;
+            }
+            case 82: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000200) == 0x00000200) && input.getBytesUntilLimit() > 0) {
+                seen_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000200;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                seen_.add(input.readFixed64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+          }
+        }
+      } catch (akka.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new akka.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          allAddresses_ = java.util.Collections.unmodifiableList(allAddresses_);
+        }
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          allRoles_ = new akka.protobuf.UnmodifiableLazyStringList(allRoles_);
+        }
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          allHashes_ = new akka.protobuf.UnmodifiableLazyStringList(allHashes_);
+        }
+        if (((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+          changedMembers_ = java.util.Collections.unmodifiableList(changedMembers_);
+        }
+        if (((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
+          removedMembers_ = java.util.Collections.unmodifiableList(removedMembers_);
+        }
+        if (((mutable_bitField0_ & 0x00000080) == 0x00000080)) {
+          changedReachability_ = java.util.Collections.unmodifiableList(changedReachability_);
+        }
+        if (((mutable_bitField0_ & 0x00000100) == 0x00000100)) {
+          removedObservers_ = java.util.Collections.unmodifiableList(removedObservers_);
+        }
+        if (((mutable_bitField0_ & 0x00000200) == 0x00000200)) {
+          seen_ = java.util.Collections.unmodifiableList(seen_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final akka.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return akka.cluster.protobuf.msg.ClusterMessages.internal_static_GossipDelta_descriptor;
+    }
+
+    protected akka.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return akka.cluster.protobuf.msg.ClusterMessages.internal_static_GossipDelta_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              akka.cluster.protobuf.msg.ClusterMessages.GossipDelta.class, akka.cluster.protobuf.msg.ClusterMessages.GossipDelta.Builder.class);
+    }
+
+    public static akka.protobuf.Parser<GossipDelta> PARSER =
+        new akka.protobuf.AbstractParser<GossipDelta>() {
+      public GossipDelta parsePartialFrom(
+          akka.protobuf.CodedInputStream input,
+          akka.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws akka.protobuf.InvalidProtocolBufferException {
+        return new GossipDelta(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public akka.protobuf.Parser<GossipDelta> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // repeated .UniqueAddress allAddresses = 1;
+    public static final int ALLADDRESSES_FIELD_NUMBER = 1;
+    private java.util.List<akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress> allAddresses_;
+    /**
+     * <code>repeated .UniqueAddress allAddresses = 1;</code>
+     */
+    public java.util.List<akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress> getAllAddressesList() {
+      return allAddresses_;
+    }
+    /**
+     * <code>repeated .UniqueAddress allAddresses = 1;</code>
+     */
+    public java.util.List<? extends akka.cluster.protobuf.msg.ClusterMessages.UniqueAddressOrBuilder> 
+        getAllAddressesOrBuilderList() {
+      return allAddresses_;
+    }
+    /**
+     * <code>repeated .UniqueAddress allAddresses = 1;</code>
+     */
+    public int getAllAddressesCount() {
+      return allAddresses_.size();
+    }
+    /**
+     * <code>repeated .UniqueAddress allAddresses = 1;</code>
+     */
+    public akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress getAllAddresses(int index) {
+      return allAddresses_.get(index);
+    }
+    /**
+     * <code>repeated .UniqueAddress allAddresses = 1;</code>
+     */
+    public akka.cluster.protobuf.msg.ClusterMessages.UniqueAddressOrBuilder getAllAddressesOrBuilder(
+        int index) {
+      return allAddresses_.get(index);
+    }
+
+    // repeated string allRoles = 2;
+    public static final int ALLROLES_FIELD_NUMBER = 2;
+    private akka.protobuf.LazyStringList allRoles_;
+    /**
+     * <code>repeated string allRoles = 2;</code>
+     */
+    public java.util.List<java.lang.String>
+        getAllRolesList() {
+      return allRoles_;
+    }
+    /**
+     * <code>repeated string allRoles = 2;</code>
+     */
+    public int getAllRolesCount() {
+      return allRoles_.size();
+    }
+    /**
+     * <code>repeated string allRoles = 2;</code>
+     */
+    public java.lang.String getAllRoles(int index) {
+      return allRoles_.get(index);
+    }
+    /**
+     * <code>repeated string allRoles = 2;</code>
+     */
+    public akka.protobuf.ByteString
+        getAllRolesBytes(int index) {
+      return allRoles_.getByteString(index);
+    }
+
+    // repeated string allHashes = 3;
+    public static final int ALLHASHES_FIELD_NUMBER = 3;
+    private akka.protobuf.LazyStringList allHashes_;
+    /**
+     * <code>repeated string allHashes = 3;</code>
+     */
+    public java.util.List<java.lang.String>
+        getAllHashesList() {
+      return allHashes_;
+    }
+    /**
+     * <code>repeated string allHashes = 3;</code>
+     */
+    public int getAllHashesCount() {
+      return allHashes_.size();
+    }
+    /**
+     * <code>repeated string allHashes = 3;</code>
+     */
+    public java.lang.String getAllHashes(int index) {
+      return allHashes_.get(index);
+    }
+    /**
+     * <code>repeated string allHashes = 3;</code>
+     */
+    public akka.protobuf.ByteString
+        getAllHashesBytes(int index) {
+      return allHashes_.getByteString(index);
+    }
+
+    // required .VectorClock baseVersion = 4;
+    public static final int BASEVERSION_FIELD_NUMBER = 4;
+    private akka.cluster.protobuf.msg.ClusterMessages.VectorClock baseVersion_;
+    /**
+     * <code>required .VectorClock baseVersion = 4;</code>
+     */
+    public boolean hasBaseVersion() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required .VectorClock baseVersion = 4;</code>
+     */
+    public akka.cluster.protobuf.msg.ClusterMessages.VectorClock getBaseVersion() {
+      return baseVersion_;
+    }
+    /**
+     * <code>required .VectorClock baseVersion = 4;</code>
+     */
+    public akka.cluster.protobuf.msg.ClusterMessages.VectorClockOrBuilder getBaseVersionOrBuilder() {
+      return baseVersion_;
+    }
+
+    // required .VectorClock version = 5;
+    public static final int VERSION_FIELD_NUMBER = 5;
+    private akka.cluster.protobuf.msg.ClusterMessages.VectorClock version_;
+    /**
+     * <code>required .VectorClock version = 5;</code>
+     */
+    public boolean hasVersion() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required .VectorClock version = 5;</code>
+     */
+    public akka.cluster.protobuf.msg.ClusterMessages.VectorClock getVersion() {
+      return version_;
+    }
+    /**
+     * <code>required .VectorClock version = 5;</code>
+     */
+    public akka.cluster.protobuf.msg.ClusterMessages.VectorClockOrBuilder getVersionOrBuilder() {
+      return version_;
+    }
+
+    // repeated .Member changedMembers = 6;
+    public static final int CHANGEDMEMBERS_FIELD_NUMBER = 6;
+    private java.util.List<akka.cluster.protobuf.msg.ClusterMessages.Member> changedMembers_;
+    /**
+     * <code>repeated .Member changedMembers = 6;</code>
+     */
+    public java.util.List<akka.cluster.protobuf.msg.ClusterMessages.Member> getChangedMembersList() {
+      return changedMembers_;
+    }
+    /**
+     * <code>repeated .Member changedMembers = 6;</code>
+     */
+    public java.util.List<? extends akka.cluster.protobuf.msg.ClusterMessages.MemberOrBuilder> 
+        getChangedMembersOrBuilderList() {
+      return changedMembers_;
+    }
+    /**
+     * <code>repeated .Member changedMembers = 6;</code>
+     */
+    public int getChangedMembersCount() {
+      return changedMembers_.size();
+    }
+    /**
+     * <code>repeated .Member changedMembers = 6;</code>
+     */
+    public akka.cluster.protobuf.msg.ClusterMessages.Member getChangedMembers(int index) {
+      return changedMembers_.get(index);
+    }
+    /**
+     * <code>repeated .Member changedMembers = 6;</code>
+     */
+    public akka.cluster.protobuf.msg.ClusterMessages.MemberOrBuilder getChangedMembersOrBuilder(
+        int index) {
+      return changedMembers_.get(index);
+    }
+
+    // repeated int32 removedMembers = 7;
+    public static final int REMOVEDMEMBERS_FIELD_NUMBER = 7;
+    private java.util.List<java.lang.Integer> removedMembers_;
+    /**
+     * <code>repeated int32 removedMembers = 7;</code>
+     *
+     * <pre>
+     * These are address indexes 
+     * </pre>
+     */
+    public java.util.List<java.lang.Integer>
+        getRemovedMembersList() {
+      return removedMembers_;
+    }
+    /**
+     * <code>repeated int32 removedMembers = 7;</code>
+     *
+     * <pre>
+     * These are address indexes 
+     * </pre>
+     */
+    public int getRemovedMembersCount() {
+      return removedMembers_.size();
+    }
+    /**
+     * <code>repeated int32 removedMembers = 7;</code>
+     *
+     * <pre>
+     * These are address indexes 
+     * </pre>
+     */
+    public int getRemovedMembers(int index) {
+      return removedMembers_.get(index);
+    }
+
+    // repeated .ObserverReachability changedReachability = 8;
+    public static final int CHANGEDREACHABILITY_FIELD_NUMBER = 8;
+    private java.util.List<akka.cluster.protobuf.msg.ClusterMessages.ObserverReachability> changedReachability_;
+    /**
+     * <code>repeated .ObserverReachability changedReachability = 8;</code>
+     */
+    public java.util.List<akka.cluster.protobuf.msg.ClusterMessages.ObserverReachability> getChangedReachabilityList() {
+      return changedReachability_;
+    }
+    /**
+     * <code>repeated .ObserverReachability changedReachability = 8;</code>
+     */
+    public java.util.List<? extends akka.cluster.protobuf.msg.ClusterMessages.ObserverReachabilityOrBuilder> 
+        getChangedReachabilityOrBuilderList() {
+      return changedReachability_;
+    }
+    /**
+     * <code>repeated .ObserverReachability changedReachability = 8;</code>
+     */
+    public int getChangedReachabilityCount() {
+      return changedReachability_.size();
+    }
+    /**
+     * <code>repeated .ObserverReachability changedReachability = 8;</code>
+     */
+    public akka.cluster.protobuf.msg.ClusterMessages.ObserverReachability getChangedReachability(int index) {
+      return changedReachability_.get(index);
+    }
+    /**
+     * <code>repeated .ObserverReachability changedReachability = 8;</code>
+     */
+    public akka.cluster.protobuf.msg.ClusterMessages.ObserverReachabilityOrBuilder getChangedReachabilityOrBuilder(
+        int index) {
+      return changedReachability_.get(index);
+    }
+
+    // repeated int32 removedObservers = 9;
+    public static final int REMOVEDOBSERVERS_FIELD_NUMBER = 9;
+    private java.util.List<java.lang.Integer> removedObservers_;
+    /**
+     * <code>repeated int32 removedObservers = 9;</code>
+     *
+     * <pre>
+     * These are address indexes 
+     * </pre>
+     */
+    public java.util.List<java.lang.Integer>
+        getRemovedObserversList() {
+      return removedObservers_;
+    }
+    /**
+     * <code>repeated int32 removedObservers = 9;</code>
+     *
+     * <pre>
+     * These are address indexes 
+     * </pre>
+     */
+    public int getRemovedObserversCount() {
+      return removedObservers_.size();
+    }
+    /**
+     * <code>repeated int32 removedObservers = 9;</code>
+     *
+     * <pre>
+     * These are address indexes 
+     * </pre>
+     */
+    public int getRemovedObservers(int index) {
+      return removedObservers_.get(index);
+    }
+
+    // repeated fixed64 seen = 10 [packed = true];
+    public static final int SEEN_FIELD_NUMBER = 10;
+    private java.util.List<java.lang.Long> seen_;
+    /**
+     * <code>repeated fixed64 seen = 10 [packed = true];</code>
+     *
+     * <pre>
+     * Bit mask of the positions of the nodes that have seen the gossip in the sorted members 
+     * </pre>
+     */
+    public java.util.List<java.lang.Long>
+        getSeenList() {
+      return seen_;
+    }
+    /**
+     * <code>repeated fixed64 seen = 10 [packed = true];</code>
+     *
+     * <pre>
+     * Bit mask of the positions of the nodes that have seen the gossip in the sorted members 
+     * </pre>
+     */
+    public int getSeenCount() {
+      return seen_.size();
+    }
+    /**
+     * <code>repeated fixed64 seen = 10 [packed = true];</code>
+     *
+     * <pre>
+     * Bit mask of the positions of the nodes that have seen the gossip in the sorted members 
+     * </pre>
+     */
+    public long getSeen(int index) {
+      return seen_.get(index);
+    }
+    private int seenMemoizedSerializedSize = -1;
+
+    private void initFields() {
+      allAddresses_ = java.util.Collections.emptyList();
+      allRoles_ = akka.protobuf.LazyStringArrayList.EMPTY;
+      allHashes_ = akka.protobuf.LazyStringArrayList.EMPTY;
+      baseVersion_ = akka.cluster.protobuf.msg.ClusterMessages.VectorClock.getDefaultInstance();
+      version_ = akka.cluster.protobuf.msg.ClusterMessages.VectorClock.getDefaultInstance();
+      changedMembers_ = java.util.Collections.emptyList();
+      removedMembers_ = java.util.Collections.emptyList();
+      changedReachability_ = java.util.Collections.emptyList();
+      removedObservers_ = java.util.Collections.emptyList();
+      seen_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasBaseVersion()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasVersion()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      for (int i = 0; i < getAllAddressesCount(); i++) {
+        if (!getAllAddresses(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (!getBaseVersion().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getVersion().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      for (int i = 0; i < getChangedMembersCount(); i++) {
+        if (!getChangedMembers(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getChangedReachabilityCount(); i++) {
+        if (!getChangedReachability(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(akka.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < allAddresses_.size(); i++) {
+        output.writeMessage(1, allAddresses_.get(i));
+      }
+      for (int i = 0; i < allRoles_.size(); i++) {
+        output.writeBytes(2, allRoles_.getByteString(i));
+      }
+      for (int i = 0; i < allHashes_.size(); i++) {
+        output.writeBytes(3, allHashes_.getByteString(i));
+      }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(4, baseVersion_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeMessage(5, version_);
+      }
+      for (int i = 0; i < changedMembers_.size(); i++) {
+        output.writeMessage(6, changedMembers_.get(i));
+      }
+      for (int i = 0; i < removedMembers_.size(); i++) {
+        output.writeInt32(7, removedMembers_.get(i));
+      }
+      for (int i = 0; i < changedReachability_.size(); i++) {
+        output.writeMessage(8, changedReachability_.get(i));
+      }
+      for (int i = 0; i < removedObservers_.size(); i++) {
+        output.writeInt32(9, removedObservers_.get(i));
+      }
+      if (getSeenList().size() > 0) {
+        output.writeRawVarint32(82);
+        output.writeRawVarint32(seenMemoizedSerializedSize);
+      }
+      for (int i = 0; i < seen_.size(); i++) {
+        output.writeFixed64NoTag(seen_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < allAddresses_.size(); i++) {
+        size += akka.protobuf.CodedOutputStream
+          .computeMessageSize(1, allAddresses_.get(i));
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < allRoles_.size(); i++) {
+          dataSize += akka.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(allRoles_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getAllRolesList().size();
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < allHashes_.size(); i++) {
+          dataSize += akka.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(allHashes_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getAllHashesList().size();
+      }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += akka.protobuf.CodedOutputStream
+          .computeMessageSize(4, baseVersion_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += akka.protobuf.CodedOutputStream
+          .computeMessageSize(5, version_);
+      }
+      for (int i = 0; i < changedMembers_.size(); i++) {
+        size += akka.protobuf.CodedOutputStream
+          .computeMessageSize(6, changedMembers_.get(i));
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < removedMembers_.size(); i++) {
+          dataSize += akka.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(removedMembers_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getRemovedMembersList().size();
+      }
+      for (int i = 0; i < changedReachability_.size(); i++) {
+        size += akka.protobuf.CodedOutputStream
+          .computeMessageSize(8, changedReachability_.get(i));
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < removedObservers_.size(); i++) {
+          dataSize += akka.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(removedObservers_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getRemovedObserversList().size();
+      }
+      {
+        int dataSize = 0;
+        dataSize = 8 * getSeenList().size();
+        size += dataSize;
+        if (!getSeenList().isEmpty()) {
+          size += 1;
+          size += akka.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        seenMemoizedSerializedSize = dataSize;
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static akka.cluster.protobuf.msg.ClusterMessages.GossipDelta parseFrom(
+        akka.protobuf.ByteString data)
+        throws akka.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static akka.cluster.protobuf.msg.ClusterMessages.GossipDelta parseFrom(
+        akka.protobuf.ByteString data,
+        akka.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws akka.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static akka.cluster.protobuf.msg.ClusterMessages.GossipDelta parseFrom(byte[] data)
+        throws akka.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static akka.cluster.protobuf.msg.ClusterMessages.GossipDelta parseFrom(
+        byte[] data,
+        akka.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws akka.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static akka.cluster.protobuf.msg.ClusterMessages.GossipDelta parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static akka.cluster.protobuf.msg.ClusterMessages.GossipDelta parseFrom(
+        java.io.InputStream input,
+        akka.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static akka.cluster.protobuf.msg.ClusterMessages.GossipDelta parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static akka.cluster.protobuf.msg.ClusterMessages.GossipDelta parseDelimitedFrom(
+        java.io.InputStream input,
+        akka.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static akka.cluster.protobuf.msg.ClusterMessages.GossipDelta parseFrom(
+        akka.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static akka.cluster.protobuf.msg.ClusterMessages.GossipDelta parseFrom(
+        akka.protobuf.CodedInputStream input,
+        akka.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(akka.cluster.protobuf.msg.ClusterMessages.GossipDelta prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        akka.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code GossipDelta}
+     *
+     * <pre>
+     **
+     * Gossip Delta, the changes since the version that the receiver is known to have
+     * </pre>
+     */
+    public static final class Builder extends
+        akka.protobuf.GeneratedMessage.Builder<Builder>
+       implements akka.cluster.protobuf.msg.ClusterMessages.GossipDeltaOrBuilder {
+      public static final akka.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return akka.cluster.protobuf.msg.ClusterMessages.internal_static_GossipDelta_descriptor;
+      }
+
+      protected akka.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return akka.cluster.protobuf.msg.ClusterMessages.internal_static_GossipDelta_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                akka.cluster.protobuf.msg.ClusterMessages.GossipDelta.class, akka.cluster.protobuf.msg.ClusterMessages.GossipDelta.Builder.class);
+      }
+
+      // Construct using akka.cluster.protobuf.msg.ClusterMessages.GossipDelta.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          akka.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (akka.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getAllAddressesFieldBuilder();
+          getBaseVersionFieldBuilder();
+          getVersionFieldBuilder();
+          getChangedMembersFieldBuilder();
+          getChangedReachabilityFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (allAddressesBuilder_ == null) {
+          allAddresses_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          allAddressesBuilder_.clear();
+        }
+        allRoles_ = akka.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        allHashes_ = akka.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        if (baseVersionBuilder_ == null) {
+          baseVersion_ = akka.cluster.protobuf.msg.ClusterMessages.VectorClock.getDefaultInstance();
+        } else {
+          baseVersionBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        if (versionBuilder_ == null) {
+          version_ = akka.cluster.protobuf.msg.ClusterMessages.VectorClock.getDefaultInstance();
+        } else {
+          versionBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        if (changedMembersBuilder_ == null) {
+          changedMembers_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+        } else {
+          changedMembersBuilder_.clear();
+        }
+        removedMembers_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000040);
+        if (changedReachabilityBuilder_ == null) {
+          changedReachability_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000080);
+        } else {
+          changedReachabilityBuilder_.clear();
+        }
+        removedObservers_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000100);
+        seen_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000200);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public akka.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return akka.cluster.protobuf.msg.ClusterMessages.internal_static_GossipDelta_descriptor;
+      }
+
+      public akka.cluster.protobuf.msg.ClusterMessages.GossipDelta getDefaultInstanceForType() {
+        return akka.cluster.protobuf.msg.ClusterMessages.GossipDelta.getDefaultInstance();
+      }
+
+      public akka.cluster.protobuf.msg.ClusterMessages.GossipDelta build() {
+        akka.cluster.protobuf.msg.ClusterMessages.GossipDelta result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public akka.cluster.protobuf.msg.ClusterMessages.GossipDelta buildPartial() {
+        akka.cluster.protobuf.msg.ClusterMessages.GossipDelta result = new akka.cluster.protobuf.msg.ClusterMessages.GossipDelta(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (allAddressesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            allAddresses_ = java.util.Collections.unmodifiableList(allAddresses_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.allAddresses_ = allAddresses_;
+        } else {
+          result.allAddresses_ = allAddressesBuilder_.build();
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          allRoles_ = new akka.protobuf.UnmodifiableLazyStringList(
+              allRoles_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.allRoles_ = allRoles_;
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          allHashes_ = new akka.protobuf.UnmodifiableLazyStringList(
+              allHashes_);
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.allHashes_ = allHashes_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        if (baseVersionBuilder_ == null) {
+          result.baseVersion_ = baseVersion_;
+        } else {
+          result.baseVersion_ = baseVersionBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        if (versionBuilder_ == null) {
+          result.version_ = version_;
+        } else {
+          result.version_ = versionBuilder_.build();
+        }
+        if (changedMembersBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) == 0x00000020)) {
+            changedMembers_ = java.util.Collections.unmodifiableList(changedMembers_);
+            bitField0_ = (bitField0_ & ~0x00000020);
+          }
+          result.changedMembers_ = changedMembers_;
+        } else {
+          result.changedMembers_ = changedMembersBuilder_.build();
+        }
+        if (((bitField0_ & 0x00000040) == 0x00000040)) {
+          removedMembers_ = java.util.Collections.unmodifiableList(removedMembers_);
+          bitField0_ = (bitField0_ & ~0x00000040);
+        }
+        result.removedMembers_ = removedMembers_;
+        if (changedReachabilityBuilder_ == null) {
+          if (((bitField0_ & 0x00000080) == 0x00000080)) {
+            changedReachability_ = java.util.Collections.unmodifiableList(changedReachability_);
+            bitField0_ = (bitField0_ & ~0x00000080);
+          }
+          result.changedReachability_ = changedReachability_;
+        } else {
+          result.changedReachability_ = changedReachabilityBuilder_.build();
+        }
+        if (((bitField0_ & 0x00000100) == 0x00000100)) {
+          removedObservers_ = java.util.Collections.unmodifiableList(removedObservers_);
+          bitField0_ = (bitField0_ & ~0x00000100);
+        }
+        result.removedObservers_ = removedObservers_;
+        if (((bitField0_ & 0x00000200) == 0x00000200)) {
+          seen_ = java.util.Collections.unmodifiableList(seen_);
+          bitField0_ = (bitField0_ & ~0x00000200);
+        }
+        result.seen_ = seen_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(akka.protobuf.Message other) {
+        if (other instanceof akka.cluster.protobuf.msg.ClusterMessages.GossipDelta) {
+          return mergeFrom((akka.cluster.protobuf.msg.ClusterMessages.GossipDelta)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(akka.cluster.protobuf.msg.ClusterMessages.GossipDelta other) {
+        if (other == akka.cluster.protobuf.msg.ClusterMessages.GossipDelta.getDefaultInstance()) return this;
+        if (allAddressesBuilder_ == null) {
+          if (!other.allAddresses_.isEmpty()) {
+            if (allAddresses_.isEmpty()) {
+              allAddresses_ = other.allAddresses_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureAllAddressesIsMutable();
+              allAddresses_.addAll(other.allAddresses_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.allAddresses_.isEmpty()) {
+            if (allAddressesBuilder_.isEmpty()) {
+              allAddressesBuilder_.dispose();
+              allAddressesBuilder_ = null;
+              allAddresses_ = other.allAddresses_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              allAddressesBuilder_ = 
+                akka.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getAllAddressesFieldBuilder() : null;
+            } else {
+              allAddressesBuilder_.addAllMessages(other.allAddresses_);
+            }
+          }
+        }
+        if (!other.allRoles_.isEmpty()) {
+          if (allRoles_.isEmpty()) {
+            allRoles_ = other.allRoles_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureAllRolesIsMutable();
+            allRoles_.addAll(other.allRoles_);
+          }
+          onChanged();
+        }
+        if (!other.allHashes_.isEmpty()) {
+          if (allHashes_.isEmpty()) {
+            allHashes_ = other.allHashes_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensureAllHashesIsMutable();
+            allHashes_.addAll(other.allHashes_);
+          }
+          onChanged();
+        }
+        if (other.hasBaseVersion()) {
+          mergeBaseVersion(other.getBaseVersion());
+        }
+        if (other.hasVersion()) {
+          mergeVersion(other.getVersion());
+        }
+        if (changedMembersBuilder_ == null) {
+          if (!other.changedMembers_.isEmpty()) {
+            if (changedMembers_.isEmpty()) {
+              changedMembers_ = other.changedMembers_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+            } else {
+              ensureChangedMembersIsMutable();
+              changedMembers_.addAll(other.changedMembers_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.changedMembers_.isEmpty()) {
+            if (changedMembersBuilder_.isEmpty()) {
+              changedMembersBuilder_.dispose();
+              changedMembersBuilder_ = null;
+              changedMembers_ = other.changedMembers_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+              changedMembersBuilder_ = 
+                akka.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getChangedMembersFieldBuilder() : null;
+            } else {
+              changedMembersBuilder_.addAllMessages(other.changedMembers_);
+            }
+          }
+        }
+        if (!other.removedMembers_.isEmpty()) {
+          if (removedMembers_.isEmpty()) {
+            removedMembers_ = other.removedMembers_;
+            bitField0_ = (bitField0_ & ~0x00000040);
+          } else {
+            ensureRemovedMembersIsMutable();
+            removedMembers_.addAll(other.removedMembers_);
+          }
+          onChanged();
+        }
+        if (changedReachabilityBuilder_ == null) {
+          if (!other.changedReachability_.isEmpty()) {
+            if (changedReachability_.isEmpty()) {
+              changedReachability_ = other.changedReachability_;
+              bitField0_ = (bitField0_ & ~0x00000080);
+            } else {
+              ensureChangedReachabilityIsMutable();
+              changedReachability_.addAll(other.changedReachability_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.changedReachability_.isEmpty()) {
+            if (changedReachabilityBuilder_.isEmpty()) {
+              changedReachabilityBuilder_.dispose();
+              changedReachabilityBuilder_ = null;
+              changedReachability_ = other.changedReachability_;
+              bitField0_ = (bitField0_ & ~0x00000080);
+              changedReachabilityBuilder_ = 
+                akka.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getChangedReachabilityFieldBuilder() : null;
+            } else {
+              changedReachabilityBuilder_.addAllMessages(other.changedReachability_);
+            }
+          }
+        }
+        if (!other.removedObservers_.isEmpty()) {
+          if (removedObservers_.isEmpty()) {
+            removedObservers_ = other.removedObservers_;
+            bitField0_ = (bitField0_ & ~0x00000100);
+          } else {
+            ensureRemovedObserversIsMutable();
+            removedObservers_.addAll(other.removedObservers_);
+          }
+          onChanged();
+        }
+        if (!other.seen_.isEmpty()) {
+          if (seen_.isEmpty()) {
+            seen_ = other.seen_;
+            bitField0_ = (bitField0_ & ~0x00000200);
+          } else {
+            ensureSeenIsMutable();
+            seen_.addAll(other.seen_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasBaseVersion()) {
+          
+          return false;
+        }
+        if (!hasVersion()) {
+          
+          return false;
+        }
+        for (int i = 0; i < getAllAddressesCount(); i++) {
+          if (!getAllAddresses(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        if (!getBaseVersion().isInitialized()) {
+          
+          return false;
+        }
+        if (!getVersion().isInitialized()) {
+          
+          return false;
+        }
+        for (int i = 0; i < getChangedMembersCount(); i++) {
+          if (!getChangedMembers(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        for (int i = 0; i < getChangedReachabilityCount(); i++) {
+          if (!getChangedReachability(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          akka.protobuf.CodedInputStream input,
+          akka.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        akka.cluster.protobuf.msg.ClusterMessages.GossipDelta parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (akka.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (akka.cluster.protobuf.msg.ClusterMessages.GossipDelta) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // repeated .UniqueAddress allAddresses = 1;
+      private java.util.List<akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress> allAddresses_ =
+        java.util.Collections.emptyList();
+      private void ensureAllAddressesIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          allAddresses_ = new java.util.ArrayList<akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress>(allAddresses_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private akka.protobuf.RepeatedFieldBuilder<
+          akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress, akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.Builder, akka.cluster.protobuf.msg.ClusterMessages.UniqueAddressOrBuilder> allAddressesBuilder_;
+
+      /**
+       * <code>repeated .UniqueAddress allAddresses = 1;</code>
+       */
+      public java.util.List<akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress> getAllAddressesList() {
+        if (allAddressesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(allAddresses_);
+        } else {
+          return allAddressesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .UniqueAddress allAddresses = 1;</code>
+       */
+      public int getAllAddressesCount() {
+        if (allAddressesBuilder_ == null) {
+          return allAddresses_.size();
+        } else {
+          return allAddressesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .UniqueAddress allAddresses = 1;</code>
+       */
+      public akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress getAllAddresses(int index) {
+        if (allAddressesBuilder_ == null) {
+          return allAddresses_.get(index);
+        } else {
+          return allAddressesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .UniqueAddress allAddresses = 1;</code>
+       */
+      public Builder setAllAddresses(
+          int index, akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress value) {
+        if (allAddressesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAllAddressesIsMutable();
+          allAddresses_.set(index, value);
+          onChanged();
+        } else {
+          allAddressesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .UniqueAddress allAddresses = 1;</code>
+       */
+      public Builder setAllAddresses(
+          int index, akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.Builder builderForValue) {
+        if (allAddressesBuilder_ == null) {
+          ensureAllAddressesIsMutable();
+          allAddresses_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          allAddressesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .UniqueAddress allAddresses = 1;</code>
+       */
+      public Builder addAllAddresses(akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress value) {
+        if (allAddressesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAllAddressesIsMutable();
+          allAddresses_.add(value);
+          onChanged();
+        } else {
+          allAddressesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .UniqueAddress allAddresses = 1;</code>
+       */
+      public Builder addAllAddresses(
+          int index, akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress value) {
+        if (allAddressesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAllAddressesIsMutable();
+          allAddresses_.add(index, value);
+          onChanged();
+        } else {
+          allAddressesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .UniqueAddress allAddresses = 1;</code>
+       */
+      public Builder addAllAddresses(
+          akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.Builder builderForValue) {
+        if (allAddressesBuilder_ == null) {
+          ensureAllAddressesIsMutable();
+          allAddresses_.add(builderForValue.build());
+          onChanged();
+        } else {
+          allAddressesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .UniqueAddress allAddresses = 1;</code>
+       */
+      public Builder addAllAddresses(
+          int index, akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.Builder builderForValue) {
+        if (allAddressesBuilder_ == null) {
+          ensureAllAddressesIsMutable();
+          allAddresses_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          allAddressesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .UniqueAddress allAddresses = 1;</code>
+       */
+      public Builder addAllAllAddresses(
+          java.lang.Iterable<? extends akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress> values) {
+        if (allAddressesBuilder_ == null) {
+          ensureAllAddressesIsMutable();
+          super.addAll(values, allAddresses_);
+          onChanged();
+        } else {
+          allAddressesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .UniqueAddress allAddresses = 1;</code>
+       */
+      public Builder clearAllAddresses() {
+        if (allAddressesBuilder_ == null) {
+          allAddresses_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          allAddressesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .UniqueAddress allAddresses = 1;</code>
+       */
+      public Builder removeAllAddresses(int index) {
+        if (allAddressesBuilder_ == null) {
+          ensureAllAddressesIsMutable();
+          allAddresses_.remove(index);
+          onChanged();
+        } else {
+          allAddressesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .UniqueAddress allAddresses = 1;</code>
+       */
+      public akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.Builder getAllAddressesBuilder(
+          int index) {
+        return getAllAddressesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .UniqueAddress allAddresses = 1;</code>
+       */
+      public akka.cluster.protobuf.msg.ClusterMessages.UniqueAddressOrBuilder getAllAddressesOrBuilder(
+          int index) {
+        if (allAddressesBuilder_ == null) {
+          return allAddresses_.get(index);  } else {
+          return allAddressesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .UniqueAddress allAddresses = 1;</code>
+       */
+      public java.util.List<? extends akka.cluster.protobuf.msg.ClusterMessages.UniqueAddressOrBuilder> 
+           getAllAddressesOrBuilderList() {
+        if (allAddressesBuilder_ != null) {
+          return allAddressesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(allAddresses_);
+        }
+      }
+      /**
+       * <code>repeated .UniqueAddress allAddresses = 1;</code>
+       */
+      public akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.Builder addAllAddressesBuilder() {
+        return getAllAddressesFieldBuilder().addBuilder(
+            akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .UniqueAddress allAddresses = 1;</code>
+       */
+      public akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.Builder addAllAddressesBuilder(
+          int index) {
+        return getAllAddressesFieldBuilder().addBuilder(
+            index, akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .UniqueAddress allAddresses = 1;</code>
+       */
+      public java.util.List<akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.Builder> 
+           getAllAddressesBuilderList() {
+        return getAllAddressesFieldBuilder().getBuilderList();
+      }
+      private akka.protobuf.RepeatedFieldBuilder<
+          akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress, akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.Builder, akka.cluster.protobuf.msg.ClusterMessages.UniqueAddressOrBuilder> 
+          getAllAddressesFieldBuilder() {
+        if (allAddressesBuilder_ == null) {
+          allAddressesBuilder_ = new akka.protobuf.RepeatedFieldBuilder<
+              akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress, akka.cluster.protobuf.msg.ClusterMessages.UniqueAddress.Builder, akka.cluster.protobuf.msg.ClusterMessages.UniqueAddressOrBuilder>(
+                  allAddresses_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          allAddresses_ = null;
+        }
+        return allAddressesBuilder_;
+      }
+
+      // repeated string allRoles = 2;
+      private akka.protobuf.LazyStringList allRoles_ = akka.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureAllRolesIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          allRoles_ = new akka.protobuf.LazyStringArrayList(allRoles_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated string allRoles = 2;</code>
+       */
+      public java.util.List<java.lang.String>
+          getAllRolesList() {
+        return java.util.Collections.unmodifiableList(allRoles_);
+      }
+      /**
+       * <code>repeated string allRoles = 2;</code>
+       */
+      public int getAllRolesCount() {
+        return allRoles_.size();
+      }
+      /**
+       * <code>repeated string allRoles = 2;</code>
+       */
+      public java.lang.String getAllRoles(int index) {
+        return allRoles_.get(index);
+      }
+      /**
+       * <code>repeated string allRoles = 2;</code>
+       */
+      public akka.protobuf.ByteString
+          getAllRolesBytes(int index) {
+        return allRoles_.getByteString(index);
+      }
+      /**
+       * <code>repeated string allRoles = 2;</code>
+       */
+      public Builder setAllRoles(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureAllRolesIsMutable();
+        allRoles_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string allRoles = 2;</code>
+       */
+      public Builder addAllRoles(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureAllRolesIsMutable();
+        allRoles_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string allRoles = 2;</code>
+       */
+      public Builder addAllAllRoles(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureAllRolesIsMutable();
+        super.addAll(values, allRoles_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string allRoles = 2;</code>
+       */
+      public Builder clearAllRoles() {
+        allRoles_ = akka.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string allRoles = 2;</code>
+       */
+      public Builder addAllRolesBytes(
+          akka.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureAllRolesIsMutable();
+        allRoles_.add(value);
+        onChanged();
+        return this;
+      }
+
+      // repeated string allHashes = 3;
+      private akka.protobuf.LazyStringList allHashes_ = akka.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureAllHashesIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          allHashes_ = new akka.protobuf.LazyStringArrayList(allHashes_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+      /**
+       * <code>repeated string allHashes = 3;</code>
+       */
+      public java.util.List<java.lang.String>
+          getAllHashesList() {
+        return java.util.Collections.unmodifiableList(allHashes_);
+      }
+      /**
+       * <code>repeated string allHashes = 3;</code>
+       */
+      public int getAllHashesCount() {
+        return allHashes_.size();
+      }
+      /**
+       * <code>repeated string allHashes = 3;</code>
+       */
+      public java.lang.String getAllHashes(int index) {
+        return allHashes_.get(index);
+      }
+      /**
+       * <code>repeated string allHashes = 3;</code>
+       */
+      public akka.protobuf.ByteString
+          getAllHashesBytes(int index) {
+        return allHashes_.getByteString(index);
+      }
+      /**
+       * <code>repeated string allHashes = 3;</code>
+       */
+      public Builder setAllHashes(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureAllHashesIsMutable();
+        allHashes_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string allHashes = 3;</code>
+       */
+      public Builder addAllHashes(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureAllHashesIsMutable();
+        allHashes_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string allHashes = 3;</code>
+       */
+      public Builder addAllAllHashes(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureAllHashesIsMutable();
+        super.addAll(values, allHashes_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string allHashes = 3;</code>
+       */
+      public Builder clearAllHashes() {
+        allHashes_ = akka.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string allHashes = 3;</code>
+       */
+      public Builder addAllHashesBytes(
+          akka.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureAllHashesIsMutable();
+        allHashes_.add(value);
+        onChanged();
+        return this;
+      }
+
+      // required .VectorClock baseVersion = 4;
+      private akka.cluster.protobuf.msg.ClusterMessages.VectorClock baseVersion_ = akka.cluster.protobuf.msg.ClusterMessages.VectorClock.getDefaultInstance();
+      private akka.protobuf.SingleFieldBuilder<
+          akka.cluster.protobuf.msg.ClusterMessages.VectorClock, akka.cluster.protobuf.msg.ClusterMessages.VectorClock.Builder, akka.cluster.protobuf.msg.ClusterMessages.VectorClockOrBuilder> baseVersionBuilder_;
+      /**
+       * <code>required .VectorClock baseVersion = 4;</code>
+       */
+      public boolean hasBaseVersion() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>required .VectorClock baseVersion = 4;</code>
+       */
+      public akka.cluster.protobuf.msg.ClusterMessages.VectorClock getBaseVersion() {
+        if (baseVersionBuilder_ == null) {
+          return baseVersion_;
+        } else {
+          return baseVersionBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>required .VectorClock baseVersion = 4;</code>
+       */
+      public Builder setBaseVersion(akka.cluster.protobuf.msg.ClusterMessages.VectorClock value) {
+        if (baseVersionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          baseVersion_ = value;
+          onChanged();
+        } else {
+          baseVersionBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>required .VectorClock baseVersion = 4;</code>
+       */
+      public Builder setBaseVersion(
+          akka.cluster.protobuf.msg.ClusterMessages.VectorClock.Builder builderForValue) {
+        if (baseVersionBuilder_ == null) {
+          baseVersion_ = builderForValue.build();
+          onChanged();
+        } else {
+          baseVersionBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>required .VectorClock baseVersion = 4;</code>
+       */
+      public Builder mergeBaseVersion(akka.cluster.protobuf.msg.ClusterMessages.VectorClock value) {
+        if (baseVersionBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008) &&
+              baseVersion_ != akka.cluster.protobuf.msg.ClusterMessages.VectorClock.getDefaultInstance()) {
+            baseVersion_ =
+              akka.cluster.protobuf.msg.ClusterMessages.VectorClock.newBuilder(baseVersion_).mergeFrom(value).buildPartial();
+          } else {
+            baseVersion_ = value;
+          }
+          onChanged();
+        } else {
+          baseVersionBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>required .VectorClock baseVersion = 4;</code>
+       */
+      public Builder clearBaseVersion() {
+        if (baseVersionBuilder_ == null) {
+          baseVersion_ = akka.cluster.protobuf.msg.ClusterMessages.VectorClock.getDefaultInstance();
+          onChanged();
+        } else {
+          baseVersionBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+      /**
+       * <code>required .VectorClock baseVersion = 4;</code>
+       */
+      public akka.cluster.protobuf.msg.ClusterMessages.VectorClock.Builder getBaseVersionBuilder() {
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return getBaseVersionFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .VectorClock baseVersion = 4;</code>
+       */
+      public akka.cluster.protobuf.msg.ClusterMessages.VectorClockOrBuilder getBaseVersionOrBuilder() {
+        if (baseVersionBuilder_ != null) {
+          return baseVersionBuilder_.getMessageOrBuilder();
+        } else {
+          return baseVersion_;
+        }
+      }
+      /**
+       * <code>required .VectorClock baseVersion = 4;</code>
+       */
+      private akka.protobuf.SingleFieldBuilder<
+          akka.cluster.protobuf.msg.ClusterMessages.VectorClock, akka.cluster.protobuf.msg.ClusterMessages.VectorClock.Builder, akka.cluster.protobuf.msg.ClusterMessages.VectorClockOrBuilder> 
+          getBaseVersionFieldBuilder() {
+        if (baseVersionBuilder_ == null) {
+          baseVersionBuilder_ = new akka.protobuf.SingleFieldBuilder<
+              akka.cluster.protobuf.msg.ClusterMessages.VectorClock, akka.cluster.protobuf.msg.ClusterMessages.VectorClock.Builder, akka.cluster.protobuf.msg.ClusterMessages.VectorClockOrBuilder>(
+                  baseVersion_,
+                  getParentForChildren(),
+                  isClean());
+          baseVersion_ = null;
+        }
+        return baseVersionBuilder_;
+      }
+
+      // required .VectorClock version = 5;
+      private akka.cluster.protobuf.msg.ClusterMessages.VectorClock version_ = akka.cluster.protobuf.msg.ClusterMessages.VectorClock.getDefaultInstance();
+      private akka.protobuf.SingleFieldBuilder<
+          akka.cluster.protobuf.msg.ClusterMessages.VectorClock, akka.cluster.protobuf.msg.ClusterMessages.VectorClock.Builder, akka.cluster.protobuf.msg.ClusterMessages.VectorClockOrBuilder> versionBuilder_;
+      /**
+       * <code>required .VectorClock version = 5;</code>
+       */
+      public boolean hasVersion() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>required .VectorClock version = 5;</code>
+       */
+      public akka.cluster.protobuf.msg.ClusterMessages.VectorClock getVersion() {
+        if (versionBuilder_ == null) {
+          return version_;
+        } else {
+          return versionBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>required .VectorClock version = 5;</code>
+       */
+      public Builder setVersion(akka.cluster.protobuf.msg.ClusterMessages.VectorClock value) {
+        if (versionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          version_ = value;
+          onChanged();
+        } else {
+          versionBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>required .VectorClock version = 5;</code>
+       */
+      public Builder setVersion(
+          akka.cluster.protobuf.msg.ClusterMessages.VectorClock.Builder builderForValue) {
+        if (versionBuilder_ == null) {
+          version_ = builderForValue.build();
+          onChanged();
+        } else {
+          versionBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>required .VectorClock version = 5;</code>
+       */
+      public Builder mergeVersion(akka.cluster.protobuf.msg.ClusterMessages.VectorClock value) {
+        if (versionBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) == 0x00000010) &&
+              version_ != akka.cluster.protobuf.msg.ClusterMessages.VectorClock.getDefaultInstance()) {
+            version_ =
+              akka.cluster.protobuf.msg.ClusterMessages.VectorClock.newBuilder(version_).mergeFrom(value).buildPartial();
+          } else {
+            version_ = value;
+          }
+          onChanged();
+        } else {
+          versionBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>required .VectorClock version = 5;</code>
+       */
+      public Builder clearVersion() {
+        if (versionBuilder_ == null) {
+          version_ = akka.cluster.protobuf.msg.ClusterMessages.VectorClock.getDefaultInstance();
+          onChanged();
+        } else {
+          versionBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+      /**
+       * <code>required .VectorClock version = 5;</code>
+       */
+      public akka.cluster.protobuf.msg.ClusterMessages.VectorClock.Builder getVersionBuilder() {
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return getVersionFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .VectorClock version = 5;</code>
+       */
+      public akka.cluster.protobuf.msg.ClusterMessages.VectorClockOrBuilder getVersionOrBuilder() {
+        if (versionBuilder_ != null) {
+          return versionBuilder_.getMessageOrBuilder();
+        } else {
+          return version_;
+        }
+      }
+      /**
+       * <code>required .VectorClock version = 5;</code>
+       */
+      private akka.protobuf.SingleFieldBuilder<
+          akka.cluster.protobuf.msg.ClusterMessages.VectorClock, akka.cluster.protobuf.msg.ClusterMessages.VectorClock.Builder, akka.cluster.protobuf.msg.ClusterMessages.VectorClockOrBuilder> 
+          getVersionFieldBuilder() {
+        if (versionBuilder_ == null) {
+          versionBuilder_ = new akka.protobuf.SingleFieldBuilder<
+              akka.cluster.protobuf.msg.ClusterMessages.VectorClock, akka.cluster.protobuf.msg.ClusterMessages.VectorClock.Builder, akka.cluster.protobuf.msg.ClusterMessages.VectorClockOrBuilder>(
+                  version_,
+                  getParentForChildren(),
+                  isClean());
+          version_ = null;
+        }
+        return versionBuilder_;
+      }
+
+      // repeated .Member changedMembers = 6;
+      private java.util.List<akka.cluster.protobuf.msg.ClusterMessages.Member> changedMembers_ =
+        java.util.Collections.emptyList();
+      private void ensureChangedMembersIsMutable() {
+        if (!((bitField0_ & 0x00000020) == 0x00000020)) {
+          changedMembers_ = new java.util.ArrayList<akka.cluster.protobuf.msg.ClusterMessages.Member>(changedMembers_);
+          bitField0_ |= 0x00000020;
+         }
+      }
+
+      private akka.protobuf.RepeatedFieldBuilder<
+          akka.cluster.protobuf.msg.ClusterMessages.Member, akka.cluster.protobuf.msg.ClusterMessages.Member.Builder, akka.cluster.protobuf.msg.ClusterMessages.MemberOrBuilder> changedMembersBuilder_;
+
+      /**
+       * <code>repeated .Member changedMembers = 6;</code>
+       */
+      public java.util.List<akka.cluster.protobuf.msg.ClusterMessages.Member> getChangedMembersList() {
+        if (changedMembersBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(changedMembers_);
+        } else {
+          return changedMembersBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .Member changedMembers = 6;</code>
+       */
+      public int getChangedMembersCount() {
+        if (changedMembersBuilder_ == null) {
+          return changedMembers_.size();
+        } else {
+          return changedMembersBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .Member changedMembers = 6;</code>
+       */
+      public akka.cluster.protobuf.msg.ClusterMessages.Member getChangedMembers(int index) {
+        if (changedMembersBuilder_ == null) {
+          return changedMembers_.get(index);
+        } else {
+          return changedMembersBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .Member changedMembers = 6;</code>
+       */
+      public Builder setChangedMembers(
+          int index, akka.cluster.protobuf.msg.ClusterMessages.Member value) {
+        if (changedMembersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChangedMembersIsMutable();
+          changedMembers_.set(index, value);
+          onChanged();
+        } else {
+          changedMembersBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Member changedMembers = 6;</code>
+       */
+      public Builder setChangedMembers(
+          int index, akka.cluster.protobuf.msg.ClusterMessages.Member.Builder builderForValue) {
+        if (changedMembersBuilder_ == null) {
+          ensureChangedMembersIsMutable();
+          changedMembers_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          changedMembersBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Member changedMembers = 6;</code>
+       */
+      public Builder addChangedMembers(akka.cluster.protobuf.msg.ClusterMessages.Member value) {
+        if (changedMembersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChangedMembersIsMutable();
+          changedMembers_.add(value);
+          onChanged();
+        } else {
+          changedMembersBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Member changedMembers = 6;</code>
+       */
+      public Builder addChangedMembers(
+          int index, akka.cluster.protobuf.msg.ClusterMessages.Member value) {
+        if (changedMembersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChangedMembersIsMutable();
+          changedMembers_.add(index, value);
+          onChanged();
+        } else {
+          changedMembersBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Member changedMembers = 6;</code>
+       */
+      public Builder addChangedMembers(
+          akka.cluster.protobuf.msg.ClusterMessages.Member.Builder builderForValue) {
+        if (changedMembersBuilder_ == null) {
+          ensureChangedMembersIsMutable();
+          changedMembers_.add(builderForValue.build());
+          onChanged();
+        } else {
+          changedMembersBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Member changedMembers = 6;</code>
+       */
+      public Builder addChangedMembers(
+          int index, akka.cluster.protobuf.msg.ClusterMessages.Member.Builder builderForValue) {
+        if (changedMembersBuilder_ == null) {
+          ensureChangedMembersIsMutable();
+          changedMembers_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          changedMembersBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Member changedMembers = 6;</code>
+       */
+      public Builder addAllChangedMembers(
+          java.lang.Iterable<? extends akka.cluster.protobuf.msg.ClusterMessages.Member> values) {
+        if (changedMembersBuilder_ == null) {
+          ensureChangedMembersIsMutable();
+          super.addAll(values, changedMembers_);
+          onChanged();
+        } else {
+          changedMembersBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Member changedMembers = 6;</code>
+       */
+      public Builder clearChangedMembers() {
+        if (changedMembersBuilder_ == null) {
+          changedMembers_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+          onChanged();
+        } else {
+          changedMembersBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Member changedMembers = 6;</code>
+       */
+      public Builder removeChangedMembers(int index) {
+        if (changedMembersBuilder_ == null) {
+          ensureChangedMembersIsMutable();
+          changedMembers_.remove(index);
+          onChanged();
+        } else {
+          changedMembersBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Member changedMembers = 6;</code>
+       */
+      public akka.cluster.protobuf.msg.ClusterMessages.Member.Builder getChangedMembersBuilder(
+          int index) {
+        return getChangedMembersFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .Member changedMembers = 6;</code>
+       */
+      public akka.cluster.protobuf.msg.ClusterMessages.MemberOrBuilder getChangedMembersOrBuilder(
+          int index) {
+        if (changedMembersBuilder_ == null) {
+          return changedMembers_.get(index);  } else {
+          return changedMembersBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .Member changedMembers = 6;</code>
+       */
+      public java.util.List<? extends akka.cluster.protobuf.msg.ClusterMessages.MemberOrBuilder> 
+           getChangedMembersOrBuilderList() {
+        if (changedMembersBuilder_ != null) {
+          return changedMembersBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(changedMembers_);
+        }
+      }
+      /**
+       * <code>repeated .Member changedMembers = 6;</code>
+       */
+      public akka.cluster.protobuf.msg.ClusterMessages.Member.Builder addChangedMembersBuilder() {
+        return getChangedMembersFieldBuilder().addBuilder(
+            akka.cluster.protobuf.msg.ClusterMessages.Member.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Member changedMembers = 6;</code>
+       */
+      public akka.cluster.protobuf.msg.ClusterMessages.Member.Builder addChangedMembersBuilder(
+          int index) {
+        return getChangedMembersFieldBuilder().addBuilder(
+            index, akka.cluster.protobuf.msg.ClusterMessages.Member.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Member changedMembers = 6;</code>
+       */
+      public java.util.List<akka.cluster.protobuf.msg.ClusterMessages.Member.Builder> 
+           getChangedMembersBuilderList() {
+        return getChangedMembersFieldBuilder().getBuilderList();
+      }
+      private akka.protobuf.RepeatedFieldBuilder<
+          akka.cluster.protobuf.msg.ClusterMessages.Member, akka.cluster.protobuf.msg.ClusterMessages.Member.Builder, akka.cluster.protobuf.msg.ClusterMessages.MemberOrBuilder> 
+          getChangedMembersFieldBuilder() {
+        if (changedMembersBuilder_ == null) {
+          changedMembersBuilder_ = new akka.protobuf.RepeatedFieldBuilder<
+              akka.cluster.protobuf.msg.ClusterMessages.Member, akka.cluster.protobuf.msg.ClusterMessages.Member.Builder, akka.cluster.protobuf.msg.ClusterMessages.MemberOrBuilder>(
+                  changedMembers_,
+                  ((bitField0_ & 0x00000020) == 0x00000020),
+                  getParentForChildren(),
+                  isClean());
+          changedMembers_ = null;
+        }
+        return changedMembersBuilder_;
+      }
+
+      // repeated int32 removedMembers = 7;
+      private java.util.List<java.lang.Integer> removedMembers_ = java.util.Collections.emptyList();
+      private void ensureRemovedMembersIsMutable() {
+        if (!((bitField0_ & 0x00000040) == 0x00000040)) {
+          removedMembers_ = new java.util.ArrayList<java.lang.Integer>(removedMembers_);
+          bitField0_ |= 0x00000040;
+         }
+      }
+      /**
+       * <code>repeated int32 removedMembers = 7;</code>
+       *
+       * <pre>
+       * These are address indexes 
+       * </pre>
+       */
+      public java.util.List<java.lang.Integer>
+          getRemovedMembersList() {
+        return java.util.Collections.unmodifiableList(removedMembers_);
+      }
+      /**
+       * <code>repeated int32 removedMembers = 7;</code>
+       *
+       * <pre>
+       * These are address indexes 
+       * </pre>
+       */
+      public int getRemovedMembersCount() {
+        return removedMembers_.size();
+      }
+      /**
+       * <code>repeated int32 removedMembers = 7;</code>
+       *
+       * <pre>
+       * These are address indexes 
+       * </pre>
+       */
+      public int getRemovedMembers(int index) {
+        return removedMembers_.get(index);
+      }
+      /**
+       * <code>repeated int32 removedMembers = 7;</code>
+       *
+       * <pre>
+       * These are address indexes 
+       * </pre>
+       */
+      public Builder setRemovedMembers(
+          int index, int value) {
+        ensureRemovedMembersIsMutable();
+        removedMembers_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 removedMembers = 7;</code>
+       *
+       * <pre>
+       * These are address indexes 
+       * </pre>
+       */
+      public Builder addRemovedMembers(int value) {
+        ensureRemovedMembersIsMutable();
+        removedMembers_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 removedMembers = 7;</code>
+       *
+       * <pre>
+       * These are address indexes 
+       * </pre>
+       */
+      public Builder addAllRemovedMembers(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureRemovedMembersIsMutable();
+        super.addAll(values, removedMembers_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 removedMembers = 7;</code>
+       *
+       * <pre>
+       * These are address indexes 
+       * </pre>
+       */
+      public Builder clearRemovedMembers() {
+        removedMembers_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000040);
+        onChanged();
+        return this;
+      }
+
+      // repeated .ObserverReachability changedReachability = 8;
+      private java.util.List<akka.cluster.protobuf.msg.ClusterMessages.ObserverReachability> changedReachability_ =
+        java.util.Collections.emptyList();
+      private void ensureChangedReachabilityIsMutable() {
+        if (!((bitField0_ & 0x00000080) == 0x00000080)) {
+          changedReachability_ = new java.util.ArrayList<akka.cluster.protobuf.msg.ClusterMessages.ObserverReachability>(changedReachability_);
+          bitField0_ |= 0x00000080;
+         }
+      }
+
+      private akka.protobuf.RepeatedFieldBuilder<
+          akka.cluster.protobuf.msg.ClusterMessages.ObserverReachability, akka.cluster.protobuf.msg.ClusterMessages.ObserverReachability.Builder, akka.cluster.protobuf.msg.ClusterMessages.ObserverReachabilityOrBuilder> changedReachabilityBuilder_;
+
+      /**
+       * <code>repeated .ObserverReachability changedReachability = 8;</code>
+       */
+      public java.util.List<akka.cluster.protobuf.msg.ClusterMessages.ObserverReachability> getChangedReachabilityList() {
+        if (changedReachabilityBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(changedReachability_);
+        } else {
+          return changedReachabilityBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .ObserverReachability changedReachability = 8;</code>
+       */
+      public int getChangedReachabilityCount() {
+        if (changedReachabilityBuilder_ == null) {
+          return changedReachability_.size();
+        } else {
+          return changedReachabilityBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .ObserverReachability changedReachability = 8;</code>
+       */
+      public akka.cluster.protobuf.msg.ClusterMessages.ObserverReachability getChangedReachability(int index) {
+        if (changedReachabilityBuilder_ == null) {
+          return changedReachability_.get(index);
+        } else {
+          return changedReachabilityBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .ObserverReachability changedReachability = 8;</code>
+       */
+      public Builder setChangedReachability(
+          int index, akka.cluster.protobuf.msg.ClusterMessages.ObserverReachability value) {
+        if (changedReachabilityBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChangedReachabilityIsMutable();
+          changedReachability_.set(index, value);
+          onChanged();
+        } else {
+          changedReachabilityBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ObserverReachability changedReachability = 8;</code>
+       */
+      public Builder setChangedReachability(
+          int index, akka.cluster.protobuf.msg.ClusterMessages.ObserverReachability.Builder builderForValue) {
+        if (changedReachabilityBuilder_ == null) {
+          ensureChangedReachabilityIsMutable();
+          changedReachability_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          changedReachabilityBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ObserverReachability changedReachability = 8;</code>
+       */
+      public Builder addChangedReachability(akka.cluster.protobuf.msg.ClusterMessages.ObserverReachability value) {
+        if (changedReachabilityBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChangedReachabilityIsMutable();
+          changedReachability_.add(value);
+          onChanged();
+        } else {
+          changedReachabilityBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ObserverReachability changedReachability = 8;</code>
+       */
+      public Builder addChangedReachability(
+          int index, akka.cluster.protobuf.msg.ClusterMessages.ObserverReachability value) {
+        if (changedReachabilityBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChangedReachabilityIsMutable();
+          changedReachability_.add(index, value);
+          onChanged();
+        } else {
+          changedReachabilityBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ObserverReachability changedReachability = 8;</code>
+       */
+      public Builder addChangedReachability(
+          akka.cluster.protobuf.msg.ClusterMessages.ObserverReachability.Builder builderForValue) {
+        if (changedReachabilityBuilder_ == null) {
+          ensureChangedReachabilityIsMutable();
+          changedReachability_.add(builderForValue.build());
+          onChanged();
+        } else {
+          changedReachabilityBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ObserverReachability changedReachability = 8;</code>
+       */
+      public Builder addChangedReachability(
+          int index, akka.cluster.protobuf.msg.ClusterMessages.ObserverReachability.Builder builderForValue) {
+        if (changedReachabilityBuilder_ == null) {
+          ensureChangedReachabilityIsMutable();
+          changedReachability_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          changedReachabilityBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ObserverReachability changedReachability = 8;</code>
+       */
+      public Builder addAllChangedReachability(
+          java.lang.Iterable<? extends akka.cluster.protobuf.msg.ClusterMessages.ObserverReachability> values) {
+        if (changedReachabilityBuilder_ == null) {
+          ensureChangedReachabilityIsMutable();
+          super.addAll(values, changedReachability_);
+          onChanged();
+        } else {
+          changedReachabilityBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ObserverReachability changedReachability = 8;</code>
+       */
+      public Builder clearChangedReachability() {
+        if (changedReachabilityBuilder_ == null) {
+          changedReachability_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000080);
+          onChanged();
+        } else {
+          changedReachabilityBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ObserverReachability changedReachability = 8;</code>
+       */
+      public Builder removeChangedReachability(int index) {
+        if (changedReachabilityBuilder_ == null) {
+          ensureChangedReachabilityIsMutable();
+          changedReachability_.remove(index);
+          onChanged();
+        } else {
+          changedReachabilityBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ObserverReachability changedReachability = 8;</code>
+       */
+      public akka.cluster.protobuf.msg.ClusterMessages.ObserverReachability.Builder getChangedReachabilityBuilder(
+          int index) {
+        return getChangedReachabilityFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .ObserverReachability changedReachability = 8;</code>
+       */
+      public akka.cluster.protobuf.msg.ClusterMessages.ObserverReachabilityOrBuilder getChangedReachabilityOrBuilder(
+          int index) {
+        if (changedReachabilityBuilder_ == null) {
+          return changedReachability_.get(index);  } else {
+          return changedReachabilityBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .ObserverReachability changedReachability = 8;</code>
+       */
+      public java.util.List<? extends akka.cluster.protobuf.msg.ClusterMessages.ObserverReachabilityOrBuilder> 
+           getChangedReachabilityOrBuilderList() {
+        if (changedReachabilityBuilder_ != null) {
+          return changedReachabilityBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(changedReachability_);
+        }
+      }
+      /**
+       * <code>repeated .ObserverReachability changedReachability = 8;</code>
+       */
+      public akka.cluster.protobuf.msg.ClusterMessages.ObserverReachability.Builder addChangedReachabilityBuilder() {
+        return getChangedReachabilityFieldBuilder().addBuilder(
+            akka.cluster.protobuf.msg.ClusterMessages.ObserverReachability.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ObserverReachability changedReachability = 8;</code>
+       */
+      public akka.cluster.protobuf.msg.ClusterMessages.ObserverReachability.Builder addChangedReachabilityBuilder(
+          int index) {
+        return getChangedReachabilityFieldBuilder().addBuilder(
+            index, akka.cluster.protobuf.msg.ClusterMessages.ObserverReachability.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ObserverReachability changedReachability = 8;</code>
+       */
+      public java.util.List<akka.cluster.protobuf.msg.ClusterMessages.ObserverReachability.Builder> 
+           getChangedReachabilityBuilderList() {
+        return getChangedReachabilityFieldBuilder().getBuilderList();
+      }
+      private akka.protobuf.RepeatedFieldBuilder<
+          akka.cluster.protobuf.msg.ClusterMessages.ObserverReachability, akka.cluster.protobuf.msg.ClusterMessages.ObserverReachability.Builder, akka.cluster.protobuf.msg.ClusterMessages.ObserverReachabilityOrBuilder> 
+          getChangedReachabilityFieldBuilder() {
+        if (changedReachabilityBuilder_ == null) {
+          changedReachabilityBuilder_ = new akka.protobuf.RepeatedFieldBuilder<
+              akka.cluster.protobuf.msg.ClusterMessages.ObserverReachability, akka.cluster.protobuf.msg.ClusterMessages.ObserverReachability.Builder, akka.cluster.protobuf.msg.ClusterMessages.ObserverReachabilityOrBuilder>(
+                  changedReachability_,
+                  ((bitField0_ & 0x00000080) == 0x00000080),
+                  getParentForChildren(),
+                  isClean());
+          changedReachability_ = null;
+        }
+        return changedReachabilityBuilder_;
+      }
+
+      // repeated int32 removedObservers = 9;
+      private java.util.List<java.lang.Integer> removedObservers_ = java.util.Collections.emptyList();
+      private void ensureRemovedObserversIsMutable() {
+        if (!((bitField0_ & 0x00000100) == 0x00000100)) {
+          removedObservers_ = new java.util.ArrayList<java.lang.Integer>(removedObservers_);
+          bitField0_ |= 0x00000100;
+         }
+      }
+      /**
+       * <code>repeated int32 removedObservers = 9;</code>
+       *
+       * <pre>
+       * These are address indexes 
+       * </pre>
+       */
+      public java.util.List<java.lang.Integer>
+          getRemovedObserversList() {
+        return java.util.Collections.unmodifiableList(removedObservers_);
+      }
+      /**
+       * <code>repeated int32 removedObservers = 9;</code>
+       *
+       * <pre>
+       * These are address indexes 
+       * </pre>
+       */
+      public int getRemovedObserversCount() {
+        return removedObservers_.size();
+      }
+      /**
+       * <code>repeated int32 removedObservers = 9;</code>
+       *
+       * <pre>
+       * These are address indexes 
+       * </pre>
+       */
+      public int getRemovedObservers(int index) {
+        return removedObservers_.get(index);
+      }
+      /**
+       * <code>repeated int32 removedObservers = 9;</code>
+       *
+       * <pre>
+       * These are address indexes 
+       * </pre>
+       */
+      public Builder setRemovedObservers(
+          int index, int value) {
+        ensureRemovedObserversIsMutable();
+        removedObservers_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 removedObservers = 9;</code>
+       *
+       * <pre>
+       * These are address indexes 
+       * </pre>
+       */
+      public Builder addRemovedObservers(int value) {
+        ensureRemovedObserversIsMutable();
+        removedObservers_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 removedObservers = 9;</code>
+       *
+       * <pre>
+       * These are address indexes 
+       * </pre>
+       */
+      public Builder addAllRemovedObservers(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureRemovedObserversIsMutable();
+        super.addAll(values, removedObservers_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 removedObservers = 9;</code>
+       *
+       * <pre>
+       * These are address indexes 
+       * </pre>
+       */
+      public Builder clearRemovedObservers() {
+        removedObservers_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000100);
+        onChanged();
+        return this;
+      }
+
+      // repeated fixed64 seen = 10 [packed = true];
+      private java.util.List<java.lang.Long> seen_ = java.util.Collections.emptyList();
+      private void ensureSeenIsMutable() {
+        if (!((bitField0_ & 0x00000200) == 0x00000200)) {
+          seen_ = new java.util.ArrayList<java.lang.Long>(seen_);
+          bitField0_ |= 0x00000200;
+         }
+      }
+      /**
+       * <code>repeated fixed64 seen = 10 [packed = true];</code>
+       *
+       * <pre>
+       * Bit mask of the positions of the nodes that have seen the gossip in the sorted members 
+       * </pre>
+       */
+      public java.util.List<java.lang.Long>
+          getSeenList() {
+        return java.util.Collections.unmodifiableList(seen_);
+      }
+      /**
+       * <code>repeated fixed64 seen = 10 [packed = true];</code>
+       *
+       * <pre>
+       * Bit mask of the positions of the nodes that have seen the gossip in the sorted members 
+       * </pre>
+       */
+      public int getSeenCount() {
+        return seen_.size();
+      }
+      /**
+       * <code>repeated fixed64 seen = 10 [packed = true];</code>
+       *
+       * <pre>
+       * Bit mask of the positions of the nodes that have seen the gossip in the sorted members 
+       * </pre>
+       */
+      public long getSeen(int index) {
+        return seen_.get(index);
+      }
+      /**
+       * <code>repeated fixed64 seen = 10 [packed = true];</code>
+       *
+       * <pre>
+       * Bit mask of the positions of the nodes that have seen the gossip in the sorted members 
+       * </pre>
+       */
+      public Builder setSeen(
+          int index, long value) {
+        ensureSeenIsMutable();
+        seen_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated fixed64 seen = 10 [packed = true];</code>
+       *
+       * <pre>
+       * Bit mask of the positions of the nodes that have seen the gossip in the sorted members 
+       * </pre>
+       */
+      public Builder addSeen(long value) {
+        ensureSeenIsMutable();
+        seen_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated fixed64 seen = 10 [packed = true];</code>
+       *
+       * <pre>
+       * Bit mask of the positions of the nodes that have seen the gossip in the sorted members 
+       * </pre>
+       */
+      public Builder addAllSeen(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureSeenIsMutable();
+        super.addAll(values, seen_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated fixed64 seen = 10 [packed = true];</code>
+       *
+       * <pre>
+       * Bit mask of the positions of the nodes that have seen the gossip in the sorted members 
+       * </pre>
+       */
+      public Builder clearSeen() {
+        seen_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000200);
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:GossipDelta)
+    }
+
+    static {
+      defaultInstance = new GossipDelta(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:GossipDelta)
+  }
+
   public interface GossipOrBuilder
       extends akka.protobuf.MessageOrBuilder {
 
@@ -16770,6 +20586,16 @@ public final class ClusterMessages {
   private static
     akka.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_GossipStatus_fieldAccessorTable;
+  private static akka.protobuf.Descriptors.Descriptor
+    internal_static_GossipDeltaEnvelope_descriptor;
+  private static
+    akka.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_GossipDeltaEnvelope_fieldAccessorTable;
+  private static akka.protobuf.Descriptors.Descriptor
+    internal_static_GossipDelta_descriptor;
+  private static
+    akka.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_GossipDelta_fieldAccessorTable;
   private static akka.protobuf.Descriptors.Descriptor
     internal_static_Gossip_descriptor;
   private static
@@ -16867,49 +20693,59 @@ public final class ClusterMessages {
       "(\0132\016.UniqueAddress\022\030\n\020serializedGossip\030\003" +
       " \002(\014\"^\n\014GossipStatus\022\034\n\004from\030\001 \002(\0132\016.Uni" +
       "queAddress\022\021\n\tallHashes\030\002 \003(\t\022\035\n\007version" +
-      "\030\003 \002(\0132\014.VectorClock\"\257\001\n\006Gossip\022$\n\014allAd" +
-      "dresses\030\001 \003(\0132\016.UniqueAddress\022\020\n\010allRole",
-      "s\030\002 \003(\t\022\021\n\tallHashes\030\003 \003(\t\022\030\n\007members\030\004 " +
-      "\003(\0132\007.Member\022!\n\010overview\030\005 \002(\0132\017.GossipO" +
-      "verview\022\035\n\007version\030\006 \002(\0132\014.VectorClock\"S" +
-      "\n\016GossipOverview\022\014\n\004seen\030\001 \003(\005\0223\n\024observ" +
-      "erReachability\030\002 \003(\0132\025.ObserverReachabil" +
-      "ity\"p\n\024ObserverReachability\022\024\n\014addressIn" +
-      "dex\030\001 \002(\005\022\017\n\007version\030\004 \002(\003\0221\n\023subjectRea" +
-      "chability\030\002 \003(\0132\024.SubjectReachability\"a\n" +
-      "\023SubjectReachability\022\024\n\014addressIndex\030\001 \002" +
-      "(\005\022#\n\006status\030\003 \002(\0162\023.ReachabilityStatus\022",
-      "\017\n\007version\030\004 \002(\003\"i\n\006Member\022\024\n\014addressInd" +
-      "ex\030\001 \002(\005\022\020\n\010upNumber\030\002 \002(\005\022\035\n\006status\030\003 \002" +
-      "(\0162\r.MemberStatus\022\030\n\014rolesIndexes\030\004 \003(\005B" +
-      "\002\020\001\"y\n\013VectorClock\022\021\n\ttimestamp\030\001 \001(\003\022&\n" +
-      "\010versions\030\002 \003(\0132\024.VectorClock.Version\032/\n" +
-      "\007Version\022\021\n\thashIndex\030\001 \002(\005\022\021\n\ttimestamp" +
-      "\030\002 \002(\003\"^\n\025MetricsGossipEnvelope\022\026\n\004from\030" +
-      "\001 \002(\0132\010.Address\022\036\n\006gossip\030\002 \002(\0132\016.Metric" +
-      "sGossip\022\r\n\005reply\030\003 \002(\010\"j\n\rMetricsGossip\022" +
-      "\036\n\014allAddresses\030\001 \003(\0132\010.Address\022\026\n\016allMe",
-      "tricNames\030\002 \003(\t\022!\n\013nodeMetrics\030\003 \003(\0132\014.N" +
-      "odeMetrics\"\230\003\n\013NodeMetrics\022\024\n\014addressInd" +
-      "ex\030\001 \002(\005\022\021\n\ttimestamp\030\002 \002(\003\022$\n\007metrics\030\003" +
-      " \003(\0132\023.NodeMetrics.Metric\032e\n\006Number\022%\n\004t" +
-      "ype\030\001 \002(\0162\027.NodeMetrics.NumberType\022\017\n\007va" +
-      "lue32\030\002 \001(\r\022\017\n\007value64\030\003 \001(\004\022\022\n\nserializ" +
-      "ed\030\004 \001(\014\032$\n\004EWMA\022\r\n\005value\030\001 \002(\001\022\r\n\005alpha" +
-      "\030\002 \002(\001\032a\n\006Metric\022\021\n\tnameIndex\030\001 \002(\005\022#\n\006n" +
-      "umber\030\002 \002(\0132\023.NodeMetrics.Number\022\037\n\004ewma" +
-      "\030\003 \001(\0132\021.NodeMetrics.EWMA\"J\n\nNumberType\022",
-      "\016\n\nSerialized\020\000\022\n\n\006Double\020\001\022\t\n\005Float\020\002\022\013" +
-      "\n\007Integer\020\003\022\010\n\004Long\020\004\"\007\n\005Empty\"K\n\007Addres" +
-      "s\022\016\n\006system\030\001 \002(\t\022\020\n\010hostname\030\002 \002(\t\022\014\n\004p" +
-      "ort\030\003 \002(\r\022\020\n\010protocol\030\004 \001(\t\"E\n\rUniqueAdd" +
-      "ress\022\031\n\007address\030\001 \002(\0132\010.Address\022\013\n\003uid\030\002" +
-      " \002(\r\022\014\n\004uid2\030\003 \001(\r*D\n\022ReachabilityStatus" +
-      "\022\r\n\tReachable\020\000\022\017\n\013Unreachable\020\001\022\016\n\nTerm" +
-      "inated\020\002*b\n\014MemberStatus\022\013\n\007Joining\020\000\022\006\n" +
-      "\002Up\020\001\022\013\n\007Leaving\020\002\022\013\n\007Exiting\020\003\022\010\n\004Down\020" +
-      "\004\022\013\n\007Removed\020\005\022\014\n\010WeaklyUp\020\006B\035\n\031akka.clu",
-      "ster.protobuf.msgH\001"
+      "\030\003 \002(\0132\014.VectorClock\"l\n\023GossipDeltaEnvel" +
+      "ope\022\034\n\004from\030\001 \002(\0132\016.UniqueAddress\022\032\n\002to\030",
+      "\002 \002(\0132\016.UniqueAddress\022\033\n\005delta\030\003 \002(\0132\014.G" +
+      "ossipDelta\"\263\002\n\013GossipDelta\022$\n\014allAddress" +
+      "es\030\001 \003(\0132\016.UniqueAddress\022\020\n\010allRoles\030\002 \003" +
+      "(\t\022\021\n\tallHashes\030\003 \003(\t\022!\n\013baseVersion\030\004 \002" +
+      "(\0132\014.VectorClock\022\035\n\007version\030\005 \002(\0132\014.Vect" +
+      "orClock\022\037\n\016changedMembers\030\006 \003(\0132\007.Member" +
+      "\022\026\n\016removedMembers\030\007 \003(\005\0222\n\023changedReach" +
+      "ability\030\010 \003(\0132\025.ObserverReachability\022\030\n\020" +
+      "removedObservers\030\t \003(\005\022\020\n\004seen\030\n \003(\006B\002\020\001" +
+      "\"\257\001\n\006Gossip\022$\n\014allAddresses\030\001 \003(\0132\016.Uniq",
+      "ueAddress\022\020\n\010allRoles\030\002 \003(\t\022\021\n\tallHashes" +
+      "\030\003 \003(\t\022\030\n\007members\030\004 \003(\0132\007.Member\022!\n\010over" +
+      "view\030\005 \002(\0132\017.GossipOverview\022\035\n\007version\030\006" +
+      " \002(\0132\014.VectorClock\"S\n\016GossipOverview\022\014\n\004" +
+      "seen\030\001 \003(\005\0223\n\024observerReachability\030\002 \003(\013" +
+      "2\025.ObserverReachability\"p\n\024ObserverReach" +
+      "ability\022\024\n\014addressIndex\030\001 \002(\005\022\017\n\007version" +
+      "\030\004 \002(\003\0221\n\023subjectReachability\030\002 \003(\0132\024.Su" +
+      "bjectReachability\"a\n\023SubjectReachability" +
+      "\022\024\n\014addressIndex\030\001 \002(\005\022#\n\006status\030\003 \002(\0162\023",
+      ".ReachabilityStatus\022\017\n\007version\030\004 \002(\003\"i\n\006" +
+      "Member\022\024\n\014addressIndex\030\001 \002(\005\022\020\n\010upNumber" +
+      "\030\002 \002(\005\022\035\n\006status\030\003 \002(\0162\r.MemberStatus\022\030\n" +
+      "\014rolesIndexes\030\004 \003(\005B\002\020\001\"y\n\013VectorClock\022\021" +
+      "\n\ttimestamp\030\001 \001(\003\022&\n\010versions\030\002 \003(\0132\024.Ve" +
+      "ctorClock.Version\032/\n\007Version\022\021\n\thashInde" +
+      "x\030\001 \002(\005\022\021\n\ttimestamp\030\002 \002(\003\"^\n\025MetricsGos" +
+      "sipEnvelope\022\026\n\004from\030\001 \002(\0132\010.Address\022\036\n\006g" +
+      "ossip\030\002 \002(\0132\016.MetricsGossip\022\r\n\005reply\030\003 \002" +
+      "(\010\"j\n\rMetricsGossip\022\036\n\014allAddresses\030\001 \003(",
+      "\0132\010.Address\022\026\n\016allMetricNames\030\002 \003(\t\022!\n\013n" +
+      "odeMetrics\030\003 \003(\0132\014.NodeMetrics\"\230\003\n\013NodeM" +
+      "etrics\022\024\n\014addressIndex\030\001 \002(\005\022\021\n\ttimestam" +
+      "p\030\002 \002(\003\022$\n\007metrics\030\003 \003(\0132\023.NodeMetrics.M" +
+      "etric\032e\n\006Number\022%\n\004type\030\001 \002(\0162\027.NodeMetr" +
+      "ics.NumberType\022\017\n\007value32\030\002 \001(\r\022\017\n\007value" +
+      "64\030\003 \001(\004\022\022\n\nserialized\030\004 \001(\014\032$\n\004EWMA\022\r\n\005" +
+      "value\030\001 \002(\001\022\r\n\005alpha\030\002 \002(\001\032a\n\006Metric\022\021\n\t" +
+      "nameIndex\030\001 \002(\005\022#\n\006number\030\002 \002(\0132\023.NodeMe" +
+      "trics.Number\022\037\n\004ewma\030\003 \001(\0132\021.NodeMetrics",
+      ".EWMA\"J\n\nNumberType\022\016\n\nSerialized\020\000\022\n\n\006D" +
+      "ouble\020\001\022\t\n\005Float\020\002\022\013\n\007Integer\020\003\022\010\n\004Long\020" +
+      "\004\"\007\n\005Empty\"K\n\007Address\022\016\n\006system\030\001 \002(\t\022\020\n" +
+      "\010hostname\030\002 \002(\t\022\014\n\004port\030\003 \002(\r\022\020\n\010protoco" +
+      "l\030\004 \001(\t\"E\n\rUniqueAddress\022\031\n\007address\030\001 \002(" +
+      "\0132\010.Address\022\013\n\003uid\030\002 \002(\r\022\014\n\004uid2\030\003 \001(\r*D" +
+      "\n\022ReachabilityStatus\022\r\n\tReachable\020\000\022\017\n\013U" +
+      "nreachable\020\001\022\016\n\nTerminated\020\002*b\n\014MemberSt" +
+      "atus\022\013\n\007Joining\020\000\022\006\n\002Up\020\001\022\013\n\007Leaving\020\002\022\013" +
+      "\n\007Exiting\020\003\022\010\n\004Down\020\004\022\013\n\007Removed\020\005\022\014\n\010We",
+      "aklyUp\020\006B\035\n\031akka.cluster.protobuf.msgH\001"
     };
     akka.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
       new akka.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
@@ -16940,38 +20776,50 @@ public final class ClusterMessages {
             akka.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_GossipStatus_descriptor,
               new java.lang.String[] { "From", "AllHashes", "Version", });
-          internal_static_Gossip_descriptor =
+          internal_static_GossipDeltaEnvelope_descriptor =
             getDescriptor().getMessageTypes().get(4);
+          internal_static_GossipDeltaEnvelope_fieldAccessorTable = new
+            akka.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_GossipDeltaEnvelope_descriptor,
+              new java.lang.String[] { "From", "To", "Delta", });
+          internal_static_GossipDelta_descriptor =
+            getDescriptor().getMessageTypes().get(5);
+          internal_static_GossipDelta_fieldAccessorTable = new
+            akka.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_GossipDelta_descriptor,
+              new java.lang.String[] { "AllAddresses", "AllRoles", "AllHashes", "BaseVersion", "Version", "ChangedMembers", "RemovedMembers", "ChangedReachability", "RemovedObservers", "Seen", });
+          internal_static_Gossip_descriptor =
+            getDescriptor().getMessageTypes().get(6);
           internal_static_Gossip_fieldAccessorTable = new
             akka.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_Gossip_descriptor,
               new java.lang.String[] { "AllAddresses", "AllRoles", "AllHashes", "Members", "Overview", "Version", });
           internal_static_GossipOverview_descriptor =
-            getDescriptor().getMessageTypes().get(5);
+            getDescriptor().getMessageTypes().get(7);
           internal_static_GossipOverview_fieldAccessorTable = new
             akka.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_GossipOverview_descriptor,
               new java.lang.String[] { "Seen", "ObserverReachability", });
           internal_static_ObserverReachability_descriptor =
-            getDescriptor().getMessageTypes().get(6);
+            getDescriptor().getMessageTypes().get(8);
           internal_static_ObserverReachability_fieldAccessorTable = new
             akka.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_ObserverReachability_descriptor,
               new java.lang.String[] { "AddressIndex", "Version", "SubjectReachability", });
           internal_static_SubjectReachability_descriptor =
-            getDescriptor().getMessageTypes().get(7);
+            getDescriptor().getMessageTypes().get(9);
           internal_static_SubjectReachability_fieldAccessorTable = new
             akka.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_SubjectReachability_descriptor,
               new java.lang.String[] { "AddressIndex", "Status", "Version", });
           internal_static_Member_descriptor =
-            getDescriptor().getMessageTypes().get(8);
+            getDescriptor().getMessageTypes().get(10);
           internal_static_Member_fieldAccessorTable = new
             akka.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_Member_descriptor,
               new java.lang.String[] { "AddressIndex", "UpNumber", "Status", "RolesIndexes", });
           internal_static_VectorClock_descriptor =
-            getDescriptor().getMessageTypes().get(9);
+            getDescriptor().getMessageTypes().get(11);
           internal_static_VectorClock_fieldAccessorTable = new
             akka.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_VectorClock_descriptor,
@@ -16983,19 +20831,19 @@ public final class ClusterMessages {
               internal_static_VectorClock_Version_descriptor,
               new java.lang.String[] { "HashIndex", "Timestamp", });
           internal_static_MetricsGossipEnvelope_descriptor =
-            getDescriptor().getMessageTypes().get(10);
+            getDescriptor().getMessageTypes().get(12);
           internal_static_MetricsGossipEnvelope_fieldAccessorTable = new
             akka.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_MetricsGossipEnvelope_descriptor,
               new java.lang.String[] { "From", "Gossip", "Reply", });
           internal_static_MetricsGossip_descriptor =
-            getDescriptor().getMessageTypes().get(11);
+            getDescriptor().getMessageTypes().get(13);
           internal_static_MetricsGossip_fieldAccessorTable = new
             akka.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_MetricsGossip_descriptor,
               new java.lang.String[] { "AllAddresses", "AllMetricNames", "NodeMetrics", });
           internal_static_NodeMetrics_descriptor =
-            getDescriptor().getMessageTypes().get(12);
+            getDescriptor().getMessageTypes().get(14);
           internal_static_NodeMetrics_fieldAccessorTable = new
             akka.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_NodeMetrics_descriptor,
@@ -17019,19 +20867,19 @@ public final class ClusterMessages {
               internal_static_NodeMetrics_Metric_descriptor,
               new java.lang.String[] { "NameIndex", "Number", "Ewma", });
           internal_static_Empty_descriptor =
-            getDescriptor().getMessageTypes().get(13);
+            getDescriptor().getMessageTypes().get(15);
           internal_static_Empty_fieldAccessorTable = new
             akka.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_Empty_descriptor,
               new java.lang.String[] { });
           internal_static_Address_descriptor =
-            getDescriptor().getMessageTypes().get(14);
+            getDescriptor().getMessageTypes().get(16);
           internal_static_Address_fieldAccessorTable = new
             akka.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_Address_descriptor,
               new java.lang.String[] { "System", "Hostname", "Port", "Protocol", });
           internal_static_UniqueAddress_descriptor =
-            getDescriptor().getMessageTypes().get(15);
+            getDescriptor().getMessageTypes().get(17);
           internal_static_UniqueAddress_fieldAccessorTable = new
             akka.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_UniqueAddress_descriptor,
@@ -259,6 +259,9 @@ private[cluster] class ClusterCoreDaemon(publisher: ActorRef) extends Actor with
   // and the Gossip is not versioned for this 'Node' yet
   var latestGossip: Gossip = Gossip.empty
 
+  // the latest gossip that other nodes are known to have, used as the base of gossip deltas
+  var peerGossip = Map.empty[UniqueAddress, Gossip]
+
   val statsEnabled = PublishStatsInterval.isFinite
   var gossipStats = GossipStats()
 
@@ -366,6 +369,7 @@ private[cluster] class ClusterCoreDaemon(publisher: ActorRef) extends Actor with
 
   def initialized: Actor.Receive = {
     case msg: GossipEnvelope              ⇒ receiveGossip(msg)
+    case msg: GossipDeltaEnvelope         ⇒ receiveGossipDelta(msg)
     case msg: GossipStatus                ⇒ receiveGossipStatus(msg)
     case GossipTick                       ⇒ gossipTick()
     case GossipSpeedupTick                ⇒ gossipSpeedupTick()
@@ -394,10 +398,11 @@ private[cluster] class ClusterCoreDaemon(publisher: ActorRef) extends Actor with
   def receive = uninitialized
 
   override def unhandled(message: Any): Unit = message match {
-    case _: Tick           ⇒
-    case _: GossipEnvelope ⇒
-    case _: GossipStatus   ⇒
-    case other             ⇒ super.unhandled(other)
+    case _: Tick                ⇒
+    case _: GossipEnvelope      ⇒
+    case _: GossipDeltaEnvelope ⇒
+    case _: GossipStatus        ⇒
+    case other                  ⇒ super.unhandled(other)
   }
 
   def initJoin(): Unit = {
@@ -647,6 +652,11 @@ private[cluster] class ClusterCoreDaemon(publisher: ActorRef) extends Actor with
     else if (latestGossip.members.forall(_.uniqueAddress != from))
       log.debug("Cluster Node [{}] - Ignoring received gossip status from unknown [{}]", selfAddress, from)
     else {
+      if (DeltaGossip) {
+        // the node has our latest gossip if it has the same version, otherwise the full gossip must be sent
+        if (status.version == latestGossip.version) peerGossip = peerGossip.updated(from, latestGossip)
+        else peerGossip -= from
+      }
       (status.version compareTo latestGossip.version) match {
         case VectorClock.Same  ⇒ // same version
         case VectorClock.After ⇒ gossipStatusTo(from, sender()) // remote is newer
@@ -689,6 +699,8 @@ private[cluster] class ClusterCoreDaemon(publisher: ActorRef) extends Actor with
       logInfo("Ignoring received gossip that does not contain myself, from [{}]", from)
       Ignored
     } else {
+      if (DeltaGossip) peerGossip = peerGossip.updated(from, remoteGossip)
+
       val comparison = remoteGossip.version compareTo localGossip.version
 
       val (winningGossip, talkback, gossipType) = comparison match {
@@ -765,8 +777,27 @@ private[cluster] class ClusterCoreDaemon(publisher: ActorRef) extends Actor with
     }
   }
 
+  /**
+   * Receive the changes since a version that we were known to have. The delta can only be applied
+   * if we still have that version, otherwise the sender is asked for the full gossip by replying with
+   * our gossip status.
+   */
+  def receiveGossipDelta(envelope: GossipDeltaEnvelope): Unit = {
+    val from = envelope.from
+    if (envelope.to != selfUniqueAddress)
+      logInfo("Ignoring received gossip delta intended for someone else, from [{}] to [{}]", from.address, envelope.to)
+    else if (envelope.delta.baseVersion == latestGossip.version)
+      receiveGossip(GossipEnvelope(from, envelope.to, envelope.delta applyTo latestGossip))
+    else {
+      log.debug("Cluster Node [{}] - Received gossip delta from [{}] for another version, requesting full gossip", selfAddress, from)
+      gossipStatusTo(from, sender())
+    }
+  }
+
   def gossipTick(): Unit = {
     gossip()
+    if (DeltaGossip && peerGossip.keysIterator.exists(node ⇒ !latestGossip.hasMember(node)))
+      peerGossip = peerGossip.filter { case (node, _) ⇒ latestGossip.hasMember(node) }
     if (isGossipSpeedupNeeded) {
       scheduler.scheduleOnce(GossipInterval / 3, self, GossipSpeedupTick)
       scheduler.scheduleOnce(GossipInterval * 2 / 3, self, GossipSpeedupTick)
@@ -1123,11 +1154,26 @@ private[cluster] class ClusterCoreDaemon(publisher: ActorRef) extends Actor with
    */
   def gossipTo(node: UniqueAddress): Unit =
     if (validNodeForGossip(node))
-      clusterCore(node.address) ! GossipEnvelope(selfUniqueAddress, node, latestGossip)
+      clusterCore(node.address) ! gossipEnvelope(node)
 
   def gossipTo(node: UniqueAddress, destination: ActorRef): Unit =
     if (validNodeForGossip(node))
-      destination ! GossipEnvelope(selfUniqueAddress, node, latestGossip)
+      destination ! gossipEnvelope(node)
+
+  /**
+   * The latest gossip for the node, only the changes since the gossip that the node is known
+   * to have when delta gossip is enabled.
+   */
+  def gossipEnvelope(node: UniqueAddress): ClusterMessage =
+    if (DeltaGossip) {
+      val localGossip = latestGossip
+      val known = peerGossip.get(node)
+      peerGossip = peerGossip.updated(node, localGossip)
+      known match {
+        case Some(base) ⇒ GossipDeltaEnvelope(selfUniqueAddress, node, localGossip delta base)
+        case None       ⇒ GossipEnvelope(selfUniqueAddress, node, localGossip)
+      }
+    } else GossipEnvelope(selfUniqueAddress, node, latestGossip)
 
   def gossipStatusTo(node: UniqueAddress, destination: ActorRef): Unit =
     if (validNodeForGossip(node))
@@ -90,11 +90,20 @@ private[cluster] final class ClusterHeartbeatSender extends Actor with ActorLogg
     cluster.unsubscribe(self)
   }
 
+  // the selections are resolved once per receiver and reused for every heartbeat
+  var heartbeatReceivers = Map.empty[Address, ActorSelection]
+
   /**
    * Looks up and returns the remote cluster heartbeat connection for the specific address.
    */
   def heartbeatReceiver(address: Address): ActorSelection =
-    context.actorSelection(RootActorPath(address) / "system" / "cluster" / "heartbeatReceiver")
+    heartbeatReceivers.get(address) match {
+      case Some(selection) ⇒ selection
+      case None ⇒
+        val selection = context.actorSelection(RootActorPath(address) / "system" / "cluster" / "heartbeatReceiver")
+        heartbeatReceivers = heartbeatReceivers.updated(address, selection)
+        selection
+    }
 
   def receive = initializing
 
@@ -141,6 +150,9 @@ private[cluster] final class ClusterHeartbeatSender extends Actor with ActorLogg
     state = state.reachableMember(m.uniqueAddress)
 
   def heartbeat(): Unit = {
+    if (heartbeatReceivers.size > state.activeReceivers.size)
+      heartbeatReceivers = heartbeatReceivers.filter { case (address, _) ⇒ state.activeReceivers.exists(_.address == address) }
+
     state.activeReceivers foreach { to ⇒
       if (cluster.failureDetector.isMonitoring(to.address)) {
         if (verboseHeartbeat) log.debug("Cluster Node [{}] - Heartbeat to [{}]", selfAddress, to.address)
@@ -214,6 +214,30 @@ private[cluster] final case class Gossip(
     members.maxBy(m ⇒ if (m.upNumber == Int.MaxValue) 0 else m.upNumber)
   }
 
+  /**
+   * The changes from the `base` gossip to this gossip, see [[GossipDelta]].
+   */
+  def delta(base: Gossip): GossipDelta = {
+    val changedMembers = members.filter { m ⇒
+      base.membersMap.get(m.uniqueAddress) match {
+        case Some(b) ⇒ b.status != m.status || b.upNumber != m.upNumber
+        case None    ⇒ true
+      }
+    }
+    val removedMembers: Set[UniqueAddress] =
+      base.members.collect { case m if !hasMember(m.uniqueAddress) ⇒ m.uniqueAddress }(collection.breakOut)
+
+    val reachability = overview.reachability
+    val baseReachability = base.overview.reachability
+    val changedReachability = reachability.onlyObservers(reachability.changedObservers(baseReachability))
+    val removedObservers = baseReachability.allObservers diff reachability.allObservers
+
+    val seen = immutable.BitSet.empty ++
+      members.iterator.zipWithIndex.collect { case (m, i) if seenByNode(m.uniqueAddress) ⇒ i }
+
+    GossipDelta(base.version, version, changedMembers, removedMembers, changedReachability, removedObservers, seen)
+  }
+
   def prune(removedNode: VectorClock.Node): Gossip = {
     val newVersion = version.prune(removedNode)
     if (newVersion eq version) this
@@ -237,6 +261,53 @@ private[cluster] final case class GossipOverview(
     s"GossipOverview(reachability = [$reachability], seen = [${seen.mkString(", ")}])"
 }
 
+/**
+ * INTERNAL API
+ *
+ * The changes between a `Gossip` that the receiving node is known to have, identified by
+ * its `baseVersion`, and a newer `Gossip`. Only added or changed members and the reachability
+ * records of observers with changes are included. The seen table is always included in full,
+ * as a bit set of the positions of the nodes in the sorted members of the newer `Gossip`.
+ *
+ * It can only be applied to a `Gossip` with the `baseVersion`, if the receiving node has
+ * another version it replies with its `GossipStatus` and gets the full `Gossip` instead.
+ */
+@SerialVersionUID(1L)
+private[cluster] final case class GossipDelta(
+  baseVersion:         VectorClock,
+  version:             VectorClock,
+  changedMembers:      immutable.SortedSet[Member],
+  removedMembers:      Set[UniqueAddress],
+  changedReachability: Reachability,
+  removedObservers:    Set[UniqueAddress],
+  seen:                immutable.BitSet) {
+
+  /**
+   * The `Gossip` that this delta was created from.
+   */
+  def applyTo(base: Gossip): Gossip = {
+    require(base.version == baseVersion, s"Delta of version [$baseVersion] cannot be applied to version [${base.version}]")
+    val members = (base.members.filterNot(m ⇒ removedMembers(m.uniqueAddress)) -- changedMembers) ++ changedMembers
+    val reachability = base.overview.reachability.patch(changedReachability, removedObservers)
+    val newSeen: Set[UniqueAddress] =
+      members.iterator.zipWithIndex.collect { case (m, i) if seen(i) ⇒ m.uniqueAddress }.toSet
+    Gossip(members, GossipOverview(newSeen, reachability), version)
+  }
+
+  override def toString =
+    s"GossipDelta(baseVersion = $baseVersion, version = $version, changedMembers = [${changedMembers.mkString(", ")}], " +
+      s"removedMembers = [${removedMembers.mkString(", ")}], changedReachability = [$changedReachability], " +
+      s"removedObservers = [${removedObservers.mkString(", ")}], seen = [${seen.mkString(", ")}])"
+}
+
+/**
+ * INTERNAL API
+ * Envelope adding a sender and receiver address to the gossip delta, see [[GossipEnvelope]].
+ */
+@SerialVersionUID(1L)
+private[cluster] final case class GossipDeltaEnvelope(from: UniqueAddress, to: UniqueAddress, delta: GossipDelta)
+  extends ClusterMessage
+
 object GossipEnvelope {
   def apply(from: UniqueAddress, to: UniqueAddress, gossip: Gossip): GossipEnvelope =
     new GossipEnvelope(from, to, gossip, null, null)
@@ -191,6 +191,35 @@ private[cluster] class Reachability private (
       Reachability(newRecords, newVersions)
     }
 
+  /**
+   * The observers with other records or another version than in `base`.
+   */
+  def changedObservers(base: Reachability): Set[UniqueAddress] =
+    if (this eq base) Set.empty
+    else allObservers.filter { observer ⇒
+      currentVersion(observer) != base.currentVersion(observer) || observerRows(observer) != base.observerRows(observer)
+    }
+
+  /**
+   * Only the records and versions of the given observers.
+   */
+  def onlyObservers(nodes: Set[UniqueAddress]): Reachability =
+    if (nodes.isEmpty)
+      Reachability.empty
+    else
+      Reachability(records.filter(r ⇒ nodes(r.observer)), versions.filter { case (observer, _) ⇒ nodes(observer) })
+
+  /**
+   * Replaces the records and versions of the observers in `changed`, and removes the `removedObservers`.
+   */
+  def patch(changed: Reachability, removedObservers: Set[UniqueAddress]): Reachability =
+    if (changed.versions.isEmpty && removedObservers.isEmpty)
+      this
+    else {
+      val unchanged = removeObservers(removedObservers union changed.allObservers)
+      Reachability(unchanged.records ++ changed.records, unchanged.versions ++ changed.versions)
+    }
+
   def status(observer: UniqueAddress, subject: UniqueAddress): ReachabilityStatus =
     observerRows(observer) match {
       case None ⇒ Reachable
@@ -59,6 +59,7 @@ class ClusterMessageSerializer(val system: ExtendedActorSystem) extends BaseSeri
     classOf[ClusterHeartbeatSender.HeartbeatRsp] → (bytes ⇒ ClusterHeartbeatSender.HeartbeatRsp(uniqueAddressFromBinary(bytes))),
     classOf[GossipStatus] → gossipStatusFromBinary,
     classOf[GossipEnvelope] → gossipEnvelopeFromBinary,
+    classOf[GossipDeltaEnvelope] → gossipDeltaEnvelopeFromBinary,
     classOf[MetricsGossipEnvelope] → metricsGossipEnvelopeFromBinary)
 
   def includeManifest: Boolean = true
@@ -67,6 +68,7 @@ class ClusterMessageSerializer(val system: ExtendedActorSystem) extends BaseSeri
     case ClusterHeartbeatSender.Heartbeat(from)      ⇒ addressToProtoByteArray(from)
     case ClusterHeartbeatSender.HeartbeatRsp(from)   ⇒ uniqueAddressToProtoByteArray(from)
     case m: GossipEnvelope                           ⇒ gossipEnvelopeToProto(m).toByteArray
+    case m: GossipDeltaEnvelope                      ⇒ gossipDeltaEnvelopeToProto(m).toByteArray
     case m: GossipStatus                             ⇒ gossipStatusToProto(m).toByteArray
     case m: MetricsGossipEnvelope                    ⇒ compress(metricsGossipEnvelopeToProto(m))
     case InternalClusterAction.Join(node, roles)     ⇒ joinToProto(node, roles).toByteArray
@@ -218,27 +220,9 @@ class ClusterMessageSerializer(val system: ExtendedActorSystem) extends BaseSeri
     val hashMapping = allHashes.zipWithIndex.toMap
 
     def mapUniqueAddress(uniqueAddress: UniqueAddress): Integer = mapWithErrorMessage(addressMapping, uniqueAddress, "address")
-    def mapRole(role: String): Integer = mapWithErrorMessage(roleMapping, role, "role")
-
-    def memberToProto(member: Member) =
-      cm.Member.newBuilder.setAddressIndex(mapUniqueAddress(member.uniqueAddress)).setUpNumber(member.upNumber).
-        setStatus(cm.MemberStatus.valueOf(memberStatusToInt(member.status))).
-        addAllRolesIndexes(member.roles.map(mapRole).asJava)
-
-    def reachabilityToProto(reachability: Reachability): Iterable[cm.ObserverReachability.Builder] = {
-      reachability.versions.map {
-        case (observer, version) ⇒
-          val subjectReachability = reachability.recordsFrom(observer).map(r ⇒
-            cm.SubjectReachability.newBuilder().setAddressIndex(mapUniqueAddress(r.subject)).
-              setStatus(cm.ReachabilityStatus.valueOf(reachabilityStatusToInt(r.status))).
-              setVersion(r.version))
-          cm.ObserverReachability.newBuilder().setAddressIndex(mapUniqueAddress(observer)).setVersion(version).
-            addAllSubjectReachability(subjectReachability.map(_.build).asJava)
-      }
-    }
 
-    val reachability = reachabilityToProto(gossip.overview.reachability)
-    val members = gossip.members.map(memberToProto)
+    val reachability = reachabilityToProto(gossip.overview.reachability, addressMapping)
+    val members = gossip.members.map(memberToProto(_, addressMapping, roleMapping))
     val seen = gossip.overview.seen.map(mapUniqueAddress)
 
     val overview = cm.GossipOverview.newBuilder.addAllSeen(seen.asJava).
@@ -249,6 +233,51 @@ class ClusterMessageSerializer(val system: ExtendedActorSystem) extends BaseSeri
       setOverview(overview).setVersion(vectorClockToProto(gossip.version, hashMapping))
   }
 
+  private def memberToProto(member: Member, addressMapping: Map[UniqueAddress, Int], roleMapping: Map[String, Int]) =
+    cm.Member.newBuilder.setAddressIndex(mapWithErrorMessage(addressMapping, member.uniqueAddress, "address")).
+      setUpNumber(member.upNumber).setStatus(cm.MemberStatus.valueOf(memberStatusToInt(member.status))).
+      addAllRolesIndexes(member.roles.map(r ⇒ Integer.valueOf(mapWithErrorMessage(roleMapping, r, "role"))).asJava)
+
+  private def reachabilityToProto(
+    reachability:   Reachability,
+    addressMapping: Map[UniqueAddress, Int]): Iterable[cm.ObserverReachability.Builder] = {
+    def mapUniqueAddress(uniqueAddress: UniqueAddress): Int = mapWithErrorMessage(addressMapping, uniqueAddress, "address")
+    reachability.versions.map {
+      case (observer, version) ⇒
+        val subjectReachability = reachability.recordsFrom(observer).map(r ⇒
+          cm.SubjectReachability.newBuilder().setAddressIndex(mapUniqueAddress(r.subject)).
+            setStatus(cm.ReachabilityStatus.valueOf(reachabilityStatusToInt(r.status))).
+            setVersion(r.version))
+        cm.ObserverReachability.newBuilder().setAddressIndex(mapUniqueAddress(observer)).setVersion(version).
+          addAllSubjectReachability(subjectReachability.map(_.build).asJava)
+    }
+  }
+
+  private def gossipDeltaToProto(delta: GossipDelta): cm.GossipDelta.Builder = {
+    val reachability = delta.changedReachability
+    val allAddresses: Vector[UniqueAddress] =
+      (delta.changedMembers.iterator.map(_.uniqueAddress) ++ delta.removedMembers.iterator ++
+        reachability.records.iterator.flatMap(r ⇒ Iterator(r.observer, r.subject)) ++
+        reachability.allObservers.iterator ++ delta.removedObservers.iterator).toSet.toVector
+    val addressMapping = allAddresses.zipWithIndex.toMap
+    val allRoles = delta.changedMembers.foldLeft(Set.empty[String])((acc, m) ⇒ acc union m.roles).to[Vector]
+    val roleMapping = allRoles.zipWithIndex.toMap
+    val allHashes = (delta.baseVersion.versions.keySet union delta.version.versions.keySet).to[Vector]
+    val hashMapping = allHashes.zipWithIndex.toMap
+
+    def mapUniqueAddress(uniqueAddress: UniqueAddress): Integer = mapWithErrorMessage(addressMapping, uniqueAddress, "address")
+
+    cm.GossipDelta.newBuilder().addAllAllAddresses(allAddresses.map(uniqueAddressToProto(_).build).asJava).
+      addAllAllRoles(allRoles.asJava).addAllAllHashes(allHashes.asJava).
+      setBaseVersion(vectorClockToProto(delta.baseVersion, hashMapping)).
+      setVersion(vectorClockToProto(delta.version, hashMapping)).
+      addAllChangedMembers(delta.changedMembers.toVector.map(memberToProto(_, addressMapping, roleMapping).build).asJava).
+      addAllRemovedMembers(delta.removedMembers.toVector.map(mapUniqueAddress).asJava).
+      addAllChangedReachability(reachabilityToProto(reachability, addressMapping).map(_.build).asJava).
+      addAllRemovedObservers(delta.removedObservers.toVector.map(mapUniqueAddress).asJava).
+      addAllSeen(delta.seen.toBitMask.toVector.map(jl.Long.valueOf).asJava)
+  }
+
   private def vectorClockToProto(version: VectorClock, hashMapping: Map[String, Int]): cm.VectorClock.Builder = {
     val versions: Iterable[cm.VectorClock.Version.Builder] = version.versions.map {
       case (n, t) ⇒ cm.VectorClock.Version.newBuilder().setHashIndex(mapWithErrorMessage(hashMapping, n, "hash")).
@@ -264,6 +293,13 @@ class ClusterMessageSerializer(val system: ExtendedActorSystem) extends BaseSeri
       setSerializedGossip(ByteString.copyFrom(compress(gossipToProto(envelope.gossip).build))).
       build
 
+  private def gossipDeltaEnvelopeToProto(envelope: GossipDeltaEnvelope): cm.GossipDeltaEnvelope =
+    cm.GossipDeltaEnvelope.newBuilder().
+      setFrom(uniqueAddressToProto(envelope.from)).
+      setTo(uniqueAddressToProto(envelope.to)).
+      setDelta(gossipDeltaToProto(envelope.delta)).
+      build
+
   private def gossipStatusToProto(status: GossipStatus): cm.GossipStatus = {
     val allHashes = status.version.versions.keys.toVector
     val hashMapping = allHashes.zipWithIndex.toMap
@@ -274,6 +310,9 @@ class ClusterMessageSerializer(val system: ExtendedActorSystem) extends BaseSeri
   private def gossipEnvelopeFromBinary(bytes: Array[Byte]): GossipEnvelope =
     gossipEnvelopeFromProto(cm.GossipEnvelope.parseFrom(bytes))
 
+  private def gossipDeltaEnvelopeFromBinary(bytes: Array[Byte]): GossipDeltaEnvelope =
+    gossipDeltaEnvelopeFromProto(cm.GossipDeltaEnvelope.parseFrom(bytes))
+
   private def gossipStatusFromBinary(bytes: Array[Byte]): GossipStatus =
     gossipStatusFromProto(cm.GossipStatus.parseFrom(bytes))
 
@@ -284,35 +323,60 @@ class ClusterMessageSerializer(val system: ExtendedActorSystem) extends BaseSeri
     val roleMapping: Vector[String] = gossip.getAllRolesList.asScala.map(identity)(breakOut)
     val hashMapping: Vector[String] = gossip.getAllHashesList.asScala.map(identity)(breakOut)
 
-    def reachabilityFromProto(observerReachability: Iterable[cm.ObserverReachability]): Reachability = {
-      val recordBuilder = new immutable.VectorBuilder[Reachability.Record]
-      val versionsBuilder = new scala.collection.mutable.MapBuilder[UniqueAddress, Long, Map[UniqueAddress, Long]](Map.empty)
-      for (o ← observerReachability) {
-        val observer = addressMapping(o.getAddressIndex)
-        versionsBuilder += ((observer, o.getVersion))
-        for (s ← o.getSubjectReachabilityList.asScala) {
-          val subject = addressMapping(s.getAddressIndex)
-          val record = Reachability.Record(observer, subject, reachabilityStatusFromInt(s.getStatus.getNumber), s.getVersion)
-          recordBuilder += record
-        }
-      }
-
-      Reachability.create(recordBuilder.result(), versionsBuilder.result())
-    }
-
-    def memberFromProto(member: cm.Member) =
-      new Member(addressMapping(member.getAddressIndex), member.getUpNumber, memberStatusFromInt(member.getStatus.getNumber),
-        member.getRolesIndexesList.asScala.map(roleMapping(_))(breakOut))
-
-    val members: immutable.SortedSet[Member] = gossip.getMembersList.asScala.map(memberFromProto)(breakOut)
+    val members: immutable.SortedSet[Member] =
+      gossip.getMembersList.asScala.map(memberFromProto(_, addressMapping, roleMapping))(breakOut)
 
-    val reachability = reachabilityFromProto(gossip.getOverview.getObserverReachabilityList.asScala)
+    val reachability = reachabilityFromProto(gossip.getOverview.getObserverReachabilityList.asScala, addressMapping)
     val seen: Set[UniqueAddress] = gossip.getOverview.getSeenList.asScala.map(addressMapping(_))(breakOut)
     val overview = GossipOverview(seen, reachability)
 
     Gossip(members, overview, vectorClockFromProto(gossip.getVersion, hashMapping))
   }
 
+  private def memberFromProto(
+    member:         cm.Member,
+    addressMapping: immutable.IndexedSeq[UniqueAddress],
+    roleMapping:    immutable.IndexedSeq[String]): Member = {
+    import scala.collection.breakOut
+    new Member(addressMapping(member.getAddressIndex), member.getUpNumber, memberStatusFromInt(member.getStatus.getNumber),
+      member.getRolesIndexesList.asScala.map(roleMapping(_))(breakOut))
+  }
+
+  private def reachabilityFromProto(
+    observerReachability: Iterable[cm.ObserverReachability],
+    addressMapping:       immutable.IndexedSeq[UniqueAddress]): Reachability = {
+    val recordBuilder = new immutable.VectorBuilder[Reachability.Record]
+    val versionsBuilder = new scala.collection.mutable.MapBuilder[UniqueAddress, Long, Map[UniqueAddress, Long]](Map.empty)
+    for (o ← observerReachability) {
+      val observer = addressMapping(o.getAddressIndex)
+      versionsBuilder += ((observer, o.getVersion))
+      for (s ← o.getSubjectReachabilityList.asScala) {
+        val subject = addressMapping(s.getAddressIndex)
+        val record = Reachability.Record(observer, subject, reachabilityStatusFromInt(s.getStatus.getNumber), s.getVersion)
+        recordBuilder += record
+      }
+    }
+
+    Reachability.create(recordBuilder.result(), versionsBuilder.result())
+  }
+
+  private def gossipDeltaFromProto(delta: cm.GossipDelta): GossipDelta = {
+    import scala.collection.breakOut
+    val addressMapping: Vector[UniqueAddress] =
+      delta.getAllAddressesList.asScala.map(uniqueAddressFromProto)(breakOut)
+    val roleMapping: Vector[String] = delta.getAllRolesList.asScala.map(identity)(breakOut)
+    val hashMapping: Vector[String] = delta.getAllHashesList.asScala.map(identity)(breakOut)
+
+    GossipDelta(
+      baseVersion = vectorClockFromProto(delta.getBaseVersion, hashMapping),
+      version = vectorClockFromProto(delta.getVersion, hashMapping),
+      changedMembers = delta.getChangedMembersList.asScala.map(memberFromProto(_, addressMapping, roleMapping))(breakOut),
+      removedMembers = delta.getRemovedMembersList.asScala.map(addressMapping(_))(breakOut),
+      changedReachability = reachabilityFromProto(delta.getChangedReachabilityList.asScala, addressMapping),
+      removedObservers = delta.getRemovedObserversList.asScala.map(addressMapping(_))(breakOut),
+      seen = immutable.BitSet.fromBitMaskNoCopy(delta.getSeenList.asScala.map(_.longValue)(breakOut)))
+  }
+
   private def vectorClockFromProto(version: cm.VectorClock, hashMapping: immutable.Seq[String]) = {
     import scala.collection.breakOut
     VectorClock(version.getVersionsList.asScala.map(
@@ -325,6 +389,10 @@ class ClusterMessageSerializer(val system: ExtendedActorSystem) extends BaseSeri
       Deadline.now + GossipTimeToLive, () ⇒ gossipFromProto(cm.Gossip.parseFrom(decompress(serializedGossip.toByteArray))))
   }
 
+  private def gossipDeltaEnvelopeFromProto(envelope: cm.GossipDeltaEnvelope): GossipDeltaEnvelope =
+    GossipDeltaEnvelope(uniqueAddressFromProto(envelope.getFrom), uniqueAddressFromProto(envelope.getTo),
+      gossipDeltaFromProto(envelope.getDelta))
+
   private def gossipStatusFromProto(status: cm.GossipStatus): GossipStatus =
     GossipStatus(uniqueAddressFromProto(status.getFrom), vectorClockFromProto(
       status.getVersion,
@@ -0,0 +1,91 @@
+/**
+ * Copyright (C) 2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+package akka.cluster
+
+import scala.collection.immutable
+import scala.concurrent.duration._
+
+import akka.remote.testkit.MultiNodeConfig
+import akka.remote.testkit.MultiNodeSpec
+import akka.testkit._
+import com.typesafe.config.ConfigFactory
+
+object DeltaGossipMultiJvmSpec extends MultiNodeConfig {
+  val first = role("first")
+  val second = role("second")
+  val third = role("third")
+  val fourth = role("fourth")
+
+  commonConfig(debugConfig(on = false).
+    withFallback(ConfigFactory.parseString("akka.cluster.delta-gossip = on")).
+    withFallback(MultiNodeClusterSpec.clusterConfigWithFailureDetectorPuppet))
+}
+
+class DeltaGossipMultiJvmNode1 extends DeltaGossipSpec
+class DeltaGossipMultiJvmNode2 extends DeltaGossipSpec
+class DeltaGossipMultiJvmNode3 extends DeltaGossipSpec
+class DeltaGossipMultiJvmNode4 extends DeltaGossipSpec
+
+abstract class DeltaGossipSpec
+  extends MultiNodeSpec(DeltaGossipMultiJvmSpec)
+  with MultiNodeClusterSpec {
+
+  import DeltaGossipMultiJvmSpec._
+
+  "A cluster with delta gossip" must {
+
+    "reach initial convergence" taggedAs LongRunningTest in {
+      awaitClusterUp(first, second, third)
+      enterBarrier("after-1")
+    }
+
+    "converge when a node joins" taggedAs LongRunningTest in {
+      runOn(fourth) {
+        cluster.join(first)
+      }
+      awaitMembersUp(4)
+      awaitSeenSameState(first, second, third, fourth)
+      enterBarrier("after-2")
+    }
+
+    "request the full gossip when a delta does not apply to the local gossip" taggedAs LongRunningTest in {
+      runOn(first) {
+        val secondNode = clusterView.members.find(_.address == address(second)).get.uniqueAddress
+        val probe = TestProbe()
+
+        // a delta based on a version that first has never had
+        val delta = GossipDelta(
+          baseVersion = VectorClock(),
+          version = VectorClock(),
+          changedMembers = immutable.SortedSet.empty[Member],
+          removedMembers = Set.empty,
+          changedReachability = Reachability.empty,
+          removedObservers = Set.empty,
+          seen = immutable.BitSet.empty)
+        cluster.clusterCore.tell(GossipDeltaEnvelope(secondNode, cluster.selfUniqueAddress, delta), probe.ref)
+        val status = probe.expectMsgType[GossipStatus]
+        status.from should ===(cluster.selfUniqueAddress)
+
+        // the status of an older version is answered with the full gossip, not with a delta
+        cluster.clusterCore.tell(GossipStatus(secondNode, VectorClock()), probe.ref)
+        val envelope = probe.expectMsgType[GossipEnvelope]
+        envelope.to should ===(secondNode)
+        envelope.gossip.members.map(_.address) should ===(Set(address(first), address(second), address(third), address(fourth)))
+      }
+      enterBarrier("after-3")
+    }
+
+    "converge when a node leaves" taggedAs LongRunningTest in {
+      val fourthAddress = address(fourth)
+      runOn(first) {
+        cluster.leave(fourthAddress)
+      }
+      runOn(first, second, third) {
+        awaitMembersUp(3, canNotBePartOfMemberRing = Set(fourthAddress), timeout = 30.seconds)
+        awaitSeenSameState(first, second, third)
+      }
+      enterBarrier("after-4")
+    }
+  }
+}
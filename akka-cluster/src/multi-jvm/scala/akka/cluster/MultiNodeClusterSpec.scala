@@ -129,6 +129,7 @@ trait MultiNodeClusterSpec extends Suite with STMultiNodeSpec with WatchedByCoro
         classOf[ClusterHeartbeatSender.Heartbeat],
         classOf[ClusterHeartbeatSender.HeartbeatRsp],
         classOf[GossipEnvelope],
+        classOf[GossipDeltaEnvelope],
         classOf[GossipStatus],
         classOf[MetricsGossipEnvelope],
         classOf[ClusterEvent.ClusterMetricsChanged],
@@ -31,6 +31,7 @@ class ClusterConfigSpec extends AkkaSpec {
       PeriodicTasksInitialDelay should ===(1 seconds)
       GossipInterval should ===(1 second)
       GossipTimeToLive should ===(2 seconds)
+      DeltaGossip should ===(false)
       HeartbeatInterval should ===(1 second)
       MonitoredByNrOfMembers should ===(5)
       HeartbeatExpectedResponseAfter should ===(1 seconds)
@@ -168,5 +168,63 @@ class GossipSpec extends WordSpec with Matchers {
       val g3 = Gossip(members = SortedSet(a2, b1.copyUp(3), e2.copyUp(4)))
       g3.youngestMember should ===(e2)
     }
+
+    "reproduce the gossip when applying its delta to the base" in {
+      val node1 = VectorClock.Node("node1")
+      val node2 = VectorClock.Node("node2")
+      val r1 = Reachability.empty.unreachable(a1.uniqueAddress, e1.uniqueAddress).unreachable(b1.uniqueAddress, c1.uniqueAddress)
+      val base = (Gossip(members = SortedSet(a1, b1, c1, e1), overview = GossipOverview(reachability = r1)) :+ node1)
+        .seen(a1.uniqueAddress).seen(b1.uniqueAddress)
+
+      // c1 is Exiting, d1 has joined, e1 has been removed, b1 has seen c1 again
+      val r2 = r1.remove(List(e1.uniqueAddress)).reachable(b1.uniqueAddress, c1.uniqueAddress)
+      val gossip = (base.copy(members = SortedSet(a1, b1, c3, d1), overview = GossipOverview(reachability = r2)) :+ node2)
+        .onlySeen(b1.uniqueAddress).seen(c3.uniqueAddress)
+
+      val delta = gossip delta base
+      delta.changedMembers.map(_.status) should ===(SortedSet(c3, d1).map(_.status))
+      delta.changedMembers should ===(SortedSet(c3, d1))
+      delta.removedMembers should ===(Set(e1.uniqueAddress))
+      delta.changedReachability.allObservers should ===(Set(a1.uniqueAddress, b1.uniqueAddress))
+      delta.removedObservers should ===(Set.empty)
+
+      val applied = delta applyTo base
+      applied should ===(gossip)
+      applied.members.toList.map(_.status) should ===(gossip.members.toList.map(_.status))
+      applied.seenBy should ===(Set(b1.uniqueAddress, c3.uniqueAddress))
+      applied.overview.reachability.status(b1.uniqueAddress, c1.uniqueAddress) should ===(Reachability.Reachable)
+      applied.overview.reachability.status(a1.uniqueAddress, e1.uniqueAddress) should ===(Reachability.Reachable)
+    }
+
+    "only include the changed reachability observers in the delta" in {
+      val r1 = Reachability.empty.unreachable(a1.uniqueAddress, e1.uniqueAddress).unreachable(b1.uniqueAddress, e1.uniqueAddress)
+      val base = Gossip(members = SortedSet(a1, b1, c1, e1), overview = GossipOverview(reachability = r1))
+      val r2 = r1.unreachable(c1.uniqueAddress, e1.uniqueAddress).removeObservers(Set(b1.uniqueAddress))
+      val gossip = base.copy(overview = GossipOverview(reachability = r2))
+
+      val delta = gossip delta base
+      delta.changedMembers should ===(SortedSet.empty[Member])
+      delta.changedReachability.allObservers should ===(Set(c1.uniqueAddress))
+      delta.removedObservers should ===(Set(b1.uniqueAddress))
+      (delta applyTo base).overview.reachability should ===(r2)
+    }
+
+    "transfer the full seen table in deltas of the same version" in {
+      val base = Gossip(members = SortedSet(a1, b1, c1)).seen(a1.uniqueAddress)
+      val gossip = base.seen(b1.uniqueAddress).seen(c1.uniqueAddress)
+      val delta = gossip delta base
+      delta.changedMembers should ===(SortedSet.empty[Member])
+      (delta applyTo base).seenBy should ===(gossip.seenBy)
+      (delta applyTo base.seen(c1.uniqueAddress)).seenBy should ===(gossip.seenBy)
+    }
+
+    "not apply a delta to another version than its base" in {
+      val base = Gossip(members = SortedSet(a1, b1)) :+ VectorClock.Node("node1")
+      val gossip = base :+ VectorClock.Node("node2")
+      val delta = gossip delta base
+      intercept[IllegalArgumentException] {
+        delta applyTo gossip
+      }
+    }
   }
 }
@@ -67,6 +67,10 @@ class ClusterMessageSerializerSpec extends AkkaSpec(
       checkSerialization(GossipEnvelope(a1.uniqueAddress, uniqueAddress2, g2))
       checkSerialization(GossipEnvelope(a1.uniqueAddress, uniqueAddress2, g3))
 
+      checkSerialization(GossipDeltaEnvelope(a1.uniqueAddress, uniqueAddress2, g2 delta g1))
+      checkSerialization(GossipDeltaEnvelope(a1.uniqueAddress, uniqueAddress2, g3 delta g2))
+      checkSerialization(GossipDeltaEnvelope(a1.uniqueAddress, uniqueAddress2, g1 delta g3))
+
       checkSerialization(GossipStatus(a1.uniqueAddress, g1.version))
       checkSerialization(GossipStatus(a1.uniqueAddress, g2.version))
       checkSerialization(GossipStatus(a1.uniqueAddress, g3.version))
@@ -84,5 +88,22 @@ class ClusterMessageSerializerSpec extends AkkaSpec(
           Metric("bar5", BigInt(Long.MaxValue), None)))))
       checkSerialization(MetricsGossipEnvelope(a1.address, mg, true))
     }
+
+    "be able to reproduce the gossip from a serialized delta" in {
+      val node1 = VectorClock.Node("node1")
+      val node2 = VectorClock.Node("node2")
+      val base = (Gossip(SortedSet(a1, b1, c1, d1)) :+ node1).seen(a1.uniqueAddress).seen(b1.uniqueAddress)
+      val reachability = Reachability.empty.unreachable(a1.uniqueAddress, e1.uniqueAddress)
+      val gossip = (base.copy(members = SortedSet(a1.copy(Up), b1, c1.copy(Exiting), e1), overview = base.overview.copy(reachability = reachability)) :+ node2)
+        .onlySeen(c1.uniqueAddress)
+
+      val envelope = GossipDeltaEnvelope(a1.uniqueAddress, b1.uniqueAddress, gossip delta base)
+      val deserialized = serializer.fromBinary(serializer.toBinary(envelope), Some(classOf[GossipDeltaEnvelope]))
+        .asInstanceOf[GossipDeltaEnvelope]
+      val applied = deserialized.delta applyTo base
+      applied should ===(gossip)
+      applied.members.toList.map(m ⇒ (m.status, m.roles)) should ===(gossip.members.toList.map(m ⇒ (m.status, m.roles)))
+      applied.seenBy should ===(Set(c1.uniqueAddress))
+    }
   }
 }
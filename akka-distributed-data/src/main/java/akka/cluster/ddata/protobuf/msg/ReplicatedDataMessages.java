@@ -8,6 +8,97 @@ public final class ReplicatedDataMessages {
   public static void registerAllExtensions(
       akka.protobuf.ExtensionRegistry registry) {
   }
+  /**
+   * Protobuf enum {@code akka.cluster.ddata.ORSetDeltaOp}
+   */
+  public enum ORSetDeltaOp
+      implements akka.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>Add = 0;</code>
+     */
+    Add(0, 0),
+    /**
+     * <code>Remove = 1;</code>
+     */
+    Remove(1, 1),
+    /**
+     * <code>Full = 2;</code>
+     */
+    Full(2, 2),
+    ;
+
+    /**
+     * <code>Add = 0;</code>
+     */
+    public static final int Add_VALUE = 0;
+    /**
+     * <code>Remove = 1;</code>
+     */
+    public static final int Remove_VALUE = 1;
+    /**
+     * <code>Full = 2;</code>
+     */
+    public static final int Full_VALUE = 2;
+
+
+    public final int getNumber() { return value; }
+
+    public static ORSetDeltaOp valueOf(int value) {
+      switch (value) {
+        case 0: return Add;
+        case 1: return Remove;
+        case 2: return Full;
+        default: return null;
+      }
+    }
+
+    public static akka.protobuf.Internal.EnumLiteMap<ORSetDeltaOp>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static akka.protobuf.Internal.EnumLiteMap<ORSetDeltaOp>
+        internalValueMap =
+          new akka.protobuf.Internal.EnumLiteMap<ORSetDeltaOp>() {
+            public ORSetDeltaOp findValueByNumber(int number) {
+              return ORSetDeltaOp.valueOf(number);
+            }
+          };
+
+    public final akka.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      return getDescriptor().getValues().get(index);
+    }
+    public final akka.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final akka.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final ORSetDeltaOp[] VALUES = values();
+
+    public static ORSetDeltaOp valueOf(
+        akka.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int index;
+    private final int value;
+
+    private ORSetDeltaOp(int index, int value) {
+      this.index = index;
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:akka.cluster.ddata.ORSetDeltaOp)
+  }
+
   public interface GSetOrBuilder
       extends akka.protobuf.MessageOrBuilder {
 
@@ -1224,22 +1315,22 @@ public final class ReplicatedDataMessages {
     /**
      * <code>required .akka.cluster.ddata.VersionVector vvector = 1;</code>
      */
-    akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector getVvector();
+    akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector getVvector();
     /**
      * <code>required .akka.cluster.ddata.VersionVector vvector = 1;</code>
      */
-    akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVectorOrBuilder getVvectorOrBuilder();
+    akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVectorOrBuilder getVvectorOrBuilder();
 
     // repeated .akka.cluster.ddata.VersionVector dots = 2;
     /**
      * <code>repeated .akka.cluster.ddata.VersionVector dots = 2;</code>
      */
-    java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector> 
+    java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector> 
         getDotsList();
     /**
      * <code>repeated .akka.cluster.ddata.VersionVector dots = 2;</code>
      */
-    akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector getDots(int index);
+    akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector getDots(int index);
     /**
      * <code>repeated .akka.cluster.ddata.VersionVector dots = 2;</code>
      */
@@ -1247,12 +1338,12 @@ public final class ReplicatedDataMessages {
     /**
      * <code>repeated .akka.cluster.ddata.VersionVector dots = 2;</code>
      */
-    java.util.List<? extends akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVectorOrBuilder> 
+    java.util.List<? extends akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVectorOrBuilder> 
         getDotsOrBuilderList();
     /**
      * <code>repeated .akka.cluster.ddata.VersionVector dots = 2;</code>
      */
-    akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVectorOrBuilder getDotsOrBuilder(
+    akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVectorOrBuilder getDotsOrBuilder(
         int index);
 
     // repeated string stringElements = 3;
@@ -1380,11 +1471,11 @@ public final class ReplicatedDataMessages {
               break;
             }
             case 10: {
-              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Builder subBuilder = null;
+              akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector.Builder subBuilder = null;
               if (((bitField0_ & 0x00000001) == 0x00000001)) {
                 subBuilder = vvector_.toBuilder();
               }
-              vvector_ = input.readMessage(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.PARSER, extensionRegistry);
+              vvector_ = input.readMessage(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector.PARSER, extensionRegistry);
               if (subBuilder != null) {
                 subBuilder.mergeFrom(vvector_);
                 vvector_ = subBuilder.buildPartial();
@@ -1394,10 +1485,10 @@ public final class ReplicatedDataMessages {
             }
             case 18: {
               if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-                dots_ = new java.util.ArrayList<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector>();
+                dots_ = new java.util.ArrayList<akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector>();
                 mutable_bitField0_ |= 0x00000002;
               }
-              dots_.add(input.readMessage(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.PARSER, extensionRegistry));
+              dots_.add(input.readMessage(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector.PARSER, extensionRegistry));
               break;
             }
             case 26: {
@@ -1515,7 +1606,7 @@ public final class ReplicatedDataMessages {
     private int bitField0_;
     // required .akka.cluster.ddata.VersionVector vvector = 1;
     public static final int VVECTOR_FIELD_NUMBER = 1;
-    private akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector vvector_;
+    private akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector vvector_;
     /**
      * <code>required .akka.cluster.ddata.VersionVector vvector = 1;</code>
      */
@@ -1525,29 +1616,29 @@ public final class ReplicatedDataMessages {
     /**
      * <code>required .akka.cluster.ddata.VersionVector vvector = 1;</code>
      */
-    public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector getVvector() {
+    public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector getVvector() {
       return vvector_;
     }
     /**
      * <code>required .akka.cluster.ddata.VersionVector vvector = 1;</code>
      */
-    public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVectorOrBuilder getVvectorOrBuilder() {
+    public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVectorOrBuilder getVvectorOrBuilder() {
       return vvector_;
     }
 
     // repeated .akka.cluster.ddata.VersionVector dots = 2;
     public static final int DOTS_FIELD_NUMBER = 2;
-    private java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector> dots_;
+    private java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector> dots_;
     /**
      * <code>repeated .akka.cluster.ddata.VersionVector dots = 2;</code>
      */
-    public java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector> getDotsList() {
+    public java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector> getDotsList() {
       return dots_;
     }
     /**
      * <code>repeated .akka.cluster.ddata.VersionVector dots = 2;</code>
      */
-    public java.util.List<? extends akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVectorOrBuilder> 
+    public java.util.List<? extends akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVectorOrBuilder> 
         getDotsOrBuilderList() {
       return dots_;
     }
@@ -1560,13 +1651,13 @@ public final class ReplicatedDataMessages {
     /**
      * <code>repeated .akka.cluster.ddata.VersionVector dots = 2;</code>
      */
-    public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector getDots(int index) {
+    public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector getDots(int index) {
       return dots_.get(index);
     }
     /**
      * <code>repeated .akka.cluster.ddata.VersionVector dots = 2;</code>
      */
-    public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVectorOrBuilder getDotsOrBuilder(
+    public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVectorOrBuilder getDotsOrBuilder(
         int index) {
       return dots_.get(index);
     }
@@ -1686,7 +1777,7 @@ public final class ReplicatedDataMessages {
     }
 
     private void initFields() {
-      vvector_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.getDefaultInstance();
+      vvector_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector.getDefaultInstance();
       dots_ = java.util.Collections.emptyList();
       stringElements_ = akka.protobuf.LazyStringArrayList.EMPTY;
       intElements_ = java.util.Collections.emptyList();
@@ -1929,7 +2020,7 @@ public final class ReplicatedDataMessages {
       public Builder clear() {
         super.clear();
         if (vvectorBuilder_ == null) {
-          vvector_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.getDefaultInstance();
+          vvector_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector.getDefaultInstance();
         } else {
           vvectorBuilder_.clear();
         }
@@ -2171,9 +2262,9 @@ public final class ReplicatedDataMessages {
       private int bitField0_;
 
       // required .akka.cluster.ddata.VersionVector vvector = 1;
-      private akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector vvector_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.getDefaultInstance();
+      private akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector vvector_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector.getDefaultInstance();
       private akka.protobuf.SingleFieldBuilder<
-          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVectorOrBuilder> vvectorBuilder_;
+          akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVectorOrBuilder> vvectorBuilder_;
       /**
        * <code>required .akka.cluster.ddata.VersionVector vvector = 1;</code>
        */
@@ -2183,7 +2274,7 @@ public final class ReplicatedDataMessages {
       /**
        * <code>required .akka.cluster.ddata.VersionVector vvector = 1;</code>
        */
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector getVvector() {
+      public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector getVvector() {
         if (vvectorBuilder_ == null) {
           return vvector_;
         } else {
@@ -2193,7 +2284,7 @@ public final class ReplicatedDataMessages {
       /**
        * <code>required .akka.cluster.ddata.VersionVector vvector = 1;</code>
        */
-      public Builder setVvector(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector value) {
+      public Builder setVvector(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector value) {
         if (vvectorBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
@@ -2210,7 +2301,7 @@ public final class ReplicatedDataMessages {
        * <code>required .akka.cluster.ddata.VersionVector vvector = 1;</code>
        */
       public Builder setVvector(
-          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Builder builderForValue) {
+          akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector.Builder builderForValue) {
         if (vvectorBuilder_ == null) {
           vvector_ = builderForValue.build();
           onChanged();
@@ -2223,12 +2314,12 @@ public final class ReplicatedDataMessages {
       /**
        * <code>required .akka.cluster.ddata.VersionVector vvector = 1;</code>
        */
-      public Builder mergeVvector(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector value) {
+      public Builder mergeVvector(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector value) {
         if (vvectorBuilder_ == null) {
           if (((bitField0_ & 0x00000001) == 0x00000001) &&
-              vvector_ != akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.getDefaultInstance()) {
+              vvector_ != akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector.getDefaultInstance()) {
             vvector_ =
-              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.newBuilder(vvector_).mergeFrom(value).buildPartial();
+              akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector.newBuilder(vvector_).mergeFrom(value).buildPartial();
           } else {
             vvector_ = value;
           }
@@ -2244,7 +2335,7 @@ public final class ReplicatedDataMessages {
        */
       public Builder clearVvector() {
         if (vvectorBuilder_ == null) {
-          vvector_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.getDefaultInstance();
+          vvector_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector.getDefaultInstance();
           onChanged();
         } else {
           vvectorBuilder_.clear();
@@ -2255,7 +2346,7 @@ public final class ReplicatedDataMessages {
       /**
        * <code>required .akka.cluster.ddata.VersionVector vvector = 1;</code>
        */
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Builder getVvectorBuilder() {
+      public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector.Builder getVvectorBuilder() {
         bitField0_ |= 0x00000001;
         onChanged();
         return getVvectorFieldBuilder().getBuilder();
@@ -2263,7 +2354,7 @@ public final class ReplicatedDataMessages {
       /**
        * <code>required .akka.cluster.ddata.VersionVector vvector = 1;</code>
        */
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVectorOrBuilder getVvectorOrBuilder() {
+      public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVectorOrBuilder getVvectorOrBuilder() {
         if (vvectorBuilder_ != null) {
           return vvectorBuilder_.getMessageOrBuilder();
         } else {
@@ -2274,11 +2365,11 @@ public final class ReplicatedDataMessages {
        * <code>required .akka.cluster.ddata.VersionVector vvector = 1;</code>
        */
       private akka.protobuf.SingleFieldBuilder<
-          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVectorOrBuilder> 
+          akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVectorOrBuilder> 
           getVvectorFieldBuilder() {
         if (vvectorBuilder_ == null) {
           vvectorBuilder_ = new akka.protobuf.SingleFieldBuilder<
-              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVectorOrBuilder>(
+              akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVectorOrBuilder>(
                   vvector_,
                   getParentForChildren(),
                   isClean());
@@ -2288,22 +2379,22 @@ public final class ReplicatedDataMessages {
       }
 
       // repeated .akka.cluster.ddata.VersionVector dots = 2;
-      private java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector> dots_ =
+      private java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector> dots_ =
         java.util.Collections.emptyList();
       private void ensureDotsIsMutable() {
         if (!((bitField0_ & 0x00000002) == 0x00000002)) {
-          dots_ = new java.util.ArrayList<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector>(dots_);
+          dots_ = new java.util.ArrayList<akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector>(dots_);
           bitField0_ |= 0x00000002;
          }
       }
 
       private akka.protobuf.RepeatedFieldBuilder<
-          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVectorOrBuilder> dotsBuilder_;
+          akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVectorOrBuilder> dotsBuilder_;
 
       /**
        * <code>repeated .akka.cluster.ddata.VersionVector dots = 2;</code>
        */
-      public java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector> getDotsList() {
+      public java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector> getDotsList() {
         if (dotsBuilder_ == null) {
           return java.util.Collections.unmodifiableList(dots_);
         } else {
@@ -2323,7 +2414,7 @@ public final class ReplicatedDataMessages {
       /**
        * <code>repeated .akka.cluster.ddata.VersionVector dots = 2;</code>
        */
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector getDots(int index) {
+      public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector getDots(int index) {
         if (dotsBuilder_ == null) {
           return dots_.get(index);
         } else {
@@ -2334,7 +2425,7 @@ public final class ReplicatedDataMessages {
        * <code>repeated .akka.cluster.ddata.VersionVector dots = 2;</code>
        */
       public Builder setDots(
-          int index, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector value) {
+          int index, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector value) {
         if (dotsBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
@@ -2351,7 +2442,7 @@ public final class ReplicatedDataMessages {
        * <code>repeated .akka.cluster.ddata.VersionVector dots = 2;</code>
        */
       public Builder setDots(
-          int index, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Builder builderForValue) {
+          int index, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector.Builder builderForValue) {
         if (dotsBuilder_ == null) {
           ensureDotsIsMutable();
           dots_.set(index, builderForValue.build());
@@ -2364,7 +2455,7 @@ public final class ReplicatedDataMessages {
       /**
        * <code>repeated .akka.cluster.ddata.VersionVector dots = 2;</code>
        */
-      public Builder addDots(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector value) {
+      public Builder addDots(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector value) {
         if (dotsBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
@@ -2381,7 +2472,7 @@ public final class ReplicatedDataMessages {
        * <code>repeated .akka.cluster.ddata.VersionVector dots = 2;</code>
        */
       public Builder addDots(
-          int index, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector value) {
+          int index, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector value) {
         if (dotsBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
@@ -2398,7 +2489,7 @@ public final class ReplicatedDataMessages {
        * <code>repeated .akka.cluster.ddata.VersionVector dots = 2;</code>
        */
       public Builder addDots(
-          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Builder builderForValue) {
+          akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector.Builder builderForValue) {
         if (dotsBuilder_ == null) {
           ensureDotsIsMutable();
           dots_.add(builderForValue.build());
@@ -2412,7 +2503,7 @@ public final class ReplicatedDataMessages {
        * <code>repeated .akka.cluster.ddata.VersionVector dots = 2;</code>
        */
       public Builder addDots(
-          int index, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Builder builderForValue) {
+          int index, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector.Builder builderForValue) {
         if (dotsBuilder_ == null) {
           ensureDotsIsMutable();
           dots_.add(index, builderForValue.build());
@@ -2426,7 +2517,7 @@ public final class ReplicatedDataMessages {
        * <code>repeated .akka.cluster.ddata.VersionVector dots = 2;</code>
        */
       public Builder addAllDots(
-          java.lang.Iterable<? extends akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector> values) {
+          java.lang.Iterable<? extends akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector> values) {
         if (dotsBuilder_ == null) {
           ensureDotsIsMutable();
           super.addAll(values, dots_);
@@ -2465,14 +2556,14 @@ public final class ReplicatedDataMessages {
       /**
        * <code>repeated .akka.cluster.ddata.VersionVector dots = 2;</code>
        */
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Builder getDotsBuilder(
+      public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector.Builder getDotsBuilder(
           int index) {
         return getDotsFieldBuilder().getBuilder(index);
       }
       /**
        * <code>repeated .akka.cluster.ddata.VersionVector dots = 2;</code>
        */
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVectorOrBuilder getDotsOrBuilder(
+      public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVectorOrBuilder getDotsOrBuilder(
           int index) {
         if (dotsBuilder_ == null) {
           return dots_.get(index);  } else {
@@ -2482,7 +2573,7 @@ public final class ReplicatedDataMessages {
       /**
        * <code>repeated .akka.cluster.ddata.VersionVector dots = 2;</code>
        */
-      public java.util.List<? extends akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVectorOrBuilder> 
+      public java.util.List<? extends akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVectorOrBuilder> 
            getDotsOrBuilderList() {
         if (dotsBuilder_ != null) {
           return dotsBuilder_.getMessageOrBuilderList();
@@ -2493,31 +2584,31 @@ public final class ReplicatedDataMessages {
       /**
        * <code>repeated .akka.cluster.ddata.VersionVector dots = 2;</code>
        */
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Builder addDotsBuilder() {
+      public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector.Builder addDotsBuilder() {
         return getDotsFieldBuilder().addBuilder(
-            akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.getDefaultInstance());
+            akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector.getDefaultInstance());
       }
       /**
        * <code>repeated .akka.cluster.ddata.VersionVector dots = 2;</code>
        */
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Builder addDotsBuilder(
+      public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector.Builder addDotsBuilder(
           int index) {
         return getDotsFieldBuilder().addBuilder(
-            index, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.getDefaultInstance());
+            index, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector.getDefaultInstance());
       }
       /**
        * <code>repeated .akka.cluster.ddata.VersionVector dots = 2;</code>
        */
-      public java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Builder> 
+      public java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector.Builder> 
            getDotsBuilderList() {
         return getDotsFieldBuilder().getBuilderList();
       }
       private akka.protobuf.RepeatedFieldBuilder<
-          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVectorOrBuilder> 
+          akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVectorOrBuilder> 
           getDotsFieldBuilder() {
         if (dotsBuilder_ == null) {
           dotsBuilder_ = new akka.protobuf.RepeatedFieldBuilder<
-              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVectorOrBuilder>(
+              akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVector.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.VersionVectorOrBuilder>(
                   dots_,
                   ((bitField0_ & 0x00000002) == 0x00000002),
                   getParentForChildren(),
@@ -3003,38 +3094,53 @@ public final class ReplicatedDataMessages {
     // @@protoc_insertion_point(class_scope:akka.cluster.ddata.ORSet)
   }
 
-  public interface FlagOrBuilder
+  public interface ORSetDeltaGroupOrBuilder
       extends akka.protobuf.MessageOrBuilder {
 
-    // required bool enabled = 1;
+    // repeated .akka.cluster.ddata.ORSetDeltaGroup.Entry entries = 1;
     /**
-     * <code>required bool enabled = 1;</code>
+     * <code>repeated .akka.cluster.ddata.ORSetDeltaGroup.Entry entries = 1;</code>
      */
-    boolean hasEnabled();
+    java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry> 
+        getEntriesList();
     /**
-     * <code>required bool enabled = 1;</code>
+     * <code>repeated .akka.cluster.ddata.ORSetDeltaGroup.Entry entries = 1;</code>
      */
-    boolean getEnabled();
+    akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry getEntries(int index);
+    /**
+     * <code>repeated .akka.cluster.ddata.ORSetDeltaGroup.Entry entries = 1;</code>
+     */
+    int getEntriesCount();
+    /**
+     * <code>repeated .akka.cluster.ddata.ORSetDeltaGroup.Entry entries = 1;</code>
+     */
+    java.util.List<? extends akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.EntryOrBuilder> 
+        getEntriesOrBuilderList();
+    /**
+     * <code>repeated .akka.cluster.ddata.ORSetDeltaGroup.Entry entries = 1;</code>
+     */
+    akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.EntryOrBuilder getEntriesOrBuilder(
+        int index);
   }
   /**
-   * Protobuf type {@code akka.cluster.ddata.Flag}
+   * Protobuf type {@code akka.cluster.ddata.ORSetDeltaGroup}
    */
-  public static final class Flag extends
+  public static final class ORSetDeltaGroup extends
       akka.protobuf.GeneratedMessage
-      implements FlagOrBuilder {
-    // Use Flag.newBuilder() to construct.
-    private Flag(akka.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements ORSetDeltaGroupOrBuilder {
+    // Use ORSetDeltaGroup.newBuilder() to construct.
+    private ORSetDeltaGroup(akka.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private Flag(boolean noInit) { this.unknownFields = akka.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private ORSetDeltaGroup(boolean noInit) { this.unknownFields = akka.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final Flag defaultInstance;
-    public static Flag getDefaultInstance() {
+    private static final ORSetDeltaGroup defaultInstance;
+    public static ORSetDeltaGroup getDefaultInstance() {
       return defaultInstance;
     }
 
-    public Flag getDefaultInstanceForType() {
+    public ORSetDeltaGroup getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -3044,7 +3150,7 @@ public final class ReplicatedDataMessages {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private Flag(
+    private ORSetDeltaGroup(
         akka.protobuf.CodedInputStream input,
         akka.protobuf.ExtensionRegistryLite extensionRegistry)
         throws akka.protobuf.InvalidProtocolBufferException {
@@ -3067,9 +3173,12 @@ public final class ReplicatedDataMessages {
               }
               break;
             }
-            case 8: {
-              bitField0_ |= 0x00000001;
-              enabled_ = input.readBool();
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                entries_ = new java.util.ArrayList<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              entries_.add(input.readMessage(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry.PARSER, extensionRegistry));
               break;
             }
           }
@@ -3080,585 +3189,710 @@ public final class ReplicatedDataMessages {
         throw new akka.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          entries_ = java.util.Collections.unmodifiableList(entries_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final akka.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_Flag_descriptor;
+      return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_ORSetDeltaGroup_descriptor;
     }
 
     protected akka.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_Flag_fieldAccessorTable
+      return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_ORSetDeltaGroup_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag.Builder.class);
+              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Builder.class);
     }
 
-    public static akka.protobuf.Parser<Flag> PARSER =
-        new akka.protobuf.AbstractParser<Flag>() {
-      public Flag parsePartialFrom(
+    public static akka.protobuf.Parser<ORSetDeltaGroup> PARSER =
+        new akka.protobuf.AbstractParser<ORSetDeltaGroup>() {
+      public ORSetDeltaGroup parsePartialFrom(
           akka.protobuf.CodedInputStream input,
           akka.protobuf.ExtensionRegistryLite extensionRegistry)
           throws akka.protobuf.InvalidProtocolBufferException {
-        return new Flag(input, extensionRegistry);
+        return new ORSetDeltaGroup(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public akka.protobuf.Parser<Flag> getParserForType() {
+    public akka.protobuf.Parser<ORSetDeltaGroup> getParserForType() {
       return PARSER;
     }
 
-    private int bitField0_;
-    // required bool enabled = 1;
-    public static final int ENABLED_FIELD_NUMBER = 1;
-    private boolean enabled_;
-    /**
-     * <code>required bool enabled = 1;</code>
-     */
-    public boolean hasEnabled() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
+    public interface EntryOrBuilder
+        extends akka.protobuf.MessageOrBuilder {
+
+      // required .akka.cluster.ddata.ORSetDeltaOp operation = 1;
+      /**
+       * <code>required .akka.cluster.ddata.ORSetDeltaOp operation = 1;</code>
+       */
+      boolean hasOperation();
+      /**
+       * <code>required .akka.cluster.ddata.ORSetDeltaOp operation = 1;</code>
+       */
+      akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaOp getOperation();
+
+      // required .akka.cluster.ddata.ORSet underlying = 2;
+      /**
+       * <code>required .akka.cluster.ddata.ORSet underlying = 2;</code>
+       */
+      boolean hasUnderlying();
+      /**
+       * <code>required .akka.cluster.ddata.ORSet underlying = 2;</code>
+       */
+      akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet getUnderlying();
+      /**
+       * <code>required .akka.cluster.ddata.ORSet underlying = 2;</code>
+       */
+      akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetOrBuilder getUnderlyingOrBuilder();
     }
     /**
-     * <code>required bool enabled = 1;</code>
+     * Protobuf type {@code akka.cluster.ddata.ORSetDeltaGroup.Entry}
      */
-    public boolean getEnabled() {
-      return enabled_;
-    }
+    public static final class Entry extends
+        akka.protobuf.GeneratedMessage
+        implements EntryOrBuilder {
+      // Use Entry.newBuilder() to construct.
+      private Entry(akka.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private Entry(boolean noInit) { this.unknownFields = akka.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private void initFields() {
-      enabled_ = false;
-    }
-    private byte memoizedIsInitialized = -1;
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
+      private static final Entry defaultInstance;
+      public static Entry getDefaultInstance() {
+        return defaultInstance;
+      }
 
-      if (!hasEnabled()) {
-        memoizedIsInitialized = 0;
-        return false;
+      public Entry getDefaultInstanceForType() {
+        return defaultInstance;
       }
-      memoizedIsInitialized = 1;
-      return true;
-    }
 
-    public void writeTo(akka.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      getSerializedSize();
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBool(1, enabled_);
+      private final akka.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final akka.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private Entry(
+          akka.protobuf.CodedInputStream input,
+          akka.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws akka.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        akka.protobuf.UnknownFieldSet.Builder unknownFields =
+            akka.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 8: {
+                int rawValue = input.readEnum();
+                akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaOp value = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaOp.valueOf(rawValue);
+                if (value == null) {
+                  unknownFields.mergeVarintField(1, rawValue);
+                } else {
+                  bitField0_ |= 0x00000001;
+                  operation_ = value;
+                }
+                break;
+              }
+              case 18: {
+                akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.Builder subBuilder = null;
+                if (((bitField0_ & 0x00000002) == 0x00000002)) {
+                  subBuilder = underlying_.toBuilder();
+                }
+                underlying_ = input.readMessage(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.PARSER, extensionRegistry);
+                if (subBuilder != null) {
+                  subBuilder.mergeFrom(underlying_);
+                  underlying_ = subBuilder.buildPartial();
+                }
+                bitField0_ |= 0x00000002;
+                break;
+              }
+            }
+          }
+        } catch (akka.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new akka.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final akka.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_ORSetDeltaGroup_Entry_descriptor;
       }
-      getUnknownFields().writeTo(output);
-    }
 
-    private int memoizedSerializedSize = -1;
-    public int getSerializedSize() {
-      int size = memoizedSerializedSize;
-      if (size != -1) return size;
+      protected akka.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_ORSetDeltaGroup_Entry_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry.Builder.class);
+      }
 
-      size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        size += akka.protobuf.CodedOutputStream
-          .computeBoolSize(1, enabled_);
+      public static akka.protobuf.Parser<Entry> PARSER =
+          new akka.protobuf.AbstractParser<Entry>() {
+        public Entry parsePartialFrom(
+            akka.protobuf.CodedInputStream input,
+            akka.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws akka.protobuf.InvalidProtocolBufferException {
+          return new Entry(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public akka.protobuf.Parser<Entry> getParserForType() {
+        return PARSER;
       }
-      size += getUnknownFields().getSerializedSize();
-      memoizedSerializedSize = size;
-      return size;
-    }
 
-    private static final long serialVersionUID = 0L;
-    @java.lang.Override
-    protected java.lang.Object writeReplace()
-        throws java.io.ObjectStreamException {
-      return super.writeReplace();
-    }
+      private int bitField0_;
+      // required .akka.cluster.ddata.ORSetDeltaOp operation = 1;
+      public static final int OPERATION_FIELD_NUMBER = 1;
+      private akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaOp operation_;
+      /**
+       * <code>required .akka.cluster.ddata.ORSetDeltaOp operation = 1;</code>
+       */
+      public boolean hasOperation() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required .akka.cluster.ddata.ORSetDeltaOp operation = 1;</code>
+       */
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaOp getOperation() {
+        return operation_;
+      }
 
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag parseFrom(
-        akka.protobuf.ByteString data)
-        throws akka.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag parseFrom(
-        akka.protobuf.ByteString data,
-        akka.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws akka.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag parseFrom(byte[] data)
-        throws akka.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag parseFrom(
-        byte[] data,
-        akka.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws akka.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input);
-    }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag parseFrom(
-        java.io.InputStream input,
-        akka.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input, extensionRegistry);
-    }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return PARSER.parseDelimitedFrom(input);
-    }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag parseDelimitedFrom(
-        java.io.InputStream input,
-        akka.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseDelimitedFrom(input, extensionRegistry);
-    }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag parseFrom(
-        akka.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input);
-    }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag parseFrom(
-        akka.protobuf.CodedInputStream input,
-        akka.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input, extensionRegistry);
-    }
-
-    public static Builder newBuilder() { return Builder.create(); }
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag prototype) {
-      return newBuilder().mergeFrom(prototype);
-    }
-    public Builder toBuilder() { return newBuilder(this); }
-
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        akka.protobuf.GeneratedMessage.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-    /**
-     * Protobuf type {@code akka.cluster.ddata.Flag}
-     */
-    public static final class Builder extends
-        akka.protobuf.GeneratedMessage.Builder<Builder>
-       implements akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.FlagOrBuilder {
-      public static final akka.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_Flag_descriptor;
+      // required .akka.cluster.ddata.ORSet underlying = 2;
+      public static final int UNDERLYING_FIELD_NUMBER = 2;
+      private akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet underlying_;
+      /**
+       * <code>required .akka.cluster.ddata.ORSet underlying = 2;</code>
+       */
+      public boolean hasUnderlying() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
-
-      protected akka.protobuf.GeneratedMessage.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_Flag_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag.Builder.class);
+      /**
+       * <code>required .akka.cluster.ddata.ORSet underlying = 2;</code>
+       */
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet getUnderlying() {
+        return underlying_;
       }
-
-      // Construct using akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
+      /**
+       * <code>required .akka.cluster.ddata.ORSet underlying = 2;</code>
+       */
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetOrBuilder getUnderlyingOrBuilder() {
+        return underlying_;
       }
 
-      private Builder(
-          akka.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
+      private void initFields() {
+        operation_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaOp.Add;
+        underlying_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.getDefaultInstance();
       }
-      private void maybeForceBuilderInitialization() {
-        if (akka.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized != -1) return isInitialized == 1;
+
+        if (!hasOperation()) {
+          memoizedIsInitialized = 0;
+          return false;
         }
-      }
-      private static Builder create() {
-        return new Builder();
+        if (!hasUnderlying()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+        if (!getUnderlying().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+        memoizedIsInitialized = 1;
+        return true;
       }
 
-      public Builder clear() {
-        super.clear();
-        enabled_ = false;
-        bitField0_ = (bitField0_ & ~0x00000001);
-        return this;
+      public void writeTo(akka.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeEnum(1, operation_.getNumber());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          output.writeMessage(2, underlying_);
+        }
+        getUnknownFields().writeTo(output);
       }
 
-      public Builder clone() {
-        return create().mergeFrom(buildPartial());
-      }
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
 
-      public akka.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_Flag_descriptor;
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += akka.protobuf.CodedOutputStream
+            .computeEnumSize(1, operation_.getNumber());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          size += akka.protobuf.CodedOutputStream
+            .computeMessageSize(2, underlying_);
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
       }
 
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag getDefaultInstanceForType() {
-        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag.getDefaultInstance();
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
       }
 
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag build() {
-        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
+      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry parseFrom(
+          akka.protobuf.ByteString data)
+          throws akka.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
       }
-
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag buildPartial() {
-        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag result = new akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag(this);
-        int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-          to_bitField0_ |= 0x00000001;
-        }
-        result.enabled_ = enabled_;
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
+      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry parseFrom(
+          akka.protobuf.ByteString data,
+          akka.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws akka.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
       }
-
-      public Builder mergeFrom(akka.protobuf.Message other) {
-        if (other instanceof akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag) {
-          return mergeFrom((akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
+      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry parseFrom(byte[] data)
+          throws akka.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
       }
-
-      public Builder mergeFrom(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag other) {
-        if (other == akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag.getDefaultInstance()) return this;
-        if (other.hasEnabled()) {
-          setEnabled(other.getEnabled());
-        }
-        this.mergeUnknownFields(other.getUnknownFields());
-        return this;
+      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry parseFrom(
+          byte[] data,
+          akka.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws akka.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
       }
-
-      public final boolean isInitialized() {
-        if (!hasEnabled()) {
-          
-          return false;
-        }
-        return true;
+      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
       }
-
-      public Builder mergeFrom(
+      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry parseFrom(
+          java.io.InputStream input,
+          akka.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry parseDelimitedFrom(
+          java.io.InputStream input,
+          akka.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry parseFrom(
+          akka.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry parseFrom(
           akka.protobuf.CodedInputStream input,
           akka.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (akka.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag) e.getUnfinishedMessage();
-          throw e;
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
-        return this;
+        return PARSER.parseFrom(input, extensionRegistry);
       }
-      private int bitField0_;
 
-      // required bool enabled = 1;
-      private boolean enabled_ ;
-      /**
-       * <code>required bool enabled = 1;</code>
-       */
-      public boolean hasEnabled() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry prototype) {
+        return newBuilder().mergeFrom(prototype);
       }
-      /**
-       * <code>required bool enabled = 1;</code>
-       */
-      public boolean getEnabled() {
-        return enabled_;
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          akka.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
       }
       /**
-       * <code>required bool enabled = 1;</code>
+       * Protobuf type {@code akka.cluster.ddata.ORSetDeltaGroup.Entry}
        */
-      public Builder setEnabled(boolean value) {
-        bitField0_ |= 0x00000001;
-        enabled_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>required bool enabled = 1;</code>
-       */
-      public Builder clearEnabled() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        enabled_ = false;
-        onChanged();
-        return this;
-      }
-
-      // @@protoc_insertion_point(builder_scope:akka.cluster.ddata.Flag)
-    }
+      public static final class Builder extends
+          akka.protobuf.GeneratedMessage.Builder<Builder>
+         implements akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.EntryOrBuilder {
+        public static final akka.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_ORSetDeltaGroup_Entry_descriptor;
+        }
 
-    static {
-      defaultInstance = new Flag(true);
-      defaultInstance.initFields();
-    }
+        protected akka.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_ORSetDeltaGroup_Entry_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry.Builder.class);
+        }
 
-    // @@protoc_insertion_point(class_scope:akka.cluster.ddata.Flag)
-  }
+        // Construct using akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
 
-  public interface LWWRegisterOrBuilder
-      extends akka.protobuf.MessageOrBuilder {
+        private Builder(
+            akka.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (akka.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+            getUnderlyingFieldBuilder();
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
 
-    // required sint64 timestamp = 1;
-    /**
-     * <code>required sint64 timestamp = 1;</code>
-     */
-    boolean hasTimestamp();
-    /**
-     * <code>required sint64 timestamp = 1;</code>
-     */
-    long getTimestamp();
+        public Builder clear() {
+          super.clear();
+          operation_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaOp.Add;
+          bitField0_ = (bitField0_ & ~0x00000001);
+          if (underlyingBuilder_ == null) {
+            underlying_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.getDefaultInstance();
+          } else {
+            underlyingBuilder_.clear();
+          }
+          bitField0_ = (bitField0_ & ~0x00000002);
+          return this;
+        }
 
-    // required .akka.cluster.ddata.UniqueAddress node = 2;
-    /**
-     * <code>required .akka.cluster.ddata.UniqueAddress node = 2;</code>
-     */
-    boolean hasNode();
-    /**
-     * <code>required .akka.cluster.ddata.UniqueAddress node = 2;</code>
-     */
-    akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress getNode();
-    /**
-     * <code>required .akka.cluster.ddata.UniqueAddress node = 2;</code>
-     */
-    akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddressOrBuilder getNodeOrBuilder();
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
 
-    // required .akka.cluster.ddata.OtherMessage state = 3;
-    /**
-     * <code>required .akka.cluster.ddata.OtherMessage state = 3;</code>
-     */
-    boolean hasState();
-    /**
-     * <code>required .akka.cluster.ddata.OtherMessage state = 3;</code>
-     */
-    akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage getState();
-    /**
-     * <code>required .akka.cluster.ddata.OtherMessage state = 3;</code>
-     */
-    akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder getStateOrBuilder();
-  }
-  /**
-   * Protobuf type {@code akka.cluster.ddata.LWWRegister}
-   */
-  public static final class LWWRegister extends
-      akka.protobuf.GeneratedMessage
-      implements LWWRegisterOrBuilder {
-    // Use LWWRegister.newBuilder() to construct.
-    private LWWRegister(akka.protobuf.GeneratedMessage.Builder<?> builder) {
-      super(builder);
-      this.unknownFields = builder.getUnknownFields();
-    }
-    private LWWRegister(boolean noInit) { this.unknownFields = akka.protobuf.UnknownFieldSet.getDefaultInstance(); }
+        public akka.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_ORSetDeltaGroup_Entry_descriptor;
+        }
 
-    private static final LWWRegister defaultInstance;
-    public static LWWRegister getDefaultInstance() {
-      return defaultInstance;
-    }
+        public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry getDefaultInstanceForType() {
+          return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry.getDefaultInstance();
+        }
 
-    public LWWRegister getDefaultInstanceForType() {
-      return defaultInstance;
-    }
+        public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry build() {
+          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
 
-    private final akka.protobuf.UnknownFieldSet unknownFields;
-    @java.lang.Override
-    public final akka.protobuf.UnknownFieldSet
-        getUnknownFields() {
-      return this.unknownFields;
-    }
-    private LWWRegister(
-        akka.protobuf.CodedInputStream input,
-        akka.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws akka.protobuf.InvalidProtocolBufferException {
-      initFields();
-      int mutable_bitField0_ = 0;
-      akka.protobuf.UnknownFieldSet.Builder unknownFields =
-          akka.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            default: {
-              if (!parseUnknownField(input, unknownFields,
-                                     extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-            case 8: {
-              bitField0_ |= 0x00000001;
-              timestamp_ = input.readSInt64();
-              break;
-            }
-            case 18: {
-              akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000002) == 0x00000002)) {
-                subBuilder = node_.toBuilder();
-              }
-              node_ = input.readMessage(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(node_);
-                node_ = subBuilder.buildPartial();
-              }
-              bitField0_ |= 0x00000002;
-              break;
-            }
-            case 26: {
-              akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000004) == 0x00000004)) {
-                subBuilder = state_.toBuilder();
-              }
-              state_ = input.readMessage(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(state_);
-                state_ = subBuilder.buildPartial();
-              }
-              bitField0_ |= 0x00000004;
-              break;
-            }
+        public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry buildPartial() {
+          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry result = new akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.operation_ = operation_;
+          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+            to_bitField0_ |= 0x00000002;
+          }
+          if (underlyingBuilder_ == null) {
+            result.underlying_ = underlying_;
+          } else {
+            result.underlying_ = underlyingBuilder_.build();
           }
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
         }
-      } catch (akka.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new akka.protobuf.InvalidProtocolBufferException(
-            e.getMessage()).setUnfinishedMessage(this);
-      } finally {
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
-      }
-    }
-    public static final akka.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_LWWRegister_descriptor;
-    }
 
-    protected akka.protobuf.GeneratedMessage.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_LWWRegister_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister.Builder.class);
-    }
+        public Builder mergeFrom(akka.protobuf.Message other) {
+          if (other instanceof akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry) {
+            return mergeFrom((akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
 
-    public static akka.protobuf.Parser<LWWRegister> PARSER =
-        new akka.protobuf.AbstractParser<LWWRegister>() {
-      public LWWRegister parsePartialFrom(
-          akka.protobuf.CodedInputStream input,
-          akka.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws akka.protobuf.InvalidProtocolBufferException {
-        return new LWWRegister(input, extensionRegistry);
-      }
-    };
+        public Builder mergeFrom(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry other) {
+          if (other == akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry.getDefaultInstance()) return this;
+          if (other.hasOperation()) {
+            setOperation(other.getOperation());
+          }
+          if (other.hasUnderlying()) {
+            mergeUnderlying(other.getUnderlying());
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
 
-    @java.lang.Override
-    public akka.protobuf.Parser<LWWRegister> getParserForType() {
-      return PARSER;
-    }
+        public final boolean isInitialized() {
+          if (!hasOperation()) {
+            
+            return false;
+          }
+          if (!hasUnderlying()) {
+            
+            return false;
+          }
+          if (!getUnderlying().isInitialized()) {
+            
+            return false;
+          }
+          return true;
+        }
 
-    private int bitField0_;
-    // required sint64 timestamp = 1;
-    public static final int TIMESTAMP_FIELD_NUMBER = 1;
-    private long timestamp_;
-    /**
-     * <code>required sint64 timestamp = 1;</code>
-     */
-    public boolean hasTimestamp() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
-    }
-    /**
-     * <code>required sint64 timestamp = 1;</code>
-     */
-    public long getTimestamp() {
-      return timestamp_;
-    }
+        public Builder mergeFrom(
+            akka.protobuf.CodedInputStream input,
+            akka.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (akka.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
 
-    // required .akka.cluster.ddata.UniqueAddress node = 2;
-    public static final int NODE_FIELD_NUMBER = 2;
-    private akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress node_;
-    /**
-     * <code>required .akka.cluster.ddata.UniqueAddress node = 2;</code>
-     */
-    public boolean hasNode() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+        // required .akka.cluster.ddata.ORSetDeltaOp operation = 1;
+        private akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaOp operation_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaOp.Add;
+        /**
+         * <code>required .akka.cluster.ddata.ORSetDeltaOp operation = 1;</code>
+         */
+        public boolean hasOperation() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>required .akka.cluster.ddata.ORSetDeltaOp operation = 1;</code>
+         */
+        public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaOp getOperation() {
+          return operation_;
+        }
+        /**
+         * <code>required .akka.cluster.ddata.ORSetDeltaOp operation = 1;</code>
+         */
+        public Builder setOperation(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaOp value) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          bitField0_ |= 0x00000001;
+          operation_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>required .akka.cluster.ddata.ORSetDeltaOp operation = 1;</code>
+         */
+        public Builder clearOperation() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          operation_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaOp.Add;
+          onChanged();
+          return this;
+        }
+
+        // required .akka.cluster.ddata.ORSet underlying = 2;
+        private akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet underlying_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.getDefaultInstance();
+        private akka.protobuf.SingleFieldBuilder<
+            akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetOrBuilder> underlyingBuilder_;
+        /**
+         * <code>required .akka.cluster.ddata.ORSet underlying = 2;</code>
+         */
+        public boolean hasUnderlying() {
+          return ((bitField0_ & 0x00000002) == 0x00000002);
+        }
+        /**
+         * <code>required .akka.cluster.ddata.ORSet underlying = 2;</code>
+         */
+        public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet getUnderlying() {
+          if (underlyingBuilder_ == null) {
+            return underlying_;
+          } else {
+            return underlyingBuilder_.getMessage();
+          }
+        }
+        /**
+         * <code>required .akka.cluster.ddata.ORSet underlying = 2;</code>
+         */
+        public Builder setUnderlying(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet value) {
+          if (underlyingBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            underlying_ = value;
+            onChanged();
+          } else {
+            underlyingBuilder_.setMessage(value);
+          }
+          bitField0_ |= 0x00000002;
+          return this;
+        }
+        /**
+         * <code>required .akka.cluster.ddata.ORSet underlying = 2;</code>
+         */
+        public Builder setUnderlying(
+            akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.Builder builderForValue) {
+          if (underlyingBuilder_ == null) {
+            underlying_ = builderForValue.build();
+            onChanged();
+          } else {
+            underlyingBuilder_.setMessage(builderForValue.build());
+          }
+          bitField0_ |= 0x00000002;
+          return this;
+        }
+        /**
+         * <code>required .akka.cluster.ddata.ORSet underlying = 2;</code>
+         */
+        public Builder mergeUnderlying(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet value) {
+          if (underlyingBuilder_ == null) {
+            if (((bitField0_ & 0x00000002) == 0x00000002) &&
+                underlying_ != akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.getDefaultInstance()) {
+              underlying_ =
+                akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.newBuilder(underlying_).mergeFrom(value).buildPartial();
+            } else {
+              underlying_ = value;
+            }
+            onChanged();
+          } else {
+            underlyingBuilder_.mergeFrom(value);
+          }
+          bitField0_ |= 0x00000002;
+          return this;
+        }
+        /**
+         * <code>required .akka.cluster.ddata.ORSet underlying = 2;</code>
+         */
+        public Builder clearUnderlying() {
+          if (underlyingBuilder_ == null) {
+            underlying_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.getDefaultInstance();
+            onChanged();
+          } else {
+            underlyingBuilder_.clear();
+          }
+          bitField0_ = (bitField0_ & ~0x00000002);
+          return this;
+        }
+        /**
+         * <code>required .akka.cluster.ddata.ORSet underlying = 2;</code>
+         */
+        public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.Builder getUnderlyingBuilder() {
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return getUnderlyingFieldBuilder().getBuilder();
+        }
+        /**
+         * <code>required .akka.cluster.ddata.ORSet underlying = 2;</code>
+         */
+        public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetOrBuilder getUnderlyingOrBuilder() {
+          if (underlyingBuilder_ != null) {
+            return underlyingBuilder_.getMessageOrBuilder();
+          } else {
+            return underlying_;
+          }
+        }
+        /**
+         * <code>required .akka.cluster.ddata.ORSet underlying = 2;</code>
+         */
+        private akka.protobuf.SingleFieldBuilder<
+            akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetOrBuilder> 
+            getUnderlyingFieldBuilder() {
+          if (underlyingBuilder_ == null) {
+            underlyingBuilder_ = new akka.protobuf.SingleFieldBuilder<
+                akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetOrBuilder>(
+                    underlying_,
+                    getParentForChildren(),
+                    isClean());
+            underlying_ = null;
+          }
+          return underlyingBuilder_;
+        }
+
+        // @@protoc_insertion_point(builder_scope:akka.cluster.ddata.ORSetDeltaGroup.Entry)
+      }
+
+      static {
+        defaultInstance = new Entry(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:akka.cluster.ddata.ORSetDeltaGroup.Entry)
     }
+
+    // repeated .akka.cluster.ddata.ORSetDeltaGroup.Entry entries = 1;
+    public static final int ENTRIES_FIELD_NUMBER = 1;
+    private java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry> entries_;
     /**
-     * <code>required .akka.cluster.ddata.UniqueAddress node = 2;</code>
+     * <code>repeated .akka.cluster.ddata.ORSetDeltaGroup.Entry entries = 1;</code>
      */
-    public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress getNode() {
-      return node_;
+    public java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry> getEntriesList() {
+      return entries_;
     }
     /**
-     * <code>required .akka.cluster.ddata.UniqueAddress node = 2;</code>
+     * <code>repeated .akka.cluster.ddata.ORSetDeltaGroup.Entry entries = 1;</code>
      */
-    public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddressOrBuilder getNodeOrBuilder() {
-      return node_;
+    public java.util.List<? extends akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.EntryOrBuilder> 
+        getEntriesOrBuilderList() {
+      return entries_;
     }
-
-    // required .akka.cluster.ddata.OtherMessage state = 3;
-    public static final int STATE_FIELD_NUMBER = 3;
-    private akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage state_;
     /**
-     * <code>required .akka.cluster.ddata.OtherMessage state = 3;</code>
+     * <code>repeated .akka.cluster.ddata.ORSetDeltaGroup.Entry entries = 1;</code>
      */
-    public boolean hasState() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
+    public int getEntriesCount() {
+      return entries_.size();
     }
     /**
-     * <code>required .akka.cluster.ddata.OtherMessage state = 3;</code>
+     * <code>repeated .akka.cluster.ddata.ORSetDeltaGroup.Entry entries = 1;</code>
      */
-    public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage getState() {
-      return state_;
+    public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry getEntries(int index) {
+      return entries_.get(index);
     }
     /**
-     * <code>required .akka.cluster.ddata.OtherMessage state = 3;</code>
+     * <code>repeated .akka.cluster.ddata.ORSetDeltaGroup.Entry entries = 1;</code>
      */
-    public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder getStateOrBuilder() {
-      return state_;
+    public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.EntryOrBuilder getEntriesOrBuilder(
+        int index) {
+      return entries_.get(index);
     }
 
     private void initFields() {
-      timestamp_ = 0L;
-      node_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.getDefaultInstance();
-      state_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance();
+      entries_ = java.util.Collections.emptyList();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
       if (isInitialized != -1) return isInitialized == 1;
 
-      if (!hasTimestamp()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasNode()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasState()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!getNode().isInitialized()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!getState().isInitialized()) {
-        memoizedIsInitialized = 0;
-        return false;
+      for (int i = 0; i < getEntriesCount(); i++) {
+        if (!getEntries(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
       }
       memoizedIsInitialized = 1;
       return true;
@@ -3667,14 +3901,8 @@ public final class ReplicatedDataMessages {
     public void writeTo(akka.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeSInt64(1, timestamp_);
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeMessage(2, node_);
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeMessage(3, state_);
+      for (int i = 0; i < entries_.size(); i++) {
+        output.writeMessage(1, entries_.get(i));
       }
       getUnknownFields().writeTo(output);
     }
@@ -3685,17 +3913,9 @@ public final class ReplicatedDataMessages {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        size += akka.protobuf.CodedOutputStream
-          .computeSInt64Size(1, timestamp_);
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += akka.protobuf.CodedOutputStream
-          .computeMessageSize(2, node_);
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      for (int i = 0; i < entries_.size(); i++) {
         size += akka.protobuf.CodedOutputStream
-          .computeMessageSize(3, state_);
+          .computeMessageSize(1, entries_.get(i));
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -3709,53 +3929,53 @@ public final class ReplicatedDataMessages {
       return super.writeReplace();
     }
 
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister parseFrom(
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup parseFrom(
         akka.protobuf.ByteString data)
         throws akka.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister parseFrom(
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup parseFrom(
         akka.protobuf.ByteString data,
         akka.protobuf.ExtensionRegistryLite extensionRegistry)
         throws akka.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister parseFrom(byte[] data)
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup parseFrom(byte[] data)
         throws akka.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister parseFrom(
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup parseFrom(
         byte[] data,
         akka.protobuf.ExtensionRegistryLite extensionRegistry)
         throws akka.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister parseFrom(java.io.InputStream input)
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister parseFrom(
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup parseFrom(
         java.io.InputStream input,
         akka.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister parseDelimitedFrom(java.io.InputStream input)
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister parseDelimitedFrom(
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup parseDelimitedFrom(
         java.io.InputStream input,
         akka.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister parseFrom(
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup parseFrom(
         akka.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister parseFrom(
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup parseFrom(
         akka.protobuf.CodedInputStream input,
         akka.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3764,7 +3984,7 @@ public final class ReplicatedDataMessages {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister prototype) {
+    public static Builder newBuilder(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -3776,24 +3996,24 @@ public final class ReplicatedDataMessages {
       return builder;
     }
     /**
-     * Protobuf type {@code akka.cluster.ddata.LWWRegister}
+     * Protobuf type {@code akka.cluster.ddata.ORSetDeltaGroup}
      */
     public static final class Builder extends
         akka.protobuf.GeneratedMessage.Builder<Builder>
-       implements akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegisterOrBuilder {
+       implements akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroupOrBuilder {
       public static final akka.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_LWWRegister_descriptor;
+        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_ORSetDeltaGroup_descriptor;
       }
 
       protected akka.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_LWWRegister_fieldAccessorTable
+        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_ORSetDeltaGroup_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister.Builder.class);
+                akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Builder.class);
       }
 
-      // Construct using akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister.newBuilder()
+      // Construct using akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -3805,8 +4025,7 @@ public final class ReplicatedDataMessages {
       }
       private void maybeForceBuilderInitialization() {
         if (akka.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getNodeFieldBuilder();
-          getStateFieldBuilder();
+          getEntriesFieldBuilder();
         }
       }
       private static Builder create() {
@@ -3815,20 +4034,12 @@ public final class ReplicatedDataMessages {
 
       public Builder clear() {
         super.clear();
-        timestamp_ = 0L;
-        bitField0_ = (bitField0_ & ~0x00000001);
-        if (nodeBuilder_ == null) {
-          node_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.getDefaultInstance();
-        } else {
-          nodeBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000002);
-        if (stateBuilder_ == null) {
-          state_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance();
+        if (entriesBuilder_ == null) {
+          entries_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
         } else {
-          stateBuilder_.clear();
+          entriesBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -3838,94 +4049,84 @@ public final class ReplicatedDataMessages {
 
       public akka.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_LWWRegister_descriptor;
+        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_ORSetDeltaGroup_descriptor;
       }
 
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister getDefaultInstanceForType() {
-        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister.getDefaultInstance();
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup getDefaultInstanceForType() {
+        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.getDefaultInstance();
       }
 
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister build() {
-        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister result = buildPartial();
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup build() {
+        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister buildPartial() {
-        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister result = new akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister(this);
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup buildPartial() {
+        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup result = new akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup(this);
         int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-          to_bitField0_ |= 0x00000001;
-        }
-        result.timestamp_ = timestamp_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
-        }
-        if (nodeBuilder_ == null) {
-          result.node_ = node_;
-        } else {
-          result.node_ = nodeBuilder_.build();
-        }
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-          to_bitField0_ |= 0x00000004;
-        }
-        if (stateBuilder_ == null) {
-          result.state_ = state_;
+        if (entriesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            entries_ = java.util.Collections.unmodifiableList(entries_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.entries_ = entries_;
         } else {
-          result.state_ = stateBuilder_.build();
+          result.entries_ = entriesBuilder_.build();
         }
-        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(akka.protobuf.Message other) {
-        if (other instanceof akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister) {
-          return mergeFrom((akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister)other);
+        if (other instanceof akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup) {
+          return mergeFrom((akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister other) {
-        if (other == akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister.getDefaultInstance()) return this;
-        if (other.hasTimestamp()) {
-          setTimestamp(other.getTimestamp());
-        }
-        if (other.hasNode()) {
-          mergeNode(other.getNode());
-        }
-        if (other.hasState()) {
-          mergeState(other.getState());
+      public Builder mergeFrom(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup other) {
+        if (other == akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.getDefaultInstance()) return this;
+        if (entriesBuilder_ == null) {
+          if (!other.entries_.isEmpty()) {
+            if (entries_.isEmpty()) {
+              entries_ = other.entries_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureEntriesIsMutable();
+              entries_.addAll(other.entries_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.entries_.isEmpty()) {
+            if (entriesBuilder_.isEmpty()) {
+              entriesBuilder_.dispose();
+              entriesBuilder_ = null;
+              entries_ = other.entries_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              entriesBuilder_ = 
+                akka.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getEntriesFieldBuilder() : null;
+            } else {
+              entriesBuilder_.addAllMessages(other.entries_);
+            }
+          }
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        if (!hasTimestamp()) {
-          
-          return false;
-        }
-        if (!hasNode()) {
-          
-          return false;
-        }
-        if (!hasState()) {
-          
-          return false;
-        }
-        if (!getNode().isInitialized()) {
-          
-          return false;
-        }
-        if (!getState().isInitialized()) {
-          
-          return false;
+        for (int i = 0; i < getEntriesCount(); i++) {
+          if (!getEntries(i).isInitialized()) {
+            
+            return false;
+          }
         }
         return true;
       }
@@ -3934,11 +4135,11 @@ public final class ReplicatedDataMessages {
           akka.protobuf.CodedInputStream input,
           akka.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister parsedMessage = null;
+        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (akka.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister) e.getUnfinishedMessage();
+          parsedMessage = (akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -3949,331 +4150,289 @@ public final class ReplicatedDataMessages {
       }
       private int bitField0_;
 
-      // required sint64 timestamp = 1;
-      private long timestamp_ ;
+      // repeated .akka.cluster.ddata.ORSetDeltaGroup.Entry entries = 1;
+      private java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry> entries_ =
+        java.util.Collections.emptyList();
+      private void ensureEntriesIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          entries_ = new java.util.ArrayList<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry>(entries_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private akka.protobuf.RepeatedFieldBuilder<
+          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.EntryOrBuilder> entriesBuilder_;
+
       /**
-       * <code>required sint64 timestamp = 1;</code>
+       * <code>repeated .akka.cluster.ddata.ORSetDeltaGroup.Entry entries = 1;</code>
        */
-      public boolean hasTimestamp() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+      public java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry> getEntriesList() {
+        if (entriesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(entries_);
+        } else {
+          return entriesBuilder_.getMessageList();
+        }
       }
       /**
-       * <code>required sint64 timestamp = 1;</code>
+       * <code>repeated .akka.cluster.ddata.ORSetDeltaGroup.Entry entries = 1;</code>
        */
-      public long getTimestamp() {
-        return timestamp_;
+      public int getEntriesCount() {
+        if (entriesBuilder_ == null) {
+          return entries_.size();
+        } else {
+          return entriesBuilder_.getCount();
+        }
       }
       /**
-       * <code>required sint64 timestamp = 1;</code>
+       * <code>repeated .akka.cluster.ddata.ORSetDeltaGroup.Entry entries = 1;</code>
        */
-      public Builder setTimestamp(long value) {
-        bitField0_ |= 0x00000001;
-        timestamp_ = value;
-        onChanged();
-        return this;
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry getEntries(int index) {
+        if (entriesBuilder_ == null) {
+          return entries_.get(index);
+        } else {
+          return entriesBuilder_.getMessage(index);
+        }
       }
       /**
-       * <code>required sint64 timestamp = 1;</code>
+       * <code>repeated .akka.cluster.ddata.ORSetDeltaGroup.Entry entries = 1;</code>
        */
-      public Builder clearTimestamp() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        timestamp_ = 0L;
-        onChanged();
+      public Builder setEntries(
+          int index, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntriesIsMutable();
+          entries_.set(index, value);
+          onChanged();
+        } else {
+          entriesBuilder_.setMessage(index, value);
+        }
         return this;
       }
-
-      // required .akka.cluster.ddata.UniqueAddress node = 2;
-      private akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress node_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.getDefaultInstance();
-      private akka.protobuf.SingleFieldBuilder<
-          akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddressOrBuilder> nodeBuilder_;
       /**
-       * <code>required .akka.cluster.ddata.UniqueAddress node = 2;</code>
+       * <code>repeated .akka.cluster.ddata.ORSetDeltaGroup.Entry entries = 1;</code>
        */
-      public boolean hasNode() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+      public Builder setEntries(
+          int index, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          entriesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
       }
       /**
-       * <code>required .akka.cluster.ddata.UniqueAddress node = 2;</code>
+       * <code>repeated .akka.cluster.ddata.ORSetDeltaGroup.Entry entries = 1;</code>
        */
-      public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress getNode() {
-        if (nodeBuilder_ == null) {
-          return node_;
+      public Builder addEntries(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntriesIsMutable();
+          entries_.add(value);
+          onChanged();
         } else {
-          return nodeBuilder_.getMessage();
+          entriesBuilder_.addMessage(value);
         }
+        return this;
       }
       /**
-       * <code>required .akka.cluster.ddata.UniqueAddress node = 2;</code>
+       * <code>repeated .akka.cluster.ddata.ORSetDeltaGroup.Entry entries = 1;</code>
        */
-      public Builder setNode(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress value) {
-        if (nodeBuilder_ == null) {
+      public Builder addEntries(
+          int index, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry value) {
+        if (entriesBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          node_ = value;
+          ensureEntriesIsMutable();
+          entries_.add(index, value);
           onChanged();
         } else {
-          nodeBuilder_.setMessage(value);
+          entriesBuilder_.addMessage(index, value);
         }
-        bitField0_ |= 0x00000002;
         return this;
       }
       /**
-       * <code>required .akka.cluster.ddata.UniqueAddress node = 2;</code>
+       * <code>repeated .akka.cluster.ddata.ORSetDeltaGroup.Entry entries = 1;</code>
        */
-      public Builder setNode(
-          akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.Builder builderForValue) {
-        if (nodeBuilder_ == null) {
-          node_ = builderForValue.build();
+      public Builder addEntries(
+          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.add(builderForValue.build());
           onChanged();
         } else {
-          nodeBuilder_.setMessage(builderForValue.build());
+          entriesBuilder_.addMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00000002;
         return this;
       }
       /**
-       * <code>required .akka.cluster.ddata.UniqueAddress node = 2;</code>
+       * <code>repeated .akka.cluster.ddata.ORSetDeltaGroup.Entry entries = 1;</code>
        */
-      public Builder mergeNode(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress value) {
-        if (nodeBuilder_ == null) {
-          if (((bitField0_ & 0x00000002) == 0x00000002) &&
-              node_ != akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.getDefaultInstance()) {
-            node_ =
-              akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.newBuilder(node_).mergeFrom(value).buildPartial();
-          } else {
-            node_ = value;
-          }
+      public Builder addEntries(
+          int index, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.add(index, builderForValue.build());
           onChanged();
         } else {
-          nodeBuilder_.mergeFrom(value);
+          entriesBuilder_.addMessage(index, builderForValue.build());
         }
-        bitField0_ |= 0x00000002;
         return this;
       }
       /**
-       * <code>required .akka.cluster.ddata.UniqueAddress node = 2;</code>
+       * <code>repeated .akka.cluster.ddata.ORSetDeltaGroup.Entry entries = 1;</code>
        */
-      public Builder clearNode() {
-        if (nodeBuilder_ == null) {
-          node_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.getDefaultInstance();
+      public Builder addAllEntries(
+          java.lang.Iterable<? extends akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry> values) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          super.addAll(values, entries_);
           onChanged();
         } else {
-          nodeBuilder_.clear();
+          entriesBuilder_.addAllMessages(values);
         }
-        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
       /**
-       * <code>required .akka.cluster.ddata.UniqueAddress node = 2;</code>
+       * <code>repeated .akka.cluster.ddata.ORSetDeltaGroup.Entry entries = 1;</code>
        */
-      public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.Builder getNodeBuilder() {
-        bitField0_ |= 0x00000002;
-        onChanged();
-        return getNodeFieldBuilder().getBuilder();
+      public Builder clearEntries() {
+        if (entriesBuilder_ == null) {
+          entries_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          entriesBuilder_.clear();
+        }
+        return this;
       }
       /**
-       * <code>required .akka.cluster.ddata.UniqueAddress node = 2;</code>
+       * <code>repeated .akka.cluster.ddata.ORSetDeltaGroup.Entry entries = 1;</code>
        */
-      public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddressOrBuilder getNodeOrBuilder() {
-        if (nodeBuilder_ != null) {
-          return nodeBuilder_.getMessageOrBuilder();
+      public Builder removeEntries(int index) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.remove(index);
+          onChanged();
         } else {
-          return node_;
+          entriesBuilder_.remove(index);
         }
+        return this;
       }
       /**
-       * <code>required .akka.cluster.ddata.UniqueAddress node = 2;</code>
+       * <code>repeated .akka.cluster.ddata.ORSetDeltaGroup.Entry entries = 1;</code>
        */
-      private akka.protobuf.SingleFieldBuilder<
-          akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddressOrBuilder> 
-          getNodeFieldBuilder() {
-        if (nodeBuilder_ == null) {
-          nodeBuilder_ = new akka.protobuf.SingleFieldBuilder<
-              akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddressOrBuilder>(
-                  node_,
-                  getParentForChildren(),
-                  isClean());
-          node_ = null;
-        }
-        return nodeBuilder_;
-      }
-
-      // required .akka.cluster.ddata.OtherMessage state = 3;
-      private akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage state_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance();
-      private akka.protobuf.SingleFieldBuilder<
-          akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder> stateBuilder_;
-      /**
-       * <code>required .akka.cluster.ddata.OtherMessage state = 3;</code>
-       */
-      public boolean hasState() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
-      }
-      /**
-       * <code>required .akka.cluster.ddata.OtherMessage state = 3;</code>
-       */
-      public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage getState() {
-        if (stateBuilder_ == null) {
-          return state_;
-        } else {
-          return stateBuilder_.getMessage();
-        }
-      }
-      /**
-       * <code>required .akka.cluster.ddata.OtherMessage state = 3;</code>
-       */
-      public Builder setState(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage value) {
-        if (stateBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          state_ = value;
-          onChanged();
-        } else {
-          stateBuilder_.setMessage(value);
-        }
-        bitField0_ |= 0x00000004;
-        return this;
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry.Builder getEntriesBuilder(
+          int index) {
+        return getEntriesFieldBuilder().getBuilder(index);
       }
       /**
-       * <code>required .akka.cluster.ddata.OtherMessage state = 3;</code>
+       * <code>repeated .akka.cluster.ddata.ORSetDeltaGroup.Entry entries = 1;</code>
        */
-      public Builder setState(
-          akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder builderForValue) {
-        if (stateBuilder_ == null) {
-          state_ = builderForValue.build();
-          onChanged();
-        } else {
-          stateBuilder_.setMessage(builderForValue.build());
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.EntryOrBuilder getEntriesOrBuilder(
+          int index) {
+        if (entriesBuilder_ == null) {
+          return entries_.get(index);  } else {
+          return entriesBuilder_.getMessageOrBuilder(index);
         }
-        bitField0_ |= 0x00000004;
-        return this;
       }
       /**
-       * <code>required .akka.cluster.ddata.OtherMessage state = 3;</code>
+       * <code>repeated .akka.cluster.ddata.ORSetDeltaGroup.Entry entries = 1;</code>
        */
-      public Builder mergeState(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage value) {
-        if (stateBuilder_ == null) {
-          if (((bitField0_ & 0x00000004) == 0x00000004) &&
-              state_ != akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance()) {
-            state_ =
-              akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.newBuilder(state_).mergeFrom(value).buildPartial();
-          } else {
-            state_ = value;
-          }
-          onChanged();
+      public java.util.List<? extends akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.EntryOrBuilder> 
+           getEntriesOrBuilderList() {
+        if (entriesBuilder_ != null) {
+          return entriesBuilder_.getMessageOrBuilderList();
         } else {
-          stateBuilder_.mergeFrom(value);
+          return java.util.Collections.unmodifiableList(entries_);
         }
-        bitField0_ |= 0x00000004;
-        return this;
       }
       /**
-       * <code>required .akka.cluster.ddata.OtherMessage state = 3;</code>
+       * <code>repeated .akka.cluster.ddata.ORSetDeltaGroup.Entry entries = 1;</code>
        */
-      public Builder clearState() {
-        if (stateBuilder_ == null) {
-          state_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance();
-          onChanged();
-        } else {
-          stateBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000004);
-        return this;
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry.Builder addEntriesBuilder() {
+        return getEntriesFieldBuilder().addBuilder(
+            akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry.getDefaultInstance());
       }
       /**
-       * <code>required .akka.cluster.ddata.OtherMessage state = 3;</code>
+       * <code>repeated .akka.cluster.ddata.ORSetDeltaGroup.Entry entries = 1;</code>
        */
-      public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder getStateBuilder() {
-        bitField0_ |= 0x00000004;
-        onChanged();
-        return getStateFieldBuilder().getBuilder();
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry.Builder addEntriesBuilder(
+          int index) {
+        return getEntriesFieldBuilder().addBuilder(
+            index, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry.getDefaultInstance());
       }
       /**
-       * <code>required .akka.cluster.ddata.OtherMessage state = 3;</code>
+       * <code>repeated .akka.cluster.ddata.ORSetDeltaGroup.Entry entries = 1;</code>
        */
-      public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder getStateOrBuilder() {
-        if (stateBuilder_ != null) {
-          return stateBuilder_.getMessageOrBuilder();
-        } else {
-          return state_;
-        }
+      public java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry.Builder> 
+           getEntriesBuilderList() {
+        return getEntriesFieldBuilder().getBuilderList();
       }
-      /**
-       * <code>required .akka.cluster.ddata.OtherMessage state = 3;</code>
-       */
-      private akka.protobuf.SingleFieldBuilder<
-          akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder> 
-          getStateFieldBuilder() {
-        if (stateBuilder_ == null) {
-          stateBuilder_ = new akka.protobuf.SingleFieldBuilder<
-              akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder>(
-                  state_,
+      private akka.protobuf.RepeatedFieldBuilder<
+          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.EntryOrBuilder> 
+          getEntriesFieldBuilder() {
+        if (entriesBuilder_ == null) {
+          entriesBuilder_ = new akka.protobuf.RepeatedFieldBuilder<
+              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Entry.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.EntryOrBuilder>(
+                  entries_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
                   getParentForChildren(),
                   isClean());
-          state_ = null;
+          entries_ = null;
         }
-        return stateBuilder_;
+        return entriesBuilder_;
       }
 
-      // @@protoc_insertion_point(builder_scope:akka.cluster.ddata.LWWRegister)
+      // @@protoc_insertion_point(builder_scope:akka.cluster.ddata.ORSetDeltaGroup)
     }
 
     static {
-      defaultInstance = new LWWRegister(true);
+      defaultInstance = new ORSetDeltaGroup(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:akka.cluster.ddata.LWWRegister)
+    // @@protoc_insertion_point(class_scope:akka.cluster.ddata.ORSetDeltaGroup)
   }
 
-  public interface GCounterOrBuilder
+  public interface FlagOrBuilder
       extends akka.protobuf.MessageOrBuilder {
 
-    // repeated .akka.cluster.ddata.GCounter.Entry entries = 1;
-    /**
-     * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
-     */
-    java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry> 
-        getEntriesList();
-    /**
-     * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
-     */
-    akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry getEntries(int index);
-    /**
-     * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
-     */
-    int getEntriesCount();
+    // required bool enabled = 1;
     /**
-     * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+     * <code>required bool enabled = 1;</code>
      */
-    java.util.List<? extends akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.EntryOrBuilder> 
-        getEntriesOrBuilderList();
+    boolean hasEnabled();
     /**
-     * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+     * <code>required bool enabled = 1;</code>
      */
-    akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.EntryOrBuilder getEntriesOrBuilder(
-        int index);
+    boolean getEnabled();
   }
   /**
-   * Protobuf type {@code akka.cluster.ddata.GCounter}
+   * Protobuf type {@code akka.cluster.ddata.Flag}
    */
-  public static final class GCounter extends
+  public static final class Flag extends
       akka.protobuf.GeneratedMessage
-      implements GCounterOrBuilder {
-    // Use GCounter.newBuilder() to construct.
-    private GCounter(akka.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements FlagOrBuilder {
+    // Use Flag.newBuilder() to construct.
+    private Flag(akka.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private GCounter(boolean noInit) { this.unknownFields = akka.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private Flag(boolean noInit) { this.unknownFields = akka.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final GCounter defaultInstance;
-    public static GCounter getDefaultInstance() {
+    private static final Flag defaultInstance;
+    public static Flag getDefaultInstance() {
       return defaultInstance;
     }
 
-    public GCounter getDefaultInstanceForType() {
+    public Flag getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -4283,7 +4442,7 @@ public final class ReplicatedDataMessages {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private GCounter(
+    private Flag(
         akka.protobuf.CodedInputStream input,
         akka.protobuf.ExtensionRegistryLite extensionRegistry)
         throws akka.protobuf.InvalidProtocolBufferException {
@@ -4306,12 +4465,9 @@ public final class ReplicatedDataMessages {
               }
               break;
             }
-            case 10: {
-              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-                entries_ = new java.util.ArrayList<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry>();
-                mutable_bitField0_ |= 0x00000001;
-              }
-              entries_.add(input.readMessage(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.PARSER, extensionRegistry));
+            case 8: {
+              bitField0_ |= 0x00000001;
+              enabled_ = input.readBool();
               break;
             }
           }
@@ -4322,704 +4478,585 @@ public final class ReplicatedDataMessages {
         throw new akka.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
-        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-          entries_ = java.util.Collections.unmodifiableList(entries_);
-        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final akka.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_GCounter_descriptor;
+      return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_Flag_descriptor;
     }
 
     protected akka.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_GCounter_fieldAccessorTable
+      return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_Flag_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Builder.class);
+              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag.Builder.class);
     }
 
-    public static akka.protobuf.Parser<GCounter> PARSER =
-        new akka.protobuf.AbstractParser<GCounter>() {
-      public GCounter parsePartialFrom(
+    public static akka.protobuf.Parser<Flag> PARSER =
+        new akka.protobuf.AbstractParser<Flag>() {
+      public Flag parsePartialFrom(
           akka.protobuf.CodedInputStream input,
           akka.protobuf.ExtensionRegistryLite extensionRegistry)
           throws akka.protobuf.InvalidProtocolBufferException {
-        return new GCounter(input, extensionRegistry);
+        return new Flag(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public akka.protobuf.Parser<GCounter> getParserForType() {
+    public akka.protobuf.Parser<Flag> getParserForType() {
       return PARSER;
     }
 
-    public interface EntryOrBuilder
-        extends akka.protobuf.MessageOrBuilder {
-
-      // required .akka.cluster.ddata.UniqueAddress node = 1;
-      /**
-       * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
-       */
-      boolean hasNode();
-      /**
-       * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
-       */
-      akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress getNode();
-      /**
-       * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
-       */
-      akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddressOrBuilder getNodeOrBuilder();
-
-      // required bytes value = 2;
-      /**
-       * <code>required bytes value = 2;</code>
-       */
-      boolean hasValue();
-      /**
-       * <code>required bytes value = 2;</code>
-       */
-      akka.protobuf.ByteString getValue();
+    private int bitField0_;
+    // required bool enabled = 1;
+    public static final int ENABLED_FIELD_NUMBER = 1;
+    private boolean enabled_;
+    /**
+     * <code>required bool enabled = 1;</code>
+     */
+    public boolean hasEnabled() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * Protobuf type {@code akka.cluster.ddata.GCounter.Entry}
+     * <code>required bool enabled = 1;</code>
      */
-    public static final class Entry extends
-        akka.protobuf.GeneratedMessage
-        implements EntryOrBuilder {
-      // Use Entry.newBuilder() to construct.
-      private Entry(akka.protobuf.GeneratedMessage.Builder<?> builder) {
-        super(builder);
-        this.unknownFields = builder.getUnknownFields();
-      }
-      private Entry(boolean noInit) { this.unknownFields = akka.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    public boolean getEnabled() {
+      return enabled_;
+    }
 
-      private static final Entry defaultInstance;
-      public static Entry getDefaultInstance() {
-        return defaultInstance;
-      }
+    private void initFields() {
+      enabled_ = false;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
 
-      public Entry getDefaultInstanceForType() {
-        return defaultInstance;
+      if (!hasEnabled()) {
+        memoizedIsInitialized = 0;
+        return false;
       }
+      memoizedIsInitialized = 1;
+      return true;
+    }
 
-      private final akka.protobuf.UnknownFieldSet unknownFields;
-      @java.lang.Override
-      public final akka.protobuf.UnknownFieldSet
-          getUnknownFields() {
-        return this.unknownFields;
+    public void writeTo(akka.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBool(1, enabled_);
       }
-      private Entry(
-          akka.protobuf.CodedInputStream input,
-          akka.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws akka.protobuf.InvalidProtocolBufferException {
-        initFields();
-        int mutable_bitField0_ = 0;
-        akka.protobuf.UnknownFieldSet.Builder unknownFields =
-            akka.protobuf.UnknownFieldSet.newBuilder();
-        try {
-          boolean done = false;
-          while (!done) {
-            int tag = input.readTag();
-            switch (tag) {
-              case 0:
-                done = true;
-                break;
-              default: {
-                if (!parseUnknownField(input, unknownFields,
-                                       extensionRegistry, tag)) {
-                  done = true;
-                }
-                break;
-              }
-              case 10: {
-                akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.Builder subBuilder = null;
-                if (((bitField0_ & 0x00000001) == 0x00000001)) {
-                  subBuilder = node_.toBuilder();
-                }
-                node_ = input.readMessage(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.PARSER, extensionRegistry);
-                if (subBuilder != null) {
-                  subBuilder.mergeFrom(node_);
-                  node_ = subBuilder.buildPartial();
-                }
-                bitField0_ |= 0x00000001;
-                break;
-              }
-              case 18: {
-                bitField0_ |= 0x00000002;
-                value_ = input.readBytes();
-                break;
-              }
-            }
-          }
-        } catch (akka.protobuf.InvalidProtocolBufferException e) {
-          throw e.setUnfinishedMessage(this);
-        } catch (java.io.IOException e) {
-          throw new akka.protobuf.InvalidProtocolBufferException(
-              e.getMessage()).setUnfinishedMessage(this);
-        } finally {
-          this.unknownFields = unknownFields.build();
-          makeExtensionsImmutable();
-        }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += akka.protobuf.CodedOutputStream
+          .computeBoolSize(1, enabled_);
       }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag parseFrom(
+        akka.protobuf.ByteString data)
+        throws akka.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag parseFrom(
+        akka.protobuf.ByteString data,
+        akka.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws akka.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag parseFrom(byte[] data)
+        throws akka.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag parseFrom(
+        byte[] data,
+        akka.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws akka.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag parseFrom(
+        java.io.InputStream input,
+        akka.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag parseDelimitedFrom(
+        java.io.InputStream input,
+        akka.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag parseFrom(
+        akka.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag parseFrom(
+        akka.protobuf.CodedInputStream input,
+        akka.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        akka.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code akka.cluster.ddata.Flag}
+     */
+    public static final class Builder extends
+        akka.protobuf.GeneratedMessage.Builder<Builder>
+       implements akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.FlagOrBuilder {
       public static final akka.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_GCounter_Entry_descriptor;
+        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_Flag_descriptor;
       }
 
       protected akka.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_GCounter_Entry_fieldAccessorTable
+        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_Flag_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.Builder.class);
+                akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag.Builder.class);
       }
 
-      public static akka.protobuf.Parser<Entry> PARSER =
-          new akka.protobuf.AbstractParser<Entry>() {
-        public Entry parsePartialFrom(
-            akka.protobuf.CodedInputStream input,
-            akka.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws akka.protobuf.InvalidProtocolBufferException {
-          return new Entry(input, extensionRegistry);
-        }
-      };
-
-      @java.lang.Override
-      public akka.protobuf.Parser<Entry> getParserForType() {
-        return PARSER;
+      // Construct using akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
       }
 
-      private int bitField0_;
-      // required .akka.cluster.ddata.UniqueAddress node = 1;
-      public static final int NODE_FIELD_NUMBER = 1;
-      private akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress node_;
-      /**
-       * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
-       */
-      public boolean hasNode() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+      private Builder(
+          akka.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
       }
-      /**
-       * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
-       */
-      public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress getNode() {
-        return node_;
+      private void maybeForceBuilderInitialization() {
+        if (akka.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
       }
-      /**
-       * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
-       */
-      public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddressOrBuilder getNodeOrBuilder() {
-        return node_;
+      private static Builder create() {
+        return new Builder();
       }
 
-      // required bytes value = 2;
-      public static final int VALUE_FIELD_NUMBER = 2;
-      private akka.protobuf.ByteString value_;
-      /**
-       * <code>required bytes value = 2;</code>
-       */
-      public boolean hasValue() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
-      }
-      /**
-       * <code>required bytes value = 2;</code>
-       */
-      public akka.protobuf.ByteString getValue() {
-        return value_;
+      public Builder clear() {
+        super.clear();
+        enabled_ = false;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
       }
 
-      private void initFields() {
-        node_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.getDefaultInstance();
-        value_ = akka.protobuf.ByteString.EMPTY;
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
       }
-      private byte memoizedIsInitialized = -1;
-      public final boolean isInitialized() {
-        byte isInitialized = memoizedIsInitialized;
-        if (isInitialized != -1) return isInitialized == 1;
 
-        if (!hasNode()) {
-          memoizedIsInitialized = 0;
-          return false;
-        }
-        if (!hasValue()) {
-          memoizedIsInitialized = 0;
-          return false;
-        }
-        if (!getNode().isInitialized()) {
-          memoizedIsInitialized = 0;
-          return false;
-        }
-        memoizedIsInitialized = 1;
-        return true;
+      public akka.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_Flag_descriptor;
       }
 
-      public void writeTo(akka.protobuf.CodedOutputStream output)
-                          throws java.io.IOException {
-        getSerializedSize();
-        if (((bitField0_ & 0x00000001) == 0x00000001)) {
-          output.writeMessage(1, node_);
-        }
-        if (((bitField0_ & 0x00000002) == 0x00000002)) {
-          output.writeBytes(2, value_);
-        }
-        getUnknownFields().writeTo(output);
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag getDefaultInstanceForType() {
+        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag.getDefaultInstance();
       }
 
-      private int memoizedSerializedSize = -1;
-      public int getSerializedSize() {
-        int size = memoizedSerializedSize;
-        if (size != -1) return size;
-
-        size = 0;
-        if (((bitField0_ & 0x00000001) == 0x00000001)) {
-          size += akka.protobuf.CodedOutputStream
-            .computeMessageSize(1, node_);
-        }
-        if (((bitField0_ & 0x00000002) == 0x00000002)) {
-          size += akka.protobuf.CodedOutputStream
-            .computeBytesSize(2, value_);
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag build() {
+        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
         }
-        size += getUnknownFields().getSerializedSize();
-        memoizedSerializedSize = size;
-        return size;
+        return result;
       }
 
-      private static final long serialVersionUID = 0L;
-      @java.lang.Override
-      protected java.lang.Object writeReplace()
-          throws java.io.ObjectStreamException {
-        return super.writeReplace();
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag buildPartial() {
+        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag result = new akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.enabled_ = enabled_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
       }
 
-      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry parseFrom(
-          akka.protobuf.ByteString data)
-          throws akka.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data);
-      }
-      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry parseFrom(
-          akka.protobuf.ByteString data,
-          akka.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws akka.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data, extensionRegistry);
-      }
-      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry parseFrom(byte[] data)
-          throws akka.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data);
-      }
-      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry parseFrom(
-          byte[] data,
-          akka.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws akka.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data, extensionRegistry);
-      }
-      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry parseFrom(java.io.InputStream input)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input);
-      }
-      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry parseFrom(
-          java.io.InputStream input,
-          akka.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input, extensionRegistry);
-      }
-      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry parseDelimitedFrom(java.io.InputStream input)
-          throws java.io.IOException {
-        return PARSER.parseDelimitedFrom(input);
+      public Builder mergeFrom(akka.protobuf.Message other) {
+        if (other instanceof akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag) {
+          return mergeFrom((akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
       }
-      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry parseDelimitedFrom(
-          java.io.InputStream input,
-          akka.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+
+      public Builder mergeFrom(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag other) {
+        if (other == akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag.getDefaultInstance()) return this;
+        if (other.hasEnabled()) {
+          setEnabled(other.getEnabled());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
       }
-      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry parseFrom(
-          akka.protobuf.CodedInputStream input)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input);
+
+      public final boolean isInitialized() {
+        if (!hasEnabled()) {
+          
+          return false;
+        }
+        return true;
       }
-      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry parseFrom(
+
+      public Builder mergeFrom(
           akka.protobuf.CodedInputStream input,
           akka.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        return PARSER.parseFrom(input, extensionRegistry);
+        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (akka.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.Flag) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
       }
+      private int bitField0_;
 
-      public static Builder newBuilder() { return Builder.create(); }
-      public Builder newBuilderForType() { return newBuilder(); }
-      public static Builder newBuilder(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry prototype) {
-        return newBuilder().mergeFrom(prototype);
+      // required bool enabled = 1;
+      private boolean enabled_ ;
+      /**
+       * <code>required bool enabled = 1;</code>
+       */
+      public boolean hasEnabled() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
-      public Builder toBuilder() { return newBuilder(this); }
-
-      @java.lang.Override
-      protected Builder newBuilderForType(
-          akka.protobuf.GeneratedMessage.BuilderParent parent) {
-        Builder builder = new Builder(parent);
-        return builder;
+      /**
+       * <code>required bool enabled = 1;</code>
+       */
+      public boolean getEnabled() {
+        return enabled_;
       }
       /**
-       * Protobuf type {@code akka.cluster.ddata.GCounter.Entry}
+       * <code>required bool enabled = 1;</code>
        */
-      public static final class Builder extends
-          akka.protobuf.GeneratedMessage.Builder<Builder>
-         implements akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.EntryOrBuilder {
-        public static final akka.protobuf.Descriptors.Descriptor
-            getDescriptor() {
-          return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_GCounter_Entry_descriptor;
-        }
-
-        protected akka.protobuf.GeneratedMessage.FieldAccessorTable
-            internalGetFieldAccessorTable() {
-          return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_GCounter_Entry_fieldAccessorTable
-              .ensureFieldAccessorsInitialized(
-                  akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.Builder.class);
-        }
+      public Builder setEnabled(boolean value) {
+        bitField0_ |= 0x00000001;
+        enabled_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bool enabled = 1;</code>
+       */
+      public Builder clearEnabled() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        enabled_ = false;
+        onChanged();
+        return this;
+      }
 
-        // Construct using akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.newBuilder()
-        private Builder() {
-          maybeForceBuilderInitialization();
-        }
+      // @@protoc_insertion_point(builder_scope:akka.cluster.ddata.Flag)
+    }
 
-        private Builder(
-            akka.protobuf.GeneratedMessage.BuilderParent parent) {
-          super(parent);
-          maybeForceBuilderInitialization();
-        }
-        private void maybeForceBuilderInitialization() {
-          if (akka.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-            getNodeFieldBuilder();
-          }
-        }
-        private static Builder create() {
-          return new Builder();
-        }
+    static {
+      defaultInstance = new Flag(true);
+      defaultInstance.initFields();
+    }
 
-        public Builder clear() {
-          super.clear();
-          if (nodeBuilder_ == null) {
-            node_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.getDefaultInstance();
-          } else {
-            nodeBuilder_.clear();
-          }
-          bitField0_ = (bitField0_ & ~0x00000001);
-          value_ = akka.protobuf.ByteString.EMPTY;
-          bitField0_ = (bitField0_ & ~0x00000002);
-          return this;
-        }
+    // @@protoc_insertion_point(class_scope:akka.cluster.ddata.Flag)
+  }
 
-        public Builder clone() {
-          return create().mergeFrom(buildPartial());
-        }
+  public interface LWWRegisterOrBuilder
+      extends akka.protobuf.MessageOrBuilder {
 
-        public akka.protobuf.Descriptors.Descriptor
-            getDescriptorForType() {
-          return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_GCounter_Entry_descriptor;
-        }
+    // required sint64 timestamp = 1;
+    /**
+     * <code>required sint64 timestamp = 1;</code>
+     */
+    boolean hasTimestamp();
+    /**
+     * <code>required sint64 timestamp = 1;</code>
+     */
+    long getTimestamp();
 
-        public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry getDefaultInstanceForType() {
-          return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.getDefaultInstance();
-        }
-
-        public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry build() {
-          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry result = buildPartial();
-          if (!result.isInitialized()) {
-            throw newUninitializedMessageException(result);
-          }
-          return result;
-        }
-
-        public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry buildPartial() {
-          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry result = new akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry(this);
-          int from_bitField0_ = bitField0_;
-          int to_bitField0_ = 0;
-          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-            to_bitField0_ |= 0x00000001;
-          }
-          if (nodeBuilder_ == null) {
-            result.node_ = node_;
-          } else {
-            result.node_ = nodeBuilder_.build();
-          }
-          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-            to_bitField0_ |= 0x00000002;
-          }
-          result.value_ = value_;
-          result.bitField0_ = to_bitField0_;
-          onBuilt();
-          return result;
-        }
+    // required .akka.cluster.ddata.UniqueAddress node = 2;
+    /**
+     * <code>required .akka.cluster.ddata.UniqueAddress node = 2;</code>
+     */
+    boolean hasNode();
+    /**
+     * <code>required .akka.cluster.ddata.UniqueAddress node = 2;</code>
+     */
+    akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress getNode();
+    /**
+     * <code>required .akka.cluster.ddata.UniqueAddress node = 2;</code>
+     */
+    akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddressOrBuilder getNodeOrBuilder();
 
-        public Builder mergeFrom(akka.protobuf.Message other) {
-          if (other instanceof akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry) {
-            return mergeFrom((akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry)other);
-          } else {
-            super.mergeFrom(other);
-            return this;
-          }
-        }
+    // required .akka.cluster.ddata.OtherMessage state = 3;
+    /**
+     * <code>required .akka.cluster.ddata.OtherMessage state = 3;</code>
+     */
+    boolean hasState();
+    /**
+     * <code>required .akka.cluster.ddata.OtherMessage state = 3;</code>
+     */
+    akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage getState();
+    /**
+     * <code>required .akka.cluster.ddata.OtherMessage state = 3;</code>
+     */
+    akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder getStateOrBuilder();
+  }
+  /**
+   * Protobuf type {@code akka.cluster.ddata.LWWRegister}
+   */
+  public static final class LWWRegister extends
+      akka.protobuf.GeneratedMessage
+      implements LWWRegisterOrBuilder {
+    // Use LWWRegister.newBuilder() to construct.
+    private LWWRegister(akka.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private LWWRegister(boolean noInit) { this.unknownFields = akka.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-        public Builder mergeFrom(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry other) {
-          if (other == akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.getDefaultInstance()) return this;
-          if (other.hasNode()) {
-            mergeNode(other.getNode());
-          }
-          if (other.hasValue()) {
-            setValue(other.getValue());
-          }
-          this.mergeUnknownFields(other.getUnknownFields());
-          return this;
-        }
+    private static final LWWRegister defaultInstance;
+    public static LWWRegister getDefaultInstance() {
+      return defaultInstance;
+    }
 
-        public final boolean isInitialized() {
-          if (!hasNode()) {
-            
-            return false;
-          }
-          if (!hasValue()) {
-            
-            return false;
-          }
-          if (!getNode().isInitialized()) {
-            
-            return false;
-          }
-          return true;
-        }
+    public LWWRegister getDefaultInstanceForType() {
+      return defaultInstance;
+    }
 
-        public Builder mergeFrom(
-            akka.protobuf.CodedInputStream input,
-            akka.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws java.io.IOException {
-          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry parsedMessage = null;
-          try {
-            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-          } catch (akka.protobuf.InvalidProtocolBufferException e) {
-            parsedMessage = (akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry) e.getUnfinishedMessage();
-            throw e;
-          } finally {
-            if (parsedMessage != null) {
-              mergeFrom(parsedMessage);
+    private final akka.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final akka.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private LWWRegister(
+        akka.protobuf.CodedInputStream input,
+        akka.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws akka.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      akka.protobuf.UnknownFieldSet.Builder unknownFields =
+          akka.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
             }
-          }
-          return this;
-        }
-        private int bitField0_;
-
-        // required .akka.cluster.ddata.UniqueAddress node = 1;
-        private akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress node_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.getDefaultInstance();
-        private akka.protobuf.SingleFieldBuilder<
-            akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddressOrBuilder> nodeBuilder_;
-        /**
-         * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
-         */
-        public boolean hasNode() {
-          return ((bitField0_ & 0x00000001) == 0x00000001);
-        }
-        /**
-         * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
-         */
-        public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress getNode() {
-          if (nodeBuilder_ == null) {
-            return node_;
-          } else {
-            return nodeBuilder_.getMessage();
-          }
-        }
-        /**
-         * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
-         */
-        public Builder setNode(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress value) {
-          if (nodeBuilder_ == null) {
-            if (value == null) {
-              throw new NullPointerException();
+            case 8: {
+              bitField0_ |= 0x00000001;
+              timestamp_ = input.readSInt64();
+              break;
             }
-            node_ = value;
-            onChanged();
-          } else {
-            nodeBuilder_.setMessage(value);
-          }
-          bitField0_ |= 0x00000001;
-          return this;
-        }
-        /**
-         * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
-         */
-        public Builder setNode(
-            akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.Builder builderForValue) {
-          if (nodeBuilder_ == null) {
-            node_ = builderForValue.build();
-            onChanged();
-          } else {
-            nodeBuilder_.setMessage(builderForValue.build());
-          }
-          bitField0_ |= 0x00000001;
-          return this;
-        }
-        /**
-         * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
-         */
-        public Builder mergeNode(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress value) {
-          if (nodeBuilder_ == null) {
-            if (((bitField0_ & 0x00000001) == 0x00000001) &&
-                node_ != akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.getDefaultInstance()) {
-              node_ =
-                akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.newBuilder(node_).mergeFrom(value).buildPartial();
-            } else {
-              node_ = value;
+            case 18: {
+              akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) == 0x00000002)) {
+                subBuilder = node_.toBuilder();
+              }
+              node_ = input.readMessage(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(node_);
+                node_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000002;
+              break;
+            }
+            case 26: {
+              akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000004) == 0x00000004)) {
+                subBuilder = state_.toBuilder();
+              }
+              state_ = input.readMessage(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(state_);
+                state_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000004;
+              break;
             }
-            onChanged();
-          } else {
-            nodeBuilder_.mergeFrom(value);
           }
-          bitField0_ |= 0x00000001;
-          return this;
-        }
-        /**
-         * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
-         */
-        public Builder clearNode() {
-          if (nodeBuilder_ == null) {
-            node_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.getDefaultInstance();
-            onChanged();
-          } else {
-            nodeBuilder_.clear();
-          }
-          bitField0_ = (bitField0_ & ~0x00000001);
-          return this;
-        }
-        /**
-         * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
-         */
-        public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.Builder getNodeBuilder() {
-          bitField0_ |= 0x00000001;
-          onChanged();
-          return getNodeFieldBuilder().getBuilder();
-        }
-        /**
-         * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
-         */
-        public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddressOrBuilder getNodeOrBuilder() {
-          if (nodeBuilder_ != null) {
-            return nodeBuilder_.getMessageOrBuilder();
-          } else {
-            return node_;
-          }
-        }
-        /**
-         * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
-         */
-        private akka.protobuf.SingleFieldBuilder<
-            akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddressOrBuilder> 
-            getNodeFieldBuilder() {
-          if (nodeBuilder_ == null) {
-            nodeBuilder_ = new akka.protobuf.SingleFieldBuilder<
-                akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddressOrBuilder>(
-                    node_,
-                    getParentForChildren(),
-                    isClean());
-            node_ = null;
-          }
-          return nodeBuilder_;
         }
+      } catch (akka.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new akka.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final akka.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_LWWRegister_descriptor;
+    }
 
-        // required bytes value = 2;
-        private akka.protobuf.ByteString value_ = akka.protobuf.ByteString.EMPTY;
-        /**
-         * <code>required bytes value = 2;</code>
-         */
-        public boolean hasValue() {
-          return ((bitField0_ & 0x00000002) == 0x00000002);
-        }
-        /**
-         * <code>required bytes value = 2;</code>
-         */
-        public akka.protobuf.ByteString getValue() {
-          return value_;
-        }
-        /**
-         * <code>required bytes value = 2;</code>
-         */
-        public Builder setValue(akka.protobuf.ByteString value) {
-          if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-          value_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>required bytes value = 2;</code>
-         */
-        public Builder clearValue() {
-          bitField0_ = (bitField0_ & ~0x00000002);
-          value_ = getDefaultInstance().getValue();
-          onChanged();
-          return this;
-        }
+    protected akka.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_LWWRegister_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister.Builder.class);
+    }
 
-        // @@protoc_insertion_point(builder_scope:akka.cluster.ddata.GCounter.Entry)
+    public static akka.protobuf.Parser<LWWRegister> PARSER =
+        new akka.protobuf.AbstractParser<LWWRegister>() {
+      public LWWRegister parsePartialFrom(
+          akka.protobuf.CodedInputStream input,
+          akka.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws akka.protobuf.InvalidProtocolBufferException {
+        return new LWWRegister(input, extensionRegistry);
       }
+    };
 
-      static {
-        defaultInstance = new Entry(true);
-        defaultInstance.initFields();
-      }
+    @java.lang.Override
+    public akka.protobuf.Parser<LWWRegister> getParserForType() {
+      return PARSER;
+    }
 
-      // @@protoc_insertion_point(class_scope:akka.cluster.ddata.GCounter.Entry)
+    private int bitField0_;
+    // required sint64 timestamp = 1;
+    public static final int TIMESTAMP_FIELD_NUMBER = 1;
+    private long timestamp_;
+    /**
+     * <code>required sint64 timestamp = 1;</code>
+     */
+    public boolean hasTimestamp() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required sint64 timestamp = 1;</code>
+     */
+    public long getTimestamp() {
+      return timestamp_;
     }
 
-    // repeated .akka.cluster.ddata.GCounter.Entry entries = 1;
-    public static final int ENTRIES_FIELD_NUMBER = 1;
-    private java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry> entries_;
+    // required .akka.cluster.ddata.UniqueAddress node = 2;
+    public static final int NODE_FIELD_NUMBER = 2;
+    private akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress node_;
     /**
-     * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+     * <code>required .akka.cluster.ddata.UniqueAddress node = 2;</code>
      */
-    public java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry> getEntriesList() {
-      return entries_;
+    public boolean hasNode() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
     }
     /**
-     * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+     * <code>required .akka.cluster.ddata.UniqueAddress node = 2;</code>
      */
-    public java.util.List<? extends akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.EntryOrBuilder> 
-        getEntriesOrBuilderList() {
-      return entries_;
+    public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress getNode() {
+      return node_;
     }
     /**
-     * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+     * <code>required .akka.cluster.ddata.UniqueAddress node = 2;</code>
      */
-    public int getEntriesCount() {
-      return entries_.size();
+    public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddressOrBuilder getNodeOrBuilder() {
+      return node_;
+    }
+
+    // required .akka.cluster.ddata.OtherMessage state = 3;
+    public static final int STATE_FIELD_NUMBER = 3;
+    private akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage state_;
+    /**
+     * <code>required .akka.cluster.ddata.OtherMessage state = 3;</code>
+     */
+    public boolean hasState() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
     }
     /**
-     * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+     * <code>required .akka.cluster.ddata.OtherMessage state = 3;</code>
      */
-    public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry getEntries(int index) {
-      return entries_.get(index);
+    public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage getState() {
+      return state_;
     }
     /**
-     * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+     * <code>required .akka.cluster.ddata.OtherMessage state = 3;</code>
      */
-    public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.EntryOrBuilder getEntriesOrBuilder(
-        int index) {
-      return entries_.get(index);
+    public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder getStateOrBuilder() {
+      return state_;
     }
 
     private void initFields() {
-      entries_ = java.util.Collections.emptyList();
+      timestamp_ = 0L;
+      node_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.getDefaultInstance();
+      state_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
       if (isInitialized != -1) return isInitialized == 1;
 
-      for (int i = 0; i < getEntriesCount(); i++) {
-        if (!getEntries(i).isInitialized()) {
-          memoizedIsInitialized = 0;
-          return false;
-        }
+      if (!hasTimestamp()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasNode()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasState()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getNode().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getState().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
       }
       memoizedIsInitialized = 1;
       return true;
@@ -5028,8 +5065,14 @@ public final class ReplicatedDataMessages {
     public void writeTo(akka.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
-      for (int i = 0; i < entries_.size(); i++) {
-        output.writeMessage(1, entries_.get(i));
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeSInt64(1, timestamp_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeMessage(2, node_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeMessage(3, state_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -5040,9 +5083,17 @@ public final class ReplicatedDataMessages {
       if (size != -1) return size;
 
       size = 0;
-      for (int i = 0; i < entries_.size(); i++) {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += akka.protobuf.CodedOutputStream
-          .computeMessageSize(1, entries_.get(i));
+          .computeSInt64Size(1, timestamp_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += akka.protobuf.CodedOutputStream
+          .computeMessageSize(2, node_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += akka.protobuf.CodedOutputStream
+          .computeMessageSize(3, state_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -5056,53 +5107,53 @@ public final class ReplicatedDataMessages {
       return super.writeReplace();
     }
 
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter parseFrom(
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister parseFrom(
         akka.protobuf.ByteString data)
         throws akka.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter parseFrom(
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister parseFrom(
         akka.protobuf.ByteString data,
         akka.protobuf.ExtensionRegistryLite extensionRegistry)
         throws akka.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter parseFrom(byte[] data)
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister parseFrom(byte[] data)
         throws akka.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter parseFrom(
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister parseFrom(
         byte[] data,
         akka.protobuf.ExtensionRegistryLite extensionRegistry)
         throws akka.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter parseFrom(java.io.InputStream input)
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter parseFrom(
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister parseFrom(
         java.io.InputStream input,
         akka.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter parseDelimitedFrom(java.io.InputStream input)
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter parseDelimitedFrom(
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister parseDelimitedFrom(
         java.io.InputStream input,
         akka.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter parseFrom(
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister parseFrom(
         akka.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter parseFrom(
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister parseFrom(
         akka.protobuf.CodedInputStream input,
         akka.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -5111,7 +5162,7 @@ public final class ReplicatedDataMessages {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter prototype) {
+    public static Builder newBuilder(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -5123,24 +5174,24 @@ public final class ReplicatedDataMessages {
       return builder;
     }
     /**
-     * Protobuf type {@code akka.cluster.ddata.GCounter}
+     * Protobuf type {@code akka.cluster.ddata.LWWRegister}
      */
     public static final class Builder extends
         akka.protobuf.GeneratedMessage.Builder<Builder>
-       implements akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounterOrBuilder {
+       implements akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegisterOrBuilder {
       public static final akka.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_GCounter_descriptor;
+        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_LWWRegister_descriptor;
       }
 
       protected akka.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_GCounter_fieldAccessorTable
+        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_LWWRegister_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Builder.class);
+                akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister.Builder.class);
       }
 
-      // Construct using akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.newBuilder()
+      // Construct using akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -5152,7 +5203,8 @@ public final class ReplicatedDataMessages {
       }
       private void maybeForceBuilderInitialization() {
         if (akka.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getEntriesFieldBuilder();
+          getNodeFieldBuilder();
+          getStateFieldBuilder();
         }
       }
       private static Builder create() {
@@ -5161,12 +5213,20 @@ public final class ReplicatedDataMessages {
 
       public Builder clear() {
         super.clear();
-        if (entriesBuilder_ == null) {
-          entries_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
+        timestamp_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (nodeBuilder_ == null) {
+          node_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.getDefaultInstance();
         } else {
-          entriesBuilder_.clear();
+          nodeBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (stateBuilder_ == null) {
+          state_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance();
+        } else {
+          stateBuilder_.clear();
         }
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -5176,84 +5236,94 @@ public final class ReplicatedDataMessages {
 
       public akka.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_GCounter_descriptor;
+        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_LWWRegister_descriptor;
       }
 
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter getDefaultInstanceForType() {
-        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.getDefaultInstance();
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister getDefaultInstanceForType() {
+        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister.getDefaultInstance();
       }
 
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter build() {
-        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter result = buildPartial();
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister build() {
+        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter buildPartial() {
-        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter result = new akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter(this);
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister buildPartial() {
+        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister result = new akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister(this);
         int from_bitField0_ = bitField0_;
-        if (entriesBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) == 0x00000001)) {
-            entries_ = java.util.Collections.unmodifiableList(entries_);
-            bitField0_ = (bitField0_ & ~0x00000001);
-          }
-          result.entries_ = entries_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.timestamp_ = timestamp_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        if (nodeBuilder_ == null) {
+          result.node_ = node_;
         } else {
-          result.entries_ = entriesBuilder_.build();
+          result.node_ = nodeBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        if (stateBuilder_ == null) {
+          result.state_ = state_;
+        } else {
+          result.state_ = stateBuilder_.build();
         }
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(akka.protobuf.Message other) {
-        if (other instanceof akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter) {
-          return mergeFrom((akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter)other);
+        if (other instanceof akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister) {
+          return mergeFrom((akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter other) {
-        if (other == akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.getDefaultInstance()) return this;
-        if (entriesBuilder_ == null) {
-          if (!other.entries_.isEmpty()) {
-            if (entries_.isEmpty()) {
-              entries_ = other.entries_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-            } else {
-              ensureEntriesIsMutable();
-              entries_.addAll(other.entries_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.entries_.isEmpty()) {
-            if (entriesBuilder_.isEmpty()) {
-              entriesBuilder_.dispose();
-              entriesBuilder_ = null;
-              entries_ = other.entries_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-              entriesBuilder_ = 
-                akka.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
-                   getEntriesFieldBuilder() : null;
-            } else {
-              entriesBuilder_.addAllMessages(other.entries_);
-            }
-          }
+      public Builder mergeFrom(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister other) {
+        if (other == akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister.getDefaultInstance()) return this;
+        if (other.hasTimestamp()) {
+          setTimestamp(other.getTimestamp());
+        }
+        if (other.hasNode()) {
+          mergeNode(other.getNode());
+        }
+        if (other.hasState()) {
+          mergeState(other.getState());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        for (int i = 0; i < getEntriesCount(); i++) {
-          if (!getEntries(i).isInitialized()) {
-            
-            return false;
-          }
+        if (!hasTimestamp()) {
+          
+          return false;
+        }
+        if (!hasNode()) {
+          
+          return false;
+        }
+        if (!hasState()) {
+          
+          return false;
+        }
+        if (!getNode().isInitialized()) {
+          
+          return false;
+        }
+        if (!getState().isInitialized()) {
+          
+          return false;
         }
         return true;
       }
@@ -5262,11 +5332,11 @@ public final class ReplicatedDataMessages {
           akka.protobuf.CodedInputStream input,
           akka.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter parsedMessage = null;
+        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (akka.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter) e.getUnfinishedMessage();
+          parsedMessage = (akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.LWWRegister) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -5277,307 +5347,331 @@ public final class ReplicatedDataMessages {
       }
       private int bitField0_;
 
-      // repeated .akka.cluster.ddata.GCounter.Entry entries = 1;
-      private java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry> entries_ =
-        java.util.Collections.emptyList();
-      private void ensureEntriesIsMutable() {
-        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
-          entries_ = new java.util.ArrayList<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry>(entries_);
-          bitField0_ |= 0x00000001;
-         }
+      // required sint64 timestamp = 1;
+      private long timestamp_ ;
+      /**
+       * <code>required sint64 timestamp = 1;</code>
+       */
+      public boolean hasTimestamp() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
-
-      private akka.protobuf.RepeatedFieldBuilder<
-          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.EntryOrBuilder> entriesBuilder_;
-
       /**
-       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       * <code>required sint64 timestamp = 1;</code>
        */
-      public java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry> getEntriesList() {
-        if (entriesBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(entries_);
-        } else {
-          return entriesBuilder_.getMessageList();
-        }
+      public long getTimestamp() {
+        return timestamp_;
       }
       /**
-       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       * <code>required sint64 timestamp = 1;</code>
        */
-      public int getEntriesCount() {
-        if (entriesBuilder_ == null) {
-          return entries_.size();
-        } else {
-          return entriesBuilder_.getCount();
-        }
+      public Builder setTimestamp(long value) {
+        bitField0_ |= 0x00000001;
+        timestamp_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       * <code>required sint64 timestamp = 1;</code>
        */
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry getEntries(int index) {
-        if (entriesBuilder_ == null) {
-          return entries_.get(index);
+      public Builder clearTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        timestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // required .akka.cluster.ddata.UniqueAddress node = 2;
+      private akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress node_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.getDefaultInstance();
+      private akka.protobuf.SingleFieldBuilder<
+          akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddressOrBuilder> nodeBuilder_;
+      /**
+       * <code>required .akka.cluster.ddata.UniqueAddress node = 2;</code>
+       */
+      public boolean hasNode() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required .akka.cluster.ddata.UniqueAddress node = 2;</code>
+       */
+      public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress getNode() {
+        if (nodeBuilder_ == null) {
+          return node_;
         } else {
-          return entriesBuilder_.getMessage(index);
+          return nodeBuilder_.getMessage();
         }
       }
       /**
-       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       * <code>required .akka.cluster.ddata.UniqueAddress node = 2;</code>
        */
-      public Builder setEntries(
-          int index, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry value) {
-        if (entriesBuilder_ == null) {
+      public Builder setNode(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress value) {
+        if (nodeBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          ensureEntriesIsMutable();
-          entries_.set(index, value);
+          node_ = value;
           onChanged();
         } else {
-          entriesBuilder_.setMessage(index, value);
+          nodeBuilder_.setMessage(value);
         }
+        bitField0_ |= 0x00000002;
         return this;
       }
       /**
-       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       * <code>required .akka.cluster.ddata.UniqueAddress node = 2;</code>
        */
-      public Builder setEntries(
-          int index, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.Builder builderForValue) {
-        if (entriesBuilder_ == null) {
-          ensureEntriesIsMutable();
-          entries_.set(index, builderForValue.build());
+      public Builder setNode(
+          akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.Builder builderForValue) {
+        if (nodeBuilder_ == null) {
+          node_ = builderForValue.build();
           onChanged();
         } else {
-          entriesBuilder_.setMessage(index, builderForValue.build());
+          nodeBuilder_.setMessage(builderForValue.build());
         }
+        bitField0_ |= 0x00000002;
         return this;
       }
       /**
-       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       * <code>required .akka.cluster.ddata.UniqueAddress node = 2;</code>
        */
-      public Builder addEntries(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry value) {
-        if (entriesBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
+      public Builder mergeNode(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress value) {
+        if (nodeBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002) &&
+              node_ != akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.getDefaultInstance()) {
+            node_ =
+              akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.newBuilder(node_).mergeFrom(value).buildPartial();
+          } else {
+            node_ = value;
           }
-          ensureEntriesIsMutable();
-          entries_.add(value);
           onChanged();
         } else {
-          entriesBuilder_.addMessage(value);
+          nodeBuilder_.mergeFrom(value);
         }
+        bitField0_ |= 0x00000002;
         return this;
       }
       /**
-       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       * <code>required .akka.cluster.ddata.UniqueAddress node = 2;</code>
        */
-      public Builder addEntries(
-          int index, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry value) {
-        if (entriesBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureEntriesIsMutable();
-          entries_.add(index, value);
+      public Builder clearNode() {
+        if (nodeBuilder_ == null) {
+          node_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.getDefaultInstance();
           onChanged();
         } else {
-          entriesBuilder_.addMessage(index, value);
+          nodeBuilder_.clear();
         }
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
       /**
-       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       * <code>required .akka.cluster.ddata.UniqueAddress node = 2;</code>
        */
-      public Builder addEntries(
-          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.Builder builderForValue) {
-        if (entriesBuilder_ == null) {
-          ensureEntriesIsMutable();
-          entries_.add(builderForValue.build());
-          onChanged();
+      public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.Builder getNodeBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getNodeFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .akka.cluster.ddata.UniqueAddress node = 2;</code>
+       */
+      public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddressOrBuilder getNodeOrBuilder() {
+        if (nodeBuilder_ != null) {
+          return nodeBuilder_.getMessageOrBuilder();
         } else {
-          entriesBuilder_.addMessage(builderForValue.build());
+          return node_;
         }
-        return this;
       }
       /**
-       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       * <code>required .akka.cluster.ddata.UniqueAddress node = 2;</code>
        */
-      public Builder addEntries(
-          int index, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.Builder builderForValue) {
-        if (entriesBuilder_ == null) {
-          ensureEntriesIsMutable();
-          entries_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          entriesBuilder_.addMessage(index, builderForValue.build());
+      private akka.protobuf.SingleFieldBuilder<
+          akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddressOrBuilder> 
+          getNodeFieldBuilder() {
+        if (nodeBuilder_ == null) {
+          nodeBuilder_ = new akka.protobuf.SingleFieldBuilder<
+              akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddressOrBuilder>(
+                  node_,
+                  getParentForChildren(),
+                  isClean());
+          node_ = null;
         }
-        return this;
+        return nodeBuilder_;
       }
+
+      // required .akka.cluster.ddata.OtherMessage state = 3;
+      private akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage state_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance();
+      private akka.protobuf.SingleFieldBuilder<
+          akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder> stateBuilder_;
       /**
-       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       * <code>required .akka.cluster.ddata.OtherMessage state = 3;</code>
        */
-      public Builder addAllEntries(
-          java.lang.Iterable<? extends akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry> values) {
-        if (entriesBuilder_ == null) {
-          ensureEntriesIsMutable();
-          super.addAll(values, entries_);
-          onChanged();
+      public boolean hasState() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required .akka.cluster.ddata.OtherMessage state = 3;</code>
+       */
+      public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage getState() {
+        if (stateBuilder_ == null) {
+          return state_;
         } else {
-          entriesBuilder_.addAllMessages(values);
+          return stateBuilder_.getMessage();
         }
-        return this;
       }
       /**
-       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       * <code>required .akka.cluster.ddata.OtherMessage state = 3;</code>
        */
-      public Builder clearEntries() {
-        if (entriesBuilder_ == null) {
-          entries_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
+      public Builder setState(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage value) {
+        if (stateBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          state_ = value;
           onChanged();
         } else {
-          entriesBuilder_.clear();
+          stateBuilder_.setMessage(value);
         }
+        bitField0_ |= 0x00000004;
         return this;
       }
       /**
-       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       * <code>required .akka.cluster.ddata.OtherMessage state = 3;</code>
        */
-      public Builder removeEntries(int index) {
-        if (entriesBuilder_ == null) {
-          ensureEntriesIsMutable();
-          entries_.remove(index);
+      public Builder setState(
+          akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder builderForValue) {
+        if (stateBuilder_ == null) {
+          state_ = builderForValue.build();
           onChanged();
         } else {
-          entriesBuilder_.remove(index);
+          stateBuilder_.setMessage(builderForValue.build());
         }
+        bitField0_ |= 0x00000004;
         return this;
       }
       /**
-       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
-       */
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.Builder getEntriesBuilder(
-          int index) {
-        return getEntriesFieldBuilder().getBuilder(index);
-      }
-      /**
-       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       * <code>required .akka.cluster.ddata.OtherMessage state = 3;</code>
        */
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.EntryOrBuilder getEntriesOrBuilder(
-          int index) {
-        if (entriesBuilder_ == null) {
-          return entries_.get(index);  } else {
-          return entriesBuilder_.getMessageOrBuilder(index);
+      public Builder mergeState(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage value) {
+        if (stateBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004) &&
+              state_ != akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance()) {
+            state_ =
+              akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.newBuilder(state_).mergeFrom(value).buildPartial();
+          } else {
+            state_ = value;
+          }
+          onChanged();
+        } else {
+          stateBuilder_.mergeFrom(value);
         }
+        bitField0_ |= 0x00000004;
+        return this;
       }
       /**
-       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       * <code>required .akka.cluster.ddata.OtherMessage state = 3;</code>
        */
-      public java.util.List<? extends akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.EntryOrBuilder> 
-           getEntriesOrBuilderList() {
-        if (entriesBuilder_ != null) {
-          return entriesBuilder_.getMessageOrBuilderList();
+      public Builder clearState() {
+        if (stateBuilder_ == null) {
+          state_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance();
+          onChanged();
         } else {
-          return java.util.Collections.unmodifiableList(entries_);
+          stateBuilder_.clear();
         }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
       }
       /**
-       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       * <code>required .akka.cluster.ddata.OtherMessage state = 3;</code>
        */
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.Builder addEntriesBuilder() {
-        return getEntriesFieldBuilder().addBuilder(
-            akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.getDefaultInstance());
+      public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder getStateBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getStateFieldBuilder().getBuilder();
       }
       /**
-       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       * <code>required .akka.cluster.ddata.OtherMessage state = 3;</code>
        */
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.Builder addEntriesBuilder(
-          int index) {
-        return getEntriesFieldBuilder().addBuilder(
-            index, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.getDefaultInstance());
+      public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder getStateOrBuilder() {
+        if (stateBuilder_ != null) {
+          return stateBuilder_.getMessageOrBuilder();
+        } else {
+          return state_;
+        }
       }
       /**
-       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       * <code>required .akka.cluster.ddata.OtherMessage state = 3;</code>
        */
-      public java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.Builder> 
-           getEntriesBuilderList() {
-        return getEntriesFieldBuilder().getBuilderList();
-      }
-      private akka.protobuf.RepeatedFieldBuilder<
-          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.EntryOrBuilder> 
-          getEntriesFieldBuilder() {
-        if (entriesBuilder_ == null) {
-          entriesBuilder_ = new akka.protobuf.RepeatedFieldBuilder<
-              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.EntryOrBuilder>(
-                  entries_,
-                  ((bitField0_ & 0x00000001) == 0x00000001),
+      private akka.protobuf.SingleFieldBuilder<
+          akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder> 
+          getStateFieldBuilder() {
+        if (stateBuilder_ == null) {
+          stateBuilder_ = new akka.protobuf.SingleFieldBuilder<
+              akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder>(
+                  state_,
                   getParentForChildren(),
                   isClean());
-          entries_ = null;
+          state_ = null;
         }
-        return entriesBuilder_;
+        return stateBuilder_;
       }
 
-      // @@protoc_insertion_point(builder_scope:akka.cluster.ddata.GCounter)
+      // @@protoc_insertion_point(builder_scope:akka.cluster.ddata.LWWRegister)
     }
 
     static {
-      defaultInstance = new GCounter(true);
+      defaultInstance = new LWWRegister(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:akka.cluster.ddata.GCounter)
+    // @@protoc_insertion_point(class_scope:akka.cluster.ddata.LWWRegister)
   }
 
-  public interface PNCounterOrBuilder
+  public interface GCounterOrBuilder
       extends akka.protobuf.MessageOrBuilder {
 
-    // required .akka.cluster.ddata.GCounter increments = 1;
-    /**
-     * <code>required .akka.cluster.ddata.GCounter increments = 1;</code>
-     */
-    boolean hasIncrements();
+    // repeated .akka.cluster.ddata.GCounter.Entry entries = 1;
     /**
-     * <code>required .akka.cluster.ddata.GCounter increments = 1;</code>
+     * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
      */
-    akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter getIncrements();
+    java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry> 
+        getEntriesList();
     /**
-     * <code>required .akka.cluster.ddata.GCounter increments = 1;</code>
+     * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
      */
-    akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounterOrBuilder getIncrementsOrBuilder();
-
-    // required .akka.cluster.ddata.GCounter decrements = 2;
+    akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry getEntries(int index);
     /**
-     * <code>required .akka.cluster.ddata.GCounter decrements = 2;</code>
+     * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
      */
-    boolean hasDecrements();
+    int getEntriesCount();
     /**
-     * <code>required .akka.cluster.ddata.GCounter decrements = 2;</code>
+     * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
      */
-    akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter getDecrements();
+    java.util.List<? extends akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.EntryOrBuilder> 
+        getEntriesOrBuilderList();
     /**
-     * <code>required .akka.cluster.ddata.GCounter decrements = 2;</code>
+     * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
      */
-    akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounterOrBuilder getDecrementsOrBuilder();
+    akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.EntryOrBuilder getEntriesOrBuilder(
+        int index);
   }
   /**
-   * Protobuf type {@code akka.cluster.ddata.PNCounter}
+   * Protobuf type {@code akka.cluster.ddata.GCounter}
    */
-  public static final class PNCounter extends
+  public static final class GCounter extends
       akka.protobuf.GeneratedMessage
-      implements PNCounterOrBuilder {
-    // Use PNCounter.newBuilder() to construct.
-    private PNCounter(akka.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements GCounterOrBuilder {
+    // Use GCounter.newBuilder() to construct.
+    private GCounter(akka.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private PNCounter(boolean noInit) { this.unknownFields = akka.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private GCounter(boolean noInit) { this.unknownFields = akka.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final PNCounter defaultInstance;
-    public static PNCounter getDefaultInstance() {
+    private static final GCounter defaultInstance;
+    public static GCounter getDefaultInstance() {
       return defaultInstance;
     }
 
-    public PNCounter getDefaultInstanceForType() {
+    public GCounter getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -5587,7 +5681,7 @@ public final class ReplicatedDataMessages {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private PNCounter(
+    private GCounter(
         akka.protobuf.CodedInputStream input,
         akka.protobuf.ExtensionRegistryLite extensionRegistry)
         throws akka.protobuf.InvalidProtocolBufferException {
@@ -5611,29 +5705,11 @@ public final class ReplicatedDataMessages {
               break;
             }
             case 10: {
-              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000001) == 0x00000001)) {
-                subBuilder = increments_.toBuilder();
-              }
-              increments_ = input.readMessage(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(increments_);
-                increments_ = subBuilder.buildPartial();
-              }
-              bitField0_ |= 0x00000001;
-              break;
-            }
-            case 18: {
-              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000002) == 0x00000002)) {
-                subBuilder = decrements_.toBuilder();
-              }
-              decrements_ = input.readMessage(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(decrements_);
-                decrements_ = subBuilder.buildPartial();
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                entries_ = new java.util.ArrayList<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry>();
+                mutable_bitField0_ |= 0x00000001;
               }
-              bitField0_ |= 0x00000002;
+              entries_.add(input.readMessage(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.PARSER, extensionRegistry));
               break;
             }
           }
@@ -5644,1494 +5720,1518 @@ public final class ReplicatedDataMessages {
         throw new akka.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          entries_ = java.util.Collections.unmodifiableList(entries_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final akka.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_PNCounter_descriptor;
+      return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_GCounter_descriptor;
     }
 
     protected akka.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_PNCounter_fieldAccessorTable
+      return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_GCounter_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter.Builder.class);
+              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Builder.class);
     }
 
-    public static akka.protobuf.Parser<PNCounter> PARSER =
-        new akka.protobuf.AbstractParser<PNCounter>() {
-      public PNCounter parsePartialFrom(
+    public static akka.protobuf.Parser<GCounter> PARSER =
+        new akka.protobuf.AbstractParser<GCounter>() {
+      public GCounter parsePartialFrom(
           akka.protobuf.CodedInputStream input,
           akka.protobuf.ExtensionRegistryLite extensionRegistry)
           throws akka.protobuf.InvalidProtocolBufferException {
-        return new PNCounter(input, extensionRegistry);
+        return new GCounter(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public akka.protobuf.Parser<PNCounter> getParserForType() {
+    public akka.protobuf.Parser<GCounter> getParserForType() {
       return PARSER;
     }
 
-    private int bitField0_;
-    // required .akka.cluster.ddata.GCounter increments = 1;
-    public static final int INCREMENTS_FIELD_NUMBER = 1;
-    private akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter increments_;
-    /**
-     * <code>required .akka.cluster.ddata.GCounter increments = 1;</code>
-     */
-    public boolean hasIncrements() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
-    }
-    /**
-     * <code>required .akka.cluster.ddata.GCounter increments = 1;</code>
-     */
-    public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter getIncrements() {
-      return increments_;
-    }
-    /**
-     * <code>required .akka.cluster.ddata.GCounter increments = 1;</code>
-     */
-    public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounterOrBuilder getIncrementsOrBuilder() {
-      return increments_;
-    }
+    public interface EntryOrBuilder
+        extends akka.protobuf.MessageOrBuilder {
 
-    // required .akka.cluster.ddata.GCounter decrements = 2;
-    public static final int DECREMENTS_FIELD_NUMBER = 2;
-    private akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter decrements_;
-    /**
-     * <code>required .akka.cluster.ddata.GCounter decrements = 2;</code>
-     */
-    public boolean hasDecrements() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
-    }
-    /**
-     * <code>required .akka.cluster.ddata.GCounter decrements = 2;</code>
-     */
-    public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter getDecrements() {
-      return decrements_;
+      // required .akka.cluster.ddata.UniqueAddress node = 1;
+      /**
+       * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
+       */
+      boolean hasNode();
+      /**
+       * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
+       */
+      akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress getNode();
+      /**
+       * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
+       */
+      akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddressOrBuilder getNodeOrBuilder();
+
+      // required bytes value = 2;
+      /**
+       * <code>required bytes value = 2;</code>
+       */
+      boolean hasValue();
+      /**
+       * <code>required bytes value = 2;</code>
+       */
+      akka.protobuf.ByteString getValue();
     }
     /**
-     * <code>required .akka.cluster.ddata.GCounter decrements = 2;</code>
+     * Protobuf type {@code akka.cluster.ddata.GCounter.Entry}
      */
-    public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounterOrBuilder getDecrementsOrBuilder() {
-      return decrements_;
-    }
+    public static final class Entry extends
+        akka.protobuf.GeneratedMessage
+        implements EntryOrBuilder {
+      // Use Entry.newBuilder() to construct.
+      private Entry(akka.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private Entry(boolean noInit) { this.unknownFields = akka.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private void initFields() {
-      increments_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.getDefaultInstance();
-      decrements_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.getDefaultInstance();
-    }
-    private byte memoizedIsInitialized = -1;
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
+      private static final Entry defaultInstance;
+      public static Entry getDefaultInstance() {
+        return defaultInstance;
+      }
 
-      if (!hasIncrements()) {
-        memoizedIsInitialized = 0;
-        return false;
+      public Entry getDefaultInstanceForType() {
+        return defaultInstance;
       }
-      if (!hasDecrements()) {
-        memoizedIsInitialized = 0;
-        return false;
+
+      private final akka.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final akka.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
       }
-      if (!getIncrements().isInitialized()) {
-        memoizedIsInitialized = 0;
-        return false;
+      private Entry(
+          akka.protobuf.CodedInputStream input,
+          akka.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws akka.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        akka.protobuf.UnknownFieldSet.Builder unknownFields =
+            akka.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 10: {
+                akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.Builder subBuilder = null;
+                if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                  subBuilder = node_.toBuilder();
+                }
+                node_ = input.readMessage(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.PARSER, extensionRegistry);
+                if (subBuilder != null) {
+                  subBuilder.mergeFrom(node_);
+                  node_ = subBuilder.buildPartial();
+                }
+                bitField0_ |= 0x00000001;
+                break;
+              }
+              case 18: {
+                bitField0_ |= 0x00000002;
+                value_ = input.readBytes();
+                break;
+              }
+            }
+          }
+        } catch (akka.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new akka.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
       }
-      if (!getDecrements().isInitialized()) {
-        memoizedIsInitialized = 0;
-        return false;
+      public static final akka.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_GCounter_Entry_descriptor;
       }
-      memoizedIsInitialized = 1;
-      return true;
-    }
 
-    public void writeTo(akka.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      getSerializedSize();
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeMessage(1, increments_);
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeMessage(2, decrements_);
+      protected akka.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_GCounter_Entry_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.Builder.class);
       }
-      getUnknownFields().writeTo(output);
-    }
 
-    private int memoizedSerializedSize = -1;
-    public int getSerializedSize() {
-      int size = memoizedSerializedSize;
-      if (size != -1) return size;
+      public static akka.protobuf.Parser<Entry> PARSER =
+          new akka.protobuf.AbstractParser<Entry>() {
+        public Entry parsePartialFrom(
+            akka.protobuf.CodedInputStream input,
+            akka.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws akka.protobuf.InvalidProtocolBufferException {
+          return new Entry(input, extensionRegistry);
+        }
+      };
 
-      size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        size += akka.protobuf.CodedOutputStream
-          .computeMessageSize(1, increments_);
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += akka.protobuf.CodedOutputStream
-          .computeMessageSize(2, decrements_);
+      @java.lang.Override
+      public akka.protobuf.Parser<Entry> getParserForType() {
+        return PARSER;
       }
-      size += getUnknownFields().getSerializedSize();
-      memoizedSerializedSize = size;
-      return size;
-    }
 
-    private static final long serialVersionUID = 0L;
-    @java.lang.Override
-    protected java.lang.Object writeReplace()
-        throws java.io.ObjectStreamException {
-      return super.writeReplace();
-    }
-
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter parseFrom(
-        akka.protobuf.ByteString data)
-        throws akka.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter parseFrom(
-        akka.protobuf.ByteString data,
-        akka.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws akka.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter parseFrom(byte[] data)
-        throws akka.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter parseFrom(
-        byte[] data,
-        akka.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws akka.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input);
-    }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter parseFrom(
-        java.io.InputStream input,
-        akka.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input, extensionRegistry);
-    }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return PARSER.parseDelimitedFrom(input);
-    }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter parseDelimitedFrom(
-        java.io.InputStream input,
-        akka.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseDelimitedFrom(input, extensionRegistry);
-    }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter parseFrom(
-        akka.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input);
-    }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter parseFrom(
-        akka.protobuf.CodedInputStream input,
-        akka.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input, extensionRegistry);
-    }
-
-    public static Builder newBuilder() { return Builder.create(); }
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter prototype) {
-      return newBuilder().mergeFrom(prototype);
-    }
-    public Builder toBuilder() { return newBuilder(this); }
-
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        akka.protobuf.GeneratedMessage.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-    /**
-     * Protobuf type {@code akka.cluster.ddata.PNCounter}
-     */
-    public static final class Builder extends
-        akka.protobuf.GeneratedMessage.Builder<Builder>
-       implements akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounterOrBuilder {
-      public static final akka.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_PNCounter_descriptor;
+      private int bitField0_;
+      // required .akka.cluster.ddata.UniqueAddress node = 1;
+      public static final int NODE_FIELD_NUMBER = 1;
+      private akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress node_;
+      /**
+       * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
+       */
+      public boolean hasNode() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
-
-      protected akka.protobuf.GeneratedMessage.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_PNCounter_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter.Builder.class);
+      /**
+       * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
+       */
+      public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress getNode() {
+        return node_;
       }
-
-      // Construct using akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
+      /**
+       * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
+       */
+      public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddressOrBuilder getNodeOrBuilder() {
+        return node_;
       }
 
-      private Builder(
-          akka.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
+      // required bytes value = 2;
+      public static final int VALUE_FIELD_NUMBER = 2;
+      private akka.protobuf.ByteString value_;
+      /**
+       * <code>required bytes value = 2;</code>
+       */
+      public boolean hasValue() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
-      private void maybeForceBuilderInitialization() {
-        if (akka.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getIncrementsFieldBuilder();
-          getDecrementsFieldBuilder();
-        }
+      /**
+       * <code>required bytes value = 2;</code>
+       */
+      public akka.protobuf.ByteString getValue() {
+        return value_;
       }
-      private static Builder create() {
-        return new Builder();
+
+      private void initFields() {
+        node_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.getDefaultInstance();
+        value_ = akka.protobuf.ByteString.EMPTY;
       }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized != -1) return isInitialized == 1;
 
-      public Builder clear() {
-        super.clear();
-        if (incrementsBuilder_ == null) {
-          increments_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.getDefaultInstance();
-        } else {
-          incrementsBuilder_.clear();
+        if (!hasNode()) {
+          memoizedIsInitialized = 0;
+          return false;
         }
-        bitField0_ = (bitField0_ & ~0x00000001);
-        if (decrementsBuilder_ == null) {
-          decrements_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.getDefaultInstance();
-        } else {
-          decrementsBuilder_.clear();
+        if (!hasValue()) {
+          memoizedIsInitialized = 0;
+          return false;
         }
-        bitField0_ = (bitField0_ & ~0x00000002);
-        return this;
-      }
-
-      public Builder clone() {
-        return create().mergeFrom(buildPartial());
-      }
-
-      public akka.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_PNCounter_descriptor;
-      }
-
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter getDefaultInstanceForType() {
-        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter.getDefaultInstance();
-      }
-
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter build() {
-        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
+        if (!getNode().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
         }
-        return result;
+        memoizedIsInitialized = 1;
+        return true;
       }
 
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter buildPartial() {
-        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter result = new akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter(this);
-        int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-          to_bitField0_ |= 0x00000001;
-        }
-        if (incrementsBuilder_ == null) {
-          result.increments_ = increments_;
-        } else {
-          result.increments_ = incrementsBuilder_.build();
-        }
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
+      public void writeTo(akka.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeMessage(1, node_);
         }
-        if (decrementsBuilder_ == null) {
-          result.decrements_ = decrements_;
-        } else {
-          result.decrements_ = decrementsBuilder_.build();
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          output.writeBytes(2, value_);
         }
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
+        getUnknownFields().writeTo(output);
       }
 
-      public Builder mergeFrom(akka.protobuf.Message other) {
-        if (other instanceof akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter) {
-          return mergeFrom((akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
 
-      public Builder mergeFrom(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter other) {
-        if (other == akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter.getDefaultInstance()) return this;
-        if (other.hasIncrements()) {
-          mergeIncrements(other.getIncrements());
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += akka.protobuf.CodedOutputStream
+            .computeMessageSize(1, node_);
         }
-        if (other.hasDecrements()) {
-          mergeDecrements(other.getDecrements());
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          size += akka.protobuf.CodedOutputStream
+            .computeBytesSize(2, value_);
         }
-        this.mergeUnknownFields(other.getUnknownFields());
-        return this;
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
       }
 
-      public final boolean isInitialized() {
-        if (!hasIncrements()) {
-          
-          return false;
-        }
-        if (!hasDecrements()) {
-          
-          return false;
-        }
-        if (!getIncrements().isInitialized()) {
-          
-          return false;
-        }
-        if (!getDecrements().isInitialized()) {
-          
-          return false;
-        }
-        return true;
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
       }
 
-      public Builder mergeFrom(
+      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry parseFrom(
+          akka.protobuf.ByteString data)
+          throws akka.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry parseFrom(
+          akka.protobuf.ByteString data,
+          akka.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws akka.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry parseFrom(byte[] data)
+          throws akka.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry parseFrom(
+          byte[] data,
+          akka.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws akka.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry parseFrom(
+          java.io.InputStream input,
+          akka.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry parseDelimitedFrom(
+          java.io.InputStream input,
+          akka.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry parseFrom(
+          akka.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry parseFrom(
           akka.protobuf.CodedInputStream input,
           akka.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (akka.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter) e.getUnfinishedMessage();
-          throw e;
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
-        return this;
+        return PARSER.parseFrom(input, extensionRegistry);
       }
-      private int bitField0_;
 
-      // required .akka.cluster.ddata.GCounter increments = 1;
-      private akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter increments_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.getDefaultInstance();
-      private akka.protobuf.SingleFieldBuilder<
-          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounterOrBuilder> incrementsBuilder_;
-      /**
-       * <code>required .akka.cluster.ddata.GCounter increments = 1;</code>
-       */
-      public boolean hasIncrements() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry prototype) {
+        return newBuilder().mergeFrom(prototype);
       }
-      /**
-       * <code>required .akka.cluster.ddata.GCounter increments = 1;</code>
-       */
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter getIncrements() {
-        if (incrementsBuilder_ == null) {
-          return increments_;
-        } else {
-          return incrementsBuilder_.getMessage();
-        }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          akka.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
       }
       /**
-       * <code>required .akka.cluster.ddata.GCounter increments = 1;</code>
+       * Protobuf type {@code akka.cluster.ddata.GCounter.Entry}
        */
-      public Builder setIncrements(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter value) {
-        if (incrementsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
+      public static final class Builder extends
+          akka.protobuf.GeneratedMessage.Builder<Builder>
+         implements akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.EntryOrBuilder {
+        public static final akka.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_GCounter_Entry_descriptor;
+        }
+
+        protected akka.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_GCounter_Entry_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.Builder.class);
+        }
+
+        // Construct using akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            akka.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (akka.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+            getNodeFieldBuilder();
           }
-          increments_ = value;
-          onChanged();
-        } else {
-          incrementsBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00000001;
-        return this;
-      }
-      /**
-       * <code>required .akka.cluster.ddata.GCounter increments = 1;</code>
-       */
-      public Builder setIncrements(
-          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Builder builderForValue) {
-        if (incrementsBuilder_ == null) {
-          increments_ = builderForValue.build();
-          onChanged();
-        } else {
-          incrementsBuilder_.setMessage(builderForValue.build());
+        private static Builder create() {
+          return new Builder();
         }
-        bitField0_ |= 0x00000001;
-        return this;
-      }
-      /**
-       * <code>required .akka.cluster.ddata.GCounter increments = 1;</code>
-       */
-      public Builder mergeIncrements(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter value) {
-        if (incrementsBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) == 0x00000001) &&
-              increments_ != akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.getDefaultInstance()) {
-            increments_ =
-              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.newBuilder(increments_).mergeFrom(value).buildPartial();
+
+        public Builder clear() {
+          super.clear();
+          if (nodeBuilder_ == null) {
+            node_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.getDefaultInstance();
           } else {
-            increments_ = value;
+            nodeBuilder_.clear();
           }
-          onChanged();
-        } else {
-          incrementsBuilder_.mergeFrom(value);
+          bitField0_ = (bitField0_ & ~0x00000001);
+          value_ = akka.protobuf.ByteString.EMPTY;
+          bitField0_ = (bitField0_ & ~0x00000002);
+          return this;
         }
-        bitField0_ |= 0x00000001;
-        return this;
-      }
-      /**
-       * <code>required .akka.cluster.ddata.GCounter increments = 1;</code>
-       */
-      public Builder clearIncrements() {
-        if (incrementsBuilder_ == null) {
-          increments_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.getDefaultInstance();
-          onChanged();
-        } else {
-          incrementsBuilder_.clear();
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
         }
-        bitField0_ = (bitField0_ & ~0x00000001);
-        return this;
-      }
-      /**
-       * <code>required .akka.cluster.ddata.GCounter increments = 1;</code>
-       */
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Builder getIncrementsBuilder() {
-        bitField0_ |= 0x00000001;
-        onChanged();
-        return getIncrementsFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>required .akka.cluster.ddata.GCounter increments = 1;</code>
-       */
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounterOrBuilder getIncrementsOrBuilder() {
-        if (incrementsBuilder_ != null) {
-          return incrementsBuilder_.getMessageOrBuilder();
-        } else {
-          return increments_;
+
+        public akka.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_GCounter_Entry_descriptor;
         }
-      }
-      /**
-       * <code>required .akka.cluster.ddata.GCounter increments = 1;</code>
-       */
-      private akka.protobuf.SingleFieldBuilder<
-          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounterOrBuilder> 
-          getIncrementsFieldBuilder() {
-        if (incrementsBuilder_ == null) {
-          incrementsBuilder_ = new akka.protobuf.SingleFieldBuilder<
-              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounterOrBuilder>(
-                  increments_,
-                  getParentForChildren(),
-                  isClean());
-          increments_ = null;
+
+        public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry getDefaultInstanceForType() {
+          return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.getDefaultInstance();
         }
-        return incrementsBuilder_;
-      }
 
-      // required .akka.cluster.ddata.GCounter decrements = 2;
-      private akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter decrements_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.getDefaultInstance();
-      private akka.protobuf.SingleFieldBuilder<
-          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounterOrBuilder> decrementsBuilder_;
-      /**
-       * <code>required .akka.cluster.ddata.GCounter decrements = 2;</code>
-       */
-      public boolean hasDecrements() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
-      }
-      /**
-       * <code>required .akka.cluster.ddata.GCounter decrements = 2;</code>
-       */
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter getDecrements() {
-        if (decrementsBuilder_ == null) {
-          return decrements_;
-        } else {
-          return decrementsBuilder_.getMessage();
-        }
-      }
-      /**
-       * <code>required .akka.cluster.ddata.GCounter decrements = 2;</code>
-       */
-      public Builder setDecrements(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter value) {
-        if (decrementsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
+        public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry build() {
+          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
           }
-          decrements_ = value;
-          onChanged();
-        } else {
-          decrementsBuilder_.setMessage(value);
-        }
-        bitField0_ |= 0x00000002;
-        return this;
-      }
-      /**
-       * <code>required .akka.cluster.ddata.GCounter decrements = 2;</code>
-       */
-      public Builder setDecrements(
-          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Builder builderForValue) {
-        if (decrementsBuilder_ == null) {
-          decrements_ = builderForValue.build();
-          onChanged();
-        } else {
-          decrementsBuilder_.setMessage(builderForValue.build());
+          return result;
         }
-        bitField0_ |= 0x00000002;
-        return this;
-      }
-      /**
-       * <code>required .akka.cluster.ddata.GCounter decrements = 2;</code>
-       */
-      public Builder mergeDecrements(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter value) {
-        if (decrementsBuilder_ == null) {
-          if (((bitField0_ & 0x00000002) == 0x00000002) &&
-              decrements_ != akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.getDefaultInstance()) {
-            decrements_ =
-              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.newBuilder(decrements_).mergeFrom(value).buildPartial();
+
+        public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry buildPartial() {
+          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry result = new akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          if (nodeBuilder_ == null) {
+            result.node_ = node_;
           } else {
-            decrements_ = value;
+            result.node_ = nodeBuilder_.build();
           }
-          onChanged();
-        } else {
-          decrementsBuilder_.mergeFrom(value);
-        }
-        bitField0_ |= 0x00000002;
-        return this;
-      }
-      /**
-       * <code>required .akka.cluster.ddata.GCounter decrements = 2;</code>
-       */
-      public Builder clearDecrements() {
-        if (decrementsBuilder_ == null) {
-          decrements_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.getDefaultInstance();
-          onChanged();
-        } else {
-          decrementsBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000002);
-        return this;
-      }
-      /**
-       * <code>required .akka.cluster.ddata.GCounter decrements = 2;</code>
-       */
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Builder getDecrementsBuilder() {
-        bitField0_ |= 0x00000002;
-        onChanged();
-        return getDecrementsFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>required .akka.cluster.ddata.GCounter decrements = 2;</code>
-       */
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounterOrBuilder getDecrementsOrBuilder() {
-        if (decrementsBuilder_ != null) {
-          return decrementsBuilder_.getMessageOrBuilder();
-        } else {
-          return decrements_;
-        }
-      }
-      /**
-       * <code>required .akka.cluster.ddata.GCounter decrements = 2;</code>
-       */
-      private akka.protobuf.SingleFieldBuilder<
-          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounterOrBuilder> 
-          getDecrementsFieldBuilder() {
-        if (decrementsBuilder_ == null) {
-          decrementsBuilder_ = new akka.protobuf.SingleFieldBuilder<
-              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounterOrBuilder>(
-                  decrements_,
-                  getParentForChildren(),
-                  isClean());
-          decrements_ = null;
+          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+            to_bitField0_ |= 0x00000002;
+          }
+          result.value_ = value_;
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
         }
-        return decrementsBuilder_;
-      }
-
-      // @@protoc_insertion_point(builder_scope:akka.cluster.ddata.PNCounter)
-    }
-
-    static {
-      defaultInstance = new PNCounter(true);
-      defaultInstance.initFields();
-    }
-
-    // @@protoc_insertion_point(class_scope:akka.cluster.ddata.PNCounter)
-  }
 
-  public interface VersionVectorOrBuilder
-      extends akka.protobuf.MessageOrBuilder {
-
-    // repeated .akka.cluster.ddata.VersionVector.Entry entries = 1;
-    /**
-     * <code>repeated .akka.cluster.ddata.VersionVector.Entry entries = 1;</code>
-     */
-    java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry> 
-        getEntriesList();
-    /**
-     * <code>repeated .akka.cluster.ddata.VersionVector.Entry entries = 1;</code>
-     */
-    akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry getEntries(int index);
-    /**
-     * <code>repeated .akka.cluster.ddata.VersionVector.Entry entries = 1;</code>
-     */
-    int getEntriesCount();
-    /**
-     * <code>repeated .akka.cluster.ddata.VersionVector.Entry entries = 1;</code>
-     */
-    java.util.List<? extends akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.EntryOrBuilder> 
-        getEntriesOrBuilderList();
-    /**
-     * <code>repeated .akka.cluster.ddata.VersionVector.Entry entries = 1;</code>
-     */
-    akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.EntryOrBuilder getEntriesOrBuilder(
-        int index);
-  }
-  /**
-   * Protobuf type {@code akka.cluster.ddata.VersionVector}
-   */
-  public static final class VersionVector extends
-      akka.protobuf.GeneratedMessage
-      implements VersionVectorOrBuilder {
-    // Use VersionVector.newBuilder() to construct.
-    private VersionVector(akka.protobuf.GeneratedMessage.Builder<?> builder) {
-      super(builder);
-      this.unknownFields = builder.getUnknownFields();
-    }
-    private VersionVector(boolean noInit) { this.unknownFields = akka.protobuf.UnknownFieldSet.getDefaultInstance(); }
+        public Builder mergeFrom(akka.protobuf.Message other) {
+          if (other instanceof akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry) {
+            return mergeFrom((akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
 
-    private static final VersionVector defaultInstance;
-    public static VersionVector getDefaultInstance() {
-      return defaultInstance;
-    }
+        public Builder mergeFrom(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry other) {
+          if (other == akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.getDefaultInstance()) return this;
+          if (other.hasNode()) {
+            mergeNode(other.getNode());
+          }
+          if (other.hasValue()) {
+            setValue(other.getValue());
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
 
-    public VersionVector getDefaultInstanceForType() {
-      return defaultInstance;
-    }
+        public final boolean isInitialized() {
+          if (!hasNode()) {
+            
+            return false;
+          }
+          if (!hasValue()) {
+            
+            return false;
+          }
+          if (!getNode().isInitialized()) {
+            
+            return false;
+          }
+          return true;
+        }
 
-    private final akka.protobuf.UnknownFieldSet unknownFields;
-    @java.lang.Override
-    public final akka.protobuf.UnknownFieldSet
-        getUnknownFields() {
-      return this.unknownFields;
-    }
-    private VersionVector(
-        akka.protobuf.CodedInputStream input,
-        akka.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws akka.protobuf.InvalidProtocolBufferException {
-      initFields();
-      int mutable_bitField0_ = 0;
-      akka.protobuf.UnknownFieldSet.Builder unknownFields =
-          akka.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            default: {
-              if (!parseUnknownField(input, unknownFields,
-                                     extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-            case 10: {
-              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-                entries_ = new java.util.ArrayList<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry>();
-                mutable_bitField0_ |= 0x00000001;
-              }
-              entries_.add(input.readMessage(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry.PARSER, extensionRegistry));
-              break;
+        public Builder mergeFrom(
+            akka.protobuf.CodedInputStream input,
+            akka.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (akka.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
             }
           }
+          return this;
         }
-      } catch (akka.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new akka.protobuf.InvalidProtocolBufferException(
-            e.getMessage()).setUnfinishedMessage(this);
-      } finally {
-        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-          entries_ = java.util.Collections.unmodifiableList(entries_);
-        }
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
-      }
-    }
-    public static final akka.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_VersionVector_descriptor;
-    }
+        private int bitField0_;
 
-    protected akka.protobuf.GeneratedMessage.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_VersionVector_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Builder.class);
-    }
+        // required .akka.cluster.ddata.UniqueAddress node = 1;
+        private akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress node_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.getDefaultInstance();
+        private akka.protobuf.SingleFieldBuilder<
+            akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddressOrBuilder> nodeBuilder_;
+        /**
+         * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
+         */
+        public boolean hasNode() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
+         */
+        public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress getNode() {
+          if (nodeBuilder_ == null) {
+            return node_;
+          } else {
+            return nodeBuilder_.getMessage();
+          }
+        }
+        /**
+         * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
+         */
+        public Builder setNode(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress value) {
+          if (nodeBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            node_ = value;
+            onChanged();
+          } else {
+            nodeBuilder_.setMessage(value);
+          }
+          bitField0_ |= 0x00000001;
+          return this;
+        }
+        /**
+         * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
+         */
+        public Builder setNode(
+            akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.Builder builderForValue) {
+          if (nodeBuilder_ == null) {
+            node_ = builderForValue.build();
+            onChanged();
+          } else {
+            nodeBuilder_.setMessage(builderForValue.build());
+          }
+          bitField0_ |= 0x00000001;
+          return this;
+        }
+        /**
+         * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
+         */
+        public Builder mergeNode(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress value) {
+          if (nodeBuilder_ == null) {
+            if (((bitField0_ & 0x00000001) == 0x00000001) &&
+                node_ != akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.getDefaultInstance()) {
+              node_ =
+                akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.newBuilder(node_).mergeFrom(value).buildPartial();
+            } else {
+              node_ = value;
+            }
+            onChanged();
+          } else {
+            nodeBuilder_.mergeFrom(value);
+          }
+          bitField0_ |= 0x00000001;
+          return this;
+        }
+        /**
+         * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
+         */
+        public Builder clearNode() {
+          if (nodeBuilder_ == null) {
+            node_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.getDefaultInstance();
+            onChanged();
+          } else {
+            nodeBuilder_.clear();
+          }
+          bitField0_ = (bitField0_ & ~0x00000001);
+          return this;
+        }
+        /**
+         * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
+         */
+        public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.Builder getNodeBuilder() {
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return getNodeFieldBuilder().getBuilder();
+        }
+        /**
+         * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
+         */
+        public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddressOrBuilder getNodeOrBuilder() {
+          if (nodeBuilder_ != null) {
+            return nodeBuilder_.getMessageOrBuilder();
+          } else {
+            return node_;
+          }
+        }
+        /**
+         * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
+         */
+        private akka.protobuf.SingleFieldBuilder<
+            akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddressOrBuilder> 
+            getNodeFieldBuilder() {
+          if (nodeBuilder_ == null) {
+            nodeBuilder_ = new akka.protobuf.SingleFieldBuilder<
+                akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddressOrBuilder>(
+                    node_,
+                    getParentForChildren(),
+                    isClean());
+            node_ = null;
+          }
+          return nodeBuilder_;
+        }
 
-    public static akka.protobuf.Parser<VersionVector> PARSER =
-        new akka.protobuf.AbstractParser<VersionVector>() {
-      public VersionVector parsePartialFrom(
-          akka.protobuf.CodedInputStream input,
-          akka.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws akka.protobuf.InvalidProtocolBufferException {
-        return new VersionVector(input, extensionRegistry);
-      }
-    };
+        // required bytes value = 2;
+        private akka.protobuf.ByteString value_ = akka.protobuf.ByteString.EMPTY;
+        /**
+         * <code>required bytes value = 2;</code>
+         */
+        public boolean hasValue() {
+          return ((bitField0_ & 0x00000002) == 0x00000002);
+        }
+        /**
+         * <code>required bytes value = 2;</code>
+         */
+        public akka.protobuf.ByteString getValue() {
+          return value_;
+        }
+        /**
+         * <code>required bytes value = 2;</code>
+         */
+        public Builder setValue(akka.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          value_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>required bytes value = 2;</code>
+         */
+        public Builder clearValue() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          value_ = getDefaultInstance().getValue();
+          onChanged();
+          return this;
+        }
 
-    @java.lang.Override
-    public akka.protobuf.Parser<VersionVector> getParserForType() {
-      return PARSER;
-    }
+        // @@protoc_insertion_point(builder_scope:akka.cluster.ddata.GCounter.Entry)
+      }
 
-    public interface EntryOrBuilder
-        extends akka.protobuf.MessageOrBuilder {
+      static {
+        defaultInstance = new Entry(true);
+        defaultInstance.initFields();
+      }
 
-      // required .akka.cluster.ddata.UniqueAddress node = 1;
-      /**
-       * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
-       */
-      boolean hasNode();
-      /**
-       * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
-       */
-      akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress getNode();
-      /**
-       * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
-       */
-      akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddressOrBuilder getNodeOrBuilder();
+      // @@protoc_insertion_point(class_scope:akka.cluster.ddata.GCounter.Entry)
+    }
 
-      // required int64 version = 2;
-      /**
-       * <code>required int64 version = 2;</code>
-       */
-      boolean hasVersion();
-      /**
-       * <code>required int64 version = 2;</code>
-       */
-      long getVersion();
+    // repeated .akka.cluster.ddata.GCounter.Entry entries = 1;
+    public static final int ENTRIES_FIELD_NUMBER = 1;
+    private java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry> entries_;
+    /**
+     * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+     */
+    public java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry> getEntriesList() {
+      return entries_;
     }
     /**
-     * Protobuf type {@code akka.cluster.ddata.VersionVector.Entry}
+     * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
      */
-    public static final class Entry extends
-        akka.protobuf.GeneratedMessage
-        implements EntryOrBuilder {
-      // Use Entry.newBuilder() to construct.
-      private Entry(akka.protobuf.GeneratedMessage.Builder<?> builder) {
-        super(builder);
-        this.unknownFields = builder.getUnknownFields();
-      }
-      private Entry(boolean noInit) { this.unknownFields = akka.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    public java.util.List<? extends akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.EntryOrBuilder> 
+        getEntriesOrBuilderList() {
+      return entries_;
+    }
+    /**
+     * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+     */
+    public int getEntriesCount() {
+      return entries_.size();
+    }
+    /**
+     * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+     */
+    public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry getEntries(int index) {
+      return entries_.get(index);
+    }
+    /**
+     * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+     */
+    public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.EntryOrBuilder getEntriesOrBuilder(
+        int index) {
+      return entries_.get(index);
+    }
 
-      private static final Entry defaultInstance;
-      public static Entry getDefaultInstance() {
-        return defaultInstance;
+    private void initFields() {
+      entries_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      for (int i = 0; i < getEntriesCount(); i++) {
+        if (!getEntries(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
       }
+      memoizedIsInitialized = 1;
+      return true;
+    }
 
-      public Entry getDefaultInstanceForType() {
-        return defaultInstance;
+    public void writeTo(akka.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < entries_.size(); i++) {
+        output.writeMessage(1, entries_.get(i));
       }
+      getUnknownFields().writeTo(output);
+    }
 
-      private final akka.protobuf.UnknownFieldSet unknownFields;
-      @java.lang.Override
-      public final akka.protobuf.UnknownFieldSet
-          getUnknownFields() {
-        return this.unknownFields;
-      }
-      private Entry(
-          akka.protobuf.CodedInputStream input,
-          akka.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws akka.protobuf.InvalidProtocolBufferException {
-        initFields();
-        int mutable_bitField0_ = 0;
-        akka.protobuf.UnknownFieldSet.Builder unknownFields =
-            akka.protobuf.UnknownFieldSet.newBuilder();
-        try {
-          boolean done = false;
-          while (!done) {
-            int tag = input.readTag();
-            switch (tag) {
-              case 0:
-                done = true;
-                break;
-              default: {
-                if (!parseUnknownField(input, unknownFields,
-                                       extensionRegistry, tag)) {
-                  done = true;
-                }
-                break;
-              }
-              case 10: {
-                akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.Builder subBuilder = null;
-                if (((bitField0_ & 0x00000001) == 0x00000001)) {
-                  subBuilder = node_.toBuilder();
-                }
-                node_ = input.readMessage(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.PARSER, extensionRegistry);
-                if (subBuilder != null) {
-                  subBuilder.mergeFrom(node_);
-                  node_ = subBuilder.buildPartial();
-                }
-                bitField0_ |= 0x00000001;
-                break;
-              }
-              case 16: {
-                bitField0_ |= 0x00000002;
-                version_ = input.readInt64();
-                break;
-              }
-            }
-          }
-        } catch (akka.protobuf.InvalidProtocolBufferException e) {
-          throw e.setUnfinishedMessage(this);
-        } catch (java.io.IOException e) {
-          throw new akka.protobuf.InvalidProtocolBufferException(
-              e.getMessage()).setUnfinishedMessage(this);
-        } finally {
-          this.unknownFields = unknownFields.build();
-          makeExtensionsImmutable();
-        }
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < entries_.size(); i++) {
+        size += akka.protobuf.CodedOutputStream
+          .computeMessageSize(1, entries_.get(i));
       }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter parseFrom(
+        akka.protobuf.ByteString data)
+        throws akka.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter parseFrom(
+        akka.protobuf.ByteString data,
+        akka.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws akka.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter parseFrom(byte[] data)
+        throws akka.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter parseFrom(
+        byte[] data,
+        akka.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws akka.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter parseFrom(
+        java.io.InputStream input,
+        akka.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter parseDelimitedFrom(
+        java.io.InputStream input,
+        akka.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter parseFrom(
+        akka.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter parseFrom(
+        akka.protobuf.CodedInputStream input,
+        akka.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        akka.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code akka.cluster.ddata.GCounter}
+     */
+    public static final class Builder extends
+        akka.protobuf.GeneratedMessage.Builder<Builder>
+       implements akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounterOrBuilder {
       public static final akka.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_VersionVector_Entry_descriptor;
+        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_GCounter_descriptor;
       }
 
       protected akka.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_VersionVector_Entry_fieldAccessorTable
+        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_GCounter_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry.Builder.class);
+                akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Builder.class);
       }
 
-      public static akka.protobuf.Parser<Entry> PARSER =
-          new akka.protobuf.AbstractParser<Entry>() {
-        public Entry parsePartialFrom(
-            akka.protobuf.CodedInputStream input,
-            akka.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws akka.protobuf.InvalidProtocolBufferException {
-          return new Entry(input, extensionRegistry);
-        }
-      };
-
-      @java.lang.Override
-      public akka.protobuf.Parser<Entry> getParserForType() {
-        return PARSER;
+      // Construct using akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
       }
 
-      private int bitField0_;
-      // required .akka.cluster.ddata.UniqueAddress node = 1;
-      public static final int NODE_FIELD_NUMBER = 1;
-      private akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress node_;
-      /**
-       * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
-       */
-      public boolean hasNode() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+      private Builder(
+          akka.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
       }
-      /**
-       * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
-       */
-      public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress getNode() {
-        return node_;
+      private void maybeForceBuilderInitialization() {
+        if (akka.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getEntriesFieldBuilder();
+        }
       }
-      /**
-       * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
-       */
-      public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddressOrBuilder getNodeOrBuilder() {
-        return node_;
+      private static Builder create() {
+        return new Builder();
       }
 
-      // required int64 version = 2;
-      public static final int VERSION_FIELD_NUMBER = 2;
-      private long version_;
-      /**
-       * <code>required int64 version = 2;</code>
-       */
-      public boolean hasVersion() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+      public Builder clear() {
+        super.clear();
+        if (entriesBuilder_ == null) {
+          entries_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          entriesBuilder_.clear();
+        }
+        return this;
       }
-      /**
-       * <code>required int64 version = 2;</code>
-       */
-      public long getVersion() {
-        return version_;
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
       }
 
-      private void initFields() {
-        node_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.getDefaultInstance();
-        version_ = 0L;
+      public akka.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_GCounter_descriptor;
       }
-      private byte memoizedIsInitialized = -1;
-      public final boolean isInitialized() {
-        byte isInitialized = memoizedIsInitialized;
-        if (isInitialized != -1) return isInitialized == 1;
 
-        if (!hasNode()) {
-          memoizedIsInitialized = 0;
-          return false;
-        }
-        if (!hasVersion()) {
-          memoizedIsInitialized = 0;
-          return false;
-        }
-        if (!getNode().isInitialized()) {
-          memoizedIsInitialized = 0;
-          return false;
-        }
-        memoizedIsInitialized = 1;
-        return true;
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter getDefaultInstanceForType() {
+        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.getDefaultInstance();
       }
 
-      public void writeTo(akka.protobuf.CodedOutputStream output)
-                          throws java.io.IOException {
-        getSerializedSize();
-        if (((bitField0_ & 0x00000001) == 0x00000001)) {
-          output.writeMessage(1, node_);
-        }
-        if (((bitField0_ & 0x00000002) == 0x00000002)) {
-          output.writeInt64(2, version_);
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter build() {
+        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
         }
-        getUnknownFields().writeTo(output);
+        return result;
       }
 
-      private int memoizedSerializedSize = -1;
-      public int getSerializedSize() {
-        int size = memoizedSerializedSize;
-        if (size != -1) return size;
-
-        size = 0;
-        if (((bitField0_ & 0x00000001) == 0x00000001)) {
-          size += akka.protobuf.CodedOutputStream
-            .computeMessageSize(1, node_);
-        }
-        if (((bitField0_ & 0x00000002) == 0x00000002)) {
-          size += akka.protobuf.CodedOutputStream
-            .computeInt64Size(2, version_);
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter buildPartial() {
+        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter result = new akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter(this);
+        int from_bitField0_ = bitField0_;
+        if (entriesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            entries_ = java.util.Collections.unmodifiableList(entries_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.entries_ = entries_;
+        } else {
+          result.entries_ = entriesBuilder_.build();
         }
-        size += getUnknownFields().getSerializedSize();
-        memoizedSerializedSize = size;
-        return size;
+        onBuilt();
+        return result;
       }
 
-      private static final long serialVersionUID = 0L;
-      @java.lang.Override
-      protected java.lang.Object writeReplace()
-          throws java.io.ObjectStreamException {
-        return super.writeReplace();
+      public Builder mergeFrom(akka.protobuf.Message other) {
+        if (other instanceof akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter) {
+          return mergeFrom((akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
       }
 
-      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry parseFrom(
-          akka.protobuf.ByteString data)
-          throws akka.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data);
-      }
-      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry parseFrom(
-          akka.protobuf.ByteString data,
-          akka.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws akka.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data, extensionRegistry);
-      }
-      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry parseFrom(byte[] data)
-          throws akka.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data);
-      }
-      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry parseFrom(
-          byte[] data,
-          akka.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws akka.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data, extensionRegistry);
-      }
-      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry parseFrom(java.io.InputStream input)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input);
-      }
-      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry parseFrom(
-          java.io.InputStream input,
-          akka.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input, extensionRegistry);
-      }
-      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry parseDelimitedFrom(java.io.InputStream input)
-          throws java.io.IOException {
-        return PARSER.parseDelimitedFrom(input);
-      }
-      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry parseDelimitedFrom(
-          java.io.InputStream input,
-          akka.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      public Builder mergeFrom(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter other) {
+        if (other == akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.getDefaultInstance()) return this;
+        if (entriesBuilder_ == null) {
+          if (!other.entries_.isEmpty()) {
+            if (entries_.isEmpty()) {
+              entries_ = other.entries_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureEntriesIsMutable();
+              entries_.addAll(other.entries_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.entries_.isEmpty()) {
+            if (entriesBuilder_.isEmpty()) {
+              entriesBuilder_.dispose();
+              entriesBuilder_ = null;
+              entries_ = other.entries_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              entriesBuilder_ = 
+                akka.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getEntriesFieldBuilder() : null;
+            } else {
+              entriesBuilder_.addAllMessages(other.entries_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
       }
-      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry parseFrom(
-          akka.protobuf.CodedInputStream input)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input);
+
+      public final boolean isInitialized() {
+        for (int i = 0; i < getEntriesCount(); i++) {
+          if (!getEntries(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
       }
-      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry parseFrom(
+
+      public Builder mergeFrom(
           akka.protobuf.CodedInputStream input,
           akka.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        return PARSER.parseFrom(input, extensionRegistry);
+        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (akka.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
       }
+      private int bitField0_;
 
-      public static Builder newBuilder() { return Builder.create(); }
-      public Builder newBuilderForType() { return newBuilder(); }
-      public static Builder newBuilder(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry prototype) {
-        return newBuilder().mergeFrom(prototype);
+      // repeated .akka.cluster.ddata.GCounter.Entry entries = 1;
+      private java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry> entries_ =
+        java.util.Collections.emptyList();
+      private void ensureEntriesIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          entries_ = new java.util.ArrayList<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry>(entries_);
+          bitField0_ |= 0x00000001;
+         }
       }
-      public Builder toBuilder() { return newBuilder(this); }
 
-      @java.lang.Override
-      protected Builder newBuilderForType(
-          akka.protobuf.GeneratedMessage.BuilderParent parent) {
-        Builder builder = new Builder(parent);
-        return builder;
-      }
+      private akka.protobuf.RepeatedFieldBuilder<
+          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.EntryOrBuilder> entriesBuilder_;
+
       /**
-       * Protobuf type {@code akka.cluster.ddata.VersionVector.Entry}
+       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
        */
-      public static final class Builder extends
-          akka.protobuf.GeneratedMessage.Builder<Builder>
-         implements akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.EntryOrBuilder {
-        public static final akka.protobuf.Descriptors.Descriptor
-            getDescriptor() {
-          return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_VersionVector_Entry_descriptor;
-        }
-
-        protected akka.protobuf.GeneratedMessage.FieldAccessorTable
-            internalGetFieldAccessorTable() {
-          return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_VersionVector_Entry_fieldAccessorTable
-              .ensureFieldAccessorsInitialized(
-                  akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry.Builder.class);
+      public java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry> getEntriesList() {
+        if (entriesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(entries_);
+        } else {
+          return entriesBuilder_.getMessageList();
         }
-
-        // Construct using akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry.newBuilder()
-        private Builder() {
-          maybeForceBuilderInitialization();
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       */
+      public int getEntriesCount() {
+        if (entriesBuilder_ == null) {
+          return entries_.size();
+        } else {
+          return entriesBuilder_.getCount();
         }
-
-        private Builder(
-            akka.protobuf.GeneratedMessage.BuilderParent parent) {
-          super(parent);
-          maybeForceBuilderInitialization();
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       */
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry getEntries(int index) {
+        if (entriesBuilder_ == null) {
+          return entries_.get(index);
+        } else {
+          return entriesBuilder_.getMessage(index);
         }
-        private void maybeForceBuilderInitialization() {
-          if (akka.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-            getNodeFieldBuilder();
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       */
+      public Builder setEntries(
+          int index, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
+          ensureEntriesIsMutable();
+          entries_.set(index, value);
+          onChanged();
+        } else {
+          entriesBuilder_.setMessage(index, value);
         }
-        private static Builder create() {
-          return new Builder();
+        return this;
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       */
+      public Builder setEntries(
+          int index, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          entriesBuilder_.setMessage(index, builderForValue.build());
         }
-
-        public Builder clear() {
-          super.clear();
-          if (nodeBuilder_ == null) {
-            node_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.getDefaultInstance();
-          } else {
-            nodeBuilder_.clear();
+        return this;
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       */
+      public Builder addEntries(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
-          bitField0_ = (bitField0_ & ~0x00000001);
-          version_ = 0L;
-          bitField0_ = (bitField0_ & ~0x00000002);
-          return this;
-        }
-
-        public Builder clone() {
-          return create().mergeFrom(buildPartial());
-        }
-
-        public akka.protobuf.Descriptors.Descriptor
-            getDescriptorForType() {
-          return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_VersionVector_Entry_descriptor;
-        }
-
-        public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry getDefaultInstanceForType() {
-          return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry.getDefaultInstance();
+          ensureEntriesIsMutable();
+          entries_.add(value);
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(value);
         }
-
-        public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry build() {
-          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry result = buildPartial();
-          if (!result.isInitialized()) {
-            throw newUninitializedMessageException(result);
-          }
-          return result;
-        }
-
-        public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry buildPartial() {
-          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry result = new akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry(this);
-          int from_bitField0_ = bitField0_;
-          int to_bitField0_ = 0;
-          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-            to_bitField0_ |= 0x00000001;
-          }
-          if (nodeBuilder_ == null) {
-            result.node_ = node_;
-          } else {
-            result.node_ = nodeBuilder_.build();
-          }
-          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-            to_bitField0_ |= 0x00000002;
-          }
-          result.version_ = version_;
-          result.bitField0_ = to_bitField0_;
-          onBuilt();
-          return result;
-        }
-
-        public Builder mergeFrom(akka.protobuf.Message other) {
-          if (other instanceof akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry) {
-            return mergeFrom((akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry)other);
-          } else {
-            super.mergeFrom(other);
-            return this;
-          }
-        }
-
-        public Builder mergeFrom(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry other) {
-          if (other == akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry.getDefaultInstance()) return this;
-          if (other.hasNode()) {
-            mergeNode(other.getNode());
-          }
-          if (other.hasVersion()) {
-            setVersion(other.getVersion());
-          }
-          this.mergeUnknownFields(other.getUnknownFields());
-          return this;
-        }
-
-        public final boolean isInitialized() {
-          if (!hasNode()) {
-            
-            return false;
-          }
-          if (!hasVersion()) {
-            
-            return false;
-          }
-          if (!getNode().isInitialized()) {
-            
-            return false;
-          }
-          return true;
-        }
-
-        public Builder mergeFrom(
-            akka.protobuf.CodedInputStream input,
-            akka.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws java.io.IOException {
-          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry parsedMessage = null;
-          try {
-            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-          } catch (akka.protobuf.InvalidProtocolBufferException e) {
-            parsedMessage = (akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry) e.getUnfinishedMessage();
-            throw e;
-          } finally {
-            if (parsedMessage != null) {
-              mergeFrom(parsedMessage);
-            }
-          }
-          return this;
-        }
-        private int bitField0_;
-
-        // required .akka.cluster.ddata.UniqueAddress node = 1;
-        private akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress node_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.getDefaultInstance();
-        private akka.protobuf.SingleFieldBuilder<
-            akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddressOrBuilder> nodeBuilder_;
-        /**
-         * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
-         */
-        public boolean hasNode() {
-          return ((bitField0_ & 0x00000001) == 0x00000001);
-        }
-        /**
-         * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
-         */
-        public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress getNode() {
-          if (nodeBuilder_ == null) {
-            return node_;
-          } else {
-            return nodeBuilder_.getMessage();
+        return this;
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       */
+      public Builder addEntries(
+          int index, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
+          ensureEntriesIsMutable();
+          entries_.add(index, value);
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(index, value);
         }
-        /**
-         * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
-         */
-        public Builder setNode(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress value) {
-          if (nodeBuilder_ == null) {
-            if (value == null) {
-              throw new NullPointerException();
-            }
-            node_ = value;
-            onChanged();
-          } else {
-            nodeBuilder_.setMessage(value);
-          }
-          bitField0_ |= 0x00000001;
-          return this;
+        return this;
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       */
+      public Builder addEntries(
+          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.add(builderForValue.build());
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(builderForValue.build());
         }
-        /**
-         * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
-         */
-        public Builder setNode(
-            akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.Builder builderForValue) {
-          if (nodeBuilder_ == null) {
-            node_ = builderForValue.build();
-            onChanged();
-          } else {
-            nodeBuilder_.setMessage(builderForValue.build());
-          }
-          bitField0_ |= 0x00000001;
-          return this;
+        return this;
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       */
+      public Builder addEntries(
+          int index, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(index, builderForValue.build());
         }
-        /**
-         * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
-         */
-        public Builder mergeNode(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress value) {
-          if (nodeBuilder_ == null) {
-            if (((bitField0_ & 0x00000001) == 0x00000001) &&
-                node_ != akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.getDefaultInstance()) {
-              node_ =
-                akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.newBuilder(node_).mergeFrom(value).buildPartial();
-            } else {
-              node_ = value;
-            }
-            onChanged();
-          } else {
-            nodeBuilder_.mergeFrom(value);
-          }
-          bitField0_ |= 0x00000001;
-          return this;
+        return this;
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       */
+      public Builder addAllEntries(
+          java.lang.Iterable<? extends akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry> values) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          super.addAll(values, entries_);
+          onChanged();
+        } else {
+          entriesBuilder_.addAllMessages(values);
         }
-        /**
-         * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
-         */
-        public Builder clearNode() {
-          if (nodeBuilder_ == null) {
-            node_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.getDefaultInstance();
-            onChanged();
-          } else {
-            nodeBuilder_.clear();
-          }
+        return this;
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       */
+      public Builder clearEntries() {
+        if (entriesBuilder_ == null) {
+          entries_ = java.util.Collections.emptyList();
           bitField0_ = (bitField0_ & ~0x00000001);
-          return this;
+          onChanged();
+        } else {
+          entriesBuilder_.clear();
         }
-        /**
-         * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
-         */
-        public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.Builder getNodeBuilder() {
-          bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       */
+      public Builder removeEntries(int index) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.remove(index);
           onChanged();
-          return getNodeFieldBuilder().getBuilder();
+        } else {
+          entriesBuilder_.remove(index);
         }
-        /**
-         * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
-         */
-        public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddressOrBuilder getNodeOrBuilder() {
-          if (nodeBuilder_ != null) {
-            return nodeBuilder_.getMessageOrBuilder();
-          } else {
-            return node_;
-          }
+        return this;
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       */
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.Builder getEntriesBuilder(
+          int index) {
+        return getEntriesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       */
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.EntryOrBuilder getEntriesOrBuilder(
+          int index) {
+        if (entriesBuilder_ == null) {
+          return entries_.get(index);  } else {
+          return entriesBuilder_.getMessageOrBuilder(index);
         }
-        /**
-         * <code>required .akka.cluster.ddata.UniqueAddress node = 1;</code>
-         */
-        private akka.protobuf.SingleFieldBuilder<
-            akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddressOrBuilder> 
-            getNodeFieldBuilder() {
-          if (nodeBuilder_ == null) {
-            nodeBuilder_ = new akka.protobuf.SingleFieldBuilder<
-                akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddress.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.UniqueAddressOrBuilder>(
-                    node_,
-                    getParentForChildren(),
-                    isClean());
-            node_ = null;
-          }
-          return nodeBuilder_;
-        }
-
-        // required int64 version = 2;
-        private long version_ ;
-        /**
-         * <code>required int64 version = 2;</code>
-         */
-        public boolean hasVersion() {
-          return ((bitField0_ & 0x00000002) == 0x00000002);
-        }
-        /**
-         * <code>required int64 version = 2;</code>
-         */
-        public long getVersion() {
-          return version_;
-        }
-        /**
-         * <code>required int64 version = 2;</code>
-         */
-        public Builder setVersion(long value) {
-          bitField0_ |= 0x00000002;
-          version_ = value;
-          onChanged();
-          return this;
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       */
+      public java.util.List<? extends akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.EntryOrBuilder> 
+           getEntriesOrBuilderList() {
+        if (entriesBuilder_ != null) {
+          return entriesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(entries_);
         }
-        /**
-         * <code>required int64 version = 2;</code>
-         */
-        public Builder clearVersion() {
-          bitField0_ = (bitField0_ & ~0x00000002);
-          version_ = 0L;
-          onChanged();
-          return this;
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       */
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.Builder addEntriesBuilder() {
+        return getEntriesFieldBuilder().addBuilder(
+            akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       */
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.Builder addEntriesBuilder(
+          int index) {
+        return getEntriesFieldBuilder().addBuilder(
+            index, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.GCounter.Entry entries = 1;</code>
+       */
+      public java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.Builder> 
+           getEntriesBuilderList() {
+        return getEntriesFieldBuilder().getBuilderList();
+      }
+      private akka.protobuf.RepeatedFieldBuilder<
+          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.EntryOrBuilder> 
+          getEntriesFieldBuilder() {
+        if (entriesBuilder_ == null) {
+          entriesBuilder_ = new akka.protobuf.RepeatedFieldBuilder<
+              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Entry.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.EntryOrBuilder>(
+                  entries_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          entries_ = null;
         }
-
-        // @@protoc_insertion_point(builder_scope:akka.cluster.ddata.VersionVector.Entry)
+        return entriesBuilder_;
       }
 
-      static {
-        defaultInstance = new Entry(true);
-        defaultInstance.initFields();
-      }
+      // @@protoc_insertion_point(builder_scope:akka.cluster.ddata.GCounter)
+    }
 
-      // @@protoc_insertion_point(class_scope:akka.cluster.ddata.VersionVector.Entry)
+    static {
+      defaultInstance = new GCounter(true);
+      defaultInstance.initFields();
     }
 
-    // repeated .akka.cluster.ddata.VersionVector.Entry entries = 1;
-    public static final int ENTRIES_FIELD_NUMBER = 1;
-    private java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry> entries_;
+    // @@protoc_insertion_point(class_scope:akka.cluster.ddata.GCounter)
+  }
+
+  public interface PNCounterOrBuilder
+      extends akka.protobuf.MessageOrBuilder {
+
+    // required .akka.cluster.ddata.GCounter increments = 1;
     /**
-     * <code>repeated .akka.cluster.ddata.VersionVector.Entry entries = 1;</code>
+     * <code>required .akka.cluster.ddata.GCounter increments = 1;</code>
      */
-    public java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry> getEntriesList() {
-      return entries_;
-    }
+    boolean hasIncrements();
     /**
-     * <code>repeated .akka.cluster.ddata.VersionVector.Entry entries = 1;</code>
+     * <code>required .akka.cluster.ddata.GCounter increments = 1;</code>
      */
-    public java.util.List<? extends akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.EntryOrBuilder> 
-        getEntriesOrBuilderList() {
-      return entries_;
-    }
+    akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter getIncrements();
     /**
-     * <code>repeated .akka.cluster.ddata.VersionVector.Entry entries = 1;</code>
+     * <code>required .akka.cluster.ddata.GCounter increments = 1;</code>
      */
-    public int getEntriesCount() {
-      return entries_.size();
-    }
+    akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounterOrBuilder getIncrementsOrBuilder();
+
+    // required .akka.cluster.ddata.GCounter decrements = 2;
     /**
-     * <code>repeated .akka.cluster.ddata.VersionVector.Entry entries = 1;</code>
+     * <code>required .akka.cluster.ddata.GCounter decrements = 2;</code>
      */
-    public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry getEntries(int index) {
-      return entries_.get(index);
-    }
+    boolean hasDecrements();
     /**
-     * <code>repeated .akka.cluster.ddata.VersionVector.Entry entries = 1;</code>
+     * <code>required .akka.cluster.ddata.GCounter decrements = 2;</code>
      */
-    public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.EntryOrBuilder getEntriesOrBuilder(
-        int index) {
-      return entries_.get(index);
+    akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter getDecrements();
+    /**
+     * <code>required .akka.cluster.ddata.GCounter decrements = 2;</code>
+     */
+    akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounterOrBuilder getDecrementsOrBuilder();
+  }
+  /**
+   * Protobuf type {@code akka.cluster.ddata.PNCounter}
+   */
+  public static final class PNCounter extends
+      akka.protobuf.GeneratedMessage
+      implements PNCounterOrBuilder {
+    // Use PNCounter.newBuilder() to construct.
+    private PNCounter(akka.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
     }
+    private PNCounter(boolean noInit) { this.unknownFields = akka.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private void initFields() {
-      entries_ = java.util.Collections.emptyList();
+    private static final PNCounter defaultInstance;
+    public static PNCounter getDefaultInstance() {
+      return defaultInstance;
     }
-    private byte memoizedIsInitialized = -1;
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
 
-      for (int i = 0; i < getEntriesCount(); i++) {
-        if (!getEntries(i).isInitialized()) {
-          memoizedIsInitialized = 0;
-          return false;
-        }
-      }
-      memoizedIsInitialized = 1;
-      return true;
+    public PNCounter getDefaultInstanceForType() {
+      return defaultInstance;
     }
 
-    public void writeTo(akka.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      getSerializedSize();
-      for (int i = 0; i < entries_.size(); i++) {
-        output.writeMessage(1, entries_.get(i));
+    private final akka.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final akka.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private PNCounter(
+        akka.protobuf.CodedInputStream input,
+        akka.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws akka.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      akka.protobuf.UnknownFieldSet.Builder unknownFields =
+          akka.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = increments_.toBuilder();
+              }
+              increments_ = input.readMessage(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(increments_);
+                increments_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000001;
+              break;
+            }
+            case 18: {
+              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) == 0x00000002)) {
+                subBuilder = decrements_.toBuilder();
+              }
+              decrements_ = input.readMessage(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(decrements_);
+                decrements_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000002;
+              break;
+            }
+          }
+        }
+      } catch (akka.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new akka.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
       }
-      getUnknownFields().writeTo(output);
+    }
+    public static final akka.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_PNCounter_descriptor;
     }
 
-    private int memoizedSerializedSize = -1;
-    public int getSerializedSize() {
-      int size = memoizedSerializedSize;
-      if (size != -1) return size;
+    protected akka.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_PNCounter_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter.Builder.class);
+    }
 
-      size = 0;
-      for (int i = 0; i < entries_.size(); i++) {
-        size += akka.protobuf.CodedOutputStream
-          .computeMessageSize(1, entries_.get(i));
+    public static akka.protobuf.Parser<PNCounter> PARSER =
+        new akka.protobuf.AbstractParser<PNCounter>() {
+      public PNCounter parsePartialFrom(
+          akka.protobuf.CodedInputStream input,
+          akka.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws akka.protobuf.InvalidProtocolBufferException {
+        return new PNCounter(input, extensionRegistry);
       }
-      size += getUnknownFields().getSerializedSize();
-      memoizedSerializedSize = size;
-      return size;
-    }
+    };
 
-    private static final long serialVersionUID = 0L;
     @java.lang.Override
-    protected java.lang.Object writeReplace()
-        throws java.io.ObjectStreamException {
+    public akka.protobuf.Parser<PNCounter> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required .akka.cluster.ddata.GCounter increments = 1;
+    public static final int INCREMENTS_FIELD_NUMBER = 1;
+    private akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter increments_;
+    /**
+     * <code>required .akka.cluster.ddata.GCounter increments = 1;</code>
+     */
+    public boolean hasIncrements() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required .akka.cluster.ddata.GCounter increments = 1;</code>
+     */
+    public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter getIncrements() {
+      return increments_;
+    }
+    /**
+     * <code>required .akka.cluster.ddata.GCounter increments = 1;</code>
+     */
+    public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounterOrBuilder getIncrementsOrBuilder() {
+      return increments_;
+    }
+
+    // required .akka.cluster.ddata.GCounter decrements = 2;
+    public static final int DECREMENTS_FIELD_NUMBER = 2;
+    private akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter decrements_;
+    /**
+     * <code>required .akka.cluster.ddata.GCounter decrements = 2;</code>
+     */
+    public boolean hasDecrements() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required .akka.cluster.ddata.GCounter decrements = 2;</code>
+     */
+    public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter getDecrements() {
+      return decrements_;
+    }
+    /**
+     * <code>required .akka.cluster.ddata.GCounter decrements = 2;</code>
+     */
+    public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounterOrBuilder getDecrementsOrBuilder() {
+      return decrements_;
+    }
+
+    private void initFields() {
+      increments_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.getDefaultInstance();
+      decrements_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.getDefaultInstance();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasIncrements()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasDecrements()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getIncrements().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getDecrements().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(akka.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(1, increments_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeMessage(2, decrements_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += akka.protobuf.CodedOutputStream
+          .computeMessageSize(1, increments_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += akka.protobuf.CodedOutputStream
+          .computeMessageSize(2, decrements_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
       return super.writeReplace();
     }
 
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector parseFrom(
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter parseFrom(
         akka.protobuf.ByteString data)
         throws akka.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector parseFrom(
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter parseFrom(
         akka.protobuf.ByteString data,
         akka.protobuf.ExtensionRegistryLite extensionRegistry)
         throws akka.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector parseFrom(byte[] data)
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter parseFrom(byte[] data)
         throws akka.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector parseFrom(
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter parseFrom(
         byte[] data,
         akka.protobuf.ExtensionRegistryLite extensionRegistry)
         throws akka.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector parseFrom(java.io.InputStream input)
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector parseFrom(
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter parseFrom(
         java.io.InputStream input,
         akka.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector parseDelimitedFrom(java.io.InputStream input)
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector parseDelimitedFrom(
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter parseDelimitedFrom(
         java.io.InputStream input,
         akka.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector parseFrom(
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter parseFrom(
         akka.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector parseFrom(
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter parseFrom(
         akka.protobuf.CodedInputStream input,
         akka.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -7140,7 +7240,7 @@ public final class ReplicatedDataMessages {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector prototype) {
+    public static Builder newBuilder(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -7152,24 +7252,24 @@ public final class ReplicatedDataMessages {
       return builder;
     }
     /**
-     * Protobuf type {@code akka.cluster.ddata.VersionVector}
+     * Protobuf type {@code akka.cluster.ddata.PNCounter}
      */
     public static final class Builder extends
         akka.protobuf.GeneratedMessage.Builder<Builder>
-       implements akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVectorOrBuilder {
+       implements akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounterOrBuilder {
       public static final akka.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_VersionVector_descriptor;
+        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_PNCounter_descriptor;
       }
 
       protected akka.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_VersionVector_fieldAccessorTable
+        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_PNCounter_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Builder.class);
+                akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter.Builder.class);
       }
 
-      // Construct using akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.newBuilder()
+      // Construct using akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -7181,7 +7281,8 @@ public final class ReplicatedDataMessages {
       }
       private void maybeForceBuilderInitialization() {
         if (akka.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getEntriesFieldBuilder();
+          getIncrementsFieldBuilder();
+          getDecrementsFieldBuilder();
         }
       }
       private static Builder create() {
@@ -7190,12 +7291,18 @@ public final class ReplicatedDataMessages {
 
       public Builder clear() {
         super.clear();
-        if (entriesBuilder_ == null) {
-          entries_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
+        if (incrementsBuilder_ == null) {
+          increments_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.getDefaultInstance();
         } else {
-          entriesBuilder_.clear();
+          incrementsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (decrementsBuilder_ == null) {
+          decrements_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.getDefaultInstance();
+        } else {
+          decrementsBuilder_.clear();
         }
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
@@ -7205,84 +7312,83 @@ public final class ReplicatedDataMessages {
 
       public akka.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_VersionVector_descriptor;
+        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_PNCounter_descriptor;
       }
 
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector getDefaultInstanceForType() {
-        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.getDefaultInstance();
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter getDefaultInstanceForType() {
+        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter.getDefaultInstance();
       }
 
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector build() {
-        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector result = buildPartial();
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter build() {
+        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector buildPartial() {
-        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector result = new akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector(this);
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter buildPartial() {
+        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter result = new akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter(this);
         int from_bitField0_ = bitField0_;
-        if (entriesBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) == 0x00000001)) {
-            entries_ = java.util.Collections.unmodifiableList(entries_);
-            bitField0_ = (bitField0_ & ~0x00000001);
-          }
-          result.entries_ = entries_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        if (incrementsBuilder_ == null) {
+          result.increments_ = increments_;
         } else {
-          result.entries_ = entriesBuilder_.build();
+          result.increments_ = incrementsBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        if (decrementsBuilder_ == null) {
+          result.decrements_ = decrements_;
+        } else {
+          result.decrements_ = decrementsBuilder_.build();
         }
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(akka.protobuf.Message other) {
-        if (other instanceof akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector) {
-          return mergeFrom((akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector)other);
+        if (other instanceof akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter) {
+          return mergeFrom((akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector other) {
-        if (other == akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.getDefaultInstance()) return this;
-        if (entriesBuilder_ == null) {
-          if (!other.entries_.isEmpty()) {
-            if (entries_.isEmpty()) {
-              entries_ = other.entries_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-            } else {
-              ensureEntriesIsMutable();
-              entries_.addAll(other.entries_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.entries_.isEmpty()) {
-            if (entriesBuilder_.isEmpty()) {
-              entriesBuilder_.dispose();
-              entriesBuilder_ = null;
-              entries_ = other.entries_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-              entriesBuilder_ = 
-                akka.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
-                   getEntriesFieldBuilder() : null;
-            } else {
-              entriesBuilder_.addAllMessages(other.entries_);
-            }
-          }
+      public Builder mergeFrom(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter other) {
+        if (other == akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter.getDefaultInstance()) return this;
+        if (other.hasIncrements()) {
+          mergeIncrements(other.getIncrements());
+        }
+        if (other.hasDecrements()) {
+          mergeDecrements(other.getDecrements());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        for (int i = 0; i < getEntriesCount(); i++) {
-          if (!getEntries(i).isInitialized()) {
-            
-            return false;
-          }
+        if (!hasIncrements()) {
+          
+          return false;
+        }
+        if (!hasDecrements()) {
+          
+          return false;
+        }
+        if (!getIncrements().isInitialized()) {
+          
+          return false;
+        }
+        if (!getDecrements().isInitialized()) {
+          
+          return false;
         }
         return true;
       }
@@ -7291,11 +7397,11 @@ public final class ReplicatedDataMessages {
           akka.protobuf.CodedInputStream input,
           akka.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector parsedMessage = null;
+        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (akka.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector) e.getUnfinishedMessage();
+          parsedMessage = (akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.PNCounter) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -7306,255 +7412,249 @@ public final class ReplicatedDataMessages {
       }
       private int bitField0_;
 
-      // repeated .akka.cluster.ddata.VersionVector.Entry entries = 1;
-      private java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry> entries_ =
-        java.util.Collections.emptyList();
-      private void ensureEntriesIsMutable() {
-        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
-          entries_ = new java.util.ArrayList<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry>(entries_);
-          bitField0_ |= 0x00000001;
-         }
-      }
-
-      private akka.protobuf.RepeatedFieldBuilder<
-          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.EntryOrBuilder> entriesBuilder_;
-
+      // required .akka.cluster.ddata.GCounter increments = 1;
+      private akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter increments_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.getDefaultInstance();
+      private akka.protobuf.SingleFieldBuilder<
+          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounterOrBuilder> incrementsBuilder_;
       /**
-       * <code>repeated .akka.cluster.ddata.VersionVector.Entry entries = 1;</code>
+       * <code>required .akka.cluster.ddata.GCounter increments = 1;</code>
        */
-      public java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry> getEntriesList() {
-        if (entriesBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(entries_);
-        } else {
-          return entriesBuilder_.getMessageList();
-        }
+      public boolean hasIncrements() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>repeated .akka.cluster.ddata.VersionVector.Entry entries = 1;</code>
+       * <code>required .akka.cluster.ddata.GCounter increments = 1;</code>
        */
-      public int getEntriesCount() {
-        if (entriesBuilder_ == null) {
-          return entries_.size();
-        } else {
-          return entriesBuilder_.getCount();
-        }
-      }
-      /**
-       * <code>repeated .akka.cluster.ddata.VersionVector.Entry entries = 1;</code>
-       */
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry getEntries(int index) {
-        if (entriesBuilder_ == null) {
-          return entries_.get(index);
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter getIncrements() {
+        if (incrementsBuilder_ == null) {
+          return increments_;
         } else {
-          return entriesBuilder_.getMessage(index);
+          return incrementsBuilder_.getMessage();
         }
       }
       /**
-       * <code>repeated .akka.cluster.ddata.VersionVector.Entry entries = 1;</code>
+       * <code>required .akka.cluster.ddata.GCounter increments = 1;</code>
        */
-      public Builder setEntries(
-          int index, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry value) {
-        if (entriesBuilder_ == null) {
+      public Builder setIncrements(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter value) {
+        if (incrementsBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          ensureEntriesIsMutable();
-          entries_.set(index, value);
+          increments_ = value;
           onChanged();
         } else {
-          entriesBuilder_.setMessage(index, value);
+          incrementsBuilder_.setMessage(value);
         }
+        bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>repeated .akka.cluster.ddata.VersionVector.Entry entries = 1;</code>
+       * <code>required .akka.cluster.ddata.GCounter increments = 1;</code>
        */
-      public Builder setEntries(
-          int index, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry.Builder builderForValue) {
-        if (entriesBuilder_ == null) {
-          ensureEntriesIsMutable();
-          entries_.set(index, builderForValue.build());
+      public Builder setIncrements(
+          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Builder builderForValue) {
+        if (incrementsBuilder_ == null) {
+          increments_ = builderForValue.build();
           onChanged();
         } else {
-          entriesBuilder_.setMessage(index, builderForValue.build());
+          incrementsBuilder_.setMessage(builderForValue.build());
         }
+        bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>repeated .akka.cluster.ddata.VersionVector.Entry entries = 1;</code>
+       * <code>required .akka.cluster.ddata.GCounter increments = 1;</code>
        */
-      public Builder addEntries(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry value) {
-        if (entriesBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
+      public Builder mergeIncrements(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter value) {
+        if (incrementsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              increments_ != akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.getDefaultInstance()) {
+            increments_ =
+              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.newBuilder(increments_).mergeFrom(value).buildPartial();
+          } else {
+            increments_ = value;
           }
-          ensureEntriesIsMutable();
-          entries_.add(value);
           onChanged();
         } else {
-          entriesBuilder_.addMessage(value);
+          incrementsBuilder_.mergeFrom(value);
         }
+        bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>repeated .akka.cluster.ddata.VersionVector.Entry entries = 1;</code>
+       * <code>required .akka.cluster.ddata.GCounter increments = 1;</code>
        */
-      public Builder addEntries(
-          int index, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry value) {
-        if (entriesBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureEntriesIsMutable();
-          entries_.add(index, value);
+      public Builder clearIncrements() {
+        if (incrementsBuilder_ == null) {
+          increments_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.getDefaultInstance();
           onChanged();
         } else {
-          entriesBuilder_.addMessage(index, value);
+          incrementsBuilder_.clear();
         }
+        bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
       /**
-       * <code>repeated .akka.cluster.ddata.VersionVector.Entry entries = 1;</code>
+       * <code>required .akka.cluster.ddata.GCounter increments = 1;</code>
        */
-      public Builder addEntries(
-          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry.Builder builderForValue) {
-        if (entriesBuilder_ == null) {
-          ensureEntriesIsMutable();
-          entries_.add(builderForValue.build());
-          onChanged();
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Builder getIncrementsBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getIncrementsFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .akka.cluster.ddata.GCounter increments = 1;</code>
+       */
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounterOrBuilder getIncrementsOrBuilder() {
+        if (incrementsBuilder_ != null) {
+          return incrementsBuilder_.getMessageOrBuilder();
         } else {
-          entriesBuilder_.addMessage(builderForValue.build());
+          return increments_;
         }
-        return this;
       }
       /**
-       * <code>repeated .akka.cluster.ddata.VersionVector.Entry entries = 1;</code>
+       * <code>required .akka.cluster.ddata.GCounter increments = 1;</code>
        */
-      public Builder addEntries(
-          int index, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry.Builder builderForValue) {
-        if (entriesBuilder_ == null) {
-          ensureEntriesIsMutable();
-          entries_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          entriesBuilder_.addMessage(index, builderForValue.build());
+      private akka.protobuf.SingleFieldBuilder<
+          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounterOrBuilder> 
+          getIncrementsFieldBuilder() {
+        if (incrementsBuilder_ == null) {
+          incrementsBuilder_ = new akka.protobuf.SingleFieldBuilder<
+              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounterOrBuilder>(
+                  increments_,
+                  getParentForChildren(),
+                  isClean());
+          increments_ = null;
         }
-        return this;
+        return incrementsBuilder_;
+      }
+
+      // required .akka.cluster.ddata.GCounter decrements = 2;
+      private akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter decrements_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.getDefaultInstance();
+      private akka.protobuf.SingleFieldBuilder<
+          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounterOrBuilder> decrementsBuilder_;
+      /**
+       * <code>required .akka.cluster.ddata.GCounter decrements = 2;</code>
+       */
+      public boolean hasDecrements() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>repeated .akka.cluster.ddata.VersionVector.Entry entries = 1;</code>
+       * <code>required .akka.cluster.ddata.GCounter decrements = 2;</code>
        */
-      public Builder addAllEntries(
-          java.lang.Iterable<? extends akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry> values) {
-        if (entriesBuilder_ == null) {
-          ensureEntriesIsMutable();
-          super.addAll(values, entries_);
-          onChanged();
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter getDecrements() {
+        if (decrementsBuilder_ == null) {
+          return decrements_;
         } else {
-          entriesBuilder_.addAllMessages(values);
+          return decrementsBuilder_.getMessage();
         }
-        return this;
       }
       /**
-       * <code>repeated .akka.cluster.ddata.VersionVector.Entry entries = 1;</code>
+       * <code>required .akka.cluster.ddata.GCounter decrements = 2;</code>
        */
-      public Builder clearEntries() {
-        if (entriesBuilder_ == null) {
-          entries_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
+      public Builder setDecrements(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter value) {
+        if (decrementsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          decrements_ = value;
           onChanged();
         } else {
-          entriesBuilder_.clear();
+          decrementsBuilder_.setMessage(value);
         }
+        bitField0_ |= 0x00000002;
         return this;
       }
       /**
-       * <code>repeated .akka.cluster.ddata.VersionVector.Entry entries = 1;</code>
+       * <code>required .akka.cluster.ddata.GCounter decrements = 2;</code>
        */
-      public Builder removeEntries(int index) {
-        if (entriesBuilder_ == null) {
-          ensureEntriesIsMutable();
-          entries_.remove(index);
+      public Builder setDecrements(
+          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Builder builderForValue) {
+        if (decrementsBuilder_ == null) {
+          decrements_ = builderForValue.build();
           onChanged();
         } else {
-          entriesBuilder_.remove(index);
+          decrementsBuilder_.setMessage(builderForValue.build());
         }
+        bitField0_ |= 0x00000002;
         return this;
       }
       /**
-       * <code>repeated .akka.cluster.ddata.VersionVector.Entry entries = 1;</code>
-       */
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry.Builder getEntriesBuilder(
-          int index) {
-        return getEntriesFieldBuilder().getBuilder(index);
-      }
-      /**
-       * <code>repeated .akka.cluster.ddata.VersionVector.Entry entries = 1;</code>
+       * <code>required .akka.cluster.ddata.GCounter decrements = 2;</code>
        */
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.EntryOrBuilder getEntriesOrBuilder(
-          int index) {
-        if (entriesBuilder_ == null) {
-          return entries_.get(index);  } else {
-          return entriesBuilder_.getMessageOrBuilder(index);
+      public Builder mergeDecrements(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter value) {
+        if (decrementsBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002) &&
+              decrements_ != akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.getDefaultInstance()) {
+            decrements_ =
+              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.newBuilder(decrements_).mergeFrom(value).buildPartial();
+          } else {
+            decrements_ = value;
+          }
+          onChanged();
+        } else {
+          decrementsBuilder_.mergeFrom(value);
         }
+        bitField0_ |= 0x00000002;
+        return this;
       }
       /**
-       * <code>repeated .akka.cluster.ddata.VersionVector.Entry entries = 1;</code>
+       * <code>required .akka.cluster.ddata.GCounter decrements = 2;</code>
        */
-      public java.util.List<? extends akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.EntryOrBuilder> 
-           getEntriesOrBuilderList() {
-        if (entriesBuilder_ != null) {
-          return entriesBuilder_.getMessageOrBuilderList();
+      public Builder clearDecrements() {
+        if (decrementsBuilder_ == null) {
+          decrements_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.getDefaultInstance();
+          onChanged();
         } else {
-          return java.util.Collections.unmodifiableList(entries_);
+          decrementsBuilder_.clear();
         }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
       }
       /**
-       * <code>repeated .akka.cluster.ddata.VersionVector.Entry entries = 1;</code>
+       * <code>required .akka.cluster.ddata.GCounter decrements = 2;</code>
        */
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry.Builder addEntriesBuilder() {
-        return getEntriesFieldBuilder().addBuilder(
-            akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry.getDefaultInstance());
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Builder getDecrementsBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getDecrementsFieldBuilder().getBuilder();
       }
       /**
-       * <code>repeated .akka.cluster.ddata.VersionVector.Entry entries = 1;</code>
+       * <code>required .akka.cluster.ddata.GCounter decrements = 2;</code>
        */
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry.Builder addEntriesBuilder(
-          int index) {
-        return getEntriesFieldBuilder().addBuilder(
-            index, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry.getDefaultInstance());
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounterOrBuilder getDecrementsOrBuilder() {
+        if (decrementsBuilder_ != null) {
+          return decrementsBuilder_.getMessageOrBuilder();
+        } else {
+          return decrements_;
+        }
       }
       /**
-       * <code>repeated .akka.cluster.ddata.VersionVector.Entry entries = 1;</code>
+       * <code>required .akka.cluster.ddata.GCounter decrements = 2;</code>
        */
-      public java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry.Builder> 
-           getEntriesBuilderList() {
-        return getEntriesFieldBuilder().getBuilderList();
-      }
-      private akka.protobuf.RepeatedFieldBuilder<
-          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.EntryOrBuilder> 
-          getEntriesFieldBuilder() {
-        if (entriesBuilder_ == null) {
-          entriesBuilder_ = new akka.protobuf.RepeatedFieldBuilder<
-              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.Entry.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.VersionVector.EntryOrBuilder>(
-                  entries_,
-                  ((bitField0_ & 0x00000001) == 0x00000001),
+      private akka.protobuf.SingleFieldBuilder<
+          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounterOrBuilder> 
+          getDecrementsFieldBuilder() {
+        if (decrementsBuilder_ == null) {
+          decrementsBuilder_ = new akka.protobuf.SingleFieldBuilder<
+              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounter.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.GCounterOrBuilder>(
+                  decrements_,
                   getParentForChildren(),
                   isClean());
-          entries_ = null;
+          decrements_ = null;
         }
-        return entriesBuilder_;
+        return decrementsBuilder_;
       }
 
-      // @@protoc_insertion_point(builder_scope:akka.cluster.ddata.VersionVector)
+      // @@protoc_insertion_point(builder_scope:akka.cluster.ddata.PNCounter)
     }
 
     static {
-      defaultInstance = new VersionVector(true);
+      defaultInstance = new PNCounter(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:akka.cluster.ddata.VersionVector)
+    // @@protoc_insertion_point(class_scope:akka.cluster.ddata.PNCounter)
   }
 
   public interface ORMapOrBuilder
@@ -8046,738 +8146,1650 @@ public final class ReplicatedDataMessages {
           memoizedIsInitialized = 0;
           return false;
         }
-        if (!getValue().isInitialized()) {
-          memoizedIsInitialized = 0;
-          return false;
+        if (!getValue().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+        if (hasOtherKey()) {
+          if (!getOtherKey().isInitialized()) {
+            memoizedIsInitialized = 0;
+            return false;
+          }
+        }
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(akka.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeBytes(1, getStringKeyBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          output.writeMessage(2, value_);
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          output.writeSInt32(3, intKey_);
+        }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          output.writeSInt64(4, longKey_);
+        }
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          output.writeMessage(5, otherKey_);
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += akka.protobuf.CodedOutputStream
+            .computeBytesSize(1, getStringKeyBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          size += akka.protobuf.CodedOutputStream
+            .computeMessageSize(2, value_);
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          size += akka.protobuf.CodedOutputStream
+            .computeSInt32Size(3, intKey_);
+        }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          size += akka.protobuf.CodedOutputStream
+            .computeSInt64Size(4, longKey_);
+        }
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          size += akka.protobuf.CodedOutputStream
+            .computeMessageSize(5, otherKey_);
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry parseFrom(
+          akka.protobuf.ByteString data)
+          throws akka.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry parseFrom(
+          akka.protobuf.ByteString data,
+          akka.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws akka.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry parseFrom(byte[] data)
+          throws akka.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry parseFrom(
+          byte[] data,
+          akka.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws akka.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry parseFrom(
+          java.io.InputStream input,
+          akka.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry parseDelimitedFrom(
+          java.io.InputStream input,
+          akka.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry parseFrom(
+          akka.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry parseFrom(
+          akka.protobuf.CodedInputStream input,
+          akka.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          akka.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code akka.cluster.ddata.ORMap.Entry}
+       */
+      public static final class Builder extends
+          akka.protobuf.GeneratedMessage.Builder<Builder>
+         implements akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.EntryOrBuilder {
+        public static final akka.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_ORMap_Entry_descriptor;
+        }
+
+        protected akka.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_ORMap_Entry_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry.Builder.class);
+        }
+
+        // Construct using akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            akka.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (akka.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+            getValueFieldBuilder();
+            getOtherKeyFieldBuilder();
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          stringKey_ = "";
+          bitField0_ = (bitField0_ & ~0x00000001);
+          if (valueBuilder_ == null) {
+            value_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance();
+          } else {
+            valueBuilder_.clear();
+          }
+          bitField0_ = (bitField0_ & ~0x00000002);
+          intKey_ = 0;
+          bitField0_ = (bitField0_ & ~0x00000004);
+          longKey_ = 0L;
+          bitField0_ = (bitField0_ & ~0x00000008);
+          if (otherKeyBuilder_ == null) {
+            otherKey_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance();
+          } else {
+            otherKeyBuilder_.clear();
+          }
+          bitField0_ = (bitField0_ & ~0x00000010);
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public akka.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_ORMap_Entry_descriptor;
+        }
+
+        public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry getDefaultInstanceForType() {
+          return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry.getDefaultInstance();
+        }
+
+        public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry build() {
+          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry buildPartial() {
+          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry result = new akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.stringKey_ = stringKey_;
+          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+            to_bitField0_ |= 0x00000002;
+          }
+          if (valueBuilder_ == null) {
+            result.value_ = value_;
+          } else {
+            result.value_ = valueBuilder_.build();
+          }
+          if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+            to_bitField0_ |= 0x00000004;
+          }
+          result.intKey_ = intKey_;
+          if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+            to_bitField0_ |= 0x00000008;
+          }
+          result.longKey_ = longKey_;
+          if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+            to_bitField0_ |= 0x00000010;
+          }
+          if (otherKeyBuilder_ == null) {
+            result.otherKey_ = otherKey_;
+          } else {
+            result.otherKey_ = otherKeyBuilder_.build();
+          }
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(akka.protobuf.Message other) {
+          if (other instanceof akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry) {
+            return mergeFrom((akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry other) {
+          if (other == akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry.getDefaultInstance()) return this;
+          if (other.hasStringKey()) {
+            bitField0_ |= 0x00000001;
+            stringKey_ = other.stringKey_;
+            onChanged();
+          }
+          if (other.hasValue()) {
+            mergeValue(other.getValue());
+          }
+          if (other.hasIntKey()) {
+            setIntKey(other.getIntKey());
+          }
+          if (other.hasLongKey()) {
+            setLongKey(other.getLongKey());
+          }
+          if (other.hasOtherKey()) {
+            mergeOtherKey(other.getOtherKey());
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          if (!hasValue()) {
+            
+            return false;
+          }
+          if (!getValue().isInitialized()) {
+            
+            return false;
+          }
+          if (hasOtherKey()) {
+            if (!getOtherKey().isInitialized()) {
+              
+              return false;
+            }
+          }
+          return true;
+        }
+
+        public Builder mergeFrom(
+            akka.protobuf.CodedInputStream input,
+            akka.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (akka.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        // optional string stringKey = 1;
+        private java.lang.Object stringKey_ = "";
+        /**
+         * <code>optional string stringKey = 1;</code>
+         */
+        public boolean hasStringKey() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>optional string stringKey = 1;</code>
+         */
+        public java.lang.String getStringKey() {
+          java.lang.Object ref = stringKey_;
+          if (!(ref instanceof java.lang.String)) {
+            java.lang.String s = ((akka.protobuf.ByteString) ref)
+                .toStringUtf8();
+            stringKey_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string stringKey = 1;</code>
+         */
+        public akka.protobuf.ByteString
+            getStringKeyBytes() {
+          java.lang.Object ref = stringKey_;
+          if (ref instanceof String) {
+            akka.protobuf.ByteString b = 
+                akka.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            stringKey_ = b;
+            return b;
+          } else {
+            return (akka.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string stringKey = 1;</code>
+         */
+        public Builder setStringKey(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          stringKey_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string stringKey = 1;</code>
+         */
+        public Builder clearStringKey() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          stringKey_ = getDefaultInstance().getStringKey();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string stringKey = 1;</code>
+         */
+        public Builder setStringKeyBytes(
+            akka.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          stringKey_ = value;
+          onChanged();
+          return this;
+        }
+
+        // required .akka.cluster.ddata.OtherMessage value = 2;
+        private akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage value_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance();
+        private akka.protobuf.SingleFieldBuilder<
+            akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder> valueBuilder_;
+        /**
+         * <code>required .akka.cluster.ddata.OtherMessage value = 2;</code>
+         */
+        public boolean hasValue() {
+          return ((bitField0_ & 0x00000002) == 0x00000002);
+        }
+        /**
+         * <code>required .akka.cluster.ddata.OtherMessage value = 2;</code>
+         */
+        public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage getValue() {
+          if (valueBuilder_ == null) {
+            return value_;
+          } else {
+            return valueBuilder_.getMessage();
+          }
+        }
+        /**
+         * <code>required .akka.cluster.ddata.OtherMessage value = 2;</code>
+         */
+        public Builder setValue(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage value) {
+          if (valueBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            value_ = value;
+            onChanged();
+          } else {
+            valueBuilder_.setMessage(value);
+          }
+          bitField0_ |= 0x00000002;
+          return this;
+        }
+        /**
+         * <code>required .akka.cluster.ddata.OtherMessage value = 2;</code>
+         */
+        public Builder setValue(
+            akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder builderForValue) {
+          if (valueBuilder_ == null) {
+            value_ = builderForValue.build();
+            onChanged();
+          } else {
+            valueBuilder_.setMessage(builderForValue.build());
+          }
+          bitField0_ |= 0x00000002;
+          return this;
+        }
+        /**
+         * <code>required .akka.cluster.ddata.OtherMessage value = 2;</code>
+         */
+        public Builder mergeValue(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage value) {
+          if (valueBuilder_ == null) {
+            if (((bitField0_ & 0x00000002) == 0x00000002) &&
+                value_ != akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance()) {
+              value_ =
+                akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.newBuilder(value_).mergeFrom(value).buildPartial();
+            } else {
+              value_ = value;
+            }
+            onChanged();
+          } else {
+            valueBuilder_.mergeFrom(value);
+          }
+          bitField0_ |= 0x00000002;
+          return this;
         }
-        if (hasOtherKey()) {
-          if (!getOtherKey().isInitialized()) {
-            memoizedIsInitialized = 0;
-            return false;
+        /**
+         * <code>required .akka.cluster.ddata.OtherMessage value = 2;</code>
+         */
+        public Builder clearValue() {
+          if (valueBuilder_ == null) {
+            value_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance();
+            onChanged();
+          } else {
+            valueBuilder_.clear();
           }
+          bitField0_ = (bitField0_ & ~0x00000002);
+          return this;
         }
-        memoizedIsInitialized = 1;
-        return true;
-      }
-
-      public void writeTo(akka.protobuf.CodedOutputStream output)
-                          throws java.io.IOException {
-        getSerializedSize();
-        if (((bitField0_ & 0x00000001) == 0x00000001)) {
-          output.writeBytes(1, getStringKeyBytes());
+        /**
+         * <code>required .akka.cluster.ddata.OtherMessage value = 2;</code>
+         */
+        public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder getValueBuilder() {
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return getValueFieldBuilder().getBuilder();
         }
-        if (((bitField0_ & 0x00000002) == 0x00000002)) {
-          output.writeMessage(2, value_);
+        /**
+         * <code>required .akka.cluster.ddata.OtherMessage value = 2;</code>
+         */
+        public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder getValueOrBuilder() {
+          if (valueBuilder_ != null) {
+            return valueBuilder_.getMessageOrBuilder();
+          } else {
+            return value_;
+          }
         }
-        if (((bitField0_ & 0x00000004) == 0x00000004)) {
-          output.writeSInt32(3, intKey_);
+        /**
+         * <code>required .akka.cluster.ddata.OtherMessage value = 2;</code>
+         */
+        private akka.protobuf.SingleFieldBuilder<
+            akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder> 
+            getValueFieldBuilder() {
+          if (valueBuilder_ == null) {
+            valueBuilder_ = new akka.protobuf.SingleFieldBuilder<
+                akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder>(
+                    value_,
+                    getParentForChildren(),
+                    isClean());
+            value_ = null;
+          }
+          return valueBuilder_;
         }
-        if (((bitField0_ & 0x00000008) == 0x00000008)) {
-          output.writeSInt64(4, longKey_);
+
+        // optional sint32 intKey = 3;
+        private int intKey_ ;
+        /**
+         * <code>optional sint32 intKey = 3;</code>
+         */
+        public boolean hasIntKey() {
+          return ((bitField0_ & 0x00000004) == 0x00000004);
         }
-        if (((bitField0_ & 0x00000010) == 0x00000010)) {
-          output.writeMessage(5, otherKey_);
+        /**
+         * <code>optional sint32 intKey = 3;</code>
+         */
+        public int getIntKey() {
+          return intKey_;
+        }
+        /**
+         * <code>optional sint32 intKey = 3;</code>
+         */
+        public Builder setIntKey(int value) {
+          bitField0_ |= 0x00000004;
+          intKey_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional sint32 intKey = 3;</code>
+         */
+        public Builder clearIntKey() {
+          bitField0_ = (bitField0_ & ~0x00000004);
+          intKey_ = 0;
+          onChanged();
+          return this;
         }
-        getUnknownFields().writeTo(output);
-      }
 
-      private int memoizedSerializedSize = -1;
-      public int getSerializedSize() {
-        int size = memoizedSerializedSize;
-        if (size != -1) return size;
+        // optional sint64 longKey = 4;
+        private long longKey_ ;
+        /**
+         * <code>optional sint64 longKey = 4;</code>
+         */
+        public boolean hasLongKey() {
+          return ((bitField0_ & 0x00000008) == 0x00000008);
+        }
+        /**
+         * <code>optional sint64 longKey = 4;</code>
+         */
+        public long getLongKey() {
+          return longKey_;
+        }
+        /**
+         * <code>optional sint64 longKey = 4;</code>
+         */
+        public Builder setLongKey(long value) {
+          bitField0_ |= 0x00000008;
+          longKey_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional sint64 longKey = 4;</code>
+         */
+        public Builder clearLongKey() {
+          bitField0_ = (bitField0_ & ~0x00000008);
+          longKey_ = 0L;
+          onChanged();
+          return this;
+        }
 
-        size = 0;
-        if (((bitField0_ & 0x00000001) == 0x00000001)) {
-          size += akka.protobuf.CodedOutputStream
-            .computeBytesSize(1, getStringKeyBytes());
+        // optional .akka.cluster.ddata.OtherMessage otherKey = 5;
+        private akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage otherKey_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance();
+        private akka.protobuf.SingleFieldBuilder<
+            akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder> otherKeyBuilder_;
+        /**
+         * <code>optional .akka.cluster.ddata.OtherMessage otherKey = 5;</code>
+         */
+        public boolean hasOtherKey() {
+          return ((bitField0_ & 0x00000010) == 0x00000010);
         }
-        if (((bitField0_ & 0x00000002) == 0x00000002)) {
-          size += akka.protobuf.CodedOutputStream
-            .computeMessageSize(2, value_);
+        /**
+         * <code>optional .akka.cluster.ddata.OtherMessage otherKey = 5;</code>
+         */
+        public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage getOtherKey() {
+          if (otherKeyBuilder_ == null) {
+            return otherKey_;
+          } else {
+            return otherKeyBuilder_.getMessage();
+          }
         }
-        if (((bitField0_ & 0x00000004) == 0x00000004)) {
-          size += akka.protobuf.CodedOutputStream
-            .computeSInt32Size(3, intKey_);
+        /**
+         * <code>optional .akka.cluster.ddata.OtherMessage otherKey = 5;</code>
+         */
+        public Builder setOtherKey(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage value) {
+          if (otherKeyBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            otherKey_ = value;
+            onChanged();
+          } else {
+            otherKeyBuilder_.setMessage(value);
+          }
+          bitField0_ |= 0x00000010;
+          return this;
+        }
+        /**
+         * <code>optional .akka.cluster.ddata.OtherMessage otherKey = 5;</code>
+         */
+        public Builder setOtherKey(
+            akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder builderForValue) {
+          if (otherKeyBuilder_ == null) {
+            otherKey_ = builderForValue.build();
+            onChanged();
+          } else {
+            otherKeyBuilder_.setMessage(builderForValue.build());
+          }
+          bitField0_ |= 0x00000010;
+          return this;
+        }
+        /**
+         * <code>optional .akka.cluster.ddata.OtherMessage otherKey = 5;</code>
+         */
+        public Builder mergeOtherKey(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage value) {
+          if (otherKeyBuilder_ == null) {
+            if (((bitField0_ & 0x00000010) == 0x00000010) &&
+                otherKey_ != akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance()) {
+              otherKey_ =
+                akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.newBuilder(otherKey_).mergeFrom(value).buildPartial();
+            } else {
+              otherKey_ = value;
+            }
+            onChanged();
+          } else {
+            otherKeyBuilder_.mergeFrom(value);
+          }
+          bitField0_ |= 0x00000010;
+          return this;
+        }
+        /**
+         * <code>optional .akka.cluster.ddata.OtherMessage otherKey = 5;</code>
+         */
+        public Builder clearOtherKey() {
+          if (otherKeyBuilder_ == null) {
+            otherKey_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance();
+            onChanged();
+          } else {
+            otherKeyBuilder_.clear();
+          }
+          bitField0_ = (bitField0_ & ~0x00000010);
+          return this;
+        }
+        /**
+         * <code>optional .akka.cluster.ddata.OtherMessage otherKey = 5;</code>
+         */
+        public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder getOtherKeyBuilder() {
+          bitField0_ |= 0x00000010;
+          onChanged();
+          return getOtherKeyFieldBuilder().getBuilder();
         }
-        if (((bitField0_ & 0x00000008) == 0x00000008)) {
-          size += akka.protobuf.CodedOutputStream
-            .computeSInt64Size(4, longKey_);
+        /**
+         * <code>optional .akka.cluster.ddata.OtherMessage otherKey = 5;</code>
+         */
+        public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder getOtherKeyOrBuilder() {
+          if (otherKeyBuilder_ != null) {
+            return otherKeyBuilder_.getMessageOrBuilder();
+          } else {
+            return otherKey_;
+          }
         }
-        if (((bitField0_ & 0x00000010) == 0x00000010)) {
-          size += akka.protobuf.CodedOutputStream
-            .computeMessageSize(5, otherKey_);
+        /**
+         * <code>optional .akka.cluster.ddata.OtherMessage otherKey = 5;</code>
+         */
+        private akka.protobuf.SingleFieldBuilder<
+            akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder> 
+            getOtherKeyFieldBuilder() {
+          if (otherKeyBuilder_ == null) {
+            otherKeyBuilder_ = new akka.protobuf.SingleFieldBuilder<
+                akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder>(
+                    otherKey_,
+                    getParentForChildren(),
+                    isClean());
+            otherKey_ = null;
+          }
+          return otherKeyBuilder_;
         }
-        size += getUnknownFields().getSerializedSize();
-        memoizedSerializedSize = size;
-        return size;
-      }
 
-      private static final long serialVersionUID = 0L;
-      @java.lang.Override
-      protected java.lang.Object writeReplace()
-          throws java.io.ObjectStreamException {
-        return super.writeReplace();
+        // @@protoc_insertion_point(builder_scope:akka.cluster.ddata.ORMap.Entry)
       }
 
-      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry parseFrom(
-          akka.protobuf.ByteString data)
-          throws akka.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data);
+      static {
+        defaultInstance = new Entry(true);
+        defaultInstance.initFields();
       }
-      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry parseFrom(
-          akka.protobuf.ByteString data,
-          akka.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws akka.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data, extensionRegistry);
+
+      // @@protoc_insertion_point(class_scope:akka.cluster.ddata.ORMap.Entry)
+    }
+
+    private int bitField0_;
+    // required .akka.cluster.ddata.ORSet keys = 1;
+    public static final int KEYS_FIELD_NUMBER = 1;
+    private akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet keys_;
+    /**
+     * <code>required .akka.cluster.ddata.ORSet keys = 1;</code>
+     */
+    public boolean hasKeys() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required .akka.cluster.ddata.ORSet keys = 1;</code>
+     */
+    public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet getKeys() {
+      return keys_;
+    }
+    /**
+     * <code>required .akka.cluster.ddata.ORSet keys = 1;</code>
+     */
+    public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetOrBuilder getKeysOrBuilder() {
+      return keys_;
+    }
+
+    // repeated .akka.cluster.ddata.ORMap.Entry entries = 2;
+    public static final int ENTRIES_FIELD_NUMBER = 2;
+    private java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry> entries_;
+    /**
+     * <code>repeated .akka.cluster.ddata.ORMap.Entry entries = 2;</code>
+     */
+    public java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry> getEntriesList() {
+      return entries_;
+    }
+    /**
+     * <code>repeated .akka.cluster.ddata.ORMap.Entry entries = 2;</code>
+     */
+    public java.util.List<? extends akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.EntryOrBuilder> 
+        getEntriesOrBuilderList() {
+      return entries_;
+    }
+    /**
+     * <code>repeated .akka.cluster.ddata.ORMap.Entry entries = 2;</code>
+     */
+    public int getEntriesCount() {
+      return entries_.size();
+    }
+    /**
+     * <code>repeated .akka.cluster.ddata.ORMap.Entry entries = 2;</code>
+     */
+    public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry getEntries(int index) {
+      return entries_.get(index);
+    }
+    /**
+     * <code>repeated .akka.cluster.ddata.ORMap.Entry entries = 2;</code>
+     */
+    public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.EntryOrBuilder getEntriesOrBuilder(
+        int index) {
+      return entries_.get(index);
+    }
+
+    private void initFields() {
+      keys_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.getDefaultInstance();
+      entries_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasKeys()) {
+        memoizedIsInitialized = 0;
+        return false;
       }
-      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry parseFrom(byte[] data)
-          throws akka.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data);
+      if (!getKeys().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
       }
-      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry parseFrom(
-          byte[] data,
-          akka.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws akka.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data, extensionRegistry);
+      for (int i = 0; i < getEntriesCount(); i++) {
+        if (!getEntries(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
       }
-      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry parseFrom(java.io.InputStream input)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input);
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(akka.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(1, keys_);
       }
-      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry parseFrom(
-          java.io.InputStream input,
-          akka.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input, extensionRegistry);
+      for (int i = 0; i < entries_.size(); i++) {
+        output.writeMessage(2, entries_.get(i));
       }
-      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry parseDelimitedFrom(java.io.InputStream input)
-          throws java.io.IOException {
-        return PARSER.parseDelimitedFrom(input);
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += akka.protobuf.CodedOutputStream
+          .computeMessageSize(1, keys_);
       }
-      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry parseDelimitedFrom(
-          java.io.InputStream input,
-          akka.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      for (int i = 0; i < entries_.size(); i++) {
+        size += akka.protobuf.CodedOutputStream
+          .computeMessageSize(2, entries_.get(i));
       }
-      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry parseFrom(
-          akka.protobuf.CodedInputStream input)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input);
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap parseFrom(
+        akka.protobuf.ByteString data)
+        throws akka.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap parseFrom(
+        akka.protobuf.ByteString data,
+        akka.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws akka.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap parseFrom(byte[] data)
+        throws akka.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap parseFrom(
+        byte[] data,
+        akka.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws akka.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap parseFrom(
+        java.io.InputStream input,
+        akka.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap parseDelimitedFrom(
+        java.io.InputStream input,
+        akka.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap parseFrom(
+        akka.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap parseFrom(
+        akka.protobuf.CodedInputStream input,
+        akka.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        akka.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code akka.cluster.ddata.ORMap}
+     */
+    public static final class Builder extends
+        akka.protobuf.GeneratedMessage.Builder<Builder>
+       implements akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMapOrBuilder {
+      public static final akka.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_ORMap_descriptor;
       }
-      public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry parseFrom(
-          akka.protobuf.CodedInputStream input,
-          akka.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input, extensionRegistry);
+
+      protected akka.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_ORMap_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Builder.class);
       }
 
-      public static Builder newBuilder() { return Builder.create(); }
-      public Builder newBuilderForType() { return newBuilder(); }
-      public static Builder newBuilder(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry prototype) {
-        return newBuilder().mergeFrom(prototype);
+      // Construct using akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
       }
-      public Builder toBuilder() { return newBuilder(this); }
 
-      @java.lang.Override
-      protected Builder newBuilderForType(
+      private Builder(
           akka.protobuf.GeneratedMessage.BuilderParent parent) {
-        Builder builder = new Builder(parent);
-        return builder;
+        super(parent);
+        maybeForceBuilderInitialization();
       }
-      /**
-       * Protobuf type {@code akka.cluster.ddata.ORMap.Entry}
-       */
-      public static final class Builder extends
-          akka.protobuf.GeneratedMessage.Builder<Builder>
-         implements akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.EntryOrBuilder {
-        public static final akka.protobuf.Descriptors.Descriptor
-            getDescriptor() {
-          return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_ORMap_Entry_descriptor;
+      private void maybeForceBuilderInitialization() {
+        if (akka.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getKeysFieldBuilder();
+          getEntriesFieldBuilder();
         }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
 
-        protected akka.protobuf.GeneratedMessage.FieldAccessorTable
-            internalGetFieldAccessorTable() {
-          return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_ORMap_Entry_fieldAccessorTable
-              .ensureFieldAccessorsInitialized(
-                  akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry.Builder.class);
+      public Builder clear() {
+        super.clear();
+        if (keysBuilder_ == null) {
+          keys_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.getDefaultInstance();
+        } else {
+          keysBuilder_.clear();
         }
-
-        // Construct using akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry.newBuilder()
-        private Builder() {
-          maybeForceBuilderInitialization();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (entriesBuilder_ == null) {
+          entries_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          entriesBuilder_.clear();
         }
+        return this;
+      }
 
-        private Builder(
-            akka.protobuf.GeneratedMessage.BuilderParent parent) {
-          super(parent);
-          maybeForceBuilderInitialization();
-        }
-        private void maybeForceBuilderInitialization() {
-          if (akka.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-            getValueFieldBuilder();
-            getOtherKeyFieldBuilder();
-          }
-        }
-        private static Builder create() {
-          return new Builder();
-        }
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
 
-        public Builder clear() {
-          super.clear();
-          stringKey_ = "";
-          bitField0_ = (bitField0_ & ~0x00000001);
-          if (valueBuilder_ == null) {
-            value_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance();
-          } else {
-            valueBuilder_.clear();
-          }
-          bitField0_ = (bitField0_ & ~0x00000002);
-          intKey_ = 0;
-          bitField0_ = (bitField0_ & ~0x00000004);
-          longKey_ = 0L;
-          bitField0_ = (bitField0_ & ~0x00000008);
-          if (otherKeyBuilder_ == null) {
-            otherKey_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance();
-          } else {
-            otherKeyBuilder_.clear();
-          }
-          bitField0_ = (bitField0_ & ~0x00000010);
-          return this;
-        }
+      public akka.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_ORMap_descriptor;
+      }
 
-        public Builder clone() {
-          return create().mergeFrom(buildPartial());
-        }
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap getDefaultInstanceForType() {
+        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.getDefaultInstance();
+      }
 
-        public akka.protobuf.Descriptors.Descriptor
-            getDescriptorForType() {
-          return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_ORMap_Entry_descriptor;
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap build() {
+        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
         }
+        return result;
+      }
 
-        public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry getDefaultInstanceForType() {
-          return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry.getDefaultInstance();
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap buildPartial() {
+        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap result = new akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
         }
-
-        public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry build() {
-          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry result = buildPartial();
-          if (!result.isInitialized()) {
-            throw newUninitializedMessageException(result);
-          }
-          return result;
+        if (keysBuilder_ == null) {
+          result.keys_ = keys_;
+        } else {
+          result.keys_ = keysBuilder_.build();
         }
-
-        public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry buildPartial() {
-          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry result = new akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry(this);
-          int from_bitField0_ = bitField0_;
-          int to_bitField0_ = 0;
-          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-            to_bitField0_ |= 0x00000001;
-          }
-          result.stringKey_ = stringKey_;
-          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-            to_bitField0_ |= 0x00000002;
-          }
-          if (valueBuilder_ == null) {
-            result.value_ = value_;
-          } else {
-            result.value_ = valueBuilder_.build();
-          }
-          if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-            to_bitField0_ |= 0x00000004;
-          }
-          result.intKey_ = intKey_;
-          if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
-            to_bitField0_ |= 0x00000008;
-          }
-          result.longKey_ = longKey_;
-          if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
-            to_bitField0_ |= 0x00000010;
-          }
-          if (otherKeyBuilder_ == null) {
-            result.otherKey_ = otherKey_;
-          } else {
-            result.otherKey_ = otherKeyBuilder_.build();
+        if (entriesBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            entries_ = java.util.Collections.unmodifiableList(entries_);
+            bitField0_ = (bitField0_ & ~0x00000002);
           }
-          result.bitField0_ = to_bitField0_;
-          onBuilt();
-          return result;
+          result.entries_ = entries_;
+        } else {
+          result.entries_ = entriesBuilder_.build();
         }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
 
-        public Builder mergeFrom(akka.protobuf.Message other) {
-          if (other instanceof akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry) {
-            return mergeFrom((akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry)other);
-          } else {
-            super.mergeFrom(other);
-            return this;
-          }
+      public Builder mergeFrom(akka.protobuf.Message other) {
+        if (other instanceof akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap) {
+          return mergeFrom((akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
         }
+      }
 
-        public Builder mergeFrom(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry other) {
-          if (other == akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry.getDefaultInstance()) return this;
-          if (other.hasStringKey()) {
-            bitField0_ |= 0x00000001;
-            stringKey_ = other.stringKey_;
-            onChanged();
-          }
-          if (other.hasValue()) {
-            mergeValue(other.getValue());
-          }
-          if (other.hasIntKey()) {
-            setIntKey(other.getIntKey());
-          }
-          if (other.hasLongKey()) {
-            setLongKey(other.getLongKey());
+      public Builder mergeFrom(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap other) {
+        if (other == akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.getDefaultInstance()) return this;
+        if (other.hasKeys()) {
+          mergeKeys(other.getKeys());
+        }
+        if (entriesBuilder_ == null) {
+          if (!other.entries_.isEmpty()) {
+            if (entries_.isEmpty()) {
+              entries_ = other.entries_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureEntriesIsMutable();
+              entries_.addAll(other.entries_);
+            }
+            onChanged();
           }
-          if (other.hasOtherKey()) {
-            mergeOtherKey(other.getOtherKey());
+        } else {
+          if (!other.entries_.isEmpty()) {
+            if (entriesBuilder_.isEmpty()) {
+              entriesBuilder_.dispose();
+              entriesBuilder_ = null;
+              entries_ = other.entries_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              entriesBuilder_ = 
+                akka.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getEntriesFieldBuilder() : null;
+            } else {
+              entriesBuilder_.addAllMessages(other.entries_);
+            }
           }
-          this.mergeUnknownFields(other.getUnknownFields());
-          return this;
         }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
 
-        public final boolean isInitialized() {
-          if (!hasValue()) {
-            
-            return false;
-          }
-          if (!getValue().isInitialized()) {
+      public final boolean isInitialized() {
+        if (!hasKeys()) {
+          
+          return false;
+        }
+        if (!getKeys().isInitialized()) {
+          
+          return false;
+        }
+        for (int i = 0; i < getEntriesCount(); i++) {
+          if (!getEntries(i).isInitialized()) {
             
             return false;
           }
-          if (hasOtherKey()) {
-            if (!getOtherKey().isInitialized()) {
-              
-              return false;
-            }
-          }
-          return true;
         }
+        return true;
+      }
 
-        public Builder mergeFrom(
-            akka.protobuf.CodedInputStream input,
-            akka.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws java.io.IOException {
-          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry parsedMessage = null;
-          try {
-            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-          } catch (akka.protobuf.InvalidProtocolBufferException e) {
-            parsedMessage = (akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry) e.getUnfinishedMessage();
-            throw e;
-          } finally {
-            if (parsedMessage != null) {
-              mergeFrom(parsedMessage);
-            }
+      public Builder mergeFrom(
+          akka.protobuf.CodedInputStream input,
+          akka.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (akka.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
           }
-          return this;
         }
-        private int bitField0_;
+        return this;
+      }
+      private int bitField0_;
 
-        // optional string stringKey = 1;
-        private java.lang.Object stringKey_ = "";
-        /**
-         * <code>optional string stringKey = 1;</code>
-         */
-        public boolean hasStringKey() {
-          return ((bitField0_ & 0x00000001) == 0x00000001);
-        }
-        /**
-         * <code>optional string stringKey = 1;</code>
-         */
-        public java.lang.String getStringKey() {
-          java.lang.Object ref = stringKey_;
-          if (!(ref instanceof java.lang.String)) {
-            java.lang.String s = ((akka.protobuf.ByteString) ref)
-                .toStringUtf8();
-            stringKey_ = s;
-            return s;
-          } else {
-            return (java.lang.String) ref;
-          }
+      // required .akka.cluster.ddata.ORSet keys = 1;
+      private akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet keys_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.getDefaultInstance();
+      private akka.protobuf.SingleFieldBuilder<
+          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetOrBuilder> keysBuilder_;
+      /**
+       * <code>required .akka.cluster.ddata.ORSet keys = 1;</code>
+       */
+      public boolean hasKeys() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required .akka.cluster.ddata.ORSet keys = 1;</code>
+       */
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet getKeys() {
+        if (keysBuilder_ == null) {
+          return keys_;
+        } else {
+          return keysBuilder_.getMessage();
         }
-        /**
-         * <code>optional string stringKey = 1;</code>
-         */
-        public akka.protobuf.ByteString
-            getStringKeyBytes() {
-          java.lang.Object ref = stringKey_;
-          if (ref instanceof String) {
-            akka.protobuf.ByteString b = 
-                akka.protobuf.ByteString.copyFromUtf8(
-                    (java.lang.String) ref);
-            stringKey_ = b;
-            return b;
-          } else {
-            return (akka.protobuf.ByteString) ref;
+      }
+      /**
+       * <code>required .akka.cluster.ddata.ORSet keys = 1;</code>
+       */
+      public Builder setKeys(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet value) {
+        if (keysBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
+          keys_ = value;
+          onChanged();
+        } else {
+          keysBuilder_.setMessage(value);
         }
-        /**
-         * <code>optional string stringKey = 1;</code>
-         */
-        public Builder setStringKey(
-            java.lang.String value) {
-          if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-          stringKey_ = value;
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .akka.cluster.ddata.ORSet keys = 1;</code>
+       */
+      public Builder setKeys(
+          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.Builder builderForValue) {
+        if (keysBuilder_ == null) {
+          keys_ = builderForValue.build();
           onChanged();
-          return this;
+        } else {
+          keysBuilder_.setMessage(builderForValue.build());
         }
-        /**
-         * <code>optional string stringKey = 1;</code>
-         */
-        public Builder clearStringKey() {
-          bitField0_ = (bitField0_ & ~0x00000001);
-          stringKey_ = getDefaultInstance().getStringKey();
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .akka.cluster.ddata.ORSet keys = 1;</code>
+       */
+      public Builder mergeKeys(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet value) {
+        if (keysBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              keys_ != akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.getDefaultInstance()) {
+            keys_ =
+              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.newBuilder(keys_).mergeFrom(value).buildPartial();
+          } else {
+            keys_ = value;
+          }
           onChanged();
-          return this;
+        } else {
+          keysBuilder_.mergeFrom(value);
         }
-        /**
-         * <code>optional string stringKey = 1;</code>
-         */
-        public Builder setStringKeyBytes(
-            akka.protobuf.ByteString value) {
-          if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-          stringKey_ = value;
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .akka.cluster.ddata.ORSet keys = 1;</code>
+       */
+      public Builder clearKeys() {
+        if (keysBuilder_ == null) {
+          keys_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.getDefaultInstance();
           onChanged();
-          return this;
+        } else {
+          keysBuilder_.clear();
         }
-
-        // required .akka.cluster.ddata.OtherMessage value = 2;
-        private akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage value_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance();
-        private akka.protobuf.SingleFieldBuilder<
-            akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder> valueBuilder_;
-        /**
-         * <code>required .akka.cluster.ddata.OtherMessage value = 2;</code>
-         */
-        public boolean hasValue() {
-          return ((bitField0_ & 0x00000002) == 0x00000002);
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+      /**
+       * <code>required .akka.cluster.ddata.ORSet keys = 1;</code>
+       */
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.Builder getKeysBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getKeysFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .akka.cluster.ddata.ORSet keys = 1;</code>
+       */
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetOrBuilder getKeysOrBuilder() {
+        if (keysBuilder_ != null) {
+          return keysBuilder_.getMessageOrBuilder();
+        } else {
+          return keys_;
         }
-        /**
-         * <code>required .akka.cluster.ddata.OtherMessage value = 2;</code>
-         */
-        public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage getValue() {
-          if (valueBuilder_ == null) {
-            return value_;
-          } else {
-            return valueBuilder_.getMessage();
-          }
+      }
+      /**
+       * <code>required .akka.cluster.ddata.ORSet keys = 1;</code>
+       */
+      private akka.protobuf.SingleFieldBuilder<
+          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetOrBuilder> 
+          getKeysFieldBuilder() {
+        if (keysBuilder_ == null) {
+          keysBuilder_ = new akka.protobuf.SingleFieldBuilder<
+              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetOrBuilder>(
+                  keys_,
+                  getParentForChildren(),
+                  isClean());
+          keys_ = null;
         }
-        /**
-         * <code>required .akka.cluster.ddata.OtherMessage value = 2;</code>
-         */
-        public Builder setValue(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage value) {
-          if (valueBuilder_ == null) {
-            if (value == null) {
-              throw new NullPointerException();
-            }
-            value_ = value;
-            onChanged();
-          } else {
-            valueBuilder_.setMessage(value);
-          }
+        return keysBuilder_;
+      }
+
+      // repeated .akka.cluster.ddata.ORMap.Entry entries = 2;
+      private java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry> entries_ =
+        java.util.Collections.emptyList();
+      private void ensureEntriesIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          entries_ = new java.util.ArrayList<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry>(entries_);
           bitField0_ |= 0x00000002;
-          return this;
+         }
+      }
+
+      private akka.protobuf.RepeatedFieldBuilder<
+          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.EntryOrBuilder> entriesBuilder_;
+
+      /**
+       * <code>repeated .akka.cluster.ddata.ORMap.Entry entries = 2;</code>
+       */
+      public java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry> getEntriesList() {
+        if (entriesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(entries_);
+        } else {
+          return entriesBuilder_.getMessageList();
         }
-        /**
-         * <code>required .akka.cluster.ddata.OtherMessage value = 2;</code>
-         */
-        public Builder setValue(
-            akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder builderForValue) {
-          if (valueBuilder_ == null) {
-            value_ = builderForValue.build();
-            onChanged();
-          } else {
-            valueBuilder_.setMessage(builderForValue.build());
-          }
-          bitField0_ |= 0x00000002;
-          return this;
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.ORMap.Entry entries = 2;</code>
+       */
+      public int getEntriesCount() {
+        if (entriesBuilder_ == null) {
+          return entries_.size();
+        } else {
+          return entriesBuilder_.getCount();
         }
-        /**
-         * <code>required .akka.cluster.ddata.OtherMessage value = 2;</code>
-         */
-        public Builder mergeValue(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage value) {
-          if (valueBuilder_ == null) {
-            if (((bitField0_ & 0x00000002) == 0x00000002) &&
-                value_ != akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance()) {
-              value_ =
-                akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.newBuilder(value_).mergeFrom(value).buildPartial();
-            } else {
-              value_ = value;
-            }
-            onChanged();
-          } else {
-            valueBuilder_.mergeFrom(value);
-          }
-          bitField0_ |= 0x00000002;
-          return this;
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.ORMap.Entry entries = 2;</code>
+       */
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry getEntries(int index) {
+        if (entriesBuilder_ == null) {
+          return entries_.get(index);
+        } else {
+          return entriesBuilder_.getMessage(index);
         }
-        /**
-         * <code>required .akka.cluster.ddata.OtherMessage value = 2;</code>
-         */
-        public Builder clearValue() {
-          if (valueBuilder_ == null) {
-            value_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance();
-            onChanged();
-          } else {
-            valueBuilder_.clear();
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.ORMap.Entry entries = 2;</code>
+       */
+      public Builder setEntries(
+          int index, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
-          bitField0_ = (bitField0_ & ~0x00000002);
-          return this;
+          ensureEntriesIsMutable();
+          entries_.set(index, value);
+          onChanged();
+        } else {
+          entriesBuilder_.setMessage(index, value);
         }
-        /**
-         * <code>required .akka.cluster.ddata.OtherMessage value = 2;</code>
-         */
-        public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder getValueBuilder() {
-          bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.ORMap.Entry entries = 2;</code>
+       */
+      public Builder setEntries(
+          int index, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.set(index, builderForValue.build());
           onChanged();
-          return getValueFieldBuilder().getBuilder();
+        } else {
+          entriesBuilder_.setMessage(index, builderForValue.build());
         }
-        /**
-         * <code>required .akka.cluster.ddata.OtherMessage value = 2;</code>
-         */
-        public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder getValueOrBuilder() {
-          if (valueBuilder_ != null) {
-            return valueBuilder_.getMessageOrBuilder();
-          } else {
-            return value_;
+        return this;
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.ORMap.Entry entries = 2;</code>
+       */
+      public Builder addEntries(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
+          ensureEntriesIsMutable();
+          entries_.add(value);
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(value);
         }
-        /**
-         * <code>required .akka.cluster.ddata.OtherMessage value = 2;</code>
-         */
-        private akka.protobuf.SingleFieldBuilder<
-            akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder> 
-            getValueFieldBuilder() {
-          if (valueBuilder_ == null) {
-            valueBuilder_ = new akka.protobuf.SingleFieldBuilder<
-                akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder>(
-                    value_,
-                    getParentForChildren(),
-                    isClean());
-            value_ = null;
+        return this;
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.ORMap.Entry entries = 2;</code>
+       */
+      public Builder addEntries(
+          int index, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
-          return valueBuilder_;
-        }
-
-        // optional sint32 intKey = 3;
-        private int intKey_ ;
-        /**
-         * <code>optional sint32 intKey = 3;</code>
-         */
-        public boolean hasIntKey() {
-          return ((bitField0_ & 0x00000004) == 0x00000004);
-        }
-        /**
-         * <code>optional sint32 intKey = 3;</code>
-         */
-        public int getIntKey() {
-          return intKey_;
-        }
-        /**
-         * <code>optional sint32 intKey = 3;</code>
-         */
-        public Builder setIntKey(int value) {
-          bitField0_ |= 0x00000004;
-          intKey_ = value;
+          ensureEntriesIsMutable();
+          entries_.add(index, value);
           onChanged();
-          return this;
+        } else {
+          entriesBuilder_.addMessage(index, value);
         }
-        /**
-         * <code>optional sint32 intKey = 3;</code>
-         */
-        public Builder clearIntKey() {
-          bitField0_ = (bitField0_ & ~0x00000004);
-          intKey_ = 0;
+        return this;
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.ORMap.Entry entries = 2;</code>
+       */
+      public Builder addEntries(
+          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.add(builderForValue.build());
           onChanged();
-          return this;
-        }
-
-        // optional sint64 longKey = 4;
-        private long longKey_ ;
-        /**
-         * <code>optional sint64 longKey = 4;</code>
-         */
-        public boolean hasLongKey() {
-          return ((bitField0_ & 0x00000008) == 0x00000008);
+        } else {
+          entriesBuilder_.addMessage(builderForValue.build());
         }
-        /**
-         * <code>optional sint64 longKey = 4;</code>
-         */
-        public long getLongKey() {
-          return longKey_;
+        return this;
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.ORMap.Entry entries = 2;</code>
+       */
+      public Builder addEntries(
+          int index, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(index, builderForValue.build());
         }
-        /**
-         * <code>optional sint64 longKey = 4;</code>
-         */
-        public Builder setLongKey(long value) {
-          bitField0_ |= 0x00000008;
-          longKey_ = value;
+        return this;
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.ORMap.Entry entries = 2;</code>
+       */
+      public Builder addAllEntries(
+          java.lang.Iterable<? extends akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry> values) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          super.addAll(values, entries_);
           onChanged();
-          return this;
+        } else {
+          entriesBuilder_.addAllMessages(values);
         }
-        /**
-         * <code>optional sint64 longKey = 4;</code>
-         */
-        public Builder clearLongKey() {
-          bitField0_ = (bitField0_ & ~0x00000008);
-          longKey_ = 0L;
+        return this;
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.ORMap.Entry entries = 2;</code>
+       */
+      public Builder clearEntries() {
+        if (entriesBuilder_ == null) {
+          entries_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
           onChanged();
-          return this;
+        } else {
+          entriesBuilder_.clear();
         }
-
-        // optional .akka.cluster.ddata.OtherMessage otherKey = 5;
-        private akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage otherKey_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance();
-        private akka.protobuf.SingleFieldBuilder<
-            akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder> otherKeyBuilder_;
-        /**
-         * <code>optional .akka.cluster.ddata.OtherMessage otherKey = 5;</code>
-         */
-        public boolean hasOtherKey() {
-          return ((bitField0_ & 0x00000010) == 0x00000010);
+        return this;
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.ORMap.Entry entries = 2;</code>
+       */
+      public Builder removeEntries(int index) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.remove(index);
+          onChanged();
+        } else {
+          entriesBuilder_.remove(index);
         }
-        /**
-         * <code>optional .akka.cluster.ddata.OtherMessage otherKey = 5;</code>
-         */
-        public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage getOtherKey() {
-          if (otherKeyBuilder_ == null) {
-            return otherKey_;
-          } else {
-            return otherKeyBuilder_.getMessage();
-          }
+        return this;
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.ORMap.Entry entries = 2;</code>
+       */
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry.Builder getEntriesBuilder(
+          int index) {
+        return getEntriesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.ORMap.Entry entries = 2;</code>
+       */
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.EntryOrBuilder getEntriesOrBuilder(
+          int index) {
+        if (entriesBuilder_ == null) {
+          return entries_.get(index);  } else {
+          return entriesBuilder_.getMessageOrBuilder(index);
         }
-        /**
-         * <code>optional .akka.cluster.ddata.OtherMessage otherKey = 5;</code>
-         */
-        public Builder setOtherKey(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage value) {
-          if (otherKeyBuilder_ == null) {
-            if (value == null) {
-              throw new NullPointerException();
-            }
-            otherKey_ = value;
-            onChanged();
-          } else {
-            otherKeyBuilder_.setMessage(value);
-          }
-          bitField0_ |= 0x00000010;
-          return this;
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.ORMap.Entry entries = 2;</code>
+       */
+      public java.util.List<? extends akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.EntryOrBuilder> 
+           getEntriesOrBuilderList() {
+        if (entriesBuilder_ != null) {
+          return entriesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(entries_);
         }
-        /**
-         * <code>optional .akka.cluster.ddata.OtherMessage otherKey = 5;</code>
-         */
-        public Builder setOtherKey(
-            akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder builderForValue) {
-          if (otherKeyBuilder_ == null) {
-            otherKey_ = builderForValue.build();
-            onChanged();
-          } else {
-            otherKeyBuilder_.setMessage(builderForValue.build());
-          }
-          bitField0_ |= 0x00000010;
-          return this;
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.ORMap.Entry entries = 2;</code>
+       */
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry.Builder addEntriesBuilder() {
+        return getEntriesFieldBuilder().addBuilder(
+            akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.ORMap.Entry entries = 2;</code>
+       */
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry.Builder addEntriesBuilder(
+          int index) {
+        return getEntriesFieldBuilder().addBuilder(
+            index, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .akka.cluster.ddata.ORMap.Entry entries = 2;</code>
+       */
+      public java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry.Builder> 
+           getEntriesBuilderList() {
+        return getEntriesFieldBuilder().getBuilderList();
+      }
+      private akka.protobuf.RepeatedFieldBuilder<
+          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.EntryOrBuilder> 
+          getEntriesFieldBuilder() {
+        if (entriesBuilder_ == null) {
+          entriesBuilder_ = new akka.protobuf.RepeatedFieldBuilder<
+              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.EntryOrBuilder>(
+                  entries_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          entries_ = null;
         }
-        /**
-         * <code>optional .akka.cluster.ddata.OtherMessage otherKey = 5;</code>
-         */
-        public Builder mergeOtherKey(akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage value) {
-          if (otherKeyBuilder_ == null) {
-            if (((bitField0_ & 0x00000010) == 0x00000010) &&
-                otherKey_ != akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance()) {
-              otherKey_ =
-                akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.newBuilder(otherKey_).mergeFrom(value).buildPartial();
-            } else {
-              otherKey_ = value;
+        return entriesBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:akka.cluster.ddata.ORMap)
+    }
+
+    static {
+      defaultInstance = new ORMap(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:akka.cluster.ddata.ORMap)
+  }
+
+  public interface ORMapDeltaOrBuilder
+      extends akka.protobuf.MessageOrBuilder {
+
+    // required .akka.cluster.ddata.ORSetDeltaGroup keys = 1;
+    /**
+     * <code>required .akka.cluster.ddata.ORSetDeltaGroup keys = 1;</code>
+     */
+    boolean hasKeys();
+    /**
+     * <code>required .akka.cluster.ddata.ORSetDeltaGroup keys = 1;</code>
+     */
+    akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup getKeys();
+    /**
+     * <code>required .akka.cluster.ddata.ORSetDeltaGroup keys = 1;</code>
+     */
+    akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroupOrBuilder getKeysOrBuilder();
+
+    // repeated .akka.cluster.ddata.ORMap.Entry entries = 2;
+    /**
+     * <code>repeated .akka.cluster.ddata.ORMap.Entry entries = 2;</code>
+     */
+    java.util.List<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry> 
+        getEntriesList();
+    /**
+     * <code>repeated .akka.cluster.ddata.ORMap.Entry entries = 2;</code>
+     */
+    akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry getEntries(int index);
+    /**
+     * <code>repeated .akka.cluster.ddata.ORMap.Entry entries = 2;</code>
+     */
+    int getEntriesCount();
+    /**
+     * <code>repeated .akka.cluster.ddata.ORMap.Entry entries = 2;</code>
+     */
+    java.util.List<? extends akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.EntryOrBuilder> 
+        getEntriesOrBuilderList();
+    /**
+     * <code>repeated .akka.cluster.ddata.ORMap.Entry entries = 2;</code>
+     */
+    akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.EntryOrBuilder getEntriesOrBuilder(
+        int index);
+
+    // optional sint32 zeroTag = 3;
+    /**
+     * <code>optional sint32 zeroTag = 3;</code>
+     */
+    boolean hasZeroTag();
+    /**
+     * <code>optional sint32 zeroTag = 3;</code>
+     */
+    int getZeroTag();
+  }
+  /**
+   * Protobuf type {@code akka.cluster.ddata.ORMapDelta}
+   */
+  public static final class ORMapDelta extends
+      akka.protobuf.GeneratedMessage
+      implements ORMapDeltaOrBuilder {
+    // Use ORMapDelta.newBuilder() to construct.
+    private ORMapDelta(akka.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private ORMapDelta(boolean noInit) { this.unknownFields = akka.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final ORMapDelta defaultInstance;
+    public static ORMapDelta getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public ORMapDelta getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final akka.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final akka.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ORMapDelta(
+        akka.protobuf.CodedInputStream input,
+        akka.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws akka.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      akka.protobuf.UnknownFieldSet.Builder unknownFields =
+          akka.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = keys_.toBuilder();
+              }
+              keys_ = input.readMessage(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(keys_);
+                keys_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000001;
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                entries_ = new java.util.ArrayList<akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              entries_.add(input.readMessage(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Entry.PARSER, extensionRegistry));
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000002;
+              zeroTag_ = input.readSInt32();
+              break;
             }
-            onChanged();
-          } else {
-            otherKeyBuilder_.mergeFrom(value);
-          }
-          bitField0_ |= 0x00000010;
-          return this;
-        }
-        /**
-         * <code>optional .akka.cluster.ddata.OtherMessage otherKey = 5;</code>
-         */
-        public Builder clearOtherKey() {
-          if (otherKeyBuilder_ == null) {
-            otherKey_ = akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance();
-            onChanged();
-          } else {
-            otherKeyBuilder_.clear();
-          }
-          bitField0_ = (bitField0_ & ~0x00000010);
-          return this;
-        }
-        /**
-         * <code>optional .akka.cluster.ddata.OtherMessage otherKey = 5;</code>
-         */
-        public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder getOtherKeyBuilder() {
-          bitField0_ |= 0x00000010;
-          onChanged();
-          return getOtherKeyFieldBuilder().getBuilder();
-        }
-        /**
-         * <code>optional .akka.cluster.ddata.OtherMessage otherKey = 5;</code>
-         */
-        public akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder getOtherKeyOrBuilder() {
-          if (otherKeyBuilder_ != null) {
-            return otherKeyBuilder_.getMessageOrBuilder();
-          } else {
-            return otherKey_;
           }
         }
-        /**
-         * <code>optional .akka.cluster.ddata.OtherMessage otherKey = 5;</code>
-         */
-        private akka.protobuf.SingleFieldBuilder<
-            akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder> 
-            getOtherKeyFieldBuilder() {
-          if (otherKeyBuilder_ == null) {
-            otherKeyBuilder_ = new akka.protobuf.SingleFieldBuilder<
-                akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder, akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder>(
-                    otherKey_,
-                    getParentForChildren(),
-                    isClean());
-            otherKey_ = null;
-          }
-          return otherKeyBuilder_;
+      } catch (akka.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new akka.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          entries_ = java.util.Collections.unmodifiableList(entries_);
         }
-
-        // @@protoc_insertion_point(builder_scope:akka.cluster.ddata.ORMap.Entry)
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
       }
+    }
+    public static final akka.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_ORMapDelta_descriptor;
+    }
 
-      static {
-        defaultInstance = new Entry(true);
-        defaultInstance.initFields();
+    protected akka.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_ORMapDelta_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMapDelta.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMapDelta.Builder.class);
+    }
+
+    public static akka.protobuf.Parser<ORMapDelta> PARSER =
+        new akka.protobuf.AbstractParser<ORMapDelta>() {
+      public ORMapDelta parsePartialFrom(
+          akka.protobuf.CodedInputStream input,
+          akka.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws akka.protobuf.InvalidProtocolBufferException {
+        return new ORMapDelta(input, extensionRegistry);
       }
+    };
 
-      // @@protoc_insertion_point(class_scope:akka.cluster.ddata.ORMap.Entry)
+    @java.lang.Override
+    public akka.protobuf.Parser<ORMapDelta> getParserForType() {
+      return PARSER;
     }
 
     private int bitField0_;
-    // required .akka.cluster.ddata.ORSet keys = 1;
+    // required .akka.cluster.ddata.ORSetDeltaGroup keys = 1;
     public static final int KEYS_FIELD_NUMBER = 1;
-    private akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet keys_;
+    private akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup keys_;
     /**
-     * <code>required .akka.cluster.ddata.ORSet keys = 1;</code>
+     * <code>required .akka.cluster.ddata.ORSetDeltaGroup keys = 1;</code>
      */
     public boolean hasKeys() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>required .akka.cluster.ddata.ORSet keys = 1;</code>
+     * <code>required .akka.cluster.ddata.ORSetDeltaGroup keys = 1;</code>
      */
-    public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet getKeys() {
+    public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup getKeys() {
       return keys_;
     }
     /**
-     * <code>required .akka.cluster.ddata.ORSet keys = 1;</code>
+     * <code>required .akka.cluster.ddata.ORSetDeltaGroup keys = 1;</code>
      */
-    public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetOrBuilder getKeysOrBuilder() {
+    public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroupOrBuilder getKeysOrBuilder() {
       return keys_;
     }
 
@@ -8817,9 +9829,26 @@ public final class ReplicatedDataMessages {
       return entries_.get(index);
     }
 
+    // optional sint32 zeroTag = 3;
+    public static final int ZEROTAG_FIELD_NUMBER = 3;
+    private int zeroTag_;
+    /**
+     * <code>optional sint32 zeroTag = 3;</code>
+     */
+    public boolean hasZeroTag() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional sint32 zeroTag = 3;</code>
+     */
+    public int getZeroTag() {
+      return zeroTag_;
+    }
+
     private void initFields() {
-      keys_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.getDefaultInstance();
+      keys_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.getDefaultInstance();
       entries_ = java.util.Collections.emptyList();
+      zeroTag_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -8853,6 +9882,9 @@ public final class ReplicatedDataMessages {
       for (int i = 0; i < entries_.size(); i++) {
         output.writeMessage(2, entries_.get(i));
       }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeSInt32(3, zeroTag_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -8870,6 +9902,10 @@ public final class ReplicatedDataMessages {
         size += akka.protobuf.CodedOutputStream
           .computeMessageSize(2, entries_.get(i));
       }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += akka.protobuf.CodedOutputStream
+          .computeSInt32Size(3, zeroTag_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -8882,53 +9918,53 @@ public final class ReplicatedDataMessages {
       return super.writeReplace();
     }
 
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap parseFrom(
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMapDelta parseFrom(
         akka.protobuf.ByteString data)
         throws akka.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap parseFrom(
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMapDelta parseFrom(
         akka.protobuf.ByteString data,
         akka.protobuf.ExtensionRegistryLite extensionRegistry)
         throws akka.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap parseFrom(byte[] data)
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMapDelta parseFrom(byte[] data)
         throws akka.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap parseFrom(
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMapDelta parseFrom(
         byte[] data,
         akka.protobuf.ExtensionRegistryLite extensionRegistry)
         throws akka.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap parseFrom(java.io.InputStream input)
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMapDelta parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap parseFrom(
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMapDelta parseFrom(
         java.io.InputStream input,
         akka.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap parseDelimitedFrom(java.io.InputStream input)
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMapDelta parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap parseDelimitedFrom(
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMapDelta parseDelimitedFrom(
         java.io.InputStream input,
         akka.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap parseFrom(
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMapDelta parseFrom(
         akka.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap parseFrom(
+    public static akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMapDelta parseFrom(
         akka.protobuf.CodedInputStream input,
         akka.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -8937,7 +9973,7 @@ public final class ReplicatedDataMessages {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap prototype) {
+    public static Builder newBuilder(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMapDelta prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -8949,24 +9985,24 @@ public final class ReplicatedDataMessages {
       return builder;
     }
     /**
-     * Protobuf type {@code akka.cluster.ddata.ORMap}
+     * Protobuf type {@code akka.cluster.ddata.ORMapDelta}
      */
     public static final class Builder extends
         akka.protobuf.GeneratedMessage.Builder<Builder>
-       implements akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMapOrBuilder {
+       implements akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMapDeltaOrBuilder {
       public static final akka.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_ORMap_descriptor;
+        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_ORMapDelta_descriptor;
       }
 
       protected akka.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_ORMap_fieldAccessorTable
+        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_ORMapDelta_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.Builder.class);
+                akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMapDelta.class, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMapDelta.Builder.class);
       }
 
-      // Construct using akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.newBuilder()
+      // Construct using akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMapDelta.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -8989,7 +10025,7 @@ public final class ReplicatedDataMessages {
       public Builder clear() {
         super.clear();
         if (keysBuilder_ == null) {
-          keys_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.getDefaultInstance();
+          keys_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.getDefaultInstance();
         } else {
           keysBuilder_.clear();
         }
@@ -9000,6 +10036,8 @@ public final class ReplicatedDataMessages {
         } else {
           entriesBuilder_.clear();
         }
+        zeroTag_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -9009,23 +10047,23 @@ public final class ReplicatedDataMessages {
 
       public akka.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_ORMap_descriptor;
+        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.internal_static_akka_cluster_ddata_ORMapDelta_descriptor;
       }
 
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap getDefaultInstanceForType() {
-        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.getDefaultInstance();
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMapDelta getDefaultInstanceForType() {
+        return akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMapDelta.getDefaultInstance();
       }
 
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap build() {
-        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap result = buildPartial();
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMapDelta build() {
+        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMapDelta result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap buildPartial() {
-        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap result = new akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap(this);
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMapDelta buildPartial() {
+        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMapDelta result = new akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMapDelta(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
@@ -9045,22 +10083,26 @@ public final class ReplicatedDataMessages {
         } else {
           result.entries_ = entriesBuilder_.build();
         }
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.zeroTag_ = zeroTag_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(akka.protobuf.Message other) {
-        if (other instanceof akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap) {
-          return mergeFrom((akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap)other);
+        if (other instanceof akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMapDelta) {
+          return mergeFrom((akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMapDelta)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap other) {
-        if (other == akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap.getDefaultInstance()) return this;
+      public Builder mergeFrom(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMapDelta other) {
+        if (other == akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMapDelta.getDefaultInstance()) return this;
         if (other.hasKeys()) {
           mergeKeys(other.getKeys());
         }
@@ -9090,6 +10132,9 @@ public final class ReplicatedDataMessages {
             }
           }
         }
+        if (other.hasZeroTag()) {
+          setZeroTag(other.getZeroTag());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -9116,11 +10161,11 @@ public final class ReplicatedDataMessages {
           akka.protobuf.CodedInputStream input,
           akka.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap parsedMessage = null;
+        akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMapDelta parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (akka.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMap) e.getUnfinishedMessage();
+          parsedMessage = (akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORMapDelta) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -9131,20 +10176,20 @@ public final class ReplicatedDataMessages {
       }
       private int bitField0_;
 
-      // required .akka.cluster.ddata.ORSet keys = 1;
-      private akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet keys_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.getDefaultInstance();
+      // required .akka.cluster.ddata.ORSetDeltaGroup keys = 1;
+      private akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup keys_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.getDefaultInstance();
       private akka.protobuf.SingleFieldBuilder<
-          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetOrBuilder> keysBuilder_;
+          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroupOrBuilder> keysBuilder_;
       /**
-       * <code>required .akka.cluster.ddata.ORSet keys = 1;</code>
+       * <code>required .akka.cluster.ddata.ORSetDeltaGroup keys = 1;</code>
        */
       public boolean hasKeys() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>required .akka.cluster.ddata.ORSet keys = 1;</code>
+       * <code>required .akka.cluster.ddata.ORSetDeltaGroup keys = 1;</code>
        */
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet getKeys() {
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup getKeys() {
         if (keysBuilder_ == null) {
           return keys_;
         } else {
@@ -9152,9 +10197,9 @@ public final class ReplicatedDataMessages {
         }
       }
       /**
-       * <code>required .akka.cluster.ddata.ORSet keys = 1;</code>
+       * <code>required .akka.cluster.ddata.ORSetDeltaGroup keys = 1;</code>
        */
-      public Builder setKeys(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet value) {
+      public Builder setKeys(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup value) {
         if (keysBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
@@ -9168,10 +10213,10 @@ public final class ReplicatedDataMessages {
         return this;
       }
       /**
-       * <code>required .akka.cluster.ddata.ORSet keys = 1;</code>
+       * <code>required .akka.cluster.ddata.ORSetDeltaGroup keys = 1;</code>
        */
       public Builder setKeys(
-          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.Builder builderForValue) {
+          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Builder builderForValue) {
         if (keysBuilder_ == null) {
           keys_ = builderForValue.build();
           onChanged();
@@ -9182,14 +10227,14 @@ public final class ReplicatedDataMessages {
         return this;
       }
       /**
-       * <code>required .akka.cluster.ddata.ORSet keys = 1;</code>
+       * <code>required .akka.cluster.ddata.ORSetDeltaGroup keys = 1;</code>
        */
-      public Builder mergeKeys(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet value) {
+      public Builder mergeKeys(akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup value) {
         if (keysBuilder_ == null) {
           if (((bitField0_ & 0x00000001) == 0x00000001) &&
-              keys_ != akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.getDefaultInstance()) {
+              keys_ != akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.getDefaultInstance()) {
             keys_ =
-              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.newBuilder(keys_).mergeFrom(value).buildPartial();
+              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.newBuilder(keys_).mergeFrom(value).buildPartial();
           } else {
             keys_ = value;
           }
@@ -9201,11 +10246,11 @@ public final class ReplicatedDataMessages {
         return this;
       }
       /**
-       * <code>required .akka.cluster.ddata.ORSet keys = 1;</code>
+       * <code>required .akka.cluster.ddata.ORSetDeltaGroup keys = 1;</code>
        */
       public Builder clearKeys() {
         if (keysBuilder_ == null) {
-          keys_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.getDefaultInstance();
+          keys_ = akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.getDefaultInstance();
           onChanged();
         } else {
           keysBuilder_.clear();
@@ -9214,17 +10259,17 @@ public final class ReplicatedDataMessages {
         return this;
       }
       /**
-       * <code>required .akka.cluster.ddata.ORSet keys = 1;</code>
+       * <code>required .akka.cluster.ddata.ORSetDeltaGroup keys = 1;</code>
        */
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.Builder getKeysBuilder() {
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Builder getKeysBuilder() {
         bitField0_ |= 0x00000001;
         onChanged();
         return getKeysFieldBuilder().getBuilder();
       }
       /**
-       * <code>required .akka.cluster.ddata.ORSet keys = 1;</code>
+       * <code>required .akka.cluster.ddata.ORSetDeltaGroup keys = 1;</code>
        */
-      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetOrBuilder getKeysOrBuilder() {
+      public akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroupOrBuilder getKeysOrBuilder() {
         if (keysBuilder_ != null) {
           return keysBuilder_.getMessageOrBuilder();
         } else {
@@ -9232,14 +10277,14 @@ public final class ReplicatedDataMessages {
         }
       }
       /**
-       * <code>required .akka.cluster.ddata.ORSet keys = 1;</code>
+       * <code>required .akka.cluster.ddata.ORSetDeltaGroup keys = 1;</code>
        */
       private akka.protobuf.SingleFieldBuilder<
-          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetOrBuilder> 
+          akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroupOrBuilder> 
           getKeysFieldBuilder() {
         if (keysBuilder_ == null) {
           keysBuilder_ = new akka.protobuf.SingleFieldBuilder<
-              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSet.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetOrBuilder>(
+              akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroup.Builder, akka.cluster.ddata.protobuf.msg.ReplicatedDataMessages.ORSetDeltaGroupOrBuilder>(
                   keys_,
                   getParentForChildren(),
                   isClean());
@@ -9488,15 +10533,48 @@ public final class ReplicatedDataMessages {
         return entriesBuilder_;
       }
 
-      // @@protoc_insertion_point(builder_scope:akka.cluster.ddata.ORMap)
+      // optional sint32 zeroTag = 3;
+      private int zeroTag_ ;
+      /**
+       * <code>optional sint32 zeroTag = 3;</code>
+       */
+      public boolean hasZeroTag() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional sint32 zeroTag = 3;</code>
+       */
+      public int getZeroTag() {
+        return zeroTag_;
+      }
+      /**
+       * <code>optional sint32 zeroTag = 3;</code>
+       */
+      public Builder setZeroTag(int value) {
+        bitField0_ |= 0x00000004;
+        zeroTag_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional sint32 zeroTag = 3;</code>
+       */
+      public Builder clearZeroTag() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        zeroTag_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:akka.cluster.ddata.ORMapDelta)
     }
 
     static {
-      defaultInstance = new ORMap(true);
+      defaultInstance = new ORMapDelta(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:akka.cluster.ddata.ORMap)
+    // @@protoc_insertion_point(class_scope:akka.cluster.ddata.ORMapDelta)
   }
 
   public interface LWWMapOrBuilder
@@ -15335,6 +16413,16 @@ public final class ReplicatedDataMessages {
   private static
     akka.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_akka_cluster_ddata_ORSet_fieldAccessorTable;
+  private static akka.protobuf.Descriptors.Descriptor
+    internal_static_akka_cluster_ddata_ORSetDeltaGroup_descriptor;
+  private static
+    akka.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_akka_cluster_ddata_ORSetDeltaGroup_fieldAccessorTable;
+  private static akka.protobuf.Descriptors.Descriptor
+    internal_static_akka_cluster_ddata_ORSetDeltaGroup_Entry_descriptor;
+  private static
+    akka.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_akka_cluster_ddata_ORSetDeltaGroup_Entry_fieldAccessorTable;
   private static akka.protobuf.Descriptors.Descriptor
     internal_static_akka_cluster_ddata_Flag_descriptor;
   private static
@@ -15360,16 +16448,6 @@ public final class ReplicatedDataMessages {
   private static
     akka.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_akka_cluster_ddata_PNCounter_fieldAccessorTable;
-  private static akka.protobuf.Descriptors.Descriptor
-    internal_static_akka_cluster_ddata_VersionVector_descriptor;
-  private static
-    akka.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_akka_cluster_ddata_VersionVector_fieldAccessorTable;
-  private static akka.protobuf.Descriptors.Descriptor
-    internal_static_akka_cluster_ddata_VersionVector_Entry_descriptor;
-  private static
-    akka.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_akka_cluster_ddata_VersionVector_Entry_fieldAccessorTable;
   private static akka.protobuf.Descriptors.Descriptor
     internal_static_akka_cluster_ddata_ORMap_descriptor;
   private static
@@ -15380,6 +16458,11 @@ public final class ReplicatedDataMessages {
   private static
     akka.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_akka_cluster_ddata_ORMap_Entry_fieldAccessorTable;
+  private static akka.protobuf.Descriptors.Descriptor
+    internal_static_akka_cluster_ddata_ORMapDelta_descriptor;
+  private static
+    akka.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_akka_cluster_ddata_ORMapDelta_fieldAccessorTable;
   private static akka.protobuf.Descriptors.Descriptor
     internal_static_akka_cluster_ddata_LWWMap_descriptor;
   private static
@@ -15430,49 +16513,54 @@ public final class ReplicatedDataMessages {
       "onVector\022\026\n\016stringElements\030\003 \003(\t\022\027\n\013intE" +
       "lements\030\004 \003(\021B\002\020\001\022\030\n\014longElements\030\005 \003(\022B",
       "\002\020\001\0227\n\rotherElements\030\006 \003(\0132 .akka.cluste" +
-      "r.ddata.OtherMessage\"\027\n\004Flag\022\017\n\007enabled\030" +
-      "\001 \002(\010\"\202\001\n\013LWWRegister\022\021\n\ttimestamp\030\001 \002(\022" +
-      "\022/\n\004node\030\002 \002(\0132!.akka.cluster.ddata.Uniq" +
-      "ueAddress\022/\n\005state\030\003 \002(\0132 .akka.cluster." +
-      "ddata.OtherMessage\"\210\001\n\010GCounter\0223\n\007entri" +
-      "es\030\001 \003(\0132\".akka.cluster.ddata.GCounter.E" +
-      "ntry\032G\n\005Entry\022/\n\004node\030\001 \002(\0132!.akka.clust" +
-      "er.ddata.UniqueAddress\022\r\n\005value\030\002 \002(\014\"o\n" +
-      "\tPNCounter\0220\n\nincrements\030\001 \002(\0132\034.akka.cl",
-      "uster.ddata.GCounter\0220\n\ndecrements\030\002 \002(\013" +
-      "2\034.akka.cluster.ddata.GCounter\"\224\001\n\rVersi" +
-      "onVector\0228\n\007entries\030\001 \003(\0132\'.akka.cluster" +
-      ".ddata.VersionVector.Entry\032I\n\005Entry\022/\n\004n" +
-      "ode\030\001 \002(\0132!.akka.cluster.ddata.UniqueAdd" +
-      "ress\022\017\n\007version\030\002 \002(\003\"\205\002\n\005ORMap\022\'\n\004keys\030" +
-      "\001 \002(\0132\031.akka.cluster.ddata.ORSet\0220\n\007entr" +
-      "ies\030\002 \003(\0132\037.akka.cluster.ddata.ORMap.Ent" +
-      "ry\032\240\001\n\005Entry\022\021\n\tstringKey\030\001 \001(\t\022/\n\005value" +
-      "\030\002 \002(\0132 .akka.cluster.ddata.OtherMessage",
-      "\022\016\n\006intKey\030\003 \001(\021\022\017\n\007longKey\030\004 \001(\022\0222\n\010oth" +
-      "erKey\030\005 \001(\0132 .akka.cluster.ddata.OtherMe" +
-      "ssage\"\206\002\n\006LWWMap\022\'\n\004keys\030\001 \002(\0132\031.akka.cl" +
-      "uster.ddata.ORSet\0221\n\007entries\030\002 \003(\0132 .akk" +
-      "a.cluster.ddata.LWWMap.Entry\032\237\001\n\005Entry\022\021" +
-      "\n\tstringKey\030\001 \001(\t\022.\n\005value\030\002 \002(\0132\037.akka." +
-      "cluster.ddata.LWWRegister\022\016\n\006intKey\030\003 \001(" +
-      "\021\022\017\n\007longKey\030\004 \001(\022\0222\n\010otherKey\030\005 \001(\0132 .a" +
-      "kka.cluster.ddata.OtherMessage\"\220\002\n\014PNCou" +
-      "nterMap\022\'\n\004keys\030\001 \002(\0132\031.akka.cluster.dda",
-      "ta.ORSet\0227\n\007entries\030\002 \003(\0132&.akka.cluster" +
-      ".ddata.PNCounterMap.Entry\032\235\001\n\005Entry\022\021\n\ts" +
-      "tringKey\030\001 \001(\t\022,\n\005value\030\002 \002(\0132\035.akka.clu" +
-      "ster.ddata.PNCounter\022\016\n\006intKey\030\003 \001(\021\022\017\n\007" +
-      "longKey\030\004 \001(\022\0222\n\010otherKey\030\005 \001(\0132 .akka.c" +
-      "luster.ddata.OtherMessage\"\210\002\n\nORMultiMap" +
-      "\022\'\n\004keys\030\001 \002(\0132\031.akka.cluster.ddata.ORSe" +
-      "t\0225\n\007entries\030\002 \003(\0132$.akka.cluster.ddata." +
-      "ORMultiMap.Entry\032\231\001\n\005Entry\022\021\n\tstringKey\030" +
-      "\001 \001(\t\022(\n\005value\030\002 \002(\0132\031.akka.cluster.ddat",
-      "a.ORSet\022\016\n\006intKey\030\003 \001(\021\022\017\n\007longKey\030\004 \001(\022" +
-      "\0222\n\010otherKey\030\005 \001(\0132 .akka.cluster.ddata." +
-      "OtherMessageB#\n\037akka.cluster.ddata.proto" +
-      "buf.msgH\001"
+      "r.ddata.OtherMessage\"\272\001\n\017ORSetDeltaGroup" +
+      "\022:\n\007entries\030\001 \003(\0132).akka.cluster.ddata.O" +
+      "RSetDeltaGroup.Entry\032k\n\005Entry\0223\n\toperati" +
+      "on\030\001 \002(\0162 .akka.cluster.ddata.ORSetDelta" +
+      "Op\022-\n\nunderlying\030\002 \002(\0132\031.akka.cluster.dd" +
+      "ata.ORSet\"\027\n\004Flag\022\017\n\007enabled\030\001 \002(\010\"\202\001\n\013L" +
+      "WWRegister\022\021\n\ttimestamp\030\001 \002(\022\022/\n\004node\030\002 " +
+      "\002(\0132!.akka.cluster.ddata.UniqueAddress\022/" +
+      "\n\005state\030\003 \002(\0132 .akka.cluster.ddata.Other",
+      "Message\"\210\001\n\010GCounter\0223\n\007entries\030\001 \003(\0132\"." +
+      "akka.cluster.ddata.GCounter.Entry\032G\n\005Ent" +
+      "ry\022/\n\004node\030\001 \002(\0132!.akka.cluster.ddata.Un" +
+      "iqueAddress\022\r\n\005value\030\002 \002(\014\"o\n\tPNCounter\022" +
+      "0\n\nincrements\030\001 \002(\0132\034.akka.cluster.ddata" +
+      ".GCounter\0220\n\ndecrements\030\002 \002(\0132\034.akka.clu" +
+      "ster.ddata.GCounter\"\205\002\n\005ORMap\022\'\n\004keys\030\001 " +
+      "\002(\0132\031.akka.cluster.ddata.ORSet\0220\n\007entrie" +
+      "s\030\002 \003(\0132\037.akka.cluster.ddata.ORMap.Entry" +
+      "\032\240\001\n\005Entry\022\021\n\tstringKey\030\001 \001(\t\022/\n\005value\030\002",
+      " \002(\0132 .akka.cluster.ddata.OtherMessage\022\016" +
+      "\n\006intKey\030\003 \001(\021\022\017\n\007longKey\030\004 \001(\022\0222\n\010other" +
+      "Key\030\005 \001(\0132 .akka.cluster.ddata.OtherMess" +
+      "age\"\202\001\n\nORMapDelta\0221\n\004keys\030\001 \002(\0132#.akka." +
+      "cluster.ddata.ORSetDeltaGroup\0220\n\007entries" +
+      "\030\002 \003(\0132\037.akka.cluster.ddata.ORMap.Entry\022" +
+      "\017\n\007zeroTag\030\003 \001(\021\"\206\002\n\006LWWMap\022\'\n\004keys\030\001 \002(" +
+      "\0132\031.akka.cluster.ddata.ORSet\0221\n\007entries\030" +
+      "\002 \003(\0132 .akka.cluster.ddata.LWWMap.Entry\032" +
+      "\237\001\n\005Entry\022\021\n\tstringKey\030\001 \001(\t\022.\n\005value\030\002 ",
+      "\002(\0132\037.akka.cluster.ddata.LWWRegister\022\016\n\006" +
+      "intKey\030\003 \001(\021\022\017\n\007longKey\030\004 \001(\022\0222\n\010otherKe" +
+      "y\030\005 \001(\0132 .akka.cluster.ddata.OtherMessag" +
+      "e\"\220\002\n\014PNCounterMap\022\'\n\004keys\030\001 \002(\0132\031.akka." +
+      "cluster.ddata.ORSet\0227\n\007entries\030\002 \003(\0132&.a" +
+      "kka.cluster.ddata.PNCounterMap.Entry\032\235\001\n" +
+      "\005Entry\022\021\n\tstringKey\030\001 \001(\t\022,\n\005value\030\002 \002(\013" +
+      "2\035.akka.cluster.ddata.PNCounter\022\016\n\006intKe" +
+      "y\030\003 \001(\021\022\017\n\007longKey\030\004 \001(\022\0222\n\010otherKey\030\005 \001" +
+      "(\0132 .akka.cluster.ddata.OtherMessage\"\210\002\n",
+      "\nORMultiMap\022\'\n\004keys\030\001 \002(\0132\031.akka.cluster" +
+      ".ddata.ORSet\0225\n\007entries\030\002 \003(\0132$.akka.clu" +
+      "ster.ddata.ORMultiMap.Entry\032\231\001\n\005Entry\022\021\n" +
+      "\tstringKey\030\001 \001(\t\022(\n\005value\030\002 \002(\0132\031.akka.c" +
+      "luster.ddata.ORSet\022\016\n\006intKey\030\003 \001(\021\022\017\n\007lo" +
+      "ngKey\030\004 \001(\022\0222\n\010otherKey\030\005 \001(\0132 .akka.clu" +
+      "ster.ddata.OtherMessage*-\n\014ORSetDeltaOp\022" +
+      "\007\n\003Add\020\000\022\n\n\006Remove\020\001\022\010\n\004Full\020\002B#\n\037akka.c" +
+      "luster.ddata.protobuf.msgH\001"
     };
     akka.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
       new akka.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
@@ -15491,20 +16579,32 @@ public final class ReplicatedDataMessages {
             akka.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_akka_cluster_ddata_ORSet_descriptor,
               new java.lang.String[] { "Vvector", "Dots", "StringElements", "IntElements", "LongElements", "OtherElements", });
-          internal_static_akka_cluster_ddata_Flag_descriptor =
+          internal_static_akka_cluster_ddata_ORSetDeltaGroup_descriptor =
             getDescriptor().getMessageTypes().get(2);
+          internal_static_akka_cluster_ddata_ORSetDeltaGroup_fieldAccessorTable = new
+            akka.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_akka_cluster_ddata_ORSetDeltaGroup_descriptor,
+              new java.lang.String[] { "Entries", });
+          internal_static_akka_cluster_ddata_ORSetDeltaGroup_Entry_descriptor =
+            internal_static_akka_cluster_ddata_ORSetDeltaGroup_descriptor.getNestedTypes().get(0);
+          internal_static_akka_cluster_ddata_ORSetDeltaGroup_Entry_fieldAccessorTable = new
+            akka.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_akka_cluster_ddata_ORSetDeltaGroup_Entry_descriptor,
+              new java.lang.String[] { "Operation", "Underlying", });
+          internal_static_akka_cluster_ddata_Flag_descriptor =
+            getDescriptor().getMessageTypes().get(3);
           internal_static_akka_cluster_ddata_Flag_fieldAccessorTable = new
             akka.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_akka_cluster_ddata_Flag_descriptor,
               new java.lang.String[] { "Enabled", });
           internal_static_akka_cluster_ddata_LWWRegister_descriptor =
-            getDescriptor().getMessageTypes().get(3);
+            getDescriptor().getMessageTypes().get(4);
           internal_static_akka_cluster_ddata_LWWRegister_fieldAccessorTable = new
             akka.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_akka_cluster_ddata_LWWRegister_descriptor,
               new java.lang.String[] { "Timestamp", "Node", "State", });
           internal_static_akka_cluster_ddata_GCounter_descriptor =
-            getDescriptor().getMessageTypes().get(4);
+            getDescriptor().getMessageTypes().get(5);
           internal_static_akka_cluster_ddata_GCounter_fieldAccessorTable = new
             akka.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_akka_cluster_ddata_GCounter_descriptor,
@@ -15516,23 +16616,11 @@ public final class ReplicatedDataMessages {
               internal_static_akka_cluster_ddata_GCounter_Entry_descriptor,
               new java.lang.String[] { "Node", "Value", });
           internal_static_akka_cluster_ddata_PNCounter_descriptor =
-            getDescriptor().getMessageTypes().get(5);
+            getDescriptor().getMessageTypes().get(6);
           internal_static_akka_cluster_ddata_PNCounter_fieldAccessorTable = new
             akka.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_akka_cluster_ddata_PNCounter_descriptor,
               new java.lang.String[] { "Increments", "Decrements", });
-          internal_static_akka_cluster_ddata_VersionVector_descriptor =
-            getDescriptor().getMessageTypes().get(6);
-          internal_static_akka_cluster_ddata_VersionVector_fieldAccessorTable = new
-            akka.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_akka_cluster_ddata_VersionVector_descriptor,
-              new java.lang.String[] { "Entries", });
-          internal_static_akka_cluster_ddata_VersionVector_Entry_descriptor =
-            internal_static_akka_cluster_ddata_VersionVector_descriptor.getNestedTypes().get(0);
-          internal_static_akka_cluster_ddata_VersionVector_Entry_fieldAccessorTable = new
-            akka.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_akka_cluster_ddata_VersionVector_Entry_descriptor,
-              new java.lang.String[] { "Node", "Version", });
           internal_static_akka_cluster_ddata_ORMap_descriptor =
             getDescriptor().getMessageTypes().get(7);
           internal_static_akka_cluster_ddata_ORMap_fieldAccessorTable = new
@@ -15545,8 +16633,14 @@ public final class ReplicatedDataMessages {
             akka.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_akka_cluster_ddata_ORMap_Entry_descriptor,
               new java.lang.String[] { "StringKey", "Value", "IntKey", "LongKey", "OtherKey", });
-          internal_static_akka_cluster_ddata_LWWMap_descriptor =
+          internal_static_akka_cluster_ddata_ORMapDelta_descriptor =
             getDescriptor().getMessageTypes().get(8);
+          internal_static_akka_cluster_ddata_ORMapDelta_fieldAccessorTable = new
+            akka.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_akka_cluster_ddata_ORMapDelta_descriptor,
+              new java.lang.String[] { "Keys", "Entries", "ZeroTag", });
+          internal_static_akka_cluster_ddata_LWWMap_descriptor =
+            getDescriptor().getMessageTypes().get(9);
           internal_static_akka_cluster_ddata_LWWMap_fieldAccessorTable = new
             akka.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_akka_cluster_ddata_LWWMap_descriptor,
@@ -15558,7 +16652,7 @@ public final class ReplicatedDataMessages {
               internal_static_akka_cluster_ddata_LWWMap_Entry_descriptor,
               new java.lang.String[] { "StringKey", "Value", "IntKey", "LongKey", "OtherKey", });
           internal_static_akka_cluster_ddata_PNCounterMap_descriptor =
-            getDescriptor().getMessageTypes().get(9);
+            getDescriptor().getMessageTypes().get(10);
           internal_static_akka_cluster_ddata_PNCounterMap_fieldAccessorTable = new
             akka.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_akka_cluster_ddata_PNCounterMap_descriptor,
@@ -15570,7 +16664,7 @@ public final class ReplicatedDataMessages {
               internal_static_akka_cluster_ddata_PNCounterMap_Entry_descriptor,
               new java.lang.String[] { "StringKey", "Value", "IntKey", "LongKey", "OtherKey", });
           internal_static_akka_cluster_ddata_ORMultiMap_descriptor =
-            getDescriptor().getMessageTypes().get(10);
+            getDescriptor().getMessageTypes().get(11);
           internal_static_akka_cluster_ddata_ORMultiMap_fieldAccessorTable = new
             akka.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_akka_cluster_ddata_ORMultiMap_descriptor,
@@ -39,12 +39,15 @@ object GCounter {
  */
 @SerialVersionUID(1L)
 final class GCounter private[akka] (
-  private[akka] val state: Map[UniqueAddress, BigInt] = Map.empty)
-  extends ReplicatedData with ReplicatedDataSerialization with RemovedNodePruning with FastMerge {
+  private[akka] val state: Map[UniqueAddress, BigInt] = Map.empty,
+  override val delta:      Option[GCounter]           = None)
+  extends DeltaReplicatedData with ReplicatedDelta
+  with ReplicatedDataSerialization with RemovedNodePruning with FastMerge {
 
   import GCounter.Zero
 
   type T = GCounter
+  type D = GCounter
 
   /**
    * Scala API: Current total value of the counter.
@@ -77,14 +80,19 @@ final class GCounter private[akka] (
   /**
    * INTERNAL API
    */
-  private[akka] def increment(key: UniqueAddress, delta: BigInt): GCounter = {
-    require(delta >= 0, "Can't decrement a GCounter")
-    if (delta == 0) this
-    else state.get(key) match {
-      case Some(v) ⇒
-        val tot = v + delta
-        assignAncestor(new GCounter(state + (key → tot)))
-      case None ⇒ assignAncestor(new GCounter(state + (key → delta)))
+  private[akka] def increment(key: UniqueAddress, n: BigInt): GCounter = {
+    require(n >= 0, "Can't decrement a GCounter")
+    if (n == 0) this
+    else {
+      val nextValue = state.get(key) match {
+        case Some(v) ⇒ v + n
+        case None    ⇒ n
+      }
+      val newDelta = delta match {
+        case None    ⇒ new GCounter(Map(key → nextValue))
+        case Some(d) ⇒ new GCounter(d.state + (key → nextValue))
+      }
+      assignAncestor(new GCounter(state + (key → nextValue), Some(newDelta)))
     }
   }
 
@@ -102,13 +110,23 @@ final class GCounter private[akka] (
       new GCounter(merged)
     }
 
+  override def mergeDelta(thatDelta: GCounter): GCounter = merge(thatDelta)
+
+  override def zero: GCounter = GCounter.empty
+
+  override def resetDelta: GCounter =
+    if (delta.isEmpty) this
+    else assignAncestor(new GCounter(state))
+
   override def needPruningFrom(removedNode: UniqueAddress): Boolean =
     state.contains(removedNode)
 
   override def prune(removedNode: UniqueAddress, collapseInto: UniqueAddress): GCounter =
     state.get(removedNode) match {
-      case Some(value) ⇒ new GCounter(state - removedNode).increment(collapseInto, value)
-      case None        ⇒ this
+      case Some(value) ⇒
+        // the increment is not a delta of an update
+        new GCounter(new GCounter(state - removedNode).increment(collapseInto, value).state)
+      case None ⇒ this
     }
 
   override def pruningCleanup(removedNode: UniqueAddress): GCounter =
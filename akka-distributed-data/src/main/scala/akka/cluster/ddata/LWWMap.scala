@@ -7,7 +7,15 @@ import akka.cluster.Cluster
 import akka.cluster.UniqueAddress
 
 object LWWMap {
-  private val _empty: LWWMap[Any, Any] = new LWWMap(ORMap.empty)
+  /**
+   * INTERNAL API
+   */
+  private[akka] case object LWWMapTag extends ORMap.ZeroTag {
+    override def zero: DeltaReplicatedData = LWWMap.empty
+    override final val value: Int = 1
+  }
+
+  private val _empty: LWWMap[Any, Any] = new LWWMap(new ORMap(ORSet.empty, Map.empty, zeroTag = LWWMapTag))
   def empty[A, B]: LWWMap[A, B] = _empty.asInstanceOf[LWWMap[A, B]]
   def apply(): LWWMap[Any, Any] = _empty
   /**
@@ -46,10 +54,11 @@ object LWWMap {
 @SerialVersionUID(1L)
 final class LWWMap[A, B] private[akka] (
   private[akka] val underlying: ORMap[A, LWWRegister[B]])
-  extends ReplicatedData with ReplicatedDataSerialization with RemovedNodePruning {
+  extends DeltaReplicatedData with ReplicatedDataSerialization with RemovedNodePruning {
   import LWWRegister.{ Clock, defaultClock }
 
   type T = LWWMap[A, B]
+  type D = ORMap.DeltaOp
 
   /**
    * Scala API: All entries of the map.
@@ -143,6 +152,15 @@ final class LWWMap[A, B] private[akka] (
   override def merge(that: LWWMap[A, B]): LWWMap[A, B] =
     new LWWMap(underlying.merge(that.underlying))
 
+  override def delta: Option[ORMap.DeltaOp] = underlying.delta
+
+  override def mergeDelta(thatDelta: ORMap.DeltaOp): LWWMap[A, B] =
+    new LWWMap(underlying.mergeDelta(thatDelta))
+
+  override def resetDelta: LWWMap[A, B] =
+    if (underlying.delta.isEmpty) this
+    else new LWWMap(underlying.resetDelta)
+
   override def needPruningFrom(removedNode: UniqueAddress): Boolean =
     underlying.needPruningFrom(removedNode)
 
@@ -8,7 +8,7 @@ import akka.cluster.UniqueAddress
 import akka.util.HashCode
 
 object ORMap {
-  private val _empty: ORMap[Any, ReplicatedData] = new ORMap(ORSet.empty, Map.empty)
+  private val _empty: ORMap[Any, ReplicatedData] = new ORMap(ORSet.empty, Map.empty, VanillaORMapTag)
   def empty[A, B <: ReplicatedData]: ORMap[A, B] = _empty.asInstanceOf[ORMap[A, B]]
   def apply(): ORMap[Any, ReplicatedData] = _empty
   /**
@@ -21,6 +21,46 @@ object ORMap {
    */
   def unapply[A, B <: ReplicatedData](m: ORMap[A, B]): Option[Map[A, B]] = Some(m.entries)
 
+  /**
+   * INTERNAL API
+   *
+   * Identifies the type that is wrapping the `ORMap`, so that the right `zero` is
+   * used when a delta is received and there is no existing value.
+   */
+  private[akka] trait ZeroTag {
+    def zero: DeltaReplicatedData
+    def value: Int
+  }
+
+  /**
+   * INTERNAL API
+   */
+  private[akka] case object VanillaORMapTag extends ZeroTag {
+    override def zero: DeltaReplicatedData = ORMap.empty
+    override final val value: Int = 0
+  }
+
+  /**
+   * INTERNAL API
+   *
+   * The delta of the keys and the full value of the entries that were
+   * added or updated. The values are merged with the existing values on the
+   * receiving side, in the same way as for the full state merge.
+   */
+  private[akka] final case class DeltaOp(
+    keysDelta: ORSet.DeltaOp,
+    values:    Map[Any, ReplicatedData],
+    zeroTag:   ZeroTag)
+    extends ReplicatedDelta with RequiresCausalDeliveryOfDeltas with ReplicatedDataSerialization {
+
+    type T = DeltaOp
+
+    override def merge(that: DeltaOp): DeltaOp =
+      DeltaOp(keysDelta.merge(that.keysDelta), values ++ that.values, zeroTag)
+
+    override def zero: DeltaReplicatedData = zeroTag.zero
+  }
+
 }
 
 /**
@@ -33,11 +73,14 @@ object ORMap {
  */
 @SerialVersionUID(1L)
 final class ORMap[A, B <: ReplicatedData] private[akka] (
-  private[akka] val keys:   ORSet[A],
-  private[akka] val values: Map[A, B])
-  extends ReplicatedData with ReplicatedDataSerialization with RemovedNodePruning {
+  private[akka] val keys:    ORSet[A],
+  private[akka] val values:  Map[A, B],
+  private[akka] val zeroTag: ORMap.ZeroTag,
+  override val delta:        Option[ORMap.DeltaOp] = None)
+  extends DeltaReplicatedData with ReplicatedDataSerialization with RemovedNodePruning {
 
   type T = ORMap[A, B]
+  type D = ORMap.DeltaOp
 
   /**
    * Scala API: All entries of the map.
@@ -100,7 +143,7 @@ final class ORMap[A, B <: ReplicatedData] private[akka] (
           "value, because important history can be lost when replacing the `ORSet` and " +
           "undesired effects of merging will occur. Use `ORMultiMap` or `ORMap.updated` instead.")
     else
-      new ORMap(keys.add(node, key), values.updated(key, value))
+      updatedEntry(node, key, value)
 
   /**
    * Scala API: Replace a value by applying the `modify` function on the existing value.
@@ -128,7 +171,21 @@ final class ORMap[A, B <: ReplicatedData] private[akka] (
       case Some(old) ⇒ modify(old)
       case _         ⇒ modify(initial)
     }
-    new ORMap(keys.add(node, key), values.updated(key, newValue))
+    updatedEntry(node, key, newValue)
+  }
+
+  private def updatedEntry(node: UniqueAddress, key: A, value: B): ORMap[A, B] = {
+    // the keys never carry a delta of their own, it is collected in the delta of the map
+    val newKeys = keys.add(node, key)
+    val newValue = value match {
+      case d: DeltaReplicatedData ⇒ d.resetDelta.asInstanceOf[B]
+      case _                      ⇒ value
+    }
+    val newDelta = delta match {
+      case None    ⇒ ORMap.DeltaOp(newKeys.delta.get, Map(key → newValue), zeroTag)
+      case Some(d) ⇒ ORMap.DeltaOp(d.keysDelta.merge(newKeys.delta.get), d.values.updated(key, newValue), zeroTag)
+    }
+    new ORMap(newKeys.resetDelta, values.updated(key, newValue), zeroTag, Some(newDelta))
   }
 
   /**
@@ -149,7 +206,12 @@ final class ORMap[A, B <: ReplicatedData] private[akka] (
    * INTERNAL API
    */
   private[akka] def remove(node: UniqueAddress, key: A): ORMap[A, B] = {
-    new ORMap(keys.remove(node, key), values - key)
+    val newKeys = keys.remove(node, key)
+    val newDelta = delta match {
+      case None    ⇒ ORMap.DeltaOp(newKeys.delta.get, Map.empty, zeroTag)
+      case Some(d) ⇒ ORMap.DeltaOp(d.keysDelta.merge(newKeys.delta.get), d.values - key, zeroTag)
+    }
+    new ORMap(newKeys.resetDelta, values - key, zeroTag, Some(newDelta))
   }
 
   override def merge(that: ORMap[A, B]): ORMap[A, B] = {
@@ -158,14 +220,7 @@ final class ORMap[A, B <: ReplicatedData] private[akka] (
     mergedKeys.elementsMap.keysIterator.foreach { key ⇒
       (this.values.get(key), that.values.get(key)) match {
         case (Some(thisValue), Some(thatValue)) ⇒
-          if (thisValue.getClass != thatValue.getClass) {
-            val errMsg = s"Wrong type for merging [$key] in [${getClass.getName}], existing type " +
-              s"[${thisValue.getClass.getName}], got [${thatValue.getClass.getName}]"
-            throw new IllegalArgumentException(errMsg)
-          }
-          // TODO can we get rid of these (safe) casts?
-          val mergedValue = thisValue.merge(thatValue.asInstanceOf[thisValue.T]).asInstanceOf[B]
-          mergedValues = mergedValues.updated(key, mergedValue)
+          mergedValues = mergedValues.updated(key, mergeValue(key, thisValue, thatValue))
         case (Some(thisValue), None) ⇒
           mergedValues = mergedValues.updated(key, thisValue)
         case (None, Some(thatValue)) ⇒
@@ -174,9 +229,53 @@ final class ORMap[A, B <: ReplicatedData] private[akka] (
       }
     }
 
-    new ORMap(mergedKeys, mergedValues)
+    new ORMap(mergedKeys, mergedValues, zeroTag)
+  }
+
+  private def mergeValue(key: A, thisValue: B, thatValue: B): B = {
+    if (thisValue.getClass != thatValue.getClass) {
+      val errMsg = s"Wrong type for merging [$key] in [${getClass.getName}], existing type " +
+        s"[${thisValue.getClass.getName}], got [${thatValue.getClass.getName}]"
+      throw new IllegalArgumentException(errMsg)
+    }
+    // TODO can we get rid of these (safe) casts?
+    thisValue.merge(thatValue.asInstanceOf[thisValue.T]).asInstanceOf[B]
   }
 
+  override def mergeDelta(thatDelta: ORMap.DeltaOp): ORMap[A, B] = {
+    val mergedKeys = keys.mergeDelta(thatDelta.keysDelta)
+    var mergedValues = values
+
+    thatDelta.values.foreach {
+      case (k, thatValue) ⇒
+        val key = k.asInstanceOf[A]
+        if (mergedKeys.contains(key)) {
+          val newValue = values.get(key) match {
+            case Some(thisValue) ⇒ mergeValue(key, thisValue, thatValue.asInstanceOf[B])
+            case None            ⇒ thatValue.asInstanceOf[B]
+          }
+          mergedValues = mergedValues.updated(key, newValue)
+        }
+    }
+
+    // only the keys that are part of the delta may have been removed
+    def touchedKeys(op: ORSet.DeltaOp): Iterator[A] = op match {
+      case _: ORSet.FullStateDeltaOp[_]          ⇒ values.keysIterator
+      case a: ORSet.AtomicDeltaOp[A] @unchecked ⇒ a.underlying.elementsMap.keysIterator
+      case ORSet.DeltaGroup(ops)                 ⇒ ops.iterator.flatMap(touchedKeys)
+    }
+    touchedKeys(thatDelta.keysDelta).foreach { key ⇒
+      if (!mergedKeys.contains(key))
+        mergedValues -= key
+    }
+
+    new ORMap(mergedKeys, mergedValues, zeroTag)
+  }
+
+  override def resetDelta: ORMap[A, B] =
+    if (delta.isEmpty) this
+    else new ORMap(keys, values, zeroTag)
+
   override def needPruningFrom(removedNode: UniqueAddress): Boolean = {
     keys.needPruningFrom(removedNode) || values.exists {
       case (_, data: RemovedNodePruning) ⇒ data.needPruningFrom(removedNode)
@@ -191,7 +290,7 @@ final class ORMap[A, B <: ReplicatedData] private[akka] (
         acc.updated(key, data.prune(removedNode, collapseInto).asInstanceOf[B])
       case (acc, _) ⇒ acc
     }
-    new ORMap(prunedKeys, prunedValues)
+    new ORMap(prunedKeys, prunedValues, zeroTag)
   }
 
   override def pruningCleanup(removedNode: UniqueAddress): ORMap[A, B] = {
@@ -201,7 +300,7 @@ final class ORMap[A, B <: ReplicatedData] private[akka] (
         acc.updated(key, data.pruningCleanup(removedNode).asInstanceOf[B])
       case (acc, _) ⇒ acc
     }
-    new ORMap(pruningCleanupedKeys, pruningCleanupedValues)
+    new ORMap(pruningCleanupedKeys, pruningCleanupedValues, zeroTag)
   }
 
   // this class cannot be a `case class` because we need different `unapply`
@@ -4,6 +4,7 @@
 package akka.cluster.ddata
 
 import scala.annotation.tailrec
+import scala.collection.immutable
 
 import akka.cluster.Cluster
 import akka.cluster.UniqueAddress
@@ -36,6 +37,82 @@ object ORSet {
    */
   private[akka]type Dot = VersionVector
 
+  /**
+   * INTERNAL API
+   */
+  private[akka] sealed trait DeltaOp extends ReplicatedDelta with RequiresCausalDeliveryOfDeltas
+    with ReplicatedDataSerialization {
+    type T = DeltaOp
+  }
+
+  /**
+   * INTERNAL API
+   */
+  private[akka] sealed abstract class AtomicDeltaOp[A] extends DeltaOp {
+    def underlying: ORSet[A]
+    override def zero: ORSet[A] = ORSet.empty
+  }
+
+  /**
+   * INTERNAL API: Added elements with their dots.
+   */
+  private[akka] final case class AddDeltaOp[A](underlying: ORSet[A]) extends AtomicDeltaOp[A] {
+
+    override def merge(that: DeltaOp): DeltaOp = that match {
+      case AddDeltaOp(u) ⇒
+        // Note that we only merge deltas originating from the same node
+        AddDeltaOp(new ORSet(
+          underlying.elementsMap ++ u.elementsMap.asInstanceOf[Map[A, Dot]],
+          underlying.vvector.merge(u.vvector)))
+      case _: AtomicDeltaOp[_] ⇒ DeltaGroup(Vector(this, that))
+      case DeltaGroup(ops)     ⇒ DeltaGroup(this +: ops)
+    }
+  }
+
+  /**
+   * INTERNAL API: One removed element. The dot of the element is the
+   * dot of the removing node and the version vector is the full version
+   * vector of the removing node, which is used for deciding which adds
+   * that were observed by the removal.
+   */
+  private[akka] final case class RemoveDeltaOp[A](underlying: ORSet[A]) extends AtomicDeltaOp[A] {
+    if (underlying.size != 1)
+      throw new IllegalArgumentException(s"RemoveDeltaOp should contain one removed element, but was $underlying")
+
+    override def merge(that: DeltaOp): DeltaOp = that match {
+      case _: AtomicDeltaOp[_] ⇒ DeltaGroup(Vector(this, that))
+      case DeltaGroup(ops)     ⇒ DeltaGroup(this +: ops)
+    }
+  }
+
+  /**
+   * INTERNAL API: Used for `clear` but could be used for other cases also
+   */
+  private[akka] final case class FullStateDeltaOp[A](underlying: ORSet[A]) extends AtomicDeltaOp[A] {
+    override def merge(that: DeltaOp): DeltaOp = that match {
+      case _: AtomicDeltaOp[_] ⇒ DeltaGroup(Vector(this, that))
+      case DeltaGroup(ops)     ⇒ DeltaGroup(this +: ops)
+    }
+  }
+
+  /**
+   * INTERNAL API: Sequence of operations that are applied in order.
+   */
+  private[akka] final case class DeltaGroup[A](ops: immutable.IndexedSeq[DeltaOp]) extends DeltaOp {
+    override def merge(that: DeltaOp): DeltaOp = that match {
+      case thatAdd: AddDeltaOp[_] ⇒
+        // merge AddDeltaOp into last AddDeltaOp in the group, if possible
+        ops.last match {
+          case thisAdd: AddDeltaOp[_] ⇒ DeltaGroup(ops.dropRight(1) :+ thisAdd.merge(thatAdd))
+          case _                      ⇒ DeltaGroup(ops :+ thatAdd)
+        }
+      case DeltaGroup(thatOps) ⇒ DeltaGroup(ops ++ thatOps)
+      case _                   ⇒ DeltaGroup(ops :+ that)
+    }
+
+    override def zero: ORSet[A] = ORSet.empty
+  }
+
   /**
    * INTERNAL API
    * Subtract the `vvector` from the `dot`.
@@ -201,10 +278,12 @@ object ORSet {
 @SerialVersionUID(1L)
 final class ORSet[A] private[akka] (
   private[akka] val elementsMap: Map[A, ORSet.Dot],
-  private[akka] val vvector:     VersionVector)
-  extends ReplicatedData with ReplicatedDataSerialization with RemovedNodePruning with FastMerge {
+  private[akka] val vvector:     VersionVector,
+  override val delta:            Option[ORSet.DeltaOp] = None)
+  extends DeltaReplicatedData with ReplicatedDataSerialization with RemovedNodePruning with FastMerge {
 
   type T = ORSet[A]
+  type D = ORSet.DeltaOp
 
   /**
    * Scala API
@@ -241,7 +320,12 @@ final class ORSet[A] private[akka] (
   private[akka] def add(node: UniqueAddress, element: A): ORSet[A] = {
     val newVvector = vvector + node
     val newDot = VersionVector(node, newVvector.versionAt(node))
-    assignAncestor(new ORSet(elementsMap = elementsMap.updated(element, newDot), vvector = newVvector))
+    val addOp = ORSet.AddDeltaOp(new ORSet(Map(element → newDot), newDot))
+    val newDelta = delta match {
+      case None    ⇒ addOp
+      case Some(d) ⇒ d.merge(addOp)
+    }
+    assignAncestor(new ORSet(elementsMap.updated(element, newDot), newVvector, Some(newDelta)))
   }
 
   /**
@@ -257,8 +341,15 @@ final class ORSet[A] private[akka] (
   /**
    * INTERNAL API
    */
-  private[akka] def remove(node: UniqueAddress, element: A): ORSet[A] =
-    assignAncestor(copy(elementsMap = elementsMap - element))
+  private[akka] def remove(node: UniqueAddress, element: A): ORSet[A] = {
+    val deltaDot = VersionVector(node, vvector.versionAt(node))
+    val removeOp = ORSet.RemoveDeltaOp(new ORSet(Map(element → deltaDot), vvector))
+    val newDelta = delta match {
+      case None    ⇒ removeOp
+      case Some(d) ⇒ d.merge(removeOp)
+    }
+    assignAncestor(new ORSet(elementsMap - element, vvector, Some(newDelta)))
+  }
 
   /**
    * Removes all elements from the set, but keeps the history.
@@ -270,8 +361,15 @@ final class ORSet[A] private[akka] (
   /**
    * INTERNAL API
    */
-  private[akka] def clear(node: UniqueAddress): ORSet[A] =
-    assignAncestor(copy(elementsMap = Map.empty))
+  private[akka] def clear(node: UniqueAddress): ORSet[A] = {
+    val newFullState = new ORSet[A](elementsMap = Map.empty, vvector)
+    val clearOp = ORSet.FullStateDeltaOp(newFullState)
+    val newDelta = delta match {
+      case None    ⇒ clearOp
+      case Some(d) ⇒ d.merge(clearOp)
+    }
+    assignAncestor(new ORSet(Map.empty, vvector, Some(newDelta)))
+  }
 
   /**
    * When element is in this Set but not in that Set:
@@ -289,24 +387,72 @@ final class ORSet[A] private[akka] (
   override def merge(that: ORSet[A]): ORSet[A] = {
     if ((this eq that) || that.isAncestorOf(this)) this.clearAncestor()
     else if (this.isAncestorOf(that)) that.clearAncestor()
-    else {
-      val commonKeys =
-        if (this.elementsMap.size < that.elementsMap.size)
-          this.elementsMap.keysIterator.filter(that.elementsMap.contains)
-        else
-          that.elementsMap.keysIterator.filter(this.elementsMap.contains)
-      val entries00 = ORSet.mergeCommonKeys(commonKeys, this, that)
-      val thisUniqueKeys = this.elementsMap.keysIterator.filterNot(that.elementsMap.contains)
-      val entries0 = ORSet.mergeDisjointKeys(thisUniqueKeys, this.elementsMap, that.vvector, entries00)
-      val thatUniqueKeys = that.elementsMap.keysIterator.filterNot(this.elementsMap.contains)
-      val entries = ORSet.mergeDisjointKeys(thatUniqueKeys, that.elementsMap, this.vvector, entries0)
-      val mergedVvector = this.vvector.merge(that.vvector)
-
-      clearAncestor()
-      new ORSet(entries, mergedVvector)
+    else dryMerge(that, addDeltaOp = false)
+  }
+
+  /**
+   * Shared implementation of full state merge and merge of [[ORSet.AddDeltaOp]].
+   * The version vector of an `AddDeltaOp` only covers the added elements and must
+   * therefore not be used for dropping the elements that only exist in this set.
+   */
+  private def dryMerge(that: ORSet[A], addDeltaOp: Boolean): ORSet[A] = {
+    val commonKeys =
+      if (this.elementsMap.size < that.elementsMap.size)
+        this.elementsMap.keysIterator.filter(that.elementsMap.contains)
+      else
+        that.elementsMap.keysIterator.filter(this.elementsMap.contains)
+    val entries00 = ORSet.mergeCommonKeys(commonKeys, this, that)
+    val entries0 =
+      if (addDeltaOp)
+        entries00 ++ this.elementsMap.filter { case (elem, _) ⇒ !that.elementsMap.contains(elem) }
+      else {
+        val thisUniqueKeys = this.elementsMap.keysIterator.filterNot(that.elementsMap.contains)
+        ORSet.mergeDisjointKeys(thisUniqueKeys, this.elementsMap, that.vvector, entries00)
+      }
+    val thatUniqueKeys = that.elementsMap.keysIterator.filterNot(this.elementsMap.contains)
+    val entries = ORSet.mergeDisjointKeys(thatUniqueKeys, that.elementsMap, this.vvector, entries0)
+    val mergedVvector = this.vvector.merge(that.vvector)
+
+    clearAncestor()
+    new ORSet(entries, mergedVvector)
+  }
+
+  override def mergeDelta(thatDelta: ORSet.DeltaOp): ORSet[A] = {
+    thatDelta match {
+      case d: ORSet.AddDeltaOp[A] @unchecked       ⇒ dryMerge(d.underlying, addDeltaOp = true)
+      case d: ORSet.RemoveDeltaOp[A] @unchecked    ⇒ mergeRemoveDelta(d)
+      case d: ORSet.FullStateDeltaOp[A] @unchecked ⇒ dryMerge(d.underlying, addDeltaOp = false)
+      case ORSet.DeltaGroup(ops) ⇒
+        ops.foldLeft(this) {
+          case (acc, op: ORSet.AddDeltaOp[A] @unchecked)       ⇒ acc.dryMerge(op.underlying, addDeltaOp = true)
+          case (acc, op: ORSet.RemoveDeltaOp[A] @unchecked)    ⇒ acc.mergeRemoveDelta(op)
+          case (acc, op: ORSet.FullStateDeltaOp[A] @unchecked) ⇒ acc.dryMerge(op.underlying, addDeltaOp = false)
+          case (_, _: ORSet.DeltaGroup[_]) ⇒
+            throw new IllegalArgumentException("ORSet.DeltaGroup should not be nested")
+        }
     }
   }
 
+  /**
+   * The element is removed if its dots are dominated by the version vector of the
+   * removing node, i.e. the removing node had observed all adds of the element.
+   * A concurrent add that was not observed by the removing node wins.
+   */
+  private def mergeRemoveDelta(thatDelta: ORSet.RemoveDeltaOp[A]): ORSet[A] = {
+    val that = thatDelta.underlying
+    val (elem, thatDot) = that.elementsMap.head
+    val newElementsMap = elementsMap.get(elem) match {
+      case Some(thisDot) if that.vvector > thisDot || that.vvector == thisDot ⇒ elementsMap - elem
+      case _ ⇒ elementsMap
+    }
+    clearAncestor()
+    new ORSet(newElementsMap, vvector.merge(thatDot))
+  }
+
+  override def resetDelta: ORSet[A] =
+    if (delta.isEmpty) this
+    else assignAncestor(new ORSet(elementsMap, vvector))
+
   override def needPruningFrom(removedNode: UniqueAddress): Boolean =
     vvector.needPruningFrom(removedNode)
 
@@ -321,9 +467,11 @@ final class ORSet[A] private[akka] (
     else {
       // re-add elements that were pruned, to bump dots to right vvector
       val newSet = new ORSet(elementsMap = elementsMap ++ pruned, vvector = vvector.prune(removedNode, collapseInto))
-      pruned.keys.foldLeft(newSet) {
+      val prunedSet = pruned.keys.foldLeft(newSet) {
         case (s, elem) ⇒ s.add(collapseInto, elem)
       }
+      // the adds are not a delta of an update
+      new ORSet(prunedSet.elementsMap, prunedSet.vvector)
     }
   }
 
@@ -39,9 +39,10 @@ object PNCounter {
 @SerialVersionUID(1L)
 final class PNCounter private[akka] (
   private[akka] val increments: GCounter, private[akka] val decrements: GCounter)
-  extends ReplicatedData with ReplicatedDataSerialization with RemovedNodePruning {
+  extends DeltaReplicatedData with ReplicatedDelta with ReplicatedDataSerialization with RemovedNodePruning {
 
   type T = PNCounter
+  type D = PNCounter
 
   /**
    * Scala API: Current total value of the counter.
@@ -94,6 +95,20 @@ final class PNCounter private[akka] (
       increments = that.increments.merge(this.increments),
       decrements = that.decrements.merge(this.decrements))
 
+  override def delta: Option[PNCounter] =
+    if (increments.delta.isEmpty && decrements.delta.isEmpty) None
+    else Some(new PNCounter(
+      increments.delta.getOrElse(GCounter.empty),
+      decrements.delta.getOrElse(GCounter.empty)))
+
+  override def mergeDelta(thatDelta: PNCounter): PNCounter = merge(thatDelta)
+
+  override def zero: PNCounter = PNCounter.empty
+
+  override def resetDelta: PNCounter =
+    if (increments.delta.isEmpty && decrements.delta.isEmpty) this
+    else new PNCounter(increments.resetDelta, decrements.resetDelta)
+
   override def needPruningFrom(removedNode: UniqueAddress): Boolean =
     increments.needPruningFrom(removedNode) || decrements.needPruningFrom(removedNode)
 
@@ -8,7 +8,15 @@ import akka.cluster.UniqueAddress
 import java.math.BigInteger
 
 object PNCounterMap {
-  def empty[A]: PNCounterMap[A] = new PNCounterMap(ORMap.empty)
+  /**
+   * INTERNAL API
+   */
+  private[akka] case object PNCounterMapTag extends ORMap.ZeroTag {
+    override def zero: DeltaReplicatedData = PNCounterMap.empty
+    override final val value: Int = 2
+  }
+
+  def empty[A]: PNCounterMap[A] = new PNCounterMap(new ORMap(ORSet.empty, Map.empty, zeroTag = PNCounterMapTag))
   def apply[A](): PNCounterMap[A] = empty
   /**
    * Java API
@@ -29,9 +37,10 @@ object PNCounterMap {
 @SerialVersionUID(1L)
 final class PNCounterMap[A] private[akka] (
   private[akka] val underlying: ORMap[A, PNCounter])
-  extends ReplicatedData with ReplicatedDataSerialization with RemovedNodePruning {
+  extends DeltaReplicatedData with ReplicatedDataSerialization with RemovedNodePruning {
 
   type T = PNCounterMap[A]
+  type D = ORMap.DeltaOp
 
   /** Scala API */
   def entries: Map[A, BigInt] = underlying.entries.map { case (k, c) ⇒ k → c.value }
@@ -123,6 +132,15 @@ final class PNCounterMap[A] private[akka] (
   override def merge(that: PNCounterMap[A]): PNCounterMap[A] =
     new PNCounterMap(underlying.merge(that.underlying))
 
+  override def delta: Option[ORMap.DeltaOp] = underlying.delta
+
+  override def mergeDelta(thatDelta: ORMap.DeltaOp): PNCounterMap[A] =
+    new PNCounterMap(underlying.mergeDelta(thatDelta))
+
+  override def resetDelta: PNCounterMap[A] =
+    if (underlying.delta.isEmpty) this
+    else new PNCounterMap(underlying.resetDelta)
+
   override def needPruningFrom(removedNode: UniqueAddress): Boolean =
     underlying.needPruningFrom(removedNode)
 
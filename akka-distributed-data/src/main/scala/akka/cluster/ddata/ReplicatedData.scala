@@ -37,6 +37,78 @@ trait ReplicatedData {
 
 }
 
+/**
+ * [[ReplicatedData]] with additional support for delta-CRDT replication.
+ * delta-CRDT is a way to reduce the need for sending the full state
+ * for updates. For example adding element 'c' and 'd' to set {'a', 'b'} would
+ * result in sending the delta {'c', 'd'} and merge that with the state on the
+ * receiving side, resulting in set {'a', 'b', 'c', 'd'}.
+ *
+ * Learn more about this in the paper
+ * <a href="http://arxiv.org/abs/1603.01529">Delta State Replicated Data Types</a>.
+ */
+trait DeltaReplicatedData extends ReplicatedData {
+
+  /**
+   * The type of the delta. To be specified by subclass.
+   * It may be the same type as `T` or a different type if needed.
+   * For example `GCounter` uses the same type and `ORSet` uses different types.
+   */
+  type D <: ReplicatedDelta
+
+  /**
+   * The accumulated delta of mutator operations since previous
+   * [[#resetDelta]]. When the `Replicator` invokes the `modify` function
+   * of the `Update` message and the user code is invoking one or more mutator
+   * operations the data is collecting the delta of the operations and makes
+   * it available for the `Replicator` with the [[#delta]] accessor. The
+   * `modify` function shall still return the full state in the same way as
+   * `ReplicatedData` without support for deltas.
+   */
+  def delta: Option[D]
+
+  /**
+   * When delta is merged into the full state this method is used.
+   * When the type `D` of the delta is of the same type as the full state `T`
+   * this method can be implemented by delegating to `merge`.
+   */
+  def mergeDelta(thatDelta: D): T
+
+  /**
+   * Reset collection of deltas from mutator operations. When the `Replicator`
+   * invokes the `modify` function of the `Update` message the delta is always
+   * "reset" and when the user code is invoking one or more mutator operations the
+   * data is collecting the delta of the operations and makes it available for
+   * the `Replicator` with the [[#delta]] accessor. When the `Replicator` has
+   * grabbed the `delta` it will invoke this method to get a clean data instance
+   * without the delta.
+   */
+  def resetDelta: T
+
+}
+
+/**
+ * The delta must implement this type.
+ */
+trait ReplicatedDelta extends ReplicatedData {
+  /**
+   * The empty full state. This is used when a delta is received
+   * and no existing full state exists on the receiving side. Then
+   * the delta is merged into the `zero` to create the initial full state.
+   */
+  def zero: DeltaReplicatedData
+}
+
+/**
+ * Marker that specifies that the deltas must be applied in causal order.
+ * There is some overhead of managing the causal delivery so it should only
+ * be used for types that need it.
+ *
+ * Note that if the full state type `T` is different from the delta type `D`
+ * it is the delta `D` that should be marked with this.
+ */
+trait RequiresCausalDeliveryOfDeltas extends ReplicatedDelta
+
 /**
  * Java API: Interface for implementing a [[ReplicatedData]] in Java.
  *
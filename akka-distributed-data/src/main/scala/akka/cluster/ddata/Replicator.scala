@@ -15,12 +15,14 @@ import scala.util.Failure
 import scala.util.Success
 import scala.util.Try
 import scala.util.control.NoStackTrace
+import scala.util.control.NonFatal
 import akka.actor.Actor
 import akka.actor.ActorLogging
 import akka.actor.ActorRef
 import akka.actor.ActorSelection
 import akka.actor.ActorSystem
 import akka.actor.Address
+import akka.actor.Cancellable
 import akka.actor.NoSerializationVerificationNeeded
 import akka.actor.Deploy
 import akka.actor.Props
@@ -75,7 +77,8 @@ object ReplicatorSettings {
       pruningInterval = config.getDuration("pruning-interval", MILLISECONDS).millis,
       maxPruningDissemination = config.getDuration("max-pruning-dissemination", MILLISECONDS).millis,
       durableStoreProps = Left((config.getString("durable.store-actor-class"), config.getConfig("durable"))),
-      durableKeys = config.getStringList("durable.keys").asScala.toSet)
+      durableKeys = config.getStringList("durable.keys").asScala.toSet,
+      deltaCrdtEnabled = config.getBoolean("delta-crdt.enabled"))
   }
 
   /**
@@ -110,6 +113,8 @@ object ReplicatorSettings {
  * @param durableKeys Keys that are durable. Prefix matching is supported by using
  *        `*` at the end of a key. All entries can be made durable by including "*"
  *        in the `Set`.
+ * @param deltaCrdtEnabled Updates of [[DeltaReplicatedData]] are propagated to the
+ *        other replicas as deltas instead of the full state when enabled.
  */
 final class ReplicatorSettings(
   val role:                      Option[String],
@@ -120,13 +125,21 @@ final class ReplicatorSettings(
   val pruningInterval:           FiniteDuration,
   val maxPruningDissemination:   FiniteDuration,
   val durableStoreProps:         Either[(String, Config), Props],
-  val durableKeys:               Set[String]) {
+  val durableKeys:               Set[String],
+  val deltaCrdtEnabled:          Boolean) {
 
   // For backwards compatibility
   def this(role: Option[String], gossipInterval: FiniteDuration, notifySubscribersInterval: FiniteDuration,
            maxDeltaElements: Int, dispatcher: String, pruningInterval: FiniteDuration, maxPruningDissemination: FiniteDuration) =
     this(role, gossipInterval, notifySubscribersInterval, maxDeltaElements, dispatcher, pruningInterval,
-      maxPruningDissemination, Right(Props.empty), Set.empty)
+      maxPruningDissemination, Right(Props.empty), Set.empty, deltaCrdtEnabled = true)
+
+  // For backwards compatibility
+  def this(role: Option[String], gossipInterval: FiniteDuration, notifySubscribersInterval: FiniteDuration,
+           maxDeltaElements: Int, dispatcher: String, pruningInterval: FiniteDuration, maxPruningDissemination: FiniteDuration,
+           durableStoreProps: Either[(String, Config), Props], durableKeys: Set[String]) =
+    this(role, gossipInterval, notifySubscribersInterval, maxDeltaElements, dispatcher, pruningInterval,
+      maxPruningDissemination, durableStoreProps, durableKeys, deltaCrdtEnabled = true)
 
   def withRole(role: String): ReplicatorSettings = copy(role = ReplicatorSettings.roleOption(role))
 
@@ -169,6 +182,9 @@ final class ReplicatorSettings(
     withDurableKeys(durableKeys.asScala.toSet)
   }
 
+  def withDeltaCrdtEnabled(deltaCrdtEnabled: Boolean): ReplicatorSettings =
+    copy(deltaCrdtEnabled = deltaCrdtEnabled)
+
   private def copy(
     role:                      Option[String]                  = role,
     gossipInterval:            FiniteDuration                  = gossipInterval,
@@ -178,9 +194,10 @@ final class ReplicatorSettings(
     pruningInterval:           FiniteDuration                  = pruningInterval,
     maxPruningDissemination:   FiniteDuration                  = maxPruningDissemination,
     durableStoreProps:         Either[(String, Config), Props] = durableStoreProps,
-    durableKeys:               Set[String]                     = durableKeys): ReplicatorSettings =
+    durableKeys:               Set[String]                     = durableKeys,
+    deltaCrdtEnabled:          Boolean                         = deltaCrdtEnabled): ReplicatorSettings =
     new ReplicatorSettings(role, gossipInterval, notifySubscribersInterval, maxDeltaElements, dispatcher,
-      pruningInterval, maxPruningDissemination, durableStoreProps, durableKeys)
+      pruningInterval, maxPruningDissemination, durableStoreProps, durableKeys, deltaCrdtEnabled)
 }
 
 object Replicator {
@@ -519,6 +536,7 @@ object Replicator {
     case object GossipTick
     case object RemovedNodePruningTick
     case object ClockTick
+    case object DeltaPropagationTick
     final case class Write(key: String, envelope: DataEnvelope) extends ReplicatorMessage
     case object WriteAck extends ReplicatorMessage with DeadLetterSuppression
     case object WriteNack extends ReplicatorMessage with DeadLetterSuppression
@@ -534,9 +552,15 @@ object Replicator {
     val LazyDigest: Digest = ByteString(0)
     val NotFoundDigest: Digest = ByteString(-1)
 
+    /**
+     * The `DataEnvelope` wraps a data entry and carries state of the pruning process for the entry.
+     * `deltaVersions` is the highest sequence number of the deltas from each node that have been
+     * merged into the data, which is used for causal delivery of the deltas.
+     */
     final case class DataEnvelope(
-      data:    ReplicatedData,
-      pruning: Map[UniqueAddress, PruningState] = Map.empty)
+      data:          ReplicatedData,
+      pruning:       Map[UniqueAddress, PruningState] = Map.empty,
+      deltaVersions: VersionVector                    = VersionVector.empty)
       extends ReplicatorMessage {
 
       import PruningState._
@@ -557,7 +581,8 @@ object Replicator {
             require(pruning.contains(from))
             val to = pruning(from).owner
             val prunedData = dataWithRemovedNodePruning.prune(from, to)
-            copy(data = prunedData, pruning = pruning.updated(from, PruningState(to, PruningPerformed)))
+            copy(data = prunedData, pruning = pruning.updated(from, PruningState(to, PruningPerformed)),
+              deltaVersions = deltaVersions.pruningCleanup(from))
           case _ ⇒ this
         }
 
@@ -576,13 +601,40 @@ object Replicator {
             }
           }
 
+          val mergedDeltaVersions = cleaned(deltaVersions, mergedRemovedNodePruning).asInstanceOf[VersionVector]
+            .merge(cleaned(other.deltaVersions, mergedRemovedNodePruning).asInstanceOf[VersionVector])
+
           // cleanup both sides before merging, `merge((otherData: ReplicatedData)` will cleanup other.data
-          copy(data = cleaned(data, mergedRemovedNodePruning), pruning = mergedRemovedNodePruning).merge(other.data)
+          copy(data = cleaned(data, mergedRemovedNodePruning), pruning = mergedRemovedNodePruning,
+            deltaVersions = mergedDeltaVersions).merge(other.data)
         }
 
+      /**
+       * Merge the full state or a delta, see [[ReplicatedDelta]]. `IllegalArgumentException`
+       * is thrown if the data types are not compatible.
+       */
       def merge(otherData: ReplicatedData): DataEnvelope =
         if (otherData == DeletedData) DeletedEnvelope
-        else copy(data = data merge cleaned(otherData, pruning).asInstanceOf[data.T])
+        else {
+          val mergedData = cleaned(otherData, pruning) match {
+            case d: ReplicatedDelta if d.getClass != data.getClass ⇒
+              data match {
+                case drd: DeltaReplicatedData if d.zero.getClass == data.getClass ⇒
+                  val merged = drd.mergeDelta(d.asInstanceOf[drd.D])
+                  // the delta itself can't be cleaned when it doesn't support pruning
+                  if (d.isInstanceOf[RemovedNodePruning]) merged else cleaned(merged, pruning)
+                case _ ⇒
+                  throw new IllegalArgumentException(
+                    s"Wrong type, existing type [${data.getClass.getName}], got delta [${d.getClass.getName}]")
+              }
+            case c ⇒
+              if (c.getClass != data.getClass)
+                throw new IllegalArgumentException(
+                  s"Wrong type, existing type [${data.getClass.getName}], got [${c.getClass.getName}]")
+              data merge c.asInstanceOf[data.T]
+          }
+          copy(data = mergedData)
+        }
 
       private def cleaned(c: ReplicatedData, p: Map[UniqueAddress, PruningState]): ReplicatedData = p.foldLeft(c) {
         case (c: RemovedNodePruning, (removed, PruningState(_, PruningPerformed))) ⇒
@@ -601,6 +653,10 @@ object Replicator {
         if (changed) copy(pruning = newRemovedNodePruning)
         else this
       }
+
+      def withoutDeltaVersions: DataEnvelope =
+        if (deltaVersions.isEmpty) this
+        else copy(deltaVersions = VersionVector.empty)
     }
 
     val DeletedEnvelope = DataEnvelope(DeletedData)
@@ -618,6 +674,9 @@ object Replicator {
     }
     final case class Gossip(updatedData: Map[String, DataEnvelope], sendBack: Boolean) extends ReplicatorMessage
 
+    final case class Delta(dataEnvelope: DataEnvelope, fromSeqNr: Long, toSeqNr: Long)
+    final case class DeltaPropagation(fromNode: UniqueAddress, deltas: Map[String, Delta]) extends ReplicatorMessage
+
   }
 }
 
@@ -810,6 +869,12 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
   val notifyTask = context.system.scheduler.schedule(notifySubscribersInterval, notifySubscribersInterval, self, FlushChanges)
   val pruningTask = context.system.scheduler.schedule(pruningInterval, pruningInterval, self, RemovedNodePruningTick)
   val clockTask = context.system.scheduler.schedule(gossipInterval, gossipInterval, self, ClockTick)
+  val deltaPropagationTask: Option[Cancellable] =
+    if (deltaCrdtEnabled) {
+      val deltaPropagationInterval = (gossipInterval / deltaPropagationSelector.gossipIntervalDivisor).max(200.millis)
+      Some(context.system.scheduler.schedule(deltaPropagationInterval, deltaPropagationInterval,
+        self, DeltaPropagationTick))
+    } else None
 
   val serializer = SerializationExtension(context.system).serializerFor(classOf[DataEnvelope])
   val maxPruningDisseminationNanos = maxPruningDissemination.toNanos
@@ -861,6 +926,25 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
   val newSubscribers = new mutable.HashMap[String, mutable.Set[ActorRef]] with mutable.MultiMap[String, ActorRef]
   var subscriptionKeys = Map.empty[String, KeyR]
 
+  object deltaPropagationSelector extends DeltaPropagationSelector {
+    override val gossipIntervalDivisor = 5
+    override def allNodes: Vector[Address] =
+      nodes.union(weaklyUpNodes).diff(unreachable).toVector.sorted(Member.addressOrdering)
+
+    override def createDeltaPropagation(deltas: Map[String, (ReplicatedData, Long, Long)]): DeltaPropagation = {
+      // Important to include the pruning state in the deltas. For example if the delta is based
+      // on an entry that has been pruned but that has not yet been performed on the target node.
+      DeltaPropagation(selfUniqueAddress, deltas.map {
+        case (key, (d, fromSeqNr, toSeqNr)) ⇒
+          val pruning = getData(key) match {
+            case Some(envelope) ⇒ envelope.pruning
+            case None           ⇒ Map.empty[UniqueAddress, PruningState]
+          }
+          key → Delta(DataEnvelope(d, pruning), fromSeqNr, toSeqNr)
+      }(collection.breakOut))
+    }
+  }
+
   override def preStart(): Unit = {
     if (hasDurableKeys)
       durableStore ! LoadAll
@@ -875,6 +959,7 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
     notifyTask.cancel()
     pruningTask.cancel()
     clockTask.cancel()
+    deltaPropagationTask.foreach(_.cancel())
   }
 
   def matchingRole(m: Member): Boolean = role.forall(m.hasRole)
@@ -922,9 +1007,9 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
         // 0 until durable data has been loaded, used by test
         sender() ! ReplicaCount(0)
 
-      case RemovedNodePruningTick | FlushChanges | GossipTick ⇒
+      case RemovedNodePruningTick | FlushChanges | GossipTick | DeltaPropagationTick ⇒
       // ignore scheduled ticks when loading durable data
-      case m @ (_: Read | _: Write | _: Status | _: Gossip) ⇒
+      case m @ (_: Read | _: Write | _: Status | _: Gossip | _: DeltaPropagation) ⇒
         // ignore gossip and replication when loading durable data
         log.debug("ignoring message [{}] when loading durable data", m.getClass.getName)
     }
@@ -937,7 +1022,9 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
     case Write(key, envelope)                   ⇒ receiveWrite(key, envelope)
     case ReadRepair(key, envelope)              ⇒ receiveReadRepair(key, envelope)
     case FlushChanges                           ⇒ receiveFlushChanges()
+    case DeltaPropagation(from, deltas)         ⇒ receiveDeltaPropagation(from, deltas)
     case GossipTick                             ⇒ receiveGossipTick()
+    case DeltaPropagationTick                   ⇒ receiveDeltaPropagationTick()
     case ClockTick                              ⇒ receiveClockTick()
     case Status(otherDigests, chunk, totChunks) ⇒ receiveStatus(otherDigests, chunk, totChunks)
     case Gossip(updatedData, sendBack)          ⇒ receiveGossip(updatedData, sendBack)
@@ -963,9 +1050,9 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
     log.debug("Received Get for key [{}], local data [{}]", key, localValue)
     if (isLocalGet(consistency)) {
       val reply = localValue match {
-        case Some(DataEnvelope(DeletedData, _)) ⇒ DataDeleted(key)
-        case Some(DataEnvelope(data, _))        ⇒ GetSuccess(key, req)(data)
-        case None                               ⇒ NotFound(key, req)
+        case Some(DataEnvelope(DeletedData, _, _)) ⇒ DataDeleted(key)
+        case Some(DataEnvelope(data, _, _))        ⇒ GetSuccess(key, req)(data)
+        case None                                  ⇒ NotFound(key, req)
       }
       sender() ! reply
     } else
@@ -991,29 +1078,55 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
     val localValue = getData(key.id)
     Try {
       localValue match {
-        case Some(DataEnvelope(DeletedData, _)) ⇒ throw new DataDeleted(key)
-        case Some(envelope @ DataEnvelope(existing, _)) ⇒
-          existing.merge(modify(Some(existing)).asInstanceOf[existing.T])
-        case None ⇒ modify(None)
+        case Some(DataEnvelope(DeletedData, _, _)) ⇒ throw new DataDeleted(key)
+        case Some(envelope @ DataEnvelope(existing, _, _)) ⇒
+          modify(Some(existing)) match {
+            case d: DeltaReplicatedData if deltaCrdtEnabled ⇒
+              (envelope.merge(d.resetDelta), d.delta)
+            case d: DeltaReplicatedData ⇒
+              (envelope.merge(d.resetDelta), None)
+            case d ⇒
+              (envelope.merge(d), None)
+          }
+        case None ⇒ modify(None) match {
+          case d: DeltaReplicatedData if deltaCrdtEnabled ⇒ (DataEnvelope(d.resetDelta), d.delta)
+          case d: DeltaReplicatedData                     ⇒ (DataEnvelope(d.resetDelta), None)
+          case d                                          ⇒ (DataEnvelope(d), None)
+        }
       }
     } match {
-      case Success(newData) ⇒
-        log.debug("Received Update for key [{}], old data [{}], new data [{}]", key, localValue, newData)
-        val envelope = DataEnvelope(pruningCleanupTombstoned(newData))
-        setData(key.id, envelope)
+      case Success((envelope, delta)) ⇒
+        log.debug("Received Update for key [{}], old data [{}], new data [{}], delta [{}]",
+          key, localValue, envelope.data, delta)
+
+        // handle the delta
+        delta match {
+          case Some(d) ⇒ deltaPropagationSelector.update(key.id, d)
+          case None    ⇒ // not DeltaReplicatedData
+        }
+
+        // note that it's important to do deltaPropagationSelector.update before setData,
+        // so that the latest delta version is used
+        val newEnvelope = setData(key.id, envelope.copy(data = pruningCleanupTombstoned(envelope.data)))
+
         val durable = isDurable(key.id)
         if (isLocalUpdate(writeConsistency)) {
           if (durable)
-            durableStore ! Store(key.id, envelope.data,
+            durableStore ! Store(key.id, newEnvelope.data,
               Some(StoreReply(UpdateSuccess(key, req), StoreFailure(key, req), sender())))
           else
             sender() ! UpdateSuccess(key, req)
         } else {
+          val writeEnvelope = delta match {
+            case Some(_: RequiresCausalDeliveryOfDeltas) ⇒ newEnvelope
+            case Some(d)                                 ⇒ DataEnvelope(d)
+            case None                                    ⇒ newEnvelope
+          }
           val writeAggregator =
-            context.actorOf(WriteAggregator.props(key, envelope, writeConsistency, req, nodes, sender(), durable)
+            context.actorOf(WriteAggregator.props(key, writeEnvelope, writeConsistency, req, nodes, sender(), durable)
               .withDispatcher(context.props.dispatcher))
           if (durable) {
-            durableStore ! Store(key.id, envelope.data,
+            durableStore ! Store(key.id, newEnvelope.data,
               Some(StoreReply(UpdateSuccess(key, req), StoreFailure(key, req), writeAggregator)))
           }
         }
@@ -1049,22 +1162,26 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
 
   def write(key: String, writeEnvelope: DataEnvelope): Option[DataEnvelope] =
     getData(key) match {
-      case Some(DataEnvelope(DeletedData, _)) ⇒ Some(writeEnvelope) // already deleted
-      case Some(envelope @ DataEnvelope(existing, _)) ⇒
-        if (existing.getClass == writeEnvelope.data.getClass || writeEnvelope.data == DeletedData) {
+      case Some(DataEnvelope(DeletedData, _, _)) ⇒ Some(writeEnvelope) // already deleted
+      case Some(envelope @ DataEnvelope(existing, _, _)) ⇒
+        try {
+          // DataEnvelope will mergeDelta when needed
           val merged = envelope.merge(pruningCleanupTombstoned(writeEnvelope)).addSeen(selfAddress)
-          setData(key, merged)
-          Some(merged)
-        } else {
-          log.warning(
-            "Wrong type for writing [{}], existing type [{}], got [{}]",
-            key, existing.getClass.getName, writeEnvelope.data.getClass.getName)
-          None
+          Some(setData(key, merged))
+        } catch {
+          case e: IllegalArgumentException ⇒
+            log.warning("Couldn't merge [{}] with existing type [{}], due to: {}",
+              key, existing.getClass.getName, e.getMessage)
+            None
         }
       case None ⇒
-        val cleaned = pruningCleanupTombstoned(writeEnvelope).addSeen(selfAddress)
-        setData(key, cleaned)
-        Some(cleaned)
+        // no existing data for the key, a delta is merged into the zero value of its type
+        val cleaned = pruningCleanupTombstoned(writeEnvelope) match {
+          case e @ DataEnvelope(d: ReplicatedDelta, _, _) if d.zero.getClass != d.getClass ⇒
+            e.copy(data = d.zero).merge(d)
+          case e ⇒ e
+        }
+        Some(setData(key, cleaned.addSeen(selfAddress)))
     }
 
   def receiveReadRepair(key: String, writeEnvelope: DataEnvelope): Unit = {
@@ -1079,14 +1196,14 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
 
   def receiveGetKeyIds(): Unit = {
     val keys: Set[String] = dataEntries.collect {
-      case (key, (DataEnvelope(data, _), _)) if data != DeletedData ⇒ key
+      case (key, (DataEnvelope(data, _, _), _)) if data != DeletedData ⇒ key
     }(collection.breakOut)
     sender() ! GetKeyIdsResult(keys)
   }
 
   def receiveDelete(key: KeyR, consistency: WriteConsistency): Unit = {
     getData(key.id) match {
-      case Some(DataEnvelope(DeletedData, _)) ⇒
+      case Some(DataEnvelope(DeletedData, _, _)) ⇒
         // already deleted
         sender() ! DataDeleted(key)
       case _ ⇒
@@ -1110,18 +1227,32 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
     }
   }
 
-  def setData(key: String, envelope: DataEnvelope): Unit = {
+  def setData(key: String, envelope: DataEnvelope): DataEnvelope = {
+    val newEnvelope = {
+      if (deltaCrdtEnabled) {
+        val deltaVersions = envelope.deltaVersions
+        val currVersion = deltaPropagationSelector.currentVersion(key)
+        if (currVersion == 0L || currVersion == deltaVersions.versionAt(selfUniqueAddress))
+          envelope
+        else
+          envelope.copy(deltaVersions = deltaVersions.merge(VersionVector(selfUniqueAddress, currVersion)))
+      } else envelope
+    }
+
     val dig =
       if (subscribers.contains(key) && !changed.contains(key)) {
         val oldDigest = getDigest(key)
-        val dig = digest(envelope)
+        val dig = digest(newEnvelope)
         if (dig != oldDigest)
           changed += key // notify subscribers, later
         dig
-      } else if (envelope.data == DeletedData) DeletedDigest
+      } else if (newEnvelope.data == DeletedData) DeletedDigest
       else LazyDigest
 
-    dataEntries = dataEntries.updated(key, (envelope, dig))
+    dataEntries = dataEntries.updated(key, (newEnvelope, dig))
+    if (newEnvelope.data == DeletedData)
+      deltaPropagationSelector.delete(key)
+    newEnvelope
   }
 
   def getDigest(key: String): Digest = {
@@ -1138,7 +1269,7 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
   def digest(envelope: DataEnvelope): Digest =
     if (envelope.data == DeletedData) DeletedDigest
     else {
-      val bytes = serializer.toBinary(envelope)
+      val bytes = serializer.toBinary(envelope.withoutDeltaVersions)
       ByteString.fromArray(MessageDigest.getInstance("SHA-1").digest(bytes))
     }
 
@@ -1173,6 +1304,82 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
     changed = Set.empty[String]
   }
 
+  def receiveDeltaPropagationTick(): Unit = {
+    deltaPropagationSelector.collectPropagations().foreach {
+      case (node, deltaPropagation) ⇒
+        replica(node) ! deltaPropagation
+    }
+
+    if (deltaPropagationSelector.propagationCount % deltaPropagationSelector.gossipIntervalDivisor == 0)
+      deltaPropagationSelector.cleanupDeltaEntries()
+  }
+
+  def receiveDeltaPropagation(fromNode: UniqueAddress, deltas: Map[String, Delta]): Unit =
+    if (deltaCrdtEnabled) {
+      try {
+        val isDebugEnabled = log.isDebugEnabled
+        if (isDebugEnabled)
+          log.debug("Received DeltaPropagation from [{}], containing [{}]", fromNode.address,
+            deltas.collect { case (key, Delta(_, fromSeqNr, toSeqNr)) ⇒ s"$key $fromSeqNr-$toSeqNr" }.mkString(", "))
+
+        if (isNodeRemoved(fromNode, deltas.keys)) {
+          // Late message from a removed node.
+          // Drop it to avoid merging deltas that have been pruned on one side.
+          if (isDebugEnabled) log.debug(
+            "Skipping DeltaPropagation from [{}] because that node has been removed", fromNode.address)
+        } else {
+          deltas.foreach {
+            case (key, Delta(envelope @ DataEnvelope(_: RequiresCausalDeliveryOfDeltas, _, _), fromSeqNr, toSeqNr)) ⇒
+              val currentSeqNr = getDeltaSeqNr(key, fromNode)
+              if (currentSeqNr >= toSeqNr) {
+                if (isDebugEnabled) log.debug(
+                  "Skipping DeltaPropagation from [{}] for [{}] because toSeqNr [{}] already handled [{}]",
+                  fromNode.address, key, toSeqNr, currentSeqNr)
+              } else if (fromSeqNr > (currentSeqNr + 1)) {
+                if (isDebugEnabled) log.debug(
+                  "Skipping DeltaPropagation from [{}] for [{}] because missing deltas between [{}-{}]",
+                  fromNode.address, key, currentSeqNr + 1, fromSeqNr - 1)
+              } else {
+                if (isDebugEnabled) log.debug(
+                  "Applying DeltaPropagation from [{}] for [{}] with sequence numbers [{}], current was [{}]",
+                  fromNode.address, key, s"$fromSeqNr-$toSeqNr", currentSeqNr)
+                val newEnvelope = envelope.copy(deltaVersions = VersionVector(fromNode, toSeqNr))
+                writeAndStore(key, newEnvelope)
+              }
+            case (key, Delta(envelope, _, _)) ⇒
+              // causal delivery of deltas not needed, just apply it
+              writeAndStore(key, envelope)
+          }
+        }
+      } catch {
+        case NonFatal(e) ⇒
+          // catching in case we need to support rolling upgrades that are
+          // mixing nodes with incompatible delta-CRDT types
+          log.warning("Couldn't process DeltaPropagation from [{}] due to {}", fromNode, e)
+      }
+    }
+
+  def writeAndStore(key: String, writeEnvelope: DataEnvelope): Unit =
+    write(key, writeEnvelope) match {
+      case Some(newEnvelope) ⇒
+        if (isDurable(key))
+          durableStore ! Store(key, newEnvelope.data, None)
+      case None ⇒
+    }
+
+  def getDeltaSeqNr(key: String, fromNode: UniqueAddress): Long =
+    dataEntries.get(key) match {
+      case Some((DataEnvelope(_, _, deltaVersions), _)) ⇒ deltaVersions.versionAt(fromNode)
+      case None                                         ⇒ 0L
+    }
+
+  def isNodeRemoved(node: UniqueAddress, keys: Iterable[String]): Boolean = {
+    removedNodes.contains(node) || (keys.exists(key ⇒ dataEntries.get(key) match {
+      case Some((DataEnvelope(_, pruning, _), _)) ⇒ pruning.contains(node)
+      case None                                   ⇒ false
+    }))
+  }
+
   def receiveGossipTick(): Unit = selectRandomNode(nodes.union(weaklyUpNodes).toVector) foreach gossipTo
 
   def gossipTo(address: Address): Unit = {
@@ -1316,6 +1523,7 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
       weaklyUpNodes -= m.address
       removedNodes = removedNodes.updated(m.uniqueAddress, allReachableClockTime)
       unreachable -= m.address
+      deltaPropagationSelector.cleanupRemovedNode(m.address)
     }
   }
 
@@ -1379,7 +1587,7 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
   def performRemovedNodePruning(): Unit = {
     // perform pruning when all seen Init
     dataEntries.foreach {
-      case (key, (envelope @ DataEnvelope(data: RemovedNodePruning, pruning), _)) ⇒
+      case (key, (envelope @ DataEnvelope(data: RemovedNodePruning, pruning, _), _)) ⇒
         pruning.foreach {
           case (removed, PruningState(owner, PruningInitialized(seen))) if owner == selfUniqueAddress
             && (nodes.isEmpty || nodes.forall(seen)) ⇒
@@ -1399,7 +1607,7 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
 
     def allPruningPerformed(removed: UniqueAddress): Boolean = {
       dataEntries forall {
-        case (key, (envelope @ DataEnvelope(data: RemovedNodePruning, pruning), _)) ⇒
+        case (key, (envelope @ DataEnvelope(data: RemovedNodePruning, pruning, _), _)) ⇒
           pruning.get(removed) match {
             case Some(PruningState(_, PruningInitialized(_))) ⇒ false
             case _ ⇒ true
@@ -1417,7 +1625,7 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
         removedNodes -= removed
         tombstoneNodes += removed
         dataEntries.foreach {
-          case (key, (envelope @ DataEnvelope(data: RemovedNodePruning, _), _)) ⇒
+          case (key, (envelope @ DataEnvelope(data: RemovedNodePruning, _, _), _)) ⇒
             val newEnvelope = pruningCleanupTombstoned(removed, envelope)
             setData(key, newEnvelope)
             if ((newEnvelope.data ne data) && isDurable(key))
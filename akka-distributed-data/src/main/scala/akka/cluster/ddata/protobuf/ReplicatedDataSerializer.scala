@@ -21,8 +21,6 @@ import akka.serialization.BaseSerializer
 import akka.protobuf.{ ByteString, GeneratedMessage }
 import akka.util.ByteString.UTF_8
 
-import scala.collection.immutable.TreeMap
-import akka.cluster.UniqueAddress
 import java.io.NotSerializableException
 import akka.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage
 
@@ -180,15 +178,25 @@ class ReplicatedDataSerializer(val system: ExtendedActorSystem)
   private val ORMultiMapManifest = "K"
   private val ORMultiMapKeyManifest = "k"
   private val VersionVectorManifest = "L"
+  private val ORSetAddManifest = "Ca"
+  private val ORSetRemoveManifest = "Cr"
+  private val ORSetFullManifest = "Cf"
+  private val ORSetDeltaGroupManifest = "Cg"
+  private val ORMapDeltaManifest = "Hd"
 
   private val fromBinaryMap = collection.immutable.HashMap[String, Array[Byte] ⇒ AnyRef](
     GSetManifest → gsetFromBinary,
     ORSetManifest → orsetFromBinary,
+    ORSetAddManifest → orsetAddFromBinary,
+    ORSetRemoveManifest → orsetRemoveFromBinary,
+    ORSetFullManifest → orsetFullFromBinary,
+    ORSetDeltaGroupManifest → orsetDeltaGroupFromBinary,
     FlagManifest → flagFromBinary,
     LWWRegisterManifest → lwwRegisterFromBinary,
     GCounterManifest → gcounterFromBinary,
     PNCounterManifest → pncounterFromBinary,
     ORMapManifest → ormapFromBinary,
+    ORMapDeltaManifest → ormapDeltaFromBinary,
     LWWMapManifest → lwwmapFromBinary,
     PNCounterMapManifest → pncountermapFromBinary,
     ORMultiMapManifest → multimapFromBinary,
@@ -207,7 +215,12 @@ class ReplicatedDataSerializer(val system: ExtendedActorSystem)
     ORMultiMapKeyManifest → (bytes ⇒ ORMultiMapKey(keyIdFromBinary(bytes))))
 
   override def manifest(obj: AnyRef): String = obj match {
-    case _: ORSet[_]            ⇒ ORSetManifest
+    case _: ORSet[_]                  ⇒ ORSetManifest
+    case _: ORSet.AddDeltaOp[_]       ⇒ ORSetAddManifest
+    case _: ORSet.RemoveDeltaOp[_]    ⇒ ORSetRemoveManifest
+    case _: ORSet.FullStateDeltaOp[_] ⇒ ORSetFullManifest
+    case _: ORSet.DeltaGroup[_]       ⇒ ORSetDeltaGroupManifest
+    case _: ORMap.DeltaOp             ⇒ ORMapDeltaManifest
     case _: GSet[_]             ⇒ GSetManifest
     case _: GCounter            ⇒ GCounterManifest
     case _: PNCounter           ⇒ PNCounterManifest
@@ -236,7 +249,12 @@ class ReplicatedDataSerializer(val system: ExtendedActorSystem)
   }
 
   def toBinary(obj: AnyRef): Array[Byte] = obj match {
-    case m: ORSet[_]         ⇒ compress(orsetToProto(m))
+    case m: ORSet[_]                  ⇒ compress(orsetToProto(m))
+    case m: ORSet.AddDeltaOp[_]       ⇒ orsetToProto(m.underlying).toByteArray
+    case m: ORSet.RemoveDeltaOp[_]    ⇒ orsetToProto(m.underlying).toByteArray
+    case m: ORSet.FullStateDeltaOp[_] ⇒ compress(orsetToProto(m.underlying))
+    case m: ORSet.DeltaGroup[_]       ⇒ compress(orsetDeltaGroupToProto(m))
+    case m: ORMap.DeltaOp             ⇒ compress(ormapDeltaToProto(m))
     case m: GSet[_]          ⇒ gsetToProto(m).toByteArray
     case m: GCounter         ⇒ gcounterToProto(m).toByteArray
     case m: PNCounter        ⇒ pncounterToProto(m).toByteArray
@@ -375,6 +393,53 @@ class ReplicatedDataSerializer(val system: ExtendedActorSystem)
     new ORSet(elementsMap, vvector = versionVectorFromProto(orset.getVvector))
   }
 
+  def orsetAddFromBinary(bytes: Array[Byte]): ORSet.AddDeltaOp[Any] =
+    ORSet.AddDeltaOp(orsetFromProto(rd.ORSet.parseFrom(bytes)))
+
+  def orsetRemoveFromBinary(bytes: Array[Byte]): ORSet.RemoveDeltaOp[Any] =
+    ORSet.RemoveDeltaOp(orsetFromProto(rd.ORSet.parseFrom(bytes)))
+
+  def orsetFullFromBinary(bytes: Array[Byte]): ORSet.FullStateDeltaOp[Any] =
+    ORSet.FullStateDeltaOp(orsetFromProto(rd.ORSet.parseFrom(decompress(bytes))))
+
+  def orsetDeltaGroupToProto(deltaGroup: ORSet.DeltaGroup[_]): rd.ORSetDeltaGroup =
+    orsetDeltaOpToProto(deltaGroup)
+
+  private def orsetDeltaOpToProto(deltaOp: ORSet.DeltaOp): rd.ORSetDeltaGroup = {
+    def createEntry(opType: rd.ORSetDeltaOp, u: ORSet[_]) =
+      rd.ORSetDeltaGroup.Entry.newBuilder()
+        .setOperation(opType)
+        .setUnderlying(orsetToProto(u))
+
+    def addOp(b: rd.ORSetDeltaGroup.Builder, op: ORSet.DeltaOp): Unit = op match {
+      case ORSet.AddDeltaOp(u)       ⇒ b.addEntries(createEntry(rd.ORSetDeltaOp.Add, u))
+      case ORSet.RemoveDeltaOp(u)    ⇒ b.addEntries(createEntry(rd.ORSetDeltaOp.Remove, u))
+      case ORSet.FullStateDeltaOp(u) ⇒ b.addEntries(createEntry(rd.ORSetDeltaOp.Full, u))
+      case ORSet.DeltaGroup(_) ⇒
+        throw new IllegalArgumentException("ORSet.DeltaGroup should not be nested")
+    }
+
+    val b = rd.ORSetDeltaGroup.newBuilder()
+    deltaOp match {
+      case ORSet.DeltaGroup(ops) ⇒ ops.foreach(addOp(b, _))
+      case op                    ⇒ addOp(b, op)
+    }
+    b.build()
+  }
+
+  def orsetDeltaGroupFromBinary(bytes: Array[Byte]): ORSet.DeltaGroup[Any] =
+    ORSet.DeltaGroup(orsetDeltaOpsFromProto(rd.ORSetDeltaGroup.parseFrom(decompress(bytes))))
+
+  private def orsetDeltaOpsFromProto(deltaGroup: rd.ORSetDeltaGroup): Vector[ORSet.DeltaOp] =
+    deltaGroup.getEntriesList.asScala.map { entry ⇒
+      val u = orsetFromProto(entry.getUnderlying)
+      entry.getOperation match {
+        case rd.ORSetDeltaOp.Add    ⇒ ORSet.AddDeltaOp(u)
+        case rd.ORSetDeltaOp.Remove ⇒ ORSet.RemoveDeltaOp(u)
+        case rd.ORSetDeltaOp.Full   ⇒ ORSet.FullStateDeltaOp(u)
+      }
+    }(breakOut)
+
   def flagToProto(flag: Flag): rd.Flag =
     rd.Flag.newBuilder().setEnabled(flag.enabled).build()
 
@@ -432,31 +497,6 @@ class ReplicatedDataSerializer(val system: ExtendedActorSystem)
       decrements = gcounterFromProto(pncounter.getDecrements))
   }
 
-  def versionVectorToProto(versionVector: VersionVector): rd.VersionVector = {
-    val b = rd.VersionVector.newBuilder()
-    versionVector.versionsIterator.foreach {
-      case (node, value) ⇒ b.addEntries(rd.VersionVector.Entry.newBuilder().
-        setNode(uniqueAddressToProto(node)).setVersion(value))
-    }
-    b.build()
-  }
-
-  def versionVectorFromBinary(bytes: Array[Byte]): VersionVector =
-    versionVectorFromProto(rd.VersionVector.parseFrom(bytes))
-
-  def versionVectorFromProto(versionVector: rd.VersionVector): VersionVector = {
-    val entries = versionVector.getEntriesList
-    if (entries.isEmpty)
-      VersionVector.empty
-    else if (entries.size == 1)
-      VersionVector(uniqueAddressFromProto(entries.get(0).getNode), entries.get(0).getVersion)
-    else {
-      val versions: TreeMap[UniqueAddress, Long] = versionVector.getEntriesList.asScala.map(entry ⇒
-        uniqueAddressFromProto(entry.getNode) → entry.getVersion)(breakOut)
-      VersionVector(versions)
-    }
-  }
-
   /*
    * Convert a Map[A, B] to an Iterable[Entry] where Entry is the protobuf map entry.
    */
@@ -494,7 +534,36 @@ class ReplicatedDataSerializer(val system: ExtendedActorSystem)
     val entries = mapTypeFromProto(ormap.getEntriesList, (v: dm.OtherMessage) ⇒ otherMessageFromProto(v).asInstanceOf[ReplicatedData])
     new ORMap(
       keys = orsetFromProto(ormap.getKeys),
-      entries)
+      entries,
+      ORMap.VanillaORMapTag)
+  }
+
+  def ormapDeltaToProto(deltaOp: ORMap.DeltaOp): rd.ORMapDelta = {
+    val entries: jl.Iterable[rd.ORMap.Entry] = getEntries(deltaOp.values, rd.ORMap.Entry.newBuilder, otherMessageToProto)
+    rd.ORMapDelta.newBuilder()
+      .setKeys(orsetDeltaOpToProto(deltaOp.keysDelta))
+      .addAllEntries(entries)
+      .setZeroTag(deltaOp.zeroTag.value)
+      .build()
+  }
+
+  def ormapDeltaFromBinary(bytes: Array[Byte]): ORMap.DeltaOp =
+    ormapDeltaFromProto(rd.ORMapDelta.parseFrom(decompress(bytes)))
+
+  def ormapDeltaFromProto(deltaOp: rd.ORMapDelta): ORMap.DeltaOp = {
+    val entries = mapTypeFromProto(deltaOp.getEntriesList, (v: dm.OtherMessage) ⇒ otherMessageFromProto(v).asInstanceOf[ReplicatedData])
+    val keysDelta = orsetDeltaOpsFromProto(deltaOp.getKeys) match {
+      case Vector(op) ⇒ op
+      case ops        ⇒ ORSet.DeltaGroup(ops)
+    }
+    ORMap.DeltaOp(keysDelta, entries, zeroTagFromCode(deltaOp.getZeroTag))
+  }
+
+  private def zeroTagFromCode(code: Int): ORMap.ZeroTag = code match {
+    case ORMap.VanillaORMapTag.value        ⇒ ORMap.VanillaORMapTag
+    case LWWMap.LWWMapTag.value             ⇒ LWWMap.LWWMapTag
+    case PNCounterMap.PNCounterMapTag.value ⇒ PNCounterMap.PNCounterMapTag
+    case _                                  ⇒ throw new IllegalArgumentException(s"Invalid ZeroTag code: [$code]")
   }
 
   def lwwmapToProto(lwwmap: LWWMap[_, _]): rd.LWWMap = {
@@ -509,7 +578,8 @@ class ReplicatedDataSerializer(val system: ExtendedActorSystem)
     val entries = mapTypeFromProto(lwwmap.getEntriesList, lwwRegisterFromProto)
     new LWWMap(new ORMap(
       keys = orsetFromProto(lwwmap.getKeys),
-      entries))
+      entries,
+      LWWMap.LWWMapTag))
   }
 
   def pncountermapToProto(pncountermap: PNCounterMap[_]): rd.PNCounterMap = {
@@ -524,7 +594,8 @@ class ReplicatedDataSerializer(val system: ExtendedActorSystem)
     val entries = mapTypeFromProto(pncountermap.getEntriesList, pncounterFromProto)
     new PNCounterMap(new ORMap(
       keys = orsetFromProto(pncountermap.getKeys),
-      entries))
+      entries,
+      PNCounterMap.PNCounterMapTag))
   }
 
   def multimapToProto(multimap: ORMultiMap[_, _]): rd.ORMultiMap = {
@@ -539,7 +610,8 @@ class ReplicatedDataSerializer(val system: ExtendedActorSystem)
     val entries = mapTypeFromProto(multimap.getEntriesList, orsetFromProto)
     new ORMultiMap(new ORMap(
       keys = orsetFromProto(multimap.getKeys),
-      entries))
+      entries,
+      ORMap.VanillaORMapTag))
   }
 
   def keyIdToBinary(id: String): Array[Byte] =
@@ -13,6 +13,7 @@ import akka.cluster.Member
 import akka.cluster.UniqueAddress
 import akka.cluster.ddata.PruningState
 import akka.cluster.ddata.ReplicatedData
+import akka.cluster.ddata.VersionVector
 import akka.cluster.ddata.Replicator._
 import akka.cluster.ddata.Replicator.Internal._
 import akka.cluster.ddata.protobuf.msg.{ ReplicatorMessages ⇒ dm }
@@ -172,6 +173,7 @@ class ReplicatorMessageSerializer(val system: ExtendedActorSystem)
   val GossipManifest = "N"
   val WriteNackManifest = "O"
   val DurableDataEnvelopeManifest = "P"
+  val DeltaPropagationManifest = "Q"
 
   private val fromBinaryMap = collection.immutable.HashMap[String, Array[Byte] ⇒ AnyRef](
     GetManifest → getFromBinary,
@@ -189,7 +191,8 @@ class ReplicatorMessageSerializer(val system: ExtendedActorSystem)
     StatusManifest → statusFromBinary,
     GossipManifest → gossipFromBinary,
     WriteNackManifest → (_ ⇒ WriteNack),
-    DurableDataEnvelopeManifest → durableDataEnvelopeFromBinary)
+    DurableDataEnvelopeManifest → durableDataEnvelopeFromBinary,
+    DeltaPropagationManifest → deltaPropagationFromBinary)
 
   override def manifest(obj: AnyRef): String = obj match {
     case _: DataEnvelope        ⇒ DataEnvelopeManifest
@@ -207,6 +210,7 @@ class ReplicatorMessageSerializer(val system: ExtendedActorSystem)
     case _: Subscribe[_]        ⇒ SubscribeManifest
     case _: Unsubscribe[_]      ⇒ UnsubscribeManifest
     case _: Gossip              ⇒ GossipManifest
+    case _: DeltaPropagation    ⇒ DeltaPropagationManifest
     case WriteNack              ⇒ WriteNackManifest
     case _ ⇒
       throw new IllegalArgumentException(s"Can't serialize object of type ${obj.getClass} in [${getClass.getName}]")
@@ -228,6 +232,7 @@ class ReplicatorMessageSerializer(val system: ExtendedActorSystem)
     case m: Subscribe[_]        ⇒ subscribeToProto(m).toByteArray
     case m: Unsubscribe[_]      ⇒ unsubscribeToProto(m).toByteArray
     case m: Gossip              ⇒ compress(gossipToProto(m))
+    case m: DeltaPropagation    ⇒ deltaPropagationToProto(m).toByteArray
     case WriteNack              ⇒ dm.Empty.getDefaultInstance.toByteArray
     case _ ⇒
       throw new IllegalArgumentException(s"Can't serialize object of type ${obj.getClass} in [${getClass.getName}]")
@@ -279,6 +284,33 @@ class ReplicatorMessageSerializer(val system: ExtendedActorSystem)
       sendBack = gossip.getSendBack)
   }
 
+  private def deltaPropagationToProto(deltaPropagation: DeltaPropagation): dm.DeltaPropagation = {
+    val b = dm.DeltaPropagation.newBuilder()
+      .setFromNode(uniqueAddressToProto(deltaPropagation.fromNode))
+    deltaPropagation.deltas.foreach {
+      case (key, Delta(data, fromSeqNr, toSeqNr)) ⇒
+        val b2 = dm.DeltaPropagation.Entry.newBuilder()
+          .setKey(key)
+          .setEnvelope(dataEnvelopeToProto(data))
+          .setFromSeqNr(fromSeqNr)
+        if (toSeqNr != fromSeqNr)
+          b2.setToSeqNr(toSeqNr)
+        b.addEntries(b2)
+    }
+    b.build()
+  }
+
+  private def deltaPropagationFromBinary(bytes: Array[Byte]): DeltaPropagation = {
+    val deltaPropagation = dm.DeltaPropagation.parseFrom(bytes)
+    DeltaPropagation(
+      uniqueAddressFromProto(deltaPropagation.getFromNode),
+      deltaPropagation.getEntriesList.asScala.map { e ⇒
+        val fromSeqNr = e.getFromSeqNr
+        val toSeqNr = if (e.hasToSeqNr) e.getToSeqNr else fromSeqNr
+        e.getKey → Delta(dataEnvelopeFromProto(e.getEnvelope), fromSeqNr, toSeqNr)
+      }(breakOut))
+  }
+
   private def getToProto(get: Get[_]): dm.Get = {
     val consistencyValue = get.consistency match {
       case ReadLocal       ⇒ 1
@@ -407,6 +439,8 @@ class ReplicatorMessageSerializer(val system: ExtendedActorSystem)
         }
         dataEnvelopeBuilder.addPruning(b)
     }
+    if (!dataEnvelope.deltaVersions.isEmpty)
+      dataEnvelopeBuilder.setDeltaVersions(versionVectorToProto(dataEnvelope.deltaVersions))
     dataEnvelopeBuilder.build()
   }
 
@@ -424,7 +458,10 @@ class ReplicatorMessageSerializer(val system: ExtendedActorSystem)
         removed → state
       }(breakOut)
     val data = otherMessageFromProto(dataEnvelope.getData).asInstanceOf[ReplicatedData]
-    DataEnvelope(data, pruning)
+    val deltaVersions =
+      if (dataEnvelope.hasDeltaVersions) versionVectorFromProto(dataEnvelope.getDeltaVersions)
+      else VersionVector.empty
+    DataEnvelope(data, pruning, deltaVersions)
   }
 
   private def writeToProto(write: Write): dm.Write =
@@ -8,10 +8,14 @@ import java.io.ByteArrayOutputStream
 import java.util.zip.GZIPInputStream
 import java.util.zip.GZIPOutputStream
 import scala.annotation.tailrec
+import scala.collection.breakOut
+import scala.collection.immutable.TreeMap
+import scala.collection.JavaConverters._
 import akka.actor.ActorRef
 import akka.actor.Address
 import akka.actor.ExtendedActorSystem
 import akka.cluster.UniqueAddress
+import akka.cluster.ddata.VersionVector
 import akka.cluster.ddata.protobuf.msg.{ ReplicatorMessages ⇒ dm }
 import akka.serialization.JSerializer
 import akka.serialization.Serialization
@@ -104,6 +108,31 @@ trait SerializationSupport {
       }
     )
 
+  def versionVectorToProto(versionVector: VersionVector): dm.VersionVector = {
+    val b = dm.VersionVector.newBuilder()
+    versionVector.versionsIterator.foreach {
+      case (node, value) ⇒ b.addEntries(dm.VersionVector.Entry.newBuilder().
+        setNode(uniqueAddressToProto(node)).setVersion(value))
+    }
+    b.build()
+  }
+
+  def versionVectorFromBinary(bytes: Array[Byte]): VersionVector =
+    versionVectorFromProto(dm.VersionVector.parseFrom(bytes))
+
+  def versionVectorFromProto(versionVector: dm.VersionVector): VersionVector = {
+    val entries = versionVector.getEntriesList
+    if (entries.isEmpty)
+      VersionVector.empty
+    else if (entries.size == 1)
+      VersionVector(uniqueAddressFromProto(entries.get(0).getNode), entries.get(0).getVersion)
+    else {
+      val versions: TreeMap[UniqueAddress, Long] = versionVector.getEntriesList.asScala.map(entry ⇒
+        uniqueAddressFromProto(entry.getNode) → entry.getVersion)(breakOut)
+      VersionVector(versions)
+    }
+  }
+
   def resolveActorRef(path: String): ActorRef =
     system.provider.resolveActorRef(path)
 
@@ -135,6 +135,33 @@ class GCounterSpec extends WordSpec with Matchers {
       merged2.value should be(17)
     }
 
+    "be able to increment each node's record by one and collect the delta" in {
+      val c1 = GCounter()
+
+      val c2 = c1 increment node1
+      val c3 = c2 increment node1
+      c3.delta.get.state(node1) should be(2)
+
+      val c4 = c3.resetDelta
+      c4.delta should be(None)
+      c4.state(node1) should be(2)
+
+      val c5 = c4 increment (node2, 3)
+      c5.delta.get.state should be(Map(node2 → 3))
+
+      // a delta is merged into the full state on the receiving side
+      val c6 = c3.resetDelta.mergeDelta(c5.delta.get)
+      c6.state should be(c5.state)
+      c6.value should be(5)
+    }
+
+    "not include the pruned node in the delta" in {
+      val c1 = (GCounter() increment node1 increment node2).resetDelta
+      val c2 = c1.prune(node1, node2)
+      c2.delta should be(None)
+      c2.value should be(2)
+    }
+
     "have support for pruning" in {
       val c1 = GCounter()
       val c2 = c1 increment node1
@@ -47,6 +47,15 @@ class LWWMapSpec extends WordSpec with Matchers {
       (m3 merge m4).entries should be(Map("a" → 1, "b" → 22, "c" → 3))
     }
 
+    "be able to apply deltas" in {
+      val m1 = LWWMap.empty[String, Int].put(node1, "a", 1, defaultClock[Int]).put(node1, "b", 2, defaultClock[Int])
+      val m2 = m1.resetDelta.put(node1, "a", 11, defaultClock[Int]).remove(node1, "b")
+
+      val t1 = LWWMap.empty[String, Int].mergeDelta(m1.delta.get)
+      t1.entries should be(Map("a" → 1, "b" → 2))
+      t1.mergeDelta(m2.delta.get).entries should be(Map("a" → 11))
+    }
+
     "have unapply extractor" in {
       val m1 = LWWMap.empty.put(node1, "a", 1L, defaultClock[Long])
       val LWWMap(entries1) = m1
@@ -188,6 +188,25 @@ class ORMapSpec extends WordSpec with Matchers {
       merged3.entries("c").elements should be(Set("C", "C2"))
     }
 
+    "be able to apply deltas of put, update and remove" in {
+      val m1 = ORMap.empty[String, GSet[String]].put(node1, "a", GSet.empty[String] + "A")
+        .put(node1, "b", GSet.empty[String] + "B")
+      val m2 = m1.resetDelta.updated(node1, "a", GSet.empty[String])(_ + "A2")
+      val m3 = m2.resetDelta.remove(node1, "b")
+      m3.resetDelta.delta should be(None)
+
+      val t1 = ORMap.empty[String, GSet[String]].mergeDelta(m1.delta.get)
+      t1.entries should be(m1.entries)
+      val t2 = t1.mergeDelta(m2.delta.get)
+      t2.entries("a").elements should be(Set("A", "A2"))
+      val t3 = t2.mergeDelta(m3.delta.get)
+      t3.entries.keySet should be(Set("a"))
+
+      // deltas merged into a group give the same result
+      val group = m1.delta.get.merge(m2.delta.get).merge(m3.delta.get)
+      ORMap.empty[String, GSet[String]].mergeDelta(group).entries should be(t3.entries)
+    }
+
     "have unapply extractor" in {
       val m1 = ORMap.empty.put(node1, "a", Flag(true)).put(node2, "b", Flag(false))
       val m2: ORMap[String, Flag] = m1
@@ -333,6 +333,43 @@ class ORSetSpec extends WordSpec with Matchers {
       b3.merge(a3).merge(c).elements should be(Set.empty)
     }
 
+    "be able to apply deltas from add and remove" in {
+      val s1 = ORSet.empty[String]
+      val s2 = s1.add(node1, "a")
+      val s3 = s2.resetDelta.add(node1, "b").add(node1, "c")
+      val s4 = s3.resetDelta.remove(node1, "b")
+      val s5 = s4.resetDelta.clear(node1).add(node1, "d")
+
+      s2.delta.get shouldBe an[ORSet.AddDeltaOp[_]]
+      s4.delta.get shouldBe an[ORSet.RemoveDeltaOp[_]]
+      s4.resetDelta.delta should be(None)
+
+      val t2 = ORSet.empty[String].mergeDelta(s2.delta.get)
+      t2.elements should be(Set("a"))
+      val t3 = t2.mergeDelta(s3.delta.get)
+      t3.elements should be(Set("a", "b", "c"))
+      val t4 = t3.mergeDelta(s4.delta.get)
+      t4.elements should be(Set("a", "c"))
+      val t5 = t4.mergeDelta(s5.delta.get)
+      t5.elements should be(Set("d"))
+
+      // the deltas can also be merged into a delta group before being applied
+      val group = s3.delta.get.merge(s4.delta.get)
+      t2.mergeDelta(group).elements should be(Set("a", "c"))
+    }
+
+    "not remove an element added concurrently when applying a remove delta" in {
+      val s1 = ORSet.empty[String].add(node1, "a").resetDelta
+      val s2 = s1.merge(s1.resetDelta)
+
+      // node1 removes "a" while node2 adds it concurrently
+      val removed = s1.remove(node1, "a")
+      val addedByNode2 = s2.add(node2, "a").resetDelta
+
+      addedByNode2.mergeDelta(removed.delta.get).elements should be(Set("a"))
+      s2.mergeDelta(removed.delta.get).elements should be(Set.empty)
+    }
+
     "have unapply extractor" in {
       val s1 = ORSet.empty.add(node1, "a").add(node2, "b")
       val s2: ORSet[String] = s1
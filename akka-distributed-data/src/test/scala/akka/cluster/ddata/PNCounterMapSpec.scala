@@ -46,6 +46,15 @@ class PNCounterMapSpec extends WordSpec with Matchers {
       (m3 merge m4).entries should be(Map("a" → 1, "b" → 13, "c" → 7))
     }
 
+    "be able to apply deltas" in {
+      val m1 = PNCounterMap.empty[String].increment(node1, "a", 2).increment(node1, "b", 3)
+      val m2 = m1.resetDelta.decrement(node1, "a", 1).remove(node1, "b")
+
+      val t1 = PNCounterMap.empty[String].mergeDelta(m1.delta.get)
+      t1.entries should be(Map("a" → 2, "b" → 3))
+      t1.mergeDelta(m2.delta.get).entries should be(Map("a" → 1))
+    }
+
     "have unapply extractor" in {
       val m1 = PNCounterMap.empty.increment(node1, "a", 1).increment(node2, "b", 2)
       val PNCounterMap(entries1) = m1
@@ -139,6 +139,21 @@ class PNCounterSpec extends WordSpec with Matchers {
       merged2.value should be(4)
     }
 
+    "be able to collect the delta of increments and decrements" in {
+      val c1 = PNCounter()
+      val c2 = c1.increment(node1, 3).decrement(node2, 2)
+      c2.delta.get.value should be(1)
+
+      val c3 = c2.resetDelta
+      c3.delta should be(None)
+      val c4 = c3.decrement(node1, 5)
+      c4.delta.get.increments.state should be(Map.empty)
+      c4.delta.get.decrements.state should be(Map(node1 → 5))
+
+      // merging the deltas in order gives the same result as the full state
+      PNCounter().mergeDelta(c2.delta.get).mergeDelta(c4.delta.get).value should be(c4.value)
+    }
+
     "have support for pruning" in {
       val c1 = PNCounter()
       val c2 = c1 increment node1
@@ -100,6 +100,14 @@ class ReplicatedDataSerializerSpec extends TestKit(ActorSystem(
       checkSameContent(s3.merge(s4), s4.merge(s3))
     }
 
+    "serialize ORSet delta" in {
+      checkSerialization(ORSet().add(address1, "a").delta.get)
+      checkSerialization(ORSet().add(address1, "a").resetDelta.remove(address2, "a").delta.get)
+      checkSerialization(ORSet().add(address1, "a").remove(address2, "a").delta.get)
+      checkSerialization(ORSet().add(address1, "a").resetDelta.clear(address2).delta.get)
+      checkSerialization(ORSet().add(address1, "a").clear(address2).delta.get)
+    }
+
     "serialize Flag" in {
       checkSerialization(Flag())
       checkSerialization(Flag().switchOn)
@@ -150,6 +158,13 @@ class ReplicatedDataSerializerSpec extends TestKit(ActorSystem(
       checkSerialization(ORMap().put(address1, Flag(), GSet() + "A"))
     }
 
+    "serialize ORMap delta" in {
+      checkSerialization(ORMap().put(address1, "a", GSet() + "A").put(address2, "b", GSet() + "B").delta.get)
+      checkSerialization(ORMap().put(address1, "a", GSet() + "A").resetDelta.remove(address2, "a").delta.get)
+      checkSerialization(LWWMap().put(address1, "a", "value1", LWWRegister.defaultClock[Any]).delta.get)
+      checkSerialization(PNCounterMap().increment(address1, "a", 3).decrement(address2, "a", 1).delta.get)
+    }
+
     "be compatible with old ORMap serialization" in {
       // Below blob was created with previous version of the serializer
       val oldBlobAsBase64 = "H4sIAAAAAAAAAOOax8jlyaXMJc8lzMWXX5KRWqSXkV9copdflC7wXEWUiYGBQRaIGQQkuJS45LiEuHiL83NTUdQwwtWIC6kQpUqVKAulGBOlGJOE+LkYE4W4uJi5GB0FuJUYnUACSRABJ7AAAOLO3C3DAAAA"
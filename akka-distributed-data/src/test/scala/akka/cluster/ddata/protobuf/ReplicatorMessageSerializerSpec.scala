@@ -11,13 +11,16 @@ import akka.actor.ActorSystem
 import akka.actor.Address
 import akka.actor.ExtendedActorSystem
 import akka.actor.Props
+import akka.cluster.ddata.GCounter
 import akka.cluster.ddata.GSet
 import akka.cluster.ddata.GSetKey
+import akka.cluster.ddata.ORSet
 import akka.cluster.ddata.PruningState
 import akka.cluster.ddata.PruningState.PruningInitialized
 import akka.cluster.ddata.PruningState.PruningPerformed
 import akka.cluster.ddata.Replicator._
 import akka.cluster.ddata.Replicator.Internal._
+import akka.cluster.ddata.VersionVector
 import akka.testkit.TestKit
 import akka.util.ByteString
 import akka.cluster.UniqueAddress
@@ -58,6 +61,8 @@ class ReplicatorMessageSerializerSpec extends TestKit(ActorSystem(
     "serialize Replicator messages" in {
       val ref1 = system.actorOf(Props.empty, "ref1")
       val data1 = GSet.empty[String] + "a"
+      val delta1 = GCounter.empty.increment(address1, 17).increment(address2, 2).delta.get
+      val delta2 = ORSet.empty[String].add(address1, "a").add(address2, "b").delta.get
 
       checkSerialization(Get(keyA, ReadLocal))
       checkSerialization(Get(keyA, ReadMajority(2.seconds), Some("x")))
@@ -85,6 +90,10 @@ class ReplicatorMessageSerializerSpec extends TestKit(ActorSystem(
         "A" → DataEnvelope(data1),
         "B" → DataEnvelope(GSet() + "b" + "c")), sendBack = true))
       checkSerialization(new DurableDataEnvelope(data1))
+      checkSerialization(DeltaPropagation(address1, Map(
+        "A" → Delta(DataEnvelope(delta1), 1L, 1L),
+        "B" → Delta(DataEnvelope(delta2), 3L, 5L))))
+      checkSerialization(DataEnvelope(data1, deltaVersions = VersionVector(address1, 2L)))
     }
 
   }
@@ -92,6 +92,21 @@ object DispatcherDocSpec {
     }
     //#my-thread-pool-dispatcher-config
 
+    //#affinity-pool-dispatcher-config
+    affinity-pool-dispatcher {
+      executor = "affinity-pool-executor"
+      affinity-pool-executor {
+        # number of threads, each with its own task queue
+        parallelism-min = 4
+        parallelism-factor = 0.8
+        parallelism-max = 16
+        # 1 (lowest CPU usage) to 10 (lowest latency) when a thread is idle
+        idle-cpu-level = 5
+      }
+      throughput = 100
+    }
+    //#affinity-pool-dispatcher-config
+
     //#fixed-pool-size-dispatcher-config
     blocking-io-dispatcher {
       type = Dispatcher
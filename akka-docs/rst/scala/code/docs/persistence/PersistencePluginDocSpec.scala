@@ -47,6 +47,9 @@ object PersistencePluginDocSpec {
       //#native-config
       akka.persistence.journal.leveldb.native = off
       //#native-config
+      //#group-commit-config
+      akka.persistence.journal.leveldb.group-commit.enabled = on
+      //#group-commit-config
     """
 }
 
@@ -0,0 +1,21 @@
+package akka.persistence.journal.leveldb
+
+import akka.persistence.journal.JournalSpec
+import akka.persistence.{ PersistenceSpec, PluginCleanup }
+
+class LeveldbJournalGroupCommitSpec extends JournalSpec(
+  config = PersistenceSpec.config(
+    "leveldb",
+    "LeveldbJournalGroupCommitSpec",
+    extraConfig = Some("""
+      akka.persistence.journal.leveldb.native = off
+      akka.persistence.journal.leveldb.group-commit {
+        enabled = on
+        max-batch-size = 10
+        max-latency = 5ms
+      }
+      """)))
+  with PluginCleanup {
+
+  override def supportsRejectingNonSerializableObjects = true
+}
@@ -23,6 +23,8 @@ private[persistence] trait LeveldbRecovery extends AsyncRecovery { this: Leveldb
   private lazy val replayDispatcher = context.system.dispatchers.lookup(replayDispatcherId)
 
   def asyncReadHighestSequenceNr(persistenceId: String, fromSequenceNr: Long): Future[Long] = {
+    // replays always start with this, pending group commit writes must be visible to them
+    flushGroupCommit()
     val nid = numericId(persistenceId)
     Future(readHighestSequenceNr(nid))(replayDispatcher)
   }
@@ -6,6 +6,7 @@
 package akka.persistence.journal.leveldb
 
 import java.io.File
+import java.util.concurrent.TimeUnit
 
 import scala.collection.mutable
 import akka.actor._
@@ -16,13 +17,19 @@ import org.iq80.leveldb._
 
 import scala.collection.immutable
 import scala.util._
-import scala.concurrent.Future
+import scala.concurrent.{ Future, Promise }
+import scala.concurrent.duration._
 import scala.util.control.NonFatal
 import akka.persistence.journal.Tagged
 import com.typesafe.config.{ Config, ConfigFactory }
 
 private[persistence] object LeveldbStore {
   val emptyConfig = ConfigFactory.empty()
+
+  /**
+   * Sent by the store to itself to write the pending group commit batch.
+   */
+  case object FlushGroupCommit extends DeadLetterSuppression
 }
 
 /**
@@ -41,6 +48,24 @@ private[persistence] trait LeveldbStore extends Actor with WriteJournalBase with
   val leveldbDir = new File(config.getString("dir"))
   var leveldb: DB = _
 
+  // group commit settings, optional so that explicitly passed plugin configs need not define them
+  private val groupCommitEnabled =
+    config.hasPath("group-commit.enabled") && config.getBoolean("group-commit.enabled")
+  private val groupCommitMaxBatchSize =
+    if (groupCommitEnabled) config.getInt("group-commit.max-batch-size") else 0
+  private val groupCommitMaxLatency =
+    if (groupCommitEnabled) config.getDuration("group-commit.max-latency", TimeUnit.MICROSECONDS).micros else Duration.Zero
+
+  // state of the group commit batch that has not been written yet
+  private var groupCommitBatch: WriteBatch = _
+  private var groupCommitSize = 0
+  private var groupCommitResults = List.empty[(Promise[immutable.Seq[Try[Unit]]], immutable.Seq[Try[Unit]])]
+  private var groupCommitFlushScheduled = false
+
+  // persistence ids and tags of written events that have subscribers
+  private var changedPersistenceIds = Set.empty[String]
+  private var changedTags = Set.empty[String]
+
   private val persistenceIdSubscribers = new mutable.HashMap[String, mutable.Set[ActorRef]] with mutable.MultiMap[String, ActorRef]
   private val tagSubscribers = new mutable.HashMap[String, mutable.Set[ActorRef]] with mutable.MultiMap[String, ActorRef]
   private var allPersistenceIdsSubscribers = Set.empty[ActorRef]
@@ -56,45 +81,111 @@ private[persistence] trait LeveldbStore extends Actor with WriteJournalBase with
 
   import Key._
 
-  def asyncWriteMessages(messages: immutable.Seq[AtomicWrite]): Future[immutable.Seq[Try[Unit]]] = {
-    var persistenceIds = Set.empty[String]
-    var allTags = Set.empty[String]
-
-    val result = Future.fromTry(Try {
-      withBatch(batch ⇒ messages.map { a ⇒
-        Try {
-          a.payload.foreach { p ⇒
-            val (p2, tags) = p.payload match {
-              case Tagged(payload, tags) ⇒
-                (p.withPayload(payload), tags)
-              case _ ⇒ (p, Set.empty[String])
-            }
-            if (tags.nonEmpty && hasTagSubscribers)
-              allTags = allTags union tags
+  def asyncWriteMessages(messages: immutable.Seq[AtomicWrite]): Future[immutable.Seq[Try[Unit]]] =
+    if (groupCommitEnabled) {
+      if (groupCommitBatch eq null) groupCommitBatch = leveldb.createWriteBatch()
+      val result = Promise[immutable.Seq[Try[Unit]]]()
+      groupCommitResults ::= (result → addToBatch(messages, groupCommitBatch))
+      groupCommitSize += messages.size
+      if (groupCommitSize >= groupCommitMaxBatchSize)
+        flushGroupCommit()
+      else if (!groupCommitFlushScheduled) {
+        // without max-latency the flush message is enqueued behind the write requests
+        // that have already arrived, i.e. those will all join the batch
+        groupCommitFlushScheduled = true
+        if (groupCommitMaxLatency == Duration.Zero) self ! LeveldbStore.FlushGroupCommit
+        else context.system.scheduler.scheduleOnce(groupCommitMaxLatency, self, LeveldbStore.FlushGroupCommit)(context.dispatcher)
+      }
+      result.future
+    } else {
+      val result = Future.fromTry(Try {
+        withBatch(batch ⇒ addToBatch(messages, batch))
+      })
+      notifySubscribers()
+      result
+    }
+
+  /**
+   * Writes the batch that has been collected from all write requests since the previous
+   * group commit with one LevelDB write (and fsync) and completes the results of these
+   * requests. Must be called from the actor, it is invoked before all reads and deletes
+   * so that they observe the writes that have already been acknowledged to the journal.
+   */
+  def flushGroupCommit(): Unit =
+    if (groupCommitBatch ne null) {
+      val batch = groupCommitBatch
+      val results = groupCommitResults.reverse
+      groupCommitBatch = null
+      groupCommitResults = Nil
+      groupCommitSize = 0
+      try {
+        leveldb.write(batch, leveldbWriteOptions)
+        results.foreach { case (promise, r) ⇒ promise.success(r) }
+      } catch {
+        case NonFatal(e) ⇒ results.foreach { case (promise, _) ⇒ promise.failure(e) }
+      } finally {
+        batch.close()
+      }
+      notifySubscribers()
+    }
 
-            require(
-              !p2.persistenceId.startsWith(tagPersistenceIdPrefix),
-              s"persistenceId [${p.persistenceId}] must not start with $tagPersistenceIdPrefix")
-            addToMessageBatch(p2, tags, batch)
+  /**
+   * Adds the messages to the batch and returns the individual results of the
+   * `AtomicWrite`s. All events of an `AtomicWrite` are serialized before any of them
+   * is added, so that a failed `AtomicWrite` leaves nothing in the (shared) batch.
+   * Persistence ids and tags that have subscribers are recorded for notification
+   * after the batch has been written.
+   */
+  private def addToBatch(messages: immutable.Seq[AtomicWrite], batch: WriteBatch): immutable.Seq[Try[Unit]] =
+    messages.map { a ⇒
+      Try {
+        val serialized = a.payload.map { p ⇒
+          val (p2, tags) = p.payload match {
+            case Tagged(payload, tags) ⇒
+              (p.withPayload(payload), tags)
+            case _ ⇒ (p, Set.empty[String])
           }
-          if (hasPersistenceIdSubscribers)
-            persistenceIds += a.persistenceId
+          require(
+            !p2.persistenceId.startsWith(tagPersistenceIdPrefix),
+            s"persistenceId [${p.persistenceId}] must not start with $tagPersistenceIdPrefix")
+          (p2, tags, persistentToBytes(p2))
         }
-      })
-    })
+        serialized.foreach {
+          case (p2, tags, persistentBytes) ⇒
+            if (tags.nonEmpty && hasTagSubscribers)
+              changedTags = changedTags union tags
+            addToMessageBatch(p2, tags, persistentBytes, batch)
+        }
+        if (hasPersistenceIdSubscribers)
+          changedPersistenceIds += a.persistenceId
+      }
+    }
 
+  private def notifySubscribers(): Unit = {
     if (hasPersistenceIdSubscribers) {
-      persistenceIds.foreach { pid ⇒
+      changedPersistenceIds.foreach { pid ⇒
         notifyPersistenceIdChange(pid)
       }
     }
-    if (hasTagSubscribers && allTags.nonEmpty)
-      allTags.foreach(notifyTagChange)
-    result
+    if (hasTagSubscribers && changedTags.nonEmpty)
+      changedTags.foreach(notifyTagChange)
+    changedPersistenceIds = Set.empty
+    changedTags = Set.empty
+  }
+
+  /**
+   * Handles the scheduled flush of the group commit batch, to be included
+   * in the `receive` of the store actor.
+   */
+  def receiveGroupCommit: Receive = {
+    case LeveldbStore.FlushGroupCommit ⇒
+      groupCommitFlushScheduled = false
+      flushGroupCommit()
   }
 
   def asyncDeleteMessagesTo(persistenceId: String, toSequenceNr: Long): Future[Unit] =
     try Future.successful {
+      flushGroupCommit()
       withBatch { batch ⇒
         val nid = numericId(persistenceId)
 
@@ -145,8 +236,7 @@ private[persistence] trait LeveldbStore extends Actor with WriteJournalBase with
   def persistentToBytes(p: PersistentRepr): Array[Byte] = serialization.serialize(p).get
   def persistentFromBytes(a: Array[Byte]): PersistentRepr = serialization.deserialize(a, classOf[PersistentRepr]).get
 
-  private def addToMessageBatch(persistent: PersistentRepr, tags: Set[String], batch: WriteBatch): Unit = {
-    val persistentBytes = persistentToBytes(persistent)
+  private def addToMessageBatch(persistent: PersistentRepr, tags: Set[String], persistentBytes: Array[Byte], batch: WriteBatch): Unit = {
     val nid = numericId(persistent.persistenceId)
     batch.put(keyToBytes(counterKey(nid)), counterToBytes(persistent.sequenceNr))
     batch.put(keyToBytes(Key(nid, persistent.sequenceNr, 0)), persistentBytes)
@@ -180,6 +270,7 @@ private[persistence] trait LeveldbStore extends Actor with WriteJournalBase with
   }
 
   override def postStop() {
+    flushGroupCommit()
     leveldb.close()
     super.postStop()
   }
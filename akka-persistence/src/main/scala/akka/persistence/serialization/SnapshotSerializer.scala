@@ -27,8 +27,11 @@ private[serialization] final case class SnapshotHeader(serializerId: Int, manife
 
 /**
  * [[Snapshot]] serializer.
+ *
+ * Snapshot `data` serialized by a [[StreamingSerializer]] is written to and read from
+ * the stream directly when using the streaming `toBinary` and `fromBinary` methods.
  */
-class SnapshotSerializer(val system: ExtendedActorSystem) extends BaseSerializer {
+class SnapshotSerializer(val system: ExtendedActorSystem) extends BaseSerializer with StreamingSerializer {
 
   override val includeManifest: Boolean = false
 
@@ -44,8 +47,19 @@ class SnapshotSerializer(val system: ExtendedActorSystem) extends BaseSerializer
    * Serializes a [[Snapshot]]. Delegates serialization of snapshot `data` to a matching
    * `akka.serialization.Serializer`.
    */
-  def toBinary(o: AnyRef): Array[Byte] = o match {
-    case Snapshot(data) ⇒ snapshotToBinary(data.asInstanceOf[AnyRef])
+  def toBinary(o: AnyRef): Array[Byte] = {
+    val out = new ByteArrayOutputStream
+    toBinary(o, out)
+    out.toByteArray
+  }
+
+  /**
+   * Serializes a [[Snapshot]] into the `OutputStream`. Delegates serialization of snapshot
+   * `data` to a matching `akka.serialization.Serializer`, which writes to the stream directly
+   * if it is a [[StreamingSerializer]].
+   */
+  def toBinary(o: AnyRef, out: OutputStream): Unit = o match {
+    case Snapshot(data) ⇒ snapshotToBinary(data.asInstanceOf[AnyRef], out)
     case _              ⇒ throw new IllegalArgumentException(s"Can't serialize object of type ${o.getClass}")
   }
 
@@ -54,10 +68,18 @@ class SnapshotSerializer(val system: ExtendedActorSystem) extends BaseSerializer
    * `akka.serialization.Serializer`.
    */
   def fromBinary(bytes: Array[Byte], manifest: Option[Class[_]]): AnyRef =
-    Snapshot(snapshotFromBinary(bytes))
+    Snapshot(snapshotFromBinary(new ByteArrayInputStream(bytes)))
 
-  private def snapshotToBinary(snapshot: AnyRef): Array[Byte] = {
-    def serialize() = {
+  /**
+   * Deserializes a [[Snapshot]] from the `InputStream`. Delegates deserialization of snapshot
+   * `data` to a matching `akka.serialization.Serializer`, which reads from the stream directly
+   * if it is a [[StreamingSerializer]].
+   */
+  def fromBinary(in: InputStream, manifest: String): AnyRef =
+    Snapshot(snapshotFromBinary(in))
+
+  private def snapshotToBinary(snapshot: AnyRef, out: OutputStream): Unit = {
+    def serialize(): Unit = {
       val snapshotSerializer = serialization.findSerializerFor(snapshot)
 
       val headerOut = new ByteArrayOutputStream
@@ -75,13 +97,13 @@ class SnapshotSerializer(val system: ExtendedActorSystem) extends BaseSerializer
 
       val headerBytes = headerOut.toByteArray
 
-      val out = new ByteArrayOutputStream
-
       writeInt(out, headerBytes.length)
 
       out.write(headerBytes)
-      out.write(snapshotSerializer.toBinary(snapshot))
-      out.toByteArray
+      snapshotSerializer match {
+        case ser: StreamingSerializer ⇒ ser.toBinary(snapshot, out)
+        case _                        ⇒ out.write(snapshotSerializer.toBinary(snapshot))
+      }
     }
 
     // serialize actor references with full address information (defaultAddress)
@@ -91,11 +113,8 @@ class SnapshotSerializer(val system: ExtendedActorSystem) extends BaseSerializer
     }
   }
 
-  private def snapshotFromBinary(bytes: Array[Byte]): AnyRef = {
-    val in = new ByteArrayInputStream(bytes)
-    val headerLength = readInt(in)
-    val headerBytes = bytes.slice(4, headerLength + 4)
-    val snapshotBytes = bytes.drop(headerLength + 4)
+  private def snapshotFromBinary(in: InputStream): AnyRef = {
+    val headerBytes = readHeader(in, readInt(in))
 
     /*
      * Attempt to find the `key` in the supplied array and if successful
@@ -126,7 +145,7 @@ class SnapshotSerializer(val system: ExtendedActorSystem) extends BaseSerializer
     // we can remove this attempt to deserialize SnapshotHeader with JavaSerializer.
     // Then the class SnapshotHeader can be removed. See issue #16009
     val oldHeader =
-      if (readShort(in) == 0xedac) { // Java Serialization magic value with swapped bytes
+      if (readShort(new ByteArrayInputStream(headerBytes)) == 0xedac) { // Java Serialization magic value with swapped bytes
         val b = if (SnapshotSerializer.doPatch) patch(headerBytes) else headerBytes
         serialization.deserialize(b, classOf[SnapshotHeader]).toOption
       } else None
@@ -145,7 +164,35 @@ class SnapshotSerializer(val system: ExtendedActorSystem) extends BaseSerializer
       SnapshotHeader(serializerId, manifest)
     }
 
-    serialization.deserialize(snapshotBytes, header.serializerId, header.manifest.getOrElse("")).get
+    val manifest = header.manifest.getOrElse("")
+    serialization.serializerByIdentity.get(header.serializerId) match {
+      case Some(ser: StreamingSerializer) ⇒ ser.fromBinary(in, manifest)
+      case _                              ⇒ serialization.deserialize(remainingBytes(in), header.serializerId, manifest).get
+    }
+  }
+
+  // the header is read in chunks so that a corrupt length cannot cause a huge allocation up front
+  private def readHeader(in: InputStream, headerLength: Int): Array[Byte] = {
+    if (headerLength < 0)
+      throw new NotSerializableException(s"Invalid snapshot header length [$headerLength]")
+    val out = new ByteArrayOutputStream(math.min(headerLength, 256))
+    val buf = Array.ofDim[Byte](math.min(headerLength, 4096))
+    var remaining = headerLength
+    while (remaining > 0) {
+      val n = in.read(buf, 0, math.min(remaining, buf.length))
+      if (n == -1) throw new EOFException(s"Snapshot header truncated, [$remaining] of [$headerLength] bytes missing")
+      out.write(buf, 0, n)
+      remaining -= n
+    }
+    out.toByteArray
+  }
+
+  private def remainingBytes(in: InputStream): Array[Byte] = in match {
+    case bytesIn: ByteArrayInputStream ⇒
+      val bytes = Array.ofDim[Byte](bytesIn.available)
+      bytesIn.read(bytes)
+      bytes
+    case _ ⇒ streamToBytes(in)
   }
 
   private def writeInt(outputStream: OutputStream, i: Int) =
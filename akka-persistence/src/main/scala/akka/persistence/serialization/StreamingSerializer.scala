@@ -0,0 +1,36 @@
+/**
+ * Copyright (C) 2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+
+package akka.persistence.serialization
+
+import java.io.{ InputStream, OutputStream }
+
+/**
+ * Serializers for snapshot `data` can mix in this trait to write to and read from
+ * the snapshot file directly instead of going through one `Array[Byte]` holding
+ * the complete serialized form. This allows very large snapshots to be saved and
+ * loaded by a [[akka.persistence.snapshot.local.LocalSnapshotStore]] without ever
+ * having to fit into memory as a single array.
+ *
+ * The streaming methods must produce and accept exactly the same bytes as the
+ * `toBinary` and `fromBinary` methods of the serializer, since snapshots written
+ * with one may be read with the other.
+ *
+ * The streams are owned by the caller, implementations must neither close them
+ * nor read beyond the end of the serialized form.
+ */
+trait StreamingSerializer {
+
+  /**
+   * Serializes the given object into the `OutputStream`.
+   */
+  def toBinary(o: AnyRef, out: OutputStream): Unit
+
+  /**
+   * Produces an object from an `InputStream`, with an optional type-hint;
+   * the class should be loaded using ActorSystem.dynamicAccess.
+   */
+  def fromBinary(in: InputStream, manifest: String): AnyRef
+
+}
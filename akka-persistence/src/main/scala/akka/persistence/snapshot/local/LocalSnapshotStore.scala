@@ -113,10 +113,17 @@ private[persistence] class LocalSnapshotStore(config: Config) extends SnapshotSt
   }
 
   protected def deserialize(inputStream: InputStream): Snapshot =
-    serializationExtension.deserialize(streamToBytes(inputStream), classOf[Snapshot]).get
+    serializationExtension.serializerFor(classOf[Snapshot]) match {
+      case ser: StreamingSerializer ⇒ ser.fromBinary(inputStream, "").asInstanceOf[Snapshot]
+      case _                        ⇒ serializationExtension.deserialize(streamToBytes(inputStream), classOf[Snapshot]).get
+    }
 
+  // the snapshot is written through to the file if the serializer supports it, without an intermediate array
   protected def serialize(outputStream: OutputStream, snapshot: Snapshot): Unit =
-    outputStream.write(serializationExtension.findSerializerFor(snapshot).toBinary(snapshot))
+    serializationExtension.findSerializerFor(snapshot) match {
+      case ser: StreamingSerializer ⇒ ser.toBinary(snapshot, outputStream)
+      case ser                      ⇒ outputStream.write(ser.toBinary(snapshot))
+    }
 
   protected def withOutputStream(metadata: SnapshotMetadata)(p: (OutputStream) ⇒ Unit): File = {
     val tmpFile = snapshotFileForWrite(metadata, extension = "tmp")
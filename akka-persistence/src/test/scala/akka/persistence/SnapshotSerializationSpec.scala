@@ -5,9 +5,11 @@
 package akka.persistence
 
 import akka.actor.{ Props, ActorRef }
+import akka.persistence.serialization.StreamingSerializer
 import akka.serialization.Serializer
 import akka.testkit.{ ImplicitSender }
 import java.io._
+import java.util.concurrent.atomic.AtomicInteger
 
 object SnapshotSerializationSpec {
   trait SerializationMarker
@@ -47,6 +49,50 @@ object SnapshotSerializationSpec {
     }
   }
 
+  trait StreamingMarker
+
+  class LargeSnapshot(val elements: Vector[Int]) extends StreamingMarker {
+    override def equals(obj: scala.Any) = obj match {
+      case s: LargeSnapshot ⇒ s.elements.equals(elements)
+      case _                ⇒ false
+    }
+  }
+
+  object LargeSnapshotSerializer {
+    val streamedWrites = new AtomicInteger
+    val streamedReads = new AtomicInteger
+  }
+
+  class LargeSnapshotSerializer extends Serializer with StreamingSerializer {
+    import LargeSnapshotSerializer._
+    def includeManifest: Boolean = false
+    def identifier = 5178
+
+    def toBinary(obj: AnyRef): Array[Byte] = {
+      val bStream = new ByteArrayOutputStream()
+      toBinary(obj, bStream)
+      bStream.toByteArray
+    }
+
+    def fromBinary(bytes: Array[Byte], clazz: Option[Class[_]]): AnyRef =
+      fromBinary(new ByteArrayInputStream(bytes), "")
+
+    def toBinary(obj: AnyRef, out: OutputStream): Unit = {
+      streamedWrites.incrementAndGet()
+      val dStream = new DataOutputStream(out)
+      val elements = obj.asInstanceOf[LargeSnapshot].elements
+      dStream.writeInt(elements.size)
+      elements.foreach(dStream.writeInt)
+      dStream.flush()
+    }
+
+    def fromBinary(in: InputStream, manifest: String): AnyRef = {
+      streamedReads.incrementAndGet()
+      val dStream = new DataInputStream(in)
+      new LargeSnapshot(Vector.fill(dStream.readInt())(dStream.readInt()))
+    }
+  }
+
   class TestPersistentActor(name: String, probe: ActorRef) extends NamedPersistentActor(name) {
 
     override def receiveRecover: Receive = {
@@ -57,6 +103,7 @@ object SnapshotSerializationSpec {
 
     override def receiveCommand = {
       case s: String               ⇒ saveSnapshot(new MySnapshot(s))
+      case n: Int                  ⇒ saveSnapshot(new LargeSnapshot(Vector.range(0, n)))
       case SaveSnapshotSuccess(md) ⇒ probe ! md.sequenceNr
       case other                   ⇒ probe ! other
     }
@@ -69,9 +116,11 @@ class SnapshotSerializationSpec extends PersistenceSpec(PersistenceSpec.config("
     akka.actor {
       serializers {
         my-snapshot = "akka.persistence.SnapshotSerializationSpec$MySerializer"
+        large-snapshot = "akka.persistence.SnapshotSerializationSpec$LargeSnapshotSerializer"
       }
       serialization-bindings {
         "akka.persistence.SnapshotSerializationSpec$SerializationMarker" = my-snapshot
+        "akka.persistence.SnapshotSerializationSpec$StreamingMarker" = large-snapshot
       }
     }
   """))) with ImplicitSender {
@@ -93,5 +142,23 @@ class SnapshotSerializationSpec extends PersistenceSpec(PersistenceSpec.config("
           timestamp should be > (0L)
       }
     }
+
+    "stream snapshot data through a StreamingSerializer" in {
+      val sPersistentActor = system.actorOf(Props(classOf[TestPersistentActor], name, testActor))
+      val persistenceId = name
+      val writesBefore = LargeSnapshotSerializer.streamedWrites.get
+      val readsBefore = LargeSnapshotSerializer.streamedReads.get
+
+      sPersistentActor ! 100000
+      expectMsg(0)
+      LargeSnapshotSerializer.streamedWrites.get should ===(writesBefore + 1)
+
+      val lPersistentActor = system.actorOf(Props(classOf[TestPersistentActor], name, testActor))
+      expectMsgPF() {
+        case (SnapshotMetadata(`persistenceId`, 0, _), state) ⇒
+          state should ===(new LargeSnapshot(Vector.range(0, 100000)))
+      }
+      LargeSnapshotSerializer.streamedReads.get should ===(readsBefore + 1)
+    }
   }
 }
@@ -0,0 +1,191 @@
+/**
+ * Copyright (C) 2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+
+package akka.persistence.journal.leveldb
+
+import java.io.File
+import java.lang.reflect.{ InvocationHandler, InvocationTargetException, Method, Proxy }
+
+import scala.collection.immutable
+import scala.concurrent.duration._
+
+import akka.actor.{ Actor, ActorRef }
+import akka.persistence.JournalProtocol._
+import akka.persistence._
+import akka.persistence.journal.Tagged
+import akka.testkit.TestProbe
+import com.typesafe.config.Config
+import org.iq80.leveldb.{ DB, DBFactory, Options }
+
+object LeveldbStoreGroupCommitSpec {
+  case object GetWriteCount
+
+  class NotSerializable(val s: String)
+
+  /**
+   * LevelDB journal that counts the writes (and so the fsyncs) of the LevelDB database.
+   */
+  class WriteCountingJournal(cfg: Config) extends LeveldbJournal(cfg) {
+    private var writes = 0
+
+    override def leveldbFactory: DBFactory = {
+      val factory = super.leveldbFactory
+      new DBFactory {
+        override def open(path: File, options: Options): DB = counting(factory.open(path, options))
+        override def destroy(path: File, options: Options): Unit = factory.destroy(path, options)
+        override def repair(path: File, options: Options): Unit = factory.repair(path, options)
+      }
+    }
+
+    private def counting(db: DB): DB =
+      Proxy.newProxyInstance(getClass.getClassLoader, Array(classOf[DB]), new InvocationHandler {
+        override def invoke(proxy: AnyRef, method: Method, args: Array[AnyRef]): AnyRef = {
+          if (method.getName == "write") writes += 1
+          try method.invoke(db, (if (args eq null) Array.empty[AnyRef] else args): _*)
+          catch { case e: InvocationTargetException ⇒ throw e.getCause }
+        }
+      }).asInstanceOf[DB]
+
+    override def receivePluginInternal: Receive = ({
+      case GetWriteCount ⇒ sender() ! writes
+    }: Receive) orElse super.receivePluginInternal
+  }
+}
+
+class LeveldbStoreGroupCommitSpec extends PersistenceSpec(PersistenceSpec.config(
+  "leveldb",
+  "LeveldbStoreGroupCommitSpec",
+  serialization = "off",
+  extraConfig = Some("""
+    akka.persistence.journal.leveldb {
+      class = "akka.persistence.journal.leveldb.LeveldbStoreGroupCommitSpec$WriteCountingJournal"
+      native = off
+      group-commit {
+        enabled = on
+        max-batch-size = 10
+        max-latency = 2s
+      }
+    }
+    """))) {
+  import LeveldbStoreGroupCommitSpec._
+
+  val writerUuid = "writer"
+
+  def journal: ActorRef = extension.journalFor(null)
+
+  def writeCount(): Int = {
+    val probe = TestProbe()
+    journal.tell(GetWriteCount, probe.ref)
+    probe.expectMsgType[Int]
+  }
+
+  def event(pid: String, seqNr: Long, payload: Any): PersistentRepr =
+    PersistentRepr(payload, seqNr, pid, writerUuid = writerUuid, sender = Actor.noSender)
+
+  def write(writer: TestProbe, writes: AtomicWrite*): Unit =
+    journal ! WriteMessages(writes.toList, writer.ref, actorInstanceId = 1)
+
+  def expectWritten(writer: TestProbe, pid: String, seqNrs: Long*): Unit = {
+    writer.expectMsg(WriteMessagesSuccessful)
+    seqNrs.foreach { seqNr ⇒
+      writer.expectMsgPF() {
+        case WriteMessageSuccess(p, 1) if p.persistenceId == pid && p.sequenceNr == seqNr ⇒
+      }
+    }
+  }
+
+  def replay(pid: String): immutable.Seq[Any] = {
+    val probe = TestProbe()
+    journal ! ReplayMessages(1, Long.MaxValue, Long.MaxValue, pid, probe.ref)
+    val replayed = probe.receiveWhile() {
+      case ReplayedMessage(p) ⇒ p.payload
+    }
+    probe.expectMsg(RecoverySuccess(highestSequenceNr = replayed.size.toLong))
+    replayed
+  }
+
+  "A LevelDB journal with group commit" must {
+
+    "write the AtomicWrites of concurrent writers with one LevelDB write" in {
+      val before = writeCount()
+      // 8 AtomicWrites, fewer than the max-batch-size
+      val writers = (1 to 4).map { n ⇒
+        val writer = TestProbe()
+        write(writer, AtomicWrite(event(s"$name-$n", 1, "a-1")), AtomicWrite(event(s"$name-$n", 2, "a-2")))
+        writer
+      }
+      // the results are only sent when the batch has been written
+      writers.head.expectNoMsg(100.millis)
+
+      writers.zipWithIndex.foreach {
+        case (writer, i) ⇒ expectWritten(writer, s"$name-${i + 1}", 1, 2)
+      }
+      writeCount() - before should ===(1)
+      (1 to 4).foreach { n ⇒
+        replay(s"$name-$n") should ===(List("a-1", "a-2"))
+      }
+    }
+
+    "keep the order and atomicity of each AtomicWrite in the combined batch" in {
+      val writer1 = TestProbe()
+      val writer2 = TestProbe()
+      write(
+        writer1,
+        AtomicWrite(List(event(s"$name-1", 1, "a-1"), event(s"$name-1", 2, "a-2"))),
+        AtomicWrite(List(event(s"$name-1", 3, "a-3"), event(s"$name-1", 4, new NotSerializable("a-4")))))
+      write(writer2, AtomicWrite(List(event(s"$name-2", 1, "c-1"), event(s"$name-2", 2, "c-2"))))
+
+      writer1.expectMsg(WriteMessagesSuccessful)
+      writer1.expectMsgType[WriteMessageSuccess].persistent.sequenceNr should ===(1L)
+      writer1.expectMsgType[WriteMessageSuccess].persistent.sequenceNr should ===(2L)
+      writer1.expectMsgType[WriteMessageRejected].message.sequenceNr should ===(3L)
+      writer1.expectMsgType[WriteMessageRejected].message.sequenceNr should ===(4L)
+      expectWritten(writer2, s"$name-2", 1, 2)
+
+      // nothing of the rejected AtomicWrite has been written
+      replay(s"$name-1") should ===(List("a-1", "a-2"))
+      replay(s"$name-2") should ===(List("c-1", "c-2"))
+    }
+
+    "notify the persistence id and tag subscribers when the combined batch has been written" in {
+      val pidSubscriber = TestProbe()
+      val tagSubscriber = TestProbe()
+      journal.tell(LeveldbJournal.SubscribePersistenceId(s"$name-1"), pidSubscriber.ref)
+      journal.tell(LeveldbJournal.SubscribeTag("blue"), tagSubscriber.ref)
+
+      val writer1 = TestProbe()
+      val writer2 = TestProbe()
+      write(writer1, AtomicWrite(event(s"$name-1", 1, Tagged("a-1", Set("blue")))),
+        AtomicWrite(event(s"$name-1", 2, "a-2")))
+      write(writer2, AtomicWrite(event(s"$name-2", 1, Tagged("b-1", Set("blue", "green")))))
+
+      // one notification per persistence id and tag of the batch, when its events can be read
+      pidSubscriber.expectMsg(LeveldbJournal.EventAppended(s"$name-1"))
+      replay(s"$name-1") should ===(List("a-1", "a-2"))
+      tagSubscriber.expectMsg(LeveldbJournal.TaggedEventAppended("blue"))
+      pidSubscriber.expectNoMsg(200.millis)
+      tagSubscriber.expectNoMsg(200.millis)
+
+      expectWritten(writer1, s"$name-1", 1, 2)
+      expectWritten(writer2, s"$name-2", 1)
+    }
+
+    "write the batch when max-batch-size AtomicWrites have been collected" in {
+      val before = writeCount()
+      val writers = (1 to 10).map { n ⇒
+        val writer = TestProbe()
+        write(writer, AtomicWrite(event(s"$name-$n", 1, "a-1")))
+        writer
+      }
+
+      // well before the max-latency
+      within(1.second) {
+        writers.zipWithIndex.foreach {
+          case (writer, i) ⇒ expectWritten(writer, s"$name-${i + 1}", 1)
+        }
+      }
+      writeCount() - before should ===(1)
+    }
+  }
+}
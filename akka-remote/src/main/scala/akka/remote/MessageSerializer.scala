@@ -11,6 +11,7 @@ import akka.remote.artery.{ EnvelopeBuffer, HeaderBuilder, OutboundEnvelope }
 import akka.serialization.Serialization
 import akka.serialization.ByteBufferSerializer
 import akka.serialization.SerializationExtension
+import akka.serialization.Serializer
 import akka.serialization.SerializerWithStringManifest
 import scala.util.control.NonFatal
 
@@ -27,10 +28,12 @@ private[akka] object MessageSerializer {
    * Uses Akka Serialization for the specified ActorSystem to transform the given MessageProtocol to a message
    */
   def deserialize(system: ExtendedActorSystem, messageProtocol: SerializedMessage): AnyRef = {
-    SerializationExtension(system).deserialize(
-      messageProtocol.getMessage.toByteArray,
+    // a ByteBufferSerializer reads the message directly from the protobuf buffer, without
+    // copying it to an array first
+    SerializationExtension(system).deserializeByteBuffer(
+      messageProtocol.getMessage.asReadOnlyByteBuffer,
       messageProtocol.getSerializerId,
-      if (messageProtocol.hasMessageManifest) messageProtocol.getMessageManifest.toStringUtf8 else "").get
+      if (messageProtocol.hasMessageManifest) messageProtocol.getMessageManifest.toStringUtf8 else "")
   }
 
   /**
@@ -39,22 +42,29 @@ private[akka] object MessageSerializer {
    * Throws `MessageSerializer.SerializationException` if exception was thrown from `toBinary` of the
    * serializer.
    */
-  def serialize(system: ExtendedActorSystem, message: AnyRef): SerializedMessage = {
+  def serialize(system: ExtendedActorSystem, message: AnyRef): SerializedMessage = message match {
+    case once: SerializedOnce ⇒
+      val serialized = once.serialized(SerializationExtension(system))
+      val builder = SerializedMessage.newBuilder
+        .setMessage(serialized.bytes)
+        .setSerializerId(serialized.serializerId)
+      if (serialized.manifest != "")
+        builder.setMessageManifest(ByteString.copyFromUtf8(serialized.manifest))
+      builder.build
+    case _ ⇒
+      serializeMessage(system, message)
+  }
+
+  private def serializeMessage(system: ExtendedActorSystem, message: AnyRef): SerializedMessage = {
     val s = SerializationExtension(system)
     val serializer = s.findSerializerFor(message)
     val builder = SerializedMessage.newBuilder
     try {
       builder.setMessage(ByteString.copyFrom(serializer.toBinary(message)))
       builder.setSerializerId(serializer.identifier)
-      serializer match {
-        case ser2: SerializerWithStringManifest ⇒
-          val manifest = ser2.manifest(message)
-          if (manifest != "")
-            builder.setMessageManifest(ByteString.copyFromUtf8(manifest))
-        case _ ⇒
-          if (serializer.includeManifest)
-            builder.setMessageManifest(ByteString.copyFromUtf8(message.getClass.getName))
-      }
+      val messageManifest = manifest(serializer, message)
+      if (messageManifest != "")
+        builder.setMessageManifest(ByteString.copyFromUtf8(messageManifest))
       builder.build
     } catch {
       case NonFatal(e) ⇒
@@ -63,28 +73,38 @@ private[akka] object MessageSerializer {
     }
   }
 
-  def serializeForArtery(serialization: Serialization, outboundEnvelope: OutboundEnvelope, headerBuilder: HeaderBuilder, envelope: EnvelopeBuffer): Unit = {
-    val message = outboundEnvelope.message
-    val serializer = serialization.findSerializerFor(message)
+  /**
+   * The manifest that is sent along with the serialized `message`, empty if the serializer does not use one.
+   */
+  def manifest(serializer: Serializer, message: AnyRef): String = serializer match {
+    case ser: SerializerWithStringManifest ⇒ ser.manifest(message)
+    case _                                 ⇒ if (serializer.includeManifest) message.getClass.getName else ""
+  }
 
-    headerBuilder setSerializer serializer.identifier
+  def serializeForArtery(serialization: Serialization, outboundEnvelope: OutboundEnvelope, headerBuilder: HeaderBuilder, envelope: EnvelopeBuffer): Unit =
+    outboundEnvelope.message match {
+      case once: SerializedOnce ⇒
+        val serialized = once.serialized(serialization)
+        headerBuilder setSerializer serialized.serializerId
+        headerBuilder setManifest serialized.manifest
+        envelope.writeHeader(headerBuilder, outboundEnvelope)
+        serialized.bytes.copyTo(envelope.byteBuffer)
+      case message ⇒
+        val serializer = serialization.findSerializerFor(message)
 
-    def manifest: String = serializer match {
-      case ser: SerializerWithStringManifest ⇒ ser.manifest(message)
-      case _                                 ⇒ if (serializer.includeManifest) message.getClass.getName else ""
-    }
+        headerBuilder setSerializer serializer.identifier
 
-    serializer match {
-      case ser: ByteBufferSerializer ⇒
-        headerBuilder setManifest manifest
-        envelope.writeHeader(headerBuilder, outboundEnvelope)
-        ser.toBinary(message, envelope.byteBuffer)
-      case _ ⇒
-        headerBuilder setManifest manifest
-        envelope.writeHeader(headerBuilder, outboundEnvelope)
-        envelope.byteBuffer.put(serializer.toBinary(message))
+        serializer match {
+          case ser: ByteBufferSerializer ⇒
+            headerBuilder setManifest manifest(serializer, message)
+            envelope.writeHeader(headerBuilder, outboundEnvelope)
+            ser.toBinary(message, envelope.byteBuffer)
+          case _ ⇒
+            headerBuilder setManifest manifest(serializer, message)
+            envelope.writeHeader(headerBuilder, outboundEnvelope)
+            envelope.byteBuffer.put(serializer.toBinary(message))
+        }
     }
-  }
 
   def deserializeForArtery(system: ExtendedActorSystem, originUid: Long, serialization: Serialization,
                            serializer: Int, classManifest: String, envelope: EnvelopeBuffer): AnyRef = {
@@ -4,11 +4,8 @@
 package akka.remote
 
 import akka.remote.FailureDetector.Clock
-import java.util.concurrent.atomic.AtomicReference
-import scala.annotation.tailrec
 import scala.concurrent.duration.Duration
 import scala.concurrent.duration.FiniteDuration
-import scala.collection.immutable
 import com.typesafe.config.Config
 import akka.event.EventStream
 import akka.util.Helpers.ConfigOps
@@ -82,54 +79,48 @@ class PhiAccrualFailureDetector(
   require(acceptableHeartbeatPause >= Duration.Zero, "failure-detector.acceptable-heartbeat-pause must be >= 0")
   require(firstHeartbeatEstimate > Duration.Zero, "failure-detector.heartbeat-interval must be > 0")
 
+  private val acceptableHeartbeatPauseMillis = acceptableHeartbeatPause.toMillis
+
+  /*
+   * All state is guarded by `this`. The history is updated in place, so that recording a heartbeat
+   * does not allocate. The lock is uncontended in practice, heartbeats are recorded by one actor
+   * and phi is evaluated by a few others.
+   */
+
   // guess statistics for first heartbeat,
   // important so that connections with only one heartbeat becomes unavailable
-  private val firstHeartbeat: HeartbeatHistory = {
+  private val history: HeartbeatHistory = {
     // bootstrap with 2 entries with rather high standard deviation
     val mean = firstHeartbeatEstimate.toMillis
     val stdDeviation = mean / 4
-    HeartbeatHistory(maxSampleSize) :+ (mean - stdDeviation) :+ (mean + stdDeviation)
+    val bootstrap = new HeartbeatHistory(maxSampleSize)
+    bootstrap.add(mean - stdDeviation)
+    bootstrap.add(mean + stdDeviation)
+    bootstrap
   }
-
-  private val acceptableHeartbeatPauseMillis = acceptableHeartbeatPause.toMillis
-
-  /**
-   * Implement using optimistic lockless concurrency, all state is represented
-   * by this immutable case class and managed by an AtomicReference.
-   */
-  private final case class State(history: HeartbeatHistory, timestamp: Option[Long])
-
-  private val state = new AtomicReference[State](State(history = firstHeartbeat, timestamp = None))
+  private var latestTimestamp = 0L
+  private var monitoring = false
 
   override def isAvailable: Boolean = isAvailable(clock())
 
   private def isAvailable(timestamp: Long): Boolean = phi(timestamp) < threshold
 
-  override def isMonitoring: Boolean = state.get.timestamp.nonEmpty
+  override def isMonitoring: Boolean = synchronized { monitoring }
 
-  @tailrec
   final override def heartbeat(): Unit = {
-
     val timestamp = clock()
-    val oldState = state.get
-
-    val newHistory = oldState.timestamp match {
-      case None ⇒
-        // this is heartbeat from a new resource
-        // add starter records for this new resource
-        firstHeartbeat
-      case Some(latestTimestamp) ⇒
+    synchronized {
+      if (monitoring) {
         // this is a known connection
         val interval = timestamp - latestTimestamp
         // don't use the first heartbeat after failure for the history, since a long pause will skew the stats
-        if (isAvailable(timestamp)) oldState.history :+ interval
-        else oldState.history
+        if (isAvailable(timestamp)) history.add(interval)
+      } else {
+        // this is heartbeat from a new resource, the history starts with the bootstrap records
+        monitoring = true
+      }
+      latestTimestamp = timestamp // record new timestamp
     }
-
-    val newState = oldState.copy(history = newHistory, timestamp = Some(timestamp)) // record new timestamp
-
-    // if we won the race then update else try again
-    if (!state.compareAndSet(oldState, newState)) heartbeat() // recur
   }
 
   /**
@@ -140,15 +131,11 @@ class PhiAccrualFailureDetector(
    */
   def phi: Double = phi(clock())
 
-  private def phi(timestamp: Long): Double = {
-    val oldState = state.get
-    val oldTimestamp = oldState.timestamp
-
-    if (oldTimestamp.isEmpty) 0.0 // treat unmanaged connections, e.g. with zero heartbeats, as healthy connections
+  private def phi(timestamp: Long): Double = synchronized {
+    if (!monitoring) 0.0 // treat unmanaged connections, e.g. with zero heartbeats, as healthy connections
     else {
-      val timeDiff = timestamp - oldTimestamp.get
+      val timeDiff = timestamp - latestTimestamp
 
-      val history = oldState.history
       val mean = history.mean
       val stdDeviation = ensureValidStdDeviation(history.stdDeviation)
 
@@ -180,67 +167,52 @@ class PhiAccrualFailureDetector(
 
 }
 
-private[akka] object HeartbeatHistory {
-
-  /**
-   * Create an empty HeartbeatHistory, without any history.
-   * Can only be used as starting point for appending intervals.
-   * The stats (mean, variance, stdDeviation) are not defined for
-   * for empty HeartbeatHistory, i.e. throws ArithmeticException.
-   */
-  def apply(maxSampleSize: Int): HeartbeatHistory = HeartbeatHistory(
-    maxSampleSize = maxSampleSize,
-    intervals = immutable.IndexedSeq.empty,
-    intervalSum = 0L,
-    squaredIntervalSum = 0L)
-
-}
-
 /**
+ * INTERNAL API
+ *
  * Holds the heartbeat statistics for a specific node Address.
- * It is capped by the number of samples specified in `maxSampleSize`.
+ * It is capped by the number of samples specified in `maxSampleSize`, when it is full
+ * a new interval replaces the oldest one in a ring buffer.
+ *
+ * It is mutable and not thread-safe, the [[PhiAccrualFailureDetector]] guards it.
  *
  * The stats (mean, variance, stdDeviation) are not defined for
- * for empty HeartbeatHistory, i.e. throws ArithmeticException.
+ * an empty HeartbeatHistory.
  */
-private[akka] final case class HeartbeatHistory private (
-  maxSampleSize:      Int,
-  intervals:          immutable.IndexedSeq[Long],
-  intervalSum:        Long,
-  squaredIntervalSum: Long) {
-
-  // Heartbeat histories are created trough the firstHeartbeat variable of the PhiAccrualFailureDetector
-  // which always have intervals.size > 0.
+private[akka] final class HeartbeatHistory(val maxSampleSize: Int) {
+
   if (maxSampleSize < 1)
     throw new IllegalArgumentException(s"maxSampleSize must be >= 1, got [$maxSampleSize]")
-  if (intervalSum < 0L)
-    throw new IllegalArgumentException(s"intervalSum must be >= 0, got [$intervalSum]")
-  if (squaredIntervalSum < 0L)
-    throw new IllegalArgumentException(s"squaredIntervalSum must be >= 0, got [$squaredIntervalSum]")
 
-  def mean: Double = intervalSum.toDouble / intervals.size
+  private val intervals = new Array[Long](maxSampleSize)
+  // position of the oldest interval, once the buffer is full
+  private var oldest = 0
+  private var _size = 0
+  private var intervalSum = 0L
+  private var squaredIntervalSum = 0L
+
+  def size: Int = _size
+
+  def mean: Double = intervalSum.toDouble / _size
 
-  def variance: Double = (squaredIntervalSum.toDouble / intervals.size) - (mean * mean)
+  def variance: Double = (squaredIntervalSum.toDouble / _size) - (mean * mean)
 
   def stdDeviation: Double = math.sqrt(variance)
 
-  @tailrec
-  final def :+(interval: Long): HeartbeatHistory = {
-    if (intervals.size < maxSampleSize)
-      HeartbeatHistory(
-        maxSampleSize,
-        intervals = intervals :+ interval,
-        intervalSum = intervalSum + interval,
-        squaredIntervalSum = squaredIntervalSum + pow2(interval))
-    else
-      dropOldest :+ interval // recur
+  def add(interval: Long): Unit = {
+    if (_size < maxSampleSize) {
+      intervals(_size) = interval
+      _size += 1
+    } else {
+      val dropped = intervals(oldest)
+      intervalSum -= dropped
+      squaredIntervalSum -= pow2(dropped)
+      intervals(oldest) = interval
+      oldest = if (oldest == maxSampleSize - 1) 0 else oldest + 1
+    }
+    intervalSum += interval
+    squaredIntervalSum += pow2(interval)
   }
 
-  private def dropOldest: HeartbeatHistory = HeartbeatHistory(
-    maxSampleSize,
-    intervals = intervals drop 1,
-    intervalSum = intervalSum - intervals.head,
-    squaredIntervalSum = squaredIntervalSum - pow2(intervals.head))
-
   private def pow2(x: Long) = x * x
 }
@@ -95,22 +95,26 @@ private[akka] object RemoteActorRefProvider {
       case Send(m, senderOption, recipient, seqOpt) ⇒
         // else ignore: it is a reliably delivered message that might be retried later, and it has not yet deserved
         // the dead letter status
-        if (seqOpt.isEmpty) super.!(DeadLetter(m, senderOption.getOrElse(_provider.deadLetters), recipient))
+        if (seqOpt.isEmpty) super.!(DeadLetter(unwrap(m), senderOption.getOrElse(_provider.deadLetters), recipient))
       case DeadLetter(Send(m, senderOption, recipient, seqOpt), _, _) ⇒
         // else ignore: it is a reliably delivered message that might be retried later, and it has not yet deserved
         // the dead letter status
-        if (seqOpt.isEmpty) super.!(DeadLetter(m, senderOption.getOrElse(_provider.deadLetters), recipient))
+        if (seqOpt.isEmpty) super.!(DeadLetter(unwrap(m), senderOption.getOrElse(_provider.deadLetters), recipient))
       case env: OutboundEnvelope ⇒
-        super.!(DeadLetter(unwrapSystemMessageEnvelope(env.message), env.sender.getOrElse(_provider.deadLetters),
+        super.!(DeadLetter(unwrap(env.message), env.sender.getOrElse(_provider.deadLetters),
           env.recipient.getOrElse(_provider.deadLetters)))
       case DeadLetter(env: OutboundEnvelope, _, _) ⇒
-        super.!(DeadLetter(unwrapSystemMessageEnvelope(env.message), env.sender.getOrElse(_provider.deadLetters),
+        super.!(DeadLetter(unwrap(env.message), env.sender.getOrElse(_provider.deadLetters),
           env.recipient.getOrElse(_provider.deadLetters)))
-      case _ ⇒ super.!(message)(sender)
+      case once: SerializedOnce                   ⇒ super.!(once.message)(sender)
+      case DeadLetter(once: SerializedOnce, s, r) ⇒ super.!(DeadLetter(once.message, s, r))
+      case _                                      ⇒ super.!(message)(sender)
     }
 
-    private def unwrapSystemMessageEnvelope(msg: AnyRef): AnyRef = msg match {
+    // SerializedOnce only exists on the sending side, the dead letter is the message it wraps
+    private def unwrap(msg: Any): Any = msg match {
       case SystemMessageEnvelope(m, _, _) ⇒ m
+      case once: SerializedOnce           ⇒ once.message
       case _                              ⇒ msg
     }
 
@@ -201,7 +205,7 @@ private[akka] class RemoteActorRefProvider(
       d
     },
       serialization = SerializationExtension(system),
-      transport = if (remoteSettings.Artery.Enabled) new ArteryTransport(system, this) else new Remoting(system, this))
+      transport = if (remoteSettings.Artery.Enabled) ArteryTransport(system, this) else new Remoting(system, this))
 
     _internals = internals
     remotingTerminator ! internals
@@ -0,0 +1,68 @@
+/**
+ * Copyright (C) 2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+
+package akka.remote
+
+import akka.actor.{ Address, NoSerializationVerificationNeeded }
+import akka.protobuf.ByteString
+import akka.serialization.Serialization
+import scala.util.control.NonFatal
+
+/**
+ * INTERNAL API
+ */
+private[akka] object SerializedOnce {
+  final class Serialized(val serializerId: Int, val manifest: String, val bytes: ByteString)
+}
+
+/**
+ * INTERNAL API
+ *
+ * Wraps a message that is sent to actors on many remote nodes. The remote transports serialize the
+ * `message` when it is sent to the first of them and reuse the bytes for the others. The wrapper itself
+ * is never put on the wire, the receivers get the `message` exactly as if it had been sent without it.
+ *
+ * ActorRefs in the message are serialized with the local address of the transport that sends it, so
+ * the bytes are only reused for destinations that are reached through the same local address.
+ *
+ * It is not unwrapped when delivered locally, so it must only be sent to remote actor refs. Messages that
+ * could not be sent are unwrapped before they are published as dead letters.
+ */
+private[akka] final class SerializedOnce(val message: AnyRef) extends NoSerializationVerificationNeeded {
+  import SerializedOnce.Serialized
+
+  // by local address of the transport, outbound streams of different destinations may serialize
+  // it concurrently, which is harmless
+  @volatile private var _serialized = Map.empty[Address, Serialized]
+
+  /**
+   * The serialized message for the transport whose information is set in
+   * `Serialization.currentTransportInformation`.
+   *
+   * Throws `MessageSerializer.SerializationException` if the serializer of the message failed.
+   */
+  def serialized(serialization: Serialization): Serialized = {
+    val localAddress = Serialization.currentTransportInformation.value match {
+      case null        ⇒ null
+      case information ⇒ information.address
+    }
+    val cached = _serialized.getOrElse(localAddress, null)
+    if (cached ne null) cached
+    else {
+      val serializer = serialization.findSerializerFor(message)
+      val result =
+        try new Serialized(serializer.identifier, MessageSerializer.manifest(serializer, message),
+          ByteString.copyFrom(serializer.toBinary(message)))
+        catch {
+          case NonFatal(e) ⇒
+            throw new MessageSerializer.SerializationException(s"Failed to serialize remote message " +
+              s"[${message.getClass}] using serializer [${serializer.getClass}].", e)
+        }
+      _serialized = _serialized.updated(localAddress, result)
+      result
+    }
+  }
+
+  override def toString: String = s"SerializedOnce($message)"
+}
@@ -33,6 +33,13 @@ private[akka] final class ArterySettings private (config: Config) {
 
   val Enabled: Boolean = getBoolean("enabled")
 
+  val Transport: Transport = toRootLowerCase(getString("transport")) match {
+    case AeronUpd.configName ⇒ AeronUpd
+    case Tcp.configName      ⇒ Tcp
+    case other ⇒ throw new ConfigurationException(
+      s"Unknown transport [$other], possible values: ${AeronUpd.configName}, ${Tcp.configName}")
+  }
+
   object Canonical {
     val config = getConfig("canonical")
     import config._
@@ -134,6 +141,10 @@ private[akka] final class ArterySettings private (config: Config) {
     require(ImageLivenessTimeout < HandshakeTimeout, "image-liveness-timeout must be less than handshake-timeout")
     val DriverTimeout = config.getMillisDuration("driver-timeout").requiring(interval ⇒
       interval > Duration.Zero, "driver-timeout must be more than zero")
+    val ConnectionTimeout: FiniteDuration = config.getMillisDuration("tcp.connection-timeout").requiring(interval ⇒
+      interval > Duration.Zero, "tcp.connection-timeout must be more than zero")
+    val ReconnectInterval: FiniteDuration = config.getMillisDuration("tcp.reconnect-interval").requiring(interval ⇒
+      interval > Duration.Zero, "tcp.reconnect-interval must be more than zero")
     val FlightRecorderEnabled: Boolean = getBoolean("flight-recorder.enabled")
     val FlightRecorderDestination: String = getString("flight-recorder.destination")
     val Compression = new Compression(getConfig("compression"))
@@ -142,7 +153,7 @@ private[akka] final class ArterySettings private (config: Config) {
       .requiring(_ >= 32 * 1024, "maximum-frame-size must be greater than or equal to 32 KiB")
     final val BufferPoolSize: Int = getInt("buffer-pool-size")
       .requiring(_ > 0, "buffer-pool-size must be greater than 0")
-    final val InboundBroadcastHubBufferSize = BufferPoolSize / 2
+    final val InboundHubBufferSize = BufferPoolSize / 2
     final val MaximumLargeFrameSize: Int = math.min(getBytes("maximum-large-frame-size"), Int.MaxValue).toInt
       .requiring(_ >= 32 * 1024, "maximum-large-frame-size must be greater than or equal to 32 KiB")
     final val LargeBufferPoolSize: Int = getInt("large-buffer-pool-size")
@@ -180,6 +191,19 @@ private[akka] object ArterySettings {
     final val Debug = false // unlocks additional very verbose debug logging of compression events (to stdout)
   }
 
+  /** INTERNAL API */
+  private[remote] sealed trait Transport {
+    val configName: String
+  }
+  private[remote] object AeronUpd extends Transport {
+    override val configName = "aeron-udp"
+    override def toString: String = configName
+  }
+  private[remote] object Tcp extends Transport {
+    override val configName = "tcp"
+    override def toString: String = configName
+  }
+
   def getHostname(key: String, config: Config) = config.getString(key) match {
     case "<getHostAddress>" ⇒ InetAddress.getLocalHost.getHostAddress
     case "<getHostName>"    ⇒ InetAddress.getLocalHost.getHostName
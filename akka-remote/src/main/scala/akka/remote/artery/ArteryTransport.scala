@@ -3,13 +3,10 @@
  */
 package akka.remote.artery
 
-import java.io.File
-import java.net.InetSocketAddress
-import java.nio.channels.{ DatagramChannel, FileChannel }
+import java.nio.channels.FileChannel
 import java.nio.file.Path
-import java.util.UUID
 import java.util.concurrent.TimeUnit
-import java.util.concurrent.atomic.{ AtomicLong, AtomicReference }
+import java.util.concurrent.atomic.AtomicReference
 import java.util.concurrent.atomic.AtomicBoolean
 
 import scala.annotation.tailrec
@@ -23,7 +20,6 @@ import akka.Done
 import akka.NotUsed
 import akka.actor._
 import akka.actor.Actor
-import akka.actor.Cancellable
 import akka.actor.Props
 import akka.event.Logging
 import akka.event.LoggingAdapter
@@ -33,7 +29,6 @@ import akka.remote.RemoteActorRefProvider
 import akka.remote.RemoteTransport
 import akka.remote.ThisActorSystemQuarantinedEvent
 import akka.remote.UniqueAddress
-import akka.remote.artery.AeronSource.ResourceLifecycle
 import akka.remote.artery.ArteryTransport.ShuttingDown
 import akka.remote.artery.Encoder.OutboundCompressionAccess
 import akka.remote.artery.InboundControlJunction.ControlMessageObserver
@@ -41,6 +36,7 @@ import akka.remote.artery.InboundControlJunction.ControlMessageSubject
 import akka.remote.artery.OutboundControlJunction.OutboundControlIngress
 import akka.remote.artery.compress._
 import akka.remote.artery.compress.CompressionProtocol.CompressionMessage
+import akka.remote.artery.tcp.ArteryTcpTransport
 import akka.remote.transport.ThrottlerTransportAdapter.Blackhole
 import akka.remote.transport.ThrottlerTransportAdapter.SetThrottle
 import akka.remote.transport.ThrottlerTransportAdapter.Unthrottled
@@ -49,24 +45,14 @@ import akka.stream.ActorMaterializer
 import akka.stream.KillSwitches
 import akka.stream.Materializer
 import akka.stream.SharedKillSwitch
-import akka.stream.scaladsl.BroadcastHub
 import akka.stream.scaladsl.Flow
 import akka.stream.scaladsl.Keep
+import akka.stream.scaladsl.PartitionHub
 import akka.stream.scaladsl.Sink
 import akka.stream.scaladsl.Source
 import akka.util.OptionVal
 import akka.util.WildcardIndex
-import io.aeron._
-import io.aeron.driver.MediaDriver
-import io.aeron.driver.ThreadingMode
-import io.aeron.exceptions.ConductorServiceTimeoutException
-import io.aeron.exceptions.DriverTimeoutException
-import org.agrona.ErrorHandler
-import org.agrona.IoUtil
-import org.agrona.concurrent.BackoffIdleStrategy
 import akka.remote.artery.Decoder.InboundCompressionAccess
-import akka.remote.transport.TestTransport
-import com.typesafe.config.ConfigFactory
 
 /**
  * INTERNAL API
@@ -288,26 +274,29 @@ private[remote] class FlushOnShutdown(done: Promise[Done], timeout: FiniteDurati
 
 /**
  * INTERNAL API
+ *
+ * Common part of the Artery transports. The concrete transports, [[ArteryAeronUdpTransport]] and
+ * [[akka.remote.artery.tcp.ArteryTcpTransport]], provide the inbound and outbound endpoints of the
+ * streams, i.e. how the [[EnvelopeBuffer]]s are moved over the network.
  */
-private[remote] class ArteryTransport(_system: ExtendedActorSystem, _provider: RemoteActorRefProvider)
+private[remote] abstract class ArteryTransport(_system: ExtendedActorSystem, _provider: RemoteActorRefProvider)
   extends RemoteTransport(_system, _provider) with InboundContext {
   import ArteryTransport.AeronTerminated
   import ArteryTransport.ShutdownSignal
   import ArteryTransport.InboundStreamMatValues
+  import ArteryTransport.{ ControlStreamId, OrdinaryStreamId, LargeStreamId }
   import FlightRecorderEvents._
 
+  type LifeCycle
+
   // these vars are initialized once in the start method
   @volatile private[this] var _localAddress: UniqueAddress = _
   @volatile private[this] var _bindAddress: UniqueAddress = _
   @volatile private[this] var _addresses: Set[Address] = _
-  @volatile private[this] var materializer: Materializer = _
-  @volatile private[this] var controlMaterializer: Materializer = _
+  @volatile protected var materializer: Materializer = _
+  @volatile protected var controlMaterializer: Materializer = _
   @volatile private[this] var controlSubject: ControlMessageSubject = _
   @volatile private[this] var messageDispatcher: MessageDispatcher = _
-  private[this] val mediaDriver = new AtomicReference[Option[MediaDriver]](None)
-  @volatile private[this] var aeron: Aeron = _
-  @volatile private[this] var aeronErrorLogTask: Cancellable = _
-  @volatile private[this] var areonErrorLog: AeronErrorLog = _
 
   override val log: LoggingAdapter = Logging(system, getClass.getName)
 
@@ -322,7 +311,7 @@ private[remote] class ArteryTransport(_system: ExtendedActorSystem, _provider: R
    *
    * Use `inboundCompressionAccess` (provided by the materialized `Decoder`) to call into the compression infrastructure.
    */
-  private[this] val _inboundCompressions = {
+  protected val _inboundCompressions = {
     if (settings.Advanced.Compression.Enabled) {
       println(s"settings.Advanced.Compression.Enabled = ${settings.Advanced.Compression.Enabled}")
       val eventSink = createFlightRecorderEventSink(synchr = false)
@@ -333,6 +322,8 @@ private[remote] class ArteryTransport(_system: ExtendedActorSystem, _provider: R
   @volatile private[this] var _inboundCompressionAccess: OptionVal[InboundCompressionAccess] = OptionVal.None
   /** Only access compression tables via the CompressionAccess */
   def inboundCompressionAccess: OptionVal[InboundCompressionAccess] = _inboundCompressionAccess
+  protected def setInboundCompressionAccess(a: InboundCompressionAccess): Unit =
+    _inboundCompressionAccess = OptionVal(a)
 
   def bindAddress: UniqueAddress = _bindAddress
   override def localAddress: UniqueAddress = _localAddress
@@ -340,15 +331,15 @@ private[remote] class ArteryTransport(_system: ExtendedActorSystem, _provider: R
   override def addresses: Set[Address] = _addresses
   override def localAddressForRemote(remote: Address): Address = defaultAddress
 
-  private val killSwitch: SharedKillSwitch = KillSwitches.shared("transportKillSwitch")
+  protected val killSwitch: SharedKillSwitch = KillSwitches.shared("transportKillSwitch")
 
   // keyed by the streamId
-  private[this] val streamMatValues = new AtomicReference(Map.empty[Int, InboundStreamMatValues])
+  protected val streamMatValues = new AtomicReference(Map.empty[Int, InboundStreamMatValues[LifeCycle]])
   private[this] val hasBeenShutdown = new AtomicBoolean(false)
 
   private val testState = new SharedTestState
 
-  private val inboundLanes = settings.Advanced.InboundLanes
+  protected val inboundLanes = settings.Advanced.InboundLanes
 
   // TODO use WildcardIndex.isEmpty when merged from master
   val largeMessageChannelEnabled: Boolean =
@@ -364,26 +355,17 @@ private[remote] class ArteryTransport(_system: ExtendedActorSystem, _provider: R
       .insert(Array("system", "cluster", "core", "daemon", "heartbeatSender"), NotUsed)
       .insert(Array("system", "cluster", "heartbeatReceiver"), NotUsed)
 
-  private def inboundChannel = s"aeron:udp?endpoint=${_bindAddress.address.host.get}:${_bindAddress.address.port.get}"
-  private def outboundChannel(a: Address) = s"aeron:udp?endpoint=${a.host.get}:${a.port.get}"
-
-  private val controlStreamId = 1
-  private val ordinaryStreamId = 2
-  private val largeStreamId = 3
-
-  private val taskRunner = new TaskRunner(system, settings.Advanced.IdleCpuLevel)
-
   private val restartCounter = new RestartCounter(settings.Advanced.InboundMaxRestarts, settings.Advanced.InboundRestartTimeout)
 
-  private val envelopeBufferPool = new EnvelopeBufferPool(settings.Advanced.MaximumFrameSize, settings.Advanced.BufferPoolSize)
-  private val largeEnvelopeBufferPool = new EnvelopeBufferPool(settings.Advanced.MaximumLargeFrameSize, settings.Advanced.LargeBufferPoolSize)
+  protected val envelopeBufferPool = new EnvelopeBufferPool(settings.Advanced.MaximumFrameSize, settings.Advanced.BufferPoolSize)
+  protected val largeEnvelopeBufferPool = new EnvelopeBufferPool(settings.Advanced.MaximumLargeFrameSize, settings.Advanced.LargeBufferPoolSize)
 
   private val inboundEnvelopePool = ReusableInboundEnvelope.createObjectPool(capacity = 16)
   // The outboundEnvelopePool is shared among all outbound associations
   private val outboundEnvelopePool = ReusableOutboundEnvelope.createObjectPool(capacity =
     settings.Advanced.OutboundMessageQueueSize * settings.Advanced.OutboundLanes * 3)
 
-  private val topLevelFREvents =
+  protected val topLevelFREvents =
     createFlightRecorderEventSink(synchr = true)
 
   def createFlightRecorderEventSink(synchr: Boolean = false): EventSink = {
@@ -412,23 +394,17 @@ private[remote] class ArteryTransport(_system: ExtendedActorSystem, _provider: R
 
   override def start(): Unit = {
     Runtime.getRuntime.addShutdownHook(shutdownHook)
-    startMediaDriver()
-    startAeron()
-    topLevelFREvents.loFreq(Transport_AeronStarted, NoMetaData)
-    startAeronErrorLog()
-    topLevelFREvents.loFreq(Transport_AeronErrorLogStarted, NoMetaData)
-    taskRunner.start()
-    topLevelFREvents.loFreq(Transport_TaskRunnerStarted, NoMetaData)
+    startTransport()
 
     val port =
       if (settings.Canonical.Port == 0) {
         if (settings.Bind.Port != 0) settings.Bind.Port // if bind port is set, use bind port instead of random
-        else ArteryTransport.autoSelectPort(settings.Canonical.Hostname)
+        else autoSelectPort(settings.Canonical.Hostname)
       } else settings.Canonical.Port
 
     val bindPort = if (settings.Bind.Port == 0) {
       if (settings.Canonical.Port == 0) port // canonical and bind ports are zero. Use random port for both
-      else ArteryTransport.autoSelectPort(settings.Bind.Hostname)
+      else autoSelectPort(settings.Bind.Hostname)
     } else settings.Bind.Port
 
     _localAddress = UniqueAddress(
@@ -454,180 +430,54 @@ private[remote] class ArteryTransport(_system: ExtendedActorSystem, _provider: R
     runInboundStreams()
     topLevelFREvents.loFreq(Transport_StartupFinished, NoMetaData)
 
-    log.info("Remoting started; listening on address: [{}] with UID [{}]", localAddress.address, localAddress.uid)
-  }
-
-  private lazy val shutdownHook = new Thread {
-    override def run(): Unit = {
-      if (hasBeenShutdown.compareAndSet(false, true)) {
-        log.debug("Shutting down [{}] via shutdownHook", localAddress)
-        Await.result(internalShutdown(), settings.Advanced.DriverTimeout + 3.seconds)
-      }
-    }
-  }
-
-  private def startMediaDriver(): Unit = {
-    if (settings.Advanced.EmbeddedMediaDriver) {
-      val driverContext = new MediaDriver.Context
-      if (settings.Advanced.AeronDirectoryName.nonEmpty) {
-        driverContext.aeronDirectoryName(settings.Advanced.AeronDirectoryName)
-      } else {
-        // create a random name but include the actor system name for easier debugging
-        val uniquePart = UUID.randomUUID().toString
-        val randomName = s"${CommonContext.AERON_DIR_PROP_DEFAULT}-${system.name}-$uniquePart"
-        driverContext.aeronDirectoryName(randomName)
-      }
-      driverContext.clientLivenessTimeoutNs(settings.Advanced.ClientLivenessTimeout.toNanos)
-      driverContext.imageLivenessTimeoutNs(settings.Advanced.ImageLivenessTimeout.toNanos)
-      driverContext.driverTimeoutMs(settings.Advanced.DriverTimeout.toMillis)
-
-      val idleCpuLevel = settings.Advanced.IdleCpuLevel
-      if (idleCpuLevel == 10) {
-        driverContext
-          .threadingMode(ThreadingMode.DEDICATED)
-          .conductorIdleStrategy(new BackoffIdleStrategy(1, 1, 1, 1))
-          .receiverIdleStrategy(TaskRunner.createIdleStrategy(idleCpuLevel))
-          .senderIdleStrategy(TaskRunner.createIdleStrategy(idleCpuLevel))
-      } else if (idleCpuLevel == 1) {
-        driverContext
-          .threadingMode(ThreadingMode.SHARED)
-          .sharedIdleStrategy(TaskRunner.createIdleStrategy(idleCpuLevel))
-      } else if (idleCpuLevel <= 7) {
-        driverContext
-          .threadingMode(ThreadingMode.SHARED_NETWORK)
-          .sharedNetworkIdleStrategy(TaskRunner.createIdleStrategy(idleCpuLevel))
-      } else {
-        driverContext
-          .threadingMode(ThreadingMode.DEDICATED)
-          .receiverIdleStrategy(TaskRunner.createIdleStrategy(idleCpuLevel))
-          .senderIdleStrategy(TaskRunner.createIdleStrategy(idleCpuLevel))
-      }
-
-      val driver = MediaDriver.launchEmbedded(driverContext)
-      log.info("Started embedded media driver in directory [{}]", driver.aeronDirectoryName)
-      topLevelFREvents.loFreq(Transport_MediaDriverStarted, driver.aeronDirectoryName().getBytes("US-ASCII"))
-      if (!mediaDriver.compareAndSet(None, Some(driver))) {
-        throw new IllegalStateException("media driver started more than once")
-      }
-    }
-  }
-
-  private def aeronDir: String = mediaDriver.get match {
-    case Some(driver) ⇒ driver.aeronDirectoryName
-    case None         ⇒ settings.Advanced.AeronDirectoryName
+    log.info("Remoting started with transport [Artery {}]; listening on address [{}] with UID [{}]",
+      settings.Transport, localAddress.address, localAddress.uid)
   }
 
-  private def stopMediaDriver(): Unit = {
-    // make sure we only close the driver once or we will crash the JVM
-    val maybeDriver = mediaDriver.getAndSet(None)
-    maybeDriver.foreach { driver ⇒
-      // this is only for embedded media driver
-      driver.close()
-
-      try {
-        if (settings.Advanced.DeleteAeronDirectory) {
-          IoUtil.delete(new File(driver.aeronDirectoryName), false)
-          topLevelFREvents.loFreq(Transport_MediaFileDeleted, NoMetaData)
-        }
-      } catch {
-        case NonFatal(e) ⇒
-          log.warning(
-            "Couldn't delete Aeron embedded media driver files in [{}] due to [{}]",
-            driver.aeronDirectoryName, e.getMessage)
-      }
-    }
-  }
-
-  // TODO: Add FR events
-  private def startAeron(): Unit = {
-    val ctx = new Aeron.Context
-
-    ctx.driverTimeoutMs(settings.Advanced.DriverTimeout.toMillis)
-
-    ctx.availableImageHandler(new AvailableImageHandler {
-      override def onAvailableImage(img: Image): Unit = {
-        if (log.isDebugEnabled)
-          log.debug(s"onAvailableImage from ${img.sourceIdentity} session ${img.sessionId}")
-      }
-    })
-    ctx.unavailableImageHandler(new UnavailableImageHandler {
-      override def onUnavailableImage(img: Image): Unit = {
-        if (log.isDebugEnabled)
-          log.debug(s"onUnavailableImage from ${img.sourceIdentity} session ${img.sessionId}")
-
-        // freeSessionBuffer in AeronSource FragmentAssembler
-        streamMatValues.get.valuesIterator.foreach {
-          case InboundStreamMatValues(resourceLife, _) ⇒ resourceLife.onUnavailableImage(img.sessionId)
-        }
-      }
-    })
+  /**
+   * Start the underlying transport resources, e.g. the Aeron media driver.
+   * Called before the addresses are defined.
+   */
+  protected def startTransport(): Unit
 
-    ctx.errorHandler(new ErrorHandler {
-      private val fatalErrorOccured = new AtomicBoolean
+  /**
+   * Find an available port that can be used for the inbound endpoint of the
+   * transport when the configured port is 0.
+   */
+  protected def autoSelectPort(hostname: String): Int
 
-      override def onError(cause: Throwable): Unit = {
-        cause match {
-          case e: ConductorServiceTimeoutException ⇒ handleFatalError(e)
-          case e: DriverTimeoutException           ⇒ handleFatalError(e)
-          case _: AeronTerminated                  ⇒ // already handled, via handleFatalError
-          case _ ⇒
-            log.error(cause, s"Aeron error, ${cause.getMessage}")
-        }
-      }
+  /**
+   * Run the inbound streams for the control, ordinary and large messages.
+   * Called after the addresses and the materializers are defined.
+   */
+  protected def runInboundStreams(): Unit
 
-      private def handleFatalError(cause: Throwable): Unit = {
-        if (fatalErrorOccured.compareAndSet(false, true)) {
-          if (!isShutdown) {
-            log.error(cause, "Fatal Aeron error {}. Have to terminate ActorSystem because it lost contact with the " +
-              "{} Aeron media driver. Possible configuration properties to mitigate the problem are " +
-              "'client-liveness-timeout' or 'driver-timeout'. {}",
-              Logging.simpleName(cause),
-              if (settings.Advanced.EmbeddedMediaDriver) "embedded" else "external",
-              cause.getMessage)
-            taskRunner.stop()
-            aeronErrorLogTask.cancel()
-            system.terminate()
-            throw new AeronTerminated(cause)
-          }
-        } else
-          throw new AeronTerminated(cause)
-      }
-    })
+  /**
+   * The outbound endpoint of a stream for the given `streamId` to the remote address
+   * of the `outboundContext`. The sink is responsible for releasing the [[EnvelopeBuffer]]s
+   * to the `bufferPool` when they have been sent.
+   */
+  protected def outboundTransportSink(
+    outboundContext: OutboundContext,
+    streamId:        Int,
+    bufferPool:      EnvelopeBufferPool): Sink[EnvelopeBuffer, Future[Done]]
 
-    ctx.aeronDirectoryName(aeronDir)
-    aeron = Aeron.connect(ctx)
-  }
+  /**
+   * Release the resources of the underlying transport. Called when all streams
+   * have been completed.
+   */
+  protected def shutdownTransport(): Future[Done]
 
-  // TODO Add FR Events
-  private def startAeronErrorLog(): Unit = {
-    areonErrorLog = new AeronErrorLog(new File(aeronDir, CncFileDescriptor.CNC_FILE))
-    val lastTimestamp = new AtomicLong(0L)
-    import system.dispatcher
-    aeronErrorLogTask = system.scheduler.schedule(3.seconds, 5.seconds) {
-      if (!isShutdown) {
-        val newLastTimestamp = areonErrorLog.logErrors(log, lastTimestamp.get)
-        lastTimestamp.set(newLastTimestamp + 1)
+  private lazy val shutdownHook = new Thread {
+    override def run(): Unit = {
+      if (hasBeenShutdown.compareAndSet(false, true)) {
+        log.debug("Shutting down [{}] via shutdownHook", localAddress)
+        Await.result(internalShutdown(), settings.Advanced.DriverTimeout + 3.seconds)
       }
     }
   }
 
-  private def runInboundStreams(): Unit = {
-    runInboundControlStream()
-    runInboundOrdinaryMessagesStream()
-
-    if (largeMessageChannelEnabled) {
-      runInboundLargeMessagesStream()
-    }
-  }
-
-  private def runInboundControlStream(): Unit = {
-    if (isShutdown) throw ShuttingDown
-    val (resourceLife, ctrl, completed) =
-      aeronSource(controlStreamId, envelopeBufferPool)
-        .via(inboundFlow(settings, NoInboundCompressions))
-        .toMat(inboundControlSink)({ case (a, (c, d)) ⇒ (a, c, d) })
-        .run()(controlMaterializer)
-
+  protected def attachControlMessageObserver(ctrl: ControlMessageSubject): Unit = {
     controlSubject = ctrl
 
     controlSubject.attach(new ControlMessageObserver {
@@ -703,84 +553,65 @@ private[remote] class ArteryTransport(_system: ExtendedActorSystem, _provider: R
         }
       }
     })
-
-    updateStreamMatValues(controlStreamId, resourceLife, completed)
-    attachStreamRestart("Inbound control stream", completed, () ⇒ runInboundControlStream())
   }
 
-  private def runInboundOrdinaryMessagesStream(): Unit = {
-    if (isShutdown) throw ShuttingDown
+  /**
+   * Run the ordinary message stream from the given `source`, using one or several
+   * inbound lanes depending on the `inbound-lanes` setting. The materialized value
+   * of the `source` is returned together with the compression access and the
+   * completion of the stream.
+   */
+  protected def runInboundOrdinaryMessagesLanes[M](
+    source: Source[EnvelopeBuffer, M]): (M, InboundCompressionAccess, Future[Done]) = {
+    if (inboundLanes == 1) {
+      source
+        .viaMat(inboundFlow(settings, _inboundCompressions))(Keep.both)
+        .toMat(inboundSink(envelopeBufferPool))({ case ((a, b), c) ⇒ (a, b, c) })
+        .run()(materializer)
 
-    val (resourceLife, inboundCompressionAccesses, completed) =
-      if (inboundLanes == 1) {
-        aeronSource(ordinaryStreamId, envelopeBufferPool)
+    } else {
+      val hubKillSwitch = KillSwitches.shared("hubKillSwitch")
+      val laneSource: Source[InboundEnvelope, (M, InboundCompressionAccess)] =
+        source
+          .via(hubKillSwitch.flow)
           .viaMat(inboundFlow(settings, _inboundCompressions))(Keep.both)
-          .toMat(inboundSink(envelopeBufferPool))({ case ((a, b), c) ⇒ (a, b, c) })
-          .run()(materializer)
-
-      } else {
-        val hubKillSwitch = KillSwitches.shared("hubKillSwitch")
-        val source: Source[(OptionVal[InternalActorRef], InboundEnvelope), (ResourceLifecycle, InboundCompressionAccess)] =
-          aeronSource(ordinaryStreamId, envelopeBufferPool)
-            .via(hubKillSwitch.flow)
-            .viaMat(inboundFlow(settings, _inboundCompressions))(Keep.both)
-            .map(env ⇒ (env.recipient, env))
-
-        val (resourceLife, compressionAccess, broadcastHub) =
-          source
-            .toMat(BroadcastHub.sink(bufferSize = settings.Advanced.InboundBroadcastHubBufferSize))({ case ((a, b), c) ⇒ (a, b, c) })
-            .run()(materializer)
-
-        // select lane based on destination, to preserve message order
-        def shouldUseLane(recipient: OptionVal[ActorRef], targetLane: Int): Boolean =
-          recipient match {
-            case OptionVal.Some(r) ⇒ math.abs(r.path.uid) % inboundLanes == targetLane
-            case OptionVal.None    ⇒ 0 == targetLane
-          }
 
-        val lane = inboundSink(envelopeBufferPool)
-        val completedValues: Vector[Future[Done]] =
-          (0 until inboundLanes).map { laneId ⇒
-            broadcastHub
-              // TODO replace filter with "PartitionHub" when that is implemented
-              // must use a tuple here because envelope is pooled and must only be read in the selected lane
-              // otherwise, the lane that actually processes it might have already released it.
-              .collect { case (recipient, env) if shouldUseLane(recipient, laneId) ⇒ env }
-              .toMat(lane)(Keep.right)
-              .run()(materializer)
-          }(collection.breakOut)
-
-        import system.dispatcher
-        val completed = Future.sequence(completedValues).map(_ ⇒ Done)
-
-        // tear down the upstream hub part if downstream lane fails
-        // lanes are not completed with success by themselves so we don't have to care about onSuccess
-        completed.onFailure {
-          case reason: Throwable ⇒ hubKillSwitch.abort(reason)
+      // Select lane based on destination, to preserve message order.
+      // The envelope is pooled, but it is only read here before it is handed over to the selected lane.
+      val partitioner: (Int, InboundEnvelope) ⇒ Int = (lanes, env) ⇒
+        env.recipient match {
+          case OptionVal.Some(r) ⇒ math.abs(r.path.uid % lanes)
+          case OptionVal.None    ⇒ 0
         }
 
-        (resourceLife, compressionAccess, completed)
-      }
+      // all lanes are attached before the first envelope is routed, so that the number of lanes
+      // seen by the partitioner is always inboundLanes
+      val (sourceValue, compressionAccess, hub) =
+        laneSource
+          .toMat(PartitionHub.sink(partitioner, startAfterNrOfConsumers = inboundLanes,
+            bufferSize = settings.Advanced.InboundHubBufferSize))({ case ((a, b), c) ⇒ (a, b, c) })
+          .run()(materializer)
 
-    _inboundCompressionAccess = OptionVal(inboundCompressionAccesses)
+      val lane = inboundSink(envelopeBufferPool)
+      val completedValues: Vector[Future[Done]] =
+        (0 until inboundLanes).map { _ ⇒
+          hub.toMat(lane)(Keep.right).run()(materializer)
+        }(collection.breakOut)
 
-    updateStreamMatValues(ordinaryStreamId, resourceLife, completed)
-    attachStreamRestart("Inbound message stream", completed, () ⇒ runInboundOrdinaryMessagesStream())
-  }
+      import system.dispatcher
+      val completed = Future.sequence(completedValues).map(_ ⇒ Done)
 
-  private def runInboundLargeMessagesStream(): Unit = {
-    if (isShutdown) throw ShuttingDown
-
-    val (resourceLife, completed) = aeronSource(largeStreamId, largeEnvelopeBufferPool)
-      .via(inboundLargeFlow(settings))
-      .toMat(inboundSink(largeEnvelopeBufferPool))(Keep.both)
-      .run()(materializer)
+      // tear down the upstream hub part if downstream lane fails
+      // lanes are not completed with success by themselves so we don't have to care about onSuccess
+      completed.onFailure {
+        case reason: Throwable ⇒ hubKillSwitch.abort(reason)
+      }
 
-    updateStreamMatValues(largeStreamId, resourceLife, completed)
-    attachStreamRestart("Inbound large message stream", completed, () ⇒ runInboundLargeMessagesStream())
+      (sourceValue, compressionAccess, completed)
+    }
   }
 
-  private def attachStreamRestart(streamName: String, streamCompleted: Future[Done], restart: () ⇒ Unit): Unit = {
+  protected def attachStreamRestart(streamName: String, streamCompleted: Future[Done], restart: () ⇒ Unit): Unit = {
     implicit val ec = materializer.executionContext
     streamCompleted.onFailure {
       case ShutdownSignal     ⇒ // shutdown as expected
@@ -827,23 +658,13 @@ private[remote] class ArteryTransport(_system: ExtendedActorSystem, _provider: R
     topLevelFREvents.loFreq(Transport_KillSwitchPulled, NoMetaData)
     for {
       _ ← streamsCompleted
-      _ ← taskRunner.stop()
+      _ ← shutdownTransport().recover { case _ ⇒ Done }
     } yield {
       topLevelFREvents.loFreq(Transport_Stopped, NoMetaData)
 
       // no need to explicitly shut down the contained access since it's lifecycle is bound to the Decoder
       _inboundCompressionAccess = OptionVal.None
 
-      if (aeronErrorLogTask != null) {
-        aeronErrorLogTask.cancel()
-        topLevelFREvents.loFreq(Transport_AeronErrorLogTaskStopped, NoMetaData)
-      }
-      if (aeron != null) aeron.close()
-      if (areonErrorLog != null) areonErrorLog.close()
-      if (mediaDriver.get.isDefined) {
-        stopMediaDriver()
-
-      }
       topLevelFREvents.loFreq(Transport_FlightRecorderClose, NoMetaData)
 
       flightRecorder.foreach(_.close())
@@ -853,12 +674,12 @@ private[remote] class ArteryTransport(_system: ExtendedActorSystem, _provider: R
     }
   }
 
-  private def updateStreamMatValues(streamId: Int, aeronSourceLifecycle: AeronSource.ResourceLifecycle, completed: Future[Done]): Unit = {
+  protected def updateStreamMatValues(streamId: Int, lifecycle: LifeCycle, completed: Future[Done]): Unit = {
     implicit val ec = materializer.executionContext
-    updateStreamMatValues(streamId, InboundStreamMatValues(aeronSourceLifecycle, completed.recover { case _ ⇒ Done }))
+    updateStreamMatValues(streamId, InboundStreamMatValues[LifeCycle](lifecycle, completed.recover { case _ ⇒ Done }))
   }
 
-  @tailrec private def updateStreamMatValues(streamId: Int, values: InboundStreamMatValues): Unit = {
+  @tailrec private def updateStreamMatValues(streamId: Int, values: InboundStreamMatValues[LifeCycle]): Unit = {
     val prev = streamMatValues.get()
     if (!streamMatValues.compareAndSet(prev, prev + (streamId → values))) {
       updateStreamMatValues(streamId, values)
@@ -946,29 +767,21 @@ private[remote] class ArteryTransport(_system: ExtendedActorSystem, _provider: R
   }
 
   def outboundLarge(outboundContext: OutboundContext): Sink[OutboundEnvelope, Future[Done]] =
-    createOutboundSink(largeStreamId, outboundContext, largeEnvelopeBufferPool)
+    createOutboundSink(LargeStreamId, outboundContext, largeEnvelopeBufferPool)
       .mapMaterializedValue { case (_, d) ⇒ d }
 
   def outbound(outboundContext: OutboundContext): Sink[OutboundEnvelope, (OutboundCompressionAccess, Future[Done])] =
-    createOutboundSink(ordinaryStreamId, outboundContext, envelopeBufferPool)
+    createOutboundSink(OrdinaryStreamId, outboundContext, envelopeBufferPool)
 
   private def createOutboundSink(streamId: Int, outboundContext: OutboundContext,
                                  bufferPool: EnvelopeBufferPool): Sink[OutboundEnvelope, (OutboundCompressionAccess, Future[Done])] = {
 
     outboundLane(outboundContext, bufferPool)
-      .toMat(aeronSink(outboundContext, streamId))(Keep.both)
+      .toMat(outboundTransportSink(outboundContext, streamId, bufferPool))(Keep.both)
   }
 
-  def aeronSink(outboundContext: OutboundContext): Sink[EnvelopeBuffer, Future[Done]] =
-    aeronSink(outboundContext, ordinaryStreamId)
-
-  private def aeronSink(outboundContext: OutboundContext, streamId: Int): Sink[EnvelopeBuffer, Future[Done]] = {
-    val giveUpAfter =
-      if (streamId == controlStreamId) settings.Advanced.GiveUpSystemMessageAfter
-      else settings.Advanced.GiveUpMessageAfter
-    Sink.fromGraph(new AeronSink(outboundChannel(outboundContext.remoteAddress), streamId, aeron, taskRunner,
-      envelopeBufferPool, giveUpAfter, createFlightRecorderEventSink()))
-  }
+  def outboundTransportSink(outboundContext: OutboundContext): Sink[EnvelopeBuffer, Future[Done]] =
+    outboundTransportSink(outboundContext, OrdinaryStreamId, envelopeBufferPool)
 
   def outboundLane(outboundContext: OutboundContext): Flow[OutboundEnvelope, EnvelopeBuffer, OutboundCompressionAccess] =
     outboundLane(outboundContext, envelopeBufferPool)
@@ -994,8 +807,7 @@ private[remote] class ArteryTransport(_system: ExtendedActorSystem, _provider: R
       .via(outboundTestFlow(outboundContext))
       .viaMat(new OutboundControlJunction(outboundContext, outboundEnvelopePool))(Keep.right)
       .via(createEncoder(envelopeBufferPool))
-      .toMat(new AeronSink(outboundChannel(outboundContext.remoteAddress), controlStreamId, aeron, taskRunner,
-        envelopeBufferPool, Duration.Inf, createFlightRecorderEventSink()))(Keep.both)
+      .toMat(outboundTransportSink(outboundContext, ControlStreamId, envelopeBufferPool))(Keep.both)
 
     // TODO we can also add scrubbing stage that would collapse sys msg acks/nacks and remove duplicate Quarantine messages
   }
@@ -1003,15 +815,6 @@ private[remote] class ArteryTransport(_system: ExtendedActorSystem, _provider: R
   def createEncoder(pool: EnvelopeBufferPool): Flow[OutboundEnvelope, EnvelopeBuffer, OutboundCompressionAccess] =
     Flow.fromGraph(new Encoder(localAddress, system, outboundEnvelopePool, pool, settings.LogSend))
 
-  def aeronSource(streamId: Int, pool: EnvelopeBufferPool): Source[EnvelopeBuffer, AeronSource.ResourceLifecycle] =
-    Source.fromGraph(new AeronSource(inboundChannel, streamId, aeron, taskRunner, pool,
-      createFlightRecorderEventSink(), aeronSourceSpinningStrategy))
-
-  private def aeronSourceSpinningStrategy: Int =
-    if (settings.Advanced.InboundLanes > 1 || // spinning was identified to be the cause of massive slowdowns with multiple lanes, see #21365
-      settings.Advanced.IdleCpuLevel < 5) 0 // also don't spin for small IdleCpuLevels
-    else 50 * settings.Advanced.IdleCpuLevel - 240
-
   val messageDispatcherSink: Sink[InboundEnvelope, Future[Done]] = Sink.foreach[InboundEnvelope] { m ⇒
     messageDispatcher.dispatch(m)
     m match {
@@ -1120,16 +923,18 @@ private[remote] object ArteryTransport {
   // thrown when the transport is shutting down and something triggers a new association
   object ShuttingDown extends RuntimeException with NoStackTrace
 
-  final case class InboundStreamMatValues(
-    aeronSourceLifecycle: AeronSource.ResourceLifecycle,
-    completed:            Future[Done])
+  final case class InboundStreamMatValues[LifeCycle](
+    lifeCycle: LifeCycle,
+    completed: Future[Done])
 
-  def autoSelectPort(hostname: String): Int = {
-    val socket = DatagramChannel.open().socket()
-    socket.bind(new InetSocketAddress(hostname, 0))
-    val port = socket.getLocalPort
-    socket.close()
-    port
-  }
+  final val ControlStreamId = 1
+  final val OrdinaryStreamId = 2
+  final val LargeStreamId = 3
+
+  def apply(system: ExtendedActorSystem, provider: RemoteActorRefProvider): ArteryTransport =
+    provider.remoteSettings.Artery.Transport match {
+      case ArterySettings.AeronUpd ⇒ new ArteryAeronUdpTransport(system, provider)
+      case ArterySettings.Tcp      ⇒ new ArteryTcpTransport(system, provider)
+    }
 
 }
@@ -601,9 +601,9 @@ private[remote] class Association(
           case ((q, c), w) ⇒ (q, c, w)
         }
 
-      val (mergeHub, aeronSinkCompleted) = MergeHub.source[EnvelopeBuffer]
+      val (mergeHub, transportSinkCompleted) = MergeHub.source[EnvelopeBuffer]
         .via(streamKillSwitch.flow)
-        .toMat(transport.aeronSink(this))(Keep.both).run()(materializer)
+        .toMat(transport.outboundTransportSink(this))(Keep.both).run()(materializer)
 
       val values: Vector[(SendQueue.QueueValue[OutboundEnvelope], Encoder.OutboundCompressionAccess, Future[Done])] =
         (0 until outboundLanes).map { _ ⇒
@@ -613,13 +613,13 @@ private[remote] class Association(
       val (queueValues, compressionAccessValues, laneCompletedValues) = values.unzip3
 
       import transport.system.dispatcher
-      val completed = Future.sequence(laneCompletedValues).flatMap(_ ⇒ aeronSinkCompleted)
+      val completed = Future.sequence(laneCompletedValues).flatMap(_ ⇒ transportSinkCompleted)
 
       // tear down all parts if one part fails or completes
       completed.onFailure {
         case reason: Throwable ⇒ streamKillSwitch.abort(reason)
       }
-      (laneCompletedValues :+ aeronSinkCompleted).foreach(_.onSuccess { case _ ⇒ streamKillSwitch.shutdown() })
+      (laneCompletedValues :+ transportSinkCompleted).foreach(_.onSuccess { case _ ⇒ streamKillSwitch.shutdown() })
 
       queueValues.zip(wrappers).zipWithIndex.foreach {
         case ((q, w), i) ⇒
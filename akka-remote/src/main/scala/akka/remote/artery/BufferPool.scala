@@ -28,7 +28,7 @@ private[remote] class OutOfBuffersException extends RuntimeException("Out of usa
 /**
  * INTERNAL API
  */
-private[remote] class EnvelopeBufferPool(maximumPayload: Int, maximumBuffers: Int) {
+private[remote] class EnvelopeBufferPool(val maximumPayload: Int, maximumBuffers: Int) {
   private val availableBuffers = new ManyToManyConcurrentArrayQueue[EnvelopeBuffer](maximumBuffers)
 
   def acquire(): EnvelopeBuffer = {
@@ -368,6 +368,12 @@ private[remote] final class EnvelopeBuffer(val byteBuffer: ByteBuffer) {
   private var literalChars = Array.ofDim[Char](64)
   private var literalBytes = Array.ofDim[Byte](64)
 
+  // only used by transports that multiplex several streams, e.g. TCP
+  private var _streamId: Int = -1
+
+  def streamId: Int = _streamId
+  def setStreamId(newStreamId: Int): Unit = _streamId = newStreamId
+
   def writeHeader(h: HeaderBuilder): Unit = writeHeader(h, null)
 
   def writeHeader(h: HeaderBuilder, oe: OutboundEnvelope): Unit = {
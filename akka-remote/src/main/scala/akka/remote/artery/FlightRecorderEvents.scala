@@ -43,6 +43,16 @@ private[remote] object FlightRecorderEvents {
   val AeronSource_DelegateToTaskRunner = 73
   val AeronSource_ReturnFromTaskRunner = 74
 
+  // TCP outbound events
+  val TcpOutbound_Connected = 75
+  val TcpOutbound_Sent = 76
+
+  // TCP inbound events
+  val TcpInbound_Bound = 80
+  val TcpInbound_Unbound = 81
+  val TcpInbound_Connected = 82
+  val TcpInbound_Received = 83
+
   // Compression events
   val Compression_CompressedActorRef = 90
   val Compression_AllocatedActorRefCompressionId = 91
@@ -86,6 +96,16 @@ private[remote] object FlightRecorderEvents {
     AeronSource_DelegateToTaskRunner → "AeronSource: Delegate to task runner",
     AeronSource_ReturnFromTaskRunner → "AeronSource: Return from task runner",
 
+    // TCP outbound events
+    TcpOutbound_Connected → "TCP out: Connected",
+    TcpOutbound_Sent → "TCP out: Sent",
+
+    // TCP inbound events
+    TcpInbound_Bound → "TCP in: Bound",
+    TcpInbound_Unbound → "TCP in: Unbound",
+    TcpInbound_Connected → "TCP in: New connection",
+    TcpInbound_Received → "TCP in: Received message",
+
     // Compression events
     Compression_CompressedActorRef → "Compression: Compressed ActorRef",
     Compression_AllocatedActorRefCompressionId → "Compression: Allocated ActorRef compression id",
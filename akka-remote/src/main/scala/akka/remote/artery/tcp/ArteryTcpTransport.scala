@@ -0,0 +1,258 @@
+/**
+ * Copyright (C) 2016-2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+package akka.remote.artery.tcp
+
+import java.net.InetSocketAddress
+import java.nio.channels.ServerSocketChannel
+
+import scala.concurrent.Await
+import scala.concurrent.Future
+
+import akka.Done
+import akka.NotUsed
+import akka.actor.ExtendedActorSystem
+import akka.remote.RemoteActorRefProvider
+import akka.remote.artery.ArteryTransport
+import akka.remote.artery.ArteryTransport.ShuttingDown
+import akka.remote.artery.ArteryTransport.{ ControlStreamId, OrdinaryStreamId, LargeStreamId }
+import akka.remote.artery.EnvelopeBuffer
+import akka.remote.artery.EnvelopeBufferPool
+import akka.remote.artery.FlightRecorderEvents._
+import akka.remote.artery.OutboundContext
+import akka.remote.artery.compress.NoInboundCompressions
+import akka.stream.KillSwitches
+import akka.stream.SharedKillSwitch
+import akka.stream.SinkShape
+import akka.stream.scaladsl.Flow
+import akka.stream.scaladsl.GraphDSL
+import akka.stream.scaladsl.Keep
+import akka.stream.scaladsl.MergeHub
+import akka.stream.scaladsl.Partition
+import akka.stream.scaladsl.Sink
+import akka.stream.scaladsl.Source
+import akka.stream.scaladsl.Tcp
+import akka.stream.scaladsl.Tcp.ServerBinding
+import akka.util.ByteString
+
+/**
+ * INTERNAL API
+ *
+ * Artery transport that is using TCP as the underlying transport. The same [[EnvelopeBuffer]]
+ * streams as for the Aeron transport are used, but the envelopes are framed over TCP connections
+ * with the akka-stream `Tcp` stages, see [[TcpFraming]].
+ *
+ * Each outbound stream of an association (control, ordinary and large messages) has its own
+ * connection. The inbound side accepts the connections and routes the frames to the inbound
+ * streams based on the stream id in the connection header.
+ */
+private[remote] class ArteryTcpTransport(_system: ExtendedActorSystem, _provider: RemoteActorRefProvider)
+  extends ArteryTransport(_system, _provider) {
+
+  override type LifeCycle = NotUsed
+
+  // may change when inbound streams are restarted
+  @volatile private var inboundKillSwitch: SharedKillSwitch = KillSwitches.shared("inboundKillSwitch")
+  @volatile private var controlStreamSink: Sink[EnvelopeBuffer, NotUsed] = _
+  @volatile private var ordinaryMessagesStreamSink: Sink[EnvelopeBuffer, NotUsed] = _
+  @volatile private var largeMessagesStreamSink: Sink[EnvelopeBuffer, NotUsed] = _
+  @volatile private var serverBinding: Option[Future[ServerBinding]] = None
+
+  override protected def startTransport(): Unit = {
+    // nothing to start, the connections are created by the streams
+  }
+
+  override protected def autoSelectPort(hostname: String): Int = {
+    val socket = ServerSocketChannel.open().socket()
+    socket.bind(new InetSocketAddress(hostname, 0))
+    val port = socket.getLocalPort
+    socket.close()
+    port
+  }
+
+  override protected def outboundTransportSink(
+    outboundContext: OutboundContext,
+    streamId:        Int,
+    bufferPool:      EnvelopeBufferPool): Sink[EnvelopeBuffer, Future[Done]] = {
+    implicit val sys = system
+
+    val host = outboundContext.remoteAddress.host.get
+    val port = outboundContext.remoteAddress.port.get
+    val remoteAddress = InetSocketAddress.createUnresolved(host, port)
+
+    def connection(): Sink[ByteString, Future[Done]] = {
+      val afr = createFlightRecorderEventSink()
+      Flow[ByteString]
+        .map { frame ⇒
+          afr.hiFreq(TcpOutbound_Sent, frame.size)
+          frame
+        }
+        .prepend(Source.single(TcpFraming.encodeConnectionHeader(streamId)))
+        .viaMat(Tcp().outgoingConnection(remoteAddress, halfClose = true,
+          connectTimeout = settings.Advanced.ConnectionTimeout))(Keep.right)
+        .mapMaterializedValue { outgoing ⇒
+          outgoing.foreach(_ ⇒ topLevelFREvents.loFreq(TcpOutbound_Connected, s"$host:$port".getBytes("US-ASCII")))(
+            materializer.executionContext)
+          NotUsed
+        }
+        // nothing is sent back on the connection, but the completion is used for detecting
+        // that the connection was closed
+        .toMat(Sink.ignore)(Keep.right)
+    }
+
+    Flow[EnvelopeBuffer]
+      .map(envelopeToFrame(bufferPool))
+      .toMat(Sink.fromGraph(new TcpOutboundSink(outboundContext.remoteAddress, () ⇒ connection(),
+        settings.Advanced.ReconnectInterval)))(Keep.right)
+  }
+
+  private def envelopeToFrame(bufferPool: EnvelopeBufferPool)(envelope: EnvelopeBuffer): ByteString = {
+    val size = envelope.byteBuffer.remaining
+    val bytes = new Array[Byte](TcpFraming.FrameHeaderLength + size)
+    TcpFraming.encodeFrameHeader(size, bytes)
+    envelope.byteBuffer.get(bytes, TcpFraming.FrameHeaderLength, size)
+    bufferPool.release(envelope)
+    ByteString.ByteString1C(bytes)
+  }
+
+  override protected def runInboundStreams(): Unit = {
+    runInboundControlStream()
+    runInboundOrdinaryMessagesStream()
+    if (largeMessageChannelEnabled)
+      runInboundLargeMessagesStream()
+
+    bindInboundConnections()
+  }
+
+  private def bindInboundConnections(): Unit = {
+    implicit val sys = system
+
+    val binding = Tcp().bind(bindAddress.address.host.get, bindAddress.address.port.get, halfClose = false)
+      .to(Sink.foreach { connection ⇒
+        topLevelFREvents.loFreq(TcpInbound_Connected, connection.remoteAddress.toString.getBytes("US-ASCII"))
+        connection.handleWith(inboundConnectionFlow())(materializer)
+      })
+      .run()(materializer)
+
+    // the transport can't be used if the port can't be bound
+    val b = Await.result(binding, settings.Advanced.ConnectionTimeout)
+    topLevelFREvents.loFreq(TcpInbound_Bound, b.localAddress.toString.getBytes("US-ASCII"))
+    serverBinding = Some(binding)
+  }
+
+  private def bufferPoolForStream(streamId: Int): EnvelopeBufferPool =
+    if (streamId == LargeStreamId) largeEnvelopeBufferPool else envelopeBufferPool
+
+  /**
+   * Frames of the connection are routed to the inbound streams that are running when the connection
+   * is accepted. If an inbound stream is restarted all connections are closed and will be established
+   * again by the outbound side of the peers.
+   */
+  private def inboundConnectionFlow(): Flow[ByteString, ByteString, NotUsed] = {
+    val controlStream = controlStreamSink
+    val ordinaryMessagesStream = ordinaryMessagesStreamSink
+    val largeMessagesStream = largeMessagesStreamSink
+
+    val inboundStream: Sink[EnvelopeBuffer, NotUsed] =
+      Sink.fromGraph(GraphDSL.create() { implicit b ⇒
+        import GraphDSL.Implicits._
+        val partition = b.add(Partition[EnvelopeBuffer](3, env ⇒ env.streamId match {
+          case OrdinaryStreamId ⇒ 1
+          case ControlStreamId  ⇒ 0
+          case LargeStreamId if largeMessagesStream ne null ⇒ 2
+          case other ⇒
+            bufferPoolForStream(other).release(env)
+            throw new IllegalArgumentException(s"Unexpected streamId [$other] in inbound connection")
+        }))
+        partition.out(0) ~> controlStream
+        partition.out(1) ~> ordinaryMessagesStream
+        if (largeMessagesStream ne null)
+          partition.out(2) ~> largeMessagesStream
+        else
+          partition.out(2) ~> Sink.ignore
+        SinkShape(partition.in)
+      })
+
+    // must create new FlightRecorder event sink for each connection because they can't be shared
+    val afr = createFlightRecorderEventSink()
+    Flow[ByteString]
+      .via(inboundKillSwitch.flow)
+      .via(new TcpFraming(bufferPoolForStream, afr))
+      .alsoTo(inboundStream)
+      // nothing is sent back on the connection, but when the inbound side is completed
+      // the connection is closed
+      .filter(_ ⇒ false)
+      .map(_ ⇒ ByteString.empty)
+  }
+
+  private def restartInboundStreams(restart: () ⇒ Unit): () ⇒ Unit = () ⇒ {
+    restart()
+    // close the connections that were attached to the failed stream, the peers will connect again
+    val previous = inboundKillSwitch
+    inboundKillSwitch = KillSwitches.shared("inboundKillSwitch")
+    previous.abort(new IllegalStateException("Inbound stream was restarted"))
+  }
+
+  private def runInboundControlStream(): Unit = {
+    if (isShutdown) throw ShuttingDown
+
+    val (hub, ctrl, completed) =
+      MergeHub.source[EnvelopeBuffer]
+        .via(inboundFlow(settings, NoInboundCompressions))
+        .toMat(inboundControlSink)({ case (a, (c, d)) ⇒ (a, c, d) })
+        .run()(controlMaterializer)
+
+    attachControlMessageObserver(ctrl)
+    controlStreamSink = hub
+
+    updateStreamMatValues(ControlStreamId, NotUsed, completed)
+    attachStreamRestart("Inbound control stream", completed, restartInboundStreams(() ⇒ runInboundControlStream()))
+  }
+
+  private def runInboundOrdinaryMessagesStream(): Unit = {
+    if (isShutdown) throw ShuttingDown
+
+    val (hub, inboundCompressionAccess, completed) =
+      runInboundOrdinaryMessagesLanes(MergeHub.source[EnvelopeBuffer])
+
+    setInboundCompressionAccess(inboundCompressionAccess)
+    ordinaryMessagesStreamSink = hub
+
+    updateStreamMatValues(OrdinaryStreamId, NotUsed, completed)
+    attachStreamRestart("Inbound message stream", completed,
+      restartInboundStreams(() ⇒ runInboundOrdinaryMessagesStream()))
+  }
+
+  private def runInboundLargeMessagesStream(): Unit = {
+    if (isShutdown) throw ShuttingDown
+
+    val (hub, completed) = MergeHub.source[EnvelopeBuffer]
+      .via(inboundLargeFlow(settings))
+      .toMat(inboundSink(largeEnvelopeBufferPool))(Keep.both)
+      .run()(materializer)
+
+    largeMessagesStreamSink = hub
+
+    updateStreamMatValues(LargeStreamId, NotUsed, completed)
+    attachStreamRestart("Inbound large message stream", completed,
+      restartInboundStreams(() ⇒ runInboundLargeMessagesStream()))
+  }
+
+  override protected def shutdownTransport(): Future[Done] = {
+    import system.dispatcher
+    inboundKillSwitch.shutdown()
+    serverBinding match {
+      case Some(binding) ⇒
+        for {
+          b ← binding
+          _ ← b.unbind()
+        } yield {
+          topLevelFREvents.loFreq(TcpInbound_Unbound, b.localAddress.toString.getBytes("US-ASCII"))
+          Done
+        }
+      case None ⇒
+        Future.successful(Done)
+    }
+  }
+
+}
@@ -0,0 +1,107 @@
+/**
+ * Copyright (C) 2016-2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+package akka.remote.artery.tcp
+
+import akka.remote.artery.EnvelopeBuffer
+import akka.remote.artery.EnvelopeBufferPool
+import akka.remote.artery.EventSink
+import akka.remote.artery.FlightRecorderEvents.TcpInbound_Received
+import akka.remote.artery.IgnoreEventSink
+import akka.stream.Attributes
+import akka.stream.impl.io.ByteStringParser
+import akka.stream.impl.io.ByteStringParser.ByteReader
+import akka.stream.impl.io.ByteStringParser.ParseResult
+import akka.stream.impl.io.ByteStringParser.ParseStep
+import akka.stream.scaladsl.Framing.FramingException
+import akka.stream.stage.GraphStageLogic
+import akka.util.ByteString
+
+/**
+ * INTERNAL API
+ *
+ * Each TCP connection starts with a header of the magic bytes "AKKA" followed by the
+ * stream id of the connection. The header is followed by the frames, each frame is
+ * prefixed with the length of the frame as a little endian Int.
+ */
+private[remote] object TcpFraming {
+  final val Magic = ByteString("AKKA")
+  final val ConnectionHeaderLength = 5 // magic + streamId
+  final val FrameHeaderLength = 4
+
+  def encodeConnectionHeader(streamId: Int): ByteString =
+    Magic ++ ByteString(streamId.toByte)
+
+  /**
+   * Write the length of the frame as a little endian Int in the first
+   * `FrameHeaderLength` bytes of the `target` array.
+   */
+  def encodeFrameHeader(frameLength: Int, target: Array[Byte]): Unit = {
+    target(0) = frameLength.toByte
+    target(1) = (frameLength >> 8).toByte
+    target(2) = (frameLength >> 16).toByte
+    target(3) = (frameLength >> 24).toByte
+  }
+}
+
+/**
+ * INTERNAL API
+ *
+ * Decodes the connection header and the frames of an inbound TCP connection. The frames
+ * are copied into [[EnvelopeBuffer]]s acquired from the pool that `bufferPool` selects for the
+ * stream id of the connection, and the stream id is set in the emitted buffers.
+ */
+private[remote] class TcpFraming(
+  bufferPool:     Int ⇒ EnvelopeBufferPool,
+  flightRecorder: EventSink                = IgnoreEventSink) extends ByteStringParser[EnvelopeBuffer] {
+
+  override def initialAttributes = Attributes.name("ArteryTcpFraming")
+
+  abstract class Step extends ParseStep[EnvelopeBuffer]
+
+  override def createLogic(inheritedAttributes: Attributes): GraphStageLogic = new ParsingLogic {
+    private var streamId = 0
+    private var pool: EnvelopeBufferPool = _
+
+    startWith(ReadConnectionHeader)
+
+    case object ReadConnectionHeader extends Step {
+      override def parse(reader: ByteReader): ParseResult[EnvelopeBuffer] = {
+        val magic = reader.take(TcpFraming.Magic.size)
+        if (magic == TcpFraming.Magic) {
+          streamId = reader.readByte()
+          pool = bufferPool(streamId)
+          ParseResult(None, ReadFrame)
+        } else
+          throw new FramingException("Stream didn't start with expected magic bytes, " +
+            s"got [${magic.map(b ⇒ f"$b%02x").mkString(" ")}]. " +
+            "Connection is rejected. Probably invalid accidental access.")
+      }
+    }
+
+    case object ReadFrame extends Step {
+      override def onTruncation(): Unit =
+        failStage(new FramingException("Stream finished but there was a truncated final frame in the buffer"))
+
+      override def parse(reader: ByteReader): ParseResult[EnvelopeBuffer] = {
+        val frameLength = reader.readIntLE()
+        // check before buffering the frame, the length is read from the wire
+        if (frameLength < 0 || frameLength > pool.maximumPayload)
+          throw new FramingException(
+            s"Invalid frame size for stream [$streamId], size [$frameLength] bytes, " +
+              s"max [${pool.maximumPayload}] bytes")
+        val frame = reader.take(frameLength)
+        ParseResult(Some(createBuffer(frame)), ReadFrame)
+      }
+
+      private def createBuffer(frame: ByteString): EnvelopeBuffer = {
+        val envelope = pool.acquire()
+        frame.copyToBuffer(envelope.byteBuffer)
+        envelope.byteBuffer.flip()
+        envelope.setStreamId(streamId)
+        flightRecorder.hiFreq(TcpInbound_Received, frame.size)
+        envelope
+      }
+    }
+  }
+}
@@ -0,0 +1,154 @@
+/**
+ * Copyright (C) 2016-2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+package akka.remote.artery.tcp
+
+import scala.concurrent.Future
+import scala.concurrent.Promise
+import scala.concurrent.duration.FiniteDuration
+import scala.util.Failure
+import scala.util.Success
+import scala.util.Try
+
+import akka.Done
+import akka.actor.Address
+import akka.dispatch.ExecutionContexts
+import akka.stream.Attributes
+import akka.stream.Inlet
+import akka.stream.SinkShape
+import akka.stream.scaladsl.Sink
+import akka.stream.scaladsl.Source
+import akka.stream.stage.GraphStageLogic
+import akka.stream.stage.GraphStageWithMaterializedValue
+import akka.stream.stage.InHandler
+import akka.stream.stage.OutHandler
+import akka.stream.stage.StageLogging
+import akka.stream.stage.TimerGraphStageLogic
+import akka.util.ByteString
+
+/**
+ * INTERNAL API
+ */
+private[remote] object TcpOutboundSink {
+  private case object ReconnectTimerKey
+}
+
+/**
+ * INTERNAL API
+ *
+ * Writes the frames to a TCP connection that is created with the `connection` factory.
+ * When the connection is closed or fails it is established again after `reconnectInterval`,
+ * without failing the outbound stream in front of this sink. That means that state in that
+ * stream, e.g. the unacknowledged messages of `SystemMessageDelivery`, survives a broken
+ * connection. Frames that were in flight when the connection was lost are dropped in the
+ * same way as if they had been lost in the network.
+ *
+ * The materialized `Future` is completed when upstream has been completed and the last
+ * connection has been closed, or failed when upstream is failed.
+ */
+private[remote] class TcpOutboundSink(
+  remoteAddress:     Address,
+  connection:        () ⇒ Sink[ByteString, Future[Done]],
+  reconnectInterval: FiniteDuration)
+  extends GraphStageWithMaterializedValue[SinkShape[ByteString], Future[Done]] {
+  import TcpOutboundSink._
+
+  val in: Inlet[ByteString] = Inlet("TcpOutboundSink")
+  override val shape: SinkShape[ByteString] = SinkShape(in)
+
+  override def createLogicAndMaterializedValue(inheritedAttributes: Attributes): (GraphStageLogic, Future[Done]) = {
+    val completed = Promise[Done]()
+
+    val logic = new TimerGraphStageLogic(shape) with InHandler with StageLogging {
+
+      private var connectionOut: SubSourceOutlet[ByteString] = _
+
+      private val connectionTerminated = getAsyncCallback[(SubSourceOutlet[ByteString], Try[Done])] {
+        case (out, result) ⇒ onConnectionTerminated(out, result)
+      }
+
+      override protected def logSource = classOf[TcpOutboundSink]
+
+      override def preStart(): Unit = {
+        // the stage must be kept alive while the last connection is flushed after upstream completion
+        setKeepGoing(true)
+        connect()
+      }
+
+      private def connect(): Unit = {
+        val out = new SubSourceOutlet[ByteString]("TcpOutboundConnection")
+        connectionOut = out
+        out.setHandler(new OutHandler {
+          override def onPull(): Unit =
+            if (!isClosed(in) && !hasBeenPulled(in)) pull(in)
+
+          override def onDownstreamFinish(): Unit = () // handled by onConnectionTerminated
+        })
+        val connectionCompleted =
+          try Source.fromGraph(out.source).runWith(connection())(subFusingMaterializer)
+          catch { case e: Throwable ⇒ Future.failed(e) }
+        connectionCompleted.onComplete(result ⇒ connectionTerminated.invoke((out, result)))(
+          ExecutionContexts.sameThreadExecutionContext)
+      }
+
+      private def onConnectionTerminated(out: SubSourceOutlet[ByteString], result: Try[Done]): Unit = {
+        // ignore termination of connections that have already been replaced
+        if (out eq connectionOut) {
+          if (isClosed(in)) {
+            result match {
+              case Success(_) ⇒
+                completed.trySuccess(Done)
+                completeStage()
+              case Failure(cause) ⇒
+                completed.tryFailure(cause)
+                failStage(cause)
+            }
+          } else {
+            result match {
+              case Success(_) ⇒
+                log.debug("Outbound connection to [{}] was closed. Reconnecting in [{}]", remoteAddress, reconnectInterval)
+              case Failure(cause) ⇒
+                log.debug("Outbound connection to [{}] failed. Reconnecting in [{}]. {}",
+                  remoteAddress, reconnectInterval, cause.getMessage)
+            }
+            scheduleOnce(ReconnectTimerKey, reconnectInterval)
+          }
+        }
+      }
+
+      override protected def onTimer(timerKey: Any): Unit = timerKey match {
+        case ReconnectTimerKey ⇒ connect()
+      }
+
+      override def onPush(): Unit = {
+        val frame = grab(in)
+        // the frame is dropped if the connection was lost after it was pulled
+        if (connectionOut.isAvailable) connectionOut.push(frame)
+      }
+
+      override def onUpstreamFinish(): Unit = {
+        if (isTimerActive(ReconnectTimerKey) || connectionOut.isClosed) {
+          // not connected, nothing to flush
+          completed.trySuccess(Done)
+          completeStage()
+        } else
+          connectionOut.complete()
+      }
+
+      override def onUpstreamFailure(cause: Throwable): Unit = {
+        if (!connectionOut.isClosed) connectionOut.fail(cause)
+        completed.tryFailure(cause)
+        failStage(cause)
+      }
+
+      override def postStop(): Unit = {
+        if ((connectionOut ne null) && !connectionOut.isClosed) connectionOut.complete()
+        completed.tryFailure(new IllegalStateException(s"Outbound TCP connection to [$remoteAddress] was stopped"))
+      }
+
+      setHandler(in, this)
+    }
+
+    (logic, completed.future)
+  }
+}
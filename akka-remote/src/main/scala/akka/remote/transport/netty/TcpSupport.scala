@@ -41,8 +41,19 @@ private[remote] trait TcpHandlers extends CommonHandlers {
     notifyListener(e.getChannel, Disassociated(AssociationHandle.Unknown))
 
   override def onMessage(ctx: ChannelHandlerContext, e: MessageEvent): Unit = {
-    val bytes: Array[Byte] = e.getMessage.asInstanceOf[ChannelBuffer].array()
-    if (bytes.length > 0) notifyListener(e.getChannel, InboundPayload(ByteString(bytes)))
+    val buffer = e.getMessage.asInstanceOf[ChannelBuffer]
+    if (buffer.readableBytes > 0) {
+      // the frame decoder has already copied the frame into its own array, no need to copy it again
+      val payload =
+        if (buffer.hasArray && buffer.arrayOffset == 0 && buffer.readerIndex == 0 && buffer.readableBytes == buffer.array.length)
+          ByteString.ByteString1C(buffer.array)
+        else {
+          val bytes = new Array[Byte](buffer.readableBytes)
+          buffer.getBytes(buffer.readerIndex, bytes)
+          ByteString.ByteString1C(bytes)
+        }
+      notifyListener(e.getChannel, InboundPayload(payload))
+    }
   }
 
   override def onException(ctx: ChannelHandlerContext, e: ExceptionEvent): Unit = {
@@ -197,29 +197,43 @@ class AccrualFailureDetectorSpec extends AkkaSpec("akka.loglevel = INFO") {
 
     "calculate correct mean and variance" in {
       val samples = Seq(100, 200, 125, 340, 130)
-      val stats = (HeartbeatHistory(maxSampleSize = 20) /: samples) {
-        (stats, value) ⇒ stats :+ value
-      }
+      val stats = new HeartbeatHistory(maxSampleSize = 20)
+      samples.foreach(stats.add(_))
       stats.mean should ===(179.0 +- 0.00001)
       stats.variance should ===(7584.0 +- 0.00001)
     }
 
     "have 0.0 variance for one sample" in {
-      (HeartbeatHistory(600) :+ 1000L).variance should ===(0.0 +- 0.00001)
+      val history = new HeartbeatHistory(600)
+      history.add(1000L)
+      history.variance should ===(0.0 +- 0.00001)
     }
 
     "be capped by the specified maxSampleSize" in {
-      val history3 = HeartbeatHistory(maxSampleSize = 3) :+ 100 :+ 110 :+ 90
-      history3.mean should ===(100.0 +- 0.00001)
-      history3.variance should ===(66.6666667 +- 0.00001)
-
-      val history4 = history3 :+ 140
-      history4.mean should ===(113.333333 +- 0.00001)
-      history4.variance should ===(422.222222 +- 0.00001)
-
-      val history5 = history4 :+ 80
-      history5.mean should ===(103.333333 +- 0.00001)
-      history5.variance should ===(688.88888889 +- 0.00001)
+      val history = new HeartbeatHistory(maxSampleSize = 3)
+      List(100, 110, 90).foreach(history.add(_))
+      history.size should ===(3)
+      history.mean should ===(100.0 +- 0.00001)
+      history.variance should ===(66.6666667 +- 0.00001)
+
+      history.add(140)
+      history.size should ===(3)
+      history.mean should ===(113.333333 +- 0.00001)
+      history.variance should ===(422.222222 +- 0.00001)
+
+      history.add(80)
+      history.mean should ===(103.333333 +- 0.00001)
+      history.variance should ===(688.88888889 +- 0.00001)
+    }
+
+    "keep the statistics of the latest samples when wrapping around many times" in {
+      val history = new HeartbeatHistory(maxSampleSize = 7)
+      val samples = (1 to 100).map(i ⇒ (i * 37 % 101).toLong)
+      samples.foreach(history.add)
+      val latest = samples.takeRight(7)
+      val mean = latest.sum.toDouble / 7
+      history.mean should ===(mean +- 0.00001)
+      history.variance should ===((latest.map(x ⇒ x * x).sum.toDouble / 7 - mean * mean) +- 0.00001)
     }
 
   }
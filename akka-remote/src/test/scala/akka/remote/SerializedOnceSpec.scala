@@ -0,0 +1,55 @@
+/**
+ * Copyright (C) 2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+
+package akka.remote
+
+import akka.actor.{ DeadLetter, ExtendedActorSystem }
+import akka.remote.EndpointManager.Send
+import akka.remote.artery.OutboundEnvelope
+import akka.testkit.{ AkkaSpec, TestProbe }
+import akka.util.OptionVal
+
+class SerializedOnceSpec extends AkkaSpec("""
+  akka.actor.provider = remote
+  akka.remote.netty.tcp {
+    hostname = "127.0.0.1"
+    port = 0
+  }
+  """) {
+
+  val recipient = system.asInstanceOf[ExtendedActorSystem].provider
+    .resolveActorRef("akka.tcp://other@127.0.0.1:2552/user/subscriber").asInstanceOf[RemoteActorRef]
+
+  def deadLetterProbe(): TestProbe = {
+    val probe = TestProbe()
+    system.eventStream.subscribe(probe.ref, classOf[DeadLetter])
+    probe
+  }
+
+  "A SerializedOnce" must {
+
+    "be unwrapped when it is sent to dead letters" in {
+      val probe = deadLetterProbe()
+      system.deadLetters ! new SerializedOnce("hello")
+      probe.expectMsgType[DeadLetter].message should ===("hello")
+    }
+
+    "be unwrapped when it is sent to dead letters in a classic remoting envelope" in {
+      val probe = deadLetterProbe()
+      system.deadLetters ! Send(new SerializedOnce("hello"), OptionVal.None, recipient)
+      val deadLetter = probe.expectMsgType[DeadLetter]
+      deadLetter.message should ===("hello")
+      deadLetter.recipient should ===(recipient)
+    }
+
+    "be unwrapped when it is sent to dead letters in an Artery envelope" in {
+      val probe = deadLetterProbe()
+      system.deadLetters ! OutboundEnvelope(OptionVal.Some(recipient), new SerializedOnce("hello"), OptionVal.None)
+      val deadLetter = probe.expectMsgType[DeadLetter]
+      deadLetter.message should ===("hello")
+      deadLetter.recipient should ===(recipient)
+    }
+  }
+
+}
@@ -0,0 +1,68 @@
+/**
+ * Copyright (C) 2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+package akka.remote.artery
+
+import java.util.concurrent.atomic.AtomicInteger
+
+import akka.actor.{ ActorIdentity, ActorRef, ActorSystem, ExtendedActorSystem, Identify }
+import akka.remote.SerializedOnce
+import akka.serialization.{ SerializationExtension, SerializerWithStringManifest }
+import akka.testkit.{ ImplicitSender, TestActors }
+
+object SerializedOnceSpec {
+  final case class Counted(s: String)
+
+  class CountingSerializer(val system: ExtendedActorSystem) extends SerializerWithStringManifest {
+    val toBinaryCount = new AtomicInteger
+    override def identifier: Int = 4714
+    override def manifest(o: AnyRef): String = "C"
+    override def toBinary(o: AnyRef): Array[Byte] = {
+      toBinaryCount.incrementAndGet()
+      o.asInstanceOf[Counted].s.getBytes("UTF-8")
+    }
+    override def fromBinary(bytes: Array[Byte], manifest: String): AnyRef = Counted(new String(bytes, "UTF-8"))
+  }
+}
+
+class SerializedOnceSpec extends ArteryMultiNodeSpec("""
+    akka.actor {
+      serialize-messages = off
+      serializers.counting = "akka.remote.artery.SerializedOnceSpec$CountingSerializer"
+      serialization-bindings {
+        "akka.remote.artery.SerializedOnceSpec$Counted" = counting
+      }
+    }
+  """) with ImplicitSender {
+
+  import SerializedOnceSpec._
+
+  val remoteSystem1 = newRemoteSystem()
+  val remoteSystem2 = newRemoteSystem()
+
+  def toBinaryCount: Int =
+    SerializationExtension(system).serializerFor(classOf[Counted]).asInstanceOf[CountingSerializer].toBinaryCount.get
+
+  def forwarderOn(sys: ActorSystem): ActorRef = {
+    sys.actorOf(TestActors.forwardActorProps(testActor), "forwarder")
+    system.actorSelection(rootActorPath(sys) / "user" / "forwarder") ! Identify(None)
+    expectMsgType[ActorIdentity].ref.get
+  }
+
+  "A SerializedOnce sent with Artery" must {
+
+    "deliver the wrapped message and serialize it once for all destinations" in {
+      val forwarder1 = forwarderOn(remoteSystem1)
+      val forwarder2 = forwarderOn(remoteSystem2)
+
+      val before = toBinaryCount
+      val once = new SerializedOnce(Counted("hello"))
+      forwarder1 ! once
+      forwarder2 ! once
+      expectMsg(Counted("hello"))
+      expectMsg(Counted("hello"))
+      toBinaryCount - before should ===(1)
+    }
+  }
+
+}
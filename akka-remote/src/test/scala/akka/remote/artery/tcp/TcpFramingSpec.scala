@@ -0,0 +1,106 @@
+/**
+ * Copyright (C) 2016-2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+package akka.remote.artery.tcp
+
+import scala.concurrent.Await
+import scala.concurrent.duration._
+import scala.util.Random
+
+import akka.remote.artery.EnvelopeBuffer
+import akka.remote.artery.EnvelopeBufferPool
+import akka.stream.ActorMaterializer
+import akka.stream.impl.io.ByteStringParser.ParsingException
+import akka.stream.scaladsl.Framing.FramingException
+import akka.stream.scaladsl.Sink
+import akka.stream.scaladsl.Source
+import akka.testkit.AkkaSpec
+import akka.util.ByteString
+
+class TcpFramingSpec extends AkkaSpec {
+  import TcpFraming.encodeConnectionHeader
+
+  private implicit val mat = ActorMaterializer()
+  private val pool = new EnvelopeBufferPool(1024, 16)
+
+  private def frame(payload: ByteString): ByteString = {
+    val header = new Array[Byte](TcpFraming.FrameHeaderLength)
+    TcpFraming.encodeFrameHeader(payload.size, header)
+    ByteString(header) ++ payload
+  }
+
+  private def payloadOf(envelope: EnvelopeBuffer): ByteString = {
+    val bytes = ByteString(envelope.byteBuffer)
+    pool.release(envelope)
+    bytes
+  }
+
+  private def decode(bytes: ByteString, chunkSize: Int): Vector[(Int, ByteString)] = {
+    val chunks = bytes.grouped(chunkSize).toVector
+    val result = Source(chunks)
+      .via(new TcpFraming(_ ⇒ pool))
+      .map(env ⇒ env.streamId → payloadOf(env))
+      .runWith(Sink.seq)
+    Await.result(result, 3.seconds).toVector
+  }
+
+  "TcpFraming stage" must {
+
+    "decode connection header and frames" in {
+      val payloads = Vector(ByteString("a"), ByteString("bc"), ByteString(Array.fill[Byte](300)(7)))
+      val bytes = encodeConnectionHeader(2) ++ payloads.map(frame).reduce(_ ++ _)
+      decode(bytes, bytes.size) should ===(payloads.map(2 → _))
+    }
+
+    "decode frames that are split at arbitrary positions" in {
+      val payloads = Vector.fill(20)(ByteString(Array.fill[Byte](Random.nextInt(100) + 1)(Random.nextInt.toByte)))
+      val bytes = encodeConnectionHeader(1) ++ payloads.map(frame).reduce(_ ++ _)
+      List(1, 3, 7, 64).foreach { chunkSize ⇒
+        decode(bytes, chunkSize) should ===(payloads.map(1 → _))
+      }
+    }
+
+    "reject connection without the magic header" in {
+      val bytes = ByteString("BOGUS") ++ frame(ByteString("a"))
+      intercept[ParsingException] {
+        decode(bytes, bytes.size)
+      }.getCause.getClass should ===(classOf[FramingException])
+    }
+
+    "reject frames that are larger than the buffers" in {
+      val bytes = encodeConnectionHeader(2) ++ frame(ByteString(Array.fill[Byte](2000)(1)))
+      intercept[ParsingException] {
+        decode(bytes, bytes.size)
+      }.getCause.getClass should ===(classOf[FramingException])
+    }
+
+    "reject frames with a negative length" in {
+      val header = new Array[Byte](TcpFraming.FrameHeaderLength)
+      TcpFraming.encodeFrameHeader(-5, header)
+      val bytes = encodeConnectionHeader(2) ++ ByteString(header) ++ ByteString("abcdef")
+      intercept[ParsingException] {
+        decode(bytes, bytes.size)
+      }.getCause.getClass should ===(classOf[FramingException])
+    }
+
+    "reject frames with an oversized length before buffering them" in {
+      val header = new Array[Byte](TcpFraming.FrameHeaderLength)
+      TcpFraming.encodeFrameHeader(Int.MaxValue, header)
+      val bytes = encodeConnectionHeader(2) ++ ByteString(header) ++ ByteString("abcdef")
+      // the stream is not completed, so it only fails if the length is checked right away
+      val result = Source.single(bytes).concat(Source.maybe[ByteString])
+        .via(new TcpFraming(_ ⇒ pool))
+        .runWith(Sink.seq)
+      intercept[ParsingException] {
+        Await.result(result, 3.seconds)
+      }.getCause.getClass should ===(classOf[FramingException])
+    }
+
+    "fail on truncated frame" in {
+      val bytes = encodeConnectionHeader(2) ++ frame(ByteString("abcdef")).dropRight(2)
+      intercept[FramingException] {
+        decode(bytes, bytes.size)
+      }
+    }
+  }
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright (C) 2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+
+package akka.remote.serialization
+
+import java.util.concurrent.atomic.AtomicInteger
+
+import akka.actor.{ Address, ExtendedActorSystem }
+import akka.remote.{ MessageSerializer, SerializedOnce }
+import akka.serialization.{ Serialization, SerializationExtension, SerializerWithStringManifest }
+import akka.testkit.AkkaSpec
+
+object MessageSerializerSpec {
+  final case class Counted(s: String)
+
+  class CountingSerializer(val system: ExtendedActorSystem) extends SerializerWithStringManifest {
+    val toBinaryCount = new AtomicInteger
+    override def identifier: Int = 4712
+    override def manifest(o: AnyRef): String = "C"
+    override def toBinary(o: AnyRef): Array[Byte] = {
+      toBinaryCount.incrementAndGet()
+      o.asInstanceOf[Counted].s.getBytes("UTF-8")
+    }
+    override def fromBinary(bytes: Array[Byte], manifest: String): AnyRef = Counted(new String(bytes, "UTF-8"))
+  }
+}
+
+class MessageSerializerSpec extends AkkaSpec("""
+  akka.actor {
+    serializers.counting = "akka.remote.serialization.MessageSerializerSpec$CountingSerializer"
+    serialization-bindings {
+      "akka.remote.serialization.MessageSerializerSpec$Counted" = counting
+    }
+  }
+  """) {
+  import MessageSerializerSpec._
+
+  val extendedSystem = system.asInstanceOf[ExtendedActorSystem]
+
+  "MessageSerializer" must {
+
+    "deserialize messages of a ByteBufferSerializer from the protobuf buffer" in {
+      val msg = Array.tabulate[Byte](512)(_.toByte)
+      val serialized = MessageSerializer.serialize(extendedSystem, msg)
+      serialized.getMessage.toByteArray should ===(msg)
+      MessageSerializer.deserialize(extendedSystem, serialized).asInstanceOf[Array[Byte]] should ===(msg)
+    }
+
+    "deserialize messages of other serializers" in {
+      val serialized = MessageSerializer.serialize(extendedSystem, "hello")
+      MessageSerializer.deserialize(extendedSystem, serialized) should ===("hello")
+    }
+
+    "serialize a SerializedOnce like the message it wraps" in {
+      List("hello", Counted("hello"), Some(17)) foreach { msg ⇒
+        MessageSerializer.serialize(extendedSystem, new SerializedOnce(msg)) should ===(
+          MessageSerializer.serialize(extendedSystem, msg))
+      }
+    }
+
+    "serialize a SerializedOnce once per local address of the transports" in {
+      def serializeWith(localAddress: Address, msg: AnyRef) =
+        Serialization.currentTransportInformation.withValue(Serialization.Information(localAddress, extendedSystem)) {
+          MessageSerializer.serialize(extendedSystem, msg)
+        }
+      val first = Address("akka.tcp", system.name, "first", 2552)
+      val second = Address("akka.ssl.tcp", system.name, "second", 2553)
+      val once = new SerializedOnce(testActor)
+
+      serializeWith(first, once) should ===(serializeWith(first, testActor))
+      serializeWith(second, once) should ===(serializeWith(second, testActor))
+      serializeWith(first, once) should !==(serializeWith(second, once))
+    }
+
+    "serialize the message of a SerializedOnce only once" in {
+      val serializer = SerializationExtension(system).serializerFor(classOf[Counted]).asInstanceOf[CountingSerializer]
+      val before = serializer.toBinaryCount.get
+      val once = new SerializedOnce(Counted("hello"))
+      val serialized = (1 to 3).map(_ ⇒ MessageSerializer.serialize(extendedSystem, once))
+      serializer.toBinaryCount.get - before should ===(1)
+      serialized.distinct.size should ===(1)
+      MessageSerializer.deserialize(extendedSystem, serialized.head) should ===(Counted("hello"))
+    }
+  }
+}
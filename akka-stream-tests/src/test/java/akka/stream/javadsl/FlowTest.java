@@ -637,6 +637,26 @@ public class FlowTest extends StreamTest {
     probe.expectMsgEquals("C");
   }
 
+  @Test
+  public void mustBeAbleToUseMapAsyncPartitioned() throws Exception {
+    final Iterable<String> input = Arrays.asList("a1", "b1", "a2", "b2");
+    final Flow<String, String, NotUsed> flow = Flow.of(String.class)
+      .mapAsyncPartitioned(4, elem -> elem.charAt(0), elem -> CompletableFuture.completedFuture(elem.toUpperCase()));
+    final CompletionStage<List<String>> result = Source.from(input).via(flow).runWith(Sink.seq(), materializer);
+    assertEquals(Arrays.asList("A1", "B1", "A2", "B2"), result.toCompletableFuture().get(3, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void mustBeAbleToUseGroupedWeightedWithin() throws Exception {
+    final Iterable<String> input = Arrays.asList("a", "bb", "c", "ddd", "e");
+    final Flow<String, List<String>, NotUsed> flow = Flow.of(String.class)
+      .groupedWeightedWithin(3, 10, FiniteDuration.create(10, TimeUnit.MINUTES), elem -> (long) elem.length());
+    final CompletionStage<List<List<String>>> result = Source.from(input).via(flow).runWith(Sink.seq(), materializer);
+    assertEquals(
+      Arrays.asList(Arrays.asList("a", "bb"), Arrays.asList("c"), Arrays.asList("ddd"), Arrays.asList("e")),
+      result.toCompletableFuture().get(3, TimeUnit.SECONDS));
+  }
+
   @Test
   public void mustBeAbleToRecover() throws Exception {
     final TestPublisher.ManualProbe<Integer> publisherProbe = TestPublisher.manualProbe(true,system);
@@ -0,0 +1,167 @@
+/**
+ * Copyright (C) 2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+package akka.stream
+
+import java.lang.management.ManagementFactory
+import javax.management.ObjectName
+
+import akka.stream.impl.StreamInstrumentation
+import akka.stream.impl.fusing.GraphInterpreter.GraphAssembly
+import akka.stream.impl.fusing.InterpreterInstrumentation
+import akka.stream.scaladsl.{ Flow, Keep, Sink, Source }
+import akka.stream.testkit.StreamSpec
+import akka.stream.testkit.Utils._
+import akka.stream.testkit.scaladsl.TestSink
+
+import scala.collection.JavaConverters._
+import scala.concurrent.duration._
+
+class StreamInstrumentationSpec extends StreamSpec {
+
+  implicit val materializer = ActorMaterializer()
+
+  // names of enclosing graphs are prepended to the stage names
+  def statistics(name: String)(implicit mat: ActorMaterializer): StageStatistics =
+    mat.stageStatistics.find(_.stage.startsWith(name)).getOrElse(fail(s"no statistics for [$name] in ${mat.stageStatistics}"))
+
+  "Stream instrumentation" must {
+
+    "be disabled by default" in assertAllStagesStopped {
+      val probe = Source(1 to 10).map(_ + 1).runWith(TestSink.probe[Int])
+      probe.request(10).expectNextN(2 to 11)
+      materializer.stageStatistics should ===(Nil)
+      probe.expectComplete()
+    }
+
+    "count the pushes and pulls of every stage" in assertAllStagesStopped {
+      val probe = Source(0 until 100).concat(Source.maybe[Int])
+        .via(Flow[Int].map(_ + 1).named("plusOne"))
+        .via(Flow[Int].filter(_ % 2 == 0).named("even"))
+        .toMat(TestSink.probe[Int])(Keep.right)
+        .addAttributes(ActorAttributes.instrumentation(true))
+        .run()
+      probe.request(50).expectNextN((1 to 100).filter(_ % 2 == 0))
+
+      // the last element reaches the probe before the filter's handler has returned
+      awaitAssert {
+        val plusOne = statistics("plusOne")
+        plusOne.pushCount should ===(100L)
+        plusOne.pullCount should be >= 100L
+        plusOne.handlerLatency.count should ===(plusOne.pushCount + plusOne.pullCount)
+
+        val even = statistics("even")
+        even.pushCount should ===(100L)
+        even.pullCount should be >= 50L
+      }
+
+      probe.cancel()
+      awaitAssert(materializer.stageStatistics should ===(Nil))
+    }
+
+    "record the time spent in a slow stage and the backpressure upstream of it" in assertAllStagesStopped {
+      val probe = Source(1 to 20).concat(Source.maybe[Int])
+        .via(Flow[Int].map(identity).named("fast"))
+        .via(Flow[Int].map { n ⇒ Thread.sleep(2); n }.named("slow"))
+        .toMat(TestSink.probe[Int])(Keep.right)
+        .addAttributes(ActorAttributes.instrumentation(true))
+        .run()
+      probe.request(20).expectNextN(1 to 20)
+
+      val slow = statistics("slow")
+      slow.pushNanos should be >= 20 * 2.millis.toNanos
+      slow.handlerLatency.percentile(1.0) should be >= 2.millis.toNanos
+
+      val fast = statistics("fast")
+      fast.pushNanos should be < slow.pushNanos
+      fast.backpressureNanos should be >= 19 * 2.millis.toNanos
+      fast.backpressureLatency.count should be >= 19L
+
+      probe.cancel()
+    }
+
+    "only instrument the graphs with the attribute" in assertAllStagesStopped {
+      val (first, second) = Source.maybe[Int]
+        .via(Flow[Int].map(identity).named("instrumented").addAttributes(ActorAttributes.instrumentation(true)).async)
+        .via(Flow[Int].map(identity).named("plain"))
+        .toMat(Sink.ignore)(Keep.both)
+        .run()
+
+      // the only stage of the async island is named after its actor
+      awaitAssert(materializer.stageStatistics.map(_.stream).exists(_.contains("instrumented")) should ===(true))
+      materializer.stageStatistics.map(_.stage) should ===(List("map"))
+
+      first.success(None)
+      second.futureValue
+      awaitAssert(materializer.stageStatistics should ===(Nil))
+    }
+
+    "expose the statistics through JMX" in assertAllStagesStopped {
+      val mat = ActorMaterializer()
+      try {
+        val promise = Source.maybe[Int].via(Flow[Int].map(identity).named("jmxStage"))
+          .toMat(Sink.ignore)(Keep.left)
+          .addAttributes(ActorAttributes.instrumentation(true))
+          .run()(mat)
+
+        val server = ManagementFactory.getPlatformMBeanServer
+        def mBeanWithStage: Option[ObjectName] =
+          server.queryNames(new ObjectName("akka:type=StreamInstrumentation,*"), null).asScala
+            .find(n ⇒ server.getAttribute(n, "StageStatistics").asInstanceOf[String].contains("jmxStage"))
+        awaitAssert(mBeanWithStage should not be empty)
+        val name = mBeanWithStage.get
+        server.getAttribute(name, "InstrumentedStreams") should ===(1)
+
+        promise.success(None)
+        awaitAssert(server.getAttribute(name, "InstrumentedStreams") should ===(0))
+        mat.shutdown()
+        awaitAssert(server.isRegistered(name) should ===(false))
+      } finally mat.shutdown()
+    }
+
+    "not register an MBean after it has been shut down" in {
+      val instrumentation = new StreamInstrumentation(system, "shut-down-instrumentation")
+      instrumentation.shutdown()
+      instrumentation.register("stream", new InterpreterInstrumentation(
+        new GraphAssembly(Array.empty, Array.empty, Array.empty, Array.empty, Array.empty, Array.empty)))
+
+      instrumentation.stageStatistics should ===(Nil)
+      ManagementFactory.getPlatformMBeanServer
+        .queryNames(new ObjectName("akka:type=StreamInstrumentation,materializer=\"shut-down-instrumentation\",*"), null)
+        .asScala should ===(Set.empty)
+    }
+
+  }
+
+  "StageStatistics.Histogram" must {
+
+    "report percentiles as powers of two nanoseconds" in {
+      // bucket i holds durations up to 2^i nanoseconds
+      val buckets = new Array[Long](64)
+      buckets(3) = 50
+      buckets(10) = 49
+      buckets(20) = 1
+      val histogram = new StageStatistics.Histogram(buckets)
+
+      histogram.count should ===(100L)
+      histogram.percentile(0.0) should ===(8L)
+      histogram.percentile(0.5) should ===(8L)
+      histogram.percentile(0.51) should ===(1024L)
+      histogram.percentile(0.99) should ===(1024L)
+      histogram.percentile(1.0) should ===(1L << 20)
+      new StageStatistics.Histogram(new Array[Long](64)).percentile(0.5) should ===(0L)
+    }
+
+    "record every duration in one of its buckets" in {
+      import InterpreterInstrumentation.{ Buckets, bucket }
+      bucket(0L) should ===(0)
+      bucket(1L) should ===(1)
+      bucket(8L) should ===(4)
+      bucket(Long.MaxValue) should ===(Buckets - 1)
+      // the clock may go backwards
+      bucket(-1L) should ===(0)
+      bucket(Long.MinValue) should ===(0)
+    }
+
+  }
+}
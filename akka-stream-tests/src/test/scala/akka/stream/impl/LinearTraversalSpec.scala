@@ -0,0 +1,60 @@
+/**
+ * Copyright (C) 2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+
+package akka.stream.impl
+
+import akka.stream._
+import akka.stream.scaladsl._
+import akka.stream.testkit.StreamSpec
+import akka.stream.testkit.Utils._
+import scala.concurrent.{ Await, Future, Promise }
+import scala.concurrent.duration._
+
+class LinearTraversalSpec extends StreamSpec {
+  implicit val materializer = ActorMaterializer()
+
+  "A LinearTraversal" must {
+
+    "be computed once and reused for all materializations of a graph" in assertAllStagesStopped {
+      val graph = Source(1 to 10).map(_ * 2).toMat(Sink.fold(0)(_ + _))(Keep.right)
+      val cache = new LinearTraversal.Cache
+      val traversal = cache(graph)
+      traversal should not be null
+      cache(graph) should be theSameInstanceAs traversal
+      LinearTraversal(graph) should not be theSameInstanceAs(traversal)
+
+      val results = (1 to 3).map(_ ⇒ graph.run())
+      results.foreach(f ⇒ Await.result(f, 3.seconds) should ===(110))
+    }
+
+    "wire asynchronous islands and materialized values independently for each run" in assertAllStagesStopped {
+      val graph = RunnableGraph.fromGraph(GraphDSL.create(Sink.seq[Int]) { implicit b ⇒ sink ⇒
+        import GraphDSL.Implicits._
+        val zip = b.add(Zip[Int, Int]())
+        Source(1 to 5).map(_ + 1).async ~> zip.in0
+        Source(1 to 5).async ~> zip.in1
+        zip.out.map { case (a, b) ⇒ a * b } ~> sink
+        ClosedShape
+      })
+
+      Await.result(graph.run(), 3.seconds) should ===(Seq(2, 6, 12, 20, 30))
+      Await.result(graph.run(), 3.seconds) should ===(Seq(2, 6, 12, 20, 30))
+    }
+
+    "feed the materialized value of the graph back into it on every run" in assertAllStagesStopped {
+      val graph = RunnableGraph.fromGraph(GraphDSL.create(Source.maybe[Int], Sink.head[Int])(Keep.both) { implicit b ⇒ (src, sink) ⇒
+        import GraphDSL.Implicits._
+        src ~> sink
+        b.materializedValue ~> Sink.foreach[(Promise[Option[Int]], Future[Int])](_._1.success(Some(42)))
+        ClosedShape
+      })
+
+      val (firstPromise, first) = graph.run()
+      val (secondPromise, second) = graph.run()
+      firstPromise should not be theSameInstanceAs(secondPromise)
+      Await.result(first, 3.seconds) should ===(42)
+      Await.result(second, 3.seconds) should ===(42)
+    }
+  }
+}
@@ -44,6 +44,27 @@ class ActorGraphInterpreterSpec extends StreamSpec {
         3.seconds) should ===(1 to 100)
     }
 
+    "pass elements across async boundaries in order and before completion" in assertAllStagesStopped {
+      for (bufferSize ← List(1, 16, 64)) {
+        Await.result(
+          Source(1 to 1000)
+            .map(identity).async
+            .map(identity).async
+            .addAttributes(Attributes.inputBuffer(bufferSize, bufferSize))
+            .grouped(2000)
+            .runWith(Sink.head),
+          3.seconds) should ===(1 to 1000)
+      }
+    }
+
+    "pass elements across an async boundary before failure" in assertAllStagesStopped {
+      Await.result(
+        Source(1 to 11).map(n ⇒ if (n == 11) throw TE("boom") else n).async
+          .recover { case TE("boom") ⇒ -1 }
+          .runWith(Sink.seq),
+        3.seconds) should ===((1 to 10) :+ -1)
+    }
+
     "be able to interpret a simple bidi stage" in assertAllStagesStopped {
       val identityBidi = new GraphStage[BidiShape[Int, Int, Int, Int]] {
         val in1 = Inlet[Int]("in1")
@@ -54,6 +54,17 @@ class FileSinkSpec extends StreamSpec(UnboundedMailboxConfig) {
       }
     }
 
+    "write concatenated ByteStrings to a file" in assertAllStagesStopped {
+      targetFile { f ⇒
+        val completion = Source(TestByteStrings.grouped(3).map(_.reduce(_ ++ _)).toList)
+          .runWith(FileIO.toPath(f))
+
+        val result = Await.result(completion, 3.seconds)
+        result.count should equal(6006)
+        checkFileContents(f, TestLines.mkString(""))
+      }
+    }
+
     "create new file if not exists" in assertAllStagesStopped {
       targetFile({ f ⇒
         val completion = Source(TestByteStrings)
@@ -15,8 +15,9 @@ import akka.stream.Attributes
 import akka.stream.impl.ActorMaterializerImpl
 import akka.stream.impl.StreamSupervisor
 import akka.stream.impl.StreamSupervisor.Children
+import akka.stream.impl.io.FileSource
 import akka.stream.io.FileSourceSpec.Settings
-import akka.stream.scaladsl.{ FileIO, Keep, Sink }
+import akka.stream.scaladsl.{ FileIO, Keep, Sink, Source }
 import akka.stream.testkit._
 import akka.stream.testkit.Utils._
 import akka.stream.testkit.scaladsl.TestSink
@@ -183,6 +184,42 @@ class FileSourceSpec extends StreamSpec(UnboundedMailboxConfig) {
       } finally shutdown(sys)
     }
 
+    "read contents from a memory-mapped file" in assertAllStagesStopped {
+      // mapping is not supported by the in-memory file system
+      val f = Files.createTempFile("file-source-spec", ".tmp")
+      try {
+        Files.write(f, TestText.getBytes(UTF_8))
+        val (r, chunks) = FileIO.fromPathMapped(f, 512).toMat(Sink.seq)(Keep.both).run()
+
+        Await.result(chunks, 3.seconds).map(_.size) should ===(Seq.fill(11)(512) :+ 368)
+        Await.result(chunks, 3.seconds).reduce(_ ++ _).utf8String should ===(TestText)
+        Await.result(r, 3.seconds).count should ===(TestText.length)
+      } finally Files.delete(f)
+    }
+
+    "read a memory-mapped file region by region" in assertAllStagesStopped {
+      val f = Files.createTempFile("file-source-spec", ".tmp")
+      try {
+        Files.write(f, TestText.getBytes(UTF_8))
+        val chunks = Source.fromGraph(new FileSource(f, 384, mapped = true, maxMappedRegionSize = 1000))
+          .runWith(Sink.seq)
+
+        // regions of 768 bytes, each chunk but the last is complete
+        Await.result(chunks, 3.seconds).map(_.size) should ===(Seq.fill(15)(384) :+ 240)
+        Await.result(chunks, 3.seconds).reduce(_ ++ _).utf8String should ===(TestText)
+      } finally Files.delete(f)
+    }
+
+    "complete right away when memory-mapping an empty file" in assertAllStagesStopped {
+      val f = Files.createTempFile("file-source-spec", ".tmp")
+      try {
+        FileIO.fromPathMapped(f)
+          .runWith(TestSink.probe)
+          .request(1)
+          .expectComplete()
+      } finally Files.delete(f)
+    }
+
     //FIXME: overriding dispatcher should be made available with dispatcher alias support in materializer (#17929)
     "allow overriding the dispatcher using Attributes" in {
       pending
@@ -4,8 +4,10 @@
 package akka.stream.scaladsl
 
 import java.nio.charset.StandardCharsets
+import java.util.zip.{ Deflater, ZipException }
 
-import akka.stream.impl.io.compression.{ DeflateCompressor, GzipCompressor }
+import akka.NotUsed
+import akka.stream.impl.io.compression.{ DeflateCompressor, DeflaterPool, GzipCompressor }
 import akka.stream.testkit.StreamSpec
 import akka.stream.testkit.scaladsl.TestSink
 import akka.stream.{ ActorMaterializer, ActorMaterializerSettings }
@@ -42,4 +44,79 @@ class CompressionSpec extends StreamSpec {
       res.futureValue should ===(data)
     }
   }
+
+  def roundTrip(encoder: Flow[ByteString, ByteString, NotUsed], decoder: Flow[ByteString, ByteString, NotUsed], input: Seq[ByteString]): ByteString =
+    Source(input.toList).via(encoder).via(decoder).runFold(ByteString.empty)(_ ++ _).futureValue
+
+  val chunks = (1 to 20).map(i ⇒ ByteString(s"chunk number $i of some repetitive data, " * 10))
+
+  "Compression with a level" must {
+    "round-trip gzip at every level" in {
+      for (level ← Deflater.NO_COMPRESSION to Deflater.BEST_COMPRESSION)
+        roundTrip(Compression.gzip(level, pooled = false), Compression.gunzip(), chunks) should ===(chunks.reduce(_ ++ _))
+    }
+
+    "compress better at higher levels" in {
+      def compressedSize(level: Int) =
+        Source(chunks.toList).via(Compression.deflate(level, None, pooled = false)).runFold(0)(_ + _.size).futureValue
+      compressedSize(Deflater.BEST_COMPRESSION) should be < compressedSize(Deflater.NO_COMPRESSION)
+    }
+
+    "reject invalid levels" in {
+      an[IllegalArgumentException] should be thrownBy Compression.gzip(10, pooled = false)
+      an[IllegalArgumentException] should be thrownBy Compression.deflate(-2, None, pooled = false)
+    }
+  }
+
+  "Compression with a preset dictionary" must {
+    val dictionary = Some(ByteString("of some repetitive data, chunk number"))
+    val message = List(ByteString("chunk number 1 of some repetitive data"))
+
+    "round-trip deflate with the same dictionary" in {
+      roundTrip(Compression.deflate(Deflater.BEST_COMPRESSION, dictionary, pooled = false),
+        Compression.inflate(Compression.MaxBytesPerChunkDefault, dictionary, pooled = false), message) should ===(message.head)
+    }
+
+    "compress small messages better than without a dictionary" in {
+      def compressedSize(dict: Option[ByteString]) =
+        Source(message).via(Compression.deflate(Deflater.BEST_COMPRESSION, dict, pooled = false)).runFold(0)(_ + _.size).futureValue
+      compressedSize(dictionary) should be < compressedSize(None)
+    }
+
+    "fail inflating without the dictionary" in {
+      Source(message)
+        .via(Compression.deflate(Deflater.BEST_COMPRESSION, dictionary, pooled = false))
+        .via(Compression.inflate())
+        .runWith(Sink.ignore).failed.futureValue.getCause shouldBe a[ZipException]
+    }
+  }
+
+  "Pooled compression" must {
+    "round-trip gzip and deflate across many materializations" in {
+      for (_ ← 1 to 3 * DeflaterPool.MaxPooledPerSetting) {
+        roundTrip(Compression.gzip(Deflater.DEFAULT_COMPRESSION, pooled = true),
+          Compression.gunzip(Compression.MaxBytesPerChunkDefault, pooled = true), chunks) should ===(chunks.reduce(_ ++ _))
+        roundTrip(Compression.deflate(Deflater.DEFAULT_COMPRESSION, None, pooled = true),
+          Compression.inflate(Compression.MaxBytesPerChunkDefault, None, pooled = true), chunks) should ===(chunks.reduce(_ ++ _))
+      }
+    }
+
+    "not leak a dictionary into the next user of a pooled deflater" in {
+      val dictionary = Some(ByteString("repetitive data"))
+      roundTrip(Compression.deflate(Deflater.DEFAULT_COMPRESSION, dictionary, pooled = true),
+        Compression.inflate(Compression.MaxBytesPerChunkDefault, dictionary, pooled = true), chunks) should ===(chunks.reduce(_ ++ _))
+      roundTrip(Compression.deflate(Deflater.DEFAULT_COMPRESSION, None, pooled = true),
+        Compression.inflate(), chunks) should ===(chunks.reduce(_ ++ _))
+    }
+
+    "release the deflater when the stream fails" in {
+      val deflater = DeflaterPool.acquire(Deflater.BEST_SPEED, nowrap = false)
+      DeflaterPool.release(deflater, Deflater.BEST_SPEED, nowrap = false)
+
+      Source.failed[ByteString](new RuntimeException("boom"))
+        .via(Compression.deflate(Deflater.BEST_SPEED, None, pooled = true))
+        .runWith(Sink.ignore).failed.futureValue.getMessage should ===("boom")
+      DeflaterPool.acquire(Deflater.BEST_SPEED, nowrap = false) should be theSameInstanceAs deflater
+    }
+  }
 }
@@ -0,0 +1,126 @@
+/**
+ * Copyright (C) 2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+package akka.stream.scaladsl
+
+import scala.collection.immutable
+import scala.concurrent.duration._
+import akka.stream.{ ActorMaterializer, ThrottleMode }
+import akka.stream.testkit._
+import akka.stream.testkit.Utils._
+import akka.testkit.TimingTest
+import akka.util.ByteString
+
+class FlowGroupedWeightedWithinSpec extends StreamSpec {
+
+  implicit val materializer = ActorMaterializer()
+
+  "A GroupedWeightedWithin" must {
+
+    "group elements by their total weight" in assertAllStagesStopped {
+      Source(List(1, 2, 1, 3, 4, 1, 1, 2))
+        .groupedWeightedWithin(4, 100, 10.minutes)(_.toLong)
+        .runWith(Sink.seq).futureValue should ===(List(List(1, 2, 1), List(3), List(4), List(1, 1, 2)))
+    }
+
+    "group elements by the maximum number of elements" in assertAllStagesStopped {
+      Source(1 to 7)
+        .groupedWeightedWithin(100, 3, 10.minutes)(_ ⇒ 1L)
+        .runWith(Sink.seq).futureValue should ===(List(1 to 3, 4 to 6, List(7)))
+    }
+
+    "emit an element that is heavier than the maximum weight as a group of its own" in assertAllStagesStopped {
+      Source(List(1, 10, 2, 2, 10))
+        .groupedWeightedWithin(5, 100, 10.minutes)(_.toLong)
+        .runWith(Sink.seq).futureValue should ===(List(List(1), List(10), List(2, 2), List(10)))
+    }
+
+    "group byte strings into bulk writes of a bounded size" in assertAllStagesStopped {
+      val chunks = (1 to 100).map(i ⇒ ByteString(Array.fill[Byte](10)(i.toByte)))
+      val batches = Source(chunks)
+        .groupedWeightedWithin(64, 1000, 10.minutes)(_.size.toLong)
+        .runWith(Sink.seq).futureValue
+
+      batches.flatten should ===(chunks)
+      batches.map(_.map(_.size).sum).init.foreach(_ should ===(60))
+    }
+
+    "emit the elements that did not fit into the last group when upstream completes" in assertAllStagesStopped {
+      val upstream = TestPublisher.probe[Int]()
+      val downstream = TestSubscriber.probe[immutable.Seq[Int]]()
+      Source.fromPublisher(upstream).groupedWeightedWithin(3, 100, 10.minutes)(_.toLong).to(Sink.fromSubscriber(downstream)).run()
+
+      upstream.sendNext(2)
+      upstream.sendNext(2)
+      upstream.sendComplete()
+      downstream.request(1)
+      downstream.expectNext(List(2))
+      downstream.request(1)
+      downstream.expectNext(List(2))
+      downstream.expectComplete()
+    }
+
+    "not emit empty groups" in assertAllStagesStopped {
+      Source.empty[Int]
+        .groupedWeightedWithin(3, 100, 10.minutes)(_.toLong)
+        .runWith(Sink.seq).futureValue should ===(Nil)
+    }
+
+    "group elements within the duration" taggedAs TimingTest in assertAllStagesStopped {
+      val upstream = TestPublisher.probe[Int]()
+      val downstream = TestSubscriber.probe[immutable.Seq[Int]]()
+      Source.fromPublisher(upstream).groupedWeightedWithin(100, 100, 500.millis)(_.toLong).to(Sink.fromSubscriber(downstream)).run()
+
+      downstream.request(2)
+      upstream.sendNext(1)
+      upstream.sendNext(2)
+      downstream.expectNoMsg(300.millis)
+      downstream.within(1.second) {
+        downstream.expectNext(List(1, 2))
+      }
+      downstream.expectNoMsg(700.millis)
+      upstream.sendNext(3)
+      upstream.sendComplete()
+      downstream.expectNext(List(3))
+      downstream.expectComplete()
+    }
+
+    "reset time window when the maximum weight is reached" taggedAs TimingTest in {
+      val upstream = TestPublisher.probe[Int]()
+      val downstream = TestSubscriber.probe[immutable.Seq[Int]]()
+      Source.fromPublisher(upstream).groupedWeightedWithin(3, 100, 2.seconds)(_.toLong).to(Sink.fromSubscriber(downstream)).run()
+
+      downstream.request(2)
+      downstream.expectNoMsg(1000.millis)
+
+      List(1, 2, 1).foreach(upstream.sendNext)
+      downstream.within(1000.millis) {
+        downstream.expectNext(List(1, 2))
+      }
+
+      downstream.expectNoMsg(1500.millis)
+
+      downstream.within(1000.millis) {
+        downstream.expectNext(List(1))
+      }
+
+      upstream.sendComplete()
+      downstream.expectComplete()
+    }
+
+    "fail the stream on negative weights" in assertAllStagesStopped {
+      Source(List(1, -1, 2))
+        .groupedWeightedWithin(3, 100, 10.minutes)(_.toLong)
+        .runWith(Sink.seq).failed.futureValue shouldBe an[IllegalArgumentException]
+    }
+
+    "group with small groups with backpressure" taggedAs TimingTest in {
+      Source(1 to 10)
+        .groupedWeightedWithin(1, 100, 1.day)(_ ⇒ 1L)
+        .throttle(1, 110.millis, 0, ThrottleMode.Shaping)
+        .runWith(Sink.seq).futureValue should ===((1 to 10).map(List(_)))
+    }
+
+  }
+
+}
@@ -0,0 +1,173 @@
+/**
+ * Copyright (C) 2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+package akka.stream.scaladsl
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicInteger
+
+import akka.stream.ActorAttributes.supervisionStrategy
+import akka.stream.ActorMaterializer
+import akka.stream.Supervision.resumingDecider
+import akka.stream.impl.ReactiveStreamsCompliance
+import akka.stream.testkit._
+import akka.stream.testkit.Utils._
+import akka.testkit.TestProbe
+
+import scala.concurrent.{ Await, Future, Promise }
+import scala.concurrent.duration._
+import scala.util.control.NoStackTrace
+
+class FlowMapAsyncPartitionedSpec extends StreamSpec {
+
+  implicit val materializer = ActorMaterializer()
+
+  "A Flow with mapAsyncPartitioned" must {
+
+    "keep the order within a partition and let other partitions overtake" in assertAllStagesStopped {
+      val probe = TestProbe()
+      val promises = new ConcurrentHashMap[Int, Promise[Int]]
+      val c = TestSubscriber.manualProbe[Int]()
+      Source(1 to 6).mapAsyncPartitioned(6)(_ % 2) { n ⇒
+        val promise = Promise[Int]()
+        promises.put(n, promise)
+        probe.ref ! n
+        promise.future
+      }.to(Sink.fromSubscriber(c)).run()
+      val sub = c.expectSubscription()
+      sub.request(10)
+
+      // only the first element of each partition is started
+      probe.expectMsgAllOf(1, 2)
+      probe.expectNoMsg(100.millis)
+
+      promises.get(2).success(2)
+      c.expectNext(2)
+      probe.expectMsg(4)
+      promises.get(4).success(4)
+      c.expectNext(4)
+      probe.expectMsg(6)
+      promises.get(6).success(6)
+      c.expectNext(6)
+
+      // the odd partition is still waiting for its first element
+      c.expectNoMsg(100.millis)
+      promises.get(1).success(1)
+      c.expectNext(1)
+      probe.expectMsg(3)
+      promises.get(3).success(3)
+      c.expectNext(3)
+      probe.expectMsg(5)
+      promises.get(5).success(5)
+      c.expectNext(5)
+      c.expectComplete()
+    }
+
+    "run one future at a time per partition and partitions concurrently" in assertAllStagesStopped {
+      implicit val ec = system.dispatcher
+      val running = Vector.fill(4)(new AtomicInteger)
+      val maxPerPartition = new AtomicInteger
+      val total = new AtomicInteger
+      val maxTotal = new AtomicInteger
+
+      def update(max: AtomicInteger, value: Int): Unit = {
+        val current = max.get
+        if (value > current && !max.compareAndSet(current, value)) update(max, value)
+      }
+
+      val result = Source(1 to 200).mapAsyncPartitioned(8)(_ % 4) { n ⇒
+        Future {
+          update(maxPerPartition, running(n % 4).incrementAndGet())
+          update(maxTotal, total.incrementAndGet())
+          Thread.sleep(1)
+          total.decrementAndGet()
+          running(n % 4).decrementAndGet()
+          n
+        }
+      }.runWith(Sink.seq)
+
+      val elements = Await.result(result, 10.seconds)
+      elements.sorted should ===(1 to 200)
+      for (p ← 0 until 4) elements.filter(_ % 4 == p) should ===((1 to 200).filter(_ % 4 == p))
+      maxPerPartition.get should ===(1)
+      maxTotal.get should be > 1
+    }
+
+    "count the elements waiting for their partition against the parallelism" in assertAllStagesStopped {
+      val pulled = new AtomicInteger
+      val c = TestSubscriber.manualProbe[Int]()
+      Source.fromIterator(() ⇒ Iterator.from(1).map { n ⇒ pulled.incrementAndGet(); n }).take(20)
+        .mapAsyncPartitioned(4)(_ ⇒ "same")(_ ⇒ Promise[Int]().future)
+        .to(Sink.fromSubscriber(c)).run()
+      val sub = c.expectSubscription()
+      sub.request(10)
+      c.expectNoMsg(200.millis)
+      pulled.get should ===(4)
+      sub.cancel()
+    }
+
+    "signal future failure" in assertAllStagesStopped {
+      implicit val ec = system.dispatcher
+      val done = Source(1 to 5).mapAsyncPartitioned(4)(_ % 2) { n ⇒
+        if (n == 3) Future.failed(new RuntimeException("err1") with NoStackTrace)
+        else Future.successful(n)
+      }.runWith(Sink.ignore)
+      intercept[RuntimeException] {
+        Await.result(done, remainingOrDefault)
+      }.getMessage should be("err1")
+    }
+
+    "signal error from mapAsyncPartitioned" in assertAllStagesStopped {
+      val c = TestSubscriber.manualProbe[Int]()
+      Source(1 to 5).mapAsyncPartitioned(4)(_ % 2) { n ⇒
+        if (n == 3) throw new RuntimeException("err2") with NoStackTrace
+        else Future.successful(n)
+      }.to(Sink.fromSubscriber(c)).run()
+      val sub = c.expectSubscription()
+      sub.request(10)
+      c.expectNext(1, 2)
+      c.expectError.getMessage should be("err2")
+    }
+
+    "resume after failed future and continue with the partition" in assertAllStagesStopped {
+      Source(1 to 6).mapAsyncPartitioned(4)(_ % 2) { n ⇒
+        if (n == 3) Future.failed(new RuntimeException("err3") with NoStackTrace)
+        else Future.successful(n)
+      }.withAttributes(supervisionStrategy(resumingDecider))
+        .runWith(Sink.seq).futureValue should ===(Seq(1, 2, 4, 5, 6))
+    }
+
+    "resume when the partitioner throws" in assertAllStagesStopped {
+      Source(1 to 6).mapAsyncPartitioned(4) { n ⇒
+        if (n == 4) throw new RuntimeException("err4") with NoStackTrace
+        else n % 2
+      }(n ⇒ Future.successful(n))
+        .withAttributes(supervisionStrategy(resumingDecider))
+        .runWith(Sink.seq).futureValue should ===(Seq(1, 2, 3, 5, 6))
+    }
+
+    "signal NPE when future is completed with null" in {
+      val c = TestSubscriber.manualProbe[String]()
+      Source(List("a", "b")).mapAsyncPartitioned(4)(identity)(_ ⇒ Future.successful(null))
+        .to(Sink.fromSubscriber(c)).run()
+      val sub = c.expectSubscription()
+      sub.request(10)
+      c.expectError().getMessage should be(ReactiveStreamsCompliance.ElementMustNotBeNullMsg)
+    }
+
+    "complete when upstream completes while futures are in flight" in assertAllStagesStopped {
+      val promise = Promise[Int]()
+      val c = TestSubscriber.manualProbe[Int]()
+      Source(1 to 3).mapAsyncPartitioned(4)(_ ⇒ 0) { n ⇒
+        if (n == 1) promise.future else Future.successful(n)
+      }.to(Sink.fromSubscriber(c)).run()
+      val sub = c.expectSubscription()
+      sub.request(10)
+      c.expectNoMsg(100.millis)
+      promise.success(1)
+      c.expectNext(1, 2, 3)
+      c.expectComplete()
+    }
+
+  }
+}
@@ -3,6 +3,8 @@
  */
 package akka.stream.scaladsl
 
+import java.util.concurrent.atomic.AtomicInteger
+
 import akka.stream.{ ActorMaterializer, KillSwitches, ThrottleMode }
 import akka.stream.testkit.{ StreamSpec, TestPublisher, TestSubscriber }
 import akka.stream.testkit.Utils.{ TE, assertAllStagesStopped }
@@ -367,4 +369,254 @@ class HubSpec extends StreamSpec {
 
   }
 
+  "PartitionHub" must {
+
+    "work in the happy case with one stream" in assertAllStagesStopped {
+      val source = Source(1 to 10).runWith(PartitionHub.sink((size, elem) ⇒ 0, startAfterNrOfConsumers = 0, bufferSize = 8))
+      source.runWith(Sink.seq).futureValue should ===(1 to 10)
+    }
+
+    "work in the happy case with two streams" in assertAllStagesStopped {
+      val source = Source(0 until 10).runWith(PartitionHub.sink(
+        (size, elem) ⇒ elem % size, startAfterNrOfConsumers = 2, bufferSize = 8))
+      val result1 = source.runWith(Sink.seq)
+      // it should not start publishing until startAfterNrOfConsumers = 2
+      Thread.sleep(20)
+      val result2 = source.runWith(Sink.seq)
+      result1.futureValue should ===(0 to 8 by 2)
+      result2.futureValue should ===(1 to 9 by 2)
+    }
+
+    "be able to use as round-robin router" in assertAllStagesStopped {
+      var n = 0L
+      val source = Source(0 until 10).runWith(PartitionHub.sink(
+        (size, elem) ⇒ {
+          n += 1
+          (n % size).toInt
+        }, startAfterNrOfConsumers = 2, bufferSize = 8))
+      val result1 = source.runWith(Sink.seq)
+      val result2 = source.runWith(Sink.seq)
+      result1.futureValue should ===(1 to 9 by 2)
+      result2.futureValue should ===(0 to 8 by 2)
+    }
+
+    "drop elements when the partitioner returns a negative index" in assertAllStagesStopped {
+      val source = Source(0 until 10).runWith(PartitionHub.sink(
+        (size, elem) ⇒ if (elem % 2 == 0) -1 else 0, startAfterNrOfConsumers = 1, bufferSize = 8))
+      source.runWith(Sink.seq).futureValue should ===(1 to 9 by 2)
+    }
+
+    "route evenly" in assertAllStagesStopped {
+      val (testSource, hub) = TestSource.probe[Int].toMat(
+        PartitionHub.sink((size, elem) ⇒ elem % size, startAfterNrOfConsumers = 2, bufferSize = 8))(Keep.both).run()
+      val probe0 = hub.runWith(TestSink.probe[Int])
+      val probe1 = hub.runWith(TestSink.probe[Int])
+      probe0.request(3)
+      probe1.request(10)
+      testSource.sendNext(0)
+      probe0.expectNext(0)
+      testSource.sendNext(1)
+      probe1.expectNext(1)
+
+      testSource.sendNext(2)
+      testSource.sendNext(3)
+      testSource.sendNext(4)
+      probe0.expectNext(2)
+      probe1.expectNext(3)
+      probe0.expectNext(4)
+
+      // probe1 has not requested more
+      testSource.sendNext(5)
+      testSource.sendNext(6)
+      testSource.sendNext(7)
+      probe1.expectNext(5)
+      probe1.expectNext(7)
+      probe0.expectNoMsg(10.millis)
+      probe0.request(10)
+      probe0.expectNext(6)
+
+      testSource.sendComplete()
+      probe0.expectComplete()
+      probe1.expectComplete()
+    }
+
+    "not let a slow consumer hold back the others while there is space in the buffer" in assertAllStagesStopped {
+      val (testSource, hub) = TestSource.probe[Int].toMat(
+        PartitionHub.sink((size, elem) ⇒ elem % size, startAfterNrOfConsumers = 2, bufferSize = 8))(Keep.both).run()
+      val probe0 = hub.runWith(TestSink.probe[Int])
+      val probe1 = hub.runWith(TestSink.probe[Int])
+      probe1.request(10)
+
+      // probe0 doesn't request anything, its elements are buffered
+      (0 until 8).foreach(testSource.sendNext)
+      probe1.expectNext(1, 3, 5, 7)
+      probe0.ensureSubscription()
+      probe0.expectNoMsg(10.millis)
+
+      probe0.request(4)
+      probe0.expectNext(0, 2, 4, 6)
+
+      testSource.sendComplete()
+      probe0.expectComplete()
+      probe1.expectComplete()
+    }
+
+    "backpressure the producer when the buffer is full" in assertAllStagesStopped {
+      val pulled = new AtomicInteger
+      val source = Source.fromIterator(() ⇒ Iterator.from(0).map { n ⇒ pulled.incrementAndGet(); n }).take(20)
+        .runWith(PartitionHub.sink((size, elem) ⇒ 0, startAfterNrOfConsumers = 1, bufferSize = 4))
+      val probe = source.runWith(TestSink.probe[Int])
+
+      // the consumer has not requested anything, the hub stops pulling when its buffer is full
+      Thread.sleep(100)
+      pulled.get should ===(4)
+
+      probe.request(20)
+      probe.expectNextN(0 until 20)
+      probe.expectComplete()
+    }
+
+    "remove cancelled consumers and route to the remaining" in assertAllStagesStopped {
+      val (testSource, hub) = TestSource.probe[Int].toMat(
+        PartitionHub.sink((size, elem) ⇒ elem % size, startAfterNrOfConsumers = 2, bufferSize = 8))(Keep.both).run()
+      val probe0 = hub.runWith(TestSink.probe[Int])
+      val probe1 = hub.runWith(TestSink.probe[Int])
+      probe0.request(10)
+      probe1.request(10)
+      testSource.sendNext(0)
+      probe0.expectNext(0)
+      testSource.sendNext(1)
+      probe1.expectNext(1)
+
+      probe1.cancel()
+      // wait for the cancellation to reach the hub, racy but both cases are valid
+      Thread.sleep(100)
+
+      testSource.sendNext(2)
+      testSource.sendNext(3)
+      probe0.expectNext(2, 3)
+
+      testSource.sendComplete()
+      probe0.expectComplete()
+    }
+
+    "properly signal error to consumers" in assertAllStagesStopped {
+      val upstream = TestPublisher.probe[Int]()
+      val source = Source.fromPublisher(upstream).runWith(
+        PartitionHub.sink((size, elem) ⇒ elem % size, startAfterNrOfConsumers = 2, bufferSize = 8))
+
+      val downstream1 = TestSubscriber.probe[Int]()
+      source.runWith(Sink.fromSubscriber(downstream1))
+      val downstream2 = TestSubscriber.probe[Int]()
+      source.runWith(Sink.fromSubscriber(downstream2))
+
+      downstream1.request(4)
+      downstream2.request(8)
+
+      (0 until 16) foreach (upstream.sendNext(_))
+
+      downstream1.expectNext(0, 2, 4, 6)
+      downstream2.expectNext(1, 3, 5, 7, 9, 11, 13, 15)
+
+      downstream1.expectNoMsg(100.millis)
+      downstream2.expectNoMsg(100.millis)
+
+      upstream.sendError(TE("Failed"))
+
+      downstream1.expectError(TE("Failed"))
+      downstream2.expectError(TE("Failed"))
+    }
+
+    "properly signal completion to consumers arriving after producer finished" in assertAllStagesStopped {
+      val source = Source.empty[Int].runWith(PartitionHub.sink((size, elem) ⇒ 0, startAfterNrOfConsumers = 0))
+      // Wait enough so the Hub gets the completion. This is racy, but this is fine because both
+      // cases should work in the end
+      Thread.sleep(10)
+
+      source.runWith(Sink.seq).futureValue should ===(Nil)
+    }
+
+    "remember completion for materialisations after completion" in {
+
+      val (sourceProbe, source) = TestSource.probe[Unit].toMat(
+        PartitionHub.sink((size, elem) ⇒ 0, startAfterNrOfConsumers = 0))(Keep.both).run()
+      val sinkProbe = source.runWith(TestSink.probe[Unit])
+
+      sourceProbe.sendComplete()
+
+      sinkProbe.request(1)
+      sinkProbe.expectComplete()
+
+      // Materialize a second time. There was a race here, where we managed to enqueue our Source registration just
+      // immediately before the Hub shut down.
+      val sink2Probe = source.runWith(TestSink.probe[Unit])
+
+      sink2Probe.request(1)
+      sink2Probe.expectComplete()
+    }
+
+    "properly signal error to consumers arriving after producer finished" in assertAllStagesStopped {
+      val source = Source.failed[Int](TE("Fail!")).runWith(
+        PartitionHub.sink((size, elem) ⇒ 0, startAfterNrOfConsumers = 0))
+      // Wait enough so the Hub gets the failure. This is racy, but this is fine because both
+      // cases should work in the end
+      Thread.sleep(10)
+
+      a[TE] shouldBe thrownBy {
+        Await.result(source.runWith(Sink.seq), 3.seconds)
+      }
+    }
+
+    "be able to use a stateful partitioner as round-robin router" in assertAllStagesStopped {
+      val source = Source(0 until 10).runWith(PartitionHub.statefulSink(() ⇒ {
+        var n = -1L
+        (info: PartitionHub.ConsumerInfo, elem: Int) ⇒ {
+          n += 1
+          info.consumerIdByIdx((n % info.size).toInt)
+        }
+      }, startAfterNrOfConsumers = 2, bufferSize = 8))
+      val result1 = source.runWith(Sink.seq)
+      val result2 = source.runWith(Sink.seq)
+      result1.futureValue should ===(0 to 8 by 2)
+      result2.futureValue should ===(1 to 9 by 2)
+    }
+
+    "route to the consumer with the fewest queued elements" in assertAllStagesStopped {
+      val (testSource, hub) = TestSource.probe[Int].toMat(
+        PartitionHub.statefulSink(
+          () ⇒ (info, elem) ⇒ info.consumerIds.minBy(id ⇒ info.queueSize(id)),
+          startAfterNrOfConsumers = 2, bufferSize = 16))(Keep.both).run()
+      val probe0 = hub.runWith(TestSink.probe[Int])
+      val probe1 = hub.runWith(TestSink.probe[Int])
+      probe1.request(10)
+
+      // probe0 doesn't consume, so its queue grows and the rest goes to probe1
+      testSource.sendNext(0)
+      testSource.sendNext(1)
+      probe1.expectNext(1)
+      testSource.sendNext(2)
+      probe1.expectNext(2)
+      testSource.sendNext(3)
+      probe1.expectNext(3)
+      probe0.ensureSubscription()
+      probe0.expectNoMsg(10.millis)
+
+      probe0.request(10)
+      probe0.expectNext(0)
+
+      testSource.sendComplete()
+      probe0.expectComplete()
+      probe1.expectComplete()
+    }
+
+    "fail when the stateful partitioner selects an unknown consumer" in assertAllStagesStopped {
+      val source = Source(0 until 10).runWith(PartitionHub.statefulSink(
+        () ⇒ (info, elem) ⇒ info.consumerIds.max + 1, startAfterNrOfConsumers = 1, bufferSize = 8))
+      a[IllegalArgumentException] shouldBe thrownBy {
+        Await.result(source.runWith(Sink.seq), 3.seconds)
+      }
+    }
+
+  }
+
 }
@@ -145,6 +145,44 @@ class JsonFramingSpec extends AkkaSpec {
       output.request(1)
       output.expectComplete()
     }
+
+    "parse the elements of a top-level array of any type" in {
+      val input = """[1, -2.5e3, "th]r{ee\"", [4, [5]], {"six": [6]}, true, null]"""
+
+      Source(input.grouped(3).map(ByteString(_)).toList)
+        .via(JsonFraming.objectScanner(Int.MaxValue))
+        .map(_.utf8String)
+        .runWith(Sink.seq).futureValue shouldBe Seq(
+          "1", "-2.5e3", "\"th]r{ee\\\"\"", "[4, [5]]", """{"six": [6]}""", "true", "null")
+    }
+
+    "parse consecutive top-level arrays" in {
+      Source.single(ByteString("""[{"a":0}, {"b":1}]
+                                  |[{"c":2}]
+                                  |{"d":3}""".stripMargin))
+        .via(JsonFraming.objectScanner(Int.MaxValue))
+        .map(_.utf8String)
+        .runWith(Sink.seq).futureValue shouldBe Seq("""{"a":0}""", """{"b":1}""", """{"c":2}""", """{"d":3}""")
+    }
+
+    "emit the same elements regardless of how the input is chunked" in {
+      val input =
+        """[{"id": 1, "tags": ["a", "b"], "text": "with \\ and \" and }"},
+          | {"id": 2, "nested": {"deeper": {"deepest": [1, 2, 3]}}},
+          | "a string", 42]""".stripMargin
+      val expected = Seq(
+        """{"id": 1, "tags": ["a", "b"], "text": "with \\ and \" and }"}""",
+        """{"id": 2, "nested": {"deeper": {"deepest": [1, 2, 3]}}}""",
+        "\"a string\"",
+        "42")
+
+      for (chunkSize ← 1 to input.length) {
+        Source(input.grouped(chunkSize).map(ByteString(_)).toList)
+          .via(JsonFraming.objectScanner(Int.MaxValue))
+          .map(_.utf8String)
+          .runWith(Sink.seq).futureValue shouldBe expected
+      }
+    }
   }
 
   "collecting json buffer" when {
@@ -482,6 +520,42 @@ class JsonFramingSpec extends AkkaSpec {
       }
     }
 
+    "accept objects of exactly the maximum length" in {
+      Source.single(ByteString("""  { "name": "john" }, { "name": "jack" }"""))
+        .via(JsonFraming.objectScanner(18)).map(_.utf8String)
+        .runWith(Sink.seq).futureValue shouldBe Seq("""{ "name": "john" }""", """{ "name": "jack" }""")
+    }
+
+    "fail on too deeply nested elements" in {
+      val input = ByteString("""{"a": {"b": 1}} {"a": [{"b": 1}]}""")
+
+      val probe = Source.single(input)
+        .via(JsonFraming.objectScanner(Int.MaxValue, maximumDepth = 2))
+        .runWith(TestSink.probe)
+
+      probe
+        .request(2)
+        .expectNext(ByteString("""{"a": {"b": 1}}"""))
+        .expectError().getMessage should include("maximumDepth")
+    }
+
+    "count the outer braces of an element towards the maximum depth" in {
+      val probe = Source.single(ByteString("""[{"a": 1}, {"a": {"b": 1}}]"""))
+        .via(JsonFraming.objectScanner(Int.MaxValue, maximumDepth = 1))
+        .runWith(TestSink.probe)
+
+      probe
+        .request(2)
+        .expectNext(ByteString("""{"a": 1}"""))
+        .expectError().getMessage should include("maximumDepth")
+    }
+
+    "reject a maximum depth below 1" in {
+      an[IllegalArgumentException] shouldBe thrownBy {
+        JsonFraming.objectScanner(Int.MaxValue, maximumDepth = 0)
+      }
+    }
+
     "fail when 2nd object is too large" in {
       val input = List(
         """{ "name": "john" }""",
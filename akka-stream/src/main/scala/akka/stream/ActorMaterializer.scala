@@ -14,6 +14,7 @@ import akka.stream.ActorMaterializerSettings.defaultMaxFixedBufferSize
 import akka.stream.impl._
 import com.typesafe.config.Config
 
+import scala.collection.immutable
 import scala.concurrent.duration._
 import akka.japi.function
 import akka.stream.impl.fusing.GraphInterpreterShell
@@ -56,14 +57,17 @@ object ActorMaterializer {
   def apply(materializerSettings: ActorMaterializerSettings, namePrefix: String)(implicit context: ActorRefFactory): ActorMaterializer = {
     val haveShutDown = new AtomicBoolean(false)
     val system = actorSystemOf(context)
+    val supervisorName = StreamSupervisor.nextName()
+    val instrumentation = new StreamInstrumentation(system, supervisorName)
 
     new ActorMaterializerImpl(
       system,
       materializerSettings,
       system.dispatchers,
-      context.actorOf(StreamSupervisor.props(materializerSettings, haveShutDown).withDispatcher(materializerSettings.dispatcher), StreamSupervisor.nextName()),
+      context.actorOf(StreamSupervisor.props(materializerSettings, haveShutDown, instrumentation).withDispatcher(materializerSettings.dispatcher), supervisorName),
       haveShutDown,
-      FlowNames(system).name.copy(namePrefix))
+      FlowNames(system).name.copy(namePrefix),
+      instrumentation)
   }
 
   /**
@@ -86,14 +90,17 @@ object ActorMaterializer {
   private[akka] def systemMaterializer(materializerSettings: ActorMaterializerSettings, namePrefix: String,
                                        system: ExtendedActorSystem): ActorMaterializer = {
     val haveShutDown = new AtomicBoolean(false)
+    val supervisorName = StreamSupervisor.nextName()
+    val instrumentation = new StreamInstrumentation(system, supervisorName)
     new ActorMaterializerImpl(
       system,
       materializerSettings,
       system.dispatchers,
-      system.systemActorOf(StreamSupervisor.props(materializerSettings, haveShutDown)
-        .withDispatcher(materializerSettings.dispatcher), StreamSupervisor.nextName()),
+      system.systemActorOf(StreamSupervisor.props(materializerSettings, haveShutDown, instrumentation)
+        .withDispatcher(materializerSettings.dispatcher), supervisorName),
       haveShutDown,
-      FlowNames(system).name.copy(namePrefix))
+      FlowNames(system).name.copy(namePrefix),
+      instrumentation)
   }
 
   /**
@@ -185,6 +192,22 @@ abstract class ActorMaterializer extends Materializer with MaterializerLoggingPr
    */
   def isShutdown: Boolean
 
+  /**
+   * Scala API: Statistics of the stages of the running streams of this materializer that have been
+   * materialized with [[ActorAttributes#instrumentation]] enabled, empty if there are none.
+   * Materializers that don't support instrumentation return an empty result.
+   */
+  def stageStatistics: immutable.Seq[StageStatistics] = Nil
+
+  /**
+   * Java API: Statistics of the stages of the running streams of this materializer that have been
+   * materialized with [[ActorAttributes#instrumentation]] enabled, empty if there are none.
+   */
+  def getStageStatistics: java.util.List[StageStatistics] = {
+    import scala.collection.JavaConverters._
+    stageStatistics.asJava
+  }
+
   /**
    * INTERNAL API
    */
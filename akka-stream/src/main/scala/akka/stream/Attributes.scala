@@ -249,6 +249,7 @@ object ActorAttributes {
   import Attributes._
   final case class Dispatcher(dispatcher: String) extends Attribute
   final case class SupervisionStrategy(decider: Supervision.Decider) extends Attribute
+  final case class Instrumentation(enabled: Boolean) extends Attribute
 
   val IODispatcher: Dispatcher = ActorAttributes.Dispatcher("akka.stream.default-blocking-io-dispatcher")
 
@@ -293,4 +294,14 @@ object ActorAttributes {
   def logLevels(onElement: Logging.LogLevel = Logging.DebugLevel, onFinish: Logging.LogLevel = Logging.DebugLevel, onFailure: Logging.LogLevel = Logging.ErrorLevel) =
     Attributes(LogLevels(onElement, onFinish, onFailure))
 
+  /**
+   * Enables or disables recording of per stage statistics: push and pull counts, the time spent in `onPush`
+   * and `onPull` and the time each stage is backpressured. The attribute applies to the whole fused graph
+   * that the attributed stages end up in, i.e. to everything up to the next async boundary.
+   *
+   * The statistics of the running instrumented streams are available from [[ActorMaterializer#stageStatistics]]
+   * and through JMX. Instrumentation is disabled by default.
+   */
+  def instrumentation(enabled: Boolean): Attributes = Attributes(Instrumentation(enabled))
+
 }
@@ -0,0 +1,83 @@
+/**
+ * Copyright (C) 2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+package akka.stream
+
+import akka.annotation.DoNotInherit
+
+/**
+ * Snapshot of the statistics that an instrumented stream has recorded for one of its stages, see
+ * [[ActorAttributes#instrumentation]] and [[ActorMaterializer#stageStatistics]].
+ *
+ * The statistics are recorded by the stage's interpreter without synchronization, so a snapshot
+ * taken while the stream is running may be slightly inconsistent.
+ *
+ * @param stream name of the actor running the fused graph that the stage is part of
+ * @param stage name of the stage, or its `toString` if it has no name
+ * @param pushCount number of `onPush` calls of the stage
+ * @param pullCount number of `onPull` calls of the stage
+ * @param pushNanos total time spent in `onPush`, in nanoseconds
+ * @param pullNanos total time spent in `onPull`, in nanoseconds
+ * @param backpressureNanos total time the stage was backpressured: from pushing an element until
+ *                          the downstream stage pulled again, in nanoseconds
+ * @param handlerLatency distribution of the time spent in single `onPush` and `onPull` calls
+ * @param backpressureLatency distribution of the single backpressure periods
+ */
+final class StageStatistics(
+  val stream:              String,
+  val stage:               String,
+  val pushCount:           Long,
+  val pullCount:           Long,
+  val pushNanos:           Long,
+  val pullNanos:           Long,
+  val backpressureNanos:   Long,
+  val handlerLatency:      StageStatistics.Histogram,
+  val backpressureLatency: StageStatistics.Histogram) {
+
+  override def toString: String =
+    s"StageStatistics($stream, $stage, pushCount=$pushCount, pullCount=$pullCount, pushNanos=$pushNanos, " +
+      s"pullNanos=$pullNanos, backpressureNanos=$backpressureNanos, handlerLatency=$handlerLatency, " +
+      s"backpressureLatency=$backpressureLatency)"
+}
+
+object StageStatistics {
+
+  /**
+   * Distribution of recorded durations in buckets of powers of two nanoseconds, percentiles are
+   * therefore only accurate to a factor of two.
+   *
+   * Not for user extension
+   */
+  @DoNotInherit
+  final class Histogram private[akka] (buckets: Array[Long]) {
+
+    /**
+     * Number of recorded durations.
+     */
+    val count: Long = buckets.sum
+
+    /**
+     * Upper bound of the duration, in nanoseconds, that the given fraction (between 0.0 and 1.0)
+     * of the recorded durations does not exceed. 0 if no duration has been recorded.
+     */
+    def percentile(fraction: Double): Long = {
+      require(fraction >= 0.0 && fraction <= 1.0, s"fraction must be between 0.0 and 1.0, was [$fraction]")
+      val threshold = math.ceil(count * fraction).toLong
+      var seen = 0L
+      var i = 0
+      while (i < buckets.length && (seen < threshold || seen == 0)) {
+        seen += buckets(i)
+        i += 1
+      }
+      if (seen == 0) 0L else upperBound(i - 1)
+    }
+
+    private def upperBound(bucket: Int): Long =
+      if (bucket == 0) 0L
+      else if (bucket >= 63) Long.MaxValue
+      else 1L << bucket
+
+    override def toString: String =
+      s"Histogram(count=$count, p50=${percentile(0.5)}ns, p99=${percentile(0.99)}ns, max=${percentile(1.0)}ns)"
+  }
+}
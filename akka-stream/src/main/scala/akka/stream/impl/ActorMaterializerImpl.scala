@@ -18,6 +18,7 @@ import akka.stream.impl.io.TLSActor
 import akka.stream.impl.io.TlsModule
 import org.reactivestreams._
 
+import scala.collection.immutable
 import scala.concurrent.duration.FiniteDuration
 import scala.concurrent.{ Await, ExecutionContextExecutor }
 import akka.stream.impl.fusing.GraphStageModule
@@ -87,18 +88,24 @@ abstract class ExtendedActorMaterializer extends ActorMaterializer {
    */
   override def supervisor: ActorRef
 
+  /**
+   * INTERNAL API
+   */
+  private[akka] def instrumentation: StreamInstrumentation = StreamInstrumentation.Disabled
+
 }
 
 /**
  * INTERNAL API
  */
 private[akka] case class ActorMaterializerImpl(
-  system:                ActorSystem,
-  override val settings: ActorMaterializerSettings,
-  dispatchers:           Dispatchers,
-  supervisor:            ActorRef,
-  haveShutDown:          AtomicBoolean,
-  flowNames:             SeqActorName) extends ExtendedActorMaterializer {
+  system:                       ActorSystem,
+  override val settings:        ActorMaterializerSettings,
+  dispatchers:                  Dispatchers,
+  supervisor:                   ActorRef,
+  haveShutDown:                 AtomicBoolean,
+  flowNames:                    SeqActorName,
+  override val instrumentation: StreamInstrumentation) extends ExtendedActorMaterializer {
   import akka.stream.impl.Stages._
   private val _logger = Logging.getLogger(system, this)
   override def logger = _logger
@@ -113,10 +120,14 @@ private[akka] case class ActorMaterializerImpl(
 
   override def isShutdown: Boolean = haveShutDown.get()
 
+  override def stageStatistics: immutable.Seq[StageStatistics] = instrumentation.stageStatistics
+
   override def withNamePrefix(name: String): ActorMaterializerImpl = this.copy(flowNames = flowNames.copy(name))
 
   private[this] def createFlowName(): String = flowNames.next()
 
+  private val traversals = new LinearTraversal.Cache
+
   private val defaultInitialAttributes = Attributes(
     Attributes.InputBuffer(settings.initialInputBufferSize, settings.maxInputBufferSize) ::
       ActorAttributes.Dispatcher(settings.dispatcher) ::
@@ -156,15 +167,21 @@ private[akka] case class ActorMaterializerImpl(
     subflowFuser:      GraphInterpreterShell ⇒ ActorRef,
     initialAttributes: Attributes
   ): Mat = {
-    val runnableGraph =
-      if (settings.autoFusing) Fusing.aggressive(_runnableGraph)
-      else _runnableGraph
-
     if (haveShutDown.get())
       throw new IllegalStateException("Attempted to call materialize() after the ActorMaterializer has been shut down.")
-    if (StreamLayout.Debug) StreamLayout.validate(runnableGraph.module)
 
-    val session = new MaterializerSession(runnableGraph.module, initialAttributes) {
+    // the fused and flattened form of a graph is computed once and reused for all its materializations
+    val traversal =
+      if (settings.autoFusing) traversals(_runnableGraph)
+      else null
+    val topLevel =
+      if (traversal ne null) traversal.module
+      else if (settings.autoFusing) Fusing.aggressive(_runnableGraph).module
+      else _runnableGraph.module
+
+    if (StreamLayout.Debug) StreamLayout.validate(topLevel)
+
+    val session = new MaterializerSession(topLevel, initialAttributes, traversal) {
       private val flowName = createFlowName()
       private var nextId = 0
       private def stageName(attr: Attributes): String = {
@@ -225,12 +242,18 @@ private[akka] case class ActorMaterializerImpl(
         }
       }
 
+      // fused graphs only keep the attributes of their stages, one instrumented stage instruments the whole graph
+      private def isInstrumented(graph: GraphModule, effectiveAttributes: Attributes): Boolean = {
+        val inherited = effectiveAttributes.get[ActorAttributes.Instrumentation](ActorAttributes.Instrumentation(false))
+        inherited.enabled || graph.assembly.originalAttributes.exists(_.get[ActorAttributes.Instrumentation](inherited).enabled)
+      }
+
       private def matGraph(graph: GraphModule, effectiveAttributes: Attributes, matVal: ju.Map[Module, Any]): Unit = {
         val calculatedSettings = effectiveSettings(effectiveAttributes)
         val (connections, logics) = graph.assembly.materialize(effectiveAttributes, graph.matValIDs, matVal, registerSrc)
 
         val shell = new GraphInterpreterShell(graph.assembly, connections, logics, graph.shape,
-          calculatedSettings, ActorMaterializerImpl.this)
+          calculatedSettings, ActorMaterializerImpl.this, isInstrumented(graph, effectiveAttributes))
 
         val impl =
           if (subflowFuser != null && !effectiveAttributes.contains(Attributes.AsyncBoundary)) {
@@ -303,8 +326,8 @@ class FlowNames extends Extension {
  * INTERNAL API
  */
 object StreamSupervisor {
-  def props(settings: ActorMaterializerSettings, haveShutDown: AtomicBoolean): Props =
-    Props(new StreamSupervisor(settings, haveShutDown)).withDeploy(Deploy.local)
+  def props(settings: ActorMaterializerSettings, haveShutDown: AtomicBoolean, instrumentation: StreamInstrumentation): Props =
+    Props(new StreamSupervisor(settings, haveShutDown, instrumentation)).withDeploy(Deploy.local)
   private[stream] val baseName = "StreamSupervisor"
   private val actorName = SeqActorName(baseName)
   def nextName(): String = actorName.next()
@@ -324,7 +347,7 @@ object StreamSupervisor {
   case object PrintDebugDump
 }
 
-class StreamSupervisor(settings: ActorMaterializerSettings, haveShutDown: AtomicBoolean) extends Actor {
+class StreamSupervisor(settings: ActorMaterializerSettings, haveShutDown: AtomicBoolean, instrumentation: StreamInstrumentation) extends Actor {
   import akka.stream.impl.StreamSupervisor._
 
   override def supervisorStrategy = SupervisorStrategy.stoppingStrategy
@@ -339,6 +362,9 @@ class StreamSupervisor(settings: ActorMaterializerSettings, haveShutDown: Atomic
       sender() ! StoppedChildren
   }
 
-  override def postStop(): Unit = haveShutDown.set(true)
+  override def postStop(): Unit = {
+    haveShutDown.set(true)
+    instrumentation.shutdown()
+  }
 }
 
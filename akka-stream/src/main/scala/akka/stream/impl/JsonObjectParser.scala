@@ -3,11 +3,11 @@
  */
 package akka.stream.impl
 
+import java.nio.ByteBuffer
+
 import akka.stream.scaladsl.Framing.FramingException
 import akka.util.ByteString
 
-import scala.annotation.switch
-
 /**
  * INTERNAL API: Use [[akka.stream.scaladsl.JsonFraming]] instead.
  */
@@ -26,10 +26,10 @@ private[akka] object JsonObjectParser {
   final val Tab = '\t'.toByte
   final val Space = ' '.toByte
 
-  final val Whitespace = Set(LineBreak, LineBreak2, Tab, Space)
+  final val InitialBufferSize = 1024
 
   def isWhitespace(input: Byte): Boolean =
-    Whitespace.contains(input)
+    input == Space || input == LineBreak || input == LineBreak2 || input == Tab
 
 }
 
@@ -38,123 +38,161 @@ private[akka] object JsonObjectParser {
  *
  * **Mutable** framing implementation that given any number of [[ByteString]] chunks, can emit JSON objects contained within them.
  * Typically JSON objects are separated by new-lines or commas, however a top-level JSON Array can also be understood and chunked up
- * into valid JSON objects by this framing implementation.
+ * into its elements by this framing implementation, which may then also be arrays or scalar values.
  *
  * Leading whitespace between elements will be trimmed.
+ *
+ * The offered chunks are copied into one reusable array that is scanned directly, scanning continues where it
+ * stopped when more data is offered.
  */
-private[akka] class JsonObjectParser(maximumObjectLength: Int = Int.MaxValue) {
+private[akka] class JsonObjectParser(maximumObjectLength: Int = Int.MaxValue, maximumDepth: Int = Int.MaxValue) {
   import JsonObjectParser._
 
-  private var buffer: ByteString = ByteString.empty
+  private var buffer: Array[Byte] = new Array[Byte](InitialBufferSize)
+  private var start = 0 // start of the current element, or of the data that has not been scanned yet between elements
+  private var pos = 0 // latest position of pointer while scanning for the end of the current element
+  private var end = 0 // end of the buffered data
 
-  private var pos = 0 // latest position of pointer while scanning for json object end
-  private var trimFront = 0 // number of chars to drop from the front of the bytestring before emitting (skip whitespace etc)
-  private var depth = 0 // counter of object-nesting depth, once hits 0 an object should be emitted
-
-  private var charsInObject = 0
-  private var completedObject = false
+  private var depth = 0 // nesting depth of objects and arrays, once it drops to 0 an element should be emitted
+  private var inTopLevelArray = false
   private var inStringExpression = false
   private var isStartOfEscapeSequence = false
-  private var lastInput = 0.toByte
+  private var inScalar = false // a number or literal in a top-level array
+  private var completedObject = false
 
   /**
-   * Appends input ByteString to internal byte string buffer.
+   * Appends input ByteString to internal buffer.
    * Use [[poll]] to extract contained JSON objects.
    */
   def offer(input: ByteString): Unit =
-    buffer ++= input
+    if (input.nonEmpty) {
+      val length = input.length
+      if (end + length > buffer.length) makeRoom(length)
+      input.copyToBuffer(ByteBuffer.wrap(buffer, end, length))
+      end += length
+    }
 
-  def isEmpty: Boolean = buffer.isEmpty
+  def isEmpty: Boolean = start == end
 
   /**
-   * Attempt to locate next complete JSON object in buffered ByteString and returns `Some(it)` if found.
+   * Attempt to locate next complete JSON object in buffered data and returns `Some(it)` if found.
    * May throw a [[akka.stream.scaladsl.Framing.FramingException]] if the contained JSON is invalid or max object size is exceeded.
    */
-  def poll(): Option[ByteString] = {
-    val foundObject = seekObject()
-    if (!foundObject) None
-    else
-      (pos: @switch) match {
-        case -1 | 0 ⇒ None
-        case _ ⇒
-          val (emit, buf) = buffer.splitAt(pos)
-          buffer = buf.compact
-          pos = 0
-
-          val tf = trimFront
-          trimFront = 0
-
-          if (tf == 0) Some(emit)
-          else {
-            val trimmed = emit.drop(tf)
-            if (trimmed.isEmpty) None
-            else Some(trimmed)
-          }
+  def poll(): Option[ByteString] =
+    if (!seekObject()) None
+    else {
+      val emit = ByteString.fromArray(buffer, start, pos - start)
+      start = pos
+      if (start == end) {
+        start = 0
+        pos = 0
+        end = 0
       }
+      Some(emit)
+    }
+
+  // drops the already emitted data from the front of the buffer, and grows it if that is not enough
+  private def makeRoom(length: Int): Unit = {
+    val buffered = end - start
+    val target =
+      if (buffered + length <= buffer.length) buffer
+      else new Array[Byte](math.max(buffer.length * 2, buffered + length))
+    System.arraycopy(buffer, start, target, 0, buffered)
+    buffer = target
+    pos -= start
+    end = buffered
+    start = 0
   }
 
-  /** @return true if an entire valid JSON object was found, false otherwise */
+  /** @return true if an entire valid JSON element was found between `start` and `pos`, false otherwise */
   private def seekObject(): Boolean = {
     completedObject = false
-    val bufSize = buffer.size
-    while (pos != -1 && (pos < bufSize && pos < maximumObjectLength) && !completedObject)
-      proceed(buffer(pos))
-
-    if (pos >= maximumObjectLength)
-      throw new FramingException(s"""JSON element exceeded maximumObjectLength ($maximumObjectLength bytes)!""")
-
+    val buf = buffer
+    while (pos < end && !completedObject) {
+      if (inStringExpression) skipString(buf)
+      else if (depth > 0) proceedInsideElement(buf(pos))
+      else if (inScalar) proceedInsideScalar(buf(pos))
+      else proceedBetweenElements(buf(pos))
+
+      if (pos - start > maximumObjectLength)
+        throw new FramingException(s"""JSON element exceeded maximumObjectLength ($maximumObjectLength bytes)!""")
+    }
     completedObject
   }
 
-  private def proceed(input: Byte): Unit = {
-    if (input == SquareBraceStart && outsideObject) {
-      // outer object is an array
-      pos += 1
-      trimFront += 1
-    } else if (input == SquareBraceEnd && outsideObject) {
-      // outer array completed!
-      pos = -1
-    } else if (input == Comma && outsideObject) {
-      // do nothing
-      pos += 1
-      trimFront += 1
-    } else if (input == Backslash) {
-      if (lastInput == Backslash) isStartOfEscapeSequence = false
-      else isStartOfEscapeSequence = true
-      pos += 1
-    } else if (input == DoubleQuote) {
-      if (!isStartOfEscapeSequence) inStringExpression = !inStringExpression
-      isStartOfEscapeSequence = false
-      pos += 1
-    } else if (input == CurlyBraceStart && !inStringExpression) {
-      isStartOfEscapeSequence = false
-      depth += 1
-      pos += 1
-    } else if (input == CurlyBraceEnd && !inStringExpression) {
-      isStartOfEscapeSequence = false
-      depth -= 1
-      pos += 1
-      if (depth == 0) {
-        charsInObject = 0
-        completedObject = true
+  // skips the contents of a string in bulk, up to and including its closing quote
+  private def skipString(buf: Array[Byte]): Unit = {
+    var i = pos
+    while (i < end && inStringExpression) {
+      if (isStartOfEscapeSequence) {
+        isStartOfEscapeSequence = false
+        i += 1
+      } else {
+        while (i < end && buf(i) != DoubleQuote && buf(i) != Backslash) i += 1
+        if (i < end) {
+          if (buf(i) == Backslash) isStartOfEscapeSequence = true
+          else inStringExpression = false
+          i += 1
+        }
       }
-    } else if (isWhitespace(input) && !inStringExpression) {
-      pos += 1
-      if (depth == 0) trimFront += 1
-    } else if (insideObject) {
-      isStartOfEscapeSequence = false
-      pos += 1
-    } else {
-      throw new FramingException(s"Invalid JSON encountered at position [$pos] of [$buffer]")
     }
+    pos = i
+    // a string can be an element of a top-level array of its own
+    if (!inStringExpression && depth == 0) completedObject = true
+  }
 
-    lastInput = input
+  private def proceedInsideElement(input: Byte): Unit = {
+    input match {
+      case CurlyBraceStart | SquareBraceStart ⇒
+        enterNested()
+      case CurlyBraceEnd | SquareBraceEnd ⇒
+        depth -= 1
+        if (depth == 0) completedObject = true
+      case DoubleQuote ⇒
+        inStringExpression = true
+      case _ ⇒
+    }
+    pos += 1
   }
 
-  @inline private final def insideObject: Boolean =
-    !outsideObject
+  // the opening brace of an emitted element counts as well, so a flat object has depth 1
+  private def enterNested(): Unit = {
+    depth += 1
+    if (depth > maximumDepth)
+      throw new FramingException(s"JSON element exceeded maximumDepth ($maximumDepth) at position [$pos]")
+  }
 
-  @inline private final def outsideObject: Boolean =
-    depth == 0
+  private def proceedInsideScalar(input: Byte): Unit =
+    if (input == Comma || input == SquareBraceEnd || isWhitespace(input)) {
+      // the separator is not part of the element
+      inScalar = false
+      completedObject = true
+    } else pos += 1
+
+  private def proceedBetweenElements(input: Byte): Unit = {
+    input match {
+      case CurlyBraceStart ⇒
+        start = pos
+        enterNested()
+      case SquareBraceStart ⇒
+        if (inTopLevelArray) {
+          start = pos
+          enterNested()
+        } else inTopLevelArray = true // outer element is an array, its elements are emitted
+      case SquareBraceEnd if inTopLevelArray ⇒
+        inTopLevelArray = false
+      case DoubleQuote ⇒ // a string is a valid JSON text on its own, also outside of a top-level array
+        start = pos
+        inStringExpression = true
+      case Comma | Space | LineBreak | LineBreak2 | Tab ⇒
+      case _ if inTopLevelArray ⇒
+        start = pos
+        inScalar = true
+      case _ ⇒
+        throw new FramingException(s"Invalid JSON encountered at position [$pos] of [${ByteString.fromArray(buffer, start, end - start).utf8String}]")
+    }
+    pos += 1
+    if (depth == 0 && !inStringExpression && !inScalar) start = pos // skip separators and whitespace
+  }
 
 }
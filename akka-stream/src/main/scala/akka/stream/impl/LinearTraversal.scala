@@ -0,0 +1,180 @@
+/**
+ * Copyright (C) 2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+package akka.stream.impl
+
+import java.{ util ⇒ ju }
+
+import akka.stream._
+import akka.stream.impl.StreamLayout._
+import akka.stream.impl.fusing.Fusing
+
+/**
+ * INTERNAL API
+ */
+private[stream] object LinearTraversal {
+
+  /**
+   * Returns the traversal of the fused form of the given runnable graph, or `null` if
+   * the fused module does not have the expected two-level structure, in which case the
+   * module tree must be walked instead.
+   */
+  def apply(graph: Graph[ClosedShape, _]): LinearTraversal =
+    flatten(Fusing.aggressive(graph).module)
+
+  /**
+   * Remembers the traversals of the graphs materialized by one materializer, so that
+   * subsequent materializations of the same graph can skip fusing and flattening.
+   * Modules compare by identity, and the entries go away together with their graph.
+   */
+  final class Cache {
+    private val traversals = new ju.WeakHashMap[Module, LinearTraversal]
+
+    def apply(graph: Graph[ClosedShape, _]): LinearTraversal = {
+      val module = graph.module
+      traversals.synchronized(traversals.get(module)) match {
+        case null ⇒
+          val traversal = LinearTraversal(graph)
+          // an atomic or already fused module is referenced by its own traversal and would never
+          // be collected, flattening them again is cheap
+          if (!module.isAtomic && !module.isFused)
+            // benign race: concurrent first materializations compute equivalent traversals
+            traversals.synchronized(traversals.put(module, if (traversal eq null) NoTraversal else traversal))
+          traversal
+        case NoTraversal ⇒ null
+        case traversal   ⇒ traversal
+      }
+    }
+  }
+
+  // marker for modules that cannot be flattened, avoids retrying on every materialization
+  private val NoTraversal = new LinearTraversal(
+    EmptyModule, Array.empty, Array.empty, Array.empty, Array.empty, 0)
+
+  private final class CachedAttributes(val base: Attributes, val effective: Array[Attributes])
+
+  /**
+   * A fused module contains only atomic modules, mostly wrapped in exactly one
+   * CopiedModule, with all wirings recorded at the top level. This is flattened
+   * into parallel arrays indexed by position in the traversal, with every
+   * connection between two ports being assigned a numeric slot.
+   */
+  private def flatten(fused: FusedModule): LinearTraversal = {
+    val size = fused.subModules.size
+    val modules = new Array[Module](size)
+    val atomics = new Array[AtomicModule](size)
+    val attributes = new Array[Attributes](size)
+    val portSlots = new Array[ju.Map[AnyRef, Integer]](size)
+
+    val outSlots = new ju.HashMap[OutPort, Integer]
+    var slots = 0
+    def outSlot(out: OutPort): Integer =
+      outSlots.get(out) match {
+        case null ⇒
+          val slot = Integer.valueOf(slots)
+          slots += 1
+          outSlots.put(out, slot)
+          slot
+        case slot ⇒ slot
+      }
+
+    var i = 0
+    val it = fused.subModules.iterator
+    while (it.hasNext) {
+      val module = it.next()
+      val (atomic, exposed, relative) = module match {
+        case CopiedModule(shape, attr, atomic: AtomicModule) ⇒ (atomic, shape, attr and atomic.attributes)
+        case atomic: AtomicModule                            ⇒ (atomic, atomic.shape, atomic.attributes)
+        case _                                               ⇒ return null
+      }
+      val ports = new ju.HashMap[AnyRef, Integer]
+      val outlets = exposed.outlets.iterator.zip(atomic.shape.outlets.iterator)
+      while (outlets.hasNext) {
+        val (outer, inner) = outlets.next()
+        ports.put(inner, outSlot(outer))
+      }
+      val inlets = exposed.inlets.iterator.zip(atomic.shape.inlets.iterator)
+      while (inlets.hasNext) {
+        val (outer, inner) = inlets.next()
+        fused.upstreams.get(outer) match {
+          case Some(upstream) ⇒ ports.put(inner, outSlot(upstream))
+          case None ⇒
+            // unconnected ports are not possible in a runnable graph, but keep the same tolerance as the tree walk
+            ports.put(inner, Integer.valueOf(slots))
+            slots += 1
+        }
+      }
+      modules(i) = module
+      atomics(i) = atomic
+      attributes(i) = relative
+      portSlots(i) = ports
+      i += 1
+    }
+
+    // the structural info lists the materialized value of every module of the original graph, including
+    // its top-level module, which must not be kept alive by a cached traversal; it is only needed for
+    // fusing the module again, never for materializing it
+    val module = fused.copy(info = fused.info.copy(matValues = Nil))
+    new LinearTraversal(module, modules, atomics, attributes, portSlots, slots)
+  }
+}
+
+/**
+ * INTERNAL API
+ *
+ * Precomputed, flattened form of a fused runnable graph: the atomic modules to
+ * be materialized in order, their attributes relative to the top level and the
+ * connection slot for each of their ports. Publishers and Subscribers are wired
+ * up by slot number while walking the arrays once, which avoids descending into
+ * the module tree and managing one scope per CopiedModule on every materialization.
+ * Asynchronous boundaries between fused islands are connected the same way.
+ *
+ * Instances are immutable (apart from a cache of effective attributes) and shared
+ * between all materializations of the same graph.
+ */
+private[stream] final class LinearTraversal(
+  val module:         Module,
+  val modules:        Array[Module],
+  val atomics:        Array[AtomicModule],
+  relativeAttributes: Array[Attributes],
+  portSlots:          Array[ju.Map[AnyRef, Integer]],
+  val slots:          Int) {
+  import LinearTraversal.CachedAttributes
+
+  def size: Int = modules.length
+
+  /**
+   * The connection slot of the given port of the atomic module at `step`, or -1
+   * if the port does not belong to that module.
+   */
+  def slot(step: Int, port: AnyRef): Int =
+    portSlots(step).get(port) match {
+      case null ⇒ -1
+      case slot ⇒ slot.intValue
+    }
+
+  @volatile private var cachedAttributes: CachedAttributes = null
+
+  /**
+   * The effective attributes of all steps when materialized below the given
+   * attributes. Materializers pass the same initial attributes most of the time,
+   * so the last result is cached.
+   */
+  def effectiveAttributes(base: Attributes): Array[Attributes] = {
+    val cached = cachedAttributes
+    if ((cached ne null) && (cached.base eq base)) cached.effective
+    else {
+      val effective = new Array[Attributes](size)
+      var i = 0
+      while (i < effective.length) {
+        effective(i) = base and relativeAttributes(i)
+        i += 1
+      }
+      cachedAttributes = new CachedAttributes(base, effective)
+      effective
+    }
+  }
+
+  override def toString: String =
+    f"LinearTraversal [${System.identityHashCode(this)}%08x] of ${modules.length} modules and $slots connections"
+}
@@ -27,8 +27,10 @@ object Stages {
     val recover = name("recover")
     val mapAsync = name("mapAsync")
     val mapAsyncUnordered = name("mapAsyncUnordered")
+    val mapAsyncPartitioned = name("mapAsyncPartitioned")
     val grouped = name("grouped")
     val groupedWithin = name("groupedWithin")
+    val groupedWeightedWithin = name("groupedWeightedWithin")
     val limit = name("limit")
     val limitWeighted = name("limitWeighted")
     val sliding = name("sliding")
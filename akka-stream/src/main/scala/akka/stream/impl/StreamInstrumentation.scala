@@ -0,0 +1,150 @@
+/**
+ * Copyright (C) 2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+package akka.stream.impl
+
+import java.lang.management.ManagementFactory
+import java.util.concurrent.ConcurrentHashMap
+import javax.management.{ InstanceAlreadyExistsException, InstanceNotFoundException, ObjectName, StandardMBean }
+
+import akka.actor.ActorSystem
+import akka.stream.StageStatistics
+import akka.stream.impl.fusing.InterpreterInstrumentation
+
+import scala.collection.JavaConverters._
+import scala.collection.immutable
+
+/**
+ * INTERNAL API
+ *
+ * JMX view of the stage statistics of the instrumented streams of one materializer.
+ */
+private[akka] trait StreamInstrumentationMBean {
+
+  /**
+   * Number of running fused graphs that record statistics.
+   */
+  def getInstrumentedStreams: Int
+
+  /**
+   * JSON array with the statistics of all stages of the running instrumented streams as follows:
+   * {{{
+   * [
+   *   {
+   *     "stream": "flow-1-0-unnamed",
+   *     "stage": "map",
+   *     "push-count": 1000,
+   *     "pull-count": 1001,
+   *     "push-nanos": 81000,
+   *     "pull-nanos": 40000,
+   *     "backpressure-nanos": 2310000,
+   *     "handler-p50-nanos": 64,
+   *     "handler-p99-nanos": 256,
+   *     "backpressure-p50-nanos": 1024,
+   *     "backpressure-p99-nanos": 16384
+   *   }
+   * ]
+   * }}}
+   */
+  def getStageStatistics: String
+}
+
+/**
+ * INTERNAL API
+ */
+private[akka] object StreamInstrumentation {
+  private final val Idle = 0
+  private final val Registered = 1
+  private final val Closed = 2
+
+  /**
+   * For materializers that do not keep track of instrumented streams, it is already shut down and ignores
+   * all interpreters that are registered with it.
+   */
+  val Disabled: StreamInstrumentation = {
+    val disabled = new StreamInstrumentation(null, "disabled")
+    disabled.shutdown()
+    disabled
+  }
+}
+
+/**
+ * INTERNAL API
+ *
+ * Keeps track of the instrumented interpreters of one materializer. The MBean is registered when the first
+ * instrumented interpreter is started, so that materializers without instrumented streams do not show up in JMX.
+ */
+private[akka] final class StreamInstrumentation(system: ActorSystem, materializerName: String) {
+  import StreamInstrumentation._
+
+  private val interpreters = new ConcurrentHashMap[InterpreterInstrumentation, String]
+  // registering and unregistering the MBean happen under the lock of this instance, so that
+  // an MBean can never be registered after shutdown
+  @volatile private var state = Idle
+
+  private lazy val mBeanName =
+    new ObjectName(s"akka:type=StreamInstrumentation,system=${ObjectName.quote(system.name)},materializer=${ObjectName.quote(materializerName)}")
+
+  def register(stream: String, instrumentation: InterpreterInstrumentation): Unit =
+    if (state != Closed) {
+      interpreters.put(instrumentation, stream)
+      if (state == Idle) synchronized {
+        if (state == Idle) {
+          registerMBean()
+          state = Registered
+        }
+      }
+    }
+
+  def unregister(instrumentation: InterpreterInstrumentation): Unit =
+    interpreters.remove(instrumentation)
+
+  def stageStatistics: immutable.Seq[StageStatistics] =
+    interpreters.asScala.toVector.sortBy(_._2).flatMap {
+      case (instrumentation, stream) ⇒ instrumentation.snapshot(stream)
+    }
+
+  def shutdown(): Unit = {
+    synchronized {
+      if (state == Registered) unregisterMBean()
+      state = Closed
+    }
+    interpreters.clear()
+  }
+
+  private def registerMBean(): Unit = {
+    val mBean = new StandardMBean(classOf[StreamInstrumentationMBean]) with StreamInstrumentationMBean {
+      def getInstrumentedStreams: Int = interpreters.size
+
+      def getStageStatistics: String =
+        stageStatistics.map { s ⇒
+          s"""{
+            |    "stream": "${escape(s.stream)}",
+            |    "stage": "${escape(s.stage)}",
+            |    "push-count": ${s.pushCount},
+            |    "pull-count": ${s.pullCount},
+            |    "push-nanos": ${s.pushNanos},
+            |    "pull-nanos": ${s.pullNanos},
+            |    "backpressure-nanos": ${s.backpressureNanos},
+            |    "handler-p50-nanos": ${s.handlerLatency.percentile(0.5)},
+            |    "handler-p99-nanos": ${s.handlerLatency.percentile(0.99)},
+            |    "backpressure-p50-nanos": ${s.backpressureLatency.percentile(0.5)},
+            |    "backpressure-p99-nanos": ${s.backpressureLatency.percentile(0.99)}
+            |  }""".stripMargin
+        }.mkString("[\n  ", ",\n  ", "\n]\n")
+    }
+    try ManagementFactory.getPlatformMBeanServer.registerMBean(mBean, mBeanName)
+    catch {
+      case _: InstanceAlreadyExistsException ⇒ // ignore - another system with the same name in this JVM (probably for testing)
+    }
+  }
+
+  private def unregisterMBean(): Unit =
+    try ManagementFactory.getPlatformMBeanServer.unregisterMBean(mBeanName)
+    catch {
+      case _: InstanceNotFoundException ⇒ // ignore - see registerMBean
+    }
+
+  private def escape(s: String): String = s.replace("\\", "\\\\").replace("\"", "\\\"")
+
+}
@@ -844,10 +844,23 @@ object MaterializerSession {
 
 /**
  * INTERNAL API
+ *
+ * When a [[LinearTraversal]] is given then `topLevel` must be its module; the atomic
+ * modules are then materialized by walking the traversal instead of the module tree.
  */
-abstract class MaterializerSession(val topLevel: StreamLayout.Module, val initialAttributes: Attributes) {
+abstract class MaterializerSession(
+  val topLevel:          StreamLayout.Module,
+  val initialAttributes: Attributes,
+  traversal:             LinearTraversal) {
   import StreamLayout._
 
+  def this(topLevel: StreamLayout.Module, initialAttributes: Attributes) = this(topLevel, initialAttributes, null)
+
+  // connection slots of the traversal, holding either Subscriber[Any] or VirtualPublisher and Publisher[Any]
+  private val slotSubscribers: Array[AnyRef] = if (traversal eq null) null else new Array(traversal.slots)
+  private val slotPublishers: Array[Publisher[Any]] = if (traversal eq null) null else new Array(traversal.slots)
+  private var currentStep = 0
+
   // the contained maps store either Subscriber[Any] or VirtualPublisher, but the type system cannot express that
   private var subscribersStack: List[ju.Map[InPort, AnyRef]] =
     new ju.HashMap[InPort, AnyRef] :: Nil
@@ -914,8 +927,10 @@ abstract class MaterializerSession(val topLevel: StreamLayout.Module, val initia
     require(
       topLevel.isRunnable,
       s"The top level module cannot be materialized because it has unconnected ports: ${(topLevel.inPorts ++ topLevel.outPorts).mkString(", ")}")
-    try materializeModule(topLevel, initialAttributes and topLevel.attributes)
-    catch {
+    try {
+      if (traversal eq null) materializeModule(topLevel, initialAttributes and topLevel.attributes)
+      else materializeTraversal(initialAttributes and topLevel.attributes)
+    } catch {
       case NonFatal(cause) ⇒
         // PANIC!!! THE END OF THE MATERIALIZATION IS NEAR!
         // Cancels all intermediate Publishers and fails all intermediate Subscribers.
@@ -927,6 +942,13 @@ abstract class MaterializerSession(val topLevel: StreamLayout.Module, val initia
         for (pubMap ← publishersStack; pub ← pubMap.asScala.valuesIterator)
           pub.subscribe(new CancellingSubscriber)
 
+        if (traversal ne null) {
+          for (sub ← slotSubscribers if sub ne null)
+            doSubscribe(errorPublisher, sub)
+          for (pub ← slotPublishers if pub ne null)
+            pub.subscribe(new CancellingSubscriber)
+        }
+
         throw cause
     }
   }
@@ -980,6 +1002,28 @@ abstract class MaterializerSession(val topLevel: StreamLayout.Module, val initia
     ret
   }
 
+  private def materializeTraversal(effectiveAttributes: Attributes): Any = {
+    val materializedValues: ju.Map[Module, Any] = new ju.HashMap
+    val attributes = traversal.effectiveAttributes(effectiveAttributes)
+
+    while (currentStep < traversal.size) {
+      val atomic = traversal.atomics(currentStep)
+      materializeAtomic(atomic, attributes(currentStep), materializedValues)
+      traversal.modules(currentStep) match {
+        case copied: CopiedModule ⇒ materializedValues.put(copied, materializedValues.remove(atomic))
+        case _                    ⇒
+      }
+      currentStep += 1
+    }
+
+    val ret = resolveMaterialized(topLevel.materializedValueComputation, materializedValues, 2)
+    while (!matValSrc.isEmpty) {
+      val node = matValSrc.keySet.iterator.next()
+      resolveMaterialized(node, materializedValues, 4)
+    }
+    ret
+  }
+
   protected def materializeComposite(composite: Module, effectiveAttributes: Attributes): Any = {
     materializeModule(composite, effectiveAttributes)
   }
@@ -1004,7 +1048,23 @@ abstract class MaterializerSession(val topLevel: StreamLayout.Module, val initia
     ret
   }
 
-  protected def assignPort(in: InPort, subscriberOrVirtual: AnyRef): Unit = {
+  protected def assignPort(in: InPort, subscriberOrVirtual: AnyRef): Unit =
+    if (traversal ne null) {
+      val slot = traversal.slot(currentStep, in)
+      slotSubscribers(slot) = subscriberOrVirtual
+      val publisher = slotPublishers(slot)
+      if (publisher ne null) doSubscribe(publisher, subscriberOrVirtual)
+    } else assignPortInScope(in, subscriberOrVirtual)
+
+  protected def assignPort(out: OutPort, publisher: Publisher[Any]): Unit =
+    if (traversal ne null) {
+      val slot = traversal.slot(currentStep, out)
+      slotPublishers(slot) = publisher
+      val subscriber = slotSubscribers(slot)
+      if (subscriber ne null) doSubscribe(publisher, subscriber)
+    } else assignPortInScope(out, publisher)
+
+  private def assignPortInScope(in: InPort, subscriberOrVirtual: AnyRef): Unit = {
     subscribers.put(in, subscriberOrVirtual)
 
     currentLayout.upstreams.get(in) match {
@@ -1016,7 +1076,7 @@ abstract class MaterializerSession(val topLevel: StreamLayout.Module, val initia
     }
   }
 
-  protected def assignPort(out: OutPort, publisher: Publisher[Any]): Unit = {
+  private def assignPortInScope(out: OutPort, publisher: Publisher[Any]): Unit = {
     publishers.put(out, publisher)
 
     currentLayout.downstreams.get(out) match {
@@ -52,6 +52,8 @@ object ActorGraphInterpreter {
   final case class OnError(shell: GraphInterpreterShell, id: Int, cause: Throwable) extends BoundaryEvent
   final case class OnComplete(shell: GraphInterpreterShell, id: Int) extends BoundaryEvent
   final case class OnNext(shell: GraphInterpreterShell, id: Int, e: Any) extends BoundaryEvent
+  // Several elements from an ActorOutputBoundary of another shell, `elements` is never modified after sending
+  final case class OnNextBatch(shell: GraphInterpreterShell, id: Int, elements: Array[AnyRef]) extends BoundaryEvent
   final case class OnSubscribe(shell: GraphInterpreterShell, id: Int, subscription: Subscription) extends BoundaryEvent
 
   final case class RequestMore(shell: GraphInterpreterShell, id: Int, demand: Long) extends BoundaryEvent
@@ -84,6 +86,8 @@ object ActorGraphInterpreter {
       ReactiveStreamsCompliance.requireNonNullElement(element)
       parent ! OnNext(shell, id, element)
     }
+    def onNextBatch(elements: Array[AnyRef]): Unit =
+      parent ! OnNextBatch(shell, id, elements)
     override def onSubscribe(subscription: Subscription): Unit = {
       ReactiveStreamsCompliance.requireNonNullSubscription(subscription)
       parent ! OnSubscribe(shell, id, subscription)
@@ -141,11 +145,26 @@ object ActorGraphInterpreter {
       }
     }
 
+    private def enqueue(elem: AnyRef): Unit = {
+      if (inputBufferElements == size) throw new IllegalStateException("Input buffer overrun")
+      inputBuffer((nextInputElementCursor + inputBufferElements) & IndexMask) = elem
+      inputBufferElements += 1
+    }
+
     def onNext(elem: Any): Unit = {
       if (!upstreamCompleted) {
-        if (inputBufferElements == size) throw new IllegalStateException("Input buffer overrun")
-        inputBuffer((nextInputElementCursor + inputBufferElements) & IndexMask) = elem.asInstanceOf[AnyRef]
-        inputBufferElements += 1
+        enqueue(elem.asInstanceOf[AnyRef])
+        if (isAvailable(out)) push(out, dequeue())
+      }
+    }
+
+    def onNextBatch(elems: Array[AnyRef]): Unit = {
+      if (!upstreamCompleted) {
+        var i = 0
+        while (i < elems.length) {
+          enqueue(elems(i))
+          i += 1
+        }
         if (isAvailable(out)) push(out, dequeue())
       }
     }
@@ -207,7 +226,9 @@ object ActorGraphInterpreter {
     override def toString: String = s"BatchingActorInputBoundary(id=$id, fill=$inputBufferElements/$size, completed=$upstreamCompleted, canceled=$downstreamCanceled)"
   }
 
-  private[stream] class ActorOutputBoundary(actor: ActorRef, shell: GraphInterpreterShell, id: Int) extends DownstreamBoundaryStageLogic[Any] {
+  private[stream] class ActorOutputBoundary(actor: ActorRef, shell: GraphInterpreterShell, id: Int, maxBatchSize: Int) extends DownstreamBoundaryStageLogic[Any] {
+    require(maxBatchSize > 0, "batch size must be greater than zero")
+
     val in: Inlet[Any] = Inlet[Any]("UpstreamBoundary" + id)
     in.id = 0
 
@@ -222,15 +243,36 @@ object ActorGraphInterpreter {
     private var upstreamFailed: Option[Throwable] = None
     private var upstreamCompleted: Boolean = false
 
+    // When the subscriber is the input boundary of another interpreter shell the elements are not sent one by one
+    // but collected and sent as a single OnNextBatch once the interpreter has run its current batch of events,
+    // see flush(). The demand of the subscriber bounds the number of collected elements.
+    private var batchingSubscriber: BoundarySubscriber = _
+    private var batch: Array[AnyRef] = _
+    private var batchElements = 0
+
     private def onNext(elem: Any): Unit = {
       downstreamDemand -= 1
-      tryOnNext(subscriber, elem)
+      if (batchingSubscriber ne null) {
+        ReactiveStreamsCompliance.requireNonNullElement(elem)
+        batch(batchElements) = elem.asInstanceOf[AnyRef]
+        batchElements += 1
+        if (batchElements == batch.length) flush()
+      } else tryOnNext(subscriber, elem)
     }
 
+    def flush(): Unit =
+      if (batchElements > 0) {
+        if (batchElements == 1) batchingSubscriber.onNext(batch(0))
+        else batchingSubscriber.onNextBatch(java.util.Arrays.copyOf(batch, batchElements))
+        java.util.Arrays.fill(batch, 0, batchElements, null)
+        batchElements = 0
+      }
+
     private def complete(): Unit = {
       // No need to complete if had already been cancelled, or we closed earlier
       if (!(upstreamCompleted || downstreamCompleted)) {
         upstreamCompleted = true
+        flush()
         if (exposedPublisher ne null) exposedPublisher.shutdown(None)
         if (subscriber ne null) tryOnComplete(subscriber)
       }
@@ -241,6 +283,7 @@ object ActorGraphInterpreter {
       if (!(downstreamCompleted || upstreamCompleted)) {
         upstreamCompleted = true
         upstreamFailed = Some(e)
+        flush()
         if (exposedPublisher ne null) exposedPublisher.shutdown(Some(e))
         if ((subscriber ne null) && !e.isInstanceOf[SpecViolation]) tryOnError(subscriber, e)
       }
@@ -264,6 +307,12 @@ object ActorGraphInterpreter {
       exposedPublisher.takePendingSubscribers() foreach { sub ⇒
         if (subscriber eq null) {
           subscriber = sub
+          sub match {
+            case b: BoundarySubscriber ⇒
+              batchingSubscriber = b
+              batch = new Array[AnyRef](maxBatchSize)
+            case _ ⇒
+          }
           tryOnSubscribe(subscriber, new BoundarySubscription(actor, shell, id))
           if (GraphInterpreter.Debug) println(s"${interpreter.Name}  subscribe subscriber=$sub")
         } else
@@ -295,6 +344,8 @@ object ActorGraphInterpreter {
     def cancel(): Unit = {
       downstreamCompleted = true
       subscriber = null
+      batchingSubscriber = null
+      batchElements = 0
       exposedPublisher.shutdown(Some(new ActorPublisher.NormalShutdownException))
       cancel(in)
     }
@@ -308,12 +359,13 @@ object ActorGraphInterpreter {
  * INTERNAL API
  */
 final class GraphInterpreterShell(
-  assembly:    GraphAssembly,
-  connections: Array[Connection],
-  logics:      Array[GraphStageLogic],
-  shape:       Shape,
-  settings:    ActorMaterializerSettings,
-  val mat:     ExtendedActorMaterializer) {
+  assembly:     GraphAssembly,
+  connections:  Array[Connection],
+  logics:       Array[GraphStageLogic],
+  shape:        Shape,
+  settings:     ActorMaterializerSettings,
+  val mat:      ExtendedActorMaterializer,
+  instrumented: Boolean                   = false) {
 
   import ActorGraphInterpreter._
 
@@ -322,6 +374,9 @@ final class GraphInterpreterShell(
 
   private var enqueueToShortCircuit: (Any) ⇒ Unit = _
 
+  private val instrumentation: InterpreterInstrumentation =
+    if (instrumented) new InterpreterInstrumentation(assembly) else null
+
   lazy val interpreter: GraphInterpreter = new GraphInterpreter(assembly, mat, log, logics, connections,
     (logic, event, handler) ⇒ {
       val asyncInput = AsyncInput(this, logic, event, handler)
@@ -329,7 +384,7 @@ final class GraphInterpreterShell(
       if (currentInterpreter == null || (currentInterpreter.context ne self))
         self ! asyncInput
       else enqueueToShortCircuit(asyncInput)
-    }, settings.fuzzingMode, self)
+    }, settings.fuzzingMode, self, instrumentation)
 
   private val inputs = new Array[BatchingActorInputBoundary](shape.inlets.size)
   private val outputs = new Array[ActorOutputBoundary](shape.outlets.size)
@@ -362,6 +417,7 @@ final class GraphInterpreterShell(
   def init(self: ActorRef, subMat: SubFusingActorMaterializerImpl, enqueueToShortCircuit: (Any) ⇒ Unit, eventLimit: Int): Int = {
     this.self = self
     this.enqueueToShortCircuit = enqueueToShortCircuit
+    if (instrumentation ne null) mat.instrumentation.register(self.path.name, instrumentation)
     var i = 0
     while (i < inputs.length) {
       val in = new BatchingActorInputBoundary(settings.maxInputBufferSize, i)
@@ -372,7 +428,7 @@ final class GraphInterpreterShell(
     val offset = assembly.connectionCount - outputs.length
     i = 0
     while (i < outputs.length) {
-      val out = new ActorOutputBoundary(self, this, i)
+      val out = new ActorOutputBoundary(self, this, i, settings.maxInputBufferSize)
       outputs(i) = out
       interpreter.attachDownstreamBoundary(connections(i + offset), out)
       i += 1
@@ -408,6 +464,10 @@ final class GraphInterpreterShell(
         if (GraphInterpreter.Debug) println(s"${interpreter.Name}  onNext $e id=$id")
         inputs(id).onNext(e)
         runBatch(eventLimit)
+      case OnNextBatch(_, id: Int, elements: Array[AnyRef]) ⇒
+        if (GraphInterpreter.Debug) println(s"${interpreter.Name}  onNextBatch ${elements.length} elements id=$id")
+        inputs(id).onNextBatch(elements)
+        runBatch(eventLimit)
       case RequestMore(_, id: Int, demand: Long) ⇒
         if (GraphInterpreter.Debug) println(s"${interpreter.Name}  request  $demand id=$id")
         outputs(id).requestMore(demand)
@@ -469,6 +529,7 @@ final class GraphInterpreterShell(
     try {
       val usingShellLimit = shellEventLimit < actorEventLimit
       val remainingQuota = interpreter.execute(Math.min(actorEventLimit, shellEventLimit))
+      flushOutputs()
       if (interpreter.isCompleted) {
         // Cannot stop right away if not completely subscribed
         if (canShutDown) interpreterCompleted = true
@@ -488,6 +549,14 @@ final class GraphInterpreterShell(
     }
   }
 
+  private def flushOutputs(): Unit = {
+    var i = 0
+    while (i < outputs.length) {
+      outputs(i).flush()
+      i += 1
+    }
+  }
+
   /**
    * Attempts to abort execution, by first propagating the reason given until either
    *  - the interpreter successfully finishes
@@ -520,6 +589,12 @@ final class GraphInterpreterShell(
     }
   }
 
+  /**
+   * Removes the statistics of this shell from the materializer, to be called once the shell has terminated.
+   */
+  def unregisterInstrumentation(): Unit =
+    if (instrumentation ne null) mat.instrumentation.unregister(instrumentation)
+
   override def toString: String = s"GraphInterpreterShell\n  ${assembly.toString.replace("\n", "\n  ")}"
 }
 
@@ -537,14 +612,17 @@ class ActorGraphInterpreter(_initial: GraphInterpreterShell) extends Actor with
     try {
       currentLimit = shell.init(self, subFusingMaterializerImpl, enqueueToShortCircuit(_), currentLimit)
       if (GraphInterpreter.Debug) println(s"registering new shell in ${_initial}\n  ${shell.toString.replace("\n", "\n  ")}")
-      if (shell.isTerminated) false
-      else {
+      if (shell.isTerminated) {
+        shell.unregisterInstrumentation()
+        false
+      } else {
         activeInterpreters += shell
         true
       }
     } catch {
       case NonFatal(e) ⇒
         log.error(e, "initialization of GraphInterpreterShell failed for {}", shell)
+        shell.unregisterInstrumentation()
         false
     }
 
@@ -606,6 +684,7 @@ class ActorGraphInterpreter(_initial: GraphInterpreterShell) extends Actor with
       }
 
       if (shell.isTerminated) {
+        shell.unregisterInstrumentation()
         activeInterpreters -= shell
         if (activeInterpreters.isEmpty && newShells.isEmpty) context.stop(self)
       }
@@ -638,8 +717,16 @@ class ActorGraphInterpreter(_initial: GraphInterpreterShell) extends Actor with
 
   override def postStop(): Unit = {
     val ex = AbruptTerminationException(self)
-    activeInterpreters.foreach(_.tryAbort(ex))
+    activeInterpreters.foreach { shell ⇒
+      shell.tryAbort(ex)
+      shell.unregisterInstrumentation()
+    }
     activeInterpreters = Set.empty[GraphInterpreterShell]
-    newShells.foreach(s ⇒ if (tryInit(s)) s.tryAbort(ex))
+    newShells.foreach { shell ⇒
+      if (tryInit(shell)) {
+        shell.tryAbort(ex)
+        shell.unregisterInstrumentation()
+      }
+    }
   }
 }
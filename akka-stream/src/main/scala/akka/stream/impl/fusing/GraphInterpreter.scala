@@ -396,7 +396,8 @@ final class GraphInterpreter(
   val connections:      Array[GraphInterpreter.Connection],
   val onAsyncInput:     (GraphStageLogic, Any, (Any) ⇒ Unit) ⇒ Unit,
   val fuzzingMode:      Boolean,
-  val context:          ActorRef) {
+  val context:          ActorRef,
+  val instrumentation:  InterpreterInstrumentation                  = null) {
   import GraphInterpreter._
 
   private[this] val ChaseLimit = if (fuzzingMode) 0 else 16
@@ -744,14 +745,29 @@ final class GraphInterpreter(
     if (Debug) println(s"$Name PUSH ${outOwnerName(connection)} -> ${inOwnerName(connection)}, ${connection.slot} (${connection.inHandler}) [${inLogicName(connection)}]")
     activeStage = connection.inOwner
     connection.portState ^= PushEndFlip
-    connection.inHandler.onPush()
+    if (instrumentation eq null) connection.inHandler.onPush()
+    else instrumentedPush(connection)
   }
 
   private def processPull(connection: Connection): Unit = {
     if (Debug) println(s"$Name PULL ${inOwnerName(connection)} -> ${outOwnerName(connection)} (${connection.outHandler}) [${outLogicName(connection)}]")
     activeStage = connection.outOwner
     connection.portState ^= PullEndFlip
-    connection.outHandler.onPull()
+    if (instrumentation eq null) connection.outHandler.onPull()
+    else instrumentedPull(connection)
+  }
+
+  // Kept out of processPush and processPull so that these stay small when instrumentation is disabled
+  private def instrumentedPush(connection: Connection): Unit = {
+    val start = System.nanoTime()
+    try connection.inHandler.onPush()
+    finally instrumentation.recordPush(connection, start, System.nanoTime())
+  }
+
+  private def instrumentedPull(connection: Connection): Unit = {
+    val start = System.nanoTime()
+    try connection.outHandler.onPull()
+    finally instrumentation.recordPull(connection, start, System.nanoTime())
   }
 
   private def dequeue(): Connection = {
@@ -0,0 +1,98 @@
+/**
+ * Copyright (C) 2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+package akka.stream.impl.fusing
+
+import akka.stream.StageStatistics
+import akka.stream.impl.fusing.GraphInterpreter.{ Boundary, Connection, GraphAssembly }
+
+import scala.collection.immutable
+
+/**
+ * INTERNAL API
+ */
+private[akka] object InterpreterInstrumentation {
+  // durations are recorded in buckets of powers of two nanoseconds, bucket 0 holds durations of 0
+  final val Buckets = 64
+
+  // negative durations (a clock going backwards) are counted as 0
+  def bucket(nanos: Long): Int =
+    if (nanos <= 0) 0 else math.min(Buckets - 1, 64 - java.lang.Long.numberOfLeadingZeros(nanos))
+}
+
+/**
+ * INTERNAL API
+ *
+ * Statistics of the stages of one [[GraphInterpreter]]. Only the interpreter updates them (from within its actor),
+ * other threads read them without synchronization when taking a snapshot. Connections to the boundaries of the
+ * interpreter are not recorded.
+ */
+private[akka] final class InterpreterInstrumentation(assembly: GraphAssembly) {
+  import InterpreterInstrumentation._
+
+  private[this] val stageCount = assembly.stages.length
+
+  private[this] val pushCount = new Array[Long](stageCount)
+  private[this] val pullCount = new Array[Long](stageCount)
+  private[this] val pushNanos = new Array[Long](stageCount)
+  private[this] val pullNanos = new Array[Long](stageCount)
+  private[this] val backpressureNanos = new Array[Long](stageCount)
+  private[this] val handlerHistograms = new Array[Long](stageCount * Buckets)
+  private[this] val backpressureHistograms = new Array[Long](stageCount * Buckets)
+
+  // per connection: when the last element was pushed into it, 0 if it has been pulled since then
+  private[this] val pushedAt = new Array[Long](assembly.connectionCount)
+
+  def recordPush(connection: Connection, startNanos: Long, endNanos: Long): Unit = {
+    val stageId = connection.inOwnerId
+    if (stageId != Boundary) {
+      val nanos = endNanos - startNanos
+      pushCount(stageId) += 1
+      pushNanos(stageId) += nanos
+      handlerHistograms(stageId * Buckets + bucket(nanos)) += 1
+    }
+    if (connection.outOwnerId != Boundary) pushedAt(connection.id) = startNanos
+  }
+
+  def recordPull(connection: Connection, startNanos: Long, endNanos: Long): Unit = {
+    val stageId = connection.outOwnerId
+    if (stageId != Boundary) {
+      val nanos = endNanos - startNanos
+      pullCount(stageId) += 1
+      pullNanos(stageId) += nanos
+      handlerHistograms(stageId * Buckets + bucket(nanos)) += 1
+
+      val pushed = pushedAt(connection.id)
+      if (pushed != 0L) {
+        val waited = startNanos - pushed
+        backpressureNanos(stageId) += waited
+        backpressureHistograms(stageId * Buckets + bucket(waited)) += 1
+        pushedAt(connection.id) = 0L
+      }
+    }
+  }
+
+  def snapshot(stream: String): immutable.Seq[StageStatistics] =
+    (0 until stageCount).map { i ⇒
+      new StageStatistics(
+        stream,
+        stageName(i),
+        pushCount(i),
+        pullCount(i),
+        pushNanos(i),
+        pullNanos(i),
+        backpressureNanos(i),
+        histogram(handlerHistograms, i),
+        histogram(backpressureHistograms, i))
+    }
+
+  // assemblies of single stages have no original attributes, the stream (actor) name carries their name then
+  private def stageName(stageId: Int): String = {
+    val stage = assembly.stages(stageId)
+    assembly.originalAttributes(stageId).nameOrDefault(stage.module.attributes.nameOrDefault(stage.toString))
+  }
+
+  private def histogram(histograms: Array[Long], stageId: Int): StageStatistics.Histogram =
+    new StageStatistics.Histogram(java.util.Arrays.copyOfRange(histograms, stageId * Buckets, (stageId + 1) * Buckets))
+
+}
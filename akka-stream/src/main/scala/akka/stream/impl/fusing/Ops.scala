@@ -1271,6 +1271,123 @@ final case class MapAsyncUnordered[In, Out](parallelism: Int, f: In ⇒ Future[O
     }
 }
 
+/**
+ * INTERNAL API
+ *
+ * Runs the futures of different partitions concurrently, but only one at a time per partition, so that the
+ * results of a partition are emitted in the order of its elements. The elements of a partition that is busy
+ * wait in a queue of that partition, they count against the parallelism like the futures in flight.
+ */
+final case class MapAsyncPartitioned[In, Out, P](parallelism: Int, partitioner: In ⇒ P, f: In ⇒ Future[Out])
+  extends GraphStage[FlowShape[In, Out]] {
+
+  private val in = Inlet[In]("MapAsyncPartitioned.in")
+  private val out = Outlet[Out]("MapAsyncPartitioned.out")
+
+  override def initialAttributes = DefaultAttributes.mapAsyncPartitioned
+
+  override val shape = FlowShape(in, out)
+
+  override def createLogic(inheritedAttributes: Attributes): GraphStageLogic =
+    new GraphStageLogic(shape) with InHandler with OutHandler {
+      override def toString = s"MapAsyncPartitioned.Logic(inFlight=$inFlight, waiting=$waiting, buffer=$buffer)"
+
+      val decider =
+        inheritedAttributes.get[SupervisionStrategy].map(_.decider).getOrElse(Supervision.stoppingDecider)
+
+      // the partitions with a future in flight, and the elements waiting for it to complete
+      private val busy = new java.util.HashMap[P, java.util.ArrayDeque[In]]
+      private var inFlight = 0
+      private var waiting = 0
+      private var buffer: BufferImpl[Out] = _
+
+      private[this] def todo = inFlight + waiting + buffer.used
+
+      override def preStart(): Unit = buffer = BufferImpl(parallelism, materializer)
+
+      private def start(partition: P, elem: In): Unit =
+        try {
+          val future = f(elem)
+          inFlight += 1
+          future.value match {
+            case None    ⇒ future.onComplete(result ⇒ futureCB.invoke((partition, result)))(akka.dispatch.ExecutionContexts.sameThreadExecutionContext)
+            case Some(v) ⇒ futureCompleted((partition, v))
+          }
+        } catch {
+          case NonFatal(ex) ⇒
+            if (decider(ex) == Supervision.Stop) failStage(ex)
+            else startNext(partition)
+        }
+
+      private def startNext(partition: P): Unit = {
+        val queue = busy.get(partition)
+        if (queue.isEmpty) busy.remove(partition)
+        else {
+          waiting -= 1
+          start(partition, queue.poll())
+        }
+      }
+
+      def futureCompleted(completed: (P, Try[Out])): Unit = {
+        val (partition, result) = completed
+        inFlight -= 1
+        result match {
+          case Success(elem) if elem != null ⇒
+            if (isAvailable(out)) push(out, elem)
+            else buffer.enqueue(elem)
+            startNext(partition)
+          case other ⇒
+            val ex = other match {
+              case Failure(t)              ⇒ t
+              case Success(s) if s == null ⇒ ReactiveStreamsCompliance.elementMustNotBeNullException
+            }
+            if (decider(ex) == Supervision.Stop) failStage(ex)
+            else startNext(partition)
+        }
+        if (!isClosed(out)) {
+          if (isClosed(in) && todo == 0) completeStage()
+          else pullIfNeeded()
+        }
+      }
+
+      private val futureCB = getAsyncCallback(futureCompleted)
+
+      private def pullIfNeeded(): Unit =
+        if (todo < parallelism && !hasBeenPulled(in)) tryPull(in)
+
+      override def onPush(): Unit = {
+        val elem = grab(in)
+        try {
+          val partition = partitioner(elem)
+          val queue = busy.get(partition)
+          if (queue eq null) {
+            busy.put(partition, new java.util.ArrayDeque[In])
+            start(partition, elem)
+          } else {
+            queue.add(elem)
+            waiting += 1
+          }
+        } catch {
+          case NonFatal(ex) ⇒ if (decider(ex) == Supervision.Stop) failStage(ex)
+        }
+        pullIfNeeded()
+      }
+
+      override def onUpstreamFinish(): Unit = {
+        if (todo == 0) completeStage()
+      }
+
+      override def onPull(): Unit = {
+        if (!buffer.isEmpty) push(out, buffer.dequeue())
+        else if (isClosed(in) && todo == 0) completeStage()
+
+        pullIfNeeded()
+      }
+
+      setHandlers(in, out, this)
+    }
+}
+
 /**
  * INTERNAL API
  */
@@ -1474,6 +1591,112 @@ final class GroupedWithin[T](val n: Int, val d: FiniteDuration) extends GraphSta
   }
 }
 
+final class GroupedWeightedWithin[T](val maxWeight: Long, val maxNumber: Int, val d: FiniteDuration, val costFn: T ⇒ Long)
+  extends GraphStage[FlowShape[T, immutable.Seq[T]]] {
+  require(maxWeight > 0, "maxWeight must be greater than 0")
+  require(maxNumber > 0, "maxNumber must be greater than 0")
+  require(d > Duration.Zero)
+
+  val in = Inlet[T]("in")
+  val out = Outlet[immutable.Seq[T]]("out")
+
+  override def initialAttributes = DefaultAttributes.groupedWeightedWithin
+
+  val shape = FlowShape(in, out)
+
+  override def createLogic(inheritedAttributes: Attributes): GraphStageLogic = new TimerGraphStageLogic(shape) with InHandler with OutHandler {
+
+    // the builder is kept for the lifetime of the stage, only its result is handed out for each group
+    private val buf: VectorBuilder[T] = new VectorBuilder
+    // True if:
+    // - buf is nonEmpty
+    //       AND
+    // - timer fired OR group is full (by weight or number of elements)
+    private var groupClosed = false
+    private var finished = false
+    private var elements = 0
+    private var totalWeight = 0L
+    // an element that did not fit into the closed group, it starts the next group
+    private var pending: T = _
+    private var pendingWeight = 0L
+    private var hasPending = false
+
+    private val GroupedWeightedWithinTimer = "GroupedWeightedWithinTimer"
+
+    override def preStart() = {
+      schedulePeriodically(GroupedWeightedWithinTimer, d)
+      pull(in)
+    }
+
+    private def nextElement(elem: T): Unit = {
+      val weight = costFn(elem)
+      if (weight < 0L) failStage(new IllegalArgumentException(s"Negative weight [$weight] for element [$elem] is not allowed"))
+      else addElement(elem, weight)
+    }
+
+    private def addElement(elem: T, weight: Long): Unit =
+      if (elements > 0 && totalWeight + weight > maxWeight) {
+        pending = elem
+        pendingWeight = weight
+        hasPending = true
+        schedulePeriodically(GroupedWeightedWithinTimer, d)
+        closeGroup()
+      } else {
+        // an element heavier than maxWeight is emitted as a group of its own
+        buf += elem
+        elements += 1
+        totalWeight += weight
+        if (elements == maxNumber || totalWeight >= maxWeight) {
+          schedulePeriodically(GroupedWeightedWithinTimer, d)
+          closeGroup()
+        } else if (finished) closeGroup()
+        else pull(in)
+      }
+
+    private def closeGroup(): Unit = {
+      groupClosed = true
+      if (isAvailable(out)) emitGroup()
+    }
+
+    private def emitGroup(): Unit = {
+      push(out, buf.result())
+      buf.clear()
+      // after completion, elements that did not fit into the emitted group are still emitted
+      if (!finished || hasPending || isAvailable(in)) startNewGroup()
+      else completeStage()
+    }
+
+    private def startNewGroup(): Unit = {
+      elements = 0
+      totalWeight = 0L
+      groupClosed = false
+      if (hasPending) {
+        val elem = pending
+        pending = null.asInstanceOf[T]
+        hasPending = false
+        addElement(elem, pendingWeight)
+      } else if (isAvailable(in)) nextElement(grab(in))
+      else if (!hasBeenPulled(in)) pull(in)
+    }
+
+    override def onPush(): Unit = {
+      if (!groupClosed) nextElement(grab(in)) // otherwise keep the element for next round
+    }
+
+    override def onPull(): Unit = if (groupClosed) emitGroup()
+
+    override def onUpstreamFinish(): Unit = {
+      finished = true
+      if (elements == 0) completeStage()
+      else closeGroup()
+    }
+
+    override protected def onTimer(timerKey: Any) = if (elements > 0) closeGroup()
+
+    setHandlers(in, out, this)
+  }
+}
+
 final class Delay[T](val d: FiniteDuration, val strategy: DelayOverflowStrategy) extends SimpleLinearGraphStage[T] {
   private[this] def timerName = "DelayedTimer"
 
@@ -48,7 +48,7 @@ private[akka] class FileSubscriber(f: Path, completionPromise: Promise[IOResult]
   def receive = {
     case ActorSubscriberMessage.OnNext(bytes: ByteString) ⇒
       try {
-        bytesWritten += chan.write(bytes.asByteBuffer)
+        bytesWritten += write(bytes)
       } catch {
         case ex: Exception ⇒
           closeAndComplete(IOResult(bytesWritten, Failure(ex)))
@@ -70,6 +70,19 @@ private[akka] class FileSubscriber(f: Path, completionPromise: Promise[IOResult]
       context.stop(self)
   }
 
+  /**
+   * Writes the fragments of the ByteString with one gathering write
+   * instead of compacting them into a single buffer first.
+   */
+  private def write(bytes: ByteString): Long = bytes match {
+    case bs: ByteString.ByteStrings ⇒
+      val buffers = bs.asByteBuffers.toArray
+      var written = 0L
+      while (written < bs.size) written += chan.write(buffers)
+      written
+    case _ ⇒ chan.write(bytes.asByteBuffer)
+  }
+
   override def postStop(): Unit = {
     closeAndComplete(IOResult(bytesWritten, Success(Done)))
     super.postStop()
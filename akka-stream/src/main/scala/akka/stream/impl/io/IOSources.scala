@@ -4,46 +4,148 @@
 package akka.stream.impl.io
 
 import java.io.InputStream
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
 import java.nio.file.Path
+import java.{ util ⇒ ju }
 
+import akka.Done
 import akka.stream._
-import akka.stream.ActorAttributes.Dispatcher
+import akka.stream.Attributes.InputBuffer
 import akka.stream.IOResult
 import akka.stream.impl.StreamLayout.Module
-import akka.stream.impl.Stages.DefaultAttributes.IODispatcher
+import akka.stream.impl.Stages.DefaultAttributes
 import akka.stream.impl.{ ErrorPublisher, SourceModule }
+import akka.stream.stage.{ GraphStageLogic, GraphStageWithMaterializedValue, OutHandler }
 import akka.util.ByteString
 import org.reactivestreams._
 import scala.concurrent.{ Future, Promise }
+import scala.util.{ Failure, Success }
+import scala.util.control.NonFatal
 
 /**
  * INTERNAL API
  * Creates simple synchronous Source backed by the given file.
+ *
+ * In `mapped` mode the file is mapped into memory one region at a time and the chunks
+ * are emitted as slices of the mapping without copying them to the heap, which saves
+ * one system call and two copies per chunk compared to reading through the channel.
+ * The mapped variant reads the file up to the size it had when the stream was started,
+ * and its elements keep referring to the file, so it must not be modified while they are in use.
  */
-private[akka] final class FileSource(f: Path, chunkSize: Int, val attributes: Attributes, shape: SourceShape[ByteString])
-  extends SourceModule[ByteString, Future[IOResult]](shape) {
+private[akka] final class FileSource(path: Path, chunkSize: Int, mapped: Boolean, maxMappedRegionSize: Int = FileSource.MaxMappedRegionSize)
+  extends GraphStageWithMaterializedValue[SourceShape[ByteString], Future[IOResult]] {
+  import FileSource.Read
   require(chunkSize > 0, "chunkSize must be greater than 0")
-  override def create(context: MaterializationContext) = {
-    // FIXME rewrite to be based on GraphStage rather than dangerous downcasts
-    val materializer = ActorMaterializerHelper.downcast(context.materializer)
-    val settings = materializer.effectiveSettings(context.effectiveAttributes)
 
+  val out = Outlet[ByteString]("FileSource.out")
+  override val shape = SourceShape(out)
+
+  override def initialAttributes: Attributes = DefaultAttributes.fileSource
+
+  override def createLogicAndMaterializedValue(inheritedAttributes: Attributes): (GraphStageLogic, Future[IOResult]) = {
     val ioResultPromise = Promise[IOResult]()
-    val props = FilePublisher.props(f, ioResultPromise, chunkSize, settings.initialInputBufferSize, settings.maxInputBufferSize)
-    val dispatcher = context.effectiveAttributes.get[Dispatcher](IODispatcher).dispatcher
 
-    val ref = materializer.actorOf(context, props.withDispatcher(dispatcher))
+    val logic = new GraphStageLogic(shape) with OutHandler {
+      private val maxReadAhead = inheritedAttributes.getAttribute(classOf[InputBuffer], InputBuffer(16, 16)).max
+      private val availableChunks = new ju.ArrayDeque[ByteString](maxReadAhead)
+
+      private var channel: FileChannel = _
+      // the read buffer in channel mode, the currently mapped region in mapped mode
+      private var buffer: ByteBuffer = _
+      private var fileSize = 0L
+      private var readBytesTotal = 0L
+      private var eofEncountered = false
+
+      setHandler(out, this)
+
+      override def preStart(): Unit =
+        try {
+          channel = FileChannel.open(path, Read)
+          if (mapped) fileSize = channel.size()
+          else buffer = ByteBuffer.allocate(chunkSize)
+        } catch {
+          case NonFatal(ex) ⇒
+            ioResultPromise.trySuccess(IOResult(0L, Failure(ex)))
+            failStage(ex)
+        }
+
+      override def onPull(): Unit =
+        try {
+          if (availableChunks.isEmpty) readAhead()
+          if (!availableChunks.isEmpty) push(out, availableChunks.poll())
+          // refill right away, which also discovers the end of the file without waiting for more demand
+          if (availableChunks.isEmpty) readAhead()
+          if (availableChunks.isEmpty && eofEncountered) completeStage()
+        } catch {
+          case NonFatal(ex) ⇒
+            ioResultPromise.trySuccess(IOResult(readBytesTotal, Failure(ex)))
+            failStage(ex)
+        }
+
+      /** BLOCKING I/O READ */
+      private def readAhead(): Unit =
+        while (availableChunks.size < maxReadAhead && !eofEncountered) {
+          val chunk = if (mapped) nextMappedChunk() else nextChunk()
+          if (chunk eq null) eofEncountered = true
+          else if (chunk.nonEmpty) {
+            readBytesTotal += chunk.size
+            availableChunks.add(chunk)
+          }
+        }
+
+      private def nextChunk(): ByteString =
+        channel.read(buffer) match {
+          case -1 ⇒ null
+          case _ ⇒
+            buffer.flip()
+            val chunk = ByteString.fromByteBuffer(buffer)
+            buffer.clear()
+            chunk
+        }
+
+      private def nextMappedChunk(): ByteString = {
+        if ((buffer eq null) || !buffer.hasRemaining) {
+          if (readBytesTotal < fileSize) {
+            // regions are a multiple of the chunk size so that only the last chunk may be shorter
+            val regionSize = math.max(1L, maxMappedRegionSize / chunkSize) * chunkSize
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, readBytesTotal, math.min(regionSize, fileSize - readBytesTotal))
+          } else buffer = null
+        }
+        if (buffer eq null) null
+        else {
+          val chunk = buffer.duplicate()
+          chunk.limit(buffer.position + math.min(chunkSize, buffer.remaining))
+          buffer.position(chunk.limit)
+          // the mapping is read-only and never reused, so the chunks can share it
+          ByteString.fromByteBufferUnsafe(chunk)
+        }
+      }
+
+      override def postStop(): Unit = {
+        buffer = null
+        try {
+          if (channel ne null) channel.close()
+        } catch {
+          case NonFatal(ex) ⇒
+            ioResultPromise.trySuccess(IOResult(readBytesTotal, Failure(ex)))
+        }
+        ioResultPromise.trySuccess(IOResult(readBytesTotal, Success(Done)))
+      }
+    }
 
-    (akka.stream.actor.ActorPublisher[ByteString](ref), ioResultPromise.future)
+    (logic, ioResultPromise.future)
   }
 
-  override protected def newInstance(shape: SourceShape[ByteString]): SourceModule[ByteString, Future[IOResult]] =
-    new FileSource(f, chunkSize, attributes, shape)
+  override def toString: String = s"FileSource($path, $chunkSize${if (mapped) ", mapped" else ""})"
+}
 
-  override def withAttributes(attr: Attributes): Module =
-    new FileSource(f, chunkSize, attr, amendShape(attr))
+/** INTERNAL API */
+private[akka] object FileSource {
+  val Read = java.util.Collections.singleton(java.nio.file.StandardOpenOption.READ)
 
-  override protected def label: String = s"FileSource($f, $chunkSize)"
+  /** Upper bound of the size of the file regions mapped at once. */
+  val MaxMappedRegionSize = 64 * 1024 * 1024
 }
 
 /**
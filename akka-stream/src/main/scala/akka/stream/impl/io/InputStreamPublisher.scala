@@ -31,8 +31,6 @@ private[akka] class InputStreamPublisher(is: InputStream, completionPromise: Pro
   extends akka.stream.actor.ActorPublisher[ByteString]
   with ActorLogging {
 
-  // TODO possibly de-duplicate with FilePublisher?
-
   import InputStreamPublisher._
 
   val arr = Array.ofDim[Byte](chunkSize)
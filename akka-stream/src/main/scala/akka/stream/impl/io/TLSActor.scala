@@ -451,35 +451,3 @@ private[stream] class TLSActor(
     context.stop(self)
   }
 }
-
-/**
- * INTERNAL API
- */
-private[stream] object TlsUtils {
-  def applySessionParameters(engine: SSLEngine, sessionParameters: NegotiateNewSession): Unit = {
-    sessionParameters.enabledCipherSuites foreach (cs ⇒ engine.setEnabledCipherSuites(cs.toArray))
-    sessionParameters.enabledProtocols foreach (p ⇒ engine.setEnabledProtocols(p.toArray))
-    sessionParameters.clientAuth match {
-      case Some(TLSClientAuth.None) ⇒ engine.setNeedClientAuth(false)
-      case Some(TLSClientAuth.Want) ⇒ engine.setWantClientAuth(true)
-      case Some(TLSClientAuth.Need) ⇒ engine.setNeedClientAuth(true)
-      case _                        ⇒ // do nothing
-    }
-
-    sessionParameters.sslParameters.foreach(engine.setSSLParameters)
-  }
-
-  def cloneParameters(old: SSLParameters): SSLParameters = {
-    val newParameters = new SSLParameters()
-    newParameters.setAlgorithmConstraints(old.getAlgorithmConstraints)
-    newParameters.setCipherSuites(old.getCipherSuites)
-    newParameters.setEndpointIdentificationAlgorithm(old.getEndpointIdentificationAlgorithm)
-    newParameters.setNeedClientAuth(old.getNeedClientAuth)
-    newParameters.setProtocols(old.getProtocols)
-    newParameters.setServerNames(old.getServerNames)
-    newParameters.setSNIMatchers(old.getSNIMatchers)
-    newParameters.setUseCipherSuitesOrder(old.getUseCipherSuitesOrder)
-    newParameters.setWantClientAuth(old.getWantClientAuth)
-    newParameters
-  }
-}
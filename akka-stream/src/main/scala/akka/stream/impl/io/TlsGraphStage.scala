@@ -0,0 +1,531 @@
+/**
+ * Copyright (C) 2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+package akka.stream.impl.io
+
+import java.nio.ByteBuffer
+import java.{ util ⇒ ju }
+import javax.net.ssl.SSLEngineResult.HandshakeStatus
+import javax.net.ssl.SSLEngineResult.HandshakeStatus._
+import javax.net.ssl.SSLEngineResult.Status._
+import javax.net.ssl._
+
+import akka.actor.ActorSystem
+import akka.stream._
+import akka.stream.impl.{ Pump, TransferPhase, TransferState }
+import akka.stream.stage._
+import akka.util.ByteString
+
+import scala.annotation.tailrec
+import akka.stream.TLSProtocol._
+
+import scala.util.control.NonFatal
+import scala.util.{ Failure, Success, Try }
+
+/**
+ * INTERNAL API.
+ *
+ * TLS engine as a GraphStage, which can be fused with the stages on either
+ * side of it, in particular with the TCP connection stage. The inputs are
+ * buffered up to the configured input buffer size.
+ */
+private[stream] final class TlsGraphStage(
+  createSSLEngine: ActorSystem ⇒ SSLEngine, // ActorSystem is only needed to support the AkkaSSLConfig legacy, see #21753
+  verifySession:   (ActorSystem, SSLSession) ⇒ Try[Unit], // ActorSystem is only needed to support the AkkaSSLConfig legacy, see #21753
+  closing:         TLSClosing,
+  tracing:         Boolean                               = false)
+  extends GraphStage[BidiShape[SslTlsOutbound, ByteString, ByteString, SslTlsInbound]] {
+
+  val plainIn = Inlet[SslTlsOutbound]("StreamTls.transportIn")
+  val cipherOut = Outlet[ByteString]("StreamTls.cipherOut")
+  val cipherIn = Inlet[ByteString]("StreamTls.cipherIn")
+  val plainOut = Outlet[SslTlsInbound]("StreamTls.transportOut")
+  override val shape = BidiShape(plainIn, cipherOut, cipherIn, plainOut)
+
+  override def initialAttributes: Attributes = Attributes.name("StreamTls")
+
+  override def createLogic(inheritedAttributes: Attributes): GraphStageLogic =
+    new GraphStageLogic(shape) with Pump with StageLogging {
+
+      private final class Input[T <: AnyRef](in: Inlet[T], maxBuffer: Int) extends InHandler {
+        private val buffer = new ju.ArrayDeque[T](maxBuffer)
+        private var completed = false
+        private var cancelled = false
+
+        def isPending: Boolean = !buffer.isEmpty
+        def isDepleted: Boolean = completed && buffer.isEmpty
+        def isCancelled: Boolean = cancelled
+
+        def dequeue(): AnyRef = {
+          require(isPending, s"No pending input at $in")
+          val elem = buffer.poll()
+          if (!isClosed(in) && !hasBeenPulled(in)) pull(in)
+          elem
+        }
+
+        def cancelInput(): Unit =
+          if (!cancelled) {
+            cancelled = true
+            buffer.clear()
+            cancel(in)
+          }
+
+        val inputsAvailable = new TransferState {
+          def isReady = isPending
+          def isCompleted = isDepleted || cancelled
+        }
+
+        override def onPush(): Unit = {
+          buffer.add(grab(in))
+          // keep requesting up to the buffer size, otherwise a user side that
+          // loops back into this stage (e.g. an echo) could starve the unwrapping of handshake data
+          if (buffer.size < maxBuffer) pull(in)
+          pump()
+        }
+
+        override def onUpstreamFinish(): Unit = {
+          completed = true
+          pump()
+        }
+
+        override def onUpstreamFailure(ex: Throwable): Unit = fail(ex)
+      }
+
+      private final class Output[T](out: Outlet[T]) extends OutHandler {
+        private var cancelled = false
+        private var errored = false
+
+        def isCancelled: Boolean = cancelled
+        def isErrored: Boolean = errored
+
+        def enqueue(elem: T): Unit =
+          if (!isClosed(out)) {
+            if (isAvailable(out)) push(out, elem)
+            else emit(out, elem) // only when delivering SessionTruncated
+          }
+
+        def error(e: Throwable): Unit =
+          if (!isClosed(out)) {
+            errored = true
+            fail(out, e)
+          }
+
+        val demandAvailable = new TransferState {
+          def isReady = isAvailable(out)
+          def isCompleted = isClosed(out)
+        }
+
+        override def onPull(): Unit = pump()
+
+        override def onDownstreamFinish(): Unit = {
+          cancelled = true
+          pump()
+        }
+      }
+
+      private val maxBuffer = inheritedAttributes.getAttribute(classOf[Attributes.InputBuffer], Attributes.InputBuffer(16, 16)).max
+      private val userIn = new Input(plainIn, maxBuffer)
+      private val transportIn = new Input(cipherIn, maxBuffer)
+      private val userOut = new Output(plainOut)
+      private val transportOut = new Output(cipherOut)
+      setHandler(plainIn, userIn)
+      setHandler(cipherIn, transportIn)
+      setHandler(plainOut, userOut)
+      setHandler(cipherOut, transportOut)
+
+      /**
+       * The SSLEngine needs bite-sized chunks of data but we get arbitrary ByteString
+       * from both the UserIn and the TransportIn ports. This is used to chop up such
+       * a ByteString by filling the respective ByteBuffer and taking care to dequeue
+       * a new element when data are demanded and none are left lying on the chopping
+       * block.
+       */
+      private final class ChoppingBlock(input: Input[_], name: String) extends TransferState {
+        override def isReady: Boolean = buffer.nonEmpty || input.isPending || input.isDepleted
+        override def isCompleted: Boolean = input.isCancelled
+
+        private var buffer = ByteString.empty
+
+        /**
+         * Whether there are no bytes lying on this chopping block.
+         */
+        def isEmpty: Boolean = buffer.isEmpty
+
+        /**
+         * Pour as many bytes as are available either on the chopping block or in
+         * the input’s next ByteString into the supplied ByteBuffer, which is
+         * expected to be in “read left-overs” mode, i.e. everything between its
+         * position and limit is retained.
+         */
+        def chopInto(b: ByteBuffer): Unit = {
+          b.compact()
+          if (buffer.isEmpty) {
+            buffer = input.dequeue() match {
+              // this class handles both UserIn and TransportIn
+              case bs: ByteString ⇒ bs
+              case SendBytes(bs)  ⇒ bs
+              case n: NegotiateNewSession ⇒
+                setNewSessionParameters(n)
+                ByteString.empty
+            }
+            if (tracing) log.debug(s"chopping from new chunk of ${buffer.size} into $name (${b.position})")
+          } else {
+            if (tracing) log.debug(s"chopping from old chunk of ${buffer.size} into $name (${b.position})")
+          }
+          val copied = buffer.copyToBuffer(b)
+          buffer = buffer.drop(copied)
+          b.flip()
+        }
+
+        /**
+         * When potentially complete packet data are left after unwrap() we must
+         * put them back onto the chopping block because otherwise the pump will
+         * not know that we are runnable.
+         */
+        def putBack(b: ByteBuffer): Unit =
+          if (b.hasRemaining) {
+            if (tracing) log.debug(s"putting back ${b.remaining} bytes into $name")
+            val bs = ByteString(b)
+            if (bs.nonEmpty) buffer = bs ++ buffer
+            prepare(b)
+          }
+
+        /**
+         * Prepare a fresh ByteBuffer for receiving a chop of data.
+         */
+        def prepare(b: ByteBuffer): Unit = {
+          b.clear()
+          b.limit(0)
+        }
+      }
+
+      // These are Netty's default values
+      // 16665 + 1024 (room for compressed data) + 1024 (for OpenJDK compatibility)
+      // The buffers live as long as the stream and are reused for every wrap and unwrap. They are heap
+      // buffers, the data are copied from and to ByteStrings anyway and direct buffers are only freed by GC.
+      private val transportOutBuffer = ByteBuffer.allocate(16665 + 2048)
+      /*
+       * deviating here: chopping multiple input packets into this buffer can lead to
+       * an OVERFLOW signal that also is an UNDERFLOW; avoid unnecessary copying by
+       * increasing this buffer size to host up to two packets
+       */
+      private val userOutBuffer = ByteBuffer.allocate(16665 * 2 + 2048)
+      private val transportInBuffer = ByteBuffer.allocate(16665 + 2048)
+      private val userInBuffer = ByteBuffer.allocate(16665 + 2048)
+
+      private val userInChoppingBlock = new ChoppingBlock(userIn, "UserIn")
+      userInChoppingBlock.prepare(userInBuffer)
+      private val transportInChoppingBlock = new ChoppingBlock(transportIn, "TransportIn")
+      transportInChoppingBlock.prepare(transportInBuffer)
+
+      private var lastHandshakeStatus: HandshakeStatus = null
+      private var corkUser = true
+
+      private var engine: SSLEngine = _
+      private var currentSession: SSLSession = _
+
+      private def system: ActorSystem = ActorMaterializerHelper.downcast(materializer).system
+
+      private def setNewSessionParameters(params: NegotiateNewSession): Unit = {
+        if (tracing) log.debug(s"applying $params")
+        currentSession.invalidate()
+        TlsUtils.applySessionParameters(engine, params)
+        engine.beginHandshake()
+        lastHandshakeStatus = engine.getHandshakeStatus
+        corkUser = true
+      }
+
+      /*
+       * So here’s the big picture summary: the SSLEngine is the boss, and it can
+       * be in several states. Depending on this state, we may want to react to
+       * different input and output conditions.
+       *
+       *  - normal bidirectional operation (does both outbound and inbound)
+       *  - outbound close initiated, inbound still open
+       *  - inbound close initiated, outbound still open
+       *  - fully closed
+       *
+       * Upon reaching the last state we obviously just shut down. In addition to
+       * these user-data states, the engine may at any point in time also be
+       * handshaking. This is mostly transparent, but it has an influence on the
+       * outbound direction:
+       *
+       *  - if the local user triggered a re-negotiation, cork all user data until
+       *    that is finished
+       *  - if the outbound direction has been closed, trigger outbound readiness
+       *    based upon HandshakeStatus.NEED_WRAP
+       *
+       * These conditions lead to the introduction of a synthetic TransferState
+       * representing the Engine.
+       */
+
+      private val engineNeedsWrap = new TransferState {
+        def isReady = lastHandshakeStatus == NEED_WRAP
+        def isCompleted = engine.isOutboundDone
+      }
+
+      private val engineInboundOpen = new TransferState {
+        def isReady = true
+        def isCompleted = engine.isInboundDone
+      }
+
+      private val userHasData = new TransferState {
+        def isReady = !corkUser && userInChoppingBlock.isReady && lastHandshakeStatus != NEED_UNWRAP
+        def isCompleted = userIn.isCancelled || userIn.isDepleted
+      }
+
+      private val userOutCancelled = new TransferState {
+        def isReady = userOut.isCancelled
+        def isCompleted = engine.isInboundDone || userOut.isErrored
+      }
+
+      // bidirectional case
+      private val outbound = (userHasData || engineNeedsWrap) && transportOut.demandAvailable
+      private val inbound = (transportInChoppingBlock && userOut.demandAvailable) || userOutCancelled
+
+      // half-closed
+      private val outboundHalfClosed = engineNeedsWrap && transportOut.demandAvailable
+      private val inboundHalfClosed = transportInChoppingBlock && engineInboundOpen
+
+      private val bidirectional = TransferPhase(outbound || inbound) { () ⇒
+        if (tracing) log.debug("bidirectional")
+        val continue = doInbound(isOutboundClosed = false, inbound)
+        if (continue) {
+          if (tracing) log.debug("bidirectional continue")
+          doOutbound(isInboundClosed = false)
+        }
+      }
+
+      private val flushingOutbound = TransferPhase(outboundHalfClosed) { () ⇒
+        if (tracing) log.debug("flushingOutbound")
+        try doWrap()
+        catch { case ex: SSLException ⇒ nextPhase(completedPhase) }
+      }
+
+      private val awaitingClose = TransferPhase(transportIn.inputsAvailable && engineInboundOpen) { () ⇒
+        if (tracing) log.debug("awaitingClose")
+        transportInChoppingBlock.chopInto(transportInBuffer)
+        try doUnwrap(ignoreOutput = true)
+        catch { case ex: SSLException ⇒ nextPhase(completedPhase) }
+      }
+
+      private val outboundClosed = TransferPhase(outboundHalfClosed || inbound) { () ⇒
+        if (tracing) log.debug("outboundClosed")
+        val continue = doInbound(isOutboundClosed = true, inbound)
+        if (continue && outboundHalfClosed.isReady) {
+          if (tracing) log.debug("outboundClosed continue")
+          try doWrap()
+          catch { case ex: SSLException ⇒ nextPhase(completedPhase) }
+        }
+      }
+
+      private val inboundClosed = TransferPhase(outbound || inboundHalfClosed) { () ⇒
+        if (tracing) log.debug("inboundClosed")
+        val continue = doInbound(isOutboundClosed = false, inboundHalfClosed)
+        if (continue) {
+          if (tracing) log.debug("inboundClosed continue")
+          doOutbound(isInboundClosed = true)
+        }
+      }
+
+      private def completeOrFlush(): Unit =
+        if (engine.isOutboundDone) nextPhase(completedPhase)
+        else nextPhase(flushingOutbound)
+
+      private def doInbound(isOutboundClosed: Boolean, inboundState: TransferState): Boolean =
+        if (transportIn.isDepleted && transportInChoppingBlock.isEmpty) {
+          if (tracing) log.debug("closing inbound")
+          try engine.closeInbound()
+          catch { case ex: SSLException ⇒ userOut.enqueue(SessionTruncated) }
+          lastHandshakeStatus = engine.getHandshakeStatus
+          completeOrFlush()
+          false
+        } else if (inboundState != inboundHalfClosed && userOut.isCancelled) {
+          if (!isOutboundClosed && closing.ignoreCancel) {
+            if (tracing) log.debug("ignoring UserIn cancellation")
+            nextPhase(inboundClosed)
+          } else {
+            if (tracing) log.debug("closing inbound due to UserOut cancellation")
+            engine.closeOutbound() // this is the correct way of shutting down the engine
+            lastHandshakeStatus = engine.getHandshakeStatus
+            nextPhase(flushingOutbound)
+          }
+          true
+        } else if (inboundState.isReady) {
+          transportInChoppingBlock.chopInto(transportInBuffer)
+          try {
+            doUnwrap()
+            true
+          } catch {
+            case ex: SSLException ⇒
+              if (tracing) log.debug(s"SSLException during doUnwrap: $ex")
+              fail(ex, closeTransport = false)
+              engine.closeInbound() // we don't need to add lastHandshakeStatus check here because
+              completeOrFlush() // it doesn't make any sense to write anything to the network anymore
+              false
+          }
+        } else true
+
+      private def doOutbound(isInboundClosed: Boolean): Unit =
+        if (userIn.isDepleted && userInChoppingBlock.isEmpty) {
+          if (!isInboundClosed && closing.ignoreComplete) {
+            if (tracing) log.debug("ignoring closeOutbound")
+          } else {
+            if (tracing) log.debug("closing outbound directly")
+            engine.closeOutbound()
+            lastHandshakeStatus = engine.getHandshakeStatus
+          }
+          nextPhase(outboundClosed)
+        } else if (transportOut.isCancelled) {
+          if (tracing) log.debug("shutting down because TransportOut is cancelled")
+          nextPhase(completedPhase)
+        } else if (outbound.isReady) {
+          if (userHasData.isReady) userInChoppingBlock.chopInto(userInBuffer)
+          try doWrap()
+          catch {
+            case ex: SSLException ⇒
+              if (tracing) log.debug(s"SSLException during doWrap: $ex")
+              fail(ex, closeTransport = false)
+              completeOrFlush()
+          }
+        }
+
+      private def flushToTransport(): Unit = {
+        if (tracing) log.debug("flushToTransport")
+        transportOutBuffer.flip()
+        if (transportOutBuffer.hasRemaining) {
+          val bs = ByteString(transportOutBuffer)
+          transportOut.enqueue(bs)
+          if (tracing) log.debug(s"sending ${bs.size} bytes")
+        }
+        transportOutBuffer.clear()
+      }
+
+      private def flushToUser(): Unit = {
+        if (tracing) log.debug("flushToUser")
+        userOutBuffer.flip()
+        if (userOutBuffer.hasRemaining) {
+          val bs = ByteString(userOutBuffer)
+          userOut.enqueue(SessionBytes(currentSession, bs))
+        }
+        userOutBuffer.clear()
+      }
+
+      private def doWrap(): Unit = {
+        val result = engine.wrap(userInBuffer, transportOutBuffer)
+        lastHandshakeStatus = result.getHandshakeStatus
+        if (tracing) log.debug(s"wrap: status=${result.getStatus} handshake=$lastHandshakeStatus remaining=${userInBuffer.remaining} out=${transportOutBuffer.position}")
+        if (lastHandshakeStatus == FINISHED) handshakeFinished()
+        runDelegatedTasks()
+        result.getStatus match {
+          case OK ⇒
+            flushToTransport()
+            userInChoppingBlock.putBack(userInBuffer)
+          case CLOSED ⇒
+            flushToTransport()
+            if (engine.isInboundDone) nextPhase(completedPhase)
+            else nextPhase(awaitingClose)
+          case s ⇒ fail(new IllegalStateException(s"unexpected status $s in doWrap()"))
+        }
+      }
+
+      @tailrec
+      private def doUnwrap(ignoreOutput: Boolean = false): Unit = {
+        val result = engine.unwrap(transportInBuffer, userOutBuffer)
+        if (ignoreOutput) userOutBuffer.clear()
+        lastHandshakeStatus = result.getHandshakeStatus
+        if (tracing) log.debug(s"unwrap: status=${result.getStatus} handshake=$lastHandshakeStatus remaining=${transportInBuffer.remaining} out=${userOutBuffer.position}")
+        runDelegatedTasks()
+        result.getStatus match {
+          case OK ⇒
+            result.getHandshakeStatus match {
+              case NEED_WRAP ⇒ flushToUser()
+              case FINISHED ⇒
+                flushToUser()
+                handshakeFinished()
+                transportInChoppingBlock.putBack(transportInBuffer)
+              case _ ⇒
+                if (transportInBuffer.hasRemaining) doUnwrap()
+                else flushToUser()
+            }
+          case CLOSED ⇒
+            flushToUser()
+            if (engine.isOutboundDone) nextPhase(completedPhase)
+            else nextPhase(flushingOutbound)
+          case BUFFER_UNDERFLOW ⇒
+            flushToUser()
+          case BUFFER_OVERFLOW ⇒
+            flushToUser()
+            transportInChoppingBlock.putBack(transportInBuffer)
+          case s ⇒ fail(new IllegalStateException(s"unexpected status $s in doUnwrap()"))
+        }
+      }
+
+      @tailrec
+      private def runDelegatedTasks(): Unit = {
+        val task = engine.getDelegatedTask
+        if (task != null) {
+          if (tracing) log.debug("running task")
+          task.run()
+          runDelegatedTasks()
+        } else {
+          val st = lastHandshakeStatus
+          lastHandshakeStatus = engine.getHandshakeStatus
+          if (tracing && st != lastHandshakeStatus) log.debug(s"handshake status after tasks: $lastHandshakeStatus")
+        }
+      }
+
+      private def handshakeFinished(): Unit = {
+        if (tracing) log.debug("handshake finished")
+        val session = engine.getSession
+
+        verifySession(system, session) match {
+          case Success(()) ⇒
+            currentSession = session
+            corkUser = false
+          case Failure(ex) ⇒
+            fail(ex, closeTransport = true)
+        }
+      }
+
+      override def preStart(): Unit =
+        try {
+          // The engine is created when the stream starts so that a failure to create it
+          // fails the stream instead of the materialization.
+          engine = createSSLEngine(system)
+          engine.beginHandshake()
+          lastHandshakeStatus = engine.getHandshakeStatus
+          currentSession = engine.getSession
+
+          pull(plainIn)
+          pull(cipherIn)
+          initialPhase(1, bidirectional)
+          gotUpstreamSubscription()
+        } catch {
+          case NonFatal(ex) ⇒ failStage(ex)
+        }
+
+      private def fail(e: Throwable, closeTransport: Boolean = true): Unit = {
+        if (tracing) log.debug("fail due to: {}", e.getMessage)
+        userIn.cancelInput()
+        transportIn.cancelInput()
+        if (closeTransport) {
+          if (tracing) log.debug("closing output")
+          transportOut.error(e)
+        }
+        userOut.error(e)
+        pump()
+      }
+
+      override protected def pumpFailed(e: Throwable): Unit = fail(e)
+
+      override protected def pumpFinished(): Unit = {
+        userIn.cancelInput()
+        transportIn.cancelInput()
+        completeStage()
+        if (tracing) log.debug(s"STOP Outbound Closed: ${engine.isOutboundDone} Inbound closed: ${engine.isInboundDone}")
+      }
+    }
+
+  override def toString: String = s"TlsGraphStage($closing)"
+}
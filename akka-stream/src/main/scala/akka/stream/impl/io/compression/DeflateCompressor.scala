@@ -9,25 +9,41 @@ import akka.util.{ ByteString, ByteStringBuilder }
 
 import scala.annotation.tailrec
 
-/** INTERNAL API */
-private[akka] class DeflateCompressor extends Compressor {
+/**
+ * INTERNAL API
+ *
+ * @param dictionary preset dictionary, only supported by the zlib format (`nowrap = false`)
+ * @param pooled whether the `Deflater` is taken from and returned to the [[DeflaterPool]]
+ */
+private[akka] class DeflateCompressor(level: Int, nowrap: Boolean, dictionary: Option[ByteString], pooled: Boolean)
+  extends Compressor {
   import DeflateCompressor._
 
-  protected lazy val deflater = new Deflater(Deflater.BEST_COMPRESSION, false)
+  def this() = this(Deflater.BEST_COMPRESSION, false, None, false)
+
+  protected final val deflater: Deflater = {
+    val deflater = if (pooled) DeflaterPool.acquire(level, nowrap) else new Deflater(level, nowrap)
+    dictionary.foreach(dict ⇒ deflater.setDictionary(dict.toArray))
+    deflater
+  }
+  private var closed = false
+
+  // compressed data is copied out of the buffer, so one buffer is reused for all chunks
+  private var buffer: Array[Byte] = null
 
   override final def compressAndFlush(input: ByteString): ByteString = {
-    val buffer = newTempBuffer(input.size)
+    val buffer = tempBuffer(input.size)
 
     compressWithBuffer(input, buffer) ++ flushWithBuffer(buffer)
   }
   override final def compressAndFinish(input: ByteString): ByteString = {
-    val buffer = newTempBuffer(input.size)
+    val buffer = tempBuffer(input.size)
 
     compressWithBuffer(input, buffer) ++ finishWithBuffer(buffer)
   }
-  override final def compress(input: ByteString): ByteString = compressWithBuffer(input, newTempBuffer())
-  override final def flush(): ByteString = flushWithBuffer(newTempBuffer())
-  override final def finish(): ByteString = finishWithBuffer(newTempBuffer())
+  override final def compress(input: ByteString): ByteString = compressWithBuffer(input, tempBuffer(input.size))
+  override final def flush(): ByteString = flushWithBuffer(tempBuffer(MinBufferSize))
+  override final def finish(): ByteString = finishWithBuffer(tempBuffer(MinBufferSize))
 
   protected def compressWithBuffer(input: ByteString, buffer: Array[Byte]): ByteString = {
     require(deflater.needsInput())
@@ -35,35 +51,47 @@ private[akka] class DeflateCompressor extends Compressor {
     drainDeflater(deflater, buffer)
   }
   protected def flushWithBuffer(buffer: Array[Byte]): ByteString = {
-    val written = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH)
-    ByteString.fromArray(buffer, 0, written)
+    @tailrec def flushAll(result: ByteString): ByteString = {
+      val written = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH)
+      val res = result ++ ByteString.fromArray(buffer, 0, written)
+      // a completely filled buffer means that there may be more flushed data
+      if (written == buffer.length) flushAll(res) else res
+    }
+    flushAll(ByteString.empty)
   }
   protected def finishWithBuffer(buffer: Array[Byte]): ByteString = {
     deflater.finish()
     val res = drainDeflater(deflater, buffer)
-    deflater.end()
+    close()
     res
   }
 
-  def close(): Unit = deflater.end()
+  def close(): Unit =
+    if (!closed) {
+      closed = true
+      if (pooled) DeflaterPool.release(deflater, level, nowrap)
+      else deflater.end()
+    }
 
-  private def newTempBuffer(size: Int = 65536): Array[Byte] = {
-    // The default size is somewhat arbitrary, we'd like to guess a better value but Deflater/zlib
+  private def tempBuffer(size: Int): Array[Byte] = {
+    // The size is somewhat arbitrary, we'd like to guess a better value but Deflater/zlib
     // is buffering in an unpredictable manner.
     // `compress` will only return any data if the buffered compressed data has some size in
     // the region of 10000-50000 bytes.
     // `flush` and `finish` will return any size depending on the previous input.
-    // This value will hopefully provide a good compromise between memory churn and
+    // Growing the buffer up to the size of the input chunks, within a reasonable range, will
+    // hopefully provide a good compromise between the memory held by the compressor and
     // excessive fragmentation of ByteStrings.
-    // We also make sure that buffer size stays within a reasonable range, to avoid
-    // draining deflator with too small buffer.
-    new Array[Byte](math.max(size, MinBufferSize))
+    val wanted = math.min(math.max(size, MinBufferSize), MaxBufferSize)
+    if ((buffer eq null) || buffer.length < wanted) buffer = new Array[Byte](wanted)
+    buffer
   }
 }
 
 /** INTERNAL API */
 private[akka] object DeflateCompressor {
   val MinBufferSize = 1024
+  val MaxBufferSize = 65536
 
   @tailrec
   def drainDeflater(deflater: Deflater, buffer: Array[Byte], result: ByteStringBuilder = new ByteStringBuilder()): ByteString = {
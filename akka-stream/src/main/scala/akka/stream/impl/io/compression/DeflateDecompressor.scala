@@ -3,17 +3,16 @@
  */
 package akka.stream.impl.io.compression
 
-import java.util.zip.Inflater
-
 import akka.stream.Attributes
+import akka.util.ByteString
 
 /** INTERNAL API */
-private[akka] class DeflateDecompressor(maxBytesPerChunk: Int)
-  extends DeflateDecompressorBase(maxBytesPerChunk) {
+private[akka] class DeflateDecompressor(maxBytesPerChunk: Int, dictionary: Option[ByteString], pooled: Boolean)
+  extends DeflateDecompressorBase(maxBytesPerChunk, false, dictionary, pooled) {
 
-  override def createLogic(attr: Attributes) = new DecompressorParsingLogic {
-    override val inflater: Inflater = new Inflater()
+  def this(maxBytesPerChunk: Int) = this(maxBytesPerChunk, None, false)
 
+  override def createLogic(attr: Attributes) = new DecompressorParsingLogic {
     override case object inflating extends Inflate(noPostProcessing = true) {
       override def onTruncation(): Unit = completeStage()
     }
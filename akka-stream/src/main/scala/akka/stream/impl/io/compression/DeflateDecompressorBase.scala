@@ -3,18 +3,26 @@
  */
 package akka.stream.impl.io.compression
 
-import java.util.zip.Inflater
+import java.util.zip.{ Inflater, ZipException }
 
 import akka.stream.impl.io.ByteStringParser
 import akka.stream.impl.io.ByteStringParser.{ ParseResult, ParseStep }
 import akka.util.ByteString
 
-/** INTERNAL API */
-private[akka] abstract class DeflateDecompressorBase(maxBytesPerChunk: Int)
+/**
+ * INTERNAL API
+ *
+ * @param dictionary preset dictionary, only supported by the zlib format (`nowrap = false`)
+ * @param pooled whether the `Inflater` is taken from and returned to the [[InflaterPool]]
+ */
+private[akka] abstract class DeflateDecompressorBase(maxBytesPerChunk: Int, nowrap: Boolean, dictionary: Option[ByteString], pooled: Boolean)
   extends ByteStringParser[ByteString] {
 
   abstract class DecompressorParsingLogic extends ParsingLogic {
-    val inflater: Inflater
+    val inflater: Inflater = if (pooled) InflaterPool.acquire(nowrap) else new Inflater(nowrap)
+    // inflated data is copied out of the buffer, so one buffer is reused for all chunks
+    private val buffer = new Array[Byte](maxBytesPerChunk)
+
     def afterInflate: ParseStep[ByteString]
     def afterBytesRead(buffer: Array[Byte], offset: Int, length: Int): Unit
     def inflating: Inflate
@@ -24,8 +32,7 @@ private[akka] abstract class DeflateDecompressorBase(maxBytesPerChunk: Int)
       override def parse(reader: ByteStringParser.ByteReader): ParseResult[ByteString] = {
         inflater.setInput(reader.remainingData.toArray)
 
-        val buffer = new Array[Byte](maxBytesPerChunk)
-        val read = inflater.inflate(buffer)
+        val read = inflate()
 
         reader.skip(reader.remainingSize - inflater.getRemaining)
 
@@ -40,7 +47,20 @@ private[akka] abstract class DeflateDecompressorBase(maxBytesPerChunk: Int)
       }
     }
 
-    override def postStop(): Unit = inflater.end()
+    private def inflate(): Int = {
+      val read = inflater.inflate(buffer)
+      if (read == 0 && inflater.needsDictionary()) dictionary match {
+        case Some(dict) ⇒
+          inflater.setDictionary(dict.toArray)
+          inflater.inflate(buffer)
+        case None ⇒ throw new ZipException("Compressed data requires a preset dictionary")
+      }
+      else read
+    }
+
+    override def postStop(): Unit =
+      if (pooled) InflaterPool.release(inflater, nowrap)
+      else inflater.end()
   }
 }
 
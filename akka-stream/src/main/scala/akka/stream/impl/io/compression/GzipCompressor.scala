@@ -8,8 +8,9 @@ import java.util.zip.{ CRC32, Deflater }
 import akka.util.ByteString
 
 /** INTERNAL API */
-private[akka] class GzipCompressor extends DeflateCompressor {
-  override protected lazy val deflater = new Deflater(Deflater.BEST_COMPRESSION, true)
+private[akka] class GzipCompressor(level: Int, pooled: Boolean) extends DeflateCompressor(level, true, None, pooled) {
+  def this() = this(Deflater.BEST_COMPRESSION, false)
+
   private val checkSum = new CRC32 // CRC32 of uncompressed data
   private var headerSent = false
   private var bytesRead = 0L
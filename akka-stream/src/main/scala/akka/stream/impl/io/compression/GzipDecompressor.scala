@@ -3,7 +3,7 @@
  */
 package akka.stream.impl.io.compression
 
-import java.util.zip.{ CRC32, Inflater, ZipException }
+import java.util.zip.{ CRC32, ZipException }
 
 import akka.stream.Attributes
 import akka.stream.impl.io.ByteStringParser
@@ -11,11 +11,12 @@ import akka.stream.impl.io.ByteStringParser.{ ParseResult, ParseStep }
 import akka.util.ByteString
 
 /** INTERNAL API */
-private[akka] class GzipDecompressor(maxBytesPerChunk: Int)
-  extends DeflateDecompressorBase(maxBytesPerChunk) {
+private[akka] class GzipDecompressor(maxBytesPerChunk: Int, pooled: Boolean)
+  extends DeflateDecompressorBase(maxBytesPerChunk, true, None, pooled) {
+
+  def this(maxBytesPerChunk: Int) = this(maxBytesPerChunk, false)
 
   override def createLogic(attr: Attributes) = new DecompressorParsingLogic {
-    override val inflater: Inflater = new Inflater(true)
     override def afterInflate: ParseStep[ByteString] = ReadTrailer
     override def afterBytesRead(buffer: Array[Byte], offset: Int, length: Int): Unit =
       crc32.update(buffer, offset, length)
@@ -0,0 +1,60 @@
+/**
+ * Copyright (C) 2017 Lightbend Inc. <http://www.lightbend.com>
+ */
+package akka.stream.impl.io.compression
+
+import java.util.concurrent.ArrayBlockingQueue
+import java.util.zip.{ Deflater, Inflater }
+
+/**
+ * INTERNAL API
+ *
+ * JVM wide pools of `Deflater`s and `Inflater`s. Creating them allocates native zlib memory, which is only freed
+ * by `end()` or eventually by finalization, so short-lived compressed streams can reuse them instead. Released
+ * instances are `reset()` before they are pooled, instances that do not fit into a full pool are ended.
+ */
+private[akka] object DeflaterPool {
+  final val MaxPooledPerSetting = 64
+
+  // one pool per level (-1 to 9) and nowrap setting
+  private val pools = Array.fill(22)(new ArrayBlockingQueue[Deflater](MaxPooledPerSetting))
+
+  private def pool(level: Int, nowrap: Boolean): ArrayBlockingQueue[Deflater] =
+    pools((level + 1) * 2 + (if (nowrap) 1 else 0))
+
+  def acquire(level: Int, nowrap: Boolean): Deflater = {
+    require(level >= Deflater.DEFAULT_COMPRESSION && level <= Deflater.BEST_COMPRESSION, s"invalid compression level [$level]")
+    val pooled = pool(level, nowrap).poll()
+    if (pooled ne null) pooled else new Deflater(level, nowrap)
+  }
+
+  /** The deflater must not be used after releasing it */
+  def release(deflater: Deflater, level: Int, nowrap: Boolean): Unit = {
+    deflater.reset()
+    if (!pool(level, nowrap).offer(deflater)) deflater.end()
+  }
+}
+
+/**
+ * INTERNAL API
+ *
+ * See [[DeflaterPool]].
+ */
+private[akka] object InflaterPool {
+  final val MaxPooledPerSetting = 64
+
+  private val pools = Array.fill(2)(new ArrayBlockingQueue[Inflater](MaxPooledPerSetting))
+
+  private def pool(nowrap: Boolean): ArrayBlockingQueue[Inflater] = pools(if (nowrap) 1 else 0)
+
+  def acquire(nowrap: Boolean): Inflater = {
+    val pooled = pool(nowrap).poll()
+    if (pooled ne null) pooled else new Inflater(nowrap)
+  }
+
+  /** The inflater must not be used after releasing it */
+  def release(inflater: Inflater, nowrap: Boolean): Unit = {
+    inflater.reset()
+    if (!pool(nowrap).offer(inflater)) inflater.end()
+  }
+}
@@ -3,10 +3,14 @@
  */
 package akka.stream.javadsl
 
+import java.util.Optional
+
 import akka.NotUsed
 import akka.stream.scaladsl
 import akka.util.ByteString
 
+import scala.compat.java8.OptionConverters._
+
 object Compression {
   /**
    * Creates a Flow that decompresses gzip-compressed stream of data.
@@ -16,6 +20,16 @@ object Compression {
   def gunzip(maxBytesPerChunk: Int): Flow[ByteString, ByteString, NotUsed] =
     scaladsl.Compression.gunzip(maxBytesPerChunk).asJava
 
+  /**
+   * Creates a Flow that decompresses gzip-compressed stream of data.
+   *
+   * @param maxBytesPerChunk Maximum length of the output [[ByteString]] chunk.
+   * @param pooled Whether the native zlib decompressors are shared between materializations through
+   *               a pool instead of being created for each of them.
+   */
+  def gunzip(maxBytesPerChunk: Int, pooled: Boolean): Flow[ByteString, ByteString, NotUsed] =
+    scaladsl.Compression.gunzip(maxBytesPerChunk, pooled).asJava
+
   /**
    * Creates a Flow that decompresses deflate-compressed stream of data.
    *
@@ -23,4 +37,48 @@ object Compression {
    */
   def inflate(maxBytesPerChunk: Int): Flow[ByteString, ByteString, NotUsed] =
     scaladsl.Compression.inflate(maxBytesPerChunk).asJava
+
+  /**
+   * Creates a Flow that decompresses deflate-compressed stream of data. Fails the stream if the data has been
+   * compressed with a preset dictionary but none has been given.
+   *
+   * @param maxBytesPerChunk Maximum length of the output [[ByteString]] chunk.
+   * @param dictionary Preset dictionary the data has been compressed with, or empty.
+   * @param pooled Whether the native zlib decompressors are shared between materializations through
+   *               a pool instead of being created for each of them.
+   */
+  def inflate(maxBytesPerChunk: Int, dictionary: Optional[ByteString], pooled: Boolean): Flow[ByteString, ByteString, NotUsed] =
+    scaladsl.Compression.inflate(maxBytesPerChunk, dictionary.asScala, pooled).asJava
+
+  /**
+   * Creates a flow that gzip-compresses a stream of ByteStrings. Note that the compressor
+   * will SYNC_FLUSH after every [[ByteString]] so that it is guaranteed that every [[ByteString]]
+   * coming out of the flow can be fully decompressed without waiting for additional data. This may
+   * come at a compression performance cost for very small chunks.
+   *
+   * @param level Compression level (0-9), see `java.util.zip.Deflater`.
+   * @param pooled Whether the native zlib compressors are shared between materializations through
+   *               a pool instead of being created for each of them. This reduces allocations for many
+   *               short-lived streams.
+   */
+  def gzip(level: Int, pooled: Boolean): Flow[ByteString, ByteString, NotUsed] =
+    scaladsl.Compression.gzip(level, pooled).asJava
+
+  /**
+   * Creates a flow that deflate-compresses a stream of ByteString. Note that the compressor
+   * will SYNC_FLUSH after every [[ByteString]] so that it is guaranteed that every [[ByteString]]
+   * coming out of the flow can be fully decompressed without waiting for additional data. This may
+   * come at a compression performance cost for very small chunks.
+   *
+   * A preset dictionary, such as a sample of typical payloads, improves the compression of small messages
+   * that share content with it. The data can only be decompressed with the same dictionary, see [[inflate]].
+   *
+   * @param level Compression level (0-9), see `java.util.zip.Deflater`.
+   * @param dictionary Preset dictionary, or empty.
+   * @param pooled Whether the native zlib compressors are shared between materializations through
+   *               a pool instead of being created for each of them. This reduces allocations for many
+   *               short-lived streams.
+   */
+  def deflate(level: Int, dictionary: Optional[ByteString], pooled: Boolean): Flow[ByteString, ByteString, NotUsed] =
+    scaladsl.Compression.deflate(level, dictionary.asScala, pooled).asJava
 }
@@ -115,6 +115,9 @@ object FileIO {
    * Emitted elements are `chunkSize` sized [[ByteString]] elements,
    * except the last element, which will be up to `chunkSize` in size.
    *
+   * The emitted elements are views of the mapped file rather than copies, so the file must not be
+   * modified or truncated as long as they are in use.
+   *
    * You can configure the default dispatcher for this Source by changing the `akka.stream.blocking-io-dispatcher` or
    * set it for a given Source by using [[ActorAttributes]].
    *
@@ -143,4 +146,43 @@ object FileIO {
    */
   def fromPath(f: Path, chunkSize: Int): javadsl.Source[ByteString, CompletionStage[IOResult]] =
     new Source(scaladsl.FileIO.fromPath(f, chunkSize).toCompletionStage())
+
+  /**
+   * Creates a synchronous Source from a files contents by mapping the file into memory instead
+   * of reading it, which is most useful for large files. Only the contents up to the size of the
+   * file at the time the stream is started are emitted.
+   * Emitted elements are [[ByteString]] elements, chunked by default by 8192 bytes,
+   * except the last element, which will be up to 8192 in size.
+   *
+   * The emitted elements are views of the mapped file rather than copies, so the file must not be
+   * modified or truncated as long as they are in use.
+   *
+   * You can configure the default dispatcher for this Source by changing the `akka.stream.blocking-io-dispatcher` or
+   * set it for a given Source by using [[ActorAttributes]].
+   *
+   * It materializes a [[java.util.concurrent.CompletionStage]] of [[IOResult]] containing the number of bytes read from the source file upon completion,
+   * and a possible exception if IO operation was not completed successfully.
+   *
+   * @param f         the file path to read from
+   */
+  def fromPathMapped(f: Path): javadsl.Source[ByteString, CompletionStage[IOResult]] = fromPathMapped(f, 8192)
+
+  /**
+   * Creates a synchronous Source from a files contents by mapping the file into memory instead
+   * of reading it, which is most useful for large files. Only the contents up to the size of the
+   * file at the time the stream is started are emitted.
+   * Emitted elements are `chunkSize` sized [[ByteString]] elements,
+   * except the last element, which will be up to `chunkSize` in size.
+   *
+   * You can configure the default dispatcher for this Source by changing the `akka.stream.blocking-io-dispatcher` or
+   * set it for a given Source by using [[ActorAttributes]].
+   *
+   * It materializes a [[java.util.concurrent.CompletionStage]] of [[IOResult]] containing the number of bytes read from the source file upon completion,
+   * and a possible exception if IO operation was not completed successfully.
+   *
+   * @param f         the file path to read from
+   * @param chunkSize the size of each emitted element
+   */
+  def fromPathMapped(f: Path, chunkSize: Int): javadsl.Source[ByteString, CompletionStage[IOResult]] =
+    new Source(scaladsl.FileIO.fromPathMapped(f, chunkSize).toCompletionStage())
 }
@@ -4,6 +4,8 @@
 package akka.stream.javadsl
 
 import akka.NotUsed
+import akka.annotation.DoNotInherit
+import akka.japi.function
 
 /**
  * A MergeHub is a special streaming hub that is able to collect streamed elements from a dynamic set of
@@ -91,3 +93,118 @@ object BroadcastHub {
   def of[T](clazz: Class[T]): Sink[T, Source[T, NotUsed]] = of(clazz, 256)
 
 }
+
+/**
+ * A `PartitionHub` is a special streaming hub that is able to route streamed elements to a dynamic set of consumers.
+ * It consists of two parts, a [[Sink]] and a [[Source]]. The [[Sink]] routes elements from a producer to the
+ * actually live consumers it has. The selection of consumer is done with a function. Each element can be routed to
+ * only one consumer. Once the producer has been materialized, the [[Sink]] it feeds into returns a
+ * materialized value which is the corresponding [[Source]]. This [[Source]] can be materialized an arbitrary number
+ * of times, where each of the new materializations will receive their elements from the original [[Sink]].
+ */
+object PartitionHub {
+
+  /**
+   * Creates a [[Sink]] that receives elements from its upstream producer and routes them to a dynamic set
+   * of consumers. After the [[Sink]] returned by this method is materialized, it returns a [[Source]] as materialized
+   * value. This [[Source]] can be materialized an arbitrary number of times and each materialization will receive the
+   * elements routed to it from the original [[Sink]].
+   *
+   * Every new materialization of the [[Sink]] results in a new, independent hub, which materializes to its own
+   * [[Source]] for consuming the [[Sink]] of that materialization.
+   *
+   * If the original [[Sink]] is failed, then the failure is immediately propagated to all of its materialized
+   * [[Source]]s (possibly jumping over already buffered elements). If the original [[Sink]] is completed, then
+   * all corresponding [[Source]]s are completed. Both failure and normal completion is "remembered" and later
+   * materializations of the [[Source]] will see the same (failure or completion) state. [[Source]]s that are
+   * cancelled are simply removed from the dynamic set of consumers.
+   *
+   * The partitioner is given a [[PartitionHub.ConsumerInfo]] which tells how many elements are queued for each
+   * consumer, which makes it possible to route an element to the consumer with the fewest queued elements, for
+   * example. The `partitioner` factory is invoked once for every materialization of the [[Sink]], so the
+   * returned function may keep mutable state such as a round-robin position.
+   *
+   * @param clazz Type of elements this hub emits and consumes
+   * @param partitioner Factory of the function that decides where to route an element. The function is
+   *   given the information about the active consumers and the element, and it should return the identifier
+   *   of the selected consumer, as listed in [[PartitionHub.ConsumerInfo#getConsumerIds]]. Return a negative
+   *   value to drop the element. The function is never called concurrently.
+   * @param startAfterNrOfConsumers Elements are buffered until this number of consumers have been connected.
+   *   This is useful if you want to be sure that all consumers have been connected before the first element
+   *   is routed.
+   * @param bufferSize Total number of elements that can be buffered for all consumers. If this buffer is full,
+   *   the producer is backpressured.
+   */
+  def ofStateful[T](clazz: Class[T], partitioner: function.Creator[function.Function2[ConsumerInfo, T, java.lang.Long]],
+                    startAfterNrOfConsumers: Int, bufferSize: Int): Sink[T, Source[T, NotUsed]] = {
+    val p: () ⇒ (akka.stream.scaladsl.PartitionHub.ConsumerInfo, T) ⇒ Long = () ⇒ {
+      val f = partitioner.create()
+      (info, elem) ⇒ f.apply(info, elem)
+    }
+    akka.stream.scaladsl.PartitionHub.statefulSink[T](p, startAfterNrOfConsumers, bufferSize)
+      .mapMaterializedValue(_.asJava)
+      .asJava
+  }
+
+  def ofStateful[T](clazz: Class[T], partitioner: function.Creator[function.Function2[ConsumerInfo, T, java.lang.Long]],
+                    startAfterNrOfConsumers: Int): Sink[T, Source[T, NotUsed]] =
+    ofStateful(clazz, partitioner, startAfterNrOfConsumers, akka.stream.scaladsl.PartitionHub.defaultBufferSize)
+
+  /**
+   * Creates a [[Sink]] that receives elements from its upstream producer and routes them to a dynamic set
+   * of consumers. After the [[Sink]] returned by this method is materialized, it returns a [[Source]] as materialized
+   * value. This [[Source]] can be materialized an arbitrary number of times and each materialization will receive the
+   * elements routed to it from the original [[Sink]].
+   *
+   * The completion and failure semantics are the same as for [[PartitionHub#ofStateful]].
+   *
+   * @param clazz Type of elements this hub emits and consumes
+   * @param partitioner Function that decides where to route an element. It is a function of the number of
+   *   active consumers and the element, and it should return the index of the selected consumer. The
+   *   consumers are ordered by the time they were materialized, the first one has index 0. Return a
+   *   negative value to drop the element. The function is never called concurrently.
+   * @param startAfterNrOfConsumers Elements are buffered until this number of consumers have been connected.
+   *   This is useful if you want to be sure that all consumers have been connected before the first element
+   *   is routed, since the partitioner would otherwise see a different number of consumers for the first
+   *   elements.
+   * @param bufferSize Total number of elements that can be buffered for all consumers. If this buffer is full,
+   *   the producer is backpressured.
+   */
+  def of[T](clazz: Class[T], partitioner: function.Function2[Integer, T, Integer], startAfterNrOfConsumers: Int,
+            bufferSize: Int): Sink[T, Source[T, NotUsed]] =
+    akka.stream.scaladsl.PartitionHub.sink[T](
+      (size, elem) ⇒ partitioner.apply(size, elem),
+      startAfterNrOfConsumers, bufferSize)
+      .mapMaterializedValue(_.asJava)
+      .asJava
+
+  def of[T](clazz: Class[T], partitioner: function.Function2[Integer, T, Integer],
+            startAfterNrOfConsumers: Int): Sink[T, Source[T, NotUsed]] =
+    of(clazz, partitioner, startAfterNrOfConsumers, akka.stream.scaladsl.PartitionHub.defaultBufferSize)
+
+  /**
+   * Information about the consumers that are currently attached to the hub, passed to the
+   * partitioner of [[PartitionHub#ofStateful]]. It is only valid during the invocation of the
+   * partitioner and must not be retained.
+   */
+  @DoNotInherit trait ConsumerInfo {
+
+    /**
+     * Identifiers of the current consumers, in the order they were materialized. The identifiers
+     * are unique within one materialization of the hub and are not reused after a consumer cancels.
+     */
+    def getConsumerIds: java.util.List[java.lang.Long]
+
+    /** Identifier of the consumer at the given position in [[ConsumerInfo#getConsumerIds]]. */
+    def consumerIdByIdx(idx: Int): Long
+
+    /**
+     * Approximate number of elements that have been routed to the given consumer and that it has not
+     * consumed yet. The consumer drains its queue concurrently, so the value may already be smaller.
+     */
+    def queueSize(consumerId: Long): Int
+
+    /** Number of attached consumers. */
+    def size: Int
+  }
+}
@@ -25,6 +25,9 @@ object JsonFraming {
    *   {"id": 1}, {"id": 2}, [...], {"id": 999}
    * }}}
    *
+   * The elements of a top-level array do not need to be objects: nested arrays, strings, numbers and literals
+   * are emitted as well.
+   *
    * The framing works independently of formatting, i.e. it will still emit valid JSON elements even if two
    * elements are separated by multiple newlines or other whitespace characters. And of course is insensitive
    * (and does not impact the emitting frame) to the JSON object's internal formatting.
@@ -35,4 +38,17 @@ object JsonFraming {
   def objectScanner(maximumObjectLength: Int): Flow[ByteString, ByteString, NotUsed] =
     akka.stream.scaladsl.JsonFraming.objectScanner(maximumObjectLength).asJava
 
+  /**
+   * Same as `objectScanner(maximumObjectLength)`, additionally failing the stream if objects and arrays are
+   * nested deeper than `maximumDepth` within an emitted element. This protects downstream parsers that recurse
+   * into nested elements.
+   *
+   * @param maximumObjectLength The maximum length of allowed frames while decoding. If the maximum length is exceeded
+   *                            this Flow will fail the stream.
+   * @param maximumDepth The maximum nesting depth of objects and arrays within a frame, an element that is a
+   *                     flat object has depth 1. If the maximum depth is exceeded this Flow will fail the stream.
+   */
+  def objectScanner(maximumObjectLength: Int, maximumDepth: Int): Flow[ByteString, ByteString, NotUsed] =
+    akka.stream.scaladsl.JsonFraming.objectScanner(maximumObjectLength, maximumDepth).asJava
+
 }
@@ -1130,6 +1130,39 @@ final class Source[+Out, +Mat](delegate: scaladsl.Source[Out, Mat]) extends Grap
   def mapAsyncUnordered[T](parallelism: Int, f: function.Function[Out, CompletionStage[T]]): javadsl.Source[T, Mat] =
     new Source(delegate.mapAsyncUnordered(parallelism)(x ⇒ f(x).toScala))
 
+  /**
+   * Transform this stream by applying the given function to each of the elements
+   * as they pass through this processing step. The function returns a `CompletionStage` and the
+   * value of that future will be emitted downstream. The elements are assigned to partitions
+   * by the `partitioner`, for example by the id of the entity they belong to. The CompletionStages of
+   * different partitions run concurrently, up to ``parallelism`` elements at a time, while the
+   * elements of one partition are processed one after the other. The results of a partition are
+   * therefore emitted in the order of its elements, but a slow element only holds back the
+   * elements of its own partition, unlike with ``mapAsync``.
+   *
+   * If the function `f` or the `partitioner` throws an exception or if the `CompletionStage` is completed
+   * with failure and the supervision decision is [[akka.stream.Supervision#stop]]
+   * the stream will be completed with failure.
+   *
+   * If the function `f` or the `partitioner` throws an exception or if the `CompletionStage` is completed
+   * with failure and the supervision decision is [[akka.stream.Supervision#resume]] or
+   * [[akka.stream.Supervision#restart]] the element is dropped and the stream continues.
+   *
+   * '''Emits when''' any of the CompletionStages returned by the provided function complete
+   *
+   * '''Backpressures when''' the number of CompletionStages in flight and elements waiting for their partition
+   * reaches the configured parallelism and the downstream backpressures
+   *
+   * '''Completes when''' upstream completes and all CompletionStages have been completed and all elements have been emitted
+   *
+   * '''Cancels when''' downstream cancels
+   *
+   * @see [[#mapAsync]]
+   * @see [[#mapAsyncUnordered]]
+   */
+  def mapAsyncPartitioned[T, P](parallelism: Int, partitioner: function.Function[Out, P], f: function.Function[Out, CompletionStage[T]]): javadsl.Source[T, Mat] =
+    new Source(delegate.mapAsyncPartitioned(parallelism)(partitioner.apply)(x ⇒ f(x).toScala))
+
   /**
    * Only pass on those elements that satisfy the given predicate.
    *
@@ -1442,6 +1475,34 @@ final class Source[+Out, +Mat](delegate: scaladsl.Source[Out, Mat]) extends Grap
   def groupedWithin(n: Int, d: FiniteDuration): javadsl.Source[java.util.List[Out @uncheckedVariance], Mat] =
     new Source(delegate.groupedWithin(n, d).map(_.asJava)) // TODO optimize to one step
 
+  /**
+   * Chunk up this stream into groups of elements received within a time window, or limited by the total
+   * weight of the elements, or by the given number of elements, whatever happens first. The weight of an
+   * element is determined by `costFn`, for example its size in bytes. This is useful to batch writes to
+   * sinks that prefer bulk operations of a bounded size.
+   *
+   * An element that would make a non-empty group exceed `maxWeight` starts the next group, an element that
+   * weighs more than `maxWeight` on its own is emitted as a group of one element.
+   * Empty groups will not be emitted if no elements are received from upstream.
+   * The last group before end-of-stream will contain the buffered elements
+   * since the previously emitted group.
+   *
+   * '''Emits when''' the configured time elapses since the last group has been emitted, or the group
+   * reached its maximum weight or number of elements
+   *
+   * '''Backpressures when''' a group has been assembled and downstream backpressures
+   *
+   * '''Completes when''' upstream completes (emits last group)
+   *
+   * '''Cancels when''' downstream completes
+   *
+   * `maxWeight` and `maxNumber` must be positive, and `d` must be greater than 0 seconds, otherwise
+   * IllegalArgumentException is thrown. The stream is failed with an IllegalArgumentException
+   * if `costFn` returns a negative weight.
+   */
+  def groupedWeightedWithin(maxWeight: Long, maxNumber: Int, d: FiniteDuration)(costFn: function.Function[Out, Long]): javadsl.Source[java.util.List[Out @uncheckedVariance], Mat] =
+    new Source(delegate.groupedWeightedWithin(maxWeight, maxNumber, d)(costFn.apply).map(_.asJava))
+
   /**
    * Shifts elements emission in time by a specified amount. It allows to store elements
    * in internal buffer while waiting for next element to be emitted. Depending on the defined
@@ -3,6 +3,8 @@
  */
 package akka.stream.scaladsl
 
+import java.util.zip.Deflater
+
 import akka.NotUsed
 import akka.stream.impl.io.compression._
 import akka.util.ByteString
@@ -16,11 +18,24 @@ object Compression {
    * coming out of the flow can be fully decompressed without waiting for additional data. This may
    * come at a compression performance cost for very small chunks.
    *
-   * FIXME: should compression level / strategy / flush mode be configurable? See https://github.com/akka/akka/issues/21849
+   * FIXME: should compression strategy / flush mode be configurable? See https://github.com/akka/akka/issues/21849
    */
   def gzip: Flow[ByteString, ByteString, NotUsed] =
     CompressionUtils.compressorFlow(() ⇒ new GzipCompressor)
 
+  /**
+   * Same as [[gzip]] with the given compression level.
+   *
+   * @param level Compression level (0-9), see `java.util.zip.Deflater`.
+   * @param pooled Whether the native zlib compressors are shared between materializations through
+   *               a pool instead of being created for each of them. This reduces allocations for many
+   *               short-lived streams.
+   */
+  def gzip(level: Int, pooled: Boolean): Flow[ByteString, ByteString, NotUsed] = {
+    requireValidLevel(level)
+    CompressionUtils.compressorFlow(() ⇒ new GzipCompressor(level, pooled))
+  }
+
   /**
    * Creates a Flow that decompresses a gzip-compressed stream of data.
    *
@@ -30,17 +45,45 @@ object Compression {
     Flow[ByteString].via(new GzipDecompressor(maxBytesPerChunk))
       .named("gunzip")
 
+  /**
+   * Same as [[gunzip]], optionally sharing the native zlib decompressors between materializations.
+   *
+   * @param maxBytesPerChunk Maximum length of an output [[ByteString]] chunk.
+   * @param pooled Whether the native zlib decompressors are shared between materializations through
+   *               a pool instead of being created for each of them.
+   */
+  def gunzip(maxBytesPerChunk: Int, pooled: Boolean): Flow[ByteString, ByteString, NotUsed] =
+    Flow[ByteString].via(new GzipDecompressor(maxBytesPerChunk, pooled))
+      .named("gunzip")
+
   /**
    * Creates a flow that deflate-compresses a stream of ByteString. Note that the compressor
    * will SYNC_FLUSH after every [[ByteString]] so that it is guaranteed that every [[ByteString]]
    * coming out of the flow can be fully decompressed without waiting for additional data. This may
    * come at a compression performance cost for very small chunks.
    *
-   * FIXME: should compression level / strategy / flush mode be configurable? See https://github.com/akka/akka/issues/21849
+   * FIXME: should compression strategy / flush mode be configurable? See https://github.com/akka/akka/issues/21849
    */
   def deflate: Flow[ByteString, ByteString, NotUsed] =
     CompressionUtils.compressorFlow(() ⇒ new DeflateCompressor)
 
+  /**
+   * Same as [[deflate]] with the given compression level and preset dictionary.
+   *
+   * A preset dictionary, such as a sample of typical payloads, improves the compression of small messages
+   * that share content with it. The data can only be decompressed with the same dictionary, see [[inflate]].
+   *
+   * @param level Compression level (0-9), see `java.util.zip.Deflater`.
+   * @param dictionary Preset dictionary, or `None`.
+   * @param pooled Whether the native zlib compressors are shared between materializations through
+   *               a pool instead of being created for each of them. This reduces allocations for many
+   *               short-lived streams.
+   */
+  def deflate(level: Int, dictionary: Option[ByteString], pooled: Boolean): Flow[ByteString, ByteString, NotUsed] = {
+    requireValidLevel(level)
+    CompressionUtils.compressorFlow(() ⇒ new DeflateCompressor(level, false, dictionary, pooled))
+  }
+
   /**
    * Creates a Flow that decompresses a deflate-compressed stream of data.
    *
@@ -49,4 +92,22 @@ object Compression {
   def inflate(maxBytesPerChunk: Int = MaxBytesPerChunkDefault): Flow[ByteString, ByteString, NotUsed] =
     Flow[ByteString].via(new DeflateDecompressor(maxBytesPerChunk))
       .named("inflate")
+
+  /**
+   * Same as [[inflate]] with a preset dictionary. Fails the stream if the data has been compressed with a
+   * preset dictionary but none has been given.
+   *
+   * @param maxBytesPerChunk Maximum length of an output [[ByteString]] chunk.
+   * @param dictionary Preset dictionary the data has been compressed with, or `None`.
+   * @param pooled Whether the native zlib decompressors are shared between materializations through
+   *               a pool instead of being created for each of them.
+   */
+  def inflate(maxBytesPerChunk: Int, dictionary: Option[ByteString], pooled: Boolean): Flow[ByteString, ByteString, NotUsed] =
+    Flow[ByteString].via(new DeflateDecompressor(maxBytesPerChunk, dictionary, pooled))
+      .named("inflate")
+
+  private def requireValidLevel(level: Int): Unit =
+    require(
+      level == Deflater.DEFAULT_COMPRESSION || (level >= Deflater.NO_COMPRESSION && level <= Deflater.BEST_COMPRESSION),
+      s"compression level must be between 0 and 9, was [$level]")
 }
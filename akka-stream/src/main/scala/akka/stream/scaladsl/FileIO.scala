@@ -20,7 +20,6 @@ import scala.concurrent.Future
 object FileIO {
 
   import Sink.{ shape ⇒ sinkShape }
-  import Source.{ shape ⇒ sourceShape }
 
   /**
    * Creates a Source from a files contents.
@@ -55,7 +54,30 @@ object FileIO {
    * @param chunkSize the size of each read operation, defaults to 8192
    */
   def fromPath(f: Path, chunkSize: Int = 8192): Source[ByteString, Future[IOResult]] =
-    new Source(new FileSource(f, chunkSize, DefaultAttributes.fileSource, sourceShape("FileSource")))
+    Source.fromGraph(new FileSource(f, chunkSize, mapped = false))
+
+  /**
+   * Creates a Source from a files contents by mapping the file into memory instead of reading it,
+   * which avoids a system call and copying for every chunk and is most useful for large files.
+   * Only the contents up to the size of the file at the time the stream is started are emitted.
+   * Emitted elements are `chunkSize` sized [[akka.util.ByteString]] elements,
+   * except the final element, which will be up to `chunkSize` in size.
+   *
+   * The emitted elements are views of the mapped file rather than copies, so the file must not be
+   * modified or truncated as long as they are in use. Use [[ByteString#compact]] to copy an element
+   * to the heap if it needs to outlive such a change.
+   *
+   * You can configure the default dispatcher for this Source by changing the `akka.stream.blocking-io-dispatcher` or
+   * set it for a given Source by using [[ActorAttributes]].
+   *
+   * It materializes a [[Future]] of [[IOResult]] containing the number of bytes read from the source file upon completion,
+   * and a possible exception if IO operation was not completed successfully.
+   *
+   * @param f         the file path to read from
+   * @param chunkSize the size of each emitted element, defaults to 8192
+   */
+  def fromPathMapped(f: Path, chunkSize: Int = 8192): Source[ByteString, Future[IOResult]] =
+    Source.fromGraph(new FileSource(f, chunkSize, mapped = true))
 
   /**
    * Creates a Sink which writes incoming [[ByteString]] elements to the given file. Overwrites existing files by default.
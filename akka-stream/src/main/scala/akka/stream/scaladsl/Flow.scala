@@ -615,6 +615,39 @@ trait FlowOps[+Out, +Mat] {
    */
   def mapAsyncUnordered[T](parallelism: Int)(f: Out ⇒ Future[T]): Repr[T] = via(MapAsyncUnordered(parallelism, f))
 
+  /**
+   * Transform this stream by applying the given function to each of the elements
+   * as they pass through this processing step. The function returns a `Future` and the
+   * value of that future will be emitted downstream. The elements are assigned to partitions
+   * by the `partitioner`, for example by the id of the entity they belong to. The Futures of
+   * different partitions run concurrently, up to ``parallelism`` elements at a time, while the
+   * elements of one partition are processed one after the other. The results of a partition are
+   * therefore emitted in the order of its elements, but a slow element only holds back the
+   * elements of its own partition, unlike with ``mapAsync``.
+   *
+   * If the function `f` or the `partitioner` throws an exception or if the `Future` is completed
+   * with failure and the supervision decision is [[akka.stream.Supervision.Stop]]
+   * the stream will be completed with failure.
+   *
+   * If the function `f` or the `partitioner` throws an exception or if the `Future` is completed
+   * with failure and the supervision decision is [[akka.stream.Supervision.Resume]] or
+   * [[akka.stream.Supervision.Restart]] the element is dropped and the stream continues.
+   *
+   * '''Emits when''' any of the Futures returned by the provided function complete
+   *
+   * '''Backpressures when''' the number of Futures in flight and elements waiting for their partition
+   * reaches the configured parallelism and the downstream backpressures
+   *
+   * '''Completes when''' upstream completes and all Futures have been completed and all elements have been emitted
+   *
+   * '''Cancels when''' downstream cancels
+   *
+   * @see [[#mapAsync]]
+   * @see [[#mapAsyncUnordered]]
+   */
+  def mapAsyncPartitioned[T, P](parallelism: Int)(partitioner: Out ⇒ P)(f: Out ⇒ Future[T]): Repr[T] =
+    via(MapAsyncPartitioned(parallelism, partitioner, f))
+
   /**
    * Only pass on those elements that satisfy the given predicate.
    *
@@ -985,6 +1018,34 @@ trait FlowOps[+Out, +Mat] {
   def groupedWithin(n: Int, d: FiniteDuration): Repr[immutable.Seq[Out]] =
     via(new GroupedWithin[Out](n, d))
 
+  /**
+   * Chunk up this stream into groups of elements received within a time window, or limited by the total
+   * weight of the elements, or by the given number of elements, whatever happens first. The weight of an
+   * element is determined by `costFn`, for example its size in bytes. This is useful to batch writes to
+   * sinks that prefer bulk operations of a bounded size.
+   *
+   * An element that would make a non-empty group exceed `maxWeight` starts the next group, an element that
+   * weighs more than `maxWeight` on its own is emitted as a group of one element.
+   * Empty groups will not be emitted if no elements are received from upstream.
+   * The last group before end-of-stream will contain the buffered elements
+   * since the previously emitted group.
+   *
+   * `maxWeight` and `maxNumber` must be positive, and `d` must be greater than 0 seconds, otherwise
+   * IllegalArgumentException is thrown. The stream is failed with an IllegalArgumentException
+   * if `costFn` returns a negative weight.
+   *
+   * '''Emits when''' the configured time elapses since the last group has been emitted, or the group
+   * reached its maximum weight or number of elements
+   *
+   * '''Backpressures when''' a group has been assembled and downstream backpressures
+   *
+   * '''Completes when''' upstream completes (emits last group)
+   *
+   * '''Cancels when''' downstream completes
+   */
+  def groupedWeightedWithin(maxWeight: Long, maxNumber: Int, d: FiniteDuration)(costFn: Out ⇒ Long): Repr[immutable.Seq[Out]] =
+    via(new GroupedWeightedWithin[Out](maxWeight, maxNumber, d, costFn))
+
   /**
    * Shifts elements emission in time by a specified amount. It allows to store elements
    * in internal buffer while waiting for next element to be emitted. Depending on the defined
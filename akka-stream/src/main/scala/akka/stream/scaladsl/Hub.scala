@@ -3,16 +3,20 @@
  */
 package akka.stream.scaladsl
 
-import java.util.concurrent.atomic.{ AtomicLong, AtomicReference }
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.atomic.{ AtomicInteger, AtomicLong, AtomicReference }
 
 import akka.NotUsed
+import akka.annotation.DoNotInherit
 import akka.dispatch.AbstractNodeQueue
 import akka.stream._
 import akka.stream.stage._
 
 import scala.annotation.tailrec
+import scala.collection.{ immutable, mutable }
 import scala.concurrent.{ Future, Promise }
 import scala.util.{ Failure, Success, Try }
+import scala.util.control.NonFatal
 
 /**
  * A MergeHub is a special streaming hub that is able to collect streamed elements from a dynamic set of
@@ -693,3 +697,441 @@ private[akka] class BroadcastHub[T](bufferSize: Int) extends GraphStageWithMater
     (logic, Source.fromGraph(source))
   }
 }
+
+/**
+ * A `PartitionHub` is a special streaming hub that is able to route streamed elements to a dynamic set of consumers.
+ * It consists of two parts, a [[Sink]] and a [[Source]]. The [[Sink]] routes elements from a producer to the
+ * actually live consumers it has. The selection of consumer is done with a function. Each element can be routed to
+ * only one consumer. Once the producer has been materialized, the [[Sink]] it feeds into returns a
+ * materialized value which is the corresponding [[Source]]. This [[Source]] can be materialized an arbitrary number
+ * of times, where each of the new materializations will receive their elements from the original [[Sink]].
+ */
+object PartitionHub {
+
+  /**
+   * Creates a [[Sink]] that receives elements from its upstream producer and routes them to a dynamic set
+   * of consumers. After the [[Sink]] returned by this method is materialized, it returns a [[Source]] as materialized
+   * value. This [[Source]] can be materialized an arbitrary number of times and each materialization will receive the
+   * elements routed to it from the original [[Sink]].
+   *
+   * Every new materialization of the [[Sink]] results in a new, independent hub, which materializes to its own
+   * [[Source]] for consuming the [[Sink]] of that materialization.
+   *
+   * If the original [[Sink]] is failed, then the failure is immediately propagated to all of its materialized
+   * [[Source]]s (possibly jumping over already buffered elements). If the original [[Sink]] is completed, then
+   * all corresponding [[Source]]s are completed. Both failure and normal completion is "remembered" and later
+   * materializations of the [[Source]] will see the same (failure or completion) state. [[Source]]s that are
+   * cancelled are simply removed from the dynamic set of consumers.
+   *
+   * @param partitioner Function that decides where to route an element. It is a function of the number of
+   *   active consumers and the element, and it should return the index of the selected consumer. The
+   *   consumers are ordered by the time they were materialized, the first one has index 0. Return a
+   *   negative value to drop the element. The function is only invoked from the stage of the [[Sink]], i.e.
+   *   it is never called concurrently.
+   * @param startAfterNrOfConsumers Elements are buffered until this number of consumers have been connected.
+   *   This is useful if you want to be sure that all consumers have been connected before the first element
+   *   is routed, since the partitioner would otherwise see a different number of consumers for the first
+   *   elements.
+   * @param bufferSize Total number of elements that can be buffered for all consumers. If this buffer is full,
+   *   the producer is backpressured. Each consumer pulls from its own queue, so a slow consumer only holds
+   *   back the others when its queue is filling up the shared buffer.
+   */
+  def sink[T](partitioner: (Int, T) ⇒ Int, startAfterNrOfConsumers: Int,
+              bufferSize: Int = defaultBufferSize): Sink[T, Source[T, NotUsed]] = {
+    val fun: (ConsumerInfo, T) ⇒ Long = { (info, elem) ⇒
+      val idx = partitioner(info.size, elem)
+      if (idx < 0) -1L
+      else info.consumerIdByIdx(idx)
+    }
+    statefulSink(() ⇒ fun, startAfterNrOfConsumers, bufferSize)
+  }
+
+  /**
+   * Creates a [[Sink]] that receives elements from its upstream producer and routes them to a dynamic set
+   * of consumers. After the [[Sink]] returned by this method is materialized, it returns a [[Source]] as materialized
+   * value. This [[Source]] can be materialized an arbitrary number of times and each materialization will receive the
+   * elements routed to it from the original [[Sink]].
+   *
+   * In contrast to [[PartitionHub#sink]] the partitioner is given a [[PartitionHub.ConsumerInfo]] which, besides
+   * the identifiers of the consumers, tells how many elements are queued for each of them. This makes it possible
+   * to route an element to the consumer with the fewest queued elements, for example. The `partitioner` factory
+   * is invoked once for every materialization of the [[Sink]], so the returned function may keep mutable state
+   * such as a round-robin position.
+   *
+   * The completion and failure semantics are the same as for [[PartitionHub#sink]].
+   *
+   * @param partitioner Factory of the function that decides where to route an element. The function is
+   *   given the information about the active consumers and the element, and it should return the identifier
+   *   of the selected consumer, as listed in [[PartitionHub.ConsumerInfo#consumerIds]]. Return a negative
+   *   value to drop the element. The function is only invoked from the stage of the [[Sink]], i.e. it is
+   *   never called concurrently.
+   * @param startAfterNrOfConsumers Elements are buffered until this number of consumers have been connected.
+   *   This is useful if you want to be sure that all consumers have been connected before the first element
+   *   is routed.
+   * @param bufferSize Total number of elements that can be buffered for all consumers. If this buffer is full,
+   *   the producer is backpressured.
+   */
+  def statefulSink[T](partitioner: () ⇒ (ConsumerInfo, T) ⇒ Long, startAfterNrOfConsumers: Int,
+                      bufferSize: Int = defaultBufferSize): Sink[T, Source[T, NotUsed]] =
+    Sink.fromGraph(new PartitionHub[T](partitioner, startAfterNrOfConsumers, bufferSize))
+
+  /**
+   * INTERNAL API
+   */
+  private[akka] val defaultBufferSize = 256
+
+  /**
+   * Information about the consumers that are currently attached to the hub, passed to the
+   * partitioner of [[PartitionHub#statefulSink]]. It is only valid during the invocation of the
+   * partitioner and must not be retained.
+   */
+  @DoNotInherit trait ConsumerInfo extends akka.stream.javadsl.PartitionHub.ConsumerInfo {
+
+    /**
+     * Identifiers of the current consumers, in the order they were materialized. The identifiers
+     * are unique within one materialization of the hub and are not reused after a consumer cancels.
+     */
+    def consumerIds: immutable.IndexedSeq[Long]
+
+    /** Identifier of the consumer at the given position in [[ConsumerInfo#consumerIds]]. */
+    def consumerIdByIdx(idx: Int): Long
+
+    /**
+     * Approximate number of elements that have been routed to the given consumer and that it has not
+     * consumed yet. The consumer drains its queue concurrently, so the value may already be smaller.
+     */
+    def queueSize(consumerId: Long): Int
+
+    /** Number of attached consumers. */
+    def size: Int
+
+  }
+}
+
+/**
+ * INTERNAL API
+ */
+private[akka] class PartitionHub[T](
+  partitioner:             () ⇒ (PartitionHub.ConsumerInfo, T) ⇒ Long,
+  startAfterNrOfConsumers: Int,
+  bufferSize:              Int)
+  extends GraphStageWithMaterializedValue[SinkShape[T], Source[T, NotUsed]] {
+  require(bufferSize > 0, "Buffer size must be positive")
+  require(startAfterNrOfConsumers >= 0, "startAfterNrOfConsumers must not be negative")
+
+  val in: Inlet[T] = Inlet("PartitionHub.in")
+  override val shape: SinkShape[T] = SinkShape(in)
+
+  // Half of buffer size, rounded up
+  private[this] val DemandThreshold = (bufferSize / 2) + (bufferSize % 2)
+
+  private sealed trait HubEvent
+
+  private object RegistrationPending extends HubEvent
+  private final case class UnRegister(id: Long) extends HubEvent
+  private final case class NeedWakeup(consumer: Consumer) extends HubEvent
+  private object TryPull extends HubEvent
+
+  /*
+   * Each consumer has its own queue. The hub is the only producer of the queue and the consumer is the only
+   * reader, but they are running in different stages so the queue must be thread safe. The number of queued
+   * elements is tracked separately since ConcurrentLinkedQueue.size is O(n).
+   */
+  private final case class Consumer(id: Long, callback: AsyncCallback[ConsumerEvent], queue: ConcurrentLinkedQueue[AnyRef]) {
+    val queueSize = new AtomicInteger
+  }
+
+  private object Completed
+
+  private sealed trait HubState
+  private case class Open(callbackFuture: Future[AsyncCallback[HubEvent]], registrations: List[Consumer]) extends HubState
+  private case class Closed(failure: Option[Throwable]) extends HubState
+
+  private class PartitionSinkLogic(_shape: Shape)
+    extends GraphStageLogic(_shape) with InHandler with PartitionHub.ConsumerInfo {
+
+    private[this] val callbackPromise: Promise[AsyncCallback[HubEvent]] = Promise()
+    private[this] val noRegistrationsState = Open(callbackPromise.future, Nil)
+    val state = new AtomicReference[HubState](noRegistrationsState)
+
+    // number of elements in all consumer queues, decremented by the consumers
+    private[this] val totalSize = new AtomicInteger
+    // elements that have been received before enough consumers were registered
+    private[this] var pending = Vector.empty[T]
+    private[this] var initialized = false
+    // ordered by id, i.e. in the order they were materialized
+    private[this] var consumers = Vector.empty[Consumer]
+    private[this] var _consumerIds = Vector.empty[Long]
+    private[this] val consumerById = mutable.LongMap.empty[Consumer]
+    private[this] val needWakeup = mutable.LongMap.empty[Consumer]
+    private[this] val materializedPartitioner = partitioner()
+
+    override def preStart(): Unit = {
+      setKeepGoing(true)
+      callbackPromise.success(getAsyncCallback[HubEvent](onEvent))
+      if (startAfterNrOfConsumers == 0) {
+        initialized = true
+        pull(in)
+      }
+    }
+
+    override def onPush(): Unit = {
+      publishOrFail(publish(grab(in)))
+      tryPull()
+    }
+
+    // a failing partitioner must fail the consumers as well, failing the stage only would leave them waiting
+    private def publishOrFail(body: ⇒ Unit): Unit =
+      try body catch {
+        case NonFatal(ex) ⇒ onUpstreamFailure(ex)
+      }
+
+    private def isFull: Boolean = totalSize.get + pending.size >= bufferSize
+
+    private def tryPull(): Unit =
+      if (initialized && !isClosed(in) && !hasBeenPulled(in) && !isFull) pull(in)
+
+    private def publish(elem: T): Unit = {
+      if (!initialized || consumers.isEmpty) {
+        // will be published when consumers are registered
+        pending :+= elem
+      } else {
+        val id = materializedPartitioner(this, elem)
+        if (id >= 0) { // negative id is a way to drop the element
+          val consumer = consumerById.getOrElse(id, throw new IllegalArgumentException(
+            s"Partitioner selected the unknown consumer [$id], known consumers are [${_consumerIds.mkString(", ")}]"))
+          totalSize.incrementAndGet()
+          consumer.queueSize.incrementAndGet()
+          consumer.queue.offer(elem.asInstanceOf[AnyRef])
+          wakeup(consumer)
+        }
+      }
+    }
+
+    // ConsumerInfo, only used by the partitioner within publish
+    override def consumerIds: immutable.IndexedSeq[Long] = _consumerIds
+    override def getConsumerIds: java.util.List[java.lang.Long] = {
+      import scala.collection.JavaConverters._
+      _consumerIds.map(Long.box).asJava
+    }
+    override def consumerIdByIdx(idx: Int): Long = _consumerIds(idx)
+    override def queueSize(consumerId: Long): Int = consumerById.get(consumerId) match {
+      case Some(consumer) ⇒ consumer.queueSize.get
+      case None           ⇒ throw new IllegalArgumentException(s"Unknown consumer [$consumerId]")
+    }
+    override def size: Int = consumers.size
+
+    private def publishPending(): Unit =
+      if (pending.nonEmpty) {
+        val elems = pending
+        pending = Vector.empty
+        publishOrFail(elems.foreach(publish))
+      }
+
+    private def wakeup(consumer: Consumer): Unit =
+      if (needWakeup.contains(consumer.id)) {
+        needWakeup -= consumer.id
+        consumer.callback.invoke(Wakeup)
+      }
+
+    private def complete(consumer: Consumer): Unit = {
+      consumer.queue.offer(Completed)
+      // the consumer must be notified even if it has no demand, to complete once its queue is drained
+      needWakeup -= consumer.id
+      consumer.callback.invoke(Wakeup)
+    }
+
+    override def onUpstreamFinish(): Unit = {
+      if (consumers.isEmpty) completeStage()
+      else {
+        // the buffered elements are delivered to the consumers that are registered, even if they are fewer
+        // than startAfterNrOfConsumers
+        initialized = true
+        publishPending()
+        consumers.foreach(complete)
+      }
+    }
+
+    private def onEvent(ev: HubEvent): Unit = {
+      ev match {
+        case NeedWakeup(consumer) ⇒
+          // Also check if the consumer is now unblocked since we published an element since it went asleep.
+          if (!consumer.queue.isEmpty) consumer.callback.invoke(Wakeup)
+          else {
+            needWakeup.update(consumer.id, consumer)
+            tryPull()
+          }
+
+        case TryPull ⇒
+          tryPull()
+
+        case RegistrationPending ⇒
+          val registrations = state.getAndSet(noRegistrationsState).asInstanceOf[Open].registrations
+          registrations foreach { consumer ⇒
+            consumers = (consumers :+ consumer).sortBy(_.id)
+            _consumerIds = consumers.map(_.id)
+            consumerById.update(consumer.id, consumer)
+            if (consumers.size >= startAfterNrOfConsumers) initialized = true
+            consumer.callback.invoke(Initialize)
+          }
+          if (initialized) publishPending()
+          // consumers arriving after the producer finished, but before the hub stopped
+          if (isClosed(in)) registrations.foreach(complete)
+          tryPull()
+
+        case UnRegister(id) ⇒
+          consumerById.get(id) foreach { consumer ⇒
+            consumers = consumers.filterNot(_ eq consumer)
+            _consumerIds = consumers.map(_.id)
+            consumerById -= id
+            needWakeup -= id
+            // the elements that were not consumed are dropped
+            var elem = consumer.queue.poll()
+            while (elem ne null) {
+              if (elem ne Completed) totalSize.decrementAndGet()
+              elem = consumer.queue.poll()
+            }
+          }
+          if (consumers.isEmpty && isClosed(in)) completeStage()
+          else tryPull()
+      }
+    }
+
+    override def onUpstreamFailure(ex: Throwable): Unit = {
+      val failMessage = HubCompleted(Some(ex))
+
+      // Notify pending consumers and set tombstone
+      state.getAndSet(Closed(Some(ex))).asInstanceOf[Open].registrations foreach { consumer ⇒
+        consumer.callback.invoke(failMessage)
+      }
+
+      // Notify registered consumers
+      consumers foreach { consumer ⇒
+        consumer.callback.invoke(failMessage)
+      }
+      failStage(ex)
+    }
+
+    override def postStop(): Unit = {
+      // Notify pending consumers and set tombstone
+
+      @tailrec def tryClose(): Unit = state.get() match {
+        case Closed(_) ⇒ // Already closed, ignore
+        case open: Open ⇒
+          if (state.compareAndSet(open, Closed(None))) {
+            val completedMessage = HubCompleted(None)
+            open.registrations foreach { consumer ⇒
+              consumer.callback.invoke(completedMessage)
+            }
+          } else tryClose()
+      }
+
+      tryClose()
+    }
+
+    // Consumer API
+    def poll(consumer: Consumer, hubCallback: AsyncCallback[HubEvent]): AnyRef = {
+      val elem = consumer.queue.poll()
+      if ((elem ne null) && (elem ne Completed)) {
+        consumer.queueSize.decrementAndGet()
+        // exactly one consumer will see the size pass the threshold, and ask the hub to pull
+        if (totalSize.decrementAndGet() == DemandThreshold - 1)
+          hubCallback.invoke(TryPull)
+      }
+      elem
+    }
+
+    setHandler(in, this)
+
+  }
+
+  private sealed trait ConsumerEvent
+  private object Wakeup extends ConsumerEvent
+  private final case class HubCompleted(failure: Option[Throwable]) extends ConsumerEvent
+  private object Initialize extends ConsumerEvent
+
+  override def createLogicAndMaterializedValue(inheritedAttributes: Attributes): (GraphStageLogic, Source[T, NotUsed]) = {
+    val idCounter = new AtomicLong()
+
+    val logic = new PartitionSinkLogic(shape)
+
+    val source = new GraphStage[SourceShape[T]] {
+      val out: Outlet[T] = Outlet("PartitionHub.out")
+      override val shape: SourceShape[T] = SourceShape(out)
+
+      override def createLogic(inheritedAttributes: Attributes): GraphStageLogic = new GraphStageLogic(shape) with OutHandler {
+        private[this] val id = idCounter.getAndIncrement()
+        private[this] val queue = new ConcurrentLinkedQueue[AnyRef]
+        private[this] var initialized = false
+        private[this] var hubCallback: AsyncCallback[HubEvent] = _
+        private[this] var consumer: Consumer = _
+
+        override def preStart(): Unit = {
+          consumer = Consumer(id, getAsyncCallback(onCommand), queue)
+
+          val onHubReady: Try[AsyncCallback[HubEvent]] ⇒ Unit = {
+            case Success(callback) ⇒
+              hubCallback = callback
+              if (isAvailable(out) && initialized) onPull()
+              callback.invoke(RegistrationPending)
+            case Failure(ex) ⇒
+              failStage(ex)
+          }
+
+          @tailrec def register(): Unit = {
+            logic.state.get() match {
+              case Closed(Some(ex)) ⇒ failStage(ex)
+              case Closed(None)     ⇒ completeStage()
+              case previousState @ Open(callbackFuture, registrations) ⇒
+                val newRegistrations = consumer :: registrations
+                if (logic.state.compareAndSet(previousState, Open(callbackFuture, newRegistrations))) {
+                  callbackFuture.onComplete(getAsyncCallback(onHubReady).invoke)(materializer.executionContext)
+                } else register()
+            }
+          }
+
+          /*
+           * As for the BroadcastHub another consumer might have triggered our registration by its own
+           * RegistrationPending message, so Initialize may arrive before onHubReady. Elements are only
+           * polled when both have been received.
+           */
+          register()
+        }
+
+        override def onPull(): Unit = {
+          if (initialized && (hubCallback ne null)) {
+            logic.poll(consumer, hubCallback) match {
+              case null ⇒
+                hubCallback.invoke(NeedWakeup(consumer))
+              case Completed ⇒
+                completeStage()
+              case elem ⇒
+                push(out, elem.asInstanceOf[T])
+                if (queue.peek() eq Completed) completeStage()
+            }
+          }
+        }
+
+        override def postStop(): Unit = {
+          if (hubCallback ne null)
+            hubCallback.invoke(UnRegister(id))
+        }
+
+        private def onCommand(cmd: ConsumerEvent): Unit = cmd match {
+          case HubCompleted(Some(ex)) ⇒ failStage(ex)
+          case HubCompleted(None)     ⇒ completeStage()
+          case Wakeup ⇒
+            if (isAvailable(out)) onPull()
+            else if (queue.peek() eq Completed) completeStage()
+          case Initialize ⇒
+            initialized = true
+            if (isAvailable(out) && (hubCallback ne null)) onPull()
+        }
+
+        setHandler(out, this)
+      }
+    }
+
+    (logic, Source.fromGraph(source))
+  }
+}
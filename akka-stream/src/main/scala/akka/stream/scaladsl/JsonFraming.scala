@@ -32,6 +32,9 @@ object JsonFraming {
    *   {"id": 1}, {"id": 2}, [...], {"id": 999}
    * }}}
    *
+   * The elements of a top-level array do not need to be objects: nested arrays, strings, numbers and literals
+   * are emitted as well.
+   *
    * The framing works independently of formatting, i.e. it will still emit valid JSON elements even if two
    * elements are separated by multiple newlines or other whitespace characters. And of course is insensitive
    * (and does not impact the emitting frame) to the JSON object's internal formatting.
@@ -40,12 +43,26 @@ object JsonFraming {
    *                            this Flow will fail the stream.
    */
   def objectScanner(maximumObjectLength: Int): Flow[ByteString, ByteString, NotUsed] =
+    objectScanner(maximumObjectLength, Int.MaxValue)
+
+  /**
+   * Same as `objectScanner(maximumObjectLength)`, additionally failing the stream if objects and arrays are
+   * nested deeper than `maximumDepth` within an emitted element. This protects downstream parsers that recurse
+   * into nested elements.
+   *
+   * @param maximumObjectLength The maximum length of allowed frames while decoding. If the maximum length is exceeded
+   *                            this Flow will fail the stream.
+   * @param maximumDepth The maximum nesting depth of objects and arrays within a frame, an element that is a
+   *                     flat object has depth 1. If the maximum depth is exceeded this Flow will fail the stream.
+   */
+  def objectScanner(maximumObjectLength: Int, maximumDepth: Int): Flow[ByteString, ByteString, NotUsed] = {
+    require(maximumDepth >= 1, s"maximumDepth must be at least 1, was $maximumDepth")
     Flow[ByteString].via(new SimpleLinearGraphStage[ByteString] {
 
       override protected def initialAttributes: Attributes = Attributes.name("JsonFraming.objectScanner")
 
       override def createLogic(inheritedAttributes: Attributes) = new GraphStageLogic(shape) with InHandler with OutHandler {
-        private val buffer = new JsonObjectParser(maximumObjectLength)
+        private val buffer = new JsonObjectParser(maximumObjectLength, maximumDepth)
 
         setHandlers(in, out, this)
 
@@ -74,5 +91,6 @@ object JsonFraming {
         }
       }
     })
+  }
 
 }
@@ -3,7 +3,7 @@ package akka.stream.scaladsl
 import java.util.Collections
 import javax.net.ssl.{ SNIHostName, SSLContext, SSLEngine, SSLSession }
 
-import akka.stream.impl.io.{ TlsModule, TlsUtils }
+import akka.stream.impl.io.{ TlsGraphStage, TlsUtils }
 import akka.NotUsed
 import akka.actor.ActorSystem
 import akka.stream._
@@ -111,7 +111,7 @@ object TLS {
         case None ⇒ (_, _) ⇒ Success(())
       }
 
-    new scaladsl.BidiFlow(TlsModule(Attributes.none, createSSLEngine, verifySession, closing))
+    scaladsl.BidiFlow.fromGraph(new TlsGraphStage(createSSLEngine, verifySession, closing))
   }
 
   /**
@@ -166,7 +166,7 @@ object TLS {
     verifySession:   SSLSession ⇒ Try[Unit], // we don't offer the internal API that provides `ActorSystem` here, see #21753
     closing:         TLSClosing
   ): scaladsl.BidiFlow[SslTlsOutbound, ByteString, ByteString, SslTlsInbound, NotUsed] =
-    new scaladsl.BidiFlow(TlsModule(Attributes.none, _ ⇒ createSSLEngine(), (_, session) ⇒ verifySession(session), closing))
+    scaladsl.BidiFlow.fromGraph(new TlsGraphStage(_ ⇒ createSSLEngine(), (_, session) ⇒ verifySession(session), closing))
 }
 
 /**
@@ -156,7 +156,35 @@ object MiMa extends AutoPlugin {
       FilterAnyProblemStartingWith("akka.cluster.ddata.ORMap"),
       FilterAnyProblemStartingWith("akka.cluster.ddata.LWWMap"),
       FilterAnyProblemStartingWith("akka.cluster.ddata.PNCounterMap"),
-      FilterAnyProblemStartingWith("akka.cluster.ddata.ORMultiMap")
+      FilterAnyProblemStartingWith("akka.cluster.ddata.ORMultiMap"),
+
+      // delta-CRDT
+      FilterAnyProblemStartingWith("akka.cluster.ddata.protobuf.msg.ReplicatorMessages"),
+      FilterAnyProblemStartingWith("akka.cluster.ddata.protobuf.ReplicatedDataSerializer"),
+      FilterAnyProblemStartingWith("akka.cluster.ddata.Replicator$Internal"),
+      ProblemFilters.exclude[DirectMissingMethodProblem]("akka.cluster.ddata.Replicator.setData"),
+      ProblemFilters.exclude[DirectMissingMethodProblem]("akka.cluster.ddata.ReplicatorSettings.copy"),
+      ProblemFilters.exclude[DirectMissingMethodProblem]("akka.cluster.ddata.GCounter.this"),
+      ProblemFilters.exclude[DirectMissingMethodProblem]("akka.cluster.ddata.ORSet.this"),
+
+      // new FlowOps.mapAsyncPartitioned
+      ProblemFilters.exclude[ReversedMissingMethodProblem]("akka.stream.scaladsl.FlowOps.mapAsyncPartitioned"),
+
+      // new FlowOps.groupedWeightedWithin
+      ProblemFilters.exclude[ReversedMissingMethodProblem]("akka.stream.scaladsl.FlowOps.groupedWeightedWithin"),
+
+      // mutable heartbeat history of the phi accrual failure detector
+      FilterAnyProblemStartingWith("akka.remote.HeartbeatHistory"),
+      ProblemFilters.exclude[MissingClassProblem]("akka.remote.PhiAccrualFailureDetector$State"),
+      ProblemFilters.exclude[MissingClassProblem]("akka.remote.PhiAccrualFailureDetector$State$"),
+      ProblemFilters.exclude[DirectMissingMethodProblem]("akka.remote.PhiAccrualFailureDetector.akka$remote$PhiAccrualFailureDetector$$State"),
+
+      // coalesced interest op changes of the selectors
+      FilterAnyProblemStartingWith("akka.io.SelectionHandler$ChannelRegistryImpl"),
+
+      // gathering writes and pooled reads of TCP connections
+      FilterAnyProblemStartingWith("akka.io.TcpConnection"),
+      FilterAnyProblemStartingWith("akka.io.Tcp$Register")
     )
 
     Map(